@@ -117,6 +117,52 @@ public final class C2SProtos {
      */
     com.google.protobuf.ByteString
         getYBytes();
+
+    /**
+     * <code>optional bytes raw_p = 5;</code>
+     *
+     * <pre>
+     * the bigintegers as unsigned big-endian bytes, sent alongside the
+     * strings, which older clients require
+     * </pre>
+     */
+    boolean hasRawP();
+    /**
+     * <code>optional bytes raw_p = 5;</code>
+     *
+     * <pre>
+     * the bigintegers as unsigned big-endian bytes, sent alongside the
+     * strings, which older clients require
+     * </pre>
+     */
+    com.google.protobuf.ByteString getRawP();
+
+    /**
+     * <code>optional bytes raw_q = 6;</code>
+     */
+    boolean hasRawQ();
+    /**
+     * <code>optional bytes raw_q = 6;</code>
+     */
+    com.google.protobuf.ByteString getRawQ();
+
+    /**
+     * <code>optional bytes raw_g = 7;</code>
+     */
+    boolean hasRawG();
+    /**
+     * <code>optional bytes raw_g = 7;</code>
+     */
+    com.google.protobuf.ByteString getRawG();
+
+    /**
+     * <code>optional bytes raw_y = 8;</code>
+     */
+    boolean hasRawY();
+    /**
+     * <code>optional bytes raw_y = 8;</code>
+     */
+    com.google.protobuf.ByteString getRawY();
   }
   /**
    * Protobuf type {@code org.coniks.coniks_common.DSAPublicKeyProto}
@@ -194,6 +240,26 @@ public final class C2SProtos {
               y_ = bs;
               break;
             }
+            case 42: {
+              bitField0_ |= 0x00000010;
+              rawP_ = input.readBytes();
+              break;
+            }
+            case 50: {
+              bitField0_ |= 0x00000020;
+              rawQ_ = input.readBytes();
+              break;
+            }
+            case 58: {
+              bitField0_ |= 0x00000040;
+              rawG_ = input.readBytes();
+              break;
+            }
+            case 66: {
+              bitField0_ |= 0x00000080;
+              rawY_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -414,11 +480,85 @@ public final class C2SProtos {
       }
     }
 
+    public static final int RAW_P_FIELD_NUMBER = 5;
+    private com.google.protobuf.ByteString rawP_;
+    /**
+     * <code>optional bytes raw_p = 5;</code>
+     *
+     * <pre>
+     * the bigintegers as unsigned big-endian bytes, sent alongside the
+     * strings, which older clients require
+     * </pre>
+     */
+    public boolean hasRawP() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional bytes raw_p = 5;</code>
+     *
+     * <pre>
+     * the bigintegers as unsigned big-endian bytes, sent alongside the
+     * strings, which older clients require
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getRawP() {
+      return rawP_;
+    }
+
+    public static final int RAW_Q_FIELD_NUMBER = 6;
+    private com.google.protobuf.ByteString rawQ_;
+    /**
+     * <code>optional bytes raw_q = 6;</code>
+     */
+    public boolean hasRawQ() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional bytes raw_q = 6;</code>
+     */
+    public com.google.protobuf.ByteString getRawQ() {
+      return rawQ_;
+    }
+
+    public static final int RAW_G_FIELD_NUMBER = 7;
+    private com.google.protobuf.ByteString rawG_;
+    /**
+     * <code>optional bytes raw_g = 7;</code>
+     */
+    public boolean hasRawG() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional bytes raw_g = 7;</code>
+     */
+    public com.google.protobuf.ByteString getRawG() {
+      return rawG_;
+    }
+
+    public static final int RAW_Y_FIELD_NUMBER = 8;
+    private com.google.protobuf.ByteString rawY_;
+    /**
+     * <code>optional bytes raw_y = 8;</code>
+     */
+    public boolean hasRawY() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional bytes raw_y = 8;</code>
+     */
+    public com.google.protobuf.ByteString getRawY() {
+      return rawY_;
+    }
+
     private void initFields() {
       p_ = "";
       q_ = "";
       g_ = "";
       y_ = "";
+      rawP_ = com.google.protobuf.ByteString.EMPTY;
+      rawQ_ = com.google.protobuf.ByteString.EMPTY;
+      rawG_ = com.google.protobuf.ByteString.EMPTY;
+      rawY_ = com.google.protobuf.ByteString.EMPTY;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -461,6 +601,18 @@ public final class C2SProtos {
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
         output.writeBytes(4, getYBytes());
       }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(5, rawP_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(6, rawQ_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBytes(7, rawG_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeBytes(8, rawY_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -486,6 +638,22 @@ public final class C2SProtos {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(4, getYBytes());
       }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, rawP_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, rawQ_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, rawG_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(8, rawY_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -611,6 +779,14 @@ public final class C2SProtos {
         bitField0_ = (bitField0_ & ~0x00000004);
         y_ = "";
         bitField0_ = (bitField0_ & ~0x00000008);
+        rawP_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        rawQ_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        rawG_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        rawY_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000080);
         return this;
       }
 
@@ -655,6 +831,22 @@ public final class C2SProtos {
           to_bitField0_ |= 0x00000008;
         }
         result.y_ = y_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.rawP_ = rawP_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.rawQ_ = rawQ_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.rawG_ = rawG_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.rawY_ = rawY_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -691,6 +883,18 @@ public final class C2SProtos {
           y_ = other.y_;
           onChanged();
         }
+        if (other.hasRawP()) {
+          setRawP(other.getRawP());
+        }
+        if (other.hasRawQ()) {
+          setRawQ(other.getRawQ());
+        }
+        if (other.hasRawG()) {
+          setRawG(other.getRawG());
+        }
+        if (other.hasRawY()) {
+          setRawY(other.getRawY());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -1062,6 +1266,166 @@ public final class C2SProtos {
         return this;
       }
 
+      private com.google.protobuf.ByteString rawP_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes raw_p = 5;</code>
+       *
+       * <pre>
+       * the bigintegers as unsigned big-endian bytes, sent alongside the
+       * strings, which older clients require
+       * </pre>
+       */
+      public boolean hasRawP() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional bytes raw_p = 5;</code>
+       *
+       * <pre>
+       * the bigintegers as unsigned big-endian bytes, sent alongside the
+       * strings, which older clients require
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getRawP() {
+        return rawP_;
+      }
+      /**
+       * <code>optional bytes raw_p = 5;</code>
+       *
+       * <pre>
+       * the bigintegers as unsigned big-endian bytes, sent alongside the
+       * strings, which older clients require
+       * </pre>
+       */
+      public Builder setRawP(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        rawP_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes raw_p = 5;</code>
+       *
+       * <pre>
+       * the bigintegers as unsigned big-endian bytes, sent alongside the
+       * strings, which older clients require
+       * </pre>
+       */
+      public Builder clearRawP() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        rawP_ = getDefaultInstance().getRawP();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString rawQ_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes raw_q = 6;</code>
+       */
+      public boolean hasRawQ() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional bytes raw_q = 6;</code>
+       */
+      public com.google.protobuf.ByteString getRawQ() {
+        return rawQ_;
+      }
+      /**
+       * <code>optional bytes raw_q = 6;</code>
+       */
+      public Builder setRawQ(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        rawQ_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes raw_q = 6;</code>
+       */
+      public Builder clearRawQ() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        rawQ_ = getDefaultInstance().getRawQ();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString rawG_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes raw_g = 7;</code>
+       */
+      public boolean hasRawG() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional bytes raw_g = 7;</code>
+       */
+      public com.google.protobuf.ByteString getRawG() {
+        return rawG_;
+      }
+      /**
+       * <code>optional bytes raw_g = 7;</code>
+       */
+      public Builder setRawG(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        rawG_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes raw_g = 7;</code>
+       */
+      public Builder clearRawG() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        rawG_ = getDefaultInstance().getRawG();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString rawY_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes raw_y = 8;</code>
+       */
+      public boolean hasRawY() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional bytes raw_y = 8;</code>
+       */
+      public com.google.protobuf.ByteString getRawY() {
+        return rawY_;
+      }
+      /**
+       * <code>optional bytes raw_y = 8;</code>
+       */
+      public Builder setRawY(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        rawY_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes raw_y = 8;</code>
+       */
+      public Builder clearRawY() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        rawY_ = getDefaultInstance().getRawY();
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.DSAPublicKeyProto)
     }
 
@@ -1159,6 +1523,23 @@ public final class C2SProtos {
      * <code>optional bool allows_public_lookup = 5;</code>
      */
     boolean getAllowsPublicLookup();
+
+    /**
+     * <code>optional bytes ed25519ChangeKey = 6;</code>
+     *
+     * <pre>
+     * raw 32-byte Ed25519 change key, sent instead of changeKey
+     * </pre>
+     */
+    boolean hasEd25519ChangeKey();
+    /**
+     * <code>optional bytes ed25519ChangeKey = 6;</code>
+     *
+     * <pre>
+     * raw 32-byte Ed25519 change key, sent instead of changeKey
+     * </pre>
+     */
+    com.google.protobuf.ByteString getEd25519ChangeKey();
   }
   /**
    * Protobuf type {@code org.coniks.coniks_common.Registration}
@@ -1247,6 +1628,11 @@ public final class C2SProtos {
               allowsPublicLookup_ = input.readBool();
               break;
             }
+            case 50: {
+              bitField0_ |= 0x00000020;
+              ed25519ChangeKey_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -1446,12 +1832,36 @@ public final class C2SProtos {
       return allowsPublicLookup_;
     }
 
+    public static final int ED25519CHANGEKEY_FIELD_NUMBER = 6;
+    private com.google.protobuf.ByteString ed25519ChangeKey_;
+    /**
+     * <code>optional bytes ed25519ChangeKey = 6;</code>
+     *
+     * <pre>
+     * raw 32-byte Ed25519 change key, sent instead of changeKey
+     * </pre>
+     */
+    public boolean hasEd25519ChangeKey() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional bytes ed25519ChangeKey = 6;</code>
+     *
+     * <pre>
+     * raw 32-byte Ed25519 change key, sent instead of changeKey
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getEd25519ChangeKey() {
+      return ed25519ChangeKey_;
+    }
+
     private void initFields() {
       name_ = "";
       blob_ = "";
       changeKey_ = org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.getDefaultInstance();
       allowsUnsignedKeychange_ = false;
       allowsPublicLookup_ = false;
+      ed25519ChangeKey_ = com.google.protobuf.ByteString.EMPTY;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -1487,6 +1897,9 @@ public final class C2SProtos {
       if (((bitField0_ & 0x00000010) == 0x00000010)) {
         output.writeBool(5, allowsPublicLookup_);
       }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(6, ed25519ChangeKey_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -1516,6 +1929,10 @@ public final class C2SProtos {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(5, allowsPublicLookup_);
       }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, ed25519ChangeKey_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -1648,6 +2065,8 @@ public final class C2SProtos {
         bitField0_ = (bitField0_ & ~0x00000008);
         allowsPublicLookup_ = false;
         bitField0_ = (bitField0_ & ~0x00000010);
+        ed25519ChangeKey_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000020);
         return this;
       }
 
@@ -1700,6 +2119,10 @@ public final class C2SProtos {
           to_bitField0_ |= 0x00000010;
         }
         result.allowsPublicLookup_ = allowsPublicLookup_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.ed25519ChangeKey_ = ed25519ChangeKey_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -1735,6 +2158,9 @@ public final class C2SProtos {
         if (other.hasAllowsPublicLookup()) {
           setAllowsPublicLookup(other.getAllowsPublicLookup());
         }
+        if (other.hasEd25519ChangeKey()) {
+          setEd25519ChangeKey(other.getEd25519ChangeKey());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -2148,19 +2574,70 @@ public final class C2SProtos {
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.Registration)
-    }
-
-    static {
-      defaultInstance = new Registration(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.Registration)
+      private com.google.protobuf.ByteString ed25519ChangeKey_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes ed25519ChangeKey = 6;</code>
+       *
+       * <pre>
+       * raw 32-byte Ed25519 change key, sent instead of changeKey
+       * </pre>
+       */
+      public boolean hasEd25519ChangeKey() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional bytes ed25519ChangeKey = 6;</code>
+       *
+       * <pre>
+       * raw 32-byte Ed25519 change key, sent instead of changeKey
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getEd25519ChangeKey() {
+        return ed25519ChangeKey_;
+      }
+      /**
+       * <code>optional bytes ed25519ChangeKey = 6;</code>
+       *
+       * <pre>
+       * raw 32-byte Ed25519 change key, sent instead of changeKey
+       * </pre>
+       */
+      public Builder setEd25519ChangeKey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
   }
-
-  public interface ULNChangeReqOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.ULNChangeReq)
+  bitField0_ |= 0x00000020;
+        ed25519ChangeKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes ed25519ChangeKey = 6;</code>
+       *
+       * <pre>
+       * raw 32-byte Ed25519 change key, sent instead of changeKey
+       * </pre>
+       */
+      public Builder clearEd25519ChangeKey() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        ed25519ChangeKey_ = getDefaultInstance().getEd25519ChangeKey();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.Registration)
+    }
+
+    static {
+      defaultInstance = new Registration(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.Registration)
+  }
+
+  public interface ULNChangeReqOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.ULNChangeReq)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -2221,6 +2698,23 @@ public final class C2SProtos {
      * <code>optional bool allowsPublicLookup = 5;</code>
      */
     boolean getAllowsPublicLookup();
+
+    /**
+     * <code>optional bytes newEd25519ChangeKey = 6;</code>
+     *
+     * <pre>
+     * raw 32-byte Ed25519 change key, sent instead of newChangeKey
+     * </pre>
+     */
+    boolean hasNewEd25519ChangeKey();
+    /**
+     * <code>optional bytes newEd25519ChangeKey = 6;</code>
+     *
+     * <pre>
+     * raw 32-byte Ed25519 change key, sent instead of newChangeKey
+     * </pre>
+     */
+    com.google.protobuf.ByteString getNewEd25519ChangeKey();
   }
   /**
    * Protobuf type {@code org.coniks.coniks_common.ULNChangeReq}
@@ -2309,6 +2803,11 @@ public final class C2SProtos {
               allowsPublicLookup_ = input.readBool();
               break;
             }
+            case 50: {
+              bitField0_ |= 0x00000020;
+              newEd25519ChangeKey_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2484,12 +2983,36 @@ public final class C2SProtos {
       return allowsPublicLookup_;
     }
 
+    public static final int NEWED25519CHANGEKEY_FIELD_NUMBER = 6;
+    private com.google.protobuf.ByteString newEd25519ChangeKey_;
+    /**
+     * <code>optional bytes newEd25519ChangeKey = 6;</code>
+     *
+     * <pre>
+     * raw 32-byte Ed25519 change key, sent instead of newChangeKey
+     * </pre>
+     */
+    public boolean hasNewEd25519ChangeKey() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional bytes newEd25519ChangeKey = 6;</code>
+     *
+     * <pre>
+     * raw 32-byte Ed25519 change key, sent instead of newChangeKey
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getNewEd25519ChangeKey() {
+      return newEd25519ChangeKey_;
+    }
+
     private void initFields() {
       name_ = "";
       newBlob_ = "";
       newChangeKey_ = org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.getDefaultInstance();
       allowsUnsignedKeychange_ = false;
       allowsPublicLookup_ = false;
+      newEd25519ChangeKey_ = com.google.protobuf.ByteString.EMPTY;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -2525,6 +3048,9 @@ public final class C2SProtos {
       if (((bitField0_ & 0x00000010) == 0x00000010)) {
         output.writeBool(5, allowsPublicLookup_);
       }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(6, newEd25519ChangeKey_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2554,6 +3080,10 @@ public final class C2SProtos {
         size += com.google.protobuf.CodedOutputStream
           .computeBoolSize(5, allowsPublicLookup_);
       }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, newEd25519ChangeKey_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -2686,6 +3216,8 @@ public final class C2SProtos {
         bitField0_ = (bitField0_ & ~0x00000008);
         allowsPublicLookup_ = false;
         bitField0_ = (bitField0_ & ~0x00000010);
+        newEd25519ChangeKey_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000020);
         return this;
       }
 
@@ -2738,6 +3270,10 @@ public final class C2SProtos {
           to_bitField0_ |= 0x00000010;
         }
         result.allowsPublicLookup_ = allowsPublicLookup_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.newEd25519ChangeKey_ = newEd25519ChangeKey_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -2773,6 +3309,9 @@ public final class C2SProtos {
         if (other.hasAllowsPublicLookup()) {
           setAllowsPublicLookup(other.getAllowsPublicLookup());
         }
+        if (other.hasNewEd25519ChangeKey()) {
+          setNewEd25519ChangeKey(other.getNewEd25519ChangeKey());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -3138,6 +3677,57 @@ public final class C2SProtos {
         return this;
       }
 
+      private com.google.protobuf.ByteString newEd25519ChangeKey_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes newEd25519ChangeKey = 6;</code>
+       *
+       * <pre>
+       * raw 32-byte Ed25519 change key, sent instead of newChangeKey
+       * </pre>
+       */
+      public boolean hasNewEd25519ChangeKey() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional bytes newEd25519ChangeKey = 6;</code>
+       *
+       * <pre>
+       * raw 32-byte Ed25519 change key, sent instead of newChangeKey
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getNewEd25519ChangeKey() {
+        return newEd25519ChangeKey_;
+      }
+      /**
+       * <code>optional bytes newEd25519ChangeKey = 6;</code>
+       *
+       * <pre>
+       * raw 32-byte Ed25519 change key, sent instead of newChangeKey
+       * </pre>
+       */
+      public Builder setNewEd25519ChangeKey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        newEd25519ChangeKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes newEd25519ChangeKey = 6;</code>
+       *
+       * <pre>
+       * raw 32-byte Ed25519 change key, sent instead of newChangeKey
+       * </pre>
+       */
+      public Builder clearNewEd25519ChangeKey() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        newEd25519ChangeKey_ = getDefaultInstance().getNewEd25519ChangeKey();
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.ULNChangeReq)
     }
 
@@ -4694,65 +5284,64 @@ public final class C2SProtos {
     // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.CommitmentReq)
   }
 
-  public interface KeyLookupOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.KeyLookup)
+  public interface CommitmentRangeReqOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.CommitmentRangeReq)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional string name = 1;</code>
+     * <code>optional uint64 start_epoch = 1;</code>
      *
      * <pre>
-     * server checks that name and epoch are specified
+     * server checks that the start epoch is specified
      * </pre>
      */
-    boolean hasName();
+    boolean hasStartEpoch();
     /**
-     * <code>optional string name = 1;</code>
+     * <code>optional uint64 start_epoch = 1;</code>
      *
      * <pre>
-     * server checks that name and epoch are specified
+     * server checks that the start epoch is specified
      * </pre>
      */
-    java.lang.String getName();
+    long getStartEpoch();
+
     /**
-     * <code>optional string name = 1;</code>
+     * <code>optional uint64 end_epoch = 2;</code>
      *
      * <pre>
-     * server checks that name and epoch are specified
+     * unset means the current epoch
      * </pre>
      */
-    com.google.protobuf.ByteString
-        getNameBytes();
-
-    /**
-     * <code>optional uint64 epoch = 2;</code>
-     */
-    boolean hasEpoch();
+    boolean hasEndEpoch();
     /**
-     * <code>optional uint64 epoch = 2;</code>
+     * <code>optional uint64 end_epoch = 2;</code>
+     *
+     * <pre>
+     * unset means the current epoch
+     * </pre>
      */
-    long getEpoch();
+    long getEndEpoch();
   }
   /**
-   * Protobuf type {@code org.coniks.coniks_common.KeyLookup}
+   * Protobuf type {@code org.coniks.coniks_common.CommitmentRangeReq}
    */
-  public static final class KeyLookup extends
+  public static final class CommitmentRangeReq extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.KeyLookup)
-      KeyLookupOrBuilder {
-    // Use KeyLookup.newBuilder() to construct.
-    private KeyLookup(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.CommitmentRangeReq)
+      CommitmentRangeReqOrBuilder {
+    // Use CommitmentRangeReq.newBuilder() to construct.
+    private CommitmentRangeReq(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private KeyLookup(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private CommitmentRangeReq(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final KeyLookup defaultInstance;
-    public static KeyLookup getDefaultInstance() {
+    private static final CommitmentRangeReq defaultInstance;
+    public static CommitmentRangeReq getDefaultInstance() {
       return defaultInstance;
     }
 
-    public KeyLookup getDefaultInstanceForType() {
+    public CommitmentRangeReq getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -4762,7 +5351,7 @@ public final class C2SProtos {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private KeyLookup(
+    private CommitmentRangeReq(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4785,15 +5374,14 @@ public final class C2SProtos {
               }
               break;
             }
-            case 10: {
-              com.google.protobuf.ByteString bs = input.readBytes();
+            case 8: {
               bitField0_ |= 0x00000001;
-              name_ = bs;
+              startEpoch_ = input.readUInt64();
               break;
             }
             case 16: {
               bitField0_ |= 0x00000002;
-              epoch_ = input.readUInt64();
+              endEpoch_ = input.readUInt64();
               break;
             }
           }
@@ -4810,104 +5398,81 @@ public final class C2SProtos {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyLookup_descriptor;
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_CommitmentRangeReq_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyLookup_fieldAccessorTable
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_CommitmentRangeReq_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.coniks.coniks_common.C2SProtos.KeyLookup.class, org.coniks.coniks_common.C2SProtos.KeyLookup.Builder.class);
+              org.coniks.coniks_common.C2SProtos.CommitmentRangeReq.class, org.coniks.coniks_common.C2SProtos.CommitmentRangeReq.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<KeyLookup> PARSER =
-        new com.google.protobuf.AbstractParser<KeyLookup>() {
-      public KeyLookup parsePartialFrom(
+    public static com.google.protobuf.Parser<CommitmentRangeReq> PARSER =
+        new com.google.protobuf.AbstractParser<CommitmentRangeReq>() {
+      public CommitmentRangeReq parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new KeyLookup(input, extensionRegistry);
+        return new CommitmentRangeReq(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<KeyLookup> getParserForType() {
+    public com.google.protobuf.Parser<CommitmentRangeReq> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int NAME_FIELD_NUMBER = 1;
-    private java.lang.Object name_;
+    public static final int START_EPOCH_FIELD_NUMBER = 1;
+    private long startEpoch_;
     /**
-     * <code>optional string name = 1;</code>
+     * <code>optional uint64 start_epoch = 1;</code>
      *
      * <pre>
-     * server checks that name and epoch are specified
+     * server checks that the start epoch is specified
      * </pre>
      */
-    public boolean hasName() {
+    public boolean hasStartEpoch() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional string name = 1;</code>
+     * <code>optional uint64 start_epoch = 1;</code>
      *
      * <pre>
-     * server checks that name and epoch are specified
+     * server checks that the start epoch is specified
      * </pre>
      */
-    public java.lang.String getName() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          name_ = s;
-        }
-        return s;
-      }
+    public long getStartEpoch() {
+      return startEpoch_;
     }
+
+    public static final int END_EPOCH_FIELD_NUMBER = 2;
+    private long endEpoch_;
     /**
-     * <code>optional string name = 1;</code>
+     * <code>optional uint64 end_epoch = 2;</code>
      *
      * <pre>
-     * server checks that name and epoch are specified
+     * unset means the current epoch
      * </pre>
      */
-    public com.google.protobuf.ByteString
-        getNameBytes() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        name_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int EPOCH_FIELD_NUMBER = 2;
-    private long epoch_;
-    /**
-     * <code>optional uint64 epoch = 2;</code>
-     */
-    public boolean hasEpoch() {
+    public boolean hasEndEpoch() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>optional uint64 epoch = 2;</code>
+     * <code>optional uint64 end_epoch = 2;</code>
+     *
+     * <pre>
+     * unset means the current epoch
+     * </pre>
      */
-    public long getEpoch() {
-      return epoch_;
+    public long getEndEpoch() {
+      return endEpoch_;
     }
 
     private void initFields() {
-      name_ = "";
-      epoch_ = 0L;
+      startEpoch_ = 0L;
+      endEpoch_ = 0L;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -4923,10 +5488,10 @@ public final class C2SProtos {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getNameBytes());
+        output.writeUInt64(1, startEpoch_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeUInt64(2, epoch_);
+        output.writeUInt64(2, endEpoch_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -4939,11 +5504,11 @@ public final class C2SProtos {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getNameBytes());
+          .computeUInt64Size(1, startEpoch_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt64Size(2, epoch_);
+          .computeUInt64Size(2, endEpoch_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -4957,53 +5522,53 @@ public final class C2SProtos {
       return super.writeReplace();
     }
 
-    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseFrom(
+    public static org.coniks.coniks_common.C2SProtos.CommitmentRangeReq parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseFrom(
+    public static org.coniks.coniks_common.C2SProtos.CommitmentRangeReq parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseFrom(byte[] data)
+    public static org.coniks.coniks_common.C2SProtos.CommitmentRangeReq parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseFrom(
+    public static org.coniks.coniks_common.C2SProtos.CommitmentRangeReq parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseFrom(java.io.InputStream input)
+    public static org.coniks.coniks_common.C2SProtos.CommitmentRangeReq parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseFrom(
+    public static org.coniks.coniks_common.C2SProtos.CommitmentRangeReq parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseDelimitedFrom(java.io.InputStream input)
+    public static org.coniks.coniks_common.C2SProtos.CommitmentRangeReq parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseDelimitedFrom(
+    public static org.coniks.coniks_common.C2SProtos.CommitmentRangeReq parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseFrom(
+    public static org.coniks.coniks_common.C2SProtos.CommitmentRangeReq parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseFrom(
+    public static org.coniks.coniks_common.C2SProtos.CommitmentRangeReq parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5012,7 +5577,7 @@ public final class C2SProtos {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.KeyLookup prototype) {
+    public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.CommitmentRangeReq prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -5024,25 +5589,25 @@ public final class C2SProtos {
       return builder;
     }
     /**
-     * Protobuf type {@code org.coniks.coniks_common.KeyLookup}
+     * Protobuf type {@code org.coniks.coniks_common.CommitmentRangeReq}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.KeyLookup)
-        org.coniks.coniks_common.C2SProtos.KeyLookupOrBuilder {
+        // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.CommitmentRangeReq)
+        org.coniks.coniks_common.C2SProtos.CommitmentRangeReqOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyLookup_descriptor;
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_CommitmentRangeReq_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyLookup_fieldAccessorTable
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_CommitmentRangeReq_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.coniks.coniks_common.C2SProtos.KeyLookup.class, org.coniks.coniks_common.C2SProtos.KeyLookup.Builder.class);
+                org.coniks.coniks_common.C2SProtos.CommitmentRangeReq.class, org.coniks.coniks_common.C2SProtos.CommitmentRangeReq.Builder.class);
       }
 
-      // Construct using org.coniks.coniks_common.C2SProtos.KeyLookup.newBuilder()
+      // Construct using org.coniks.coniks_common.C2SProtos.CommitmentRangeReq.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5062,9 +5627,9 @@ public final class C2SProtos {
 
       public Builder clear() {
         super.clear();
-        name_ = "";
+        startEpoch_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000001);
-        epoch_ = 0L;
+        endEpoch_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
@@ -5075,56 +5640,54 @@ public final class C2SProtos {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyLookup_descriptor;
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_CommitmentRangeReq_descriptor;
       }
 
-      public org.coniks.coniks_common.C2SProtos.KeyLookup getDefaultInstanceForType() {
-        return org.coniks.coniks_common.C2SProtos.KeyLookup.getDefaultInstance();
+      public org.coniks.coniks_common.C2SProtos.CommitmentRangeReq getDefaultInstanceForType() {
+        return org.coniks.coniks_common.C2SProtos.CommitmentRangeReq.getDefaultInstance();
       }
 
-      public org.coniks.coniks_common.C2SProtos.KeyLookup build() {
-        org.coniks.coniks_common.C2SProtos.KeyLookup result = buildPartial();
+      public org.coniks.coniks_common.C2SProtos.CommitmentRangeReq build() {
+        org.coniks.coniks_common.C2SProtos.CommitmentRangeReq result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.coniks.coniks_common.C2SProtos.KeyLookup buildPartial() {
-        org.coniks.coniks_common.C2SProtos.KeyLookup result = new org.coniks.coniks_common.C2SProtos.KeyLookup(this);
+      public org.coniks.coniks_common.C2SProtos.CommitmentRangeReq buildPartial() {
+        org.coniks.coniks_common.C2SProtos.CommitmentRangeReq result = new org.coniks.coniks_common.C2SProtos.CommitmentRangeReq(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.name_ = name_;
+        result.startEpoch_ = startEpoch_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.epoch_ = epoch_;
+        result.endEpoch_ = endEpoch_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.coniks.coniks_common.C2SProtos.KeyLookup) {
-          return mergeFrom((org.coniks.coniks_common.C2SProtos.KeyLookup)other);
+        if (other instanceof org.coniks.coniks_common.C2SProtos.CommitmentRangeReq) {
+          return mergeFrom((org.coniks.coniks_common.C2SProtos.CommitmentRangeReq)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.KeyLookup other) {
-        if (other == org.coniks.coniks_common.C2SProtos.KeyLookup.getDefaultInstance()) return this;
-        if (other.hasName()) {
-          bitField0_ |= 0x00000001;
-          name_ = other.name_;
-          onChanged();
+      public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.CommitmentRangeReq other) {
+        if (other == org.coniks.coniks_common.C2SProtos.CommitmentRangeReq.getDefaultInstance()) return this;
+        if (other.hasStartEpoch()) {
+          setStartEpoch(other.getStartEpoch());
         }
-        if (other.hasEpoch()) {
-          setEpoch(other.getEpoch());
+        if (other.hasEndEpoch()) {
+          setEndEpoch(other.getEndEpoch());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
@@ -5138,11 +5701,11 @@ public final class C2SProtos {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.coniks.coniks_common.C2SProtos.KeyLookup parsedMessage = null;
+        org.coniks.coniks_common.C2SProtos.CommitmentRangeReq parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.coniks.coniks_common.C2SProtos.KeyLookup) e.getUnfinishedMessage();
+          parsedMessage = (org.coniks.coniks_common.C2SProtos.CommitmentRangeReq) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -5153,199 +5716,191 @@ public final class C2SProtos {
       }
       private int bitField0_;
 
-      private java.lang.Object name_ = "";
+      private long startEpoch_ ;
       /**
-       * <code>optional string name = 1;</code>
+       * <code>optional uint64 start_epoch = 1;</code>
        *
        * <pre>
-       * server checks that name and epoch are specified
+       * server checks that the start epoch is specified
        * </pre>
        */
-      public boolean hasName() {
+      public boolean hasStartEpoch() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional string name = 1;</code>
+       * <code>optional uint64 start_epoch = 1;</code>
        *
        * <pre>
-       * server checks that name and epoch are specified
+       * server checks that the start epoch is specified
        * </pre>
        */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            name_ = s;
-          }
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public long getStartEpoch() {
+        return startEpoch_;
       }
       /**
-       * <code>optional string name = 1;</code>
+       * <code>optional uint64 start_epoch = 1;</code>
        *
        * <pre>
-       * server checks that name and epoch are specified
+       * server checks that the start epoch is specified
        * </pre>
        */
-      public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          name_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>optional string name = 1;</code>
-       *
-       * <pre>
-       * server checks that name and epoch are specified
-       * </pre>
-       */
-      public Builder setName(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        name_ = value;
+      public Builder setStartEpoch(long value) {
+        bitField0_ |= 0x00000001;
+        startEpoch_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string name = 1;</code>
+       * <code>optional uint64 start_epoch = 1;</code>
        *
        * <pre>
-       * server checks that name and epoch are specified
+       * server checks that the start epoch is specified
        * </pre>
        */
-      public Builder clearName() {
+      public Builder clearStartEpoch() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        name_ = getDefaultInstance().getName();
+        startEpoch_ = 0L;
         onChanged();
         return this;
       }
+
+      private long endEpoch_ ;
       /**
-       * <code>optional string name = 1;</code>
+       * <code>optional uint64 end_epoch = 2;</code>
        *
        * <pre>
-       * server checks that name and epoch are specified
+       * unset means the current epoch
        * </pre>
        */
-      public Builder setNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        name_ = value;
-        onChanged();
-        return this;
-      }
-
-      private long epoch_ ;
-      /**
-       * <code>optional uint64 epoch = 2;</code>
-       */
-      public boolean hasEpoch() {
+      public boolean hasEndEpoch() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional uint64 epoch = 2;</code>
+       * <code>optional uint64 end_epoch = 2;</code>
+       *
+       * <pre>
+       * unset means the current epoch
+       * </pre>
        */
-      public long getEpoch() {
-        return epoch_;
+      public long getEndEpoch() {
+        return endEpoch_;
       }
       /**
-       * <code>optional uint64 epoch = 2;</code>
+       * <code>optional uint64 end_epoch = 2;</code>
+       *
+       * <pre>
+       * unset means the current epoch
+       * </pre>
        */
-      public Builder setEpoch(long value) {
+      public Builder setEndEpoch(long value) {
         bitField0_ |= 0x00000002;
-        epoch_ = value;
+        endEpoch_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional uint64 epoch = 2;</code>
+       * <code>optional uint64 end_epoch = 2;</code>
+       *
+       * <pre>
+       * unset means the current epoch
+       * </pre>
        */
-      public Builder clearEpoch() {
+      public Builder clearEndEpoch() {
         bitField0_ = (bitField0_ & ~0x00000002);
-        epoch_ = 0L;
+        endEpoch_ = 0L;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.KeyLookup)
+      // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.CommitmentRangeReq)
     }
 
     static {
-      defaultInstance = new KeyLookup(true);
+      defaultInstance = new CommitmentRangeReq(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.KeyLookup)
+    // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.CommitmentRangeReq)
   }
 
-  public interface RegistrationRespOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.RegistrationResp)
+  public interface KeyLookupOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.KeyLookup)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional uint64 init_epoch = 1;</code>
+     * <code>optional string name = 1;</code>
      *
      * <pre>
-     * client checks that initial epoch and epoch interval are specified
+     * server checks that name and epoch are specified
      * </pre>
      */
-    boolean hasInitEpoch();
+    boolean hasName();
     /**
-     * <code>optional uint64 init_epoch = 1;</code>
+     * <code>optional string name = 1;</code>
      *
      * <pre>
-     * client checks that initial epoch and epoch interval are specified
+     * server checks that name and epoch are specified
      * </pre>
      */
-    long getInitEpoch();
+    java.lang.String getName();
+    /**
+     * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * server checks that name and epoch are specified
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
 
     /**
-     * <code>optional uint32 epoch_interval = 2;</code>
+     * <code>optional uint64 epoch = 2;</code>
      */
-    boolean hasEpochInterval();
+    boolean hasEpoch();
     /**
-     * <code>optional uint32 epoch_interval = 2;</code>
+     * <code>optional uint64 epoch = 2;</code>
      */
-    int getEpochInterval();
+    long getEpoch();
+
+    /**
+     * <code>optional uint64 since_epoch = 3;</code>
+     *
+     * <pre>
+     * if set, the server replies with KeyNotModified instead of an
+     * auth path if the mapping hasn't changed since this epoch
+     * </pre>
+     */
+    boolean hasSinceEpoch();
+    /**
+     * <code>optional uint64 since_epoch = 3;</code>
+     *
+     * <pre>
+     * if set, the server replies with KeyNotModified instead of an
+     * auth path if the mapping hasn't changed since this epoch
+     * </pre>
+     */
+    long getSinceEpoch();
   }
   /**
-   * Protobuf type {@code org.coniks.coniks_common.RegistrationResp}
+   * Protobuf type {@code org.coniks.coniks_common.KeyLookup}
    */
-  public static final class RegistrationResp extends
+  public static final class KeyLookup extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.RegistrationResp)
-      RegistrationRespOrBuilder {
-    // Use RegistrationResp.newBuilder() to construct.
-    private RegistrationResp(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.KeyLookup)
+      KeyLookupOrBuilder {
+    // Use KeyLookup.newBuilder() to construct.
+    private KeyLookup(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private RegistrationResp(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private KeyLookup(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final RegistrationResp defaultInstance;
-    public static RegistrationResp getDefaultInstance() {
+    private static final KeyLookup defaultInstance;
+    public static KeyLookup getDefaultInstance() {
       return defaultInstance;
     }
 
-    public RegistrationResp getDefaultInstanceForType() {
+    public KeyLookup getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -5355,7 +5910,7 @@ public final class C2SProtos {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private RegistrationResp(
+    private KeyLookup(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5378,14 +5933,20 @@ public final class C2SProtos {
               }
               break;
             }
-            case 8: {
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              initEpoch_ = input.readUInt64();
+              name_ = bs;
               break;
             }
             case 16: {
               bitField0_ |= 0x00000002;
-              epochInterval_ = input.readUInt32();
+              epoch_ = input.readUInt64();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              sinceEpoch_ = input.readUInt64();
               break;
             }
           }
@@ -5402,73 +5963,130 @@ public final class C2SProtos {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_RegistrationResp_descriptor;
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyLookup_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_RegistrationResp_fieldAccessorTable
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyLookup_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.coniks.coniks_common.C2SProtos.RegistrationResp.class, org.coniks.coniks_common.C2SProtos.RegistrationResp.Builder.class);
+              org.coniks.coniks_common.C2SProtos.KeyLookup.class, org.coniks.coniks_common.C2SProtos.KeyLookup.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<RegistrationResp> PARSER =
-        new com.google.protobuf.AbstractParser<RegistrationResp>() {
-      public RegistrationResp parsePartialFrom(
+    public static com.google.protobuf.Parser<KeyLookup> PARSER =
+        new com.google.protobuf.AbstractParser<KeyLookup>() {
+      public KeyLookup parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new RegistrationResp(input, extensionRegistry);
+        return new KeyLookup(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<RegistrationResp> getParserForType() {
+    public com.google.protobuf.Parser<KeyLookup> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    public static final int INIT_EPOCH_FIELD_NUMBER = 1;
-    private long initEpoch_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private java.lang.Object name_;
     /**
-     * <code>optional uint64 init_epoch = 1;</code>
+     * <code>optional string name = 1;</code>
      *
      * <pre>
-     * client checks that initial epoch and epoch interval are specified
+     * server checks that name and epoch are specified
      * </pre>
      */
-    public boolean hasInitEpoch() {
+    public boolean hasName() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional uint64 init_epoch = 1;</code>
+     * <code>optional string name = 1;</code>
      *
      * <pre>
-     * client checks that initial epoch and epoch interval are specified
+     * server checks that name and epoch are specified
      * </pre>
      */
-    public long getInitEpoch() {
-      return initEpoch_;
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * server checks that name and epoch are specified
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
-    public static final int EPOCH_INTERVAL_FIELD_NUMBER = 2;
-    private int epochInterval_;
+    public static final int EPOCH_FIELD_NUMBER = 2;
+    private long epoch_;
     /**
-     * <code>optional uint32 epoch_interval = 2;</code>
+     * <code>optional uint64 epoch = 2;</code>
      */
-    public boolean hasEpochInterval() {
+    public boolean hasEpoch() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>optional uint32 epoch_interval = 2;</code>
+     * <code>optional uint64 epoch = 2;</code>
      */
-    public int getEpochInterval() {
-      return epochInterval_;
+    public long getEpoch() {
+      return epoch_;
+    }
+
+    public static final int SINCE_EPOCH_FIELD_NUMBER = 3;
+    private long sinceEpoch_;
+    /**
+     * <code>optional uint64 since_epoch = 3;</code>
+     *
+     * <pre>
+     * if set, the server replies with KeyNotModified instead of an
+     * auth path if the mapping hasn't changed since this epoch
+     * </pre>
+     */
+    public boolean hasSinceEpoch() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional uint64 since_epoch = 3;</code>
+     *
+     * <pre>
+     * if set, the server replies with KeyNotModified instead of an
+     * auth path if the mapping hasn't changed since this epoch
+     * </pre>
+     */
+    public long getSinceEpoch() {
+      return sinceEpoch_;
     }
 
     private void initFields() {
-      initEpoch_ = 0L;
-      epochInterval_ = 0;
+      name_ = "";
+      epoch_ = 0L;
+      sinceEpoch_ = 0L;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -5484,10 +6102,13 @@ public final class C2SProtos {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeUInt64(1, initEpoch_);
+        output.writeBytes(1, getNameBytes());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeUInt32(2, epochInterval_);
+        output.writeUInt64(2, epoch_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeUInt64(3, sinceEpoch_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -5500,11 +6121,15 @@ public final class C2SProtos {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt64Size(1, initEpoch_);
+          .computeBytesSize(1, getNameBytes());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(2, epochInterval_);
+          .computeUInt64Size(2, epoch_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, sinceEpoch_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -5518,53 +6143,53 @@ public final class C2SProtos {
       return super.writeReplace();
     }
 
-    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseFrom(
+    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseFrom(
+    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseFrom(byte[] data)
+    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseFrom(
+    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseFrom(java.io.InputStream input)
+    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseFrom(
+    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseDelimitedFrom(java.io.InputStream input)
+    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseDelimitedFrom(
+    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseFrom(
+    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseFrom(
+    public static org.coniks.coniks_common.C2SProtos.KeyLookup parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5573,7 +6198,7 @@ public final class C2SProtos {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.RegistrationResp prototype) {
+    public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.KeyLookup prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -5585,25 +6210,25 @@ public final class C2SProtos {
       return builder;
     }
     /**
-     * Protobuf type {@code org.coniks.coniks_common.RegistrationResp}
+     * Protobuf type {@code org.coniks.coniks_common.KeyLookup}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.RegistrationResp)
-        org.coniks.coniks_common.C2SProtos.RegistrationRespOrBuilder {
+        // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.KeyLookup)
+        org.coniks.coniks_common.C2SProtos.KeyLookupOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_RegistrationResp_descriptor;
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyLookup_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_RegistrationResp_fieldAccessorTable
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyLookup_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.coniks.coniks_common.C2SProtos.RegistrationResp.class, org.coniks.coniks_common.C2SProtos.RegistrationResp.Builder.class);
+                org.coniks.coniks_common.C2SProtos.KeyLookup.class, org.coniks.coniks_common.C2SProtos.KeyLookup.Builder.class);
       }
 
-      // Construct using org.coniks.coniks_common.C2SProtos.RegistrationResp.newBuilder()
+      // Construct using org.coniks.coniks_common.C2SProtos.KeyLookup.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5623,10 +6248,12 @@ public final class C2SProtos {
 
       public Builder clear() {
         super.clear();
-        initEpoch_ = 0L;
+        name_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
-        epochInterval_ = 0;
+        epoch_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000002);
+        sinceEpoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -5636,54 +6263,63 @@ public final class C2SProtos {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_RegistrationResp_descriptor;
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyLookup_descriptor;
       }
 
-      public org.coniks.coniks_common.C2SProtos.RegistrationResp getDefaultInstanceForType() {
-        return org.coniks.coniks_common.C2SProtos.RegistrationResp.getDefaultInstance();
+      public org.coniks.coniks_common.C2SProtos.KeyLookup getDefaultInstanceForType() {
+        return org.coniks.coniks_common.C2SProtos.KeyLookup.getDefaultInstance();
       }
 
-      public org.coniks.coniks_common.C2SProtos.RegistrationResp build() {
-        org.coniks.coniks_common.C2SProtos.RegistrationResp result = buildPartial();
+      public org.coniks.coniks_common.C2SProtos.KeyLookup build() {
+        org.coniks.coniks_common.C2SProtos.KeyLookup result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.coniks.coniks_common.C2SProtos.RegistrationResp buildPartial() {
-        org.coniks.coniks_common.C2SProtos.RegistrationResp result = new org.coniks.coniks_common.C2SProtos.RegistrationResp(this);
+      public org.coniks.coniks_common.C2SProtos.KeyLookup buildPartial() {
+        org.coniks.coniks_common.C2SProtos.KeyLookup result = new org.coniks.coniks_common.C2SProtos.KeyLookup(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.initEpoch_ = initEpoch_;
+        result.name_ = name_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.epochInterval_ = epochInterval_;
+        result.epoch_ = epoch_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.sinceEpoch_ = sinceEpoch_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.coniks.coniks_common.C2SProtos.RegistrationResp) {
-          return mergeFrom((org.coniks.coniks_common.C2SProtos.RegistrationResp)other);
+        if (other instanceof org.coniks.coniks_common.C2SProtos.KeyLookup) {
+          return mergeFrom((org.coniks.coniks_common.C2SProtos.KeyLookup)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.RegistrationResp other) {
-        if (other == org.coniks.coniks_common.C2SProtos.RegistrationResp.getDefaultInstance()) return this;
-        if (other.hasInitEpoch()) {
-          setInitEpoch(other.getInitEpoch());
+      public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.KeyLookup other) {
+        if (other == org.coniks.coniks_common.C2SProtos.KeyLookup.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          onChanged();
         }
-        if (other.hasEpochInterval()) {
-          setEpochInterval(other.getEpochInterval());
+        if (other.hasEpoch()) {
+          setEpoch(other.getEpoch());
+        }
+        if (other.hasSinceEpoch()) {
+          setSinceEpoch(other.getSinceEpoch());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
@@ -5697,11 +6333,11 @@ public final class C2SProtos {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.coniks.coniks_common.C2SProtos.RegistrationResp parsedMessage = null;
+        org.coniks.coniks_common.C2SProtos.KeyLookup parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.coniks.coniks_common.C2SProtos.RegistrationResp) e.getUnfinishedMessage();
+          parsedMessage = (org.coniks.coniks_common.C2SProtos.KeyLookup) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -5712,183 +6348,269 @@ public final class C2SProtos {
       }
       private int bitField0_;
 
-      private long initEpoch_ ;
+      private java.lang.Object name_ = "";
       /**
-       * <code>optional uint64 init_epoch = 1;</code>
+       * <code>optional string name = 1;</code>
        *
        * <pre>
-       * client checks that initial epoch and epoch interval are specified
+       * server checks that name and epoch are specified
        * </pre>
        */
-      public boolean hasInitEpoch() {
+      public boolean hasName() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional uint64 init_epoch = 1;</code>
+       * <code>optional string name = 1;</code>
        *
        * <pre>
-       * client checks that initial epoch and epoch interval are specified
+       * server checks that name and epoch are specified
        * </pre>
        */
-      public long getInitEpoch() {
-        return initEpoch_;
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>optional uint64 init_epoch = 1;</code>
+       * <code>optional string name = 1;</code>
        *
        * <pre>
-       * client checks that initial epoch and epoch interval are specified
+       * server checks that name and epoch are specified
        * </pre>
        */
-      public Builder setInitEpoch(long value) {
-        bitField0_ |= 0x00000001;
-        initEpoch_ = value;
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * server checks that name and epoch are specified
+       * </pre>
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional uint64 init_epoch = 1;</code>
+       * <code>optional string name = 1;</code>
        *
        * <pre>
-       * client checks that initial epoch and epoch interval are specified
+       * server checks that name and epoch are specified
        * </pre>
        */
-      public Builder clearInitEpoch() {
+      public Builder clearName() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        initEpoch_ = 0L;
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * server checks that name and epoch are specified
+       * </pre>
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
         onChanged();
         return this;
       }
 
-      private int epochInterval_ ;
+      private long epoch_ ;
       /**
-       * <code>optional uint32 epoch_interval = 2;</code>
+       * <code>optional uint64 epoch = 2;</code>
        */
-      public boolean hasEpochInterval() {
+      public boolean hasEpoch() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional uint32 epoch_interval = 2;</code>
+       * <code>optional uint64 epoch = 2;</code>
        */
-      public int getEpochInterval() {
-        return epochInterval_;
+      public long getEpoch() {
+        return epoch_;
       }
       /**
-       * <code>optional uint32 epoch_interval = 2;</code>
+       * <code>optional uint64 epoch = 2;</code>
        */
-      public Builder setEpochInterval(int value) {
+      public Builder setEpoch(long value) {
         bitField0_ |= 0x00000002;
-        epochInterval_ = value;
+        epoch_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional uint32 epoch_interval = 2;</code>
+       * <code>optional uint64 epoch = 2;</code>
        */
-      public Builder clearEpochInterval() {
+      public Builder clearEpoch() {
         bitField0_ = (bitField0_ & ~0x00000002);
-        epochInterval_ = 0;
+        epoch_ = 0L;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.RegistrationResp)
+      private long sinceEpoch_ ;
+      /**
+       * <code>optional uint64 since_epoch = 3;</code>
+       *
+       * <pre>
+       * if set, the server replies with KeyNotModified instead of an
+       * auth path if the mapping hasn't changed since this epoch
+       * </pre>
+       */
+      public boolean hasSinceEpoch() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional uint64 since_epoch = 3;</code>
+       *
+       * <pre>
+       * if set, the server replies with KeyNotModified instead of an
+       * auth path if the mapping hasn't changed since this epoch
+       * </pre>
+       */
+      public long getSinceEpoch() {
+        return sinceEpoch_;
+      }
+      /**
+       * <code>optional uint64 since_epoch = 3;</code>
+       *
+       * <pre>
+       * if set, the server replies with KeyNotModified instead of an
+       * auth path if the mapping hasn't changed since this epoch
+       * </pre>
+       */
+      public Builder setSinceEpoch(long value) {
+        bitField0_ |= 0x00000004;
+        sinceEpoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 since_epoch = 3;</code>
+       *
+       * <pre>
+       * if set, the server replies with KeyNotModified instead of an
+       * auth path if the mapping hasn't changed since this epoch
+       * </pre>
+       */
+      public Builder clearSinceEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        sinceEpoch_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.KeyLookup)
     }
 
     static {
-      defaultInstance = new RegistrationResp(true);
+      defaultInstance = new KeyLookup(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.RegistrationResp)
+    // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.KeyLookup)
   }
 
-  public interface AuthPathOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.AuthPath)
+  public interface MultiKeyLookupOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.MultiKeyLookup)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     * <code>repeated string name = 1;</code>
      *
      * <pre>
-     * client checks if leaf is specified
+     * server checks that at least one name and the epoch are specified
      * </pre>
      */
-    boolean hasLeaf();
+    com.google.protobuf.ProtocolStringList
+        getNameList();
     /**
-     * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     * <code>repeated string name = 1;</code>
      *
      * <pre>
-     * client checks if leaf is specified
+     * server checks that at least one name and the epoch are specified
      * </pre>
      */
-    org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode getLeaf();
+    int getNameCount();
     /**
-     * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     * <code>repeated string name = 1;</code>
      *
      * <pre>
-     * client checks if leaf is specified
+     * server checks that at least one name and the epoch are specified
      * </pre>
      */
-    org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder getLeafOrBuilder();
-
+    java.lang.String getName(int index);
     /**
-     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+     * <code>repeated string name = 1;</code>
+     *
+     * <pre>
+     * server checks that at least one name and the epoch are specified
+     * </pre>
      */
-    java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode> 
-        getInteriorList();
+    com.google.protobuf.ByteString
+        getNameBytes(int index);
+
     /**
-     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+     * <code>optional uint64 epoch = 2;</code>
      */
-    org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode getInterior(int index);
+    boolean hasEpoch();
     /**
-     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
-     */
-    int getInteriorCount();
-    /**
-     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
-     */
-    java.util.List<? extends org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder> 
-        getInteriorOrBuilderList();
-    /**
-     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
-     */
-    org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder getInteriorOrBuilder(
-        int index);
-
-    /**
-     * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
-     */
-    boolean hasRoot();
-    /**
-     * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
-     */
-    org.coniks.coniks_common.C2SProtos.AuthPath.RootNode getRoot();
-    /**
-     * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+     * <code>optional uint64 epoch = 2;</code>
      */
-    org.coniks.coniks_common.C2SProtos.AuthPath.RootNodeOrBuilder getRootOrBuilder();
+    long getEpoch();
   }
   /**
-   * Protobuf type {@code org.coniks.coniks_common.AuthPath}
+   * Protobuf type {@code org.coniks.coniks_common.MultiKeyLookup}
    */
-  public static final class AuthPath extends
+  public static final class MultiKeyLookup extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.AuthPath)
-      AuthPathOrBuilder {
-    // Use AuthPath.newBuilder() to construct.
-    private AuthPath(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.MultiKeyLookup)
+      MultiKeyLookupOrBuilder {
+    // Use MultiKeyLookup.newBuilder() to construct.
+    private MultiKeyLookup(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private AuthPath(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private MultiKeyLookup(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final AuthPath defaultInstance;
-    public static AuthPath getDefaultInstance() {
+    private static final MultiKeyLookup defaultInstance;
+    public static MultiKeyLookup getDefaultInstance() {
       return defaultInstance;
     }
 
-    public AuthPath getDefaultInstanceForType() {
+    public MultiKeyLookup getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -5898,7 +6620,7 @@ public final class C2SProtos {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private AuthPath(
+    private MultiKeyLookup(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5922,37 +6644,17 @@ public final class C2SProtos {
               break;
             }
             case 10: {
-              org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = leaf_.toBuilder();
-              }
-              leaf_ = input.readMessage(org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(leaf_);
-                leaf_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000001;
-              break;
-            }
-            case 18: {
-              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                interior_ = new java.util.ArrayList<org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode>();
-                mutable_bitField0_ |= 0x00000002;
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                name_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
               }
-              interior_.add(input.readMessage(org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.PARSER, extensionRegistry));
+              name_.add(bs);
               break;
             }
-            case 26: {
-              org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000002) == 0x00000002)) {
-                subBuilder = root_.toBuilder();
-              }
-              root_ = input.readMessage(org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(root_);
-                root_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000002;
+            case 16: {
+              bitField0_ |= 0x00000001;
+              epoch_ = input.readUInt64();
               break;
             }
           }
@@ -5963,8 +6665,8 @@ public final class C2SProtos {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          interior_ = java.util.Collections.unmodifiableList(interior_);
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          name_ = name_.getUnmodifiableView();
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -5972,3859 +6674,13188 @@ public final class C2SProtos {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_descriptor;
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_MultiKeyLookup_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_fieldAccessorTable
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_MultiKeyLookup_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.coniks.coniks_common.C2SProtos.AuthPath.class, org.coniks.coniks_common.C2SProtos.AuthPath.Builder.class);
+              org.coniks.coniks_common.C2SProtos.MultiKeyLookup.class, org.coniks.coniks_common.C2SProtos.MultiKeyLookup.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<AuthPath> PARSER =
-        new com.google.protobuf.AbstractParser<AuthPath>() {
-      public AuthPath parsePartialFrom(
+    public static com.google.protobuf.Parser<MultiKeyLookup> PARSER =
+        new com.google.protobuf.AbstractParser<MultiKeyLookup>() {
+      public MultiKeyLookup parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new AuthPath(input, extensionRegistry);
+        return new MultiKeyLookup(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<AuthPath> getParserForType() {
+    public com.google.protobuf.Parser<MultiKeyLookup> getParserForType() {
       return PARSER;
     }
 
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList name_;
     /**
-     * Protobuf enum {@code org.coniks.coniks_common.AuthPath.PrunedChild}
+     * <code>repeated string name = 1;</code>
      *
      * <pre>
-     * indicates if the hash is for the left or right subtree
+     * server checks that at least one name and the epoch are specified
      * </pre>
      */
-    public enum PrunedChild
-        implements com.google.protobuf.ProtocolMessageEnum {
-      /**
-       * <code>LEFT = 0;</code>
-       */
-      LEFT(0, 0),
-      /**
-       * <code>RIGHT = 1;</code>
-       */
-      RIGHT(1, 1),
-      ;
-
-      /**
-       * <code>LEFT = 0;</code>
-       */
-      public static final int LEFT_VALUE = 0;
-      /**
-       * <code>RIGHT = 1;</code>
-       */
-      public static final int RIGHT_VALUE = 1;
-
+    public com.google.protobuf.ProtocolStringList
+        getNameList() {
+      return name_;
+    }
+    /**
+     * <code>repeated string name = 1;</code>
+     *
+     * <pre>
+     * server checks that at least one name and the epoch are specified
+     * </pre>
+     */
+    public int getNameCount() {
+      return name_.size();
+    }
+    /**
+     * <code>repeated string name = 1;</code>
+     *
+     * <pre>
+     * server checks that at least one name and the epoch are specified
+     * </pre>
+     */
+    public java.lang.String getName(int index) {
+      return name_.get(index);
+    }
+    /**
+     * <code>repeated string name = 1;</code>
+     *
+     * <pre>
+     * server checks that at least one name and the epoch are specified
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes(int index) {
+      return name_.getByteString(index);
+    }
 
-      public final int getNumber() { return value; }
+    public static final int EPOCH_FIELD_NUMBER = 2;
+    private long epoch_;
+    /**
+     * <code>optional uint64 epoch = 2;</code>
+     */
+    public boolean hasEpoch() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint64 epoch = 2;</code>
+     */
+    public long getEpoch() {
+      return epoch_;
+    }
 
-      public static PrunedChild valueOf(int value) {
-        switch (value) {
-          case 0: return LEFT;
-          case 1: return RIGHT;
-          default: return null;
-        }
-      }
+    private void initFields() {
+      name_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      epoch_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-      public static com.google.protobuf.Internal.EnumLiteMap<PrunedChild>
-          internalGetValueMap() {
-        return internalValueMap;
-      }
-      private static com.google.protobuf.Internal.EnumLiteMap<PrunedChild>
-          internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<PrunedChild>() {
-              public PrunedChild findValueByNumber(int number) {
-                return PrunedChild.valueOf(number);
-              }
-            };
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-      public final com.google.protobuf.Descriptors.EnumValueDescriptor
-          getValueDescriptor() {
-        return getDescriptor().getValues().get(index);
-      }
-      public final com.google.protobuf.Descriptors.EnumDescriptor
-          getDescriptorForType() {
-        return getDescriptor();
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < name_.size(); i++) {
+        output.writeBytes(1, name_.getByteString(i));
       }
-      public static final com.google.protobuf.Descriptors.EnumDescriptor
-          getDescriptor() {
-        return org.coniks.coniks_common.C2SProtos.AuthPath.getDescriptor().getEnumTypes().get(0);
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(2, epoch_);
       }
+      getUnknownFields().writeTo(output);
+    }
 
-      private static final PrunedChild[] VALUES = values();
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
-      public static PrunedChild valueOf(
-          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
-        if (desc.getType() != getDescriptor()) {
-          throw new java.lang.IllegalArgumentException(
-            "EnumValueDescriptor is not for this type.");
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < name_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(name_.getByteString(i));
         }
-        return VALUES[desc.getIndex()];
+        size += dataSize;
+        size += 1 * getNameList().size();
       }
-
-      private final int index;
-      private final int value;
-
-      private PrunedChild(int index, int value) {
-        this.index = index;
-        this.value = value;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, epoch_);
       }
-
-      // @@protoc_insertion_point(enum_scope:org.coniks.coniks_common.AuthPath.PrunedChild)
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
     }
 
-    public interface UserLeafNodeOrBuilder extends
-        // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.AuthPath.UserLeafNode)
-        com.google.protobuf.MessageOrBuilder {
-
-      /**
-       * <code>optional string name = 1;</code>
-       *
-       * <pre>
-       * client does not assume server has not sent malformed leaf node
-       * </pre>
-       */
-      boolean hasName();
-      /**
-       * <code>optional string name = 1;</code>
-       *
-       * <pre>
-       * client does not assume server has not sent malformed leaf node
-       * </pre>
-       */
-      java.lang.String getName();
-      /**
-       * <code>optional string name = 1;</code>
-       *
-       * <pre>
-       * client does not assume server has not sent malformed leaf node
-       * </pre>
-       */
-      com.google.protobuf.ByteString
-          getNameBytes();
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
 
-      /**
-       * <code>optional string publickey = 2;</code>
-       */
-      boolean hasPublickey();
-      /**
-       * <code>optional string publickey = 2;</code>
-       */
-      java.lang.String getPublickey();
-      /**
-       * <code>optional string publickey = 2;</code>
-       */
-      com.google.protobuf.ByteString
-          getPublickeyBytes();
+    public static org.coniks.coniks_common.C2SProtos.MultiKeyLookup parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiKeyLookup parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiKeyLookup parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiKeyLookup parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiKeyLookup parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiKeyLookup parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiKeyLookup parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiKeyLookup parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiKeyLookup parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiKeyLookup parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
 
-      /**
-       * <code>optional uint64 epoch_added = 3;</code>
-       */
-      boolean hasEpochAdded();
-      /**
-       * <code>optional uint64 epoch_added = 3;</code>
-       */
-      long getEpochAdded();
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.MultiKeyLookup prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
 
-      /**
-       * <code>optional uint64 epoch_changed = 4;</code>
-       */
-      boolean hasEpochChanged();
-      /**
-       * <code>optional uint64 epoch_changed = 4;</code>
-       */
-      long getEpochChanged();
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.coniks.coniks_common.MultiKeyLookup}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.MultiKeyLookup)
+        org.coniks.coniks_common.C2SProtos.MultiKeyLookupOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_MultiKeyLookup_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_MultiKeyLookup_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.coniks.coniks_common.C2SProtos.MultiKeyLookup.class, org.coniks.coniks_common.C2SProtos.MultiKeyLookup.Builder.class);
+      }
+
+      // Construct using org.coniks.coniks_common.C2SProtos.MultiKeyLookup.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        name_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        epoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_MultiKeyLookup_descriptor;
+      }
+
+      public org.coniks.coniks_common.C2SProtos.MultiKeyLookup getDefaultInstanceForType() {
+        return org.coniks.coniks_common.C2SProtos.MultiKeyLookup.getDefaultInstance();
+      }
+
+      public org.coniks.coniks_common.C2SProtos.MultiKeyLookup build() {
+        org.coniks.coniks_common.C2SProtos.MultiKeyLookup result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.coniks.coniks_common.C2SProtos.MultiKeyLookup buildPartial() {
+        org.coniks.coniks_common.C2SProtos.MultiKeyLookup result = new org.coniks.coniks_common.C2SProtos.MultiKeyLookup(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          name_ = name_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.name_ = name_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.epoch_ = epoch_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.coniks.coniks_common.C2SProtos.MultiKeyLookup) {
+          return mergeFrom((org.coniks.coniks_common.C2SProtos.MultiKeyLookup)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.MultiKeyLookup other) {
+        if (other == org.coniks.coniks_common.C2SProtos.MultiKeyLookup.getDefaultInstance()) return this;
+        if (!other.name_.isEmpty()) {
+          if (name_.isEmpty()) {
+            name_ = other.name_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureNameIsMutable();
+            name_.addAll(other.name_);
+          }
+          onChanged();
+        }
+        if (other.hasEpoch()) {
+          setEpoch(other.getEpoch());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.coniks.coniks_common.C2SProtos.MultiKeyLookup parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.coniks.coniks_common.C2SProtos.MultiKeyLookup) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
 
+      private com.google.protobuf.LazyStringList name_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureNameIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          name_ = new com.google.protobuf.LazyStringArrayList(name_);
+          bitField0_ |= 0x00000001;
+         }
+      }
       /**
-       * <code>optional bool allows_unsigned_keychange = 5;</code>
+       * <code>repeated string name = 1;</code>
+       *
+       * <pre>
+       * server checks that at least one name and the epoch are specified
+       * </pre>
        */
-      boolean hasAllowsUnsignedKeychange();
+      public com.google.protobuf.ProtocolStringList
+          getNameList() {
+        return name_.getUnmodifiableView();
+      }
       /**
-       * <code>optional bool allows_unsigned_keychange = 5;</code>
+       * <code>repeated string name = 1;</code>
+       *
+       * <pre>
+       * server checks that at least one name and the epoch are specified
+       * </pre>
        */
-      boolean getAllowsUnsignedKeychange();
-
+      public int getNameCount() {
+        return name_.size();
+      }
       /**
-       * <code>optional bool allows_public_lookup = 6;</code>
+       * <code>repeated string name = 1;</code>
+       *
+       * <pre>
+       * server checks that at least one name and the epoch are specified
+       * </pre>
        */
-      boolean hasAllowsPublicLookup();
+      public java.lang.String getName(int index) {
+        return name_.get(index);
+      }
       /**
-       * <code>optional bool allows_public_lookup = 6;</code>
+       * <code>repeated string name = 1;</code>
+       *
+       * <pre>
+       * server checks that at least one name and the epoch are specified
+       * </pre>
        */
-      boolean getAllowsPublicLookup();
-
+      public com.google.protobuf.ByteString
+          getNameBytes(int index) {
+        return name_.getByteString(index);
+      }
       /**
-       * <code>optional bytes lookup_index = 7;</code>
+       * <code>repeated string name = 1;</code>
+       *
+       * <pre>
+       * server checks that at least one name and the epoch are specified
+       * </pre>
        */
-      boolean hasLookupIndex();
+      public Builder setName(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureNameIsMutable();
+        name_.set(index, value);
+        onChanged();
+        return this;
+      }
       /**
-       * <code>optional bytes lookup_index = 7;</code>
+       * <code>repeated string name = 1;</code>
+       *
+       * <pre>
+       * server checks that at least one name and the epoch are specified
+       * </pre>
        */
-      com.google.protobuf.ByteString getLookupIndex();
-
+      public Builder addName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureNameIsMutable();
+        name_.add(value);
+        onChanged();
+        return this;
+      }
       /**
-       * <code>optional uint32 intlevels = 8;</code>
+       * <code>repeated string name = 1;</code>
        *
        * <pre>
-       * needed so client can loop over interior nodes
+       * server checks that at least one name and the epoch are specified
        * </pre>
        */
-      boolean hasIntlevels();
+      public Builder addAllName(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureNameIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, name_);
+        onChanged();
+        return this;
+      }
       /**
-       * <code>optional uint32 intlevels = 8;</code>
+       * <code>repeated string name = 1;</code>
        *
        * <pre>
-       * needed so client can loop over interior nodes
+       * server checks that at least one name and the epoch are specified
        * </pre>
        */
-      int getIntlevels();
-
+      public Builder clearName() {
+        name_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
       /**
-       * <code>optional bytes signature = 9;</code>
+       * <code>repeated string name = 1;</code>
+       *
+       * <pre>
+       * server checks that at least one name and the epoch are specified
+       * </pre>
        */
-      boolean hasSignature();
-      /**
-       * <code>optional bytes signature = 9;</code>
-       */
-      com.google.protobuf.ByteString getSignature();
+      public Builder addNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureNameIsMutable();
+        name_.add(value);
+        onChanged();
+        return this;
+      }
 
+      private long epoch_ ;
       /**
-       * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
-       */
-      boolean hasChangeKey();
-      /**
-       * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+       * <code>optional uint64 epoch = 2;</code>
        */
-      org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto getChangeKey();
+      public boolean hasEpoch() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
       /**
-       * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+       * <code>optional uint64 epoch = 2;</code>
        */
-      org.coniks.coniks_common.C2SProtos.DSAPublicKeyProtoOrBuilder getChangeKeyOrBuilder();
-
+      public long getEpoch() {
+        return epoch_;
+      }
       /**
-       * <code>optional bytes lastMsg = 11;</code>
+       * <code>optional uint64 epoch = 2;</code>
        */
-      boolean hasLastMsg();
+      public Builder setEpoch(long value) {
+        bitField0_ |= 0x00000002;
+        epoch_ = value;
+        onChanged();
+        return this;
+      }
       /**
-       * <code>optional bytes lastMsg = 11;</code>
+       * <code>optional uint64 epoch = 2;</code>
        */
-      com.google.protobuf.ByteString getLastMsg();
+      public Builder clearEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        epoch_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.MultiKeyLookup)
+    }
+
+    static {
+      defaultInstance = new MultiKeyLookup(true);
+      defaultInstance.initFields();
     }
+
+    // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.MultiKeyLookup)
+  }
+
+  public interface KeyHistoryReqOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.KeyHistoryReq)
+      com.google.protobuf.MessageOrBuilder {
+
     /**
-     * Protobuf type {@code org.coniks.coniks_common.AuthPath.UserLeafNode}
+     * <code>optional string name = 1;</code>
      *
      * <pre>
-     * auth path consists of user leaf node, possibly interior nodes, and root node
+     * server checks that name and start epoch are specified
      * </pre>
      */
-    public static final class UserLeafNode extends
-        com.google.protobuf.GeneratedMessage implements
-        // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.AuthPath.UserLeafNode)
-        UserLeafNodeOrBuilder {
-      // Use UserLeafNode.newBuilder() to construct.
-      private UserLeafNode(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-        super(builder);
-        this.unknownFields = builder.getUnknownFields();
-      }
-      private UserLeafNode(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    boolean hasName();
+    /**
+     * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * server checks that name and start epoch are specified
+     * </pre>
+     */
+    java.lang.String getName();
+    /**
+     * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * server checks that name and start epoch are specified
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
 
-      private static final UserLeafNode defaultInstance;
-      public static UserLeafNode getDefaultInstance() {
-        return defaultInstance;
-      }
+    /**
+     * <code>optional uint64 start_epoch = 2;</code>
+     */
+    boolean hasStartEpoch();
+    /**
+     * <code>optional uint64 start_epoch = 2;</code>
+     */
+    long getStartEpoch();
 
-      public UserLeafNode getDefaultInstanceForType() {
-        return defaultInstance;
-      }
+    /**
+     * <code>optional uint64 end_epoch = 3;</code>
+     *
+     * <pre>
+     * unset means the current epoch
+     * </pre>
+     */
+    boolean hasEndEpoch();
+    /**
+     * <code>optional uint64 end_epoch = 3;</code>
+     *
+     * <pre>
+     * unset means the current epoch
+     * </pre>
+     */
+    long getEndEpoch();
+  }
+  /**
+   * Protobuf type {@code org.coniks.coniks_common.KeyHistoryReq}
+   */
+  public static final class KeyHistoryReq extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.KeyHistoryReq)
+      KeyHistoryReqOrBuilder {
+    // Use KeyHistoryReq.newBuilder() to construct.
+    private KeyHistoryReq(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private KeyHistoryReq(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-      private final com.google.protobuf.UnknownFieldSet unknownFields;
-      @java.lang.Override
-      public final com.google.protobuf.UnknownFieldSet
-          getUnknownFields() {
-        return this.unknownFields;
-      }
-      private UserLeafNode(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        initFields();
-        int mutable_bitField0_ = 0;
-        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-            com.google.protobuf.UnknownFieldSet.newBuilder();
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
+    private static final KeyHistoryReq defaultInstance;
+    public static KeyHistoryReq getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public KeyHistoryReq getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private KeyHistoryReq(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
                 done = true;
-                break;
-              default: {
-                if (!parseUnknownField(input, unknownFields,
-                                       extensionRegistry, tag)) {
-                  done = true;
-                }
-                break;
-              }
-              case 10: {
-                com.google.protobuf.ByteString bs = input.readBytes();
-                bitField0_ |= 0x00000001;
-                name_ = bs;
-                break;
-              }
-              case 18: {
-                com.google.protobuf.ByteString bs = input.readBytes();
-                bitField0_ |= 0x00000002;
-                publickey_ = bs;
-                break;
-              }
-              case 24: {
-                bitField0_ |= 0x00000004;
-                epochAdded_ = input.readUInt64();
-                break;
-              }
-              case 32: {
-                bitField0_ |= 0x00000008;
-                epochChanged_ = input.readUInt64();
-                break;
-              }
-              case 40: {
-                bitField0_ |= 0x00000010;
-                allowsUnsignedKeychange_ = input.readBool();
-                break;
-              }
-              case 48: {
-                bitField0_ |= 0x00000020;
-                allowsPublicLookup_ = input.readBool();
-                break;
-              }
-              case 58: {
-                bitField0_ |= 0x00000040;
-                lookupIndex_ = input.readBytes();
-                break;
-              }
-              case 64: {
-                bitField0_ |= 0x00000080;
-                intlevels_ = input.readUInt32();
-                break;
-              }
-              case 74: {
-                bitField0_ |= 0x00000100;
-                signature_ = input.readBytes();
-                break;
-              }
-              case 82: {
-                org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.Builder subBuilder = null;
-                if (((bitField0_ & 0x00000200) == 0x00000200)) {
-                  subBuilder = changeKey_.toBuilder();
-                }
-                changeKey_ = input.readMessage(org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.PARSER, extensionRegistry);
-                if (subBuilder != null) {
-                  subBuilder.mergeFrom(changeKey_);
-                  changeKey_ = subBuilder.buildPartial();
-                }
-                bitField0_ |= 0x00000200;
-                break;
-              }
-              case 90: {
-                bitField0_ |= 0x00000400;
-                lastMsg_ = input.readBytes();
-                break;
               }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              name_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              startEpoch_ = input.readUInt64();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              endEpoch_ = input.readUInt64();
+              break;
             }
           }
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(this);
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(
-              e.getMessage()).setUnfinishedMessage(this);
-        } finally {
-          this.unknownFields = unknownFields.build();
-          makeExtensionsImmutable();
         }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
       }
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_UserLeafNode_descriptor;
-      }
-
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_UserLeafNode_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.class, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder.class);
-      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyHistoryReq_descriptor;
+    }
 
-      public static com.google.protobuf.Parser<UserLeafNode> PARSER =
-          new com.google.protobuf.AbstractParser<UserLeafNode>() {
-        public UserLeafNode parsePartialFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-          return new UserLeafNode(input, extensionRegistry);
-        }
-      };
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyHistoryReq_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.coniks.coniks_common.C2SProtos.KeyHistoryReq.class, org.coniks.coniks_common.C2SProtos.KeyHistoryReq.Builder.class);
+    }
 
-      @java.lang.Override
-      public com.google.protobuf.Parser<UserLeafNode> getParserForType() {
-        return PARSER;
+    public static com.google.protobuf.Parser<KeyHistoryReq> PARSER =
+        new com.google.protobuf.AbstractParser<KeyHistoryReq>() {
+      public KeyHistoryReq parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new KeyHistoryReq(input, extensionRegistry);
       }
+    };
 
-      private int bitField0_;
-      public static final int NAME_FIELD_NUMBER = 1;
-      private java.lang.Object name_;
-      /**
-       * <code>optional string name = 1;</code>
-       *
-       * <pre>
-       * client does not assume server has not sent malformed leaf node
-       * </pre>
-       */
-      public boolean hasName() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
-      }
-      /**
-       * <code>optional string name = 1;</code>
-       *
-       * <pre>
-       * client does not assume server has not sent malformed leaf node
-       * </pre>
-       */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
-        if (ref instanceof java.lang.String) {
-          return (java.lang.String) ref;
-        } else {
-          com.google.protobuf.ByteString bs = 
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            name_ = s;
-          }
-          return s;
+    @java.lang.Override
+    public com.google.protobuf.Parser<KeyHistoryReq> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private java.lang.Object name_;
+    /**
+     * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * server checks that name and start epoch are specified
+     * </pre>
+     */
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * server checks that name and start epoch are specified
+     * </pre>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
         }
+        return s;
       }
-      /**
-       * <code>optional string name = 1;</code>
-       *
-       * <pre>
-       * client does not assume server has not sent malformed leaf node
-       * </pre>
-       */
-      public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
-        if (ref instanceof java.lang.String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          name_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * server checks that name and start epoch are specified
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
+    }
 
-      public static final int PUBLICKEY_FIELD_NUMBER = 2;
-      private java.lang.Object publickey_;
-      /**
-       * <code>optional string publickey = 2;</code>
-       */
-      public boolean hasPublickey() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+    public static final int START_EPOCH_FIELD_NUMBER = 2;
+    private long startEpoch_;
+    /**
+     * <code>optional uint64 start_epoch = 2;</code>
+     */
+    public boolean hasStartEpoch() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional uint64 start_epoch = 2;</code>
+     */
+    public long getStartEpoch() {
+      return startEpoch_;
+    }
+
+    public static final int END_EPOCH_FIELD_NUMBER = 3;
+    private long endEpoch_;
+    /**
+     * <code>optional uint64 end_epoch = 3;</code>
+     *
+     * <pre>
+     * unset means the current epoch
+     * </pre>
+     */
+    public boolean hasEndEpoch() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional uint64 end_epoch = 3;</code>
+     *
+     * <pre>
+     * unset means the current epoch
+     * </pre>
+     */
+    public long getEndEpoch() {
+      return endEpoch_;
+    }
+
+    private void initFields() {
+      name_ = "";
+      startEpoch_ = 0L;
+      endEpoch_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getNameBytes());
       }
-      /**
-       * <code>optional string publickey = 2;</code>
-       */
-      public java.lang.String getPublickey() {
-        java.lang.Object ref = publickey_;
-        if (ref instanceof java.lang.String) {
-          return (java.lang.String) ref;
-        } else {
-          com.google.protobuf.ByteString bs = 
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          if (bs.isValidUtf8()) {
-            publickey_ = s;
-          }
-          return s;
-        }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt64(2, startEpoch_);
       }
-      /**
-       * <code>optional string publickey = 2;</code>
-       */
-      public com.google.protobuf.ByteString
-          getPublickeyBytes() {
-        java.lang.Object ref = publickey_;
-        if (ref instanceof java.lang.String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          publickey_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeUInt64(3, endEpoch_);
       }
+      getUnknownFields().writeTo(output);
+    }
 
-      public static final int EPOCH_ADDED_FIELD_NUMBER = 3;
-      private long epochAdded_;
-      /**
-       * <code>optional uint64 epoch_added = 3;</code>
-       */
-      public boolean hasEpochAdded() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getNameBytes());
       }
-      /**
-       * <code>optional uint64 epoch_added = 3;</code>
-       */
-      public long getEpochAdded() {
-        return epochAdded_;
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, startEpoch_);
       }
-
-      public static final int EPOCH_CHANGED_FIELD_NUMBER = 4;
-      private long epochChanged_;
-      /**
-       * <code>optional uint64 epoch_changed = 4;</code>
-       */
-      public boolean hasEpochChanged() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, endEpoch_);
       }
-      /**
-       * <code>optional uint64 epoch_changed = 4;</code>
-       */
-      public long getEpochChanged() {
-        return epochChanged_;
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.coniks.coniks_common.C2SProtos.KeyHistoryReq parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistoryReq parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistoryReq parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistoryReq parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistoryReq parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistoryReq parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistoryReq parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistoryReq parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistoryReq parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistoryReq parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.KeyHistoryReq prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.coniks.coniks_common.KeyHistoryReq}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.KeyHistoryReq)
+        org.coniks.coniks_common.C2SProtos.KeyHistoryReqOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyHistoryReq_descriptor;
       }
 
-      public static final int ALLOWS_UNSIGNED_KEYCHANGE_FIELD_NUMBER = 5;
-      private boolean allowsUnsignedKeychange_;
-      /**
-       * <code>optional bool allows_unsigned_keychange = 5;</code>
-       */
-      public boolean hasAllowsUnsignedKeychange() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyHistoryReq_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.coniks.coniks_common.C2SProtos.KeyHistoryReq.class, org.coniks.coniks_common.C2SProtos.KeyHistoryReq.Builder.class);
       }
-      /**
-       * <code>optional bool allows_unsigned_keychange = 5;</code>
-       */
-      public boolean getAllowsUnsignedKeychange() {
-        return allowsUnsignedKeychange_;
+
+      // Construct using org.coniks.coniks_common.C2SProtos.KeyHistoryReq.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      public static final int ALLOWS_PUBLIC_LOOKUP_FIELD_NUMBER = 6;
-      private boolean allowsPublicLookup_;
-      /**
-       * <code>optional bool allows_public_lookup = 6;</code>
-       */
-      public boolean hasAllowsPublicLookup() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>optional bool allows_public_lookup = 6;</code>
-       */
-      public boolean getAllowsPublicLookup() {
-        return allowsPublicLookup_;
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
       }
 
-      public static final int LOOKUP_INDEX_FIELD_NUMBER = 7;
-      private com.google.protobuf.ByteString lookupIndex_;
-      /**
-       * <code>optional bytes lookup_index = 7;</code>
-       */
-      public boolean hasLookupIndex() {
-        return ((bitField0_ & 0x00000040) == 0x00000040);
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        startEpoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        endEpoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
       }
-      /**
-       * <code>optional bytes lookup_index = 7;</code>
-       */
-      public com.google.protobuf.ByteString getLookupIndex() {
-        return lookupIndex_;
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      public static final int INTLEVELS_FIELD_NUMBER = 8;
-      private int intlevels_;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyHistoryReq_descriptor;
+      }
+
+      public org.coniks.coniks_common.C2SProtos.KeyHistoryReq getDefaultInstanceForType() {
+        return org.coniks.coniks_common.C2SProtos.KeyHistoryReq.getDefaultInstance();
+      }
+
+      public org.coniks.coniks_common.C2SProtos.KeyHistoryReq build() {
+        org.coniks.coniks_common.C2SProtos.KeyHistoryReq result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.coniks.coniks_common.C2SProtos.KeyHistoryReq buildPartial() {
+        org.coniks.coniks_common.C2SProtos.KeyHistoryReq result = new org.coniks.coniks_common.C2SProtos.KeyHistoryReq(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.name_ = name_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.startEpoch_ = startEpoch_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.endEpoch_ = endEpoch_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.coniks.coniks_common.C2SProtos.KeyHistoryReq) {
+          return mergeFrom((org.coniks.coniks_common.C2SProtos.KeyHistoryReq)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.KeyHistoryReq other) {
+        if (other == org.coniks.coniks_common.C2SProtos.KeyHistoryReq.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.hasStartEpoch()) {
+          setStartEpoch(other.getStartEpoch());
+        }
+        if (other.hasEndEpoch()) {
+          setEndEpoch(other.getEndEpoch());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.coniks.coniks_common.C2SProtos.KeyHistoryReq parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.coniks.coniks_common.C2SProtos.KeyHistoryReq) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
       /**
-       * <code>optional uint32 intlevels = 8;</code>
+       * <code>optional string name = 1;</code>
        *
        * <pre>
-       * needed so client can loop over interior nodes
+       * server checks that name and start epoch are specified
        * </pre>
        */
-      public boolean hasIntlevels() {
-        return ((bitField0_ & 0x00000080) == 0x00000080);
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional uint32 intlevels = 8;</code>
+       * <code>optional string name = 1;</code>
        *
        * <pre>
-       * needed so client can loop over interior nodes
+       * server checks that name and start epoch are specified
        * </pre>
        */
-      public int getIntlevels() {
-        return intlevels_;
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
-
-      public static final int SIGNATURE_FIELD_NUMBER = 9;
-      private com.google.protobuf.ByteString signature_;
       /**
-       * <code>optional bytes signature = 9;</code>
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * server checks that name and start epoch are specified
+       * </pre>
        */
-      public boolean hasSignature() {
-        return ((bitField0_ & 0x00000100) == 0x00000100);
-      }
-      /**
-       * <code>optional bytes signature = 9;</code>
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * server checks that name and start epoch are specified
+       * </pre>
        */
-      public com.google.protobuf.ByteString getSignature() {
-        return signature_;
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * server checks that name and start epoch are specified
+       * </pre>
+       */
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * server checks that name and start epoch are specified
+       * </pre>
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
       }
 
-      public static final int CHANGEKEY_FIELD_NUMBER = 10;
-      private org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto changeKey_;
+      private long startEpoch_ ;
       /**
-       * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+       * <code>optional uint64 start_epoch = 2;</code>
        */
-      public boolean hasChangeKey() {
-        return ((bitField0_ & 0x00000200) == 0x00000200);
+      public boolean hasStartEpoch() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+       * <code>optional uint64 start_epoch = 2;</code>
        */
-      public org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto getChangeKey() {
-        return changeKey_;
+      public long getStartEpoch() {
+        return startEpoch_;
       }
       /**
-       * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+       * <code>optional uint64 start_epoch = 2;</code>
        */
-      public org.coniks.coniks_common.C2SProtos.DSAPublicKeyProtoOrBuilder getChangeKeyOrBuilder() {
-        return changeKey_;
+      public Builder setStartEpoch(long value) {
+        bitField0_ |= 0x00000002;
+        startEpoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 start_epoch = 2;</code>
+       */
+      public Builder clearStartEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        startEpoch_ = 0L;
+        onChanged();
+        return this;
       }
 
-      public static final int LASTMSG_FIELD_NUMBER = 11;
-      private com.google.protobuf.ByteString lastMsg_;
+      private long endEpoch_ ;
       /**
-       * <code>optional bytes lastMsg = 11;</code>
+       * <code>optional uint64 end_epoch = 3;</code>
+       *
+       * <pre>
+       * unset means the current epoch
+       * </pre>
        */
-      public boolean hasLastMsg() {
-        return ((bitField0_ & 0x00000400) == 0x00000400);
+      public boolean hasEndEpoch() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>optional bytes lastMsg = 11;</code>
+       * <code>optional uint64 end_epoch = 3;</code>
+       *
+       * <pre>
+       * unset means the current epoch
+       * </pre>
        */
-      public com.google.protobuf.ByteString getLastMsg() {
-        return lastMsg_;
+      public long getEndEpoch() {
+        return endEpoch_;
       }
-
-      private void initFields() {
-        name_ = "";
-        publickey_ = "";
-        epochAdded_ = 0L;
-        epochChanged_ = 0L;
-        allowsUnsignedKeychange_ = false;
-        allowsPublicLookup_ = false;
-        lookupIndex_ = com.google.protobuf.ByteString.EMPTY;
-        intlevels_ = 0;
-        signature_ = com.google.protobuf.ByteString.EMPTY;
-        changeKey_ = org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.getDefaultInstance();
-        lastMsg_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional uint64 end_epoch = 3;</code>
+       *
+       * <pre>
+       * unset means the current epoch
+       * </pre>
+       */
+      public Builder setEndEpoch(long value) {
+        bitField0_ |= 0x00000004;
+        endEpoch_ = value;
+        onChanged();
+        return this;
       }
-      private byte memoizedIsInitialized = -1;
-      public final boolean isInitialized() {
-        byte isInitialized = memoizedIsInitialized;
-        if (isInitialized == 1) return true;
-        if (isInitialized == 0) return false;
-
-        if (hasChangeKey()) {
-          if (!getChangeKey().isInitialized()) {
-            memoizedIsInitialized = 0;
-            return false;
-          }
-        }
-        memoizedIsInitialized = 1;
-        return true;
+      /**
+       * <code>optional uint64 end_epoch = 3;</code>
+       *
+       * <pre>
+       * unset means the current epoch
+       * </pre>
+       */
+      public Builder clearEndEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        endEpoch_ = 0L;
+        onChanged();
+        return this;
       }
 
-      public void writeTo(com.google.protobuf.CodedOutputStream output)
-                          throws java.io.IOException {
-        getSerializedSize();
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          output.writeBytes(1, getNameBytes());
-        }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          output.writeBytes(2, getPublickeyBytes());
-        }
-        if (((bitField0_ & 0x00000004) == 0x00000004)) {
-          output.writeUInt64(3, epochAdded_);
-        }
-        if (((bitField0_ & 0x00000008) == 0x00000008)) {
-          output.writeUInt64(4, epochChanged_);
-        }
-        if (((bitField0_ & 0x00000010) == 0x00000010)) {
-          output.writeBool(5, allowsUnsignedKeychange_);
-        }
-        if (((bitField0_ & 0x00000020) == 0x00000020)) {
-          output.writeBool(6, allowsPublicLookup_);
-        }
-        if (((bitField0_ & 0x00000040) == 0x00000040)) {
-          output.writeBytes(7, lookupIndex_);
-        }
-        if (((bitField0_ & 0x00000080) == 0x00000080)) {
-          output.writeUInt32(8, intlevels_);
-        }
-        if (((bitField0_ & 0x00000100) == 0x00000100)) {
-          output.writeBytes(9, signature_);
-        }
-        if (((bitField0_ & 0x00000200) == 0x00000200)) {
-          output.writeMessage(10, changeKey_);
-        }
-        if (((bitField0_ & 0x00000400) == 0x00000400)) {
-          output.writeBytes(11, lastMsg_);
-        }
-        getUnknownFields().writeTo(output);
-      }
+      // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.KeyHistoryReq)
+    }
 
-      private int memoizedSerializedSize = -1;
-      public int getSerializedSize() {
-        int size = memoizedSerializedSize;
-        if (size != -1) return size;
+    static {
+      defaultInstance = new KeyHistoryReq(true);
+      defaultInstance.initFields();
+    }
 
-        size = 0;
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeBytesSize(1, getNameBytes());
-        }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeBytesSize(2, getPublickeyBytes());
-        }
-        if (((bitField0_ & 0x00000004) == 0x00000004)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeUInt64Size(3, epochAdded_);
-        }
-        if (((bitField0_ & 0x00000008) == 0x00000008)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeUInt64Size(4, epochChanged_);
-        }
-        if (((bitField0_ & 0x00000010) == 0x00000010)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeBoolSize(5, allowsUnsignedKeychange_);
-        }
-        if (((bitField0_ & 0x00000020) == 0x00000020)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeBoolSize(6, allowsPublicLookup_);
-        }
-        if (((bitField0_ & 0x00000040) == 0x00000040)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeBytesSize(7, lookupIndex_);
-        }
-        if (((bitField0_ & 0x00000080) == 0x00000080)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeUInt32Size(8, intlevels_);
-        }
-        if (((bitField0_ & 0x00000100) == 0x00000100)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeBytesSize(9, signature_);
-        }
-        if (((bitField0_ & 0x00000200) == 0x00000200)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeMessageSize(10, changeKey_);
-        }
-        if (((bitField0_ & 0x00000400) == 0x00000400)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeBytesSize(11, lastMsg_);
-        }
-        size += getUnknownFields().getSerializedSize();
-        memoizedSerializedSize = size;
-        return size;
-      }
+    // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.KeyHistoryReq)
+  }
 
-      private static final long serialVersionUID = 0L;
-      @java.lang.Override
-      protected java.lang.Object writeReplace()
-          throws java.io.ObjectStreamException {
-        return super.writeReplace();
-      }
+  public interface ChangelogReqOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.ChangelogReq)
+      com.google.protobuf.MessageOrBuilder {
 
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseFrom(
-          com.google.protobuf.ByteString data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseFrom(
-          com.google.protobuf.ByteString data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
-      }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseFrom(byte[] data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseFrom(
-          byte[] data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
-      }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
-      }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseFrom(
-          java.io.InputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
-      }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseDelimitedFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input);
-      }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseDelimitedFrom(
-          java.io.InputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input, extensionRegistry);
-      }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseFrom(
-          com.google.protobuf.CodedInputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
-      }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
-      }
-
-      public static Builder newBuilder() { return Builder.create(); }
-      public Builder newBuilderForType() { return newBuilder(); }
-      public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode prototype) {
-        return newBuilder().mergeFrom(prototype);
-      }
-      public Builder toBuilder() { return newBuilder(this); }
+    /**
+     * <code>optional uint64 start_epoch = 1;</code>
+     *
+     * <pre>
+     * server checks that the start epoch is specified
+     * </pre>
+     */
+    boolean hasStartEpoch();
+    /**
+     * <code>optional uint64 start_epoch = 1;</code>
+     *
+     * <pre>
+     * server checks that the start epoch is specified
+     * </pre>
+     */
+    long getStartEpoch();
 
-      @java.lang.Override
-      protected Builder newBuilderForType(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        Builder builder = new Builder(parent);
-        return builder;
-      }
-      /**
-       * Protobuf type {@code org.coniks.coniks_common.AuthPath.UserLeafNode}
-       *
-       * <pre>
-       * auth path consists of user leaf node, possibly interior nodes, and root node
-       * </pre>
-       */
-      public static final class Builder extends
-          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-          // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.AuthPath.UserLeafNode)
-          org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder {
-        public static final com.google.protobuf.Descriptors.Descriptor
-            getDescriptor() {
-          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_UserLeafNode_descriptor;
-        }
+    /**
+     * <code>optional uint64 end_epoch = 2;</code>
+     *
+     * <pre>
+     * unset means the current epoch
+     * </pre>
+     */
+    boolean hasEndEpoch();
+    /**
+     * <code>optional uint64 end_epoch = 2;</code>
+     *
+     * <pre>
+     * unset means the current epoch
+     * </pre>
+     */
+    long getEndEpoch();
+  }
+  /**
+   * Protobuf type {@code org.coniks.coniks_common.ChangelogReq}
+   */
+  public static final class ChangelogReq extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.ChangelogReq)
+      ChangelogReqOrBuilder {
+    // Use ChangelogReq.newBuilder() to construct.
+    private ChangelogReq(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ChangelogReq(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-            internalGetFieldAccessorTable() {
-          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_UserLeafNode_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                  org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.class, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder.class);
-        }
+    private static final ChangelogReq defaultInstance;
+    public static ChangelogReq getDefaultInstance() {
+      return defaultInstance;
+    }
 
-        // Construct using org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.newBuilder()
-        private Builder() {
-          maybeForceBuilderInitialization();
-        }
+    public ChangelogReq getDefaultInstanceForType() {
+      return defaultInstance;
+    }
 
-        private Builder(
-            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-          super(parent);
-          maybeForceBuilderInitialization();
-        }
-        private void maybeForceBuilderInitialization() {
-          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-            getChangeKeyFieldBuilder();
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ChangelogReq(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              startEpoch_ = input.readUInt64();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              endEpoch_ = input.readUInt64();
+              break;
+            }
           }
         }
-        private static Builder create() {
-          return new Builder();
-        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_ChangelogReq_descriptor;
+    }
 
-        public Builder clear() {
-          super.clear();
-          name_ = "";
-          bitField0_ = (bitField0_ & ~0x00000001);
-          publickey_ = "";
-          bitField0_ = (bitField0_ & ~0x00000002);
-          epochAdded_ = 0L;
-          bitField0_ = (bitField0_ & ~0x00000004);
-          epochChanged_ = 0L;
-          bitField0_ = (bitField0_ & ~0x00000008);
-          allowsUnsignedKeychange_ = false;
-          bitField0_ = (bitField0_ & ~0x00000010);
-          allowsPublicLookup_ = false;
-          bitField0_ = (bitField0_ & ~0x00000020);
-          lookupIndex_ = com.google.protobuf.ByteString.EMPTY;
-          bitField0_ = (bitField0_ & ~0x00000040);
-          intlevels_ = 0;
-          bitField0_ = (bitField0_ & ~0x00000080);
-          signature_ = com.google.protobuf.ByteString.EMPTY;
-          bitField0_ = (bitField0_ & ~0x00000100);
-          if (changeKeyBuilder_ == null) {
-            changeKey_ = org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.getDefaultInstance();
-          } else {
-            changeKeyBuilder_.clear();
-          }
-          bitField0_ = (bitField0_ & ~0x00000200);
-          lastMsg_ = com.google.protobuf.ByteString.EMPTY;
-          bitField0_ = (bitField0_ & ~0x00000400);
-          return this;
-        }
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_ChangelogReq_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.coniks.coniks_common.C2SProtos.ChangelogReq.class, org.coniks.coniks_common.C2SProtos.ChangelogReq.Builder.class);
+    }
 
-        public Builder clone() {
-          return create().mergeFrom(buildPartial());
-        }
+    public static com.google.protobuf.Parser<ChangelogReq> PARSER =
+        new com.google.protobuf.AbstractParser<ChangelogReq>() {
+      public ChangelogReq parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ChangelogReq(input, extensionRegistry);
+      }
+    };
 
-        public com.google.protobuf.Descriptors.Descriptor
-            getDescriptorForType() {
-          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_UserLeafNode_descriptor;
-        }
+    @java.lang.Override
+    public com.google.protobuf.Parser<ChangelogReq> getParserForType() {
+      return PARSER;
+    }
 
-        public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode getDefaultInstanceForType() {
-          return org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.getDefaultInstance();
-        }
+    private int bitField0_;
+    public static final int START_EPOCH_FIELD_NUMBER = 1;
+    private long startEpoch_;
+    /**
+     * <code>optional uint64 start_epoch = 1;</code>
+     *
+     * <pre>
+     * server checks that the start epoch is specified
+     * </pre>
+     */
+    public boolean hasStartEpoch() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint64 start_epoch = 1;</code>
+     *
+     * <pre>
+     * server checks that the start epoch is specified
+     * </pre>
+     */
+    public long getStartEpoch() {
+      return startEpoch_;
+    }
 
-        public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode build() {
-          org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode result = buildPartial();
-          if (!result.isInitialized()) {
-            throw newUninitializedMessageException(result);
-          }
-          return result;
-        }
+    public static final int END_EPOCH_FIELD_NUMBER = 2;
+    private long endEpoch_;
+    /**
+     * <code>optional uint64 end_epoch = 2;</code>
+     *
+     * <pre>
+     * unset means the current epoch
+     * </pre>
+     */
+    public boolean hasEndEpoch() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional uint64 end_epoch = 2;</code>
+     *
+     * <pre>
+     * unset means the current epoch
+     * </pre>
+     */
+    public long getEndEpoch() {
+      return endEpoch_;
+    }
 
-        public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode buildPartial() {
-          org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode result = new org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode(this);
-          int from_bitField0_ = bitField0_;
-          int to_bitField0_ = 0;
-          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-            to_bitField0_ |= 0x00000001;
-          }
-          result.name_ = name_;
-          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-            to_bitField0_ |= 0x00000002;
-          }
-          result.publickey_ = publickey_;
-          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-            to_bitField0_ |= 0x00000004;
-          }
-          result.epochAdded_ = epochAdded_;
-          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-            to_bitField0_ |= 0x00000008;
-          }
-          result.epochChanged_ = epochChanged_;
-          if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-            to_bitField0_ |= 0x00000010;
-          }
-          result.allowsUnsignedKeychange_ = allowsUnsignedKeychange_;
-          if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
-            to_bitField0_ |= 0x00000020;
-          }
-          result.allowsPublicLookup_ = allowsPublicLookup_;
-          if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
-            to_bitField0_ |= 0x00000040;
-          }
-          result.lookupIndex_ = lookupIndex_;
-          if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
-            to_bitField0_ |= 0x00000080;
-          }
-          result.intlevels_ = intlevels_;
-          if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
-            to_bitField0_ |= 0x00000100;
-          }
-          result.signature_ = signature_;
-          if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
-            to_bitField0_ |= 0x00000200;
-          }
-          if (changeKeyBuilder_ == null) {
-            result.changeKey_ = changeKey_;
-          } else {
-            result.changeKey_ = changeKeyBuilder_.build();
-          }
-          if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
-            to_bitField0_ |= 0x00000400;
-          }
-          result.lastMsg_ = lastMsg_;
-          result.bitField0_ = to_bitField0_;
-          onBuilt();
-          return result;
-        }
+    private void initFields() {
+      startEpoch_ = 0L;
+      endEpoch_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-        public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode) {
-            return mergeFrom((org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode)other);
-          } else {
-            super.mergeFrom(other);
-            return this;
-          }
-        }
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-        public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode other) {
-          if (other == org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.getDefaultInstance()) return this;
-          if (other.hasName()) {
-            bitField0_ |= 0x00000001;
-            name_ = other.name_;
-            onChanged();
-          }
-          if (other.hasPublickey()) {
-            bitField0_ |= 0x00000002;
-            publickey_ = other.publickey_;
-            onChanged();
-          }
-          if (other.hasEpochAdded()) {
-            setEpochAdded(other.getEpochAdded());
-          }
-          if (other.hasEpochChanged()) {
-            setEpochChanged(other.getEpochChanged());
-          }
-          if (other.hasAllowsUnsignedKeychange()) {
-            setAllowsUnsignedKeychange(other.getAllowsUnsignedKeychange());
-          }
-          if (other.hasAllowsPublicLookup()) {
-            setAllowsPublicLookup(other.getAllowsPublicLookup());
-          }
-          if (other.hasLookupIndex()) {
-            setLookupIndex(other.getLookupIndex());
-          }
-          if (other.hasIntlevels()) {
-            setIntlevels(other.getIntlevels());
-          }
-          if (other.hasSignature()) {
-            setSignature(other.getSignature());
-          }
-          if (other.hasChangeKey()) {
-            mergeChangeKey(other.getChangeKey());
-          }
-          if (other.hasLastMsg()) {
-            setLastMsg(other.getLastMsg());
-          }
-          this.mergeUnknownFields(other.getUnknownFields());
-          return this;
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(1, startEpoch_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt64(2, endEpoch_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, startEpoch_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, endEpoch_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.coniks.coniks_common.C2SProtos.ChangelogReq parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.ChangelogReq parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.ChangelogReq parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.ChangelogReq parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.ChangelogReq parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.ChangelogReq parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.ChangelogReq parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.ChangelogReq parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.ChangelogReq parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.ChangelogReq parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.ChangelogReq prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.coniks.coniks_common.ChangelogReq}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.ChangelogReq)
+        org.coniks.coniks_common.C2SProtos.ChangelogReqOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_ChangelogReq_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_ChangelogReq_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.coniks.coniks_common.C2SProtos.ChangelogReq.class, org.coniks.coniks_common.C2SProtos.ChangelogReq.Builder.class);
+      }
+
+      // Construct using org.coniks.coniks_common.C2SProtos.ChangelogReq.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
         }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
 
-        public final boolean isInitialized() {
-          if (hasChangeKey()) {
-            if (!getChangeKey().isInitialized()) {
-              
-              return false;
-            }
-          }
-          return true;
+      public Builder clear() {
+        super.clear();
+        startEpoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        endEpoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_ChangelogReq_descriptor;
+      }
+
+      public org.coniks.coniks_common.C2SProtos.ChangelogReq getDefaultInstanceForType() {
+        return org.coniks.coniks_common.C2SProtos.ChangelogReq.getDefaultInstance();
+      }
+
+      public org.coniks.coniks_common.C2SProtos.ChangelogReq build() {
+        org.coniks.coniks_common.C2SProtos.ChangelogReq result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.coniks.coniks_common.C2SProtos.ChangelogReq buildPartial() {
+        org.coniks.coniks_common.C2SProtos.ChangelogReq result = new org.coniks.coniks_common.C2SProtos.ChangelogReq(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.startEpoch_ = startEpoch_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.endEpoch_ = endEpoch_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.coniks.coniks_common.C2SProtos.ChangelogReq) {
+          return mergeFrom((org.coniks.coniks_common.C2SProtos.ChangelogReq)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.ChangelogReq other) {
+        if (other == org.coniks.coniks_common.C2SProtos.ChangelogReq.getDefaultInstance()) return this;
+        if (other.hasStartEpoch()) {
+          setStartEpoch(other.getStartEpoch());
+        }
+        if (other.hasEndEpoch()) {
+          setEndEpoch(other.getEndEpoch());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.coniks.coniks_common.C2SProtos.ChangelogReq parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.coniks.coniks_common.C2SProtos.ChangelogReq) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long startEpoch_ ;
+      /**
+       * <code>optional uint64 start_epoch = 1;</code>
+       *
+       * <pre>
+       * server checks that the start epoch is specified
+       * </pre>
+       */
+      public boolean hasStartEpoch() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional uint64 start_epoch = 1;</code>
+       *
+       * <pre>
+       * server checks that the start epoch is specified
+       * </pre>
+       */
+      public long getStartEpoch() {
+        return startEpoch_;
+      }
+      /**
+       * <code>optional uint64 start_epoch = 1;</code>
+       *
+       * <pre>
+       * server checks that the start epoch is specified
+       * </pre>
+       */
+      public Builder setStartEpoch(long value) {
+        bitField0_ |= 0x00000001;
+        startEpoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 start_epoch = 1;</code>
+       *
+       * <pre>
+       * server checks that the start epoch is specified
+       * </pre>
+       */
+      public Builder clearStartEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        startEpoch_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long endEpoch_ ;
+      /**
+       * <code>optional uint64 end_epoch = 2;</code>
+       *
+       * <pre>
+       * unset means the current epoch
+       * </pre>
+       */
+      public boolean hasEndEpoch() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional uint64 end_epoch = 2;</code>
+       *
+       * <pre>
+       * unset means the current epoch
+       * </pre>
+       */
+      public long getEndEpoch() {
+        return endEpoch_;
+      }
+      /**
+       * <code>optional uint64 end_epoch = 2;</code>
+       *
+       * <pre>
+       * unset means the current epoch
+       * </pre>
+       */
+      public Builder setEndEpoch(long value) {
+        bitField0_ |= 0x00000002;
+        endEpoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 end_epoch = 2;</code>
+       *
+       * <pre>
+       * unset means the current epoch
+       * </pre>
+       */
+      public Builder clearEndEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        endEpoch_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.ChangelogReq)
+    }
+
+    static {
+      defaultInstance = new ChangelogReq(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.ChangelogReq)
+  }
+
+  public interface RegistrationRespOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.RegistrationResp)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint64 init_epoch = 1;</code>
+     *
+     * <pre>
+     * client checks that initial epoch and epoch interval are specified
+     * </pre>
+     */
+    boolean hasInitEpoch();
+    /**
+     * <code>optional uint64 init_epoch = 1;</code>
+     *
+     * <pre>
+     * client checks that initial epoch and epoch interval are specified
+     * </pre>
+     */
+    long getInitEpoch();
+
+    /**
+     * <code>optional uint32 epoch_interval = 2;</code>
+     */
+    boolean hasEpochInterval();
+    /**
+     * <code>optional uint32 epoch_interval = 2;</code>
+     */
+    int getEpochInterval();
+  }
+  /**
+   * Protobuf type {@code org.coniks.coniks_common.RegistrationResp}
+   */
+  public static final class RegistrationResp extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.RegistrationResp)
+      RegistrationRespOrBuilder {
+    // Use RegistrationResp.newBuilder() to construct.
+    private RegistrationResp(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private RegistrationResp(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final RegistrationResp defaultInstance;
+    public static RegistrationResp getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public RegistrationResp getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RegistrationResp(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              initEpoch_ = input.readUInt64();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              epochInterval_ = input.readUInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_RegistrationResp_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_RegistrationResp_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.coniks.coniks_common.C2SProtos.RegistrationResp.class, org.coniks.coniks_common.C2SProtos.RegistrationResp.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<RegistrationResp> PARSER =
+        new com.google.protobuf.AbstractParser<RegistrationResp>() {
+      public RegistrationResp parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RegistrationResp(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RegistrationResp> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int INIT_EPOCH_FIELD_NUMBER = 1;
+    private long initEpoch_;
+    /**
+     * <code>optional uint64 init_epoch = 1;</code>
+     *
+     * <pre>
+     * client checks that initial epoch and epoch interval are specified
+     * </pre>
+     */
+    public boolean hasInitEpoch() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint64 init_epoch = 1;</code>
+     *
+     * <pre>
+     * client checks that initial epoch and epoch interval are specified
+     * </pre>
+     */
+    public long getInitEpoch() {
+      return initEpoch_;
+    }
+
+    public static final int EPOCH_INTERVAL_FIELD_NUMBER = 2;
+    private int epochInterval_;
+    /**
+     * <code>optional uint32 epoch_interval = 2;</code>
+     */
+    public boolean hasEpochInterval() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional uint32 epoch_interval = 2;</code>
+     */
+    public int getEpochInterval() {
+      return epochInterval_;
+    }
+
+    private void initFields() {
+      initEpoch_ = 0L;
+      epochInterval_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(1, initEpoch_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt32(2, epochInterval_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, initEpoch_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, epochInterval_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.RegistrationResp parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.RegistrationResp prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.coniks.coniks_common.RegistrationResp}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.RegistrationResp)
+        org.coniks.coniks_common.C2SProtos.RegistrationRespOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_RegistrationResp_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_RegistrationResp_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.coniks.coniks_common.C2SProtos.RegistrationResp.class, org.coniks.coniks_common.C2SProtos.RegistrationResp.Builder.class);
+      }
+
+      // Construct using org.coniks.coniks_common.C2SProtos.RegistrationResp.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        initEpoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        epochInterval_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_RegistrationResp_descriptor;
+      }
+
+      public org.coniks.coniks_common.C2SProtos.RegistrationResp getDefaultInstanceForType() {
+        return org.coniks.coniks_common.C2SProtos.RegistrationResp.getDefaultInstance();
+      }
+
+      public org.coniks.coniks_common.C2SProtos.RegistrationResp build() {
+        org.coniks.coniks_common.C2SProtos.RegistrationResp result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.coniks.coniks_common.C2SProtos.RegistrationResp buildPartial() {
+        org.coniks.coniks_common.C2SProtos.RegistrationResp result = new org.coniks.coniks_common.C2SProtos.RegistrationResp(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.initEpoch_ = initEpoch_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.epochInterval_ = epochInterval_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.coniks.coniks_common.C2SProtos.RegistrationResp) {
+          return mergeFrom((org.coniks.coniks_common.C2SProtos.RegistrationResp)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.RegistrationResp other) {
+        if (other == org.coniks.coniks_common.C2SProtos.RegistrationResp.getDefaultInstance()) return this;
+        if (other.hasInitEpoch()) {
+          setInitEpoch(other.getInitEpoch());
+        }
+        if (other.hasEpochInterval()) {
+          setEpochInterval(other.getEpochInterval());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.coniks.coniks_common.C2SProtos.RegistrationResp parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.coniks.coniks_common.C2SProtos.RegistrationResp) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long initEpoch_ ;
+      /**
+       * <code>optional uint64 init_epoch = 1;</code>
+       *
+       * <pre>
+       * client checks that initial epoch and epoch interval are specified
+       * </pre>
+       */
+      public boolean hasInitEpoch() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional uint64 init_epoch = 1;</code>
+       *
+       * <pre>
+       * client checks that initial epoch and epoch interval are specified
+       * </pre>
+       */
+      public long getInitEpoch() {
+        return initEpoch_;
+      }
+      /**
+       * <code>optional uint64 init_epoch = 1;</code>
+       *
+       * <pre>
+       * client checks that initial epoch and epoch interval are specified
+       * </pre>
+       */
+      public Builder setInitEpoch(long value) {
+        bitField0_ |= 0x00000001;
+        initEpoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 init_epoch = 1;</code>
+       *
+       * <pre>
+       * client checks that initial epoch and epoch interval are specified
+       * </pre>
+       */
+      public Builder clearInitEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        initEpoch_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int epochInterval_ ;
+      /**
+       * <code>optional uint32 epoch_interval = 2;</code>
+       */
+      public boolean hasEpochInterval() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional uint32 epoch_interval = 2;</code>
+       */
+      public int getEpochInterval() {
+        return epochInterval_;
+      }
+      /**
+       * <code>optional uint32 epoch_interval = 2;</code>
+       */
+      public Builder setEpochInterval(int value) {
+        bitField0_ |= 0x00000002;
+        epochInterval_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 epoch_interval = 2;</code>
+       */
+      public Builder clearEpochInterval() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        epochInterval_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.RegistrationResp)
+    }
+
+    static {
+      defaultInstance = new RegistrationResp(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.RegistrationResp)
+  }
+
+  public interface AuthPathOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.AuthPath)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     *
+     * <pre>
+     * client checks if leaf is specified
+     * </pre>
+     */
+    boolean hasLeaf();
+    /**
+     * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     *
+     * <pre>
+     * client checks if leaf is specified
+     * </pre>
+     */
+    org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode getLeaf();
+    /**
+     * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     *
+     * <pre>
+     * client checks if leaf is specified
+     * </pre>
+     */
+    org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder getLeafOrBuilder();
+
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+     */
+    java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode> 
+        getInteriorList();
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+     */
+    org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode getInterior(int index);
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+     */
+    int getInteriorCount();
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+     */
+    java.util.List<? extends org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder> 
+        getInteriorOrBuilderList();
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+     */
+    org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder getInteriorOrBuilder(
+        int index);
+
+    /**
+     * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+     */
+    boolean hasRoot();
+    /**
+     * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+     */
+    org.coniks.coniks_common.C2SProtos.AuthPath.RootNode getRoot();
+    /**
+     * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+     */
+    org.coniks.coniks_common.C2SProtos.AuthPath.RootNodeOrBuilder getRootOrBuilder();
+
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+     *
+     * <pre>
+     * from the leaf's parent up to the root, so the root comes last
+     * </pre>
+     */
+    java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode> 
+        getRadixNodeList();
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+     *
+     * <pre>
+     * from the leaf's parent up to the root, so the root comes last
+     * </pre>
+     */
+    org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode getRadixNode(int index);
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+     *
+     * <pre>
+     * from the leaf's parent up to the root, so the root comes last
+     * </pre>
+     */
+    int getRadixNodeCount();
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+     *
+     * <pre>
+     * from the leaf's parent up to the root, so the root comes last
+     * </pre>
+     */
+    java.util.List<? extends org.coniks.coniks_common.C2SProtos.AuthPath.RadixNodeOrBuilder> 
+        getRadixNodeOrBuilderList();
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+     *
+     * <pre>
+     * from the leaf's parent up to the root, so the root comes last
+     * </pre>
+     */
+    org.coniks.coniks_common.C2SProtos.AuthPath.RadixNodeOrBuilder getRadixNodeOrBuilder(
+        int index);
+
+    /**
+     * <code>optional bytes sparse_mask = 5;</code>
+     *
+     * <pre>
+     * in sparse trees, the path has a sibling at every depth of the tree:
+     * bit i of the mask (most significant bit first) is set if the sibling
+     * at depth i+1 is non-empty, and only the non-empty siblings are sent,
+     * from the leaf upwards
+     * </pre>
+     */
+    boolean hasSparseMask();
+    /**
+     * <code>optional bytes sparse_mask = 5;</code>
+     *
+     * <pre>
+     * in sparse trees, the path has a sibling at every depth of the tree:
+     * bit i of the mask (most significant bit first) is set if the sibling
+     * at depth i+1 is non-empty, and only the non-empty siblings are sent,
+     * from the leaf upwards
+     * </pre>
+     */
+    com.google.protobuf.ByteString getSparseMask();
+
+    /**
+     * <code>repeated bytes sparse_sibling = 6;</code>
+     */
+    java.util.List<com.google.protobuf.ByteString> getSparseSiblingList();
+    /**
+     * <code>repeated bytes sparse_sibling = 6;</code>
+     */
+    int getSparseSiblingCount();
+    /**
+     * <code>repeated bytes sparse_sibling = 6;</code>
+     */
+    com.google.protobuf.ByteString getSparseSibling(int index);
+  }
+  /**
+   * Protobuf type {@code org.coniks.coniks_common.AuthPath}
+   */
+  public static final class AuthPath extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.AuthPath)
+      AuthPathOrBuilder {
+    // Use AuthPath.newBuilder() to construct.
+    private AuthPath(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private AuthPath(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final AuthPath defaultInstance;
+    public static AuthPath getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public AuthPath getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private AuthPath(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = leaf_.toBuilder();
+              }
+              leaf_ = input.readMessage(org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(leaf_);
+                leaf_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                interior_ = new java.util.ArrayList<org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              interior_.add(input.readMessage(org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.PARSER, extensionRegistry));
+              break;
+            }
+            case 26: {
+              org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = root_.toBuilder();
+              }
+              root_ = input.readMessage(org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(root_);
+                root_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                radixNode_ = new java.util.ArrayList<org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              radixNode_.add(input.readMessage(org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.PARSER, extensionRegistry));
+              break;
+            }
+            case 42: {
+              bitField0_ |= 0x00000004;
+              sparseMask_ = input.readBytes();
+              break;
+            }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                sparseSibling_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              sparseSibling_.add(input.readBytes());
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          interior_ = java.util.Collections.unmodifiableList(interior_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          radixNode_ = java.util.Collections.unmodifiableList(radixNode_);
+        }
+        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+          sparseSibling_ = java.util.Collections.unmodifiableList(sparseSibling_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.coniks.coniks_common.C2SProtos.AuthPath.class, org.coniks.coniks_common.C2SProtos.AuthPath.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<AuthPath> PARSER =
+        new com.google.protobuf.AbstractParser<AuthPath>() {
+      public AuthPath parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AuthPath(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AuthPath> getParserForType() {
+      return PARSER;
+    }
+
+    /**
+     * Protobuf enum {@code org.coniks.coniks_common.AuthPath.PrunedChild}
+     *
+     * <pre>
+     * indicates if the hash is for the left or right subtree
+     * </pre>
+     */
+    public enum PrunedChild
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>LEFT = 0;</code>
+       */
+      LEFT(0, 0),
+      /**
+       * <code>RIGHT = 1;</code>
+       */
+      RIGHT(1, 1),
+      ;
+
+      /**
+       * <code>LEFT = 0;</code>
+       */
+      public static final int LEFT_VALUE = 0;
+      /**
+       * <code>RIGHT = 1;</code>
+       */
+      public static final int RIGHT_VALUE = 1;
+
+
+      public final int getNumber() { return value; }
+
+      public static PrunedChild valueOf(int value) {
+        switch (value) {
+          case 0: return LEFT;
+          case 1: return RIGHT;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<PrunedChild>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static com.google.protobuf.Internal.EnumLiteMap<PrunedChild>
+          internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<PrunedChild>() {
+              public PrunedChild findValueByNumber(int number) {
+                return PrunedChild.valueOf(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(index);
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return org.coniks.coniks_common.C2SProtos.AuthPath.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final PrunedChild[] VALUES = values();
+
+      public static PrunedChild valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int index;
+      private final int value;
+
+      private PrunedChild(int index, int value) {
+        this.index = index;
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:org.coniks.coniks_common.AuthPath.PrunedChild)
+    }
+
+    public interface UserLeafNodeOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.AuthPath.UserLeafNode)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * client does not assume server has not sent malformed leaf node
+       * </pre>
+       */
+      boolean hasName();
+      /**
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * client does not assume server has not sent malformed leaf node
+       * </pre>
+       */
+      java.lang.String getName();
+      /**
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * client does not assume server has not sent malformed leaf node
+       * </pre>
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <code>optional string publickey = 2;</code>
+       */
+      boolean hasPublickey();
+      /**
+       * <code>optional string publickey = 2;</code>
+       */
+      java.lang.String getPublickey();
+      /**
+       * <code>optional string publickey = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getPublickeyBytes();
+
+      /**
+       * <code>optional uint64 epoch_added = 3;</code>
+       */
+      boolean hasEpochAdded();
+      /**
+       * <code>optional uint64 epoch_added = 3;</code>
+       */
+      long getEpochAdded();
+
+      /**
+       * <code>optional uint64 epoch_changed = 4;</code>
+       */
+      boolean hasEpochChanged();
+      /**
+       * <code>optional uint64 epoch_changed = 4;</code>
+       */
+      long getEpochChanged();
+
+      /**
+       * <code>optional bool allows_unsigned_keychange = 5;</code>
+       */
+      boolean hasAllowsUnsignedKeychange();
+      /**
+       * <code>optional bool allows_unsigned_keychange = 5;</code>
+       */
+      boolean getAllowsUnsignedKeychange();
+
+      /**
+       * <code>optional bool allows_public_lookup = 6;</code>
+       */
+      boolean hasAllowsPublicLookup();
+      /**
+       * <code>optional bool allows_public_lookup = 6;</code>
+       */
+      boolean getAllowsPublicLookup();
+
+      /**
+       * <code>optional bytes lookup_index = 7;</code>
+       */
+      boolean hasLookupIndex();
+      /**
+       * <code>optional bytes lookup_index = 7;</code>
+       */
+      com.google.protobuf.ByteString getLookupIndex();
+
+      /**
+       * <code>optional uint32 intlevels = 8;</code>
+       *
+       * <pre>
+       * needed so client can loop over interior nodes
+       * </pre>
+       */
+      boolean hasIntlevels();
+      /**
+       * <code>optional uint32 intlevels = 8;</code>
+       *
+       * <pre>
+       * needed so client can loop over interior nodes
+       * </pre>
+       */
+      int getIntlevels();
+
+      /**
+       * <code>optional bytes signature = 9;</code>
+       */
+      boolean hasSignature();
+      /**
+       * <code>optional bytes signature = 9;</code>
+       */
+      com.google.protobuf.ByteString getSignature();
+
+      /**
+       * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+       */
+      boolean hasChangeKey();
+      /**
+       * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+       */
+      org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto getChangeKey();
+      /**
+       * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+       */
+      org.coniks.coniks_common.C2SProtos.DSAPublicKeyProtoOrBuilder getChangeKeyOrBuilder();
+
+      /**
+       * <code>optional bytes lastMsg = 11;</code>
+       */
+      boolean hasLastMsg();
+      /**
+       * <code>optional bytes lastMsg = 11;</code>
+       */
+      com.google.protobuf.ByteString getLastMsg();
+
+      /**
+       * <code>optional bytes ed25519ChangeKey = 12;</code>
+       *
+       * <pre>
+       * set instead of changeKey for Ed25519 keys
+       * </pre>
+       */
+      boolean hasEd25519ChangeKey();
+      /**
+       * <code>optional bytes ed25519ChangeKey = 12;</code>
+       *
+       * <pre>
+       * set instead of changeKey for Ed25519 keys
+       * </pre>
+       */
+      com.google.protobuf.ByteString getEd25519ChangeKey();
+
+      /**
+       * <code>optional uint32 leafFormat = 13;</code>
+       *
+       * <pre>
+       * node hash format, see LeafFormat; unset means 1
+       * </pre>
+       */
+      boolean hasLeafFormat();
+      /**
+       * <code>optional uint32 leafFormat = 13;</code>
+       *
+       * <pre>
+       * node hash format, see LeafFormat; unset means 1
+       * </pre>
+       */
+      int getLeafFormat();
+
+      /**
+       * <code>optional string hashAlgorithm = 14;</code>
+       *
+       * <pre>
+       * tree hash function; unset means SHA-256
+       * </pre>
+       */
+      boolean hasHashAlgorithm();
+      /**
+       * <code>optional string hashAlgorithm = 14;</code>
+       *
+       * <pre>
+       * tree hash function; unset means SHA-256
+       * </pre>
+       */
+      java.lang.String getHashAlgorithm();
+      /**
+       * <code>optional string hashAlgorithm = 14;</code>
+       *
+       * <pre>
+       * tree hash function; unset means SHA-256
+       * </pre>
+       */
+      com.google.protobuf.ByteString
+          getHashAlgorithmBytes();
+
+      /**
+       * <code>optional uint32 treeRadix = 15;</code>
+       *
+       * <pre>
+       * branching factor of the tree; unset means 2
+       * </pre>
+       */
+      boolean hasTreeRadix();
+      /**
+       * <code>optional uint32 treeRadix = 15;</code>
+       *
+       * <pre>
+       * branching factor of the tree; unset means 2
+       * </pre>
+       */
+      int getTreeRadix();
+
+      /**
+       * <code>optional bool sparseTree = 16;</code>
+       *
+       * <pre>
+       * fixed-depth sparse Merkle tree; unset means prefix tree
+       * </pre>
+       */
+      boolean hasSparseTree();
+      /**
+       * <code>optional bool sparseTree = 16;</code>
+       *
+       * <pre>
+       * fixed-depth sparse Merkle tree; unset means prefix tree
+       * </pre>
+       */
+      boolean getSparseTree();
+    }
+    /**
+     * Protobuf type {@code org.coniks.coniks_common.AuthPath.UserLeafNode}
+     *
+     * <pre>
+     * auth path consists of user leaf node, possibly interior nodes, and root node
+     * </pre>
+     */
+    public static final class UserLeafNode extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.AuthPath.UserLeafNode)
+        UserLeafNodeOrBuilder {
+      // Use UserLeafNode.newBuilder() to construct.
+      private UserLeafNode(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private UserLeafNode(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final UserLeafNode defaultInstance;
+      public static UserLeafNode getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public UserLeafNode getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private UserLeafNode(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                name_ = bs;
+                break;
+              }
+              case 18: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000002;
+                publickey_ = bs;
+                break;
+              }
+              case 24: {
+                bitField0_ |= 0x00000004;
+                epochAdded_ = input.readUInt64();
+                break;
+              }
+              case 32: {
+                bitField0_ |= 0x00000008;
+                epochChanged_ = input.readUInt64();
+                break;
+              }
+              case 40: {
+                bitField0_ |= 0x00000010;
+                allowsUnsignedKeychange_ = input.readBool();
+                break;
+              }
+              case 48: {
+                bitField0_ |= 0x00000020;
+                allowsPublicLookup_ = input.readBool();
+                break;
+              }
+              case 58: {
+                bitField0_ |= 0x00000040;
+                lookupIndex_ = input.readBytes();
+                break;
+              }
+              case 64: {
+                bitField0_ |= 0x00000080;
+                intlevels_ = input.readUInt32();
+                break;
+              }
+              case 74: {
+                bitField0_ |= 0x00000100;
+                signature_ = input.readBytes();
+                break;
+              }
+              case 82: {
+                org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.Builder subBuilder = null;
+                if (((bitField0_ & 0x00000200) == 0x00000200)) {
+                  subBuilder = changeKey_.toBuilder();
+                }
+                changeKey_ = input.readMessage(org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.PARSER, extensionRegistry);
+                if (subBuilder != null) {
+                  subBuilder.mergeFrom(changeKey_);
+                  changeKey_ = subBuilder.buildPartial();
+                }
+                bitField0_ |= 0x00000200;
+                break;
+              }
+              case 90: {
+                bitField0_ |= 0x00000400;
+                lastMsg_ = input.readBytes();
+                break;
+              }
+              case 98: {
+                bitField0_ |= 0x00000800;
+                ed25519ChangeKey_ = input.readBytes();
+                break;
+              }
+              case 104: {
+                bitField0_ |= 0x00001000;
+                leafFormat_ = input.readUInt32();
+                break;
+              }
+              case 114: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00002000;
+                hashAlgorithm_ = bs;
+                break;
+              }
+              case 120: {
+                bitField0_ |= 0x00004000;
+                treeRadix_ = input.readUInt32();
+                break;
+              }
+              case 128: {
+                bitField0_ |= 0x00008000;
+                sparseTree_ = input.readBool();
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_UserLeafNode_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_UserLeafNode_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.class, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<UserLeafNode> PARSER =
+          new com.google.protobuf.AbstractParser<UserLeafNode>() {
+        public UserLeafNode parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new UserLeafNode(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<UserLeafNode> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int NAME_FIELD_NUMBER = 1;
+      private java.lang.Object name_;
+      /**
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * client does not assume server has not sent malformed leaf node
+       * </pre>
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * client does not assume server has not sent malformed leaf node
+       * </pre>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * client does not assume server has not sent malformed leaf node
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int PUBLICKEY_FIELD_NUMBER = 2;
+      private java.lang.Object publickey_;
+      /**
+       * <code>optional string publickey = 2;</code>
+       */
+      public boolean hasPublickey() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string publickey = 2;</code>
+       */
+      public java.lang.String getPublickey() {
+        java.lang.Object ref = publickey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            publickey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string publickey = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPublickeyBytes() {
+        java.lang.Object ref = publickey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          publickey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int EPOCH_ADDED_FIELD_NUMBER = 3;
+      private long epochAdded_;
+      /**
+       * <code>optional uint64 epoch_added = 3;</code>
+       */
+      public boolean hasEpochAdded() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional uint64 epoch_added = 3;</code>
+       */
+      public long getEpochAdded() {
+        return epochAdded_;
+      }
+
+      public static final int EPOCH_CHANGED_FIELD_NUMBER = 4;
+      private long epochChanged_;
+      /**
+       * <code>optional uint64 epoch_changed = 4;</code>
+       */
+      public boolean hasEpochChanged() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional uint64 epoch_changed = 4;</code>
+       */
+      public long getEpochChanged() {
+        return epochChanged_;
+      }
+
+      public static final int ALLOWS_UNSIGNED_KEYCHANGE_FIELD_NUMBER = 5;
+      private boolean allowsUnsignedKeychange_;
+      /**
+       * <code>optional bool allows_unsigned_keychange = 5;</code>
+       */
+      public boolean hasAllowsUnsignedKeychange() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional bool allows_unsigned_keychange = 5;</code>
+       */
+      public boolean getAllowsUnsignedKeychange() {
+        return allowsUnsignedKeychange_;
+      }
+
+      public static final int ALLOWS_PUBLIC_LOOKUP_FIELD_NUMBER = 6;
+      private boolean allowsPublicLookup_;
+      /**
+       * <code>optional bool allows_public_lookup = 6;</code>
+       */
+      public boolean hasAllowsPublicLookup() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional bool allows_public_lookup = 6;</code>
+       */
+      public boolean getAllowsPublicLookup() {
+        return allowsPublicLookup_;
+      }
+
+      public static final int LOOKUP_INDEX_FIELD_NUMBER = 7;
+      private com.google.protobuf.ByteString lookupIndex_;
+      /**
+       * <code>optional bytes lookup_index = 7;</code>
+       */
+      public boolean hasLookupIndex() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional bytes lookup_index = 7;</code>
+       */
+      public com.google.protobuf.ByteString getLookupIndex() {
+        return lookupIndex_;
+      }
+
+      public static final int INTLEVELS_FIELD_NUMBER = 8;
+      private int intlevels_;
+      /**
+       * <code>optional uint32 intlevels = 8;</code>
+       *
+       * <pre>
+       * needed so client can loop over interior nodes
+       * </pre>
+       */
+      public boolean hasIntlevels() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional uint32 intlevels = 8;</code>
+       *
+       * <pre>
+       * needed so client can loop over interior nodes
+       * </pre>
+       */
+      public int getIntlevels() {
+        return intlevels_;
+      }
+
+      public static final int SIGNATURE_FIELD_NUMBER = 9;
+      private com.google.protobuf.ByteString signature_;
+      /**
+       * <code>optional bytes signature = 9;</code>
+       */
+      public boolean hasSignature() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional bytes signature = 9;</code>
+       */
+      public com.google.protobuf.ByteString getSignature() {
+        return signature_;
+      }
+
+      public static final int CHANGEKEY_FIELD_NUMBER = 10;
+      private org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto changeKey_;
+      /**
+       * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+       */
+      public boolean hasChangeKey() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+       */
+      public org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto getChangeKey() {
+        return changeKey_;
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+       */
+      public org.coniks.coniks_common.C2SProtos.DSAPublicKeyProtoOrBuilder getChangeKeyOrBuilder() {
+        return changeKey_;
+      }
+
+      public static final int LASTMSG_FIELD_NUMBER = 11;
+      private com.google.protobuf.ByteString lastMsg_;
+      /**
+       * <code>optional bytes lastMsg = 11;</code>
+       */
+      public boolean hasLastMsg() {
+        return ((bitField0_ & 0x00000400) == 0x00000400);
+      }
+      /**
+       * <code>optional bytes lastMsg = 11;</code>
+       */
+      public com.google.protobuf.ByteString getLastMsg() {
+        return lastMsg_;
+      }
+
+      public static final int ED25519CHANGEKEY_FIELD_NUMBER = 12;
+      private com.google.protobuf.ByteString ed25519ChangeKey_;
+      /**
+       * <code>optional bytes ed25519ChangeKey = 12;</code>
+       *
+       * <pre>
+       * set instead of changeKey for Ed25519 keys
+       * </pre>
+       */
+      public boolean hasEd25519ChangeKey() {
+        return ((bitField0_ & 0x00000800) == 0x00000800);
+      }
+      /**
+       * <code>optional bytes ed25519ChangeKey = 12;</code>
+       *
+       * <pre>
+       * set instead of changeKey for Ed25519 keys
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getEd25519ChangeKey() {
+        return ed25519ChangeKey_;
+      }
+
+      public static final int LEAFFORMAT_FIELD_NUMBER = 13;
+      private int leafFormat_;
+      /**
+       * <code>optional uint32 leafFormat = 13;</code>
+       *
+       * <pre>
+       * node hash format, see LeafFormat; unset means 1
+       * </pre>
+       */
+      public boolean hasLeafFormat() {
+        return ((bitField0_ & 0x00001000) == 0x00001000);
+      }
+      /**
+       * <code>optional uint32 leafFormat = 13;</code>
+       *
+       * <pre>
+       * node hash format, see LeafFormat; unset means 1
+       * </pre>
+       */
+      public int getLeafFormat() {
+        return leafFormat_;
+      }
+
+      public static final int HASHALGORITHM_FIELD_NUMBER = 14;
+      private java.lang.Object hashAlgorithm_;
+      /**
+       * <code>optional string hashAlgorithm = 14;</code>
+       *
+       * <pre>
+       * tree hash function; unset means SHA-256
+       * </pre>
+       */
+      public boolean hasHashAlgorithm() {
+        return ((bitField0_ & 0x00002000) == 0x00002000);
+      }
+      /**
+       * <code>optional string hashAlgorithm = 14;</code>
+       *
+       * <pre>
+       * tree hash function; unset means SHA-256
+       * </pre>
+       */
+      public java.lang.String getHashAlgorithm() {
+        java.lang.Object ref = hashAlgorithm_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            hashAlgorithm_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string hashAlgorithm = 14;</code>
+       *
+       * <pre>
+       * tree hash function; unset means SHA-256
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getHashAlgorithmBytes() {
+        java.lang.Object ref = hashAlgorithm_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          hashAlgorithm_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int TREERADIX_FIELD_NUMBER = 15;
+      private int treeRadix_;
+      /**
+       * <code>optional uint32 treeRadix = 15;</code>
+       *
+       * <pre>
+       * branching factor of the tree; unset means 2
+       * </pre>
+       */
+      public boolean hasTreeRadix() {
+        return ((bitField0_ & 0x00004000) == 0x00004000);
+      }
+      /**
+       * <code>optional uint32 treeRadix = 15;</code>
+       *
+       * <pre>
+       * branching factor of the tree; unset means 2
+       * </pre>
+       */
+      public int getTreeRadix() {
+        return treeRadix_;
+      }
+
+      public static final int SPARSETREE_FIELD_NUMBER = 16;
+      private boolean sparseTree_;
+      /**
+       * <code>optional bool sparseTree = 16;</code>
+       *
+       * <pre>
+       * fixed-depth sparse Merkle tree; unset means prefix tree
+       * </pre>
+       */
+      public boolean hasSparseTree() {
+        return ((bitField0_ & 0x00008000) == 0x00008000);
+      }
+      /**
+       * <code>optional bool sparseTree = 16;</code>
+       *
+       * <pre>
+       * fixed-depth sparse Merkle tree; unset means prefix tree
+       * </pre>
+       */
+      public boolean getSparseTree() {
+        return sparseTree_;
+      }
+
+      private void initFields() {
+        name_ = "";
+        publickey_ = "";
+        epochAdded_ = 0L;
+        epochChanged_ = 0L;
+        allowsUnsignedKeychange_ = false;
+        allowsPublicLookup_ = false;
+        lookupIndex_ = com.google.protobuf.ByteString.EMPTY;
+        intlevels_ = 0;
+        signature_ = com.google.protobuf.ByteString.EMPTY;
+        changeKey_ = org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.getDefaultInstance();
+        lastMsg_ = com.google.protobuf.ByteString.EMPTY;
+        ed25519ChangeKey_ = com.google.protobuf.ByteString.EMPTY;
+        leafFormat_ = 0;
+        hashAlgorithm_ = "";
+        treeRadix_ = 0;
+        sparseTree_ = false;
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        if (hasChangeKey()) {
+          if (!getChangeKey().isInitialized()) {
+            memoizedIsInitialized = 0;
+            return false;
+          }
+        }
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, getPublickeyBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeUInt64(3, epochAdded_);
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          output.writeUInt64(4, epochChanged_);
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          output.writeBool(5, allowsUnsignedKeychange_);
+        }
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          output.writeBool(6, allowsPublicLookup_);
+        }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          output.writeBytes(7, lookupIndex_);
+        }
+        if (((bitField0_ & 0x00000080) == 0x00000080)) {
+          output.writeUInt32(8, intlevels_);
+        }
+        if (((bitField0_ & 0x00000100) == 0x00000100)) {
+          output.writeBytes(9, signature_);
+        }
+        if (((bitField0_ & 0x00000200) == 0x00000200)) {
+          output.writeMessage(10, changeKey_);
+        }
+        if (((bitField0_ & 0x00000400) == 0x00000400)) {
+          output.writeBytes(11, lastMsg_);
+        }
+        if (((bitField0_ & 0x00000800) == 0x00000800)) {
+          output.writeBytes(12, ed25519ChangeKey_);
+        }
+        if (((bitField0_ & 0x00001000) == 0x00001000)) {
+          output.writeUInt32(13, leafFormat_);
+        }
+        if (((bitField0_ & 0x00002000) == 0x00002000)) {
+          output.writeBytes(14, getHashAlgorithmBytes());
+        }
+        if (((bitField0_ & 0x00004000) == 0x00004000)) {
+          output.writeUInt32(15, treeRadix_);
+        }
+        if (((bitField0_ & 0x00008000) == 0x00008000)) {
+          output.writeBool(16, sparseTree_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, getPublickeyBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt64Size(3, epochAdded_);
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt64Size(4, epochChanged_);
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(5, allowsUnsignedKeychange_);
+        }
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(6, allowsPublicLookup_);
+        }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(7, lookupIndex_);
+        }
+        if (((bitField0_ & 0x00000080) == 0x00000080)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(8, intlevels_);
+        }
+        if (((bitField0_ & 0x00000100) == 0x00000100)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(9, signature_);
+        }
+        if (((bitField0_ & 0x00000200) == 0x00000200)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(10, changeKey_);
+        }
+        if (((bitField0_ & 0x00000400) == 0x00000400)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(11, lastMsg_);
+        }
+        if (((bitField0_ & 0x00000800) == 0x00000800)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(12, ed25519ChangeKey_);
+        }
+        if (((bitField0_ & 0x00001000) == 0x00001000)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(13, leafFormat_);
+        }
+        if (((bitField0_ & 0x00002000) == 0x00002000)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(14, getHashAlgorithmBytes());
+        }
+        if (((bitField0_ & 0x00004000) == 0x00004000)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(15, treeRadix_);
+        }
+        if (((bitField0_ & 0x00008000) == 0x00008000)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(16, sparseTree_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code org.coniks.coniks_common.AuthPath.UserLeafNode}
+       *
+       * <pre>
+       * auth path consists of user leaf node, possibly interior nodes, and root node
+       * </pre>
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.AuthPath.UserLeafNode)
+          org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_UserLeafNode_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_UserLeafNode_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.class, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder.class);
+        }
+
+        // Construct using org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getChangeKeyFieldBuilder();
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          name_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          publickey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000002);
+          epochAdded_ = 0L;
+          bitField0_ = (bitField0_ & ~0x00000004);
+          epochChanged_ = 0L;
+          bitField0_ = (bitField0_ & ~0x00000008);
+          allowsUnsignedKeychange_ = false;
+          bitField0_ = (bitField0_ & ~0x00000010);
+          allowsPublicLookup_ = false;
+          bitField0_ = (bitField0_ & ~0x00000020);
+          lookupIndex_ = com.google.protobuf.ByteString.EMPTY;
+          bitField0_ = (bitField0_ & ~0x00000040);
+          intlevels_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000080);
+          signature_ = com.google.protobuf.ByteString.EMPTY;
+          bitField0_ = (bitField0_ & ~0x00000100);
+          if (changeKeyBuilder_ == null) {
+            changeKey_ = org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.getDefaultInstance();
+          } else {
+            changeKeyBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000200);
+          lastMsg_ = com.google.protobuf.ByteString.EMPTY;
+          bitField0_ = (bitField0_ & ~0x00000400);
+          ed25519ChangeKey_ = com.google.protobuf.ByteString.EMPTY;
+          bitField0_ = (bitField0_ & ~0x00000800);
+          leafFormat_ = 0;
+          bitField0_ = (bitField0_ & ~0x00001000);
+          hashAlgorithm_ = "";
+          bitField0_ = (bitField0_ & ~0x00002000);
+          treeRadix_ = 0;
+          bitField0_ = (bitField0_ & ~0x00004000);
+          sparseTree_ = false;
+          bitField0_ = (bitField0_ & ~0x00008000);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_UserLeafNode_descriptor;
+        }
+
+        public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode getDefaultInstanceForType() {
+          return org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.getDefaultInstance();
+        }
+
+        public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode build() {
+          org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode buildPartial() {
+          org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode result = new org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.name_ = name_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.publickey_ = publickey_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.epochAdded_ = epochAdded_;
+          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.epochChanged_ = epochChanged_;
+          if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+            to_bitField0_ |= 0x00000010;
+          }
+          result.allowsUnsignedKeychange_ = allowsUnsignedKeychange_;
+          if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+            to_bitField0_ |= 0x00000020;
+          }
+          result.allowsPublicLookup_ = allowsPublicLookup_;
+          if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+            to_bitField0_ |= 0x00000040;
+          }
+          result.lookupIndex_ = lookupIndex_;
+          if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+            to_bitField0_ |= 0x00000080;
+          }
+          result.intlevels_ = intlevels_;
+          if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+            to_bitField0_ |= 0x00000100;
+          }
+          result.signature_ = signature_;
+          if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+            to_bitField0_ |= 0x00000200;
+          }
+          if (changeKeyBuilder_ == null) {
+            result.changeKey_ = changeKey_;
+          } else {
+            result.changeKey_ = changeKeyBuilder_.build();
+          }
+          if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+            to_bitField0_ |= 0x00000400;
+          }
+          result.lastMsg_ = lastMsg_;
+          if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
+            to_bitField0_ |= 0x00000800;
+          }
+          result.ed25519ChangeKey_ = ed25519ChangeKey_;
+          if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
+            to_bitField0_ |= 0x00001000;
+          }
+          result.leafFormat_ = leafFormat_;
+          if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
+            to_bitField0_ |= 0x00002000;
+          }
+          result.hashAlgorithm_ = hashAlgorithm_;
+          if (((from_bitField0_ & 0x00004000) == 0x00004000)) {
+            to_bitField0_ |= 0x00004000;
+          }
+          result.treeRadix_ = treeRadix_;
+          if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
+            to_bitField0_ |= 0x00008000;
+          }
+          result.sparseTree_ = sparseTree_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode) {
+            return mergeFrom((org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode other) {
+          if (other == org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.getDefaultInstance()) return this;
+          if (other.hasName()) {
+            bitField0_ |= 0x00000001;
+            name_ = other.name_;
+            onChanged();
+          }
+          if (other.hasPublickey()) {
+            bitField0_ |= 0x00000002;
+            publickey_ = other.publickey_;
+            onChanged();
+          }
+          if (other.hasEpochAdded()) {
+            setEpochAdded(other.getEpochAdded());
+          }
+          if (other.hasEpochChanged()) {
+            setEpochChanged(other.getEpochChanged());
+          }
+          if (other.hasAllowsUnsignedKeychange()) {
+            setAllowsUnsignedKeychange(other.getAllowsUnsignedKeychange());
+          }
+          if (other.hasAllowsPublicLookup()) {
+            setAllowsPublicLookup(other.getAllowsPublicLookup());
+          }
+          if (other.hasLookupIndex()) {
+            setLookupIndex(other.getLookupIndex());
+          }
+          if (other.hasIntlevels()) {
+            setIntlevels(other.getIntlevels());
+          }
+          if (other.hasSignature()) {
+            setSignature(other.getSignature());
+          }
+          if (other.hasChangeKey()) {
+            mergeChangeKey(other.getChangeKey());
+          }
+          if (other.hasLastMsg()) {
+            setLastMsg(other.getLastMsg());
+          }
+          if (other.hasEd25519ChangeKey()) {
+            setEd25519ChangeKey(other.getEd25519ChangeKey());
+          }
+          if (other.hasLeafFormat()) {
+            setLeafFormat(other.getLeafFormat());
+          }
+          if (other.hasHashAlgorithm()) {
+            bitField0_ |= 0x00002000;
+            hashAlgorithm_ = other.hashAlgorithm_;
+            onChanged();
+          }
+          if (other.hasTreeRadix()) {
+            setTreeRadix(other.getTreeRadix());
+          }
+          if (other.hasSparseTree()) {
+            setSparseTree(other.getSparseTree());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          if (hasChangeKey()) {
+            if (!getChangeKey().isInitialized()) {
+              
+              return false;
+            }
+          }
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object name_ = "";
+        /**
+         * <code>optional string name = 1;</code>
+         *
+         * <pre>
+         * client does not assume server has not sent malformed leaf node
+         * </pre>
+         */
+        public boolean hasName() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         *
+         * <pre>
+         * client does not assume server has not sent malformed leaf node
+         * </pre>
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              name_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         *
+         * <pre>
+         * client does not assume server has not sent malformed leaf node
+         * </pre>
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         *
+         * <pre>
+         * client does not assume server has not sent malformed leaf node
+         * </pre>
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         *
+         * <pre>
+         * client does not assume server has not sent malformed leaf node
+         * </pre>
+         */
+        public Builder clearName() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          name_ = getDefaultInstance().getName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 1;</code>
+         *
+         * <pre>
+         * client does not assume server has not sent malformed leaf node
+         * </pre>
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object publickey_ = "";
+        /**
+         * <code>optional string publickey = 2;</code>
+         */
+        public boolean hasPublickey() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional string publickey = 2;</code>
+         */
+        public java.lang.String getPublickey() {
+          java.lang.Object ref = publickey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              publickey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string publickey = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getPublickeyBytes() {
+          java.lang.Object ref = publickey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            publickey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string publickey = 2;</code>
+         */
+        public Builder setPublickey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          publickey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string publickey = 2;</code>
+         */
+        public Builder clearPublickey() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          publickey_ = getDefaultInstance().getPublickey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string publickey = 2;</code>
+         */
+        public Builder setPublickeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          publickey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private long epochAdded_ ;
+        /**
+         * <code>optional uint64 epoch_added = 3;</code>
+         */
+        public boolean hasEpochAdded() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>optional uint64 epoch_added = 3;</code>
+         */
+        public long getEpochAdded() {
+          return epochAdded_;
+        }
+        /**
+         * <code>optional uint64 epoch_added = 3;</code>
+         */
+        public Builder setEpochAdded(long value) {
+          bitField0_ |= 0x00000004;
+          epochAdded_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint64 epoch_added = 3;</code>
+         */
+        public Builder clearEpochAdded() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          epochAdded_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        private long epochChanged_ ;
+        /**
+         * <code>optional uint64 epoch_changed = 4;</code>
+         */
+        public boolean hasEpochChanged() {
+          return ((bitField0_ & 0x00000008) == 0x00000008);
+        }
+        /**
+         * <code>optional uint64 epoch_changed = 4;</code>
+         */
+        public long getEpochChanged() {
+          return epochChanged_;
+        }
+        /**
+         * <code>optional uint64 epoch_changed = 4;</code>
+         */
+        public Builder setEpochChanged(long value) {
+          bitField0_ |= 0x00000008;
+          epochChanged_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint64 epoch_changed = 4;</code>
+         */
+        public Builder clearEpochChanged() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          epochChanged_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        private boolean allowsUnsignedKeychange_ ;
+        /**
+         * <code>optional bool allows_unsigned_keychange = 5;</code>
+         */
+        public boolean hasAllowsUnsignedKeychange() {
+          return ((bitField0_ & 0x00000010) == 0x00000010);
+        }
+        /**
+         * <code>optional bool allows_unsigned_keychange = 5;</code>
+         */
+        public boolean getAllowsUnsignedKeychange() {
+          return allowsUnsignedKeychange_;
+        }
+        /**
+         * <code>optional bool allows_unsigned_keychange = 5;</code>
+         */
+        public Builder setAllowsUnsignedKeychange(boolean value) {
+          bitField0_ |= 0x00000010;
+          allowsUnsignedKeychange_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional bool allows_unsigned_keychange = 5;</code>
+         */
+        public Builder clearAllowsUnsignedKeychange() {
+          bitField0_ = (bitField0_ & ~0x00000010);
+          allowsUnsignedKeychange_ = false;
+          onChanged();
+          return this;
+        }
+
+        private boolean allowsPublicLookup_ ;
+        /**
+         * <code>optional bool allows_public_lookup = 6;</code>
+         */
+        public boolean hasAllowsPublicLookup() {
+          return ((bitField0_ & 0x00000020) == 0x00000020);
+        }
+        /**
+         * <code>optional bool allows_public_lookup = 6;</code>
+         */
+        public boolean getAllowsPublicLookup() {
+          return allowsPublicLookup_;
+        }
+        /**
+         * <code>optional bool allows_public_lookup = 6;</code>
+         */
+        public Builder setAllowsPublicLookup(boolean value) {
+          bitField0_ |= 0x00000020;
+          allowsPublicLookup_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional bool allows_public_lookup = 6;</code>
+         */
+        public Builder clearAllowsPublicLookup() {
+          bitField0_ = (bitField0_ & ~0x00000020);
+          allowsPublicLookup_ = false;
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.ByteString lookupIndex_ = com.google.protobuf.ByteString.EMPTY;
+        /**
+         * <code>optional bytes lookup_index = 7;</code>
+         */
+        public boolean hasLookupIndex() {
+          return ((bitField0_ & 0x00000040) == 0x00000040);
+        }
+        /**
+         * <code>optional bytes lookup_index = 7;</code>
+         */
+        public com.google.protobuf.ByteString getLookupIndex() {
+          return lookupIndex_;
+        }
+        /**
+         * <code>optional bytes lookup_index = 7;</code>
+         */
+        public Builder setLookupIndex(com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+          lookupIndex_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional bytes lookup_index = 7;</code>
+         */
+        public Builder clearLookupIndex() {
+          bitField0_ = (bitField0_ & ~0x00000040);
+          lookupIndex_ = getDefaultInstance().getLookupIndex();
+          onChanged();
+          return this;
+        }
+
+        private int intlevels_ ;
+        /**
+         * <code>optional uint32 intlevels = 8;</code>
+         *
+         * <pre>
+         * needed so client can loop over interior nodes
+         * </pre>
+         */
+        public boolean hasIntlevels() {
+          return ((bitField0_ & 0x00000080) == 0x00000080);
+        }
+        /**
+         * <code>optional uint32 intlevels = 8;</code>
+         *
+         * <pre>
+         * needed so client can loop over interior nodes
+         * </pre>
+         */
+        public int getIntlevels() {
+          return intlevels_;
+        }
+        /**
+         * <code>optional uint32 intlevels = 8;</code>
+         *
+         * <pre>
+         * needed so client can loop over interior nodes
+         * </pre>
+         */
+        public Builder setIntlevels(int value) {
+          bitField0_ |= 0x00000080;
+          intlevels_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint32 intlevels = 8;</code>
+         *
+         * <pre>
+         * needed so client can loop over interior nodes
+         * </pre>
+         */
+        public Builder clearIntlevels() {
+          bitField0_ = (bitField0_ & ~0x00000080);
+          intlevels_ = 0;
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.ByteString signature_ = com.google.protobuf.ByteString.EMPTY;
+        /**
+         * <code>optional bytes signature = 9;</code>
+         */
+        public boolean hasSignature() {
+          return ((bitField0_ & 0x00000100) == 0x00000100);
+        }
+        /**
+         * <code>optional bytes signature = 9;</code>
+         */
+        public com.google.protobuf.ByteString getSignature() {
+          return signature_;
+        }
+        /**
+         * <code>optional bytes signature = 9;</code>
+         */
+        public Builder setSignature(com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000100;
+          signature_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional bytes signature = 9;</code>
+         */
+        public Builder clearSignature() {
+          bitField0_ = (bitField0_ & ~0x00000100);
+          signature_ = getDefaultInstance().getSignature();
+          onChanged();
+          return this;
+        }
+
+        private org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto changeKey_ = org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.getDefaultInstance();
+        private com.google.protobuf.SingleFieldBuilder<
+            org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto, org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.Builder, org.coniks.coniks_common.C2SProtos.DSAPublicKeyProtoOrBuilder> changeKeyBuilder_;
+        /**
+         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+         */
+        public boolean hasChangeKey() {
+          return ((bitField0_ & 0x00000200) == 0x00000200);
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+         */
+        public org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto getChangeKey() {
+          if (changeKeyBuilder_ == null) {
+            return changeKey_;
+          } else {
+            return changeKeyBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+         */
+        public Builder setChangeKey(org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto value) {
+          if (changeKeyBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            changeKey_ = value;
+            onChanged();
+          } else {
+            changeKeyBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000200;
+          return this;
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+         */
+        public Builder setChangeKey(
+            org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.Builder builderForValue) {
+          if (changeKeyBuilder_ == null) {
+            changeKey_ = builderForValue.build();
+            onChanged();
+          } else {
+            changeKeyBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000200;
+          return this;
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+         */
+        public Builder mergeChangeKey(org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto value) {
+          if (changeKeyBuilder_ == null) {
+            if (((bitField0_ & 0x00000200) == 0x00000200) &&
+                changeKey_ != org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.getDefaultInstance()) {
+              changeKey_ =
+                org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.newBuilder(changeKey_).mergeFrom(value).buildPartial();
+            } else {
+              changeKey_ = value;
+            }
+            onChanged();
+          } else {
+            changeKeyBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000200;
+          return this;
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+         */
+        public Builder clearChangeKey() {
+          if (changeKeyBuilder_ == null) {
+            changeKey_ = org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.getDefaultInstance();
+            onChanged();
+          } else {
+            changeKeyBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000200);
+          return this;
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+         */
+        public org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.Builder getChangeKeyBuilder() {
+          bitField0_ |= 0x00000200;
+          onChanged();
+          return getChangeKeyFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+         */
+        public org.coniks.coniks_common.C2SProtos.DSAPublicKeyProtoOrBuilder getChangeKeyOrBuilder() {
+          if (changeKeyBuilder_ != null) {
+            return changeKeyBuilder_.getMessageOrBuilder();
+          } else {
+            return changeKey_;
+          }
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilder<
+            org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto, org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.Builder, org.coniks.coniks_common.C2SProtos.DSAPublicKeyProtoOrBuilder> 
+            getChangeKeyFieldBuilder() {
+          if (changeKeyBuilder_ == null) {
+            changeKeyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+                org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto, org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.Builder, org.coniks.coniks_common.C2SProtos.DSAPublicKeyProtoOrBuilder>(
+                    getChangeKey(),
+                    getParentForChildren(),
+                    isClean());
+            changeKey_ = null;
+          }
+          return changeKeyBuilder_;
+        }
+
+        private com.google.protobuf.ByteString lastMsg_ = com.google.protobuf.ByteString.EMPTY;
+        /**
+         * <code>optional bytes lastMsg = 11;</code>
+         */
+        public boolean hasLastMsg() {
+          return ((bitField0_ & 0x00000400) == 0x00000400);
+        }
+        /**
+         * <code>optional bytes lastMsg = 11;</code>
+         */
+        public com.google.protobuf.ByteString getLastMsg() {
+          return lastMsg_;
+        }
+        /**
+         * <code>optional bytes lastMsg = 11;</code>
+         */
+        public Builder setLastMsg(com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
+          lastMsg_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional bytes lastMsg = 11;</code>
+         */
+        public Builder clearLastMsg() {
+          bitField0_ = (bitField0_ & ~0x00000400);
+          lastMsg_ = getDefaultInstance().getLastMsg();
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.ByteString ed25519ChangeKey_ = com.google.protobuf.ByteString.EMPTY;
+        /**
+         * <code>optional bytes ed25519ChangeKey = 12;</code>
+         *
+         * <pre>
+         * set instead of changeKey for Ed25519 keys
+         * </pre>
+         */
+        public boolean hasEd25519ChangeKey() {
+          return ((bitField0_ & 0x00000800) == 0x00000800);
+        }
+        /**
+         * <code>optional bytes ed25519ChangeKey = 12;</code>
+         *
+         * <pre>
+         * set instead of changeKey for Ed25519 keys
+         * </pre>
+         */
+        public com.google.protobuf.ByteString getEd25519ChangeKey() {
+          return ed25519ChangeKey_;
+        }
+        /**
+         * <code>optional bytes ed25519ChangeKey = 12;</code>
+         *
+         * <pre>
+         * set instead of changeKey for Ed25519 keys
+         * </pre>
+         */
+        public Builder setEd25519ChangeKey(com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000800;
+          ed25519ChangeKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional bytes ed25519ChangeKey = 12;</code>
+         *
+         * <pre>
+         * set instead of changeKey for Ed25519 keys
+         * </pre>
+         */
+        public Builder clearEd25519ChangeKey() {
+          bitField0_ = (bitField0_ & ~0x00000800);
+          ed25519ChangeKey_ = getDefaultInstance().getEd25519ChangeKey();
+          onChanged();
+          return this;
+        }
+
+        private int leafFormat_ ;
+        /**
+         * <code>optional uint32 leafFormat = 13;</code>
+         *
+         * <pre>
+         * node hash format, see LeafFormat; unset means 1
+         * </pre>
+         */
+        public boolean hasLeafFormat() {
+          return ((bitField0_ & 0x00001000) == 0x00001000);
+        }
+        /**
+         * <code>optional uint32 leafFormat = 13;</code>
+         *
+         * <pre>
+         * node hash format, see LeafFormat; unset means 1
+         * </pre>
+         */
+        public int getLeafFormat() {
+          return leafFormat_;
+        }
+        /**
+         * <code>optional uint32 leafFormat = 13;</code>
+         *
+         * <pre>
+         * node hash format, see LeafFormat; unset means 1
+         * </pre>
+         */
+        public Builder setLeafFormat(int value) {
+          bitField0_ |= 0x00001000;
+          leafFormat_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint32 leafFormat = 13;</code>
+         *
+         * <pre>
+         * node hash format, see LeafFormat; unset means 1
+         * </pre>
+         */
+        public Builder clearLeafFormat() {
+          bitField0_ = (bitField0_ & ~0x00001000);
+          leafFormat_ = 0;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object hashAlgorithm_ = "";
+        /**
+         * <code>optional string hashAlgorithm = 14;</code>
+         *
+         * <pre>
+         * tree hash function; unset means SHA-256
+         * </pre>
+         */
+        public boolean hasHashAlgorithm() {
+          return ((bitField0_ & 0x00002000) == 0x00002000);
+        }
+        /**
+         * <code>optional string hashAlgorithm = 14;</code>
+         *
+         * <pre>
+         * tree hash function; unset means SHA-256
+         * </pre>
+         */
+        public java.lang.String getHashAlgorithm() {
+          java.lang.Object ref = hashAlgorithm_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              hashAlgorithm_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string hashAlgorithm = 14;</code>
+         *
+         * <pre>
+         * tree hash function; unset means SHA-256
+         * </pre>
+         */
+        public com.google.protobuf.ByteString
+            getHashAlgorithmBytes() {
+          java.lang.Object ref = hashAlgorithm_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            hashAlgorithm_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string hashAlgorithm = 14;</code>
+         *
+         * <pre>
+         * tree hash function; unset means SHA-256
+         * </pre>
+         */
+        public Builder setHashAlgorithm(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00002000;
+          hashAlgorithm_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string hashAlgorithm = 14;</code>
+         *
+         * <pre>
+         * tree hash function; unset means SHA-256
+         * </pre>
+         */
+        public Builder clearHashAlgorithm() {
+          bitField0_ = (bitField0_ & ~0x00002000);
+          hashAlgorithm_ = getDefaultInstance().getHashAlgorithm();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string hashAlgorithm = 14;</code>
+         *
+         * <pre>
+         * tree hash function; unset means SHA-256
+         * </pre>
+         */
+        public Builder setHashAlgorithmBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00002000;
+          hashAlgorithm_ = value;
+          onChanged();
+          return this;
+        }
+
+        private int treeRadix_ ;
+        /**
+         * <code>optional uint32 treeRadix = 15;</code>
+         *
+         * <pre>
+         * branching factor of the tree; unset means 2
+         * </pre>
+         */
+        public boolean hasTreeRadix() {
+          return ((bitField0_ & 0x00004000) == 0x00004000);
+        }
+        /**
+         * <code>optional uint32 treeRadix = 15;</code>
+         *
+         * <pre>
+         * branching factor of the tree; unset means 2
+         * </pre>
+         */
+        public int getTreeRadix() {
+          return treeRadix_;
+        }
+        /**
+         * <code>optional uint32 treeRadix = 15;</code>
+         *
+         * <pre>
+         * branching factor of the tree; unset means 2
+         * </pre>
+         */
+        public Builder setTreeRadix(int value) {
+          bitField0_ |= 0x00004000;
+          treeRadix_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint32 treeRadix = 15;</code>
+         *
+         * <pre>
+         * branching factor of the tree; unset means 2
+         * </pre>
+         */
+        public Builder clearTreeRadix() {
+          bitField0_ = (bitField0_ & ~0x00004000);
+          treeRadix_ = 0;
+          onChanged();
+          return this;
+        }
+
+        private boolean sparseTree_ ;
+        /**
+         * <code>optional bool sparseTree = 16;</code>
+         *
+         * <pre>
+         * fixed-depth sparse Merkle tree; unset means prefix tree
+         * </pre>
+         */
+        public boolean hasSparseTree() {
+          return ((bitField0_ & 0x00008000) == 0x00008000);
+        }
+        /**
+         * <code>optional bool sparseTree = 16;</code>
+         *
+         * <pre>
+         * fixed-depth sparse Merkle tree; unset means prefix tree
+         * </pre>
+         */
+        public boolean getSparseTree() {
+          return sparseTree_;
+        }
+        /**
+         * <code>optional bool sparseTree = 16;</code>
+         *
+         * <pre>
+         * fixed-depth sparse Merkle tree; unset means prefix tree
+         * </pre>
+         */
+        public Builder setSparseTree(boolean value) {
+          bitField0_ |= 0x00008000;
+          sparseTree_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional bool sparseTree = 16;</code>
+         *
+         * <pre>
+         * fixed-depth sparse Merkle tree; unset means prefix tree
+         * </pre>
+         */
+        public Builder clearSparseTree() {
+          bitField0_ = (bitField0_ & ~0x00008000);
+          sparseTree_ = false;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.AuthPath.UserLeafNode)
+      }
+
+      static {
+        defaultInstance = new UserLeafNode(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.AuthPath.UserLeafNode)
+    }
+
+    public interface InteriorNodeOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.AuthPath.InteriorNode)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+       *
+       * <pre>
+       * client needs to check that both of these fields are set for each interior node
+       * </pre>
+       */
+      boolean hasPrunedchild();
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+       *
+       * <pre>
+       * client needs to check that both of these fields are set for each interior node
+       * </pre>
+       */
+      org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild getPrunedchild();
+
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       */
+      boolean hasSubtree();
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       */
+      org.coniks.coniks_common.UtilProtos.Hash getSubtree();
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       */
+      org.coniks.coniks_common.UtilProtos.HashOrBuilder getSubtreeOrBuilder();
+    }
+    /**
+     * Protobuf type {@code org.coniks.coniks_common.AuthPath.InteriorNode}
+     */
+    public static final class InteriorNode extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.AuthPath.InteriorNode)
+        InteriorNodeOrBuilder {
+      // Use InteriorNode.newBuilder() to construct.
+      private InteriorNode(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private InteriorNode(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final InteriorNode defaultInstance;
+      public static InteriorNode getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public InteriorNode getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private InteriorNode(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 8: {
+                int rawValue = input.readEnum();
+                org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild value = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.valueOf(rawValue);
+                if (value == null) {
+                  unknownFields.mergeVarintField(1, rawValue);
+                } else {
+                  bitField0_ |= 0x00000001;
+                  prunedchild_ = value;
+                }
+                break;
+              }
+              case 18: {
+                org.coniks.coniks_common.UtilProtos.Hash.Builder subBuilder = null;
+                if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                  subBuilder = subtree_.toBuilder();
+                }
+                subtree_ = input.readMessage(org.coniks.coniks_common.UtilProtos.Hash.PARSER, extensionRegistry);
+                if (subBuilder != null) {
+                  subBuilder.mergeFrom(subtree_);
+                  subtree_ = subBuilder.buildPartial();
+                }
+                bitField0_ |= 0x00000002;
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_InteriorNode_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_InteriorNode_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.class, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<InteriorNode> PARSER =
+          new com.google.protobuf.AbstractParser<InteriorNode>() {
+        public InteriorNode parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new InteriorNode(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<InteriorNode> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int PRUNEDCHILD_FIELD_NUMBER = 1;
+      private org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild prunedchild_;
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+       *
+       * <pre>
+       * client needs to check that both of these fields are set for each interior node
+       * </pre>
+       */
+      public boolean hasPrunedchild() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+       *
+       * <pre>
+       * client needs to check that both of these fields are set for each interior node
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild getPrunedchild() {
+        return prunedchild_;
+      }
+
+      public static final int SUBTREE_FIELD_NUMBER = 2;
+      private org.coniks.coniks_common.UtilProtos.Hash subtree_;
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       */
+      public boolean hasSubtree() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       */
+      public org.coniks.coniks_common.UtilProtos.Hash getSubtree() {
+        return subtree_;
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       */
+      public org.coniks.coniks_common.UtilProtos.HashOrBuilder getSubtreeOrBuilder() {
+        return subtree_;
+      }
+
+      private void initFields() {
+        prunedchild_ = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.LEFT;
+        subtree_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeEnum(1, prunedchild_.getNumber());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeMessage(2, subtree_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeEnumSize(1, prunedchild_.getNumber());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, subtree_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code org.coniks.coniks_common.AuthPath.InteriorNode}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.AuthPath.InteriorNode)
+          org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_InteriorNode_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_InteriorNode_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.class, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder.class);
+        }
+
+        // Construct using org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getSubtreeFieldBuilder();
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          prunedchild_ = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.LEFT;
+          bitField0_ = (bitField0_ & ~0x00000001);
+          if (subtreeBuilder_ == null) {
+            subtree_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
+          } else {
+            subtreeBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_InteriorNode_descriptor;
+        }
+
+        public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode getDefaultInstanceForType() {
+          return org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.getDefaultInstance();
+        }
+
+        public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode build() {
+          org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode buildPartial() {
+          org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode result = new org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.prunedchild_ = prunedchild_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          if (subtreeBuilder_ == null) {
+            result.subtree_ = subtree_;
+          } else {
+            result.subtree_ = subtreeBuilder_.build();
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode) {
+            return mergeFrom((org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode other) {
+          if (other == org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.getDefaultInstance()) return this;
+          if (other.hasPrunedchild()) {
+            setPrunedchild(other.getPrunedchild());
+          }
+          if (other.hasSubtree()) {
+            mergeSubtree(other.getSubtree());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild prunedchild_ = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.LEFT;
+        /**
+         * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+         *
+         * <pre>
+         * client needs to check that both of these fields are set for each interior node
+         * </pre>
+         */
+        public boolean hasPrunedchild() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+         *
+         * <pre>
+         * client needs to check that both of these fields are set for each interior node
+         * </pre>
+         */
+        public org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild getPrunedchild() {
+          return prunedchild_;
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+         *
+         * <pre>
+         * client needs to check that both of these fields are set for each interior node
+         * </pre>
+         */
+        public Builder setPrunedchild(org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild value) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bitField0_ |= 0x00000001;
+          prunedchild_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+         *
+         * <pre>
+         * client needs to check that both of these fields are set for each interior node
+         * </pre>
+         */
+        public Builder clearPrunedchild() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          prunedchild_ = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.LEFT;
+          onChanged();
+          return this;
+        }
+
+        private org.coniks.coniks_common.UtilProtos.Hash subtree_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
+        private com.google.protobuf.SingleFieldBuilder<
+            org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder> subtreeBuilder_;
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        public boolean hasSubtree() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        public org.coniks.coniks_common.UtilProtos.Hash getSubtree() {
+          if (subtreeBuilder_ == null) {
+            return subtree_;
+          } else {
+            return subtreeBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        public Builder setSubtree(org.coniks.coniks_common.UtilProtos.Hash value) {
+          if (subtreeBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            subtree_ = value;
+            onChanged();
+          } else {
+            subtreeBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000002;
+          return this;
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        public Builder setSubtree(
+            org.coniks.coniks_common.UtilProtos.Hash.Builder builderForValue) {
+          if (subtreeBuilder_ == null) {
+            subtree_ = builderForValue.build();
+            onChanged();
+          } else {
+            subtreeBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000002;
+          return this;
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        public Builder mergeSubtree(org.coniks.coniks_common.UtilProtos.Hash value) {
+          if (subtreeBuilder_ == null) {
+            if (((bitField0_ & 0x00000002) == 0x00000002) &&
+                subtree_ != org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance()) {
+              subtree_ =
+                org.coniks.coniks_common.UtilProtos.Hash.newBuilder(subtree_).mergeFrom(value).buildPartial();
+            } else {
+              subtree_ = value;
+            }
+            onChanged();
+          } else {
+            subtreeBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000002;
+          return this;
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        public Builder clearSubtree() {
+          if (subtreeBuilder_ == null) {
+            subtree_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
+            onChanged();
+          } else {
+            subtreeBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        public org.coniks.coniks_common.UtilProtos.Hash.Builder getSubtreeBuilder() {
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return getSubtreeFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        public org.coniks.coniks_common.UtilProtos.HashOrBuilder getSubtreeOrBuilder() {
+          if (subtreeBuilder_ != null) {
+            return subtreeBuilder_.getMessageOrBuilder();
+          } else {
+            return subtree_;
+          }
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilder<
+            org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder> 
+            getSubtreeFieldBuilder() {
+          if (subtreeBuilder_ == null) {
+            subtreeBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+                org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder>(
+                    getSubtree(),
+                    getParentForChildren(),
+                    isClean());
+            subtree_ = null;
+          }
+          return subtreeBuilder_;
+        }
+
+        // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.AuthPath.InteriorNode)
+      }
+
+      static {
+        defaultInstance = new InteriorNode(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.AuthPath.InteriorNode)
+    }
+
+    public interface RootNodeOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.AuthPath.RootNode)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+       *
+       * <pre>
+       * client does not assume server has not sent malformed root node
+       * </pre>
+       */
+      boolean hasPrunedchild();
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+       *
+       * <pre>
+       * client does not assume server has not sent malformed root node
+       * </pre>
+       */
+      org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild getPrunedchild();
+
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       */
+      boolean hasSubtree();
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       */
+      org.coniks.coniks_common.UtilProtos.Hash getSubtree();
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       */
+      org.coniks.coniks_common.UtilProtos.HashOrBuilder getSubtreeOrBuilder();
+    }
+    /**
+     * Protobuf type {@code org.coniks.coniks_common.AuthPath.RootNode}
+     */
+    public static final class RootNode extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.AuthPath.RootNode)
+        RootNodeOrBuilder {
+      // Use RootNode.newBuilder() to construct.
+      private RootNode(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private RootNode(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final RootNode defaultInstance;
+      public static RootNode getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public RootNode getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private RootNode(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 8: {
+                int rawValue = input.readEnum();
+                org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild value = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.valueOf(rawValue);
+                if (value == null) {
+                  unknownFields.mergeVarintField(1, rawValue);
+                } else {
+                  bitField0_ |= 0x00000001;
+                  prunedchild_ = value;
+                }
+                break;
+              }
+              case 18: {
+                org.coniks.coniks_common.UtilProtos.Hash.Builder subBuilder = null;
+                if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                  subBuilder = subtree_.toBuilder();
+                }
+                subtree_ = input.readMessage(org.coniks.coniks_common.UtilProtos.Hash.PARSER, extensionRegistry);
+                if (subBuilder != null) {
+                  subBuilder.mergeFrom(subtree_);
+                  subtree_ = subBuilder.buildPartial();
+                }
+                bitField0_ |= 0x00000002;
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_RootNode_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_RootNode_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.class, org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<RootNode> PARSER =
+          new com.google.protobuf.AbstractParser<RootNode>() {
+        public RootNode parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new RootNode(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<RootNode> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int PRUNEDCHILD_FIELD_NUMBER = 1;
+      private org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild prunedchild_;
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+       *
+       * <pre>
+       * client does not assume server has not sent malformed root node
+       * </pre>
+       */
+      public boolean hasPrunedchild() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+       *
+       * <pre>
+       * client does not assume server has not sent malformed root node
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild getPrunedchild() {
+        return prunedchild_;
+      }
+
+      public static final int SUBTREE_FIELD_NUMBER = 2;
+      private org.coniks.coniks_common.UtilProtos.Hash subtree_;
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       */
+      public boolean hasSubtree() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       */
+      public org.coniks.coniks_common.UtilProtos.Hash getSubtree() {
+        return subtree_;
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       */
+      public org.coniks.coniks_common.UtilProtos.HashOrBuilder getSubtreeOrBuilder() {
+        return subtree_;
+      }
+
+      private void initFields() {
+        prunedchild_ = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.LEFT;
+        subtree_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeEnum(1, prunedchild_.getNumber());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeMessage(2, subtree_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeEnumSize(1, prunedchild_.getNumber());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, subtree_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.AuthPath.RootNode prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code org.coniks.coniks_common.AuthPath.RootNode}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.AuthPath.RootNode)
+          org.coniks.coniks_common.C2SProtos.AuthPath.RootNodeOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_RootNode_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_RootNode_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.class, org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.Builder.class);
+        }
+
+        // Construct using org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getSubtreeFieldBuilder();
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          prunedchild_ = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.LEFT;
+          bitField0_ = (bitField0_ & ~0x00000001);
+          if (subtreeBuilder_ == null) {
+            subtree_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
+          } else {
+            subtreeBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_RootNode_descriptor;
+        }
+
+        public org.coniks.coniks_common.C2SProtos.AuthPath.RootNode getDefaultInstanceForType() {
+          return org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.getDefaultInstance();
+        }
+
+        public org.coniks.coniks_common.C2SProtos.AuthPath.RootNode build() {
+          org.coniks.coniks_common.C2SProtos.AuthPath.RootNode result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.coniks.coniks_common.C2SProtos.AuthPath.RootNode buildPartial() {
+          org.coniks.coniks_common.C2SProtos.AuthPath.RootNode result = new org.coniks.coniks_common.C2SProtos.AuthPath.RootNode(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.prunedchild_ = prunedchild_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          if (subtreeBuilder_ == null) {
+            result.subtree_ = subtree_;
+          } else {
+            result.subtree_ = subtreeBuilder_.build();
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.coniks.coniks_common.C2SProtos.AuthPath.RootNode) {
+            return mergeFrom((org.coniks.coniks_common.C2SProtos.AuthPath.RootNode)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.AuthPath.RootNode other) {
+          if (other == org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.getDefaultInstance()) return this;
+          if (other.hasPrunedchild()) {
+            setPrunedchild(other.getPrunedchild());
+          }
+          if (other.hasSubtree()) {
+            mergeSubtree(other.getSubtree());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.coniks.coniks_common.C2SProtos.AuthPath.RootNode) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild prunedchild_ = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.LEFT;
+        /**
+         * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+         *
+         * <pre>
+         * client does not assume server has not sent malformed root node
+         * </pre>
+         */
+        public boolean hasPrunedchild() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+         *
+         * <pre>
+         * client does not assume server has not sent malformed root node
+         * </pre>
+         */
+        public org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild getPrunedchild() {
+          return prunedchild_;
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+         *
+         * <pre>
+         * client does not assume server has not sent malformed root node
+         * </pre>
+         */
+        public Builder setPrunedchild(org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild value) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bitField0_ |= 0x00000001;
+          prunedchild_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+         *
+         * <pre>
+         * client does not assume server has not sent malformed root node
+         * </pre>
+         */
+        public Builder clearPrunedchild() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          prunedchild_ = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.LEFT;
+          onChanged();
+          return this;
+        }
+
+        private org.coniks.coniks_common.UtilProtos.Hash subtree_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
+        private com.google.protobuf.SingleFieldBuilder<
+            org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder> subtreeBuilder_;
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        public boolean hasSubtree() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        public org.coniks.coniks_common.UtilProtos.Hash getSubtree() {
+          if (subtreeBuilder_ == null) {
+            return subtree_;
+          } else {
+            return subtreeBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        public Builder setSubtree(org.coniks.coniks_common.UtilProtos.Hash value) {
+          if (subtreeBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            subtree_ = value;
+            onChanged();
+          } else {
+            subtreeBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000002;
+          return this;
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        public Builder setSubtree(
+            org.coniks.coniks_common.UtilProtos.Hash.Builder builderForValue) {
+          if (subtreeBuilder_ == null) {
+            subtree_ = builderForValue.build();
+            onChanged();
+          } else {
+            subtreeBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000002;
+          return this;
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        public Builder mergeSubtree(org.coniks.coniks_common.UtilProtos.Hash value) {
+          if (subtreeBuilder_ == null) {
+            if (((bitField0_ & 0x00000002) == 0x00000002) &&
+                subtree_ != org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance()) {
+              subtree_ =
+                org.coniks.coniks_common.UtilProtos.Hash.newBuilder(subtree_).mergeFrom(value).buildPartial();
+            } else {
+              subtree_ = value;
+            }
+            onChanged();
+          } else {
+            subtreeBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000002;
+          return this;
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        public Builder clearSubtree() {
+          if (subtreeBuilder_ == null) {
+            subtree_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
+            onChanged();
+          } else {
+            subtreeBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        public org.coniks.coniks_common.UtilProtos.Hash.Builder getSubtreeBuilder() {
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return getSubtreeFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        public org.coniks.coniks_common.UtilProtos.HashOrBuilder getSubtreeOrBuilder() {
+          if (subtreeBuilder_ != null) {
+            return subtreeBuilder_.getMessageOrBuilder();
+          } else {
+            return subtree_;
+          }
+        }
+        /**
+         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilder<
+            org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder> 
+            getSubtreeFieldBuilder() {
+          if (subtreeBuilder_ == null) {
+            subtreeBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+                org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder>(
+                    getSubtree(),
+                    getParentForChildren(),
+                    isClean());
+            subtree_ = null;
+          }
+          return subtreeBuilder_;
+        }
+
+        // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.AuthPath.RootNode)
+      }
+
+      static {
+        defaultInstance = new RootNode(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.AuthPath.RootNode)
+    }
+
+    public interface RadixNodeOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.AuthPath.RadixNode)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional uint32 child_mask = 1;</code>
+       *
+       * <pre>
+       * bit i is set if child i of the node is non-empty
+       * </pre>
+       */
+      boolean hasChildMask();
+      /**
+       * <code>optional uint32 child_mask = 1;</code>
+       *
+       * <pre>
+       * bit i is set if child i of the node is non-empty
+       * </pre>
+       */
+      int getChildMask();
+
+      /**
+       * <code>repeated bytes sibling = 2;</code>
+       *
+       * <pre>
+       * the hashes of all non-empty children except the one on the path
+       * to the leaf, in child order
+       * </pre>
+       */
+      java.util.List<com.google.protobuf.ByteString> getSiblingList();
+      /**
+       * <code>repeated bytes sibling = 2;</code>
+       *
+       * <pre>
+       * the hashes of all non-empty children except the one on the path
+       * to the leaf, in child order
+       * </pre>
+       */
+      int getSiblingCount();
+      /**
+       * <code>repeated bytes sibling = 2;</code>
+       *
+       * <pre>
+       * the hashes of all non-empty children except the one on the path
+       * to the leaf, in child order
+       * </pre>
+       */
+      com.google.protobuf.ByteString getSibling(int index);
+    }
+    /**
+     * Protobuf type {@code org.coniks.coniks_common.AuthPath.RadixNode}
+     *
+     * <pre>
+     * in radix-16 trees, interior and root nodes are sent as radix nodes instead
+     * </pre>
+     */
+    public static final class RadixNode extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.AuthPath.RadixNode)
+        RadixNodeOrBuilder {
+      // Use RadixNode.newBuilder() to construct.
+      private RadixNode(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private RadixNode(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final RadixNode defaultInstance;
+      public static RadixNode getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public RadixNode getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private RadixNode(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 8: {
+                bitField0_ |= 0x00000001;
+                childMask_ = input.readUInt32();
+                break;
+              }
+              case 18: {
+                if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                  sibling_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                  mutable_bitField0_ |= 0x00000002;
+                }
+                sibling_.add(input.readBytes());
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+            sibling_ = java.util.Collections.unmodifiableList(sibling_);
+          }
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_RadixNode_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_RadixNode_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.class, org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<RadixNode> PARSER =
+          new com.google.protobuf.AbstractParser<RadixNode>() {
+        public RadixNode parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new RadixNode(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<RadixNode> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int CHILD_MASK_FIELD_NUMBER = 1;
+      private int childMask_;
+      /**
+       * <code>optional uint32 child_mask = 1;</code>
+       *
+       * <pre>
+       * bit i is set if child i of the node is non-empty
+       * </pre>
+       */
+      public boolean hasChildMask() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional uint32 child_mask = 1;</code>
+       *
+       * <pre>
+       * bit i is set if child i of the node is non-empty
+       * </pre>
+       */
+      public int getChildMask() {
+        return childMask_;
+      }
+
+      public static final int SIBLING_FIELD_NUMBER = 2;
+      private java.util.List<com.google.protobuf.ByteString> sibling_;
+      /**
+       * <code>repeated bytes sibling = 2;</code>
+       *
+       * <pre>
+       * the hashes of all non-empty children except the one on the path
+       * to the leaf, in child order
+       * </pre>
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getSiblingList() {
+        return sibling_;
+      }
+      /**
+       * <code>repeated bytes sibling = 2;</code>
+       *
+       * <pre>
+       * the hashes of all non-empty children except the one on the path
+       * to the leaf, in child order
+       * </pre>
+       */
+      public int getSiblingCount() {
+        return sibling_.size();
+      }
+      /**
+       * <code>repeated bytes sibling = 2;</code>
+       *
+       * <pre>
+       * the hashes of all non-empty children except the one on the path
+       * to the leaf, in child order
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getSibling(int index) {
+        return sibling_.get(index);
+      }
+
+      private void initFields() {
+        childMask_ = 0;
+        sibling_ = java.util.Collections.emptyList();
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeUInt32(1, childMask_);
+        }
+        for (int i = 0; i < sibling_.size(); i++) {
+          output.writeBytes(2, sibling_.get(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(1, childMask_);
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < sibling_.size(); i++) {
+            dataSize += com.google.protobuf.CodedOutputStream
+              .computeBytesSizeNoTag(sibling_.get(i));
+          }
+          size += dataSize;
+          size += 1 * getSiblingList().size();
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code org.coniks.coniks_common.AuthPath.RadixNode}
+       *
+       * <pre>
+       * in radix-16 trees, interior and root nodes are sent as radix nodes instead
+       * </pre>
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.AuthPath.RadixNode)
+          org.coniks.coniks_common.C2SProtos.AuthPath.RadixNodeOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_RadixNode_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_RadixNode_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.class, org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.Builder.class);
+        }
+
+        // Construct using org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          childMask_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000001);
+          sibling_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_RadixNode_descriptor;
+        }
+
+        public org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode getDefaultInstanceForType() {
+          return org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.getDefaultInstance();
+        }
+
+        public org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode build() {
+          org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode buildPartial() {
+          org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode result = new org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.childMask_ = childMask_;
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            sibling_ = java.util.Collections.unmodifiableList(sibling_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.sibling_ = sibling_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode) {
+            return mergeFrom((org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode other) {
+          if (other == org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.getDefaultInstance()) return this;
+          if (other.hasChildMask()) {
+            setChildMask(other.getChildMask());
+          }
+          if (!other.sibling_.isEmpty()) {
+            if (sibling_.isEmpty()) {
+              sibling_ = other.sibling_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureSiblingIsMutable();
+              sibling_.addAll(other.sibling_);
+            }
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
         }
 
         public Builder mergeFrom(
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
             throws java.io.IOException {
-          org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode parsedMessage = null;
+          org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode parsedMessage = null;
           try {
             parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
           } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode) e.getUnfinishedMessage();
+            parsedMessage = (org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode) e.getUnfinishedMessage();
             throw e;
           } finally {
             if (parsedMessage != null) {
               mergeFrom(parsedMessage);
             }
-          }
-          return this;
-        }
-        private int bitField0_;
-
-        private java.lang.Object name_ = "";
-        /**
-         * <code>optional string name = 1;</code>
-         *
-         * <pre>
-         * client does not assume server has not sent malformed leaf node
-         * </pre>
-         */
-        public boolean hasName() {
-          return ((bitField0_ & 0x00000001) == 0x00000001);
-        }
-        /**
-         * <code>optional string name = 1;</code>
-         *
-         * <pre>
-         * client does not assume server has not sent malformed leaf node
-         * </pre>
-         */
-        public java.lang.String getName() {
-          java.lang.Object ref = name_;
-          if (!(ref instanceof java.lang.String)) {
-            com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-            java.lang.String s = bs.toStringUtf8();
-            if (bs.isValidUtf8()) {
-              name_ = s;
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private int childMask_ ;
+        /**
+         * <code>optional uint32 child_mask = 1;</code>
+         *
+         * <pre>
+         * bit i is set if child i of the node is non-empty
+         * </pre>
+         */
+        public boolean hasChildMask() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional uint32 child_mask = 1;</code>
+         *
+         * <pre>
+         * bit i is set if child i of the node is non-empty
+         * </pre>
+         */
+        public int getChildMask() {
+          return childMask_;
+        }
+        /**
+         * <code>optional uint32 child_mask = 1;</code>
+         *
+         * <pre>
+         * bit i is set if child i of the node is non-empty
+         * </pre>
+         */
+        public Builder setChildMask(int value) {
+          bitField0_ |= 0x00000001;
+          childMask_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint32 child_mask = 1;</code>
+         *
+         * <pre>
+         * bit i is set if child i of the node is non-empty
+         * </pre>
+         */
+        public Builder clearChildMask() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          childMask_ = 0;
+          onChanged();
+          return this;
+        }
+
+        private java.util.List<com.google.protobuf.ByteString> sibling_ = java.util.Collections.emptyList();
+        private void ensureSiblingIsMutable() {
+          if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+            sibling_ = new java.util.ArrayList<com.google.protobuf.ByteString>(sibling_);
+            bitField0_ |= 0x00000002;
+           }
+        }
+        /**
+         * <code>repeated bytes sibling = 2;</code>
+         *
+         * <pre>
+         * the hashes of all non-empty children except the one on the path
+         * to the leaf, in child order
+         * </pre>
+         */
+        public java.util.List<com.google.protobuf.ByteString>
+            getSiblingList() {
+          return java.util.Collections.unmodifiableList(sibling_);
+        }
+        /**
+         * <code>repeated bytes sibling = 2;</code>
+         *
+         * <pre>
+         * the hashes of all non-empty children except the one on the path
+         * to the leaf, in child order
+         * </pre>
+         */
+        public int getSiblingCount() {
+          return sibling_.size();
+        }
+        /**
+         * <code>repeated bytes sibling = 2;</code>
+         *
+         * <pre>
+         * the hashes of all non-empty children except the one on the path
+         * to the leaf, in child order
+         * </pre>
+         */
+        public com.google.protobuf.ByteString getSibling(int index) {
+          return sibling_.get(index);
+        }
+        /**
+         * <code>repeated bytes sibling = 2;</code>
+         *
+         * <pre>
+         * the hashes of all non-empty children except the one on the path
+         * to the leaf, in child order
+         * </pre>
+         */
+        public Builder setSibling(
+            int index, com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSiblingIsMutable();
+          sibling_.set(index, value);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated bytes sibling = 2;</code>
+         *
+         * <pre>
+         * the hashes of all non-empty children except the one on the path
+         * to the leaf, in child order
+         * </pre>
+         */
+        public Builder addSibling(com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSiblingIsMutable();
+          sibling_.add(value);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated bytes sibling = 2;</code>
+         *
+         * <pre>
+         * the hashes of all non-empty children except the one on the path
+         * to the leaf, in child order
+         * </pre>
+         */
+        public Builder addAllSibling(
+            java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+          ensureSiblingIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, sibling_);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated bytes sibling = 2;</code>
+         *
+         * <pre>
+         * the hashes of all non-empty children except the one on the path
+         * to the leaf, in child order
+         * </pre>
+         */
+        public Builder clearSibling() {
+          sibling_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.AuthPath.RadixNode)
+      }
+
+      static {
+        defaultInstance = new RadixNode(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.AuthPath.RadixNode)
+    }
+
+    private int bitField0_;
+    public static final int LEAF_FIELD_NUMBER = 1;
+    private org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode leaf_;
+    /**
+     * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     *
+     * <pre>
+     * client checks if leaf is specified
+     * </pre>
+     */
+    public boolean hasLeaf() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     *
+     * <pre>
+     * client checks if leaf is specified
+     * </pre>
+     */
+    public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode getLeaf() {
+      return leaf_;
+    }
+    /**
+     * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     *
+     * <pre>
+     * client checks if leaf is specified
+     * </pre>
+     */
+    public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder getLeafOrBuilder() {
+      return leaf_;
+    }
+
+    public static final int INTERIOR_FIELD_NUMBER = 2;
+    private java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode> interior_;
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+     */
+    public java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode> getInteriorList() {
+      return interior_;
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+     */
+    public java.util.List<? extends org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder> 
+        getInteriorOrBuilderList() {
+      return interior_;
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+     */
+    public int getInteriorCount() {
+      return interior_.size();
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+     */
+    public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode getInterior(int index) {
+      return interior_.get(index);
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+     */
+    public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder getInteriorOrBuilder(
+        int index) {
+      return interior_.get(index);
+    }
+
+    public static final int ROOT_FIELD_NUMBER = 3;
+    private org.coniks.coniks_common.C2SProtos.AuthPath.RootNode root_;
+    /**
+     * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+     */
+    public boolean hasRoot() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+     */
+    public org.coniks.coniks_common.C2SProtos.AuthPath.RootNode getRoot() {
+      return root_;
+    }
+    /**
+     * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+     */
+    public org.coniks.coniks_common.C2SProtos.AuthPath.RootNodeOrBuilder getRootOrBuilder() {
+      return root_;
+    }
+
+    public static final int RADIX_NODE_FIELD_NUMBER = 4;
+    private java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode> radixNode_;
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+     *
+     * <pre>
+     * from the leaf's parent up to the root, so the root comes last
+     * </pre>
+     */
+    public java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode> getRadixNodeList() {
+      return radixNode_;
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+     *
+     * <pre>
+     * from the leaf's parent up to the root, so the root comes last
+     * </pre>
+     */
+    public java.util.List<? extends org.coniks.coniks_common.C2SProtos.AuthPath.RadixNodeOrBuilder> 
+        getRadixNodeOrBuilderList() {
+      return radixNode_;
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+     *
+     * <pre>
+     * from the leaf's parent up to the root, so the root comes last
+     * </pre>
+     */
+    public int getRadixNodeCount() {
+      return radixNode_.size();
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+     *
+     * <pre>
+     * from the leaf's parent up to the root, so the root comes last
+     * </pre>
+     */
+    public org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode getRadixNode(int index) {
+      return radixNode_.get(index);
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+     *
+     * <pre>
+     * from the leaf's parent up to the root, so the root comes last
+     * </pre>
+     */
+    public org.coniks.coniks_common.C2SProtos.AuthPath.RadixNodeOrBuilder getRadixNodeOrBuilder(
+        int index) {
+      return radixNode_.get(index);
+    }
+
+    public static final int SPARSE_MASK_FIELD_NUMBER = 5;
+    private com.google.protobuf.ByteString sparseMask_;
+    /**
+     * <code>optional bytes sparse_mask = 5;</code>
+     *
+     * <pre>
+     * in sparse trees, the path has a sibling at every depth of the tree:
+     * bit i of the mask (most significant bit first) is set if the sibling
+     * at depth i+1 is non-empty, and only the non-empty siblings are sent,
+     * from the leaf upwards
+     * </pre>
+     */
+    public boolean hasSparseMask() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional bytes sparse_mask = 5;</code>
+     *
+     * <pre>
+     * in sparse trees, the path has a sibling at every depth of the tree:
+     * bit i of the mask (most significant bit first) is set if the sibling
+     * at depth i+1 is non-empty, and only the non-empty siblings are sent,
+     * from the leaf upwards
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getSparseMask() {
+      return sparseMask_;
+    }
+
+    public static final int SPARSE_SIBLING_FIELD_NUMBER = 6;
+    private java.util.List<com.google.protobuf.ByteString> sparseSibling_;
+    /**
+     * <code>repeated bytes sparse_sibling = 6;</code>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getSparseSiblingList() {
+      return sparseSibling_;
+    }
+    /**
+     * <code>repeated bytes sparse_sibling = 6;</code>
+     */
+    public int getSparseSiblingCount() {
+      return sparseSibling_.size();
+    }
+    /**
+     * <code>repeated bytes sparse_sibling = 6;</code>
+     */
+    public com.google.protobuf.ByteString getSparseSibling(int index) {
+      return sparseSibling_.get(index);
+    }
+
+    private void initFields() {
+      leaf_ = org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.getDefaultInstance();
+      interior_ = java.util.Collections.emptyList();
+      root_ = org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.getDefaultInstance();
+      radixNode_ = java.util.Collections.emptyList();
+      sparseMask_ = com.google.protobuf.ByteString.EMPTY;
+      sparseSibling_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (hasLeaf()) {
+        if (!getLeaf().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, leaf_);
+      }
+      for (int i = 0; i < interior_.size(); i++) {
+        output.writeMessage(2, interior_.get(i));
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(3, root_);
+      }
+      for (int i = 0; i < radixNode_.size(); i++) {
+        output.writeMessage(4, radixNode_.get(i));
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(5, sparseMask_);
+      }
+      for (int i = 0; i < sparseSibling_.size(); i++) {
+        output.writeBytes(6, sparseSibling_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, leaf_);
+      }
+      for (int i = 0; i < interior_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, interior_.get(i));
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, root_);
+      }
+      for (int i = 0; i < radixNode_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, radixNode_.get(i));
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, sparseMask_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < sparseSibling_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(sparseSibling_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getSparseSiblingList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.coniks.coniks_common.C2SProtos.AuthPath parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.AuthPath parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.AuthPath parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.AuthPath parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.AuthPath parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.AuthPath parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.AuthPath parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.AuthPath parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.AuthPath parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.AuthPath parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.AuthPath prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.coniks.coniks_common.AuthPath}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.AuthPath)
+        org.coniks.coniks_common.C2SProtos.AuthPathOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.coniks.coniks_common.C2SProtos.AuthPath.class, org.coniks.coniks_common.C2SProtos.AuthPath.Builder.class);
+      }
+
+      // Construct using org.coniks.coniks_common.C2SProtos.AuthPath.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getLeafFieldBuilder();
+          getInteriorFieldBuilder();
+          getRootFieldBuilder();
+          getRadixNodeFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (leafBuilder_ == null) {
+          leaf_ = org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.getDefaultInstance();
+        } else {
+          leafBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (interiorBuilder_ == null) {
+          interior_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          interiorBuilder_.clear();
+        }
+        if (rootBuilder_ == null) {
+          root_ = org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.getDefaultInstance();
+        } else {
+          rootBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (radixNodeBuilder_ == null) {
+          radixNode_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          radixNodeBuilder_.clear();
+        }
+        sparseMask_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        sparseSibling_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_descriptor;
+      }
+
+      public org.coniks.coniks_common.C2SProtos.AuthPath getDefaultInstanceForType() {
+        return org.coniks.coniks_common.C2SProtos.AuthPath.getDefaultInstance();
+      }
+
+      public org.coniks.coniks_common.C2SProtos.AuthPath build() {
+        org.coniks.coniks_common.C2SProtos.AuthPath result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.coniks.coniks_common.C2SProtos.AuthPath buildPartial() {
+        org.coniks.coniks_common.C2SProtos.AuthPath result = new org.coniks.coniks_common.C2SProtos.AuthPath(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (leafBuilder_ == null) {
+          result.leaf_ = leaf_;
+        } else {
+          result.leaf_ = leafBuilder_.build();
+        }
+        if (interiorBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            interior_ = java.util.Collections.unmodifiableList(interior_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.interior_ = interior_;
+        } else {
+          result.interior_ = interiorBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (rootBuilder_ == null) {
+          result.root_ = root_;
+        } else {
+          result.root_ = rootBuilder_.build();
+        }
+        if (radixNodeBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            radixNode_ = java.util.Collections.unmodifiableList(radixNode_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.radixNode_ = radixNode_;
+        } else {
+          result.radixNode_ = radixNodeBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.sparseMask_ = sparseMask_;
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          sparseSibling_ = java.util.Collections.unmodifiableList(sparseSibling_);
+          bitField0_ = (bitField0_ & ~0x00000020);
+        }
+        result.sparseSibling_ = sparseSibling_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.coniks.coniks_common.C2SProtos.AuthPath) {
+          return mergeFrom((org.coniks.coniks_common.C2SProtos.AuthPath)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.AuthPath other) {
+        if (other == org.coniks.coniks_common.C2SProtos.AuthPath.getDefaultInstance()) return this;
+        if (other.hasLeaf()) {
+          mergeLeaf(other.getLeaf());
+        }
+        if (interiorBuilder_ == null) {
+          if (!other.interior_.isEmpty()) {
+            if (interior_.isEmpty()) {
+              interior_ = other.interior_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureInteriorIsMutable();
+              interior_.addAll(other.interior_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.interior_.isEmpty()) {
+            if (interiorBuilder_.isEmpty()) {
+              interiorBuilder_.dispose();
+              interiorBuilder_ = null;
+              interior_ = other.interior_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              interiorBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getInteriorFieldBuilder() : null;
+            } else {
+              interiorBuilder_.addAllMessages(other.interior_);
+            }
+          }
+        }
+        if (other.hasRoot()) {
+          mergeRoot(other.getRoot());
+        }
+        if (radixNodeBuilder_ == null) {
+          if (!other.radixNode_.isEmpty()) {
+            if (radixNode_.isEmpty()) {
+              radixNode_ = other.radixNode_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureRadixNodeIsMutable();
+              radixNode_.addAll(other.radixNode_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.radixNode_.isEmpty()) {
+            if (radixNodeBuilder_.isEmpty()) {
+              radixNodeBuilder_.dispose();
+              radixNodeBuilder_ = null;
+              radixNode_ = other.radixNode_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              radixNodeBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getRadixNodeFieldBuilder() : null;
+            } else {
+              radixNodeBuilder_.addAllMessages(other.radixNode_);
+            }
+          }
+        }
+        if (other.hasSparseMask()) {
+          setSparseMask(other.getSparseMask());
+        }
+        if (!other.sparseSibling_.isEmpty()) {
+          if (sparseSibling_.isEmpty()) {
+            sparseSibling_ = other.sparseSibling_;
+            bitField0_ = (bitField0_ & ~0x00000020);
+          } else {
+            ensureSparseSiblingIsMutable();
+            sparseSibling_.addAll(other.sparseSibling_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (hasLeaf()) {
+          if (!getLeaf().isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.coniks.coniks_common.C2SProtos.AuthPath parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.coniks.coniks_common.C2SProtos.AuthPath) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode leaf_ = org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder> leafBuilder_;
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * client checks if leaf is specified
+       * </pre>
+       */
+      public boolean hasLeaf() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * client checks if leaf is specified
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode getLeaf() {
+        if (leafBuilder_ == null) {
+          return leaf_;
+        } else {
+          return leafBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * client checks if leaf is specified
+       * </pre>
+       */
+      public Builder setLeaf(org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode value) {
+        if (leafBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          leaf_ = value;
+          onChanged();
+        } else {
+          leafBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * client checks if leaf is specified
+       * </pre>
+       */
+      public Builder setLeaf(
+          org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder builderForValue) {
+        if (leafBuilder_ == null) {
+          leaf_ = builderForValue.build();
+          onChanged();
+        } else {
+          leafBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * client checks if leaf is specified
+       * </pre>
+       */
+      public Builder mergeLeaf(org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode value) {
+        if (leafBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              leaf_ != org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.getDefaultInstance()) {
+            leaf_ =
+              org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.newBuilder(leaf_).mergeFrom(value).buildPartial();
+          } else {
+            leaf_ = value;
+          }
+          onChanged();
+        } else {
+          leafBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * client checks if leaf is specified
+       * </pre>
+       */
+      public Builder clearLeaf() {
+        if (leafBuilder_ == null) {
+          leaf_ = org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.getDefaultInstance();
+          onChanged();
+        } else {
+          leafBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * client checks if leaf is specified
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder getLeafBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getLeafFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * client checks if leaf is specified
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder getLeafOrBuilder() {
+        if (leafBuilder_ != null) {
+          return leafBuilder_.getMessageOrBuilder();
+        } else {
+          return leaf_;
+        }
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * client checks if leaf is specified
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder> 
+          getLeafFieldBuilder() {
+        if (leafBuilder_ == null) {
+          leafBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder>(
+                  getLeaf(),
+                  getParentForChildren(),
+                  isClean());
+          leaf_ = null;
+        }
+        return leafBuilder_;
+      }
+
+      private java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode> interior_ =
+        java.util.Collections.emptyList();
+      private void ensureInteriorIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          interior_ = new java.util.ArrayList<org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode>(interior_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder> interiorBuilder_;
+
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode> getInteriorList() {
+        if (interiorBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(interior_);
+        } else {
+          return interiorBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public int getInteriorCount() {
+        if (interiorBuilder_ == null) {
+          return interior_.size();
+        } else {
+          return interiorBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode getInterior(int index) {
+        if (interiorBuilder_ == null) {
+          return interior_.get(index);
+        } else {
+          return interiorBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public Builder setInterior(
+          int index, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode value) {
+        if (interiorBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInteriorIsMutable();
+          interior_.set(index, value);
+          onChanged();
+        } else {
+          interiorBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public Builder setInterior(
+          int index, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder builderForValue) {
+        if (interiorBuilder_ == null) {
+          ensureInteriorIsMutable();
+          interior_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          interiorBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public Builder addInterior(org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode value) {
+        if (interiorBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInteriorIsMutable();
+          interior_.add(value);
+          onChanged();
+        } else {
+          interiorBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public Builder addInterior(
+          int index, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode value) {
+        if (interiorBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureInteriorIsMutable();
+          interior_.add(index, value);
+          onChanged();
+        } else {
+          interiorBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public Builder addInterior(
+          org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder builderForValue) {
+        if (interiorBuilder_ == null) {
+          ensureInteriorIsMutable();
+          interior_.add(builderForValue.build());
+          onChanged();
+        } else {
+          interiorBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public Builder addInterior(
+          int index, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder builderForValue) {
+        if (interiorBuilder_ == null) {
+          ensureInteriorIsMutable();
+          interior_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          interiorBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public Builder addAllInterior(
+          java.lang.Iterable<? extends org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode> values) {
+        if (interiorBuilder_ == null) {
+          ensureInteriorIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, interior_);
+          onChanged();
+        } else {
+          interiorBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public Builder clearInterior() {
+        if (interiorBuilder_ == null) {
+          interior_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          interiorBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public Builder removeInterior(int index) {
+        if (interiorBuilder_ == null) {
+          ensureInteriorIsMutable();
+          interior_.remove(index);
+          onChanged();
+        } else {
+          interiorBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder getInteriorBuilder(
+          int index) {
+        return getInteriorFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder getInteriorOrBuilder(
+          int index) {
+        if (interiorBuilder_ == null) {
+          return interior_.get(index);  } else {
+          return interiorBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public java.util.List<? extends org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder> 
+           getInteriorOrBuilderList() {
+        if (interiorBuilder_ != null) {
+          return interiorBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(interior_);
+        }
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder addInteriorBuilder() {
+        return getInteriorFieldBuilder().addBuilder(
+            org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder addInteriorBuilder(
+          int index) {
+        return getInteriorFieldBuilder().addBuilder(
+            index, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       */
+      public java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder> 
+           getInteriorBuilderList() {
+        return getInteriorFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder> 
+          getInteriorFieldBuilder() {
+        if (interiorBuilder_ == null) {
+          interiorBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder>(
+                  interior_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          interior_ = null;
+        }
+        return interiorBuilder_;
+      }
+
+      private org.coniks.coniks_common.C2SProtos.AuthPath.RootNode root_ = org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.coniks.coniks_common.C2SProtos.AuthPath.RootNode, org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.RootNodeOrBuilder> rootBuilder_;
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       */
+      public boolean hasRoot() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.RootNode getRoot() {
+        if (rootBuilder_ == null) {
+          return root_;
+        } else {
+          return rootBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       */
+      public Builder setRoot(org.coniks.coniks_common.C2SProtos.AuthPath.RootNode value) {
+        if (rootBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          root_ = value;
+          onChanged();
+        } else {
+          rootBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       */
+      public Builder setRoot(
+          org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.Builder builderForValue) {
+        if (rootBuilder_ == null) {
+          root_ = builderForValue.build();
+          onChanged();
+        } else {
+          rootBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       */
+      public Builder mergeRoot(org.coniks.coniks_common.C2SProtos.AuthPath.RootNode value) {
+        if (rootBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              root_ != org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.getDefaultInstance()) {
+            root_ =
+              org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.newBuilder(root_).mergeFrom(value).buildPartial();
+          } else {
+            root_ = value;
+          }
+          onChanged();
+        } else {
+          rootBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       */
+      public Builder clearRoot() {
+        if (rootBuilder_ == null) {
+          root_ = org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.getDefaultInstance();
+          onChanged();
+        } else {
+          rootBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.Builder getRootBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getRootFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.RootNodeOrBuilder getRootOrBuilder() {
+        if (rootBuilder_ != null) {
+          return rootBuilder_.getMessageOrBuilder();
+        } else {
+          return root_;
+        }
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.coniks.coniks_common.C2SProtos.AuthPath.RootNode, org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.RootNodeOrBuilder> 
+          getRootFieldBuilder() {
+        if (rootBuilder_ == null) {
+          rootBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.coniks.coniks_common.C2SProtos.AuthPath.RootNode, org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.RootNodeOrBuilder>(
+                  getRoot(),
+                  getParentForChildren(),
+                  isClean());
+          root_ = null;
+        }
+        return rootBuilder_;
+      }
+
+      private java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode> radixNode_ =
+        java.util.Collections.emptyList();
+      private void ensureRadixNodeIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          radixNode_ = new java.util.ArrayList<org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode>(radixNode_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode, org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.RadixNodeOrBuilder> radixNodeBuilder_;
+
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode> getRadixNodeList() {
+        if (radixNodeBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(radixNode_);
+        } else {
+          return radixNodeBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public int getRadixNodeCount() {
+        if (radixNodeBuilder_ == null) {
+          return radixNode_.size();
+        } else {
+          return radixNodeBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode getRadixNode(int index) {
+        if (radixNodeBuilder_ == null) {
+          return radixNode_.get(index);
+        } else {
+          return radixNodeBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public Builder setRadixNode(
+          int index, org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode value) {
+        if (radixNodeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRadixNodeIsMutable();
+          radixNode_.set(index, value);
+          onChanged();
+        } else {
+          radixNodeBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public Builder setRadixNode(
+          int index, org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.Builder builderForValue) {
+        if (radixNodeBuilder_ == null) {
+          ensureRadixNodeIsMutable();
+          radixNode_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          radixNodeBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public Builder addRadixNode(org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode value) {
+        if (radixNodeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRadixNodeIsMutable();
+          radixNode_.add(value);
+          onChanged();
+        } else {
+          radixNodeBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public Builder addRadixNode(
+          int index, org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode value) {
+        if (radixNodeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRadixNodeIsMutable();
+          radixNode_.add(index, value);
+          onChanged();
+        } else {
+          radixNodeBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public Builder addRadixNode(
+          org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.Builder builderForValue) {
+        if (radixNodeBuilder_ == null) {
+          ensureRadixNodeIsMutable();
+          radixNode_.add(builderForValue.build());
+          onChanged();
+        } else {
+          radixNodeBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public Builder addRadixNode(
+          int index, org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.Builder builderForValue) {
+        if (radixNodeBuilder_ == null) {
+          ensureRadixNodeIsMutable();
+          radixNode_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          radixNodeBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public Builder addAllRadixNode(
+          java.lang.Iterable<? extends org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode> values) {
+        if (radixNodeBuilder_ == null) {
+          ensureRadixNodeIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, radixNode_);
+          onChanged();
+        } else {
+          radixNodeBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public Builder clearRadixNode() {
+        if (radixNodeBuilder_ == null) {
+          radixNode_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          radixNodeBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public Builder removeRadixNode(int index) {
+        if (radixNodeBuilder_ == null) {
+          ensureRadixNodeIsMutable();
+          radixNode_.remove(index);
+          onChanged();
+        } else {
+          radixNodeBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.Builder getRadixNodeBuilder(
+          int index) {
+        return getRadixNodeFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.RadixNodeOrBuilder getRadixNodeOrBuilder(
+          int index) {
+        if (radixNodeBuilder_ == null) {
+          return radixNode_.get(index);  } else {
+          return radixNodeBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public java.util.List<? extends org.coniks.coniks_common.C2SProtos.AuthPath.RadixNodeOrBuilder> 
+           getRadixNodeOrBuilderList() {
+        if (radixNodeBuilder_ != null) {
+          return radixNodeBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(radixNode_);
+        }
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.Builder addRadixNodeBuilder() {
+        return getRadixNodeFieldBuilder().addBuilder(
+            org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.Builder addRadixNodeBuilder(
+          int index) {
+        return getRadixNodeFieldBuilder().addBuilder(
+            index, org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.RadixNode radix_node = 4;</code>
+       *
+       * <pre>
+       * from the leaf's parent up to the root, so the root comes last
+       * </pre>
+       */
+      public java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.Builder> 
+           getRadixNodeBuilderList() {
+        return getRadixNodeFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode, org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.RadixNodeOrBuilder> 
+          getRadixNodeFieldBuilder() {
+        if (radixNodeBuilder_ == null) {
+          radixNodeBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode, org.coniks.coniks_common.C2SProtos.AuthPath.RadixNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.RadixNodeOrBuilder>(
+                  radixNode_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          radixNode_ = null;
+        }
+        return radixNodeBuilder_;
+      }
+
+      private com.google.protobuf.ByteString sparseMask_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes sparse_mask = 5;</code>
+       *
+       * <pre>
+       * in sparse trees, the path has a sibling at every depth of the tree:
+       * bit i of the mask (most significant bit first) is set if the sibling
+       * at depth i+1 is non-empty, and only the non-empty siblings are sent,
+       * from the leaf upwards
+       * </pre>
+       */
+      public boolean hasSparseMask() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional bytes sparse_mask = 5;</code>
+       *
+       * <pre>
+       * in sparse trees, the path has a sibling at every depth of the tree:
+       * bit i of the mask (most significant bit first) is set if the sibling
+       * at depth i+1 is non-empty, and only the non-empty siblings are sent,
+       * from the leaf upwards
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getSparseMask() {
+        return sparseMask_;
+      }
+      /**
+       * <code>optional bytes sparse_mask = 5;</code>
+       *
+       * <pre>
+       * in sparse trees, the path has a sibling at every depth of the tree:
+       * bit i of the mask (most significant bit first) is set if the sibling
+       * at depth i+1 is non-empty, and only the non-empty siblings are sent,
+       * from the leaf upwards
+       * </pre>
+       */
+      public Builder setSparseMask(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        sparseMask_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes sparse_mask = 5;</code>
+       *
+       * <pre>
+       * in sparse trees, the path has a sibling at every depth of the tree:
+       * bit i of the mask (most significant bit first) is set if the sibling
+       * at depth i+1 is non-empty, and only the non-empty siblings are sent,
+       * from the leaf upwards
+       * </pre>
+       */
+      public Builder clearSparseMask() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        sparseMask_ = getDefaultInstance().getSparseMask();
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.google.protobuf.ByteString> sparseSibling_ = java.util.Collections.emptyList();
+      private void ensureSparseSiblingIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          sparseSibling_ = new java.util.ArrayList<com.google.protobuf.ByteString>(sparseSibling_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+      /**
+       * <code>repeated bytes sparse_sibling = 6;</code>
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getSparseSiblingList() {
+        return java.util.Collections.unmodifiableList(sparseSibling_);
+      }
+      /**
+       * <code>repeated bytes sparse_sibling = 6;</code>
+       */
+      public int getSparseSiblingCount() {
+        return sparseSibling_.size();
+      }
+      /**
+       * <code>repeated bytes sparse_sibling = 6;</code>
+       */
+      public com.google.protobuf.ByteString getSparseSibling(int index) {
+        return sparseSibling_.get(index);
+      }
+      /**
+       * <code>repeated bytes sparse_sibling = 6;</code>
+       */
+      public Builder setSparseSibling(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSparseSiblingIsMutable();
+        sparseSibling_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes sparse_sibling = 6;</code>
+       */
+      public Builder addSparseSibling(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSparseSiblingIsMutable();
+        sparseSibling_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes sparse_sibling = 6;</code>
+       */
+      public Builder addAllSparseSibling(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureSparseSiblingIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, sparseSibling_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes sparse_sibling = 6;</code>
+       */
+      public Builder clearSparseSibling() {
+        sparseSibling_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.AuthPath)
+    }
+
+    static {
+      defaultInstance = new AuthPath(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.AuthPath)
+  }
+
+  public interface MultiAuthPathOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.MultiAuthPath)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     *
+     * <pre>
+     * leaves in increasing lookup index order; intlevels is set for each
+     * </pre>
+     */
+    java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode> 
+        getLeafList();
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     *
+     * <pre>
+     * leaves in increasing lookup index order; intlevels is set for each
+     * </pre>
+     */
+    org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode getLeaf(int index);
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     *
+     * <pre>
+     * leaves in increasing lookup index order; intlevels is set for each
+     * </pre>
+     */
+    int getLeafCount();
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     *
+     * <pre>
+     * leaves in increasing lookup index order; intlevels is set for each
+     * </pre>
+     */
+    java.util.List<? extends org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder> 
+        getLeafOrBuilderList();
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     *
+     * <pre>
+     * leaves in increasing lookup index order; intlevels is set for each
+     * </pre>
+     */
+    org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder getLeafOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+     *
+     * <pre>
+     * pruned subtree hashes in the order in which a depth-first,
+     * left-to-right traversal of the union of the paths reaches them
+     * </pre>
+     */
+    java.util.List<org.coniks.coniks_common.UtilProtos.Hash> 
+        getSubtreeList();
+    /**
+     * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+     *
+     * <pre>
+     * pruned subtree hashes in the order in which a depth-first,
+     * left-to-right traversal of the union of the paths reaches them
+     * </pre>
+     */
+    org.coniks.coniks_common.UtilProtos.Hash getSubtree(int index);
+    /**
+     * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+     *
+     * <pre>
+     * pruned subtree hashes in the order in which a depth-first,
+     * left-to-right traversal of the union of the paths reaches them
+     * </pre>
+     */
+    int getSubtreeCount();
+    /**
+     * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+     *
+     * <pre>
+     * pruned subtree hashes in the order in which a depth-first,
+     * left-to-right traversal of the union of the paths reaches them
+     * </pre>
+     */
+    java.util.List<? extends org.coniks.coniks_common.UtilProtos.HashOrBuilder> 
+        getSubtreeOrBuilderList();
+    /**
+     * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+     *
+     * <pre>
+     * pruned subtree hashes in the order in which a depth-first,
+     * left-to-right traversal of the union of the paths reaches them
+     * </pre>
+     */
+    org.coniks.coniks_common.UtilProtos.HashOrBuilder getSubtreeOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated string not_found = 3;</code>
+     *
+     * <pre>
+     * requested names that don't exist in the directory
+     * </pre>
+     */
+    com.google.protobuf.ProtocolStringList
+        getNotFoundList();
+    /**
+     * <code>repeated string not_found = 3;</code>
+     *
+     * <pre>
+     * requested names that don't exist in the directory
+     * </pre>
+     */
+    int getNotFoundCount();
+    /**
+     * <code>repeated string not_found = 3;</code>
+     *
+     * <pre>
+     * requested names that don't exist in the directory
+     * </pre>
+     */
+    java.lang.String getNotFound(int index);
+    /**
+     * <code>repeated string not_found = 3;</code>
+     *
+     * <pre>
+     * requested names that don't exist in the directory
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getNotFoundBytes(int index);
+
+    /**
+     * <code>repeated uint32 child_mask = 4;</code>
+     *
+     * <pre>
+     * in radix-16 trees, the child masks of the nodes on the union of the
+     * paths in the order in which the same traversal reaches them
+     * </pre>
+     */
+    java.util.List<java.lang.Integer> getChildMaskList();
+    /**
+     * <code>repeated uint32 child_mask = 4;</code>
+     *
+     * <pre>
+     * in radix-16 trees, the child masks of the nodes on the union of the
+     * paths in the order in which the same traversal reaches them
+     * </pre>
+     */
+    int getChildMaskCount();
+    /**
+     * <code>repeated uint32 child_mask = 4;</code>
+     *
+     * <pre>
+     * in radix-16 trees, the child masks of the nodes on the union of the
+     * paths in the order in which the same traversal reaches them
+     * </pre>
+     */
+    int getChildMask(int index);
+
+    /**
+     * <code>optional bytes sparse_mask = 5;</code>
+     *
+     * <pre>
+     * in sparse trees, one bit per pruned subtree in the same order
+     * (most significant bit first) that is set if the subtree is non-empty;
+     * only the non-empty subtrees are sent
+     * </pre>
+     */
+    boolean hasSparseMask();
+    /**
+     * <code>optional bytes sparse_mask = 5;</code>
+     *
+     * <pre>
+     * in sparse trees, one bit per pruned subtree in the same order
+     * (most significant bit first) that is set if the subtree is non-empty;
+     * only the non-empty subtrees are sent
+     * </pre>
+     */
+    com.google.protobuf.ByteString getSparseMask();
+  }
+  /**
+   * Protobuf type {@code org.coniks.coniks_common.MultiAuthPath}
+   *
+   * <pre>
+   * compressed proof for several leaves in the same tree: every pruned
+   * subtree hash shared by the leaves' auth paths is sent only once
+   * </pre>
+   */
+  public static final class MultiAuthPath extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.MultiAuthPath)
+      MultiAuthPathOrBuilder {
+    // Use MultiAuthPath.newBuilder() to construct.
+    private MultiAuthPath(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private MultiAuthPath(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final MultiAuthPath defaultInstance;
+    public static MultiAuthPath getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public MultiAuthPath getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private MultiAuthPath(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                leaf_ = new java.util.ArrayList<org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              leaf_.add(input.readMessage(org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.PARSER, extensionRegistry));
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                subtree_ = new java.util.ArrayList<org.coniks.coniks_common.UtilProtos.Hash>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              subtree_.add(input.readMessage(org.coniks.coniks_common.UtilProtos.Hash.PARSER, extensionRegistry));
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                notFound_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              notFound_.add(bs);
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                childMask_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              childMask_.add(input.readUInt32());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008) && input.getBytesUntilLimit() > 0) {
+                childMask_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                childMask_.add(input.readUInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 42: {
+              bitField0_ |= 0x00000001;
+              sparseMask_ = input.readBytes();
+              break;
             }
-            return s;
-          } else {
-            return (java.lang.String) ref;
           }
         }
-        /**
-         * <code>optional string name = 1;</code>
-         *
-         * <pre>
-         * client does not assume server has not sent malformed leaf node
-         * </pre>
-         */
-        public com.google.protobuf.ByteString
-            getNameBytes() {
-          java.lang.Object ref = name_;
-          if (ref instanceof String) {
-            com.google.protobuf.ByteString b = 
-                com.google.protobuf.ByteString.copyFromUtf8(
-                    (java.lang.String) ref);
-            name_ = b;
-            return b;
-          } else {
-            return (com.google.protobuf.ByteString) ref;
-          }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          leaf_ = java.util.Collections.unmodifiableList(leaf_);
         }
-        /**
-         * <code>optional string name = 1;</code>
-         *
-         * <pre>
-         * client does not assume server has not sent malformed leaf node
-         * </pre>
-         */
-        public Builder setName(
-            java.lang.String value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-          name_ = value;
-          onChanged();
-          return this;
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          subtree_ = java.util.Collections.unmodifiableList(subtree_);
         }
-        /**
-         * <code>optional string name = 1;</code>
-         *
-         * <pre>
-         * client does not assume server has not sent malformed leaf node
-         * </pre>
-         */
-        public Builder clearName() {
-          bitField0_ = (bitField0_ & ~0x00000001);
-          name_ = getDefaultInstance().getName();
-          onChanged();
-          return this;
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          notFound_ = notFound_.getUnmodifiableView();
         }
-        /**
-         * <code>optional string name = 1;</code>
-         *
-         * <pre>
-         * client does not assume server has not sent malformed leaf node
-         * </pre>
-         */
-        public Builder setNameBytes(
-            com.google.protobuf.ByteString value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-          name_ = value;
-          onChanged();
-          return this;
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          childMask_ = java.util.Collections.unmodifiableList(childMask_);
         }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_MultiAuthPath_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_MultiAuthPath_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.coniks.coniks_common.C2SProtos.MultiAuthPath.class, org.coniks.coniks_common.C2SProtos.MultiAuthPath.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<MultiAuthPath> PARSER =
+        new com.google.protobuf.AbstractParser<MultiAuthPath>() {
+      public MultiAuthPath parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new MultiAuthPath(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<MultiAuthPath> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int LEAF_FIELD_NUMBER = 1;
+    private java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode> leaf_;
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     *
+     * <pre>
+     * leaves in increasing lookup index order; intlevels is set for each
+     * </pre>
+     */
+    public java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode> getLeafList() {
+      return leaf_;
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     *
+     * <pre>
+     * leaves in increasing lookup index order; intlevels is set for each
+     * </pre>
+     */
+    public java.util.List<? extends org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder> 
+        getLeafOrBuilderList() {
+      return leaf_;
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     *
+     * <pre>
+     * leaves in increasing lookup index order; intlevels is set for each
+     * </pre>
+     */
+    public int getLeafCount() {
+      return leaf_.size();
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     *
+     * <pre>
+     * leaves in increasing lookup index order; intlevels is set for each
+     * </pre>
+     */
+    public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode getLeaf(int index) {
+      return leaf_.get(index);
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     *
+     * <pre>
+     * leaves in increasing lookup index order; intlevels is set for each
+     * </pre>
+     */
+    public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder getLeafOrBuilder(
+        int index) {
+      return leaf_.get(index);
+    }
+
+    public static final int SUBTREE_FIELD_NUMBER = 2;
+    private java.util.List<org.coniks.coniks_common.UtilProtos.Hash> subtree_;
+    /**
+     * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+     *
+     * <pre>
+     * pruned subtree hashes in the order in which a depth-first,
+     * left-to-right traversal of the union of the paths reaches them
+     * </pre>
+     */
+    public java.util.List<org.coniks.coniks_common.UtilProtos.Hash> getSubtreeList() {
+      return subtree_;
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+     *
+     * <pre>
+     * pruned subtree hashes in the order in which a depth-first,
+     * left-to-right traversal of the union of the paths reaches them
+     * </pre>
+     */
+    public java.util.List<? extends org.coniks.coniks_common.UtilProtos.HashOrBuilder> 
+        getSubtreeOrBuilderList() {
+      return subtree_;
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+     *
+     * <pre>
+     * pruned subtree hashes in the order in which a depth-first,
+     * left-to-right traversal of the union of the paths reaches them
+     * </pre>
+     */
+    public int getSubtreeCount() {
+      return subtree_.size();
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+     *
+     * <pre>
+     * pruned subtree hashes in the order in which a depth-first,
+     * left-to-right traversal of the union of the paths reaches them
+     * </pre>
+     */
+    public org.coniks.coniks_common.UtilProtos.Hash getSubtree(int index) {
+      return subtree_.get(index);
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+     *
+     * <pre>
+     * pruned subtree hashes in the order in which a depth-first,
+     * left-to-right traversal of the union of the paths reaches them
+     * </pre>
+     */
+    public org.coniks.coniks_common.UtilProtos.HashOrBuilder getSubtreeOrBuilder(
+        int index) {
+      return subtree_.get(index);
+    }
+
+    public static final int NOT_FOUND_FIELD_NUMBER = 3;
+    private com.google.protobuf.LazyStringList notFound_;
+    /**
+     * <code>repeated string not_found = 3;</code>
+     *
+     * <pre>
+     * requested names that don't exist in the directory
+     * </pre>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getNotFoundList() {
+      return notFound_;
+    }
+    /**
+     * <code>repeated string not_found = 3;</code>
+     *
+     * <pre>
+     * requested names that don't exist in the directory
+     * </pre>
+     */
+    public int getNotFoundCount() {
+      return notFound_.size();
+    }
+    /**
+     * <code>repeated string not_found = 3;</code>
+     *
+     * <pre>
+     * requested names that don't exist in the directory
+     * </pre>
+     */
+    public java.lang.String getNotFound(int index) {
+      return notFound_.get(index);
+    }
+    /**
+     * <code>repeated string not_found = 3;</code>
+     *
+     * <pre>
+     * requested names that don't exist in the directory
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getNotFoundBytes(int index) {
+      return notFound_.getByteString(index);
+    }
+
+    public static final int CHILD_MASK_FIELD_NUMBER = 4;
+    private java.util.List<java.lang.Integer> childMask_;
+    /**
+     * <code>repeated uint32 child_mask = 4;</code>
+     *
+     * <pre>
+     * in radix-16 trees, the child masks of the nodes on the union of the
+     * paths in the order in which the same traversal reaches them
+     * </pre>
+     */
+    public java.util.List<java.lang.Integer>
+        getChildMaskList() {
+      return childMask_;
+    }
+    /**
+     * <code>repeated uint32 child_mask = 4;</code>
+     *
+     * <pre>
+     * in radix-16 trees, the child masks of the nodes on the union of the
+     * paths in the order in which the same traversal reaches them
+     * </pre>
+     */
+    public int getChildMaskCount() {
+      return childMask_.size();
+    }
+    /**
+     * <code>repeated uint32 child_mask = 4;</code>
+     *
+     * <pre>
+     * in radix-16 trees, the child masks of the nodes on the union of the
+     * paths in the order in which the same traversal reaches them
+     * </pre>
+     */
+    public int getChildMask(int index) {
+      return childMask_.get(index);
+    }
 
-        private java.lang.Object publickey_ = "";
-        /**
-         * <code>optional string publickey = 2;</code>
-         */
-        public boolean hasPublickey() {
-          return ((bitField0_ & 0x00000002) == 0x00000002);
-        }
-        /**
-         * <code>optional string publickey = 2;</code>
-         */
-        public java.lang.String getPublickey() {
-          java.lang.Object ref = publickey_;
-          if (!(ref instanceof java.lang.String)) {
-            com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-            java.lang.String s = bs.toStringUtf8();
-            if (bs.isValidUtf8()) {
-              publickey_ = s;
-            }
-            return s;
-          } else {
-            return (java.lang.String) ref;
-          }
-        }
-        /**
-         * <code>optional string publickey = 2;</code>
-         */
-        public com.google.protobuf.ByteString
-            getPublickeyBytes() {
-          java.lang.Object ref = publickey_;
-          if (ref instanceof String) {
-            com.google.protobuf.ByteString b = 
-                com.google.protobuf.ByteString.copyFromUtf8(
-                    (java.lang.String) ref);
-            publickey_ = b;
-            return b;
-          } else {
-            return (com.google.protobuf.ByteString) ref;
-          }
-        }
-        /**
-         * <code>optional string publickey = 2;</code>
-         */
-        public Builder setPublickey(
-            java.lang.String value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-          publickey_ = value;
-          onChanged();
-          return this;
+    public static final int SPARSE_MASK_FIELD_NUMBER = 5;
+    private com.google.protobuf.ByteString sparseMask_;
+    /**
+     * <code>optional bytes sparse_mask = 5;</code>
+     *
+     * <pre>
+     * in sparse trees, one bit per pruned subtree in the same order
+     * (most significant bit first) that is set if the subtree is non-empty;
+     * only the non-empty subtrees are sent
+     * </pre>
+     */
+    public boolean hasSparseMask() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional bytes sparse_mask = 5;</code>
+     *
+     * <pre>
+     * in sparse trees, one bit per pruned subtree in the same order
+     * (most significant bit first) that is set if the subtree is non-empty;
+     * only the non-empty subtrees are sent
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getSparseMask() {
+      return sparseMask_;
+    }
+
+    private void initFields() {
+      leaf_ = java.util.Collections.emptyList();
+      subtree_ = java.util.Collections.emptyList();
+      notFound_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      childMask_ = java.util.Collections.emptyList();
+      sparseMask_ = com.google.protobuf.ByteString.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getLeafCount(); i++) {
+        if (!getLeaf(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
         }
-        /**
-         * <code>optional string publickey = 2;</code>
-         */
-        public Builder clearPublickey() {
-          bitField0_ = (bitField0_ & ~0x00000002);
-          publickey_ = getDefaultInstance().getPublickey();
-          onChanged();
-          return this;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < leaf_.size(); i++) {
+        output.writeMessage(1, leaf_.get(i));
+      }
+      for (int i = 0; i < subtree_.size(); i++) {
+        output.writeMessage(2, subtree_.get(i));
+      }
+      for (int i = 0; i < notFound_.size(); i++) {
+        output.writeBytes(3, notFound_.getByteString(i));
+      }
+      for (int i = 0; i < childMask_.size(); i++) {
+        output.writeUInt32(4, childMask_.get(i));
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(5, sparseMask_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < leaf_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, leaf_.get(i));
+      }
+      for (int i = 0; i < subtree_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, subtree_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < notFound_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(notFound_.getByteString(i));
         }
-        /**
-         * <code>optional string publickey = 2;</code>
-         */
-        public Builder setPublickeyBytes(
-            com.google.protobuf.ByteString value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-          publickey_ = value;
-          onChanged();
-          return this;
+        size += dataSize;
+        size += 1 * getNotFoundList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < childMask_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(childMask_.get(i));
         }
+        size += dataSize;
+        size += 1 * getChildMaskList().size();
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, sparseMask_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
 
-        private long epochAdded_ ;
-        /**
-         * <code>optional uint64 epoch_added = 3;</code>
-         */
-        public boolean hasEpochAdded() {
-          return ((bitField0_ & 0x00000004) == 0x00000004);
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.coniks.coniks_common.C2SProtos.MultiAuthPath parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiAuthPath parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiAuthPath parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiAuthPath parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiAuthPath parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiAuthPath parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiAuthPath parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiAuthPath parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiAuthPath parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.MultiAuthPath parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.MultiAuthPath prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.coniks.coniks_common.MultiAuthPath}
+     *
+     * <pre>
+     * compressed proof for several leaves in the same tree: every pruned
+     * subtree hash shared by the leaves' auth paths is sent only once
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.MultiAuthPath)
+        org.coniks.coniks_common.C2SProtos.MultiAuthPathOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_MultiAuthPath_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_MultiAuthPath_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.coniks.coniks_common.C2SProtos.MultiAuthPath.class, org.coniks.coniks_common.C2SProtos.MultiAuthPath.Builder.class);
+      }
+
+      // Construct using org.coniks.coniks_common.C2SProtos.MultiAuthPath.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getLeafFieldBuilder();
+          getSubtreeFieldBuilder();
         }
-        /**
-         * <code>optional uint64 epoch_added = 3;</code>
-         */
-        public long getEpochAdded() {
-          return epochAdded_;
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (leafBuilder_ == null) {
+          leaf_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          leafBuilder_.clear();
         }
-        /**
-         * <code>optional uint64 epoch_added = 3;</code>
-         */
-        public Builder setEpochAdded(long value) {
-          bitField0_ |= 0x00000004;
-          epochAdded_ = value;
-          onChanged();
-          return this;
+        if (subtreeBuilder_ == null) {
+          subtree_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          subtreeBuilder_.clear();
         }
-        /**
-         * <code>optional uint64 epoch_added = 3;</code>
-         */
-        public Builder clearEpochAdded() {
-          bitField0_ = (bitField0_ & ~0x00000004);
-          epochAdded_ = 0L;
-          onChanged();
-          return this;
+        notFound_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        childMask_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        sparseMask_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_MultiAuthPath_descriptor;
+      }
+
+      public org.coniks.coniks_common.C2SProtos.MultiAuthPath getDefaultInstanceForType() {
+        return org.coniks.coniks_common.C2SProtos.MultiAuthPath.getDefaultInstance();
+      }
+
+      public org.coniks.coniks_common.C2SProtos.MultiAuthPath build() {
+        org.coniks.coniks_common.C2SProtos.MultiAuthPath result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
+        return result;
+      }
 
-        private long epochChanged_ ;
-        /**
-         * <code>optional uint64 epoch_changed = 4;</code>
-         */
-        public boolean hasEpochChanged() {
-          return ((bitField0_ & 0x00000008) == 0x00000008);
+      public org.coniks.coniks_common.C2SProtos.MultiAuthPath buildPartial() {
+        org.coniks.coniks_common.C2SProtos.MultiAuthPath result = new org.coniks.coniks_common.C2SProtos.MultiAuthPath(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (leafBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            leaf_ = java.util.Collections.unmodifiableList(leaf_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.leaf_ = leaf_;
+        } else {
+          result.leaf_ = leafBuilder_.build();
         }
-        /**
-         * <code>optional uint64 epoch_changed = 4;</code>
-         */
-        public long getEpochChanged() {
-          return epochChanged_;
+        if (subtreeBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            subtree_ = java.util.Collections.unmodifiableList(subtree_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.subtree_ = subtree_;
+        } else {
+          result.subtree_ = subtreeBuilder_.build();
         }
-        /**
-         * <code>optional uint64 epoch_changed = 4;</code>
-         */
-        public Builder setEpochChanged(long value) {
-          bitField0_ |= 0x00000008;
-          epochChanged_ = value;
-          onChanged();
-          return this;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          notFound_ = notFound_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000004);
         }
-        /**
-         * <code>optional uint64 epoch_changed = 4;</code>
-         */
-        public Builder clearEpochChanged() {
+        result.notFound_ = notFound_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          childMask_ = java.util.Collections.unmodifiableList(childMask_);
           bitField0_ = (bitField0_ & ~0x00000008);
-          epochChanged_ = 0L;
-          onChanged();
+        }
+        result.childMask_ = childMask_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.sparseMask_ = sparseMask_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.coniks.coniks_common.C2SProtos.MultiAuthPath) {
+          return mergeFrom((org.coniks.coniks_common.C2SProtos.MultiAuthPath)other);
+        } else {
+          super.mergeFrom(other);
           return this;
         }
+      }
 
-        private boolean allowsUnsignedKeychange_ ;
-        /**
-         * <code>optional bool allows_unsigned_keychange = 5;</code>
-         */
-        public boolean hasAllowsUnsignedKeychange() {
-          return ((bitField0_ & 0x00000010) == 0x00000010);
+      public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.MultiAuthPath other) {
+        if (other == org.coniks.coniks_common.C2SProtos.MultiAuthPath.getDefaultInstance()) return this;
+        if (leafBuilder_ == null) {
+          if (!other.leaf_.isEmpty()) {
+            if (leaf_.isEmpty()) {
+              leaf_ = other.leaf_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureLeafIsMutable();
+              leaf_.addAll(other.leaf_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.leaf_.isEmpty()) {
+            if (leafBuilder_.isEmpty()) {
+              leafBuilder_.dispose();
+              leafBuilder_ = null;
+              leaf_ = other.leaf_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              leafBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getLeafFieldBuilder() : null;
+            } else {
+              leafBuilder_.addAllMessages(other.leaf_);
+            }
+          }
         }
-        /**
-         * <code>optional bool allows_unsigned_keychange = 5;</code>
-         */
-        public boolean getAllowsUnsignedKeychange() {
-          return allowsUnsignedKeychange_;
+        if (subtreeBuilder_ == null) {
+          if (!other.subtree_.isEmpty()) {
+            if (subtree_.isEmpty()) {
+              subtree_ = other.subtree_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureSubtreeIsMutable();
+              subtree_.addAll(other.subtree_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.subtree_.isEmpty()) {
+            if (subtreeBuilder_.isEmpty()) {
+              subtreeBuilder_.dispose();
+              subtreeBuilder_ = null;
+              subtree_ = other.subtree_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              subtreeBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getSubtreeFieldBuilder() : null;
+            } else {
+              subtreeBuilder_.addAllMessages(other.subtree_);
+            }
+          }
         }
-        /**
-         * <code>optional bool allows_unsigned_keychange = 5;</code>
-         */
-        public Builder setAllowsUnsignedKeychange(boolean value) {
-          bitField0_ |= 0x00000010;
-          allowsUnsignedKeychange_ = value;
+        if (!other.notFound_.isEmpty()) {
+          if (notFound_.isEmpty()) {
+            notFound_ = other.notFound_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureNotFoundIsMutable();
+            notFound_.addAll(other.notFound_);
+          }
           onChanged();
-          return this;
         }
-        /**
-         * <code>optional bool allows_unsigned_keychange = 5;</code>
-         */
-        public Builder clearAllowsUnsignedKeychange() {
-          bitField0_ = (bitField0_ & ~0x00000010);
-          allowsUnsignedKeychange_ = false;
+        if (!other.childMask_.isEmpty()) {
+          if (childMask_.isEmpty()) {
+            childMask_ = other.childMask_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureChildMaskIsMutable();
+            childMask_.addAll(other.childMask_);
+          }
           onChanged();
-          return this;
-        }
-
-        private boolean allowsPublicLookup_ ;
-        /**
-         * <code>optional bool allows_public_lookup = 6;</code>
-         */
-        public boolean hasAllowsPublicLookup() {
-          return ((bitField0_ & 0x00000020) == 0x00000020);
         }
-        /**
-         * <code>optional bool allows_public_lookup = 6;</code>
-         */
-        public boolean getAllowsPublicLookup() {
-          return allowsPublicLookup_;
+        if (other.hasSparseMask()) {
+          setSparseMask(other.getSparseMask());
         }
-        /**
-         * <code>optional bool allows_public_lookup = 6;</code>
-         */
-        public Builder setAllowsPublicLookup(boolean value) {
-          bitField0_ |= 0x00000020;
-          allowsPublicLookup_ = value;
-          onChanged();
-          return this;
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getLeafCount(); i++) {
+          if (!getLeaf(i).isInitialized()) {
+            
+            return false;
+          }
         }
-        /**
-         * <code>optional bool allows_public_lookup = 6;</code>
-         */
-        public Builder clearAllowsPublicLookup() {
-          bitField0_ = (bitField0_ & ~0x00000020);
-          allowsPublicLookup_ = false;
-          onChanged();
-          return this;
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.coniks.coniks_common.C2SProtos.MultiAuthPath parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.coniks.coniks_common.C2SProtos.MultiAuthPath) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
         }
+        return this;
+      }
+      private int bitField0_;
 
-        private com.google.protobuf.ByteString lookupIndex_ = com.google.protobuf.ByteString.EMPTY;
-        /**
-         * <code>optional bytes lookup_index = 7;</code>
-         */
-        public boolean hasLookupIndex() {
-          return ((bitField0_ & 0x00000040) == 0x00000040);
+      private java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode> leaf_ =
+        java.util.Collections.emptyList();
+      private void ensureLeafIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          leaf_ = new java.util.ArrayList<org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode>(leaf_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder> leafBuilder_;
+
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode> getLeafList() {
+        if (leafBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(leaf_);
+        } else {
+          return leafBuilder_.getMessageList();
         }
-        /**
-         * <code>optional bytes lookup_index = 7;</code>
-         */
-        public com.google.protobuf.ByteString getLookupIndex() {
-          return lookupIndex_;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public int getLeafCount() {
+        if (leafBuilder_ == null) {
+          return leaf_.size();
+        } else {
+          return leafBuilder_.getCount();
         }
-        /**
-         * <code>optional bytes lookup_index = 7;</code>
-         */
-        public Builder setLookupIndex(com.google.protobuf.ByteString value) {
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode getLeaf(int index) {
+        if (leafBuilder_ == null) {
+          return leaf_.get(index);
+        } else {
+          return leafBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public Builder setLeaf(
+          int index, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode value) {
+        if (leafBuilder_ == null) {
           if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000040;
-          lookupIndex_ = value;
+            throw new NullPointerException();
+          }
+          ensureLeafIsMutable();
+          leaf_.set(index, value);
+          onChanged();
+        } else {
+          leafBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public Builder setLeaf(
+          int index, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder builderForValue) {
+        if (leafBuilder_ == null) {
+          ensureLeafIsMutable();
+          leaf_.set(index, builderForValue.build());
           onChanged();
-          return this;
+        } else {
+          leafBuilder_.setMessage(index, builderForValue.build());
         }
-        /**
-         * <code>optional bytes lookup_index = 7;</code>
-         */
-        public Builder clearLookupIndex() {
-          bitField0_ = (bitField0_ & ~0x00000040);
-          lookupIndex_ = getDefaultInstance().getLookupIndex();
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public Builder addLeaf(org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode value) {
+        if (leafBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLeafIsMutable();
+          leaf_.add(value);
           onChanged();
-          return this;
-        }
-
-        private int intlevels_ ;
-        /**
-         * <code>optional uint32 intlevels = 8;</code>
-         *
-         * <pre>
-         * needed so client can loop over interior nodes
-         * </pre>
-         */
-        public boolean hasIntlevels() {
-          return ((bitField0_ & 0x00000080) == 0x00000080);
-        }
-        /**
-         * <code>optional uint32 intlevels = 8;</code>
-         *
-         * <pre>
-         * needed so client can loop over interior nodes
-         * </pre>
-         */
-        public int getIntlevels() {
-          return intlevels_;
+        } else {
+          leafBuilder_.addMessage(value);
         }
-        /**
-         * <code>optional uint32 intlevels = 8;</code>
-         *
-         * <pre>
-         * needed so client can loop over interior nodes
-         * </pre>
-         */
-        public Builder setIntlevels(int value) {
-          bitField0_ |= 0x00000080;
-          intlevels_ = value;
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public Builder addLeaf(
+          int index, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode value) {
+        if (leafBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLeafIsMutable();
+          leaf_.add(index, value);
           onChanged();
-          return this;
+        } else {
+          leafBuilder_.addMessage(index, value);
         }
-        /**
-         * <code>optional uint32 intlevels = 8;</code>
-         *
-         * <pre>
-         * needed so client can loop over interior nodes
-         * </pre>
-         */
-        public Builder clearIntlevels() {
-          bitField0_ = (bitField0_ & ~0x00000080);
-          intlevels_ = 0;
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public Builder addLeaf(
+          org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder builderForValue) {
+        if (leafBuilder_ == null) {
+          ensureLeafIsMutable();
+          leaf_.add(builderForValue.build());
           onChanged();
-          return this;
+        } else {
+          leafBuilder_.addMessage(builderForValue.build());
         }
-
-        private com.google.protobuf.ByteString signature_ = com.google.protobuf.ByteString.EMPTY;
-        /**
-         * <code>optional bytes signature = 9;</code>
-         */
-        public boolean hasSignature() {
-          return ((bitField0_ & 0x00000100) == 0x00000100);
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public Builder addLeaf(
+          int index, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder builderForValue) {
+        if (leafBuilder_ == null) {
+          ensureLeafIsMutable();
+          leaf_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          leafBuilder_.addMessage(index, builderForValue.build());
         }
-        /**
-         * <code>optional bytes signature = 9;</code>
-         */
-        public com.google.protobuf.ByteString getSignature() {
-          return signature_;
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public Builder addAllLeaf(
+          java.lang.Iterable<? extends org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode> values) {
+        if (leafBuilder_ == null) {
+          ensureLeafIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, leaf_);
+          onChanged();
+        } else {
+          leafBuilder_.addAllMessages(values);
         }
-        /**
-         * <code>optional bytes signature = 9;</code>
-         */
-        public Builder setSignature(com.google.protobuf.ByteString value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000100;
-          signature_ = value;
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public Builder clearLeaf() {
+        if (leafBuilder_ == null) {
+          leaf_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
           onChanged();
-          return this;
+        } else {
+          leafBuilder_.clear();
         }
-        /**
-         * <code>optional bytes signature = 9;</code>
-         */
-        public Builder clearSignature() {
-          bitField0_ = (bitField0_ & ~0x00000100);
-          signature_ = getDefaultInstance().getSignature();
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public Builder removeLeaf(int index) {
+        if (leafBuilder_ == null) {
+          ensureLeafIsMutable();
+          leaf_.remove(index);
           onChanged();
-          return this;
+        } else {
+          leafBuilder_.remove(index);
         }
-
-        private org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto changeKey_ = org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.getDefaultInstance();
-        private com.google.protobuf.SingleFieldBuilder<
-            org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto, org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.Builder, org.coniks.coniks_common.C2SProtos.DSAPublicKeyProtoOrBuilder> changeKeyBuilder_;
-        /**
-         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
-         */
-        public boolean hasChangeKey() {
-          return ((bitField0_ & 0x00000200) == 0x00000200);
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder getLeafBuilder(
+          int index) {
+        return getLeafFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder getLeafOrBuilder(
+          int index) {
+        if (leafBuilder_ == null) {
+          return leaf_.get(index);  } else {
+          return leafBuilder_.getMessageOrBuilder(index);
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
-         */
-        public org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto getChangeKey() {
-          if (changeKeyBuilder_ == null) {
-            return changeKey_;
-          } else {
-            return changeKeyBuilder_.getMessage();
-          }
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public java.util.List<? extends org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder> 
+           getLeafOrBuilderList() {
+        if (leafBuilder_ != null) {
+          return leafBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(leaf_);
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
-         */
-        public Builder setChangeKey(org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto value) {
-          if (changeKeyBuilder_ == null) {
-            if (value == null) {
-              throw new NullPointerException();
-            }
-            changeKey_ = value;
-            onChanged();
-          } else {
-            changeKeyBuilder_.setMessage(value);
-          }
-          bitField0_ |= 0x00000200;
-          return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder addLeafBuilder() {
+        return getLeafFieldBuilder().addBuilder(
+            org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder addLeafBuilder(
+          int index) {
+        return getLeafFieldBuilder().addBuilder(
+            index, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+       *
+       * <pre>
+       * leaves in increasing lookup index order; intlevels is set for each
+       * </pre>
+       */
+      public java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder> 
+           getLeafBuilderList() {
+        return getLeafFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder> 
+          getLeafFieldBuilder() {
+        if (leafBuilder_ == null) {
+          leafBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder>(
+                  leaf_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          leaf_ = null;
+        }
+        return leafBuilder_;
+      }
+
+      private java.util.List<org.coniks.coniks_common.UtilProtos.Hash> subtree_ =
+        java.util.Collections.emptyList();
+      private void ensureSubtreeIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          subtree_ = new java.util.ArrayList<org.coniks.coniks_common.UtilProtos.Hash>(subtree_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder> subtreeBuilder_;
+
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public java.util.List<org.coniks.coniks_common.UtilProtos.Hash> getSubtreeList() {
+        if (subtreeBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(subtree_);
+        } else {
+          return subtreeBuilder_.getMessageList();
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
-         */
-        public Builder setChangeKey(
-            org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.Builder builderForValue) {
-          if (changeKeyBuilder_ == null) {
-            changeKey_ = builderForValue.build();
-            onChanged();
-          } else {
-            changeKeyBuilder_.setMessage(builderForValue.build());
-          }
-          bitField0_ |= 0x00000200;
-          return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public int getSubtreeCount() {
+        if (subtreeBuilder_ == null) {
+          return subtree_.size();
+        } else {
+          return subtreeBuilder_.getCount();
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
-         */
-        public Builder mergeChangeKey(org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto value) {
-          if (changeKeyBuilder_ == null) {
-            if (((bitField0_ & 0x00000200) == 0x00000200) &&
-                changeKey_ != org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.getDefaultInstance()) {
-              changeKey_ =
-                org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.newBuilder(changeKey_).mergeFrom(value).buildPartial();
-            } else {
-              changeKey_ = value;
-            }
-            onChanged();
-          } else {
-            changeKeyBuilder_.mergeFrom(value);
-          }
-          bitField0_ |= 0x00000200;
-          return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public org.coniks.coniks_common.UtilProtos.Hash getSubtree(int index) {
+        if (subtreeBuilder_ == null) {
+          return subtree_.get(index);
+        } else {
+          return subtreeBuilder_.getMessage(index);
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
-         */
-        public Builder clearChangeKey() {
-          if (changeKeyBuilder_ == null) {
-            changeKey_ = org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.getDefaultInstance();
-            onChanged();
-          } else {
-            changeKeyBuilder_.clear();
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public Builder setSubtree(
+          int index, org.coniks.coniks_common.UtilProtos.Hash value) {
+        if (subtreeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
-          bitField0_ = (bitField0_ & ~0x00000200);
-          return this;
+          ensureSubtreeIsMutable();
+          subtree_.set(index, value);
+          onChanged();
+        } else {
+          subtreeBuilder_.setMessage(index, value);
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
-         */
-        public org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.Builder getChangeKeyBuilder() {
-          bitField0_ |= 0x00000200;
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public Builder setSubtree(
+          int index, org.coniks.coniks_common.UtilProtos.Hash.Builder builderForValue) {
+        if (subtreeBuilder_ == null) {
+          ensureSubtreeIsMutable();
+          subtree_.set(index, builderForValue.build());
           onChanged();
-          return getChangeKeyFieldBuilder().getBuilder();
+        } else {
+          subtreeBuilder_.setMessage(index, builderForValue.build());
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
-         */
-        public org.coniks.coniks_common.C2SProtos.DSAPublicKeyProtoOrBuilder getChangeKeyOrBuilder() {
-          if (changeKeyBuilder_ != null) {
-            return changeKeyBuilder_.getMessageOrBuilder();
-          } else {
-            return changeKey_;
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public Builder addSubtree(org.coniks.coniks_common.UtilProtos.Hash value) {
+        if (subtreeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureSubtreeIsMutable();
+          subtree_.add(value);
+          onChanged();
+        } else {
+          subtreeBuilder_.addMessage(value);
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.DSAPublicKeyProto changeKey = 10;</code>
-         */
-        private com.google.protobuf.SingleFieldBuilder<
-            org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto, org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.Builder, org.coniks.coniks_common.C2SProtos.DSAPublicKeyProtoOrBuilder> 
-            getChangeKeyFieldBuilder() {
-          if (changeKeyBuilder_ == null) {
-            changeKeyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-                org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto, org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto.Builder, org.coniks.coniks_common.C2SProtos.DSAPublicKeyProtoOrBuilder>(
-                    getChangeKey(),
-                    getParentForChildren(),
-                    isClean());
-            changeKey_ = null;
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public Builder addSubtree(
+          int index, org.coniks.coniks_common.UtilProtos.Hash value) {
+        if (subtreeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
-          return changeKeyBuilder_;
+          ensureSubtreeIsMutable();
+          subtree_.add(index, value);
+          onChanged();
+        } else {
+          subtreeBuilder_.addMessage(index, value);
         }
-
-        private com.google.protobuf.ByteString lastMsg_ = com.google.protobuf.ByteString.EMPTY;
-        /**
-         * <code>optional bytes lastMsg = 11;</code>
-         */
-        public boolean hasLastMsg() {
-          return ((bitField0_ & 0x00000400) == 0x00000400);
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public Builder addSubtree(
+          org.coniks.coniks_common.UtilProtos.Hash.Builder builderForValue) {
+        if (subtreeBuilder_ == null) {
+          ensureSubtreeIsMutable();
+          subtree_.add(builderForValue.build());
+          onChanged();
+        } else {
+          subtreeBuilder_.addMessage(builderForValue.build());
         }
-        /**
-         * <code>optional bytes lastMsg = 11;</code>
-         */
-        public com.google.protobuf.ByteString getLastMsg() {
-          return lastMsg_;
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public Builder addSubtree(
+          int index, org.coniks.coniks_common.UtilProtos.Hash.Builder builderForValue) {
+        if (subtreeBuilder_ == null) {
+          ensureSubtreeIsMutable();
+          subtree_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          subtreeBuilder_.addMessage(index, builderForValue.build());
         }
-        /**
-         * <code>optional bytes lastMsg = 11;</code>
-         */
-        public Builder setLastMsg(com.google.protobuf.ByteString value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000400;
-          lastMsg_ = value;
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public Builder addAllSubtree(
+          java.lang.Iterable<? extends org.coniks.coniks_common.UtilProtos.Hash> values) {
+        if (subtreeBuilder_ == null) {
+          ensureSubtreeIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, subtree_);
           onChanged();
-          return this;
+        } else {
+          subtreeBuilder_.addAllMessages(values);
         }
-        /**
-         * <code>optional bytes lastMsg = 11;</code>
-         */
-        public Builder clearLastMsg() {
-          bitField0_ = (bitField0_ & ~0x00000400);
-          lastMsg_ = getDefaultInstance().getLastMsg();
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public Builder clearSubtree() {
+        if (subtreeBuilder_ == null) {
+          subtree_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
           onChanged();
-          return this;
+        } else {
+          subtreeBuilder_.clear();
         }
-
-        // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.AuthPath.UserLeafNode)
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public Builder removeSubtree(int index) {
+        if (subtreeBuilder_ == null) {
+          ensureSubtreeIsMutable();
+          subtree_.remove(index);
+          onChanged();
+        } else {
+          subtreeBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public org.coniks.coniks_common.UtilProtos.Hash.Builder getSubtreeBuilder(
+          int index) {
+        return getSubtreeFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public org.coniks.coniks_common.UtilProtos.HashOrBuilder getSubtreeOrBuilder(
+          int index) {
+        if (subtreeBuilder_ == null) {
+          return subtree_.get(index);  } else {
+          return subtreeBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public java.util.List<? extends org.coniks.coniks_common.UtilProtos.HashOrBuilder> 
+           getSubtreeOrBuilderList() {
+        if (subtreeBuilder_ != null) {
+          return subtreeBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(subtree_);
+        }
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public org.coniks.coniks_common.UtilProtos.Hash.Builder addSubtreeBuilder() {
+        return getSubtreeFieldBuilder().addBuilder(
+            org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public org.coniks.coniks_common.UtilProtos.Hash.Builder addSubtreeBuilder(
+          int index) {
+        return getSubtreeFieldBuilder().addBuilder(
+            index, org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.Hash subtree = 2;</code>
+       *
+       * <pre>
+       * pruned subtree hashes in the order in which a depth-first,
+       * left-to-right traversal of the union of the paths reaches them
+       * </pre>
+       */
+      public java.util.List<org.coniks.coniks_common.UtilProtos.Hash.Builder> 
+           getSubtreeBuilderList() {
+        return getSubtreeFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder> 
+          getSubtreeFieldBuilder() {
+        if (subtreeBuilder_ == null) {
+          subtreeBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder>(
+                  subtree_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          subtree_ = null;
+        }
+        return subtreeBuilder_;
       }
 
-      static {
-        defaultInstance = new UserLeafNode(true);
-        defaultInstance.initFields();
+      private com.google.protobuf.LazyStringList notFound_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureNotFoundIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          notFound_ = new com.google.protobuf.LazyStringArrayList(notFound_);
+          bitField0_ |= 0x00000004;
+         }
       }
-
-      // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.AuthPath.UserLeafNode)
-    }
-
-    public interface InteriorNodeOrBuilder extends
-        // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.AuthPath.InteriorNode)
-        com.google.protobuf.MessageOrBuilder {
-
       /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+       * <code>repeated string not_found = 3;</code>
        *
        * <pre>
-       * client needs to check that both of these fields are set for each interior node
+       * requested names that don't exist in the directory
        * </pre>
        */
-      boolean hasPrunedchild();
+      public com.google.protobuf.ProtocolStringList
+          getNotFoundList() {
+        return notFound_.getUnmodifiableView();
+      }
       /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+       * <code>repeated string not_found = 3;</code>
        *
        * <pre>
-       * client needs to check that both of these fields are set for each interior node
+       * requested names that don't exist in the directory
        * </pre>
        */
-      org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild getPrunedchild();
-
+      public int getNotFoundCount() {
+        return notFound_.size();
+      }
       /**
-       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       * <code>repeated string not_found = 3;</code>
+       *
+       * <pre>
+       * requested names that don't exist in the directory
+       * </pre>
        */
-      boolean hasSubtree();
+      public java.lang.String getNotFound(int index) {
+        return notFound_.get(index);
+      }
       /**
-       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       * <code>repeated string not_found = 3;</code>
+       *
+       * <pre>
+       * requested names that don't exist in the directory
+       * </pre>
        */
-      org.coniks.coniks_common.UtilProtos.Hash getSubtree();
+      public com.google.protobuf.ByteString
+          getNotFoundBytes(int index) {
+        return notFound_.getByteString(index);
+      }
       /**
-       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       * <code>repeated string not_found = 3;</code>
+       *
+       * <pre>
+       * requested names that don't exist in the directory
+       * </pre>
        */
-      org.coniks.coniks_common.UtilProtos.HashOrBuilder getSubtreeOrBuilder();
-    }
-    /**
-     * Protobuf type {@code org.coniks.coniks_common.AuthPath.InteriorNode}
-     */
-    public static final class InteriorNode extends
-        com.google.protobuf.GeneratedMessage implements
-        // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.AuthPath.InteriorNode)
-        InteriorNodeOrBuilder {
-      // Use InteriorNode.newBuilder() to construct.
-      private InteriorNode(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-        super(builder);
-        this.unknownFields = builder.getUnknownFields();
+      public Builder setNotFound(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureNotFoundIsMutable();
+        notFound_.set(index, value);
+        onChanged();
+        return this;
       }
-      private InteriorNode(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
-
-      private static final InteriorNode defaultInstance;
-      public static InteriorNode getDefaultInstance() {
-        return defaultInstance;
+      /**
+       * <code>repeated string not_found = 3;</code>
+       *
+       * <pre>
+       * requested names that don't exist in the directory
+       * </pre>
+       */
+      public Builder addNotFound(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureNotFoundIsMutable();
+        notFound_.add(value);
+        onChanged();
+        return this;
       }
-
-      public InteriorNode getDefaultInstanceForType() {
-        return defaultInstance;
+      /**
+       * <code>repeated string not_found = 3;</code>
+       *
+       * <pre>
+       * requested names that don't exist in the directory
+       * </pre>
+       */
+      public Builder addAllNotFound(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureNotFoundIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, notFound_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string not_found = 3;</code>
+       *
+       * <pre>
+       * requested names that don't exist in the directory
+       * </pre>
+       */
+      public Builder clearNotFound() {
+        notFound_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string not_found = 3;</code>
+       *
+       * <pre>
+       * requested names that don't exist in the directory
+       * </pre>
+       */
+      public Builder addNotFoundBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureNotFoundIsMutable();
+        notFound_.add(value);
+        onChanged();
+        return this;
       }
 
-      private final com.google.protobuf.UnknownFieldSet unknownFields;
-      @java.lang.Override
-      public final com.google.protobuf.UnknownFieldSet
-          getUnknownFields() {
-        return this.unknownFields;
+      private java.util.List<java.lang.Integer> childMask_ = java.util.Collections.emptyList();
+      private void ensureChildMaskIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          childMask_ = new java.util.ArrayList<java.lang.Integer>(childMask_);
+          bitField0_ |= 0x00000008;
+         }
       }
-      private InteriorNode(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        initFields();
-        int mutable_bitField0_ = 0;
-        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-            com.google.protobuf.UnknownFieldSet.newBuilder();
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              default: {
-                if (!parseUnknownField(input, unknownFields,
-                                       extensionRegistry, tag)) {
-                  done = true;
-                }
-                break;
-              }
-              case 8: {
-                int rawValue = input.readEnum();
-                org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild value = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.valueOf(rawValue);
-                if (value == null) {
-                  unknownFields.mergeVarintField(1, rawValue);
-                } else {
-                  bitField0_ |= 0x00000001;
-                  prunedchild_ = value;
-                }
-                break;
-              }
-              case 18: {
-                org.coniks.coniks_common.UtilProtos.Hash.Builder subBuilder = null;
-                if (((bitField0_ & 0x00000002) == 0x00000002)) {
-                  subBuilder = subtree_.toBuilder();
-                }
-                subtree_ = input.readMessage(org.coniks.coniks_common.UtilProtos.Hash.PARSER, extensionRegistry);
-                if (subBuilder != null) {
-                  subBuilder.mergeFrom(subtree_);
-                  subtree_ = subBuilder.buildPartial();
-                }
-                bitField0_ |= 0x00000002;
-                break;
-              }
-            }
-          }
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(this);
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(
-              e.getMessage()).setUnfinishedMessage(this);
-        } finally {
-          this.unknownFields = unknownFields.build();
-          makeExtensionsImmutable();
-        }
+      /**
+       * <code>repeated uint32 child_mask = 4;</code>
+       *
+       * <pre>
+       * in radix-16 trees, the child masks of the nodes on the union of the
+       * paths in the order in which the same traversal reaches them
+       * </pre>
+       */
+      public java.util.List<java.lang.Integer>
+          getChildMaskList() {
+        return java.util.Collections.unmodifiableList(childMask_);
       }
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_InteriorNode_descriptor;
+      /**
+       * <code>repeated uint32 child_mask = 4;</code>
+       *
+       * <pre>
+       * in radix-16 trees, the child masks of the nodes on the union of the
+       * paths in the order in which the same traversal reaches them
+       * </pre>
+       */
+      public int getChildMaskCount() {
+        return childMask_.size();
       }
-
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_InteriorNode_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.class, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder.class);
+      /**
+       * <code>repeated uint32 child_mask = 4;</code>
+       *
+       * <pre>
+       * in radix-16 trees, the child masks of the nodes on the union of the
+       * paths in the order in which the same traversal reaches them
+       * </pre>
+       */
+      public int getChildMask(int index) {
+        return childMask_.get(index);
       }
-
-      public static com.google.protobuf.Parser<InteriorNode> PARSER =
-          new com.google.protobuf.AbstractParser<InteriorNode>() {
-        public InteriorNode parsePartialFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-          return new InteriorNode(input, extensionRegistry);
-        }
-      };
-
-      @java.lang.Override
-      public com.google.protobuf.Parser<InteriorNode> getParserForType() {
-        return PARSER;
+      /**
+       * <code>repeated uint32 child_mask = 4;</code>
+       *
+       * <pre>
+       * in radix-16 trees, the child masks of the nodes on the union of the
+       * paths in the order in which the same traversal reaches them
+       * </pre>
+       */
+      public Builder setChildMask(
+          int index, int value) {
+        ensureChildMaskIsMutable();
+        childMask_.set(index, value);
+        onChanged();
+        return this;
       }
-
-      private int bitField0_;
-      public static final int PRUNEDCHILD_FIELD_NUMBER = 1;
-      private org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild prunedchild_;
       /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+       * <code>repeated uint32 child_mask = 4;</code>
        *
        * <pre>
-       * client needs to check that both of these fields are set for each interior node
+       * in radix-16 trees, the child masks of the nodes on the union of the
+       * paths in the order in which the same traversal reaches them
        * </pre>
        */
-      public boolean hasPrunedchild() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public Builder addChildMask(int value) {
+        ensureChildMaskIsMutable();
+        childMask_.add(value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+       * <code>repeated uint32 child_mask = 4;</code>
        *
        * <pre>
-       * client needs to check that both of these fields are set for each interior node
+       * in radix-16 trees, the child masks of the nodes on the union of the
+       * paths in the order in which the same traversal reaches them
        * </pre>
        */
-      public org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild getPrunedchild() {
-        return prunedchild_;
+      public Builder addAllChildMask(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureChildMaskIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, childMask_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 child_mask = 4;</code>
+       *
+       * <pre>
+       * in radix-16 trees, the child masks of the nodes on the union of the
+       * paths in the order in which the same traversal reaches them
+       * </pre>
+       */
+      public Builder clearChildMask() {
+        childMask_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
       }
 
-      public static final int SUBTREE_FIELD_NUMBER = 2;
-      private org.coniks.coniks_common.UtilProtos.Hash subtree_;
+      private com.google.protobuf.ByteString sparseMask_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       * <code>optional bytes sparse_mask = 5;</code>
+       *
+       * <pre>
+       * in sparse trees, one bit per pruned subtree in the same order
+       * (most significant bit first) that is set if the subtree is non-empty;
+       * only the non-empty subtrees are sent
+       * </pre>
        */
-      public boolean hasSubtree() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public boolean hasSparseMask() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
       }
       /**
-       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       * <code>optional bytes sparse_mask = 5;</code>
+       *
+       * <pre>
+       * in sparse trees, one bit per pruned subtree in the same order
+       * (most significant bit first) that is set if the subtree is non-empty;
+       * only the non-empty subtrees are sent
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getSparseMask() {
+        return sparseMask_;
+      }
+      /**
+       * <code>optional bytes sparse_mask = 5;</code>
+       *
+       * <pre>
+       * in sparse trees, one bit per pruned subtree in the same order
+       * (most significant bit first) that is set if the subtree is non-empty;
+       * only the non-empty subtrees are sent
+       * </pre>
        */
-      public org.coniks.coniks_common.UtilProtos.Hash getSubtree() {
-        return subtree_;
+      public Builder setSparseMask(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        sparseMask_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       * <code>optional bytes sparse_mask = 5;</code>
+       *
+       * <pre>
+       * in sparse trees, one bit per pruned subtree in the same order
+       * (most significant bit first) that is set if the subtree is non-empty;
+       * only the non-empty subtrees are sent
+       * </pre>
        */
-      public org.coniks.coniks_common.UtilProtos.HashOrBuilder getSubtreeOrBuilder() {
-        return subtree_;
+      public Builder clearSparseMask() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        sparseMask_ = getDefaultInstance().getSparseMask();
+        onChanged();
+        return this;
       }
 
-      private void initFields() {
-        prunedchild_ = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.LEFT;
-        subtree_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
-      }
-      private byte memoizedIsInitialized = -1;
-      public final boolean isInitialized() {
-        byte isInitialized = memoizedIsInitialized;
-        if (isInitialized == 1) return true;
-        if (isInitialized == 0) return false;
+      // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.MultiAuthPath)
+    }
 
-        memoizedIsInitialized = 1;
-        return true;
-      }
+    static {
+      defaultInstance = new MultiAuthPath(true);
+      defaultInstance.initFields();
+    }
 
-      public void writeTo(com.google.protobuf.CodedOutputStream output)
-                          throws java.io.IOException {
-        getSerializedSize();
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          output.writeEnum(1, prunedchild_.getNumber());
-        }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          output.writeMessage(2, subtree_);
-        }
-        getUnknownFields().writeTo(output);
-      }
+    // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.MultiAuthPath)
+  }
 
-      private int memoizedSerializedSize = -1;
-      public int getSerializedSize() {
-        int size = memoizedSerializedSize;
-        if (size != -1) return size;
+  public interface KeyHistoryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.KeyHistory)
+      com.google.protobuf.MessageOrBuilder {
 
-        size = 0;
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeEnumSize(1, prunedchild_.getNumber());
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+     *
+     * <pre>
+     * every version of a user's leaf that was current at some point in
+     * the requested epoch range, oldest first; each version is proven
+     * in the tree of the epoch in which it was published
+     * </pre>
+     */
+    java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath> 
+        getVersionList();
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+     *
+     * <pre>
+     * every version of a user's leaf that was current at some point in
+     * the requested epoch range, oldest first; each version is proven
+     * in the tree of the epoch in which it was published
+     * </pre>
+     */
+    org.coniks.coniks_common.C2SProtos.AuthPath getVersion(int index);
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+     *
+     * <pre>
+     * every version of a user's leaf that was current at some point in
+     * the requested epoch range, oldest first; each version is proven
+     * in the tree of the epoch in which it was published
+     * </pre>
+     */
+    int getVersionCount();
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+     *
+     * <pre>
+     * every version of a user's leaf that was current at some point in
+     * the requested epoch range, oldest first; each version is proven
+     * in the tree of the epoch in which it was published
+     * </pre>
+     */
+    java.util.List<? extends org.coniks.coniks_common.C2SProtos.AuthPathOrBuilder> 
+        getVersionOrBuilderList();
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+     *
+     * <pre>
+     * every version of a user's leaf that was current at some point in
+     * the requested epoch range, oldest first; each version is proven
+     * in the tree of the epoch in which it was published
+     * </pre>
+     */
+    org.coniks.coniks_common.C2SProtos.AuthPathOrBuilder getVersionOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated uint64 epoch = 2;</code>
+     *
+     * <pre>
+     * the epoch of each version, in the same order
+     * </pre>
+     */
+    java.util.List<java.lang.Long> getEpochList();
+    /**
+     * <code>repeated uint64 epoch = 2;</code>
+     *
+     * <pre>
+     * the epoch of each version, in the same order
+     * </pre>
+     */
+    int getEpochCount();
+    /**
+     * <code>repeated uint64 epoch = 2;</code>
+     *
+     * <pre>
+     * the epoch of each version, in the same order
+     * </pre>
+     */
+    long getEpoch(int index);
+  }
+  /**
+   * Protobuf type {@code org.coniks.coniks_common.KeyHistory}
+   */
+  public static final class KeyHistory extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.KeyHistory)
+      KeyHistoryOrBuilder {
+    // Use KeyHistory.newBuilder() to construct.
+    private KeyHistory(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private KeyHistory(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final KeyHistory defaultInstance;
+    public static KeyHistory getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public KeyHistory getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private KeyHistory(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                version_ = new java.util.ArrayList<org.coniks.coniks_common.C2SProtos.AuthPath>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              version_.add(input.readMessage(org.coniks.coniks_common.C2SProtos.AuthPath.PARSER, extensionRegistry));
+              break;
+            }
+            case 16: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                epoch_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              epoch_.add(input.readUInt64());
+              break;
+            }
+            case 18: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+                epoch_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                epoch_.add(input.readUInt64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+          }
         }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeMessageSize(2, subtree_);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          version_ = java.util.Collections.unmodifiableList(version_);
         }
-        size += getUnknownFields().getSerializedSize();
-        memoizedSerializedSize = size;
-        return size;
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          epoch_ = java.util.Collections.unmodifiableList(epoch_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
       }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyHistory_descriptor;
+    }
 
-      private static final long serialVersionUID = 0L;
-      @java.lang.Override
-      protected java.lang.Object writeReplace()
-          throws java.io.ObjectStreamException {
-        return super.writeReplace();
-      }
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyHistory_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.coniks.coniks_common.C2SProtos.KeyHistory.class, org.coniks.coniks_common.C2SProtos.KeyHistory.Builder.class);
+    }
 
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseFrom(
-          com.google.protobuf.ByteString data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseFrom(
-          com.google.protobuf.ByteString data,
+    public static com.google.protobuf.Parser<KeyHistory> PARSER =
+        new com.google.protobuf.AbstractParser<KeyHistory>() {
+      public KeyHistory parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
-      }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseFrom(byte[] data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
+        return new KeyHistory(input, extensionRegistry);
       }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseFrom(
-          byte[] data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<KeyHistory> getParserForType() {
+      return PARSER;
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 1;
+    private java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath> version_;
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+     *
+     * <pre>
+     * every version of a user's leaf that was current at some point in
+     * the requested epoch range, oldest first; each version is proven
+     * in the tree of the epoch in which it was published
+     * </pre>
+     */
+    public java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath> getVersionList() {
+      return version_;
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+     *
+     * <pre>
+     * every version of a user's leaf that was current at some point in
+     * the requested epoch range, oldest first; each version is proven
+     * in the tree of the epoch in which it was published
+     * </pre>
+     */
+    public java.util.List<? extends org.coniks.coniks_common.C2SProtos.AuthPathOrBuilder> 
+        getVersionOrBuilderList() {
+      return version_;
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+     *
+     * <pre>
+     * every version of a user's leaf that was current at some point in
+     * the requested epoch range, oldest first; each version is proven
+     * in the tree of the epoch in which it was published
+     * </pre>
+     */
+    public int getVersionCount() {
+      return version_.size();
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+     *
+     * <pre>
+     * every version of a user's leaf that was current at some point in
+     * the requested epoch range, oldest first; each version is proven
+     * in the tree of the epoch in which it was published
+     * </pre>
+     */
+    public org.coniks.coniks_common.C2SProtos.AuthPath getVersion(int index) {
+      return version_.get(index);
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+     *
+     * <pre>
+     * every version of a user's leaf that was current at some point in
+     * the requested epoch range, oldest first; each version is proven
+     * in the tree of the epoch in which it was published
+     * </pre>
+     */
+    public org.coniks.coniks_common.C2SProtos.AuthPathOrBuilder getVersionOrBuilder(
+        int index) {
+      return version_.get(index);
+    }
+
+    public static final int EPOCH_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Long> epoch_;
+    /**
+     * <code>repeated uint64 epoch = 2;</code>
+     *
+     * <pre>
+     * the epoch of each version, in the same order
+     * </pre>
+     */
+    public java.util.List<java.lang.Long>
+        getEpochList() {
+      return epoch_;
+    }
+    /**
+     * <code>repeated uint64 epoch = 2;</code>
+     *
+     * <pre>
+     * the epoch of each version, in the same order
+     * </pre>
+     */
+    public int getEpochCount() {
+      return epoch_.size();
+    }
+    /**
+     * <code>repeated uint64 epoch = 2;</code>
+     *
+     * <pre>
+     * the epoch of each version, in the same order
+     * </pre>
+     */
+    public long getEpoch(int index) {
+      return epoch_.get(index);
+    }
+
+    private void initFields() {
+      version_ = java.util.Collections.emptyList();
+      epoch_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getVersionCount(); i++) {
+        if (!getVersion(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
       }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < version_.size(); i++) {
+        output.writeMessage(1, version_.get(i));
       }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseFrom(
-          java.io.InputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
+      for (int i = 0; i < epoch_.size(); i++) {
+        output.writeUInt64(2, epoch_.get(i));
       }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseDelimitedFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input);
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < version_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, version_.get(i));
       }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseDelimitedFrom(
-          java.io.InputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      {
+        int dataSize = 0;
+        for (int i = 0; i < epoch_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt64SizeNoTag(epoch_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getEpochList().size();
       }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseFrom(
-          com.google.protobuf.CodedInputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.coniks.coniks_common.C2SProtos.KeyHistory parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistory parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistory parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistory parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistory parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistory parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistory parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistory parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistory parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyHistory parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.KeyHistory prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.coniks.coniks_common.KeyHistory}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.KeyHistory)
+        org.coniks.coniks_common.C2SProtos.KeyHistoryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyHistory_descriptor;
       }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parseFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyHistory_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.coniks.coniks_common.C2SProtos.KeyHistory.class, org.coniks.coniks_common.C2SProtos.KeyHistory.Builder.class);
       }
 
-      public static Builder newBuilder() { return Builder.create(); }
-      public Builder newBuilderForType() { return newBuilder(); }
-      public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode prototype) {
-        return newBuilder().mergeFrom(prototype);
+      // Construct using org.coniks.coniks_common.C2SProtos.KeyHistory.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
-      public Builder toBuilder() { return newBuilder(this); }
 
-      @java.lang.Override
-      protected Builder newBuilderForType(
+      private Builder(
           com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        Builder builder = new Builder(parent);
-        return builder;
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * Protobuf type {@code org.coniks.coniks_common.AuthPath.InteriorNode}
-       */
-      public static final class Builder extends
-          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-          // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.AuthPath.InteriorNode)
-          org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder {
-        public static final com.google.protobuf.Descriptors.Descriptor
-            getDescriptor() {
-          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_InteriorNode_descriptor;
-        }
-
-        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-            internalGetFieldAccessorTable() {
-          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_InteriorNode_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                  org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.class, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder.class);
-        }
-
-        // Construct using org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.newBuilder()
-        private Builder() {
-          maybeForceBuilderInitialization();
-        }
-
-        private Builder(
-            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-          super(parent);
-          maybeForceBuilderInitialization();
-        }
-        private void maybeForceBuilderInitialization() {
-          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-            getSubtreeFieldBuilder();
-          }
-        }
-        private static Builder create() {
-          return new Builder();
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getVersionFieldBuilder();
         }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
 
-        public Builder clear() {
-          super.clear();
-          prunedchild_ = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.LEFT;
+      public Builder clear() {
+        super.clear();
+        if (versionBuilder_ == null) {
+          version_ = java.util.Collections.emptyList();
           bitField0_ = (bitField0_ & ~0x00000001);
-          if (subtreeBuilder_ == null) {
-            subtree_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
-          } else {
-            subtreeBuilder_.clear();
-          }
-          bitField0_ = (bitField0_ & ~0x00000002);
-          return this;
-        }
-
-        public Builder clone() {
-          return create().mergeFrom(buildPartial());
-        }
-
-        public com.google.protobuf.Descriptors.Descriptor
-            getDescriptorForType() {
-          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_InteriorNode_descriptor;
+        } else {
+          versionBuilder_.clear();
         }
+        epoch_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
 
-        public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode getDefaultInstanceForType() {
-          return org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.getDefaultInstance();
-        }
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
 
-        public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode build() {
-          org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode result = buildPartial();
-          if (!result.isInitialized()) {
-            throw newUninitializedMessageException(result);
-          }
-          return result;
-        }
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyHistory_descriptor;
+      }
 
-        public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode buildPartial() {
-          org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode result = new org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode(this);
-          int from_bitField0_ = bitField0_;
-          int to_bitField0_ = 0;
-          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-            to_bitField0_ |= 0x00000001;
-          }
-          result.prunedchild_ = prunedchild_;
-          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-            to_bitField0_ |= 0x00000002;
-          }
-          if (subtreeBuilder_ == null) {
-            result.subtree_ = subtree_;
-          } else {
-            result.subtree_ = subtreeBuilder_.build();
-          }
-          result.bitField0_ = to_bitField0_;
-          onBuilt();
-          return result;
-        }
+      public org.coniks.coniks_common.C2SProtos.KeyHistory getDefaultInstanceForType() {
+        return org.coniks.coniks_common.C2SProtos.KeyHistory.getDefaultInstance();
+      }
 
-        public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode) {
-            return mergeFrom((org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode)other);
-          } else {
-            super.mergeFrom(other);
-            return this;
-          }
+      public org.coniks.coniks_common.C2SProtos.KeyHistory build() {
+        org.coniks.coniks_common.C2SProtos.KeyHistory result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
+        return result;
+      }
 
-        public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode other) {
-          if (other == org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.getDefaultInstance()) return this;
-          if (other.hasPrunedchild()) {
-            setPrunedchild(other.getPrunedchild());
-          }
-          if (other.hasSubtree()) {
-            mergeSubtree(other.getSubtree());
+      public org.coniks.coniks_common.C2SProtos.KeyHistory buildPartial() {
+        org.coniks.coniks_common.C2SProtos.KeyHistory result = new org.coniks.coniks_common.C2SProtos.KeyHistory(this);
+        int from_bitField0_ = bitField0_;
+        if (versionBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            version_ = java.util.Collections.unmodifiableList(version_);
+            bitField0_ = (bitField0_ & ~0x00000001);
           }
-          this.mergeUnknownFields(other.getUnknownFields());
-          return this;
+          result.version_ = version_;
+        } else {
+          result.version_ = versionBuilder_.build();
         }
-
-        public final boolean isInitialized() {
-          return true;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          epoch_ = java.util.Collections.unmodifiableList(epoch_);
+          bitField0_ = (bitField0_ & ~0x00000002);
         }
+        result.epoch_ = epoch_;
+        onBuilt();
+        return result;
+      }
 
-        public Builder mergeFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-          org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode parsedMessage = null;
-          try {
-            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode) e.getUnfinishedMessage();
-            throw e;
-          } finally {
-            if (parsedMessage != null) {
-              mergeFrom(parsedMessage);
-            }
-          }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.coniks.coniks_common.C2SProtos.KeyHistory) {
+          return mergeFrom((org.coniks.coniks_common.C2SProtos.KeyHistory)other);
+        } else {
+          super.mergeFrom(other);
           return this;
         }
-        private int bitField0_;
+      }
 
-        private org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild prunedchild_ = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.LEFT;
-        /**
-         * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
-         *
-         * <pre>
-         * client needs to check that both of these fields are set for each interior node
-         * </pre>
-         */
-        public boolean hasPrunedchild() {
-          return ((bitField0_ & 0x00000001) == 0x00000001);
-        }
-        /**
-         * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
-         *
-         * <pre>
-         * client needs to check that both of these fields are set for each interior node
-         * </pre>
-         */
-        public org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild getPrunedchild() {
-          return prunedchild_;
-        }
-        /**
-         * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
-         *
-         * <pre>
-         * client needs to check that both of these fields are set for each interior node
-         * </pre>
-         */
-        public Builder setPrunedchild(org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild value) {
-          if (value == null) {
-            throw new NullPointerException();
+      public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.KeyHistory other) {
+        if (other == org.coniks.coniks_common.C2SProtos.KeyHistory.getDefaultInstance()) return this;
+        if (versionBuilder_ == null) {
+          if (!other.version_.isEmpty()) {
+            if (version_.isEmpty()) {
+              version_ = other.version_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureVersionIsMutable();
+              version_.addAll(other.version_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.version_.isEmpty()) {
+            if (versionBuilder_.isEmpty()) {
+              versionBuilder_.dispose();
+              versionBuilder_ = null;
+              version_ = other.version_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              versionBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getVersionFieldBuilder() : null;
+            } else {
+              versionBuilder_.addAllMessages(other.version_);
+            }
           }
-          bitField0_ |= 0x00000001;
-          prunedchild_ = value;
-          onChanged();
-          return this;
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
-         *
-         * <pre>
-         * client needs to check that both of these fields are set for each interior node
-         * </pre>
-         */
-        public Builder clearPrunedchild() {
-          bitField0_ = (bitField0_ & ~0x00000001);
-          prunedchild_ = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.LEFT;
+        if (!other.epoch_.isEmpty()) {
+          if (epoch_.isEmpty()) {
+            epoch_ = other.epoch_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureEpochIsMutable();
+            epoch_.addAll(other.epoch_);
+          }
           onChanged();
-          return this;
         }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
 
-        private org.coniks.coniks_common.UtilProtos.Hash subtree_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
-        private com.google.protobuf.SingleFieldBuilder<
-            org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder> subtreeBuilder_;
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        public boolean hasSubtree() {
-          return ((bitField0_ & 0x00000002) == 0x00000002);
-        }
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        public org.coniks.coniks_common.UtilProtos.Hash getSubtree() {
-          if (subtreeBuilder_ == null) {
-            return subtree_;
-          } else {
-            return subtreeBuilder_.getMessage();
+      public final boolean isInitialized() {
+        for (int i = 0; i < getVersionCount(); i++) {
+          if (!getVersion(i).isInitialized()) {
+            
+            return false;
           }
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        public Builder setSubtree(org.coniks.coniks_common.UtilProtos.Hash value) {
-          if (subtreeBuilder_ == null) {
-            if (value == null) {
-              throw new NullPointerException();
-            }
-            subtree_ = value;
-            onChanged();
-          } else {
-            subtreeBuilder_.setMessage(value);
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.coniks.coniks_common.C2SProtos.KeyHistory parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.coniks.coniks_common.C2SProtos.KeyHistory) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
           }
-          bitField0_ |= 0x00000002;
-          return this;
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        public Builder setSubtree(
-            org.coniks.coniks_common.UtilProtos.Hash.Builder builderForValue) {
-          if (subtreeBuilder_ == null) {
-            subtree_ = builderForValue.build();
-            onChanged();
-          } else {
-            subtreeBuilder_.setMessage(builderForValue.build());
-          }
-          bitField0_ |= 0x00000002;
-          return this;
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath> version_ =
+        java.util.Collections.emptyList();
+      private void ensureVersionIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          version_ = new java.util.ArrayList<org.coniks.coniks_common.C2SProtos.AuthPath>(version_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.coniks.coniks_common.C2SProtos.AuthPath, org.coniks.coniks_common.C2SProtos.AuthPath.Builder, org.coniks.coniks_common.C2SProtos.AuthPathOrBuilder> versionBuilder_;
+
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+       *
+       * <pre>
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
+       * </pre>
+       */
+      public java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath> getVersionList() {
+        if (versionBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(version_);
+        } else {
+          return versionBuilder_.getMessageList();
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        public Builder mergeSubtree(org.coniks.coniks_common.UtilProtos.Hash value) {
-          if (subtreeBuilder_ == null) {
-            if (((bitField0_ & 0x00000002) == 0x00000002) &&
-                subtree_ != org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance()) {
-              subtree_ =
-                org.coniks.coniks_common.UtilProtos.Hash.newBuilder(subtree_).mergeFrom(value).buildPartial();
-            } else {
-              subtree_ = value;
-            }
-            onChanged();
-          } else {
-            subtreeBuilder_.mergeFrom(value);
-          }
-          bitField0_ |= 0x00000002;
-          return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+       *
+       * <pre>
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
+       * </pre>
+       */
+      public int getVersionCount() {
+        if (versionBuilder_ == null) {
+          return version_.size();
+        } else {
+          return versionBuilder_.getCount();
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        public Builder clearSubtree() {
-          if (subtreeBuilder_ == null) {
-            subtree_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
-            onChanged();
-          } else {
-            subtreeBuilder_.clear();
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+       *
+       * <pre>
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath getVersion(int index) {
+        if (versionBuilder_ == null) {
+          return version_.get(index);
+        } else {
+          return versionBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+       *
+       * <pre>
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
+       * </pre>
+       */
+      public Builder setVersion(
+          int index, org.coniks.coniks_common.C2SProtos.AuthPath value) {
+        if (versionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
-          bitField0_ = (bitField0_ & ~0x00000002);
-          return this;
+          ensureVersionIsMutable();
+          version_.set(index, value);
+          onChanged();
+        } else {
+          versionBuilder_.setMessage(index, value);
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        public org.coniks.coniks_common.UtilProtos.Hash.Builder getSubtreeBuilder() {
-          bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+       *
+       * <pre>
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
+       * </pre>
+       */
+      public Builder setVersion(
+          int index, org.coniks.coniks_common.C2SProtos.AuthPath.Builder builderForValue) {
+        if (versionBuilder_ == null) {
+          ensureVersionIsMutable();
+          version_.set(index, builderForValue.build());
           onChanged();
-          return getSubtreeFieldBuilder().getBuilder();
+        } else {
+          versionBuilder_.setMessage(index, builderForValue.build());
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        public org.coniks.coniks_common.UtilProtos.HashOrBuilder getSubtreeOrBuilder() {
-          if (subtreeBuilder_ != null) {
-            return subtreeBuilder_.getMessageOrBuilder();
-          } else {
-            return subtree_;
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+       *
+       * <pre>
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
+       * </pre>
+       */
+      public Builder addVersion(org.coniks.coniks_common.C2SProtos.AuthPath value) {
+        if (versionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureVersionIsMutable();
+          version_.add(value);
+          onChanged();
+        } else {
+          versionBuilder_.addMessage(value);
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        private com.google.protobuf.SingleFieldBuilder<
-            org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder> 
-            getSubtreeFieldBuilder() {
-          if (subtreeBuilder_ == null) {
-            subtreeBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-                org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder>(
-                    getSubtree(),
-                    getParentForChildren(),
-                    isClean());
-            subtree_ = null;
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+       *
+       * <pre>
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
+       * </pre>
+       */
+      public Builder addVersion(
+          int index, org.coniks.coniks_common.C2SProtos.AuthPath value) {
+        if (versionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
-          return subtreeBuilder_;
+          ensureVersionIsMutable();
+          version_.add(index, value);
+          onChanged();
+        } else {
+          versionBuilder_.addMessage(index, value);
         }
-
-        // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.AuthPath.InteriorNode)
-      }
-
-      static {
-        defaultInstance = new InteriorNode(true);
-        defaultInstance.initFields();
+        return this;
       }
-
-      // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.AuthPath.InteriorNode)
-    }
-
-    public interface RootNodeOrBuilder extends
-        // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.AuthPath.RootNode)
-        com.google.protobuf.MessageOrBuilder {
-
       /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
        *
        * <pre>
-       * client does not assume server has not sent malformed root node
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
        * </pre>
        */
-      boolean hasPrunedchild();
+      public Builder addVersion(
+          org.coniks.coniks_common.C2SProtos.AuthPath.Builder builderForValue) {
+        if (versionBuilder_ == null) {
+          ensureVersionIsMutable();
+          version_.add(builderForValue.build());
+          onChanged();
+        } else {
+          versionBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
       /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
        *
        * <pre>
-       * client does not assume server has not sent malformed root node
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
        * </pre>
        */
-      org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild getPrunedchild();
-
+      public Builder addVersion(
+          int index, org.coniks.coniks_common.C2SProtos.AuthPath.Builder builderForValue) {
+        if (versionBuilder_ == null) {
+          ensureVersionIsMutable();
+          version_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          versionBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
       /**
-       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+       *
+       * <pre>
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
+       * </pre>
        */
-      boolean hasSubtree();
+      public Builder addAllVersion(
+          java.lang.Iterable<? extends org.coniks.coniks_common.C2SProtos.AuthPath> values) {
+        if (versionBuilder_ == null) {
+          ensureVersionIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, version_);
+          onChanged();
+        } else {
+          versionBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
       /**
-       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+       *
+       * <pre>
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
+       * </pre>
        */
-      org.coniks.coniks_common.UtilProtos.Hash getSubtree();
+      public Builder clearVersion() {
+        if (versionBuilder_ == null) {
+          version_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          versionBuilder_.clear();
+        }
+        return this;
+      }
       /**
-       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+       *
+       * <pre>
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
+       * </pre>
        */
-      org.coniks.coniks_common.UtilProtos.HashOrBuilder getSubtreeOrBuilder();
-    }
-    /**
-     * Protobuf type {@code org.coniks.coniks_common.AuthPath.RootNode}
-     */
-    public static final class RootNode extends
-        com.google.protobuf.GeneratedMessage implements
-        // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.AuthPath.RootNode)
-        RootNodeOrBuilder {
-      // Use RootNode.newBuilder() to construct.
-      private RootNode(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-        super(builder);
-        this.unknownFields = builder.getUnknownFields();
-      }
-      private RootNode(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
-
-      private static final RootNode defaultInstance;
-      public static RootNode getDefaultInstance() {
-        return defaultInstance;
+      public Builder removeVersion(int index) {
+        if (versionBuilder_ == null) {
+          ensureVersionIsMutable();
+          version_.remove(index);
+          onChanged();
+        } else {
+          versionBuilder_.remove(index);
+        }
+        return this;
       }
-
-      public RootNode getDefaultInstanceForType() {
-        return defaultInstance;
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+       *
+       * <pre>
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.Builder getVersionBuilder(
+          int index) {
+        return getVersionFieldBuilder().getBuilder(index);
       }
-
-      private final com.google.protobuf.UnknownFieldSet unknownFields;
-      @java.lang.Override
-      public final com.google.protobuf.UnknownFieldSet
-          getUnknownFields() {
-        return this.unknownFields;
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+       *
+       * <pre>
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPathOrBuilder getVersionOrBuilder(
+          int index) {
+        if (versionBuilder_ == null) {
+          return version_.get(index);  } else {
+          return versionBuilder_.getMessageOrBuilder(index);
+        }
       }
-      private RootNode(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        initFields();
-        int mutable_bitField0_ = 0;
-        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-            com.google.protobuf.UnknownFieldSet.newBuilder();
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              default: {
-                if (!parseUnknownField(input, unknownFields,
-                                       extensionRegistry, tag)) {
-                  done = true;
-                }
-                break;
-              }
-              case 8: {
-                int rawValue = input.readEnum();
-                org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild value = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.valueOf(rawValue);
-                if (value == null) {
-                  unknownFields.mergeVarintField(1, rawValue);
-                } else {
-                  bitField0_ |= 0x00000001;
-                  prunedchild_ = value;
-                }
-                break;
-              }
-              case 18: {
-                org.coniks.coniks_common.UtilProtos.Hash.Builder subBuilder = null;
-                if (((bitField0_ & 0x00000002) == 0x00000002)) {
-                  subBuilder = subtree_.toBuilder();
-                }
-                subtree_ = input.readMessage(org.coniks.coniks_common.UtilProtos.Hash.PARSER, extensionRegistry);
-                if (subBuilder != null) {
-                  subBuilder.mergeFrom(subtree_);
-                  subtree_ = subBuilder.buildPartial();
-                }
-                bitField0_ |= 0x00000002;
-                break;
-              }
-            }
-          }
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(this);
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(
-              e.getMessage()).setUnfinishedMessage(this);
-        } finally {
-          this.unknownFields = unknownFields.build();
-          makeExtensionsImmutable();
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+       *
+       * <pre>
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
+       * </pre>
+       */
+      public java.util.List<? extends org.coniks.coniks_common.C2SProtos.AuthPathOrBuilder> 
+           getVersionOrBuilderList() {
+        if (versionBuilder_ != null) {
+          return versionBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(version_);
         }
       }
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_RootNode_descriptor;
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+       *
+       * <pre>
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.Builder addVersionBuilder() {
+        return getVersionFieldBuilder().addBuilder(
+            org.coniks.coniks_common.C2SProtos.AuthPath.getDefaultInstance());
       }
-
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_RootNode_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.class, org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.Builder.class);
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+       *
+       * <pre>
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.AuthPath.Builder addVersionBuilder(
+          int index) {
+        return getVersionFieldBuilder().addBuilder(
+            index, org.coniks.coniks_common.C2SProtos.AuthPath.getDefaultInstance());
       }
-
-      public static com.google.protobuf.Parser<RootNode> PARSER =
-          new com.google.protobuf.AbstractParser<RootNode>() {
-        public RootNode parsePartialFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-          return new RootNode(input, extensionRegistry);
-        }
-      };
-
-      @java.lang.Override
-      public com.google.protobuf.Parser<RootNode> getParserForType() {
-        return PARSER;
+      /**
+       * <code>repeated .org.coniks.coniks_common.AuthPath version = 1;</code>
+       *
+       * <pre>
+       * every version of a user's leaf that was current at some point in
+       * the requested epoch range, oldest first; each version is proven
+       * in the tree of the epoch in which it was published
+       * </pre>
+       */
+      public java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.Builder> 
+           getVersionBuilderList() {
+        return getVersionFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.coniks.coniks_common.C2SProtos.AuthPath, org.coniks.coniks_common.C2SProtos.AuthPath.Builder, org.coniks.coniks_common.C2SProtos.AuthPathOrBuilder> 
+          getVersionFieldBuilder() {
+        if (versionBuilder_ == null) {
+          versionBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.coniks.coniks_common.C2SProtos.AuthPath, org.coniks.coniks_common.C2SProtos.AuthPath.Builder, org.coniks.coniks_common.C2SProtos.AuthPathOrBuilder>(
+                  version_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          version_ = null;
+        }
+        return versionBuilder_;
       }
 
-      private int bitField0_;
-      public static final int PRUNEDCHILD_FIELD_NUMBER = 1;
-      private org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild prunedchild_;
+      private java.util.List<java.lang.Long> epoch_ = java.util.Collections.emptyList();
+      private void ensureEpochIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          epoch_ = new java.util.ArrayList<java.lang.Long>(epoch_);
+          bitField0_ |= 0x00000002;
+         }
+      }
       /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+       * <code>repeated uint64 epoch = 2;</code>
        *
        * <pre>
-       * client does not assume server has not sent malformed root node
+       * the epoch of each version, in the same order
        * </pre>
        */
-      public boolean hasPrunedchild() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public java.util.List<java.lang.Long>
+          getEpochList() {
+        return java.util.Collections.unmodifiableList(epoch_);
       }
       /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
+       * <code>repeated uint64 epoch = 2;</code>
        *
        * <pre>
-       * client does not assume server has not sent malformed root node
+       * the epoch of each version, in the same order
        * </pre>
        */
-      public org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild getPrunedchild() {
-        return prunedchild_;
+      public int getEpochCount() {
+        return epoch_.size();
       }
-
-      public static final int SUBTREE_FIELD_NUMBER = 2;
-      private org.coniks.coniks_common.UtilProtos.Hash subtree_;
       /**
-       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       * <code>repeated uint64 epoch = 2;</code>
+       *
+       * <pre>
+       * the epoch of each version, in the same order
+       * </pre>
        */
-      public boolean hasSubtree() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public long getEpoch(int index) {
+        return epoch_.get(index);
       }
       /**
-       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       * <code>repeated uint64 epoch = 2;</code>
+       *
+       * <pre>
+       * the epoch of each version, in the same order
+       * </pre>
        */
-      public org.coniks.coniks_common.UtilProtos.Hash getSubtree() {
-        return subtree_;
+      public Builder setEpoch(
+          int index, long value) {
+        ensureEpochIsMutable();
+        epoch_.set(index, value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
+       * <code>repeated uint64 epoch = 2;</code>
+       *
+       * <pre>
+       * the epoch of each version, in the same order
+       * </pre>
        */
-      public org.coniks.coniks_common.UtilProtos.HashOrBuilder getSubtreeOrBuilder() {
-        return subtree_;
+      public Builder addEpoch(long value) {
+        ensureEpochIsMutable();
+        epoch_.add(value);
+        onChanged();
+        return this;
       }
-
-      private void initFields() {
-        prunedchild_ = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.LEFT;
-        subtree_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
+      /**
+       * <code>repeated uint64 epoch = 2;</code>
+       *
+       * <pre>
+       * the epoch of each version, in the same order
+       * </pre>
+       */
+      public Builder addAllEpoch(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureEpochIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, epoch_);
+        onChanged();
+        return this;
       }
-      private byte memoizedIsInitialized = -1;
-      public final boolean isInitialized() {
-        byte isInitialized = memoizedIsInitialized;
-        if (isInitialized == 1) return true;
-        if (isInitialized == 0) return false;
-
-        memoizedIsInitialized = 1;
-        return true;
+      /**
+       * <code>repeated uint64 epoch = 2;</code>
+       *
+       * <pre>
+       * the epoch of each version, in the same order
+       * </pre>
+       */
+      public Builder clearEpoch() {
+        epoch_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
       }
 
-      public void writeTo(com.google.protobuf.CodedOutputStream output)
-                          throws java.io.IOException {
-        getSerializedSize();
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          output.writeEnum(1, prunedchild_.getNumber());
+      // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.KeyHistory)
+    }
+
+    static {
+      defaultInstance = new KeyHistory(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.KeyHistory)
+  }
+
+  public interface EpochChangesOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.EpochChanges)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint64 epoch = 1;</code>
+     *
+     * <pre>
+     * the lookup indices registered or changed in one epoch, as logged
+     * in the server's changelog; a changelog request is answered with
+     * one of these per epoch in the range, oldest first
+     * </pre>
+     */
+    boolean hasEpoch();
+    /**
+     * <code>optional uint64 epoch = 1;</code>
+     *
+     * <pre>
+     * the lookup indices registered or changed in one epoch, as logged
+     * in the server's changelog; a changelog request is answered with
+     * one of these per epoch in the range, oldest first
+     * </pre>
+     */
+    long getEpoch();
+
+    /**
+     * <code>repeated bytes lookup_index = 2;</code>
+     *
+     * <pre>
+     * in increasing lookup index order
+     * </pre>
+     */
+    java.util.List<com.google.protobuf.ByteString> getLookupIndexList();
+    /**
+     * <code>repeated bytes lookup_index = 2;</code>
+     *
+     * <pre>
+     * in increasing lookup index order
+     * </pre>
+     */
+    int getLookupIndexCount();
+    /**
+     * <code>repeated bytes lookup_index = 2;</code>
+     *
+     * <pre>
+     * in increasing lookup index order
+     * </pre>
+     */
+    com.google.protobuf.ByteString getLookupIndex(int index);
+
+    /**
+     * <code>repeated .org.coniks.coniks_common.EpochChanges.ChangeType type = 3 [packed = true];</code>
+     *
+     * <pre>
+     * the type of each change, in the same order
+     * </pre>
+     */
+    java.util.List<org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType> getTypeList();
+    /**
+     * <code>repeated .org.coniks.coniks_common.EpochChanges.ChangeType type = 3 [packed = true];</code>
+     *
+     * <pre>
+     * the type of each change, in the same order
+     * </pre>
+     */
+    int getTypeCount();
+    /**
+     * <code>repeated .org.coniks.coniks_common.EpochChanges.ChangeType type = 3 [packed = true];</code>
+     *
+     * <pre>
+     * the type of each change, in the same order
+     * </pre>
+     */
+    org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType getType(int index);
+  }
+  /**
+   * Protobuf type {@code org.coniks.coniks_common.EpochChanges}
+   */
+  public static final class EpochChanges extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.EpochChanges)
+      EpochChangesOrBuilder {
+    // Use EpochChanges.newBuilder() to construct.
+    private EpochChanges(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private EpochChanges(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final EpochChanges defaultInstance;
+    public static EpochChanges getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public EpochChanges getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private EpochChanges(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              epoch_ = input.readUInt64();
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                lookupIndex_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              lookupIndex_.add(input.readBytes());
+              break;
+            }
+            case 24: {
+              int rawValue = input.readEnum();
+              org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType value = org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(3, rawValue);
+                } else {
+                if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                  type_ = new java.util.ArrayList<org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType>();
+                  mutable_bitField0_ |= 0x00000004;
+                }
+                type_.add(value);
+              }
+              break;
+            }
+            case 26: {
+              int length = input.readRawVarint32();
+              int oldLimit = input.pushLimit(length);
+              while(input.getBytesUntilLimit() > 0) {
+                int rawValue = input.readEnum();
+                org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType value = org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType.valueOf(rawValue);
+                if (value == null) {
+                  unknownFields.mergeVarintField(3, rawValue);
+                  } else {
+                  if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                    type_ = new java.util.ArrayList<org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType>();
+                    mutable_bitField0_ |= 0x00000004;
+                  }
+                  type_.add(value);
+                }
+              }
+              input.popLimit(oldLimit);
+              break;
+            }
+          }
         }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          output.writeMessage(2, subtree_);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          lookupIndex_ = java.util.Collections.unmodifiableList(lookupIndex_);
         }
-        getUnknownFields().writeTo(output);
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          type_ = java.util.Collections.unmodifiableList(type_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
       }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_EpochChanges_descriptor;
+    }
 
-      private int memoizedSerializedSize = -1;
-      public int getSerializedSize() {
-        int size = memoizedSerializedSize;
-        if (size != -1) return size;
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_EpochChanges_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.coniks.coniks_common.C2SProtos.EpochChanges.class, org.coniks.coniks_common.C2SProtos.EpochChanges.Builder.class);
+    }
 
-        size = 0;
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeEnumSize(1, prunedchild_.getNumber());
-        }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          size += com.google.protobuf.CodedOutputStream
-            .computeMessageSize(2, subtree_);
+    public static com.google.protobuf.Parser<EpochChanges> PARSER =
+        new com.google.protobuf.AbstractParser<EpochChanges>() {
+      public EpochChanges parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new EpochChanges(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EpochChanges> getParserForType() {
+      return PARSER;
+    }
+
+    /**
+     * Protobuf enum {@code org.coniks.coniks_common.EpochChanges.ChangeType}
+     */
+    public enum ChangeType
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>REGISTRATION = 0;</code>
+       */
+      REGISTRATION(0, 0),
+      /**
+       * <code>KEY_CHANGE = 1;</code>
+       */
+      KEY_CHANGE(1, 1),
+      ;
+
+      /**
+       * <code>REGISTRATION = 0;</code>
+       */
+      public static final int REGISTRATION_VALUE = 0;
+      /**
+       * <code>KEY_CHANGE = 1;</code>
+       */
+      public static final int KEY_CHANGE_VALUE = 1;
+
+
+      public final int getNumber() { return value; }
+
+      public static ChangeType valueOf(int value) {
+        switch (value) {
+          case 0: return REGISTRATION;
+          case 1: return KEY_CHANGE;
+          default: return null;
         }
-        size += getUnknownFields().getSerializedSize();
-        memoizedSerializedSize = size;
-        return size;
       }
 
-      private static final long serialVersionUID = 0L;
-      @java.lang.Override
-      protected java.lang.Object writeReplace()
-          throws java.io.ObjectStreamException {
-        return super.writeReplace();
+      public static com.google.protobuf.Internal.EnumLiteMap<ChangeType>
+          internalGetValueMap() {
+        return internalValueMap;
       }
+      private static com.google.protobuf.Internal.EnumLiteMap<ChangeType>
+          internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<ChangeType>() {
+              public ChangeType findValueByNumber(int number) {
+                return ChangeType.valueOf(number);
+              }
+            };
 
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseFrom(
-          com.google.protobuf.ByteString data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseFrom(
-          com.google.protobuf.ByteString data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(index);
       }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseFrom(byte[] data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
       }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseFrom(
-          byte[] data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return org.coniks.coniks_common.C2SProtos.EpochChanges.getDescriptor().getEnumTypes().get(0);
       }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
+
+      private static final ChangeType[] VALUES = values();
+
+      public static ChangeType valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        return VALUES[desc.getIndex()];
       }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseFrom(
-          java.io.InputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
+
+      private final int index;
+      private final int value;
+
+      private ChangeType(int index, int value) {
+        this.index = index;
+        this.value = value;
       }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseDelimitedFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input);
+
+      // @@protoc_insertion_point(enum_scope:org.coniks.coniks_common.EpochChanges.ChangeType)
+    }
+
+    private int bitField0_;
+    public static final int EPOCH_FIELD_NUMBER = 1;
+    private long epoch_;
+    /**
+     * <code>optional uint64 epoch = 1;</code>
+     *
+     * <pre>
+     * the lookup indices registered or changed in one epoch, as logged
+     * in the server's changelog; a changelog request is answered with
+     * one of these per epoch in the range, oldest first
+     * </pre>
+     */
+    public boolean hasEpoch() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint64 epoch = 1;</code>
+     *
+     * <pre>
+     * the lookup indices registered or changed in one epoch, as logged
+     * in the server's changelog; a changelog request is answered with
+     * one of these per epoch in the range, oldest first
+     * </pre>
+     */
+    public long getEpoch() {
+      return epoch_;
+    }
+
+    public static final int LOOKUP_INDEX_FIELD_NUMBER = 2;
+    private java.util.List<com.google.protobuf.ByteString> lookupIndex_;
+    /**
+     * <code>repeated bytes lookup_index = 2;</code>
+     *
+     * <pre>
+     * in increasing lookup index order
+     * </pre>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getLookupIndexList() {
+      return lookupIndex_;
+    }
+    /**
+     * <code>repeated bytes lookup_index = 2;</code>
+     *
+     * <pre>
+     * in increasing lookup index order
+     * </pre>
+     */
+    public int getLookupIndexCount() {
+      return lookupIndex_.size();
+    }
+    /**
+     * <code>repeated bytes lookup_index = 2;</code>
+     *
+     * <pre>
+     * in increasing lookup index order
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getLookupIndex(int index) {
+      return lookupIndex_.get(index);
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 3;
+    private java.util.List<org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType> type_;
+    /**
+     * <code>repeated .org.coniks.coniks_common.EpochChanges.ChangeType type = 3 [packed = true];</code>
+     *
+     * <pre>
+     * the type of each change, in the same order
+     * </pre>
+     */
+    public java.util.List<org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType> getTypeList() {
+      return type_;
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.EpochChanges.ChangeType type = 3 [packed = true];</code>
+     *
+     * <pre>
+     * the type of each change, in the same order
+     * </pre>
+     */
+    public int getTypeCount() {
+      return type_.size();
+    }
+    /**
+     * <code>repeated .org.coniks.coniks_common.EpochChanges.ChangeType type = 3 [packed = true];</code>
+     *
+     * <pre>
+     * the type of each change, in the same order
+     * </pre>
+     */
+    public org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType getType(int index) {
+      return type_.get(index);
+    }
+    private int typeMemoizedSerializedSize;
+
+    private void initFields() {
+      epoch_ = 0L;
+      lookupIndex_ = java.util.Collections.emptyList();
+      type_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt64(1, epoch_);
       }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseDelimitedFrom(
-          java.io.InputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      for (int i = 0; i < lookupIndex_.size(); i++) {
+        output.writeBytes(2, lookupIndex_.get(i));
       }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseFrom(
-          com.google.protobuf.CodedInputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
+      if (getTypeList().size() > 0) {
+        output.writeRawVarint32(26);
+        output.writeRawVarint32(typeMemoizedSerializedSize);
       }
-      public static org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parseFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
+      for (int i = 0; i < type_.size(); i++) {
+        output.writeEnumNoTag(type_.get(i).getNumber());
       }
+      getUnknownFields().writeTo(output);
+    }
 
-      public static Builder newBuilder() { return Builder.create(); }
-      public Builder newBuilderForType() { return newBuilder(); }
-      public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.AuthPath.RootNode prototype) {
-        return newBuilder().mergeFrom(prototype);
-      }
-      public Builder toBuilder() { return newBuilder(this); }
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
 
-      @java.lang.Override
-      protected Builder newBuilderForType(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        Builder builder = new Builder(parent);
-        return builder;
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, epoch_);
       }
-      /**
-       * Protobuf type {@code org.coniks.coniks_common.AuthPath.RootNode}
-       */
-      public static final class Builder extends
-          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-          // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.AuthPath.RootNode)
-          org.coniks.coniks_common.C2SProtos.AuthPath.RootNodeOrBuilder {
-        public static final com.google.protobuf.Descriptors.Descriptor
-            getDescriptor() {
-          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_RootNode_descriptor;
-        }
-
-        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-            internalGetFieldAccessorTable() {
-          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_RootNode_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                  org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.class, org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.Builder.class);
+      {
+        int dataSize = 0;
+        for (int i = 0; i < lookupIndex_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(lookupIndex_.get(i));
         }
-
-        // Construct using org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.newBuilder()
-        private Builder() {
-          maybeForceBuilderInitialization();
+        size += dataSize;
+        size += 1 * getLookupIndexList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < type_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeEnumSizeNoTag(type_.get(i).getNumber());
         }
+        size += dataSize;
+        if (!getTypeList().isEmpty()) {  size += 1;
+          size += com.google.protobuf.CodedOutputStream
+            .computeRawVarint32Size(dataSize);
+        }typeMemoizedSerializedSize = dataSize;
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
 
-        private Builder(
-            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-          super(parent);
-          maybeForceBuilderInitialization();
-        }
-        private void maybeForceBuilderInitialization() {
-          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-            getSubtreeFieldBuilder();
-          }
-        }
-        private static Builder create() {
-          return new Builder();
-        }
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
 
-        public Builder clear() {
-          super.clear();
-          prunedchild_ = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.LEFT;
-          bitField0_ = (bitField0_ & ~0x00000001);
-          if (subtreeBuilder_ == null) {
-            subtree_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
-          } else {
-            subtreeBuilder_.clear();
-          }
-          bitField0_ = (bitField0_ & ~0x00000002);
-          return this;
-        }
+    public static org.coniks.coniks_common.C2SProtos.EpochChanges parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.EpochChanges parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.EpochChanges parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.EpochChanges parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.EpochChanges parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.EpochChanges parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.EpochChanges parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.EpochChanges parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.EpochChanges parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.EpochChanges parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
 
-        public Builder clone() {
-          return create().mergeFrom(buildPartial());
-        }
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.EpochChanges prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
 
-        public com.google.protobuf.Descriptors.Descriptor
-            getDescriptorForType() {
-          return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_RootNode_descriptor;
-        }
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.coniks.coniks_common.EpochChanges}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.EpochChanges)
+        org.coniks.coniks_common.C2SProtos.EpochChangesOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_EpochChanges_descriptor;
+      }
 
-        public org.coniks.coniks_common.C2SProtos.AuthPath.RootNode getDefaultInstanceForType() {
-          return org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.getDefaultInstance();
-        }
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_EpochChanges_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.coniks.coniks_common.C2SProtos.EpochChanges.class, org.coniks.coniks_common.C2SProtos.EpochChanges.Builder.class);
+      }
 
-        public org.coniks.coniks_common.C2SProtos.AuthPath.RootNode build() {
-          org.coniks.coniks_common.C2SProtos.AuthPath.RootNode result = buildPartial();
-          if (!result.isInitialized()) {
-            throw newUninitializedMessageException(result);
-          }
-          return result;
-        }
+      // Construct using org.coniks.coniks_common.C2SProtos.EpochChanges.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
 
-        public org.coniks.coniks_common.C2SProtos.AuthPath.RootNode buildPartial() {
-          org.coniks.coniks_common.C2SProtos.AuthPath.RootNode result = new org.coniks.coniks_common.C2SProtos.AuthPath.RootNode(this);
-          int from_bitField0_ = bitField0_;
-          int to_bitField0_ = 0;
-          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-            to_bitField0_ |= 0x00000001;
-          }
-          result.prunedchild_ = prunedchild_;
-          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-            to_bitField0_ |= 0x00000002;
-          }
-          if (subtreeBuilder_ == null) {
-            result.subtree_ = subtree_;
-          } else {
-            result.subtree_ = subtreeBuilder_.build();
-          }
-          result.bitField0_ = to_bitField0_;
-          onBuilt();
-          return result;
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
         }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
 
-        public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof org.coniks.coniks_common.C2SProtos.AuthPath.RootNode) {
-            return mergeFrom((org.coniks.coniks_common.C2SProtos.AuthPath.RootNode)other);
-          } else {
-            super.mergeFrom(other);
-            return this;
-          }
-        }
+      public Builder clear() {
+        super.clear();
+        epoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        lookupIndex_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        type_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
 
-        public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.AuthPath.RootNode other) {
-          if (other == org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.getDefaultInstance()) return this;
-          if (other.hasPrunedchild()) {
-            setPrunedchild(other.getPrunedchild());
-          }
-          if (other.hasSubtree()) {
-            mergeSubtree(other.getSubtree());
-          }
-          this.mergeUnknownFields(other.getUnknownFields());
-          return this;
-        }
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
 
-        public final boolean isInitialized() {
-          return true;
-        }
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_EpochChanges_descriptor;
+      }
 
-        public Builder mergeFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-          org.coniks.coniks_common.C2SProtos.AuthPath.RootNode parsedMessage = null;
-          try {
-            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (org.coniks.coniks_common.C2SProtos.AuthPath.RootNode) e.getUnfinishedMessage();
-            throw e;
-          } finally {
-            if (parsedMessage != null) {
-              mergeFrom(parsedMessage);
-            }
-          }
-          return this;
-        }
-        private int bitField0_;
+      public org.coniks.coniks_common.C2SProtos.EpochChanges getDefaultInstanceForType() {
+        return org.coniks.coniks_common.C2SProtos.EpochChanges.getDefaultInstance();
+      }
 
-        private org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild prunedchild_ = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.LEFT;
-        /**
-         * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
-         *
-         * <pre>
-         * client does not assume server has not sent malformed root node
-         * </pre>
-         */
-        public boolean hasPrunedchild() {
-          return ((bitField0_ & 0x00000001) == 0x00000001);
-        }
-        /**
-         * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
-         *
-         * <pre>
-         * client does not assume server has not sent malformed root node
-         * </pre>
-         */
-        public org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild getPrunedchild() {
-          return prunedchild_;
-        }
-        /**
-         * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
-         *
-         * <pre>
-         * client does not assume server has not sent malformed root node
-         * </pre>
-         */
-        public Builder setPrunedchild(org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild value) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          bitField0_ |= 0x00000001;
-          prunedchild_ = value;
-          onChanged();
-          return this;
-        }
-        /**
-         * <code>optional .org.coniks.coniks_common.AuthPath.PrunedChild prunedchild = 1;</code>
-         *
-         * <pre>
-         * client does not assume server has not sent malformed root node
-         * </pre>
-         */
-        public Builder clearPrunedchild() {
-          bitField0_ = (bitField0_ & ~0x00000001);
-          prunedchild_ = org.coniks.coniks_common.C2SProtos.AuthPath.PrunedChild.LEFT;
-          onChanged();
-          return this;
+      public org.coniks.coniks_common.C2SProtos.EpochChanges build() {
+        org.coniks.coniks_common.C2SProtos.EpochChanges result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
+        return result;
+      }
 
-        private org.coniks.coniks_common.UtilProtos.Hash subtree_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
-        private com.google.protobuf.SingleFieldBuilder<
-            org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder> subtreeBuilder_;
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        public boolean hasSubtree() {
-          return ((bitField0_ & 0x00000002) == 0x00000002);
-        }
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        public org.coniks.coniks_common.UtilProtos.Hash getSubtree() {
-          if (subtreeBuilder_ == null) {
-            return subtree_;
-          } else {
-            return subtreeBuilder_.getMessage();
-          }
+      public org.coniks.coniks_common.C2SProtos.EpochChanges buildPartial() {
+        org.coniks.coniks_common.C2SProtos.EpochChanges result = new org.coniks.coniks_common.C2SProtos.EpochChanges(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        public Builder setSubtree(org.coniks.coniks_common.UtilProtos.Hash value) {
-          if (subtreeBuilder_ == null) {
-            if (value == null) {
-              throw new NullPointerException();
-            }
-            subtree_ = value;
-            onChanged();
-          } else {
-            subtreeBuilder_.setMessage(value);
-          }
-          bitField0_ |= 0x00000002;
-          return this;
+        result.epoch_ = epoch_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          lookupIndex_ = java.util.Collections.unmodifiableList(lookupIndex_);
+          bitField0_ = (bitField0_ & ~0x00000002);
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        public Builder setSubtree(
-            org.coniks.coniks_common.UtilProtos.Hash.Builder builderForValue) {
-          if (subtreeBuilder_ == null) {
-            subtree_ = builderForValue.build();
-            onChanged();
-          } else {
-            subtreeBuilder_.setMessage(builderForValue.build());
-          }
-          bitField0_ |= 0x00000002;
-          return this;
+        result.lookupIndex_ = lookupIndex_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          type_ = java.util.Collections.unmodifiableList(type_);
+          bitField0_ = (bitField0_ & ~0x00000004);
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        public Builder mergeSubtree(org.coniks.coniks_common.UtilProtos.Hash value) {
-          if (subtreeBuilder_ == null) {
-            if (((bitField0_ & 0x00000002) == 0x00000002) &&
-                subtree_ != org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance()) {
-              subtree_ =
-                org.coniks.coniks_common.UtilProtos.Hash.newBuilder(subtree_).mergeFrom(value).buildPartial();
-            } else {
-              subtree_ = value;
-            }
-            onChanged();
-          } else {
-            subtreeBuilder_.mergeFrom(value);
-          }
-          bitField0_ |= 0x00000002;
+        result.type_ = type_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.coniks.coniks_common.C2SProtos.EpochChanges) {
+          return mergeFrom((org.coniks.coniks_common.C2SProtos.EpochChanges)other);
+        } else {
+          super.mergeFrom(other);
           return this;
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        public Builder clearSubtree() {
-          if (subtreeBuilder_ == null) {
-            subtree_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
-            onChanged();
+      }
+
+      public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.EpochChanges other) {
+        if (other == org.coniks.coniks_common.C2SProtos.EpochChanges.getDefaultInstance()) return this;
+        if (other.hasEpoch()) {
+          setEpoch(other.getEpoch());
+        }
+        if (!other.lookupIndex_.isEmpty()) {
+          if (lookupIndex_.isEmpty()) {
+            lookupIndex_ = other.lookupIndex_;
+            bitField0_ = (bitField0_ & ~0x00000002);
           } else {
-            subtreeBuilder_.clear();
+            ensureLookupIndexIsMutable();
+            lookupIndex_.addAll(other.lookupIndex_);
           }
-          bitField0_ = (bitField0_ & ~0x00000002);
-          return this;
-        }
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        public org.coniks.coniks_common.UtilProtos.Hash.Builder getSubtreeBuilder() {
-          bitField0_ |= 0x00000002;
           onChanged();
-          return getSubtreeFieldBuilder().getBuilder();
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        public org.coniks.coniks_common.UtilProtos.HashOrBuilder getSubtreeOrBuilder() {
-          if (subtreeBuilder_ != null) {
-            return subtreeBuilder_.getMessageOrBuilder();
+        if (!other.type_.isEmpty()) {
+          if (type_.isEmpty()) {
+            type_ = other.type_;
+            bitField0_ = (bitField0_ & ~0x00000004);
           } else {
-            return subtree_;
+            ensureTypeIsMutable();
+            type_.addAll(other.type_);
           }
+          onChanged();
         }
-        /**
-         * <code>optional .org.coniks.coniks_common.Hash subtree = 2;</code>
-         */
-        private com.google.protobuf.SingleFieldBuilder<
-            org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder> 
-            getSubtreeFieldBuilder() {
-          if (subtreeBuilder_ == null) {
-            subtreeBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-                org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder>(
-                    getSubtree(),
-                    getParentForChildren(),
-                    isClean());
-            subtree_ = null;
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.coniks.coniks_common.C2SProtos.EpochChanges parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.coniks.coniks_common.C2SProtos.EpochChanges) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
           }
-          return subtreeBuilder_;
         }
+        return this;
+      }
+      private int bitField0_;
 
-        // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.AuthPath.RootNode)
+      private long epoch_ ;
+      /**
+       * <code>optional uint64 epoch = 1;</code>
+       *
+       * <pre>
+       * the lookup indices registered or changed in one epoch, as logged
+       * in the server's changelog; a changelog request is answered with
+       * one of these per epoch in the range, oldest first
+       * </pre>
+       */
+      public boolean hasEpoch() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional uint64 epoch = 1;</code>
+       *
+       * <pre>
+       * the lookup indices registered or changed in one epoch, as logged
+       * in the server's changelog; a changelog request is answered with
+       * one of these per epoch in the range, oldest first
+       * </pre>
+       */
+      public long getEpoch() {
+        return epoch_;
+      }
+      /**
+       * <code>optional uint64 epoch = 1;</code>
+       *
+       * <pre>
+       * the lookup indices registered or changed in one epoch, as logged
+       * in the server's changelog; a changelog request is answered with
+       * one of these per epoch in the range, oldest first
+       * </pre>
+       */
+      public Builder setEpoch(long value) {
+        bitField0_ |= 0x00000001;
+        epoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 epoch = 1;</code>
+       *
+       * <pre>
+       * the lookup indices registered or changed in one epoch, as logged
+       * in the server's changelog; a changelog request is answered with
+       * one of these per epoch in the range, oldest first
+       * </pre>
+       */
+      public Builder clearEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        epoch_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.google.protobuf.ByteString> lookupIndex_ = java.util.Collections.emptyList();
+      private void ensureLookupIndexIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          lookupIndex_ = new java.util.ArrayList<com.google.protobuf.ByteString>(lookupIndex_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated bytes lookup_index = 2;</code>
+       *
+       * <pre>
+       * in increasing lookup index order
+       * </pre>
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getLookupIndexList() {
+        return java.util.Collections.unmodifiableList(lookupIndex_);
+      }
+      /**
+       * <code>repeated bytes lookup_index = 2;</code>
+       *
+       * <pre>
+       * in increasing lookup index order
+       * </pre>
+       */
+      public int getLookupIndexCount() {
+        return lookupIndex_.size();
+      }
+      /**
+       * <code>repeated bytes lookup_index = 2;</code>
+       *
+       * <pre>
+       * in increasing lookup index order
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getLookupIndex(int index) {
+        return lookupIndex_.get(index);
+      }
+      /**
+       * <code>repeated bytes lookup_index = 2;</code>
+       *
+       * <pre>
+       * in increasing lookup index order
+       * </pre>
+       */
+      public Builder setLookupIndex(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureLookupIndexIsMutable();
+        lookupIndex_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes lookup_index = 2;</code>
+       *
+       * <pre>
+       * in increasing lookup index order
+       * </pre>
+       */
+      public Builder addLookupIndex(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureLookupIndexIsMutable();
+        lookupIndex_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes lookup_index = 2;</code>
+       *
+       * <pre>
+       * in increasing lookup index order
+       * </pre>
+       */
+      public Builder addAllLookupIndex(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureLookupIndexIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, lookupIndex_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes lookup_index = 2;</code>
+       *
+       * <pre>
+       * in increasing lookup index order
+       * </pre>
+       */
+      public Builder clearLookupIndex() {
+        lookupIndex_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType> type_ =
+        java.util.Collections.emptyList();
+      private void ensureTypeIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          type_ = new java.util.ArrayList<org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType>(type_);
+          bitField0_ |= 0x00000004;
+        }
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.EpochChanges.ChangeType type = 3 [packed = true];</code>
+       *
+       * <pre>
+       * the type of each change, in the same order
+       * </pre>
+       */
+      public java.util.List<org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType> getTypeList() {
+        return java.util.Collections.unmodifiableList(type_);
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.EpochChanges.ChangeType type = 3 [packed = true];</code>
+       *
+       * <pre>
+       * the type of each change, in the same order
+       * </pre>
+       */
+      public int getTypeCount() {
+        return type_.size();
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.EpochChanges.ChangeType type = 3 [packed = true];</code>
+       *
+       * <pre>
+       * the type of each change, in the same order
+       * </pre>
+       */
+      public org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType getType(int index) {
+        return type_.get(index);
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.EpochChanges.ChangeType type = 3 [packed = true];</code>
+       *
+       * <pre>
+       * the type of each change, in the same order
+       * </pre>
+       */
+      public Builder setType(
+          int index, org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTypeIsMutable();
+        type_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.EpochChanges.ChangeType type = 3 [packed = true];</code>
+       *
+       * <pre>
+       * the type of each change, in the same order
+       * </pre>
+       */
+      public Builder addType(org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureTypeIsMutable();
+        type_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.EpochChanges.ChangeType type = 3 [packed = true];</code>
+       *
+       * <pre>
+       * the type of each change, in the same order
+       * </pre>
+       */
+      public Builder addAllType(
+          java.lang.Iterable<? extends org.coniks.coniks_common.C2SProtos.EpochChanges.ChangeType> values) {
+        ensureTypeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, type_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated .org.coniks.coniks_common.EpochChanges.ChangeType type = 3 [packed = true];</code>
+       *
+       * <pre>
+       * the type of each change, in the same order
+       * </pre>
+       */
+      public Builder clearType() {
+        type_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
       }
 
-      static {
-        defaultInstance = new RootNode(true);
-        defaultInstance.initFields();
-      }
+      // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.EpochChanges)
+    }
 
-      // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.AuthPath.RootNode)
+    static {
+      defaultInstance = new EpochChanges(true);
+      defaultInstance.initFields();
     }
 
-    private int bitField0_;
-    public static final int LEAF_FIELD_NUMBER = 1;
-    private org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode leaf_;
+    // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.EpochChanges)
+  }
+
+  public interface KeyNotModifiedOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.coniks.coniks_common.KeyNotModified)
+      com.google.protobuf.MessageOrBuilder {
+
     /**
-     * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     * <code>optional string name = 1;</code>
      *
      * <pre>
-     * client checks if leaf is specified
+     * sent instead of an auth path for a KeyLookup with since_epoch
+     * if the mapping hasn't changed since then
      * </pre>
      */
-    public boolean hasLeaf() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
+    boolean hasName();
     /**
-     * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     * <code>optional string name = 1;</code>
      *
      * <pre>
-     * client checks if leaf is specified
+     * sent instead of an auth path for a KeyLookup with since_epoch
+     * if the mapping hasn't changed since then
      * </pre>
      */
-    public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode getLeaf() {
-      return leaf_;
-    }
+    java.lang.String getName();
     /**
-     * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
+     * <code>optional string name = 1;</code>
      *
      * <pre>
-     * client checks if leaf is specified
+     * sent instead of an auth path for a KeyLookup with since_epoch
+     * if the mapping hasn't changed since then
      * </pre>
      */
-    public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder getLeafOrBuilder() {
-      return leaf_;
-    }
+    com.google.protobuf.ByteString
+        getNameBytes();
 
-    public static final int INTERIOR_FIELD_NUMBER = 2;
-    private java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode> interior_;
-    /**
-     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
-     */
-    public java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode> getInteriorList() {
-      return interior_;
-    }
     /**
-     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
-     */
-    public java.util.List<? extends org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder> 
-        getInteriorOrBuilderList() {
-      return interior_;
-    }
-    /**
-     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
-     */
-    public int getInteriorCount() {
-      return interior_.size();
-    }
-    /**
-     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+     * <code>optional uint64 epoch_changed = 2;</code>
+     *
+     * <pre>
+     * the epoch in which the mapping was last changed
+     * </pre>
      */
-    public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode getInterior(int index) {
-      return interior_.get(index);
-    }
+    boolean hasEpochChanged();
     /**
-     * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+     * <code>optional uint64 epoch_changed = 2;</code>
+     *
+     * <pre>
+     * the epoch in which the mapping was last changed
+     * </pre>
      */
-    public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder getInteriorOrBuilder(
-        int index) {
-      return interior_.get(index);
-    }
+    long getEpochChanged();
 
-    public static final int ROOT_FIELD_NUMBER = 3;
-    private org.coniks.coniks_common.C2SProtos.AuthPath.RootNode root_;
     /**
-     * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+     * <code>optional .org.coniks.coniks_common.Commitment commitment = 3;</code>
+     *
+     * <pre>
+     * the STR of the looked up epoch
+     * </pre>
      */
-    public boolean hasRoot() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
+    boolean hasCommitment();
     /**
-     * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+     * <code>optional .org.coniks.coniks_common.Commitment commitment = 3;</code>
+     *
+     * <pre>
+     * the STR of the looked up epoch
+     * </pre>
      */
-    public org.coniks.coniks_common.C2SProtos.AuthPath.RootNode getRoot() {
-      return root_;
-    }
+    org.coniks.coniks_common.UtilProtos.Commitment getCommitment();
     /**
-     * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+     * <code>optional .org.coniks.coniks_common.Commitment commitment = 3;</code>
+     *
+     * <pre>
+     * the STR of the looked up epoch
+     * </pre>
      */
-    public org.coniks.coniks_common.C2SProtos.AuthPath.RootNodeOrBuilder getRootOrBuilder() {
-      return root_;
-    }
-
-    private void initFields() {
-      leaf_ = org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.getDefaultInstance();
-      interior_ = java.util.Collections.emptyList();
-      root_ = org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.getDefaultInstance();
-    }
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      if (hasLeaf()) {
-        if (!getLeaf().isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-      }
-      memoizedIsInitialized = 1;
-      return true;
+    org.coniks.coniks_common.UtilProtos.CommitmentOrBuilder getCommitmentOrBuilder();
+  }
+  /**
+   * Protobuf type {@code org.coniks.coniks_common.KeyNotModified}
+   */
+  public static final class KeyNotModified extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.coniks.coniks_common.KeyNotModified)
+      KeyNotModifiedOrBuilder {
+    // Use KeyNotModified.newBuilder() to construct.
+    private KeyNotModified(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
     }
+    private KeyNotModified(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, leaf_);
-      }
-      for (int i = 0; i < interior_.size(); i++) {
-        output.writeMessage(2, interior_.get(i));
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeMessage(3, root_);
-      }
-      getUnknownFields().writeTo(output);
+    private static final KeyNotModified defaultInstance;
+    public static KeyNotModified getDefaultInstance() {
+      return defaultInstance;
     }
 
-    private int memoizedSerializedSize = -1;
-    public int getSerializedSize() {
-      int size = memoizedSerializedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, leaf_);
-      }
-      for (int i = 0; i < interior_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, interior_.get(i));
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, root_);
-      }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSerializedSize = size;
-      return size;
+    public KeyNotModified getDefaultInstanceForType() {
+      return defaultInstance;
     }
 
-    private static final long serialVersionUID = 0L;
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
     @java.lang.Override
-    protected java.lang.Object writeReplace()
-        throws java.io.ObjectStreamException {
-      return super.writeReplace();
-    }
-
-    public static org.coniks.coniks_common.C2SProtos.AuthPath parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static org.coniks.coniks_common.C2SProtos.AuthPath parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static org.coniks.coniks_common.C2SProtos.AuthPath parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
     }
-    public static org.coniks.coniks_common.C2SProtos.AuthPath parseFrom(
-        byte[] data,
+    private KeyNotModified(
+        com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static org.coniks.coniks_common.C2SProtos.AuthPath parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
-    }
-    public static org.coniks.coniks_common.C2SProtos.AuthPath parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
-    }
-    public static org.coniks.coniks_common.C2SProtos.AuthPath parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input);
-    }
-    public static org.coniks.coniks_common.C2SProtos.AuthPath parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input, extensionRegistry);
-    }
-    public static org.coniks.coniks_common.C2SProtos.AuthPath parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              name_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              epochChanged_ = input.readUInt64();
+              break;
+            }
+            case 26: {
+              org.coniks.coniks_common.UtilProtos.Commitment.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) == 0x00000004)) {
+                subBuilder = commitment_.toBuilder();
+              }
+              commitment_ = input.readMessage(org.coniks.coniks_common.UtilProtos.Commitment.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(commitment_);
+                commitment_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
     }
-    public static org.coniks.coniks_common.C2SProtos.AuthPath parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyNotModified_descriptor;
     }
 
-    public static Builder newBuilder() { return Builder.create(); }
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.AuthPath prototype) {
-      return newBuilder().mergeFrom(prototype);
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyNotModified_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.coniks.coniks_common.C2SProtos.KeyNotModified.class, org.coniks.coniks_common.C2SProtos.KeyNotModified.Builder.class);
     }
-    public Builder toBuilder() { return newBuilder(this); }
+
+    public static com.google.protobuf.Parser<KeyNotModified> PARSER =
+        new com.google.protobuf.AbstractParser<KeyNotModified>() {
+      public KeyNotModified parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new KeyNotModified(input, extensionRegistry);
+      }
+    };
 
     @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
+    public com.google.protobuf.Parser<KeyNotModified> getParserForType() {
+      return PARSER;
     }
+
+    private int bitField0_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private java.lang.Object name_;
     /**
-     * Protobuf type {@code org.coniks.coniks_common.AuthPath}
+     * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * sent instead of an auth path for a KeyLookup with since_epoch
+     * if the mapping hasn't changed since then
+     * </pre>
      */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.AuthPath)
-        org.coniks.coniks_common.C2SProtos.AuthPathOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_descriptor;
-      }
-
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                org.coniks.coniks_common.C2SProtos.AuthPath.class, org.coniks.coniks_common.C2SProtos.AuthPath.Builder.class);
-      }
-
-      // Construct using org.coniks.coniks_common.C2SProtos.AuthPath.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getLeafFieldBuilder();
-          getInteriorFieldBuilder();
-          getRootFieldBuilder();
-        }
-      }
-      private static Builder create() {
-        return new Builder();
-      }
-
-      public Builder clear() {
-        super.clear();
-        if (leafBuilder_ == null) {
-          leaf_ = org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.getDefaultInstance();
-        } else {
-          leafBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000001);
-        if (interiorBuilder_ == null) {
-          interior_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000002);
-        } else {
-          interiorBuilder_.clear();
-        }
-        if (rootBuilder_ == null) {
-          root_ = org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.getDefaultInstance();
-        } else {
-          rootBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000004);
-        return this;
-      }
-
-      public Builder clone() {
-        return create().mergeFrom(buildPartial());
-      }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_AuthPath_descriptor;
-      }
-
-      public org.coniks.coniks_common.C2SProtos.AuthPath getDefaultInstanceForType() {
-        return org.coniks.coniks_common.C2SProtos.AuthPath.getDefaultInstance();
-      }
-
-      public org.coniks.coniks_common.C2SProtos.AuthPath build() {
-        org.coniks.coniks_common.C2SProtos.AuthPath result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * sent instead of an auth path for a KeyLookup with since_epoch
+     * if the mapping hasn't changed since then
+     * </pre>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
         }
-        return result;
+        return s;
       }
-
-      public org.coniks.coniks_common.C2SProtos.AuthPath buildPartial() {
-        org.coniks.coniks_common.C2SProtos.AuthPath result = new org.coniks.coniks_common.C2SProtos.AuthPath(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        if (leafBuilder_ == null) {
-          result.leaf_ = leaf_;
-        } else {
-          result.leaf_ = leafBuilder_.build();
-        }
-        if (interiorBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) == 0x00000002)) {
-            interior_ = java.util.Collections.unmodifiableList(interior_);
-            bitField0_ = (bitField0_ & ~0x00000002);
-          }
-          result.interior_ = interior_;
-        } else {
-          result.interior_ = interiorBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        if (rootBuilder_ == null) {
-          result.root_ = root_;
-        } else {
-          result.root_ = rootBuilder_.build();
-        }
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     *
+     * <pre>
+     * sent instead of an auth path for a KeyLookup with since_epoch
+     * if the mapping hasn't changed since then
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
+    }
 
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.coniks.coniks_common.C2SProtos.AuthPath) {
-          return mergeFrom((org.coniks.coniks_common.C2SProtos.AuthPath)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
+    public static final int EPOCH_CHANGED_FIELD_NUMBER = 2;
+    private long epochChanged_;
+    /**
+     * <code>optional uint64 epoch_changed = 2;</code>
+     *
+     * <pre>
+     * the epoch in which the mapping was last changed
+     * </pre>
+     */
+    public boolean hasEpochChanged() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional uint64 epoch_changed = 2;</code>
+     *
+     * <pre>
+     * the epoch in which the mapping was last changed
+     * </pre>
+     */
+    public long getEpochChanged() {
+      return epochChanged_;
+    }
 
-      public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.AuthPath other) {
-        if (other == org.coniks.coniks_common.C2SProtos.AuthPath.getDefaultInstance()) return this;
-        if (other.hasLeaf()) {
-          mergeLeaf(other.getLeaf());
-        }
-        if (interiorBuilder_ == null) {
-          if (!other.interior_.isEmpty()) {
-            if (interior_.isEmpty()) {
-              interior_ = other.interior_;
-              bitField0_ = (bitField0_ & ~0x00000002);
-            } else {
-              ensureInteriorIsMutable();
-              interior_.addAll(other.interior_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.interior_.isEmpty()) {
-            if (interiorBuilder_.isEmpty()) {
-              interiorBuilder_.dispose();
-              interiorBuilder_ = null;
-              interior_ = other.interior_;
-              bitField0_ = (bitField0_ & ~0x00000002);
-              interiorBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getInteriorFieldBuilder() : null;
-            } else {
-              interiorBuilder_.addAllMessages(other.interior_);
-            }
-          }
-        }
-        if (other.hasRoot()) {
-          mergeRoot(other.getRoot());
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        return this;
-      }
+    public static final int COMMITMENT_FIELD_NUMBER = 3;
+    private org.coniks.coniks_common.UtilProtos.Commitment commitment_;
+    /**
+     * <code>optional .org.coniks.coniks_common.Commitment commitment = 3;</code>
+     *
+     * <pre>
+     * the STR of the looked up epoch
+     * </pre>
+     */
+    public boolean hasCommitment() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional .org.coniks.coniks_common.Commitment commitment = 3;</code>
+     *
+     * <pre>
+     * the STR of the looked up epoch
+     * </pre>
+     */
+    public org.coniks.coniks_common.UtilProtos.Commitment getCommitment() {
+      return commitment_;
+    }
+    /**
+     * <code>optional .org.coniks.coniks_common.Commitment commitment = 3;</code>
+     *
+     * <pre>
+     * the STR of the looked up epoch
+     * </pre>
+     */
+    public org.coniks.coniks_common.UtilProtos.CommitmentOrBuilder getCommitmentOrBuilder() {
+      return commitment_;
+    }
 
-      public final boolean isInitialized() {
-        if (hasLeaf()) {
-          if (!getLeaf().isInitialized()) {
-            
-            return false;
-          }
-        }
-        return true;
-      }
+    private void initFields() {
+      name_ = "";
+      epochChanged_ = 0L;
+      commitment_ = org.coniks.coniks_common.UtilProtos.Commitment.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        org.coniks.coniks_common.C2SProtos.AuthPath parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.coniks.coniks_common.C2SProtos.AuthPath) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getNameBytes());
       }
-      private int bitField0_;
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeUInt64(2, epochChanged_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(3, commitment_);
+      }
+      getUnknownFields().writeTo(output);
+    }
 
-      private org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode leaf_ = org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder> leafBuilder_;
-      /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
-       *
-       * <pre>
-       * client checks if leaf is specified
-       * </pre>
-       */
-      public boolean hasLeaf() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getNameBytes());
       }
-      /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
-       *
-       * <pre>
-       * client checks if leaf is specified
-       * </pre>
-       */
-      public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode getLeaf() {
-        if (leafBuilder_ == null) {
-          return leaf_;
-        } else {
-          return leafBuilder_.getMessage();
-        }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, epochChanged_);
       }
-      /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
-       *
-       * <pre>
-       * client checks if leaf is specified
-       * </pre>
-       */
-      public Builder setLeaf(org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode value) {
-        if (leafBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          leaf_ = value;
-          onChanged();
-        } else {
-          leafBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000001;
-        return this;
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, commitment_);
       }
-      /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
-       *
-       * <pre>
-       * client checks if leaf is specified
-       * </pre>
-       */
-      public Builder setLeaf(
-          org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder builderForValue) {
-        if (leafBuilder_ == null) {
-          leaf_ = builderForValue.build();
-          onChanged();
-        } else {
-          leafBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000001;
-        return this;
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.coniks.coniks_common.C2SProtos.KeyNotModified parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyNotModified parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyNotModified parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyNotModified parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyNotModified parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyNotModified parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyNotModified parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyNotModified parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyNotModified parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.coniks.coniks_common.C2SProtos.KeyNotModified parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.coniks.coniks_common.C2SProtos.KeyNotModified prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.coniks.coniks_common.KeyNotModified}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.coniks.coniks_common.KeyNotModified)
+        org.coniks.coniks_common.C2SProtos.KeyNotModifiedOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyNotModified_descriptor;
       }
-      /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
-       *
-       * <pre>
-       * client checks if leaf is specified
-       * </pre>
-       */
-      public Builder mergeLeaf(org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode value) {
-        if (leafBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              leaf_ != org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.getDefaultInstance()) {
-            leaf_ =
-              org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.newBuilder(leaf_).mergeFrom(value).buildPartial();
-          } else {
-            leaf_ = value;
-          }
-          onChanged();
-        } else {
-          leafBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000001;
-        return this;
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyNotModified_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.coniks.coniks_common.C2SProtos.KeyNotModified.class, org.coniks.coniks_common.C2SProtos.KeyNotModified.Builder.class);
       }
-      /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
-       *
-       * <pre>
-       * client checks if leaf is specified
-       * </pre>
-       */
-      public Builder clearLeaf() {
-        if (leafBuilder_ == null) {
-          leaf_ = org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.getDefaultInstance();
-          onChanged();
-        } else {
-          leafBuilder_.clear();
+
+      // Construct using org.coniks.coniks_common.C2SProtos.KeyNotModified.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getCommitmentFieldBuilder();
         }
-        bitField0_ = (bitField0_ & ~0x00000001);
-        return this;
       }
-      /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
-       *
-       * <pre>
-       * client checks if leaf is specified
-       * </pre>
-       */
-      public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder getLeafBuilder() {
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return getLeafFieldBuilder().getBuilder();
+      private static Builder create() {
+        return new Builder();
       }
-      /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
-       *
-       * <pre>
-       * client checks if leaf is specified
-       * </pre>
-       */
-      public org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder getLeafOrBuilder() {
-        if (leafBuilder_ != null) {
-          return leafBuilder_.getMessageOrBuilder();
+
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        epochChanged_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (commitmentBuilder_ == null) {
+          commitment_ = org.coniks.coniks_common.UtilProtos.Commitment.getDefaultInstance();
         } else {
-          return leaf_;
+          commitmentBuilder_.clear();
         }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
       }
-      /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.UserLeafNode leaf = 1;</code>
-       *
-       * <pre>
-       * client checks if leaf is specified
-       * </pre>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder> 
-          getLeafFieldBuilder() {
-        if (leafBuilder_ == null) {
-          leafBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.UserLeafNodeOrBuilder>(
-                  getLeaf(),
-                  getParentForChildren(),
-                  isClean());
-          leaf_ = null;
-        }
-        return leafBuilder_;
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
 
-      private java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode> interior_ =
-        java.util.Collections.emptyList();
-      private void ensureInteriorIsMutable() {
-        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
-          interior_ = new java.util.ArrayList<org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode>(interior_);
-          bitField0_ |= 0x00000002;
-         }
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.coniks.coniks_common.C2SProtos.internal_static_org_coniks_coniks_common_KeyNotModified_descriptor;
       }
 
-      private com.google.protobuf.RepeatedFieldBuilder<
-          org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder> interiorBuilder_;
+      public org.coniks.coniks_common.C2SProtos.KeyNotModified getDefaultInstanceForType() {
+        return org.coniks.coniks_common.C2SProtos.KeyNotModified.getDefaultInstance();
+      }
 
-      /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
-       */
-      public java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode> getInteriorList() {
-        if (interiorBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(interior_);
-        } else {
-          return interiorBuilder_.getMessageList();
+      public org.coniks.coniks_common.C2SProtos.KeyNotModified build() {
+        org.coniks.coniks_common.C2SProtos.KeyNotModified result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
+        return result;
       }
-      /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
-       */
-      public int getInteriorCount() {
-        if (interiorBuilder_ == null) {
-          return interior_.size();
-        } else {
-          return interiorBuilder_.getCount();
+
+      public org.coniks.coniks_common.C2SProtos.KeyNotModified buildPartial() {
+        org.coniks.coniks_common.C2SProtos.KeyNotModified result = new org.coniks.coniks_common.C2SProtos.KeyNotModified(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
         }
-      }
-      /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
-       */
-      public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode getInterior(int index) {
-        if (interiorBuilder_ == null) {
-          return interior_.get(index);
-        } else {
-          return interiorBuilder_.getMessage(index);
+        result.name_ = name_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
         }
-      }
-      /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
-       */
-      public Builder setInterior(
-          int index, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode value) {
-        if (interiorBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureInteriorIsMutable();
-          interior_.set(index, value);
-          onChanged();
-        } else {
-          interiorBuilder_.setMessage(index, value);
+        result.epochChanged_ = epochChanged_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
         }
-        return this;
-      }
-      /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
-       */
-      public Builder setInterior(
-          int index, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder builderForValue) {
-        if (interiorBuilder_ == null) {
-          ensureInteriorIsMutable();
-          interior_.set(index, builderForValue.build());
-          onChanged();
+        if (commitmentBuilder_ == null) {
+          result.commitment_ = commitment_;
         } else {
-          interiorBuilder_.setMessage(index, builderForValue.build());
+          result.commitment_ = commitmentBuilder_.build();
         }
-        return this;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
       }
-      /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
-       */
-      public Builder addInterior(org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode value) {
-        if (interiorBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureInteriorIsMutable();
-          interior_.add(value);
-          onChanged();
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.coniks.coniks_common.C2SProtos.KeyNotModified) {
+          return mergeFrom((org.coniks.coniks_common.C2SProtos.KeyNotModified)other);
         } else {
-          interiorBuilder_.addMessage(value);
+          super.mergeFrom(other);
+          return this;
         }
-        return this;
       }
-      /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
-       */
-      public Builder addInterior(
-          int index, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode value) {
-        if (interiorBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureInteriorIsMutable();
-          interior_.add(index, value);
+
+      public Builder mergeFrom(org.coniks.coniks_common.C2SProtos.KeyNotModified other) {
+        if (other == org.coniks.coniks_common.C2SProtos.KeyNotModified.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
           onChanged();
-        } else {
-          interiorBuilder_.addMessage(index, value);
         }
-        return this;
-      }
-      /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
-       */
-      public Builder addInterior(
-          org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder builderForValue) {
-        if (interiorBuilder_ == null) {
-          ensureInteriorIsMutable();
-          interior_.add(builderForValue.build());
-          onChanged();
-        } else {
-          interiorBuilder_.addMessage(builderForValue.build());
+        if (other.hasEpochChanged()) {
+          setEpochChanged(other.getEpochChanged());
         }
+        if (other.hasCommitment()) {
+          mergeCommitment(other.getCommitment());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
-      /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
-       */
-      public Builder addInterior(
-          int index, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder builderForValue) {
-        if (interiorBuilder_ == null) {
-          ensureInteriorIsMutable();
-          interior_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          interiorBuilder_.addMessage(index, builderForValue.build());
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.coniks.coniks_common.C2SProtos.KeyNotModified parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.coniks.coniks_common.C2SProtos.KeyNotModified) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
         }
         return this;
       }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
       /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * sent instead of an auth path for a KeyLookup with since_epoch
+       * if the mapping hasn't changed since then
+       * </pre>
        */
-      public Builder addAllInterior(
-          java.lang.Iterable<? extends org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode> values) {
-        if (interiorBuilder_ == null) {
-          ensureInteriorIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, interior_);
-          onChanged();
-        } else {
-          interiorBuilder_.addAllMessages(values);
-        }
-        return this;
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * sent instead of an auth path for a KeyLookup with since_epoch
+       * if the mapping hasn't changed since then
+       * </pre>
        */
-      public Builder clearInterior() {
-        if (interiorBuilder_ == null) {
-          interior_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000002);
-          onChanged();
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
         } else {
-          interiorBuilder_.clear();
+          return (java.lang.String) ref;
         }
-        return this;
       }
       /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * sent instead of an auth path for a KeyLookup with since_epoch
+       * if the mapping hasn't changed since then
+       * </pre>
        */
-      public Builder removeInterior(int index) {
-        if (interiorBuilder_ == null) {
-          ensureInteriorIsMutable();
-          interior_.remove(index);
-          onChanged();
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
         } else {
-          interiorBuilder_.remove(index);
+          return (com.google.protobuf.ByteString) ref;
         }
-        return this;
       }
       /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * sent instead of an auth path for a KeyLookup with since_epoch
+       * if the mapping hasn't changed since then
+       * </pre>
        */
-      public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder getInteriorBuilder(
-          int index) {
-        return getInteriorFieldBuilder().getBuilder(index);
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * sent instead of an auth path for a KeyLookup with since_epoch
+       * if the mapping hasn't changed since then
+       * </pre>
        */
-      public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder getInteriorOrBuilder(
-          int index) {
-        if (interiorBuilder_ == null) {
-          return interior_.get(index);  } else {
-          return interiorBuilder_.getMessageOrBuilder(index);
-        }
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       * <code>optional string name = 1;</code>
+       *
+       * <pre>
+       * sent instead of an auth path for a KeyLookup with since_epoch
+       * if the mapping hasn't changed since then
+       * </pre>
        */
-      public java.util.List<? extends org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder> 
-           getInteriorOrBuilderList() {
-        if (interiorBuilder_ != null) {
-          return interiorBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(interior_);
-        }
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
       }
+
+      private long epochChanged_ ;
       /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       * <code>optional uint64 epoch_changed = 2;</code>
+       *
+       * <pre>
+       * the epoch in which the mapping was last changed
+       * </pre>
        */
-      public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder addInteriorBuilder() {
-        return getInteriorFieldBuilder().addBuilder(
-            org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.getDefaultInstance());
+      public boolean hasEpochChanged() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       * <code>optional uint64 epoch_changed = 2;</code>
+       *
+       * <pre>
+       * the epoch in which the mapping was last changed
+       * </pre>
        */
-      public org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder addInteriorBuilder(
-          int index) {
-        return getInteriorFieldBuilder().addBuilder(
-            index, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.getDefaultInstance());
+      public long getEpochChanged() {
+        return epochChanged_;
       }
       /**
-       * <code>repeated .org.coniks.coniks_common.AuthPath.InteriorNode interior = 2;</code>
+       * <code>optional uint64 epoch_changed = 2;</code>
+       *
+       * <pre>
+       * the epoch in which the mapping was last changed
+       * </pre>
        */
-      public java.util.List<org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder> 
-           getInteriorBuilderList() {
-        return getInteriorFieldBuilder().getBuilderList();
+      public Builder setEpochChanged(long value) {
+        bitField0_ |= 0x00000002;
+        epochChanged_ = value;
+        onChanged();
+        return this;
       }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder> 
-          getInteriorFieldBuilder() {
-        if (interiorBuilder_ == null) {
-          interiorBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.InteriorNodeOrBuilder>(
-                  interior_,
-                  ((bitField0_ & 0x00000002) == 0x00000002),
-                  getParentForChildren(),
-                  isClean());
-          interior_ = null;
-        }
-        return interiorBuilder_;
+      /**
+       * <code>optional uint64 epoch_changed = 2;</code>
+       *
+       * <pre>
+       * the epoch in which the mapping was last changed
+       * </pre>
+       */
+      public Builder clearEpochChanged() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        epochChanged_ = 0L;
+        onChanged();
+        return this;
       }
 
-      private org.coniks.coniks_common.C2SProtos.AuthPath.RootNode root_ = org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.getDefaultInstance();
+      private org.coniks.coniks_common.UtilProtos.Commitment commitment_ = org.coniks.coniks_common.UtilProtos.Commitment.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
-          org.coniks.coniks_common.C2SProtos.AuthPath.RootNode, org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.RootNodeOrBuilder> rootBuilder_;
+          org.coniks.coniks_common.UtilProtos.Commitment, org.coniks.coniks_common.UtilProtos.Commitment.Builder, org.coniks.coniks_common.UtilProtos.CommitmentOrBuilder> commitmentBuilder_;
       /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       * <code>optional .org.coniks.coniks_common.Commitment commitment = 3;</code>
+       *
+       * <pre>
+       * the STR of the looked up epoch
+       * </pre>
        */
-      public boolean hasRoot() {
+      public boolean hasCommitment() {
         return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       * <code>optional .org.coniks.coniks_common.Commitment commitment = 3;</code>
+       *
+       * <pre>
+       * the STR of the looked up epoch
+       * </pre>
        */
-      public org.coniks.coniks_common.C2SProtos.AuthPath.RootNode getRoot() {
-        if (rootBuilder_ == null) {
-          return root_;
+      public org.coniks.coniks_common.UtilProtos.Commitment getCommitment() {
+        if (commitmentBuilder_ == null) {
+          return commitment_;
         } else {
-          return rootBuilder_.getMessage();
+          return commitmentBuilder_.getMessage();
         }
       }
       /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       * <code>optional .org.coniks.coniks_common.Commitment commitment = 3;</code>
+       *
+       * <pre>
+       * the STR of the looked up epoch
+       * </pre>
        */
-      public Builder setRoot(org.coniks.coniks_common.C2SProtos.AuthPath.RootNode value) {
-        if (rootBuilder_ == null) {
+      public Builder setCommitment(org.coniks.coniks_common.UtilProtos.Commitment value) {
+        if (commitmentBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          root_ = value;
+          commitment_ = value;
           onChanged();
         } else {
-          rootBuilder_.setMessage(value);
+          commitmentBuilder_.setMessage(value);
         }
         bitField0_ |= 0x00000004;
         return this;
       }
       /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       * <code>optional .org.coniks.coniks_common.Commitment commitment = 3;</code>
+       *
+       * <pre>
+       * the STR of the looked up epoch
+       * </pre>
        */
-      public Builder setRoot(
-          org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.Builder builderForValue) {
-        if (rootBuilder_ == null) {
-          root_ = builderForValue.build();
+      public Builder setCommitment(
+          org.coniks.coniks_common.UtilProtos.Commitment.Builder builderForValue) {
+        if (commitmentBuilder_ == null) {
+          commitment_ = builderForValue.build();
           onChanged();
         } else {
-          rootBuilder_.setMessage(builderForValue.build());
+          commitmentBuilder_.setMessage(builderForValue.build());
         }
         bitField0_ |= 0x00000004;
         return this;
       }
       /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       * <code>optional .org.coniks.coniks_common.Commitment commitment = 3;</code>
+       *
+       * <pre>
+       * the STR of the looked up epoch
+       * </pre>
        */
-      public Builder mergeRoot(org.coniks.coniks_common.C2SProtos.AuthPath.RootNode value) {
-        if (rootBuilder_ == null) {
+      public Builder mergeCommitment(org.coniks.coniks_common.UtilProtos.Commitment value) {
+        if (commitmentBuilder_ == null) {
           if (((bitField0_ & 0x00000004) == 0x00000004) &&
-              root_ != org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.getDefaultInstance()) {
-            root_ =
-              org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.newBuilder(root_).mergeFrom(value).buildPartial();
+              commitment_ != org.coniks.coniks_common.UtilProtos.Commitment.getDefaultInstance()) {
+            commitment_ =
+              org.coniks.coniks_common.UtilProtos.Commitment.newBuilder(commitment_).mergeFrom(value).buildPartial();
           } else {
-            root_ = value;
+            commitment_ = value;
           }
           onChanged();
         } else {
-          rootBuilder_.mergeFrom(value);
+          commitmentBuilder_.mergeFrom(value);
         }
         bitField0_ |= 0x00000004;
         return this;
       }
       /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       * <code>optional .org.coniks.coniks_common.Commitment commitment = 3;</code>
+       *
+       * <pre>
+       * the STR of the looked up epoch
+       * </pre>
        */
-      public Builder clearRoot() {
-        if (rootBuilder_ == null) {
-          root_ = org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.getDefaultInstance();
+      public Builder clearCommitment() {
+        if (commitmentBuilder_ == null) {
+          commitment_ = org.coniks.coniks_common.UtilProtos.Commitment.getDefaultInstance();
           onChanged();
         } else {
-          rootBuilder_.clear();
+          commitmentBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
       /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       * <code>optional .org.coniks.coniks_common.Commitment commitment = 3;</code>
+       *
+       * <pre>
+       * the STR of the looked up epoch
+       * </pre>
        */
-      public org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.Builder getRootBuilder() {
+      public org.coniks.coniks_common.UtilProtos.Commitment.Builder getCommitmentBuilder() {
         bitField0_ |= 0x00000004;
         onChanged();
-        return getRootFieldBuilder().getBuilder();
+        return getCommitmentFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       * <code>optional .org.coniks.coniks_common.Commitment commitment = 3;</code>
+       *
+       * <pre>
+       * the STR of the looked up epoch
+       * </pre>
        */
-      public org.coniks.coniks_common.C2SProtos.AuthPath.RootNodeOrBuilder getRootOrBuilder() {
-        if (rootBuilder_ != null) {
-          return rootBuilder_.getMessageOrBuilder();
+      public org.coniks.coniks_common.UtilProtos.CommitmentOrBuilder getCommitmentOrBuilder() {
+        if (commitmentBuilder_ != null) {
+          return commitmentBuilder_.getMessageOrBuilder();
         } else {
-          return root_;
+          return commitment_;
         }
       }
       /**
-       * <code>optional .org.coniks.coniks_common.AuthPath.RootNode root = 3;</code>
+       * <code>optional .org.coniks.coniks_common.Commitment commitment = 3;</code>
+       *
+       * <pre>
+       * the STR of the looked up epoch
+       * </pre>
        */
       private com.google.protobuf.SingleFieldBuilder<
-          org.coniks.coniks_common.C2SProtos.AuthPath.RootNode, org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.RootNodeOrBuilder> 
-          getRootFieldBuilder() {
-        if (rootBuilder_ == null) {
-          rootBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.coniks.coniks_common.C2SProtos.AuthPath.RootNode, org.coniks.coniks_common.C2SProtos.AuthPath.RootNode.Builder, org.coniks.coniks_common.C2SProtos.AuthPath.RootNodeOrBuilder>(
-                  getRoot(),
+          org.coniks.coniks_common.UtilProtos.Commitment, org.coniks.coniks_common.UtilProtos.Commitment.Builder, org.coniks.coniks_common.UtilProtos.CommitmentOrBuilder> 
+          getCommitmentFieldBuilder() {
+        if (commitmentBuilder_ == null) {
+          commitmentBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.coniks.coniks_common.UtilProtos.Commitment, org.coniks.coniks_common.UtilProtos.Commitment.Builder, org.coniks.coniks_common.UtilProtos.CommitmentOrBuilder>(
+                  getCommitment(),
                   getParentForChildren(),
                   isClean());
-          root_ = null;
+          commitment_ = null;
         }
-        return rootBuilder_;
+        return commitmentBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.AuthPath)
+      // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.KeyNotModified)
     }
 
     static {
-      defaultInstance = new AuthPath(true);
+      defaultInstance = new KeyNotModified(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.AuthPath)
+    // @@protoc_insertion_point(class_scope:org.coniks.coniks_common.KeyNotModified)
   }
 
   private static final com.google.protobuf.Descriptors.Descriptor
@@ -9852,11 +19883,31 @@ public final class C2SProtos {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_org_coniks_coniks_common_CommitmentReq_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_coniks_coniks_common_CommitmentRangeReq_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_coniks_coniks_common_CommitmentRangeReq_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_org_coniks_coniks_common_KeyLookup_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_org_coniks_coniks_common_KeyLookup_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_coniks_coniks_common_MultiKeyLookup_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_coniks_coniks_common_MultiKeyLookup_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_coniks_coniks_common_KeyHistoryReq_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_coniks_coniks_common_KeyHistoryReq_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_coniks_coniks_common_ChangelogReq_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_coniks_coniks_common_ChangelogReq_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_org_coniks_coniks_common_RegistrationResp_descriptor;
   private static
@@ -9882,6 +19933,31 @@ public final class C2SProtos {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_org_coniks_coniks_common_AuthPath_RootNode_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_coniks_coniks_common_AuthPath_RadixNode_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_coniks_coniks_common_AuthPath_RadixNode_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_coniks_coniks_common_MultiAuthPath_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_coniks_coniks_common_MultiAuthPath_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_coniks_coniks_common_KeyHistory_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_coniks_coniks_common_KeyHistory_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_coniks_coniks_common_EpochChanges_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_coniks_coniks_common_EpochChanges_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_coniks_coniks_common_KeyNotModified_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_coniks_coniks_common_KeyNotModified_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -9892,47 +19968,77 @@ public final class C2SProtos {
   static {
     java.lang.String[] descriptorData = {
       "\n\tc2s.proto\022\030org.coniks.coniks_common\032\nu" +
-      "til.proto\"?\n\021DSAPublicKeyProto\022\t\n\001p\030\001 \002(" +
-      "\t\022\t\n\001q\030\002 \002(\t\022\t\n\001g\030\003 \002(\t\022\t\n\001y\030\004 \002(\t\"\253\001\n\014R" +
-      "egistration\022\014\n\004name\030\001 \001(\t\022\014\n\004blob\030\002 \001(\t\022" +
-      ">\n\tchangeKey\030\003 \001(\0132+.org.coniks.coniks_c" +
-      "ommon.DSAPublicKeyProto\022!\n\031allows_unsign" +
-      "ed_keychange\030\004 \001(\010\022\034\n\024allows_public_look" +
-      "up\030\005 \001(\010\"\255\001\n\014ULNChangeReq\022\014\n\004name\030\001 \001(\t\022" +
-      "\017\n\007newBlob\030\002 \001(\t\022A\n\014newChangeKey\030\003 \001(\0132+" +
-      ".org.coniks.coniks_common.DSAPublicKeyPr",
-      "oto\022\037\n\027allowsUnsignedKeychange\030\004 \001(\010\022\032\n\022" +
-      "allowsPublicLookup\030\005 \001(\010\"V\n\022SignedULNCha" +
-      "ngeReq\0223\n\003req\030\001 \001(\0132&.org.coniks.coniks_" +
-      "common.ULNChangeReq\022\013\n\003sig\030\002 \001(\014\"\237\001\n\rCom" +
-      "mitmentReq\022D\n\004type\030\001 \001(\01626.org.coniks.co" +
-      "niks_common.CommitmentReq.CommitmentType" +
-      "\022\r\n\005epoch\030\002 \001(\004\022\020\n\010provider\030\003 \001(\t\"\'\n\016Com" +
-      "mitmentType\022\010\n\004SELF\020\000\022\013\n\007WITNESS\020\001\"(\n\tKe" +
-      "yLookup\022\014\n\004name\030\001 \001(\t\022\r\n\005epoch\030\002 \001(\004\">\n\020" +
-      "RegistrationResp\022\022\n\ninit_epoch\030\001 \001(\004\022\026\n\016",
-      "epoch_interval\030\002 \001(\r\"\241\006\n\010AuthPath\022=\n\004lea" +
-      "f\030\001 \001(\0132/.org.coniks.coniks_common.AuthP" +
-      "ath.UserLeafNode\022A\n\010interior\030\002 \003(\0132/.org" +
-      ".coniks.coniks_common.AuthPath.InteriorN" +
-      "ode\0229\n\004root\030\003 \001(\0132+.org.coniks.coniks_co" +
-      "mmon.AuthPath.RootNode\032\251\002\n\014UserLeafNode\022" +
-      "\014\n\004name\030\001 \001(\t\022\021\n\tpublickey\030\002 \001(\t\022\023\n\013epoc" +
-      "h_added\030\003 \001(\004\022\025\n\repoch_changed\030\004 \001(\004\022!\n\031" +
-      "allows_unsigned_keychange\030\005 \001(\010\022\034\n\024allow" +
-      "s_public_lookup\030\006 \001(\010\022\024\n\014lookup_index\030\007 ",
-      "\001(\014\022\021\n\tintlevels\030\010 \001(\r\022\021\n\tsignature\030\t \001(" +
-      "\014\022>\n\tchangeKey\030\n \001(\0132+.org.coniks.coniks" +
-      "_common.DSAPublicKeyProto\022\017\n\007lastMsg\030\013 \001" +
-      "(\014\032\204\001\n\014InteriorNode\022C\n\013prunedchild\030\001 \001(\016" +
-      "2..org.coniks.coniks_common.AuthPath.Pru" +
-      "nedChild\022/\n\007subtree\030\002 \001(\0132\036.org.coniks.c" +
-      "oniks_common.Hash\032\200\001\n\010RootNode\022C\n\013pruned" +
-      "child\030\001 \001(\0162..org.coniks.coniks_common.A" +
-      "uthPath.PrunedChild\022/\n\007subtree\030\002 \001(\0132\036.o" +
-      "rg.coniks.coniks_common.Hash\"\"\n\013PrunedCh",
-      "ild\022\010\n\004LEFT\020\000\022\t\n\005RIGHT\020\001B%\n\030org.coniks.c" +
-      "oniks_commonB\tC2SProtos"
+      "til.proto\"{\n\021DSAPublicKeyProto\022\t\n\001p\030\001 \002(" +
+      "\t\022\t\n\001q\030\002 \002(\t\022\t\n\001g\030\003 \002(\t\022\t\n\001y\030\004 \002(\t\022\r\n\005ra" +
+      "w_p\030\005 \001(\014\022\r\n\005raw_q\030\006 \001(\014\022\r\n\005raw_g\030\007 \001(\014\022" +
+      "\r\n\005raw_y\030\010 \001(\014\"\305\001\n\014Registration\022\014\n\004name\030" +
+      "\001 \001(\t\022\014\n\004blob\030\002 \001(\t\022>\n\tchangeKey\030\003 \001(\0132+" +
+      ".org.coniks.coniks_common.DSAPublicKeyPr" +
+      "oto\022!\n\031allows_unsigned_keychange\030\004 \001(\010\022\034" +
+      "\n\024allows_public_lookup\030\005 \001(\010\022\030\n\020ed25519C" +
+      "hangeKey\030\006 \001(\014\"\312\001\n\014ULNChangeReq\022\014\n\004name\030",
+      "\001 \001(\t\022\017\n\007newBlob\030\002 \001(\t\022A\n\014newChangeKey\030\003" +
+      " \001(\0132+.org.coniks.coniks_common.DSAPubli" +
+      "cKeyProto\022\037\n\027allowsUnsignedKeychange\030\004 \001" +
+      "(\010\022\032\n\022allowsPublicLookup\030\005 \001(\010\022\033\n\023newEd2" +
+      "5519ChangeKey\030\006 \001(\014\"V\n\022SignedULNChangeRe" +
+      "q\0223\n\003req\030\001 \001(\0132&.org.coniks.coniks_commo" +
+      "n.ULNChangeReq\022\013\n\003sig\030\002 \001(\014\"\237\001\n\rCommitme" +
+      "ntReq\022D\n\004type\030\001 \001(\01626.org.coniks.coniks_" +
+      "common.CommitmentReq.CommitmentType\022\r\n\005e" +
+      "poch\030\002 \001(\004\022\020\n\010provider\030\003 \001(\t\"\'\n\016Commitme",
+      "ntType\022\010\n\004SELF\020\000\022\013\n\007WITNESS\020\001\"<\n\022Commitm" +
+      "entRangeReq\022\023\n\013start_epoch\030\001 \001(\004\022\021\n\tend_" +
+      "epoch\030\002 \001(\004\"=\n\tKeyLookup\022\014\n\004name\030\001 \001(\t\022\r" +
+      "\n\005epoch\030\002 \001(\004\022\023\n\013since_epoch\030\003 \001(\004\"-\n\016Mu" +
+      "ltiKeyLookup\022\014\n\004name\030\001 \003(\t\022\r\n\005epoch\030\002 \001(" +
+      "\004\"E\n\rKeyHistoryReq\022\014\n\004name\030\001 \001(\t\022\023\n\013star" +
+      "t_epoch\030\002 \001(\004\022\021\n\tend_epoch\030\003 \001(\004\"6\n\014Chan" +
+      "gelogReq\022\023\n\013start_epoch\030\001 \001(\004\022\021\n\tend_epo" +
+      "ch\030\002 \001(\004\">\n\020RegistrationResp\022\022\n\ninit_epo" +
+      "ch\030\001 \001(\004\022\026\n\016epoch_interval\030\002 \001(\r\"\256\010\n\010Aut",
+      "hPath\022=\n\004leaf\030\001 \001(\0132/.org.coniks.coniks_" +
+      "common.AuthPath.UserLeafNode\022A\n\010interior" +
+      "\030\002 \003(\0132/.org.coniks.coniks_common.AuthPa" +
+      "th.InteriorNode\0229\n\004root\030\003 \001(\0132+.org.coni" +
+      "ks.coniks_common.AuthPath.RootNode\022@\n\nra" +
+      "dix_node\030\004 \003(\0132,.org.coniks.coniks_commo" +
+      "n.AuthPath.RadixNode\022\023\n\013sparse_mask\030\005 \001(" +
+      "\014\022\026\n\016sparse_sibling\030\006 \003(\014\032\225\003\n\014UserLeafNo" +
+      "de\022\014\n\004name\030\001 \001(\t\022\021\n\tpublickey\030\002 \001(\t\022\023\n\013e" +
+      "poch_added\030\003 \001(\004\022\025\n\repoch_changed\030\004 \001(\004\022",
+      "!\n\031allows_unsigned_keychange\030\005 \001(\010\022\034\n\024al" +
+      "lows_public_lookup\030\006 \001(\010\022\024\n\014lookup_index" +
+      "\030\007 \001(\014\022\021\n\tintlevels\030\010 \001(\r\022\021\n\tsignature\030\t" +
+      " \001(\014\022>\n\tchangeKey\030\n \001(\0132+.org.coniks.con" +
+      "iks_common.DSAPublicKeyProto\022\017\n\007lastMsg\030" +
+      "\013 \001(\014\022\030\n\020ed25519ChangeKey\030\014 \001(\014\022\022\n\nleafF" +
+      "ormat\030\r \001(\r\022\025\n\rhashAlgorithm\030\016 \001(\t\022\021\n\ttr" +
+      "eeRadix\030\017 \001(\r\022\022\n\nsparseTree\030\020 \001(\010\032\204\001\n\014In" +
+      "teriorNode\022C\n\013prunedchild\030\001 \001(\0162..org.co" +
+      "niks.coniks_common.AuthPath.PrunedChild\022",
+      "/\n\007subtree\030\002 \001(\0132\036.org.coniks.coniks_com" +
+      "mon.Hash\032\200\001\n\010RootNode\022C\n\013prunedchild\030\001 \001" +
+      "(\0162..org.coniks.coniks_common.AuthPath.P" +
+      "runedChild\022/\n\007subtree\030\002 \001(\0132\036.org.coniks" +
+      ".coniks_common.Hash\0320\n\tRadixNode\022\022\n\nchil" +
+      "d_mask\030\001 \001(\r\022\017\n\007sibling\030\002 \003(\014\"\"\n\013PrunedC" +
+      "hild\022\010\n\004LEFT\020\000\022\t\n\005RIGHT\020\001\"\273\001\n\rMultiAuthP" +
+      "ath\022=\n\004leaf\030\001 \003(\0132/.org.coniks.coniks_co" +
+      "mmon.AuthPath.UserLeafNode\022/\n\007subtree\030\002 " +
+      "\003(\0132\036.org.coniks.coniks_common.Hash\022\021\n\tn",
+      "ot_found\030\003 \003(\t\022\022\n\nchild_mask\030\004 \003(\r\022\023\n\013sp" +
+      "arse_mask\030\005 \001(\014\"P\n\nKeyHistory\0223\n\007version" +
+      "\030\001 \003(\0132\".org.coniks.coniks_common.AuthPa" +
+      "th\022\r\n\005epoch\030\002 \003(\004\"\250\001\n\014EpochChanges\022\r\n\005ep" +
+      "och\030\001 \001(\004\022\024\n\014lookup_index\030\002 \003(\014\022C\n\004type\030" +
+      "\003 \003(\01621.org.coniks.coniks_common.EpochCh" +
+      "anges.ChangeTypeB\002\020\001\".\n\nChangeType\022\020\n\014RE" +
+      "GISTRATION\020\000\022\016\n\nKEY_CHANGE\020\001\"o\n\016KeyNotMo" +
+      "dified\022\014\n\004name\030\001 \001(\t\022\025\n\repoch_changed\030\002 " +
+      "\001(\004\0228\n\ncommitment\030\003 \001(\0132$.org.coniks.con",
+      "iks_common.CommitmentB%\n\030org.coniks.coni" +
+      "ks_commonB\tC2SProtos"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -9952,19 +20058,19 @@ public final class C2SProtos {
     internal_static_org_coniks_coniks_common_DSAPublicKeyProto_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_coniks_coniks_common_DSAPublicKeyProto_descriptor,
-        new java.lang.String[] { "P", "Q", "G", "Y", });
+        new java.lang.String[] { "P", "Q", "G", "Y", "RawP", "RawQ", "RawG", "RawY", });
     internal_static_org_coniks_coniks_common_Registration_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_org_coniks_coniks_common_Registration_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_coniks_coniks_common_Registration_descriptor,
-        new java.lang.String[] { "Name", "Blob", "ChangeKey", "AllowsUnsignedKeychange", "AllowsPublicLookup", });
+        new java.lang.String[] { "Name", "Blob", "ChangeKey", "AllowsUnsignedKeychange", "AllowsPublicLookup", "Ed25519ChangeKey", });
     internal_static_org_coniks_coniks_common_ULNChangeReq_descriptor =
       getDescriptor().getMessageTypes().get(2);
     internal_static_org_coniks_coniks_common_ULNChangeReq_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_coniks_coniks_common_ULNChangeReq_descriptor,
-        new java.lang.String[] { "Name", "NewBlob", "NewChangeKey", "AllowsUnsignedKeychange", "AllowsPublicLookup", });
+        new java.lang.String[] { "Name", "NewBlob", "NewChangeKey", "AllowsUnsignedKeychange", "AllowsPublicLookup", "NewEd25519ChangeKey", });
     internal_static_org_coniks_coniks_common_SignedULNChangeReq_descriptor =
       getDescriptor().getMessageTypes().get(3);
     internal_static_org_coniks_coniks_common_SignedULNChangeReq_fieldAccessorTable = new
@@ -9977,30 +20083,54 @@ public final class C2SProtos {
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_coniks_coniks_common_CommitmentReq_descriptor,
         new java.lang.String[] { "Type", "Epoch", "Provider", });
-    internal_static_org_coniks_coniks_common_KeyLookup_descriptor =
+    internal_static_org_coniks_coniks_common_CommitmentRangeReq_descriptor =
       getDescriptor().getMessageTypes().get(5);
+    internal_static_org_coniks_coniks_common_CommitmentRangeReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_coniks_coniks_common_CommitmentRangeReq_descriptor,
+        new java.lang.String[] { "StartEpoch", "EndEpoch", });
+    internal_static_org_coniks_coniks_common_KeyLookup_descriptor =
+      getDescriptor().getMessageTypes().get(6);
     internal_static_org_coniks_coniks_common_KeyLookup_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_coniks_coniks_common_KeyLookup_descriptor,
+        new java.lang.String[] { "Name", "Epoch", "SinceEpoch", });
+    internal_static_org_coniks_coniks_common_MultiKeyLookup_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_org_coniks_coniks_common_MultiKeyLookup_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_coniks_coniks_common_MultiKeyLookup_descriptor,
         new java.lang.String[] { "Name", "Epoch", });
+    internal_static_org_coniks_coniks_common_KeyHistoryReq_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_org_coniks_coniks_common_KeyHistoryReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_coniks_coniks_common_KeyHistoryReq_descriptor,
+        new java.lang.String[] { "Name", "StartEpoch", "EndEpoch", });
+    internal_static_org_coniks_coniks_common_ChangelogReq_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_org_coniks_coniks_common_ChangelogReq_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_coniks_coniks_common_ChangelogReq_descriptor,
+        new java.lang.String[] { "StartEpoch", "EndEpoch", });
     internal_static_org_coniks_coniks_common_RegistrationResp_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_org_coniks_coniks_common_RegistrationResp_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_coniks_coniks_common_RegistrationResp_descriptor,
         new java.lang.String[] { "InitEpoch", "EpochInterval", });
     internal_static_org_coniks_coniks_common_AuthPath_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_org_coniks_coniks_common_AuthPath_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_coniks_coniks_common_AuthPath_descriptor,
-        new java.lang.String[] { "Leaf", "Interior", "Root", });
+        new java.lang.String[] { "Leaf", "Interior", "Root", "RadixNode", "SparseMask", "SparseSibling", });
     internal_static_org_coniks_coniks_common_AuthPath_UserLeafNode_descriptor =
       internal_static_org_coniks_coniks_common_AuthPath_descriptor.getNestedTypes().get(0);
     internal_static_org_coniks_coniks_common_AuthPath_UserLeafNode_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_coniks_coniks_common_AuthPath_UserLeafNode_descriptor,
-        new java.lang.String[] { "Name", "Publickey", "EpochAdded", "EpochChanged", "AllowsUnsignedKeychange", "AllowsPublicLookup", "LookupIndex", "Intlevels", "Signature", "ChangeKey", "LastMsg", });
+        new java.lang.String[] { "Name", "Publickey", "EpochAdded", "EpochChanged", "AllowsUnsignedKeychange", "AllowsPublicLookup", "LookupIndex", "Intlevels", "Signature", "ChangeKey", "LastMsg", "Ed25519ChangeKey", "LeafFormat", "HashAlgorithm", "TreeRadix", "SparseTree", });
     internal_static_org_coniks_coniks_common_AuthPath_InteriorNode_descriptor =
       internal_static_org_coniks_coniks_common_AuthPath_descriptor.getNestedTypes().get(1);
     internal_static_org_coniks_coniks_common_AuthPath_InteriorNode_fieldAccessorTable = new
@@ -10013,6 +20143,36 @@ public final class C2SProtos {
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_coniks_coniks_common_AuthPath_RootNode_descriptor,
         new java.lang.String[] { "Prunedchild", "Subtree", });
+    internal_static_org_coniks_coniks_common_AuthPath_RadixNode_descriptor =
+      internal_static_org_coniks_coniks_common_AuthPath_descriptor.getNestedTypes().get(3);
+    internal_static_org_coniks_coniks_common_AuthPath_RadixNode_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_coniks_coniks_common_AuthPath_RadixNode_descriptor,
+        new java.lang.String[] { "ChildMask", "Sibling", });
+    internal_static_org_coniks_coniks_common_MultiAuthPath_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_org_coniks_coniks_common_MultiAuthPath_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_coniks_coniks_common_MultiAuthPath_descriptor,
+        new java.lang.String[] { "Leaf", "Subtree", "NotFound", "ChildMask", "SparseMask", });
+    internal_static_org_coniks_coniks_common_KeyHistory_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_org_coniks_coniks_common_KeyHistory_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_coniks_coniks_common_KeyHistory_descriptor,
+        new java.lang.String[] { "Version", "Epoch", });
+    internal_static_org_coniks_coniks_common_EpochChanges_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_org_coniks_coniks_common_EpochChanges_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_coniks_coniks_common_EpochChanges_descriptor,
+        new java.lang.String[] { "Epoch", "LookupIndex", "Type", });
+    internal_static_org_coniks_coniks_common_KeyNotModified_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_org_coniks_coniks_common_KeyNotModified_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_coniks_coniks_common_KeyNotModified_descriptor,
+        new java.lang.String[] { "Name", "EpochChanged", "Commitment", });
     org.coniks.coniks_common.UtilProtos.getDescriptor();
   }
 
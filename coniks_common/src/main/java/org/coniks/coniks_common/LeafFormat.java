@@ -0,0 +1,191 @@
+/*
+  Copyright (c) 2015-16, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.coniks_common;
+
+import java.nio.ByteBuffer;
+
+/** Defines the formats in which CONIKS clients and servers serialize
+ * the nodes of the Merkle prefix tree before hashing them.
+ *<p>
+ * Format 1 serializes the full username, key data and change key
+ * of a user leaf, so its size depends on the size of the key data
+ * and of the change key. Format 2 only commits to fixed-size digests
+ * of these fields, and prefixes leaf and interior nodes with distinct
+ * tags so a leaf can never be passed off as an interior node.
+ *<p>
+ * Radix-16 trees serialize their interior and root nodes with a
+ * distinct tag in either format, followed by a mask of the non-empty
+ * children and only the hashes of those children.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public final class LeafFormat {
+
+    /** Private constructor for LeafFormat
+     * restricts instantiation
+     */
+    private LeafFormat() {
+    }
+
+    /** The original variable-length node format.
+     */
+    public static final int V1 = 1;
+
+    /** The fixed-size, domain-separated node format.
+     */
+    public static final int V2 = 2;
+
+    /** The tag prepended to user leaf nodes in format 2.
+     */
+    public static final byte LEAF_TAG = 0x00;
+
+    /** The tag prepended to interior and root nodes in format 2.
+     */
+    public static final byte INTERIOR_TAG = 0x01;
+
+    /** The tag prepended to interior and root nodes of radix-16 trees.
+     */
+    public static final byte RADIX16_INTERIOR_TAG = 0x02;
+
+    /** The number of children of an interior node in a radix-16 tree.
+     */
+    public static final int RADIX16_FANOUT = 16;
+
+    /** The size of the lookup index and of the key data and
+     * change key digests in a format 2 leaf.
+     */
+    public static final int DIGEST_SIZE_BYTES = 32;
+
+    /** The size of a serialized format 2 user leaf node: the tag,
+     * the format version, the lookup index, the key data and change
+     * key digests, both epochs and the policy flags.
+     */
+    public static final int V2_LEAF_SIZE_BYTES = 2+3*DIGEST_SIZE_BYTES+2*8+1;
+
+    private static final byte ALLOWS_UNSIGNED_KEYCHANGE_FLAG = 0x01;
+    private static final byte ALLOWS_PUBLIC_LOOKUP_FLAG = 0x02;
+
+    /** Indicates whether {@code format} is a known node format.
+     *
+     *@return {@code true} if the format is supported, {@code false} otherwise.
+     */
+    public static boolean isSupported(int format) {
+        return format == V1 || format == V2;
+    }
+
+    /** Serializes the fields of a user leaf node in format 2.
+     * The {@code index}, {@code keyDataDigest} and {@code changeKeyDigest}
+     * must each be {@link LeafFormat#DIGEST_SIZE_BYTES} long.
+     *
+     *@return The {@code byte[]} containing the serialized leaf node,
+     * or {@code null} if one of the fields has the wrong size.
+     */
+    public static byte[] getLeafBytesV2(byte[] index, byte[] keyDataDigest,
+                                        byte[] changeKeyDigest, long epochAdded,
+                                        long epochChanged, boolean allowsUnsignedKeychange,
+                                        boolean allowsPublicLookup) {
+        if (index.length != DIGEST_SIZE_BYTES ||
+            keyDataDigest.length != DIGEST_SIZE_BYTES ||
+            changeKeyDigest.length != DIGEST_SIZE_BYTES) {
+            return null;
+        }
+
+        byte flags = 0;
+        if (allowsUnsignedKeychange) {
+            flags |= ALLOWS_UNSIGNED_KEYCHANGE_FLAG;
+        }
+        if (allowsPublicLookup) {
+            flags |= ALLOWS_PUBLIC_LOOKUP_FLAG;
+        }
+
+        ByteBuffer arr = ByteBuffer.allocate(V2_LEAF_SIZE_BYTES);
+        arr.put(LEAF_TAG);
+        arr.put((byte)V2);
+        arr.put(index);
+        arr.put(keyDataDigest);
+        arr.put(changeKeyDigest);
+        arr.putLong(epochAdded);
+        arr.putLong(epochChanged);
+        arr.put(flags);
+
+        return arr.array();
+    }
+
+    /** Serializes an interior or root node with the subtree hashes
+     * {@code left} and {@code right} in the given {@code format}.
+     *
+     *@return The {@code byte[]} containing the serialized node.
+     */
+    public static byte[] getInteriorBytes(int format, byte[] left, byte[] right) {
+        int tagLen = format == V2 ? 1 : 0;
+
+        ByteBuffer arr = ByteBuffer.allocate(tagLen+left.length+right.length);
+        if (format == V2) {
+            arr.put(INTERIOR_TAG);
+        }
+        arr.put(left);
+        arr.put(right);
+
+        return arr.array();
+    }
+
+    /** Serializes an interior or root node of a radix-16 tree with
+     * the {@link LeafFormat#RADIX16_FANOUT} subtree hashes {@code children},
+     * where empty subtrees are {@code null}.
+     *
+     *@return The {@code byte[]} containing the serialized node.
+     */
+    public static byte[] getRadix16InteriorBytes(byte[][] children) {
+        int childMask = 0;
+        int len = 3;
+        for (int i = 0; i < RADIX16_FANOUT; i++) {
+            if (children[i] != null) {
+                childMask |= 1 << i;
+                len += children[i].length;
+            }
+        }
+
+        ByteBuffer arr = ByteBuffer.allocate(len);
+        arr.put(RADIX16_INTERIOR_TAG);
+        arr.putShort((short)childMask);
+        for (int i = 0; i < RADIX16_FANOUT; i++) {
+            if (children[i] != null) {
+                arr.put(children[i]);
+            }
+        }
+
+        return arr.array();
+    }
+
+}
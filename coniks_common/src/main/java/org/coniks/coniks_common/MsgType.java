@@ -94,4 +94,44 @@ public final class MsgType {
      */
     public static final int OBSERVED_STR_PUSH = 7;
 
+    /** A batched data mapping lookup request for several names
+     * in the same epoch.
+     */
+    public static final int MULTI_KEY_LOOKUP = 10;
+
+    /** A message containing a compressed authentication path
+     * covering several data bindings (i.e. a batched data binding proof).
+     */
+    public static final int MULTI_AUTH_PATH = 11;
+
+    /** A request for all versions of a data binding
+     * in a range of epochs.
+     */
+    public static final int KEY_HISTORY_REQ = 12;
+
+    /** A message containing the authentication paths for all versions
+     * of a data binding in a range of epochs (i.e. a key history).
+     */
+    public static final int KEY_HISTORY = 13;
+
+    /** A request for the lookup indices registered or changed
+     * in a range of epochs.
+     */
+    public static final int CHANGELOG_REQ = 14;
+
+    /** A message containing the lookup indices registered or changed
+     * in one epoch. A changelog request is answered with a stream of these.
+     */
+    public static final int EPOCH_CHANGES = 15;
+
+    /** A message indicating that a data binding hasn't changed
+     * since the epoch given in a data mapping lookup request.
+     */
+    public static final int NOT_MODIFIED = 16;
+
+    /** A request for all of a server's STRs in a range of epochs,
+     * which is answered with a stream of commitment messages.
+     */
+    public static final int COMMITMENT_RANGE_REQ = 17;
+
 }
@@ -610,6 +610,122 @@ public final class UtilProtos {
      * <code>optional bytes signature = 3;</code>
      */
     com.google.protobuf.ByteString getSignature();
+
+    /**
+     * <code>optional string hash_algorithm = 4;</code>
+     *
+     * <pre>
+     * the directory's hash function; unset means SHA-256
+     * </pre>
+     */
+    boolean hasHashAlgorithm();
+    /**
+     * <code>optional string hash_algorithm = 4;</code>
+     *
+     * <pre>
+     * the directory's hash function; unset means SHA-256
+     * </pre>
+     */
+    java.lang.String getHashAlgorithm();
+    /**
+     * <code>optional string hash_algorithm = 4;</code>
+     *
+     * <pre>
+     * the directory's hash function; unset means SHA-256
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getHashAlgorithmBytes();
+
+    /**
+     * <code>optional uint64 prev_epoch = 5;</code>
+     *
+     * <pre>
+     * the rest of the STR, so auditors can check the STR hash chain
+     * </pre>
+     */
+    boolean hasPrevEpoch();
+    /**
+     * <code>optional uint64 prev_epoch = 5;</code>
+     *
+     * <pre>
+     * the rest of the STR, so auditors can check the STR hash chain
+     * </pre>
+     */
+    long getPrevEpoch();
+
+    /**
+     * <code>optional .org.coniks.coniks_common.Hash prev_str_hash = 6;</code>
+     */
+    boolean hasPrevStrHash();
+    /**
+     * <code>optional .org.coniks.coniks_common.Hash prev_str_hash = 6;</code>
+     */
+    org.coniks.coniks_common.UtilProtos.Hash getPrevStrHash();
+    /**
+     * <code>optional .org.coniks.coniks_common.Hash prev_str_hash = 6;</code>
+     */
+    org.coniks.coniks_common.UtilProtos.HashOrBuilder getPrevStrHashOrBuilder();
+
+    /**
+     * <code>optional bytes root_node = 7;</code>
+     *
+     * <pre>
+     * the serialized root node, whose hash is root_hash
+     * </pre>
+     */
+    boolean hasRootNode();
+    /**
+     * <code>optional bytes root_node = 7;</code>
+     *
+     * <pre>
+     * the serialized root node, whose hash is root_hash
+     * </pre>
+     */
+    com.google.protobuf.ByteString getRootNode();
+
+    /**
+     * <code>optional uint32 leaf_format = 8;</code>
+     *
+     * <pre>
+     * the shape of the directory's tree, which clients use to verify auth paths
+     * </pre>
+     */
+    boolean hasLeafFormat();
+    /**
+     * <code>optional uint32 leaf_format = 8;</code>
+     *
+     * <pre>
+     * the shape of the directory's tree, which clients use to verify auth paths
+     * </pre>
+     */
+    int getLeafFormat();
+
+    /**
+     * <code>optional uint32 tree_radix = 9;</code>
+     *
+     * <pre>
+     * unset means a binary tree
+     * </pre>
+     */
+    boolean hasTreeRadix();
+    /**
+     * <code>optional uint32 tree_radix = 9;</code>
+     *
+     * <pre>
+     * unset means a binary tree
+     * </pre>
+     */
+    int getTreeRadix();
+
+    /**
+     * <code>optional bool sparse_tree = 10;</code>
+     */
+    boolean hasSparseTree();
+    /**
+     * <code>optional bool sparse_tree = 10;</code>
+     */
+    boolean getSparseTree();
   }
   /**
    * Protobuf type {@code org.coniks.coniks_common.Commitment}
@@ -686,6 +802,50 @@ public final class UtilProtos {
               signature_ = input.readBytes();
               break;
             }
+            case 34: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000008;
+              hashAlgorithm_ = bs;
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              prevEpoch_ = input.readUInt64();
+              break;
+            }
+            case 50: {
+              org.coniks.coniks_common.UtilProtos.Hash.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000020) == 0x00000020)) {
+                subBuilder = prevStrHash_.toBuilder();
+              }
+              prevStrHash_ = input.readMessage(org.coniks.coniks_common.UtilProtos.Hash.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(prevStrHash_);
+                prevStrHash_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000020;
+              break;
+            }
+            case 58: {
+              bitField0_ |= 0x00000040;
+              rootNode_ = input.readBytes();
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000080;
+              leafFormat_ = input.readUInt32();
+              break;
+            }
+            case 72: {
+              bitField0_ |= 0x00000100;
+              treeRadix_ = input.readUInt32();
+              break;
+            }
+            case 80: {
+              bitField0_ |= 0x00000200;
+              sparseTree_ = input.readBool();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -797,10 +957,199 @@ public final class UtilProtos {
       return signature_;
     }
 
+    public static final int HASH_ALGORITHM_FIELD_NUMBER = 4;
+    private java.lang.Object hashAlgorithm_;
+    /**
+     * <code>optional string hash_algorithm = 4;</code>
+     *
+     * <pre>
+     * the directory's hash function; unset means SHA-256
+     * </pre>
+     */
+    public boolean hasHashAlgorithm() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional string hash_algorithm = 4;</code>
+     *
+     * <pre>
+     * the directory's hash function; unset means SHA-256
+     * </pre>
+     */
+    public java.lang.String getHashAlgorithm() {
+      java.lang.Object ref = hashAlgorithm_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          hashAlgorithm_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string hash_algorithm = 4;</code>
+     *
+     * <pre>
+     * the directory's hash function; unset means SHA-256
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getHashAlgorithmBytes() {
+      java.lang.Object ref = hashAlgorithm_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        hashAlgorithm_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PREV_EPOCH_FIELD_NUMBER = 5;
+    private long prevEpoch_;
+    /**
+     * <code>optional uint64 prev_epoch = 5;</code>
+     *
+     * <pre>
+     * the rest of the STR, so auditors can check the STR hash chain
+     * </pre>
+     */
+    public boolean hasPrevEpoch() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional uint64 prev_epoch = 5;</code>
+     *
+     * <pre>
+     * the rest of the STR, so auditors can check the STR hash chain
+     * </pre>
+     */
+    public long getPrevEpoch() {
+      return prevEpoch_;
+    }
+
+    public static final int PREV_STR_HASH_FIELD_NUMBER = 6;
+    private org.coniks.coniks_common.UtilProtos.Hash prevStrHash_;
+    /**
+     * <code>optional .org.coniks.coniks_common.Hash prev_str_hash = 6;</code>
+     */
+    public boolean hasPrevStrHash() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional .org.coniks.coniks_common.Hash prev_str_hash = 6;</code>
+     */
+    public org.coniks.coniks_common.UtilProtos.Hash getPrevStrHash() {
+      return prevStrHash_;
+    }
+    /**
+     * <code>optional .org.coniks.coniks_common.Hash prev_str_hash = 6;</code>
+     */
+    public org.coniks.coniks_common.UtilProtos.HashOrBuilder getPrevStrHashOrBuilder() {
+      return prevStrHash_;
+    }
+
+    public static final int ROOT_NODE_FIELD_NUMBER = 7;
+    private com.google.protobuf.ByteString rootNode_;
+    /**
+     * <code>optional bytes root_node = 7;</code>
+     *
+     * <pre>
+     * the serialized root node, whose hash is root_hash
+     * </pre>
+     */
+    public boolean hasRootNode() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional bytes root_node = 7;</code>
+     *
+     * <pre>
+     * the serialized root node, whose hash is root_hash
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getRootNode() {
+      return rootNode_;
+    }
+
+    public static final int LEAF_FORMAT_FIELD_NUMBER = 8;
+    private int leafFormat_;
+    /**
+     * <code>optional uint32 leaf_format = 8;</code>
+     *
+     * <pre>
+     * the shape of the directory's tree, which clients use to verify auth paths
+     * </pre>
+     */
+    public boolean hasLeafFormat() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional uint32 leaf_format = 8;</code>
+     *
+     * <pre>
+     * the shape of the directory's tree, which clients use to verify auth paths
+     * </pre>
+     */
+    public int getLeafFormat() {
+      return leafFormat_;
+    }
+
+    public static final int TREE_RADIX_FIELD_NUMBER = 9;
+    private int treeRadix_;
+    /**
+     * <code>optional uint32 tree_radix = 9;</code>
+     *
+     * <pre>
+     * unset means a binary tree
+     * </pre>
+     */
+    public boolean hasTreeRadix() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional uint32 tree_radix = 9;</code>
+     *
+     * <pre>
+     * unset means a binary tree
+     * </pre>
+     */
+    public int getTreeRadix() {
+      return treeRadix_;
+    }
+
+    public static final int SPARSE_TREE_FIELD_NUMBER = 10;
+    private boolean sparseTree_;
+    /**
+     * <code>optional bool sparse_tree = 10;</code>
+     */
+    public boolean hasSparseTree() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional bool sparse_tree = 10;</code>
+     */
+    public boolean getSparseTree() {
+      return sparseTree_;
+    }
+
     private void initFields() {
       epoch_ = 0L;
       rootHash_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
       signature_ = com.google.protobuf.ByteString.EMPTY;
+      hashAlgorithm_ = "";
+      prevEpoch_ = 0L;
+      prevStrHash_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
+      rootNode_ = com.google.protobuf.ByteString.EMPTY;
+      leafFormat_ = 0;
+      treeRadix_ = 0;
+      sparseTree_ = false;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -824,6 +1173,27 @@ public final class UtilProtos {
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         output.writeBytes(3, signature_);
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, getHashAlgorithmBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeUInt64(5, prevEpoch_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeMessage(6, prevStrHash_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBytes(7, rootNode_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeUInt32(8, leafFormat_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeUInt32(9, treeRadix_);
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        output.writeBool(10, sparseTree_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -845,6 +1215,34 @@ public final class UtilProtos {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(3, signature_);
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getHashAlgorithmBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(5, prevEpoch_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, prevStrHash_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, rootNode_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(8, leafFormat_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(9, treeRadix_);
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(10, sparseTree_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -955,6 +1353,7 @@ public final class UtilProtos {
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
           getRootHashFieldBuilder();
+          getPrevStrHashFieldBuilder();
         }
       }
       private static Builder create() {
@@ -973,6 +1372,24 @@ public final class UtilProtos {
         bitField0_ = (bitField0_ & ~0x00000002);
         signature_ = com.google.protobuf.ByteString.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000004);
+        hashAlgorithm_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        prevEpoch_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (prevStrHashBuilder_ == null) {
+          prevStrHash_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
+        } else {
+          prevStrHashBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        rootNode_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        leafFormat_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        treeRadix_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000100);
+        sparseTree_ = false;
+        bitField0_ = (bitField0_ & ~0x00000200);
         return this;
       }
 
@@ -1017,6 +1434,38 @@ public final class UtilProtos {
           to_bitField0_ |= 0x00000004;
         }
         result.signature_ = signature_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.hashAlgorithm_ = hashAlgorithm_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.prevEpoch_ = prevEpoch_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        if (prevStrHashBuilder_ == null) {
+          result.prevStrHash_ = prevStrHash_;
+        } else {
+          result.prevStrHash_ = prevStrHashBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.rootNode_ = rootNode_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.leafFormat_ = leafFormat_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.treeRadix_ = treeRadix_;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        result.sparseTree_ = sparseTree_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -1042,6 +1491,29 @@ public final class UtilProtos {
         if (other.hasSignature()) {
           setSignature(other.getSignature());
         }
+        if (other.hasHashAlgorithm()) {
+          bitField0_ |= 0x00000008;
+          hashAlgorithm_ = other.hashAlgorithm_;
+          onChanged();
+        }
+        if (other.hasPrevEpoch()) {
+          setPrevEpoch(other.getPrevEpoch());
+        }
+        if (other.hasPrevStrHash()) {
+          mergePrevStrHash(other.getPrevStrHash());
+        }
+        if (other.hasRootNode()) {
+          setRootNode(other.getRootNode());
+        }
+        if (other.hasLeafFormat()) {
+          setLeafFormat(other.getLeafFormat());
+        }
+        if (other.hasTreeRadix()) {
+          setTreeRadix(other.getTreeRadix());
+        }
+        if (other.hasSparseTree()) {
+          setSparseTree(other.getSparseTree());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -1304,6 +1776,449 @@ public final class UtilProtos {
         return this;
       }
 
+      private java.lang.Object hashAlgorithm_ = "";
+      /**
+       * <code>optional string hash_algorithm = 4;</code>
+       *
+       * <pre>
+       * the directory's hash function; unset means SHA-256
+       * </pre>
+       */
+      public boolean hasHashAlgorithm() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string hash_algorithm = 4;</code>
+       *
+       * <pre>
+       * the directory's hash function; unset means SHA-256
+       * </pre>
+       */
+      public java.lang.String getHashAlgorithm() {
+        java.lang.Object ref = hashAlgorithm_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            hashAlgorithm_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string hash_algorithm = 4;</code>
+       *
+       * <pre>
+       * the directory's hash function; unset means SHA-256
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getHashAlgorithmBytes() {
+        java.lang.Object ref = hashAlgorithm_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          hashAlgorithm_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string hash_algorithm = 4;</code>
+       *
+       * <pre>
+       * the directory's hash function; unset means SHA-256
+       * </pre>
+       */
+      public Builder setHashAlgorithm(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        hashAlgorithm_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string hash_algorithm = 4;</code>
+       *
+       * <pre>
+       * the directory's hash function; unset means SHA-256
+       * </pre>
+       */
+      public Builder clearHashAlgorithm() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        hashAlgorithm_ = getDefaultInstance().getHashAlgorithm();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string hash_algorithm = 4;</code>
+       *
+       * <pre>
+       * the directory's hash function; unset means SHA-256
+       * </pre>
+       */
+      public Builder setHashAlgorithmBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        hashAlgorithm_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long prevEpoch_ ;
+      /**
+       * <code>optional uint64 prev_epoch = 5;</code>
+       *
+       * <pre>
+       * the rest of the STR, so auditors can check the STR hash chain
+       * </pre>
+       */
+      public boolean hasPrevEpoch() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional uint64 prev_epoch = 5;</code>
+       *
+       * <pre>
+       * the rest of the STR, so auditors can check the STR hash chain
+       * </pre>
+       */
+      public long getPrevEpoch() {
+        return prevEpoch_;
+      }
+      /**
+       * <code>optional uint64 prev_epoch = 5;</code>
+       *
+       * <pre>
+       * the rest of the STR, so auditors can check the STR hash chain
+       * </pre>
+       */
+      public Builder setPrevEpoch(long value) {
+        bitField0_ |= 0x00000010;
+        prevEpoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 prev_epoch = 5;</code>
+       *
+       * <pre>
+       * the rest of the STR, so auditors can check the STR hash chain
+       * </pre>
+       */
+      public Builder clearPrevEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        prevEpoch_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private org.coniks.coniks_common.UtilProtos.Hash prevStrHash_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder> prevStrHashBuilder_;
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash prev_str_hash = 6;</code>
+       */
+      public boolean hasPrevStrHash() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash prev_str_hash = 6;</code>
+       */
+      public org.coniks.coniks_common.UtilProtos.Hash getPrevStrHash() {
+        if (prevStrHashBuilder_ == null) {
+          return prevStrHash_;
+        } else {
+          return prevStrHashBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash prev_str_hash = 6;</code>
+       */
+      public Builder setPrevStrHash(org.coniks.coniks_common.UtilProtos.Hash value) {
+        if (prevStrHashBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          prevStrHash_ = value;
+          onChanged();
+        } else {
+          prevStrHashBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash prev_str_hash = 6;</code>
+       */
+      public Builder setPrevStrHash(
+          org.coniks.coniks_common.UtilProtos.Hash.Builder builderForValue) {
+        if (prevStrHashBuilder_ == null) {
+          prevStrHash_ = builderForValue.build();
+          onChanged();
+        } else {
+          prevStrHashBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash prev_str_hash = 6;</code>
+       */
+      public Builder mergePrevStrHash(org.coniks.coniks_common.UtilProtos.Hash value) {
+        if (prevStrHashBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020) &&
+              prevStrHash_ != org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance()) {
+            prevStrHash_ =
+              org.coniks.coniks_common.UtilProtos.Hash.newBuilder(prevStrHash_).mergeFrom(value).buildPartial();
+          } else {
+            prevStrHash_ = value;
+          }
+          onChanged();
+        } else {
+          prevStrHashBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash prev_str_hash = 6;</code>
+       */
+      public Builder clearPrevStrHash() {
+        if (prevStrHashBuilder_ == null) {
+          prevStrHash_ = org.coniks.coniks_common.UtilProtos.Hash.getDefaultInstance();
+          onChanged();
+        } else {
+          prevStrHashBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash prev_str_hash = 6;</code>
+       */
+      public org.coniks.coniks_common.UtilProtos.Hash.Builder getPrevStrHashBuilder() {
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return getPrevStrHashFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash prev_str_hash = 6;</code>
+       */
+      public org.coniks.coniks_common.UtilProtos.HashOrBuilder getPrevStrHashOrBuilder() {
+        if (prevStrHashBuilder_ != null) {
+          return prevStrHashBuilder_.getMessageOrBuilder();
+        } else {
+          return prevStrHash_;
+        }
+      }
+      /**
+       * <code>optional .org.coniks.coniks_common.Hash prev_str_hash = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder> 
+          getPrevStrHashFieldBuilder() {
+        if (prevStrHashBuilder_ == null) {
+          prevStrHashBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.coniks.coniks_common.UtilProtos.Hash, org.coniks.coniks_common.UtilProtos.Hash.Builder, org.coniks.coniks_common.UtilProtos.HashOrBuilder>(
+                  getPrevStrHash(),
+                  getParentForChildren(),
+                  isClean());
+          prevStrHash_ = null;
+        }
+        return prevStrHashBuilder_;
+      }
+
+      private com.google.protobuf.ByteString rootNode_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes root_node = 7;</code>
+       *
+       * <pre>
+       * the serialized root node, whose hash is root_hash
+       * </pre>
+       */
+      public boolean hasRootNode() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional bytes root_node = 7;</code>
+       *
+       * <pre>
+       * the serialized root node, whose hash is root_hash
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getRootNode() {
+        return rootNode_;
+      }
+      /**
+       * <code>optional bytes root_node = 7;</code>
+       *
+       * <pre>
+       * the serialized root node, whose hash is root_hash
+       * </pre>
+       */
+      public Builder setRootNode(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        rootNode_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes root_node = 7;</code>
+       *
+       * <pre>
+       * the serialized root node, whose hash is root_hash
+       * </pre>
+       */
+      public Builder clearRootNode() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        rootNode_ = getDefaultInstance().getRootNode();
+        onChanged();
+        return this;
+      }
+
+      private int leafFormat_ ;
+      /**
+       * <code>optional uint32 leaf_format = 8;</code>
+       *
+       * <pre>
+       * the shape of the directory's tree, which clients use to verify auth paths
+       * </pre>
+       */
+      public boolean hasLeafFormat() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional uint32 leaf_format = 8;</code>
+       *
+       * <pre>
+       * the shape of the directory's tree, which clients use to verify auth paths
+       * </pre>
+       */
+      public int getLeafFormat() {
+        return leafFormat_;
+      }
+      /**
+       * <code>optional uint32 leaf_format = 8;</code>
+       *
+       * <pre>
+       * the shape of the directory's tree, which clients use to verify auth paths
+       * </pre>
+       */
+      public Builder setLeafFormat(int value) {
+        bitField0_ |= 0x00000080;
+        leafFormat_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 leaf_format = 8;</code>
+       *
+       * <pre>
+       * the shape of the directory's tree, which clients use to verify auth paths
+       * </pre>
+       */
+      public Builder clearLeafFormat() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        leafFormat_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int treeRadix_ ;
+      /**
+       * <code>optional uint32 tree_radix = 9;</code>
+       *
+       * <pre>
+       * unset means a binary tree
+       * </pre>
+       */
+      public boolean hasTreeRadix() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional uint32 tree_radix = 9;</code>
+       *
+       * <pre>
+       * unset means a binary tree
+       * </pre>
+       */
+      public int getTreeRadix() {
+        return treeRadix_;
+      }
+      /**
+       * <code>optional uint32 tree_radix = 9;</code>
+       *
+       * <pre>
+       * unset means a binary tree
+       * </pre>
+       */
+      public Builder setTreeRadix(int value) {
+        bitField0_ |= 0x00000100;
+        treeRadix_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 tree_radix = 9;</code>
+       *
+       * <pre>
+       * unset means a binary tree
+       * </pre>
+       */
+      public Builder clearTreeRadix() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        treeRadix_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean sparseTree_ ;
+      /**
+       * <code>optional bool sparse_tree = 10;</code>
+       */
+      public boolean hasSparseTree() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional bool sparse_tree = 10;</code>
+       */
+      public boolean getSparseTree() {
+        return sparseTree_;
+      }
+      /**
+       * <code>optional bool sparse_tree = 10;</code>
+       */
+      public Builder setSparseTree(boolean value) {
+        bitField0_ |= 0x00000200;
+        sparseTree_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool sparse_tree = 10;</code>
+       */
+      public Builder clearSparseTree() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        sparseTree_ = false;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:org.coniks.coniks_common.Commitment)
     }
 
@@ -3455,23 +4370,28 @@ public final class UtilProtos {
   static {
     java.lang.String[] descriptorData = {
       "\n\nutil.proto\022\030org.coniks.coniks_common\"!" +
-      "\n\004Hash\022\013\n\003len\030\001 \001(\005\022\014\n\004hash\030\002 \001(\014\"a\n\nCom" +
-      "mitment\022\r\n\005epoch\030\001 \001(\004\0221\n\troot_hash\030\002 \001(" +
-      "\0132\036.org.coniks.coniks_common.Hash\022\021\n\tsig" +
-      "nature\030\003 \001(\014\"\356\001\n\nServerResp\022=\n\007message\030\001" +
-      " \001(\0162,.org.coniks.coniks_common.ServerRe" +
-      "sp.Message\"\240\001\n\007Message\022\013\n\007SUCCESS\020\000\022\023\n\017N" +
-      "AME_EXISTS_ERR\020\001\022\021\n\rMALFORMED_ERR\020\002\022\016\n\nS" +
-      "ERVER_ERR\020\003\022\026\n\022NAME_NOT_FOUND_ERR\020\004\022\023\n\017C" +
-      "OMMITMENT_RESP\020\005\022\r\n\tAUTH_PATH\020\006\022\024\n\020VERIF",
-      "ICATION_ERR\020\007\"o\n\020CompleteRootNode\022,\n\004lef" +
-      "t\030\001 \001(\0132\036.org.coniks.coniks_common.Hash\022" +
-      "-\n\005right\030\002 \001(\0132\036.org.coniks.coniks_commo" +
-      "n.Hash\"\225\001\n\023WitnessedCommitment\022\020\n\010provid" +
-      "er\030\001 \001(\t\0222\n\004comm\030\002 \001(\0132$.org.coniks.coni" +
-      "ks_common.Commitment\0228\n\004root\030\003 \001(\0132*.org" +
-      ".coniks.coniks_common.CompleteRootNodeB&" +
-      "\n\030org.coniks.coniks_commonB\nUtilProtos"
+      "\n\004Hash\022\013\n\003len\030\001 \001(\005\022\014\n\004hash\030\002 \001(\014\"\225\002\n\nCo" +
+      "mmitment\022\r\n\005epoch\030\001 \001(\004\0221\n\troot_hash\030\002 \001" +
+      "(\0132\036.org.coniks.coniks_common.Hash\022\021\n\tsi" +
+      "gnature\030\003 \001(\014\022\026\n\016hash_algorithm\030\004 \001(\t\022\022\n" +
+      "\nprev_epoch\030\005 \001(\004\0225\n\rprev_str_hash\030\006 \001(\013" +
+      "2\036.org.coniks.coniks_common.Hash\022\021\n\troot" +
+      "_node\030\007 \001(\014\022\023\n\013leaf_format\030\010 \001(\r\022\022\n\ntree" +
+      "_radix\030\t \001(\r\022\023\n\013sparse_tree\030\n \001(\010\"\356\001\n\nSe" +
+      "rverResp\022=\n\007message\030\001 \001(\0162,.org.coniks.c",
+      "oniks_common.ServerResp.Message\"\240\001\n\007Mess" +
+      "age\022\013\n\007SUCCESS\020\000\022\023\n\017NAME_EXISTS_ERR\020\001\022\021\n" +
+      "\rMALFORMED_ERR\020\002\022\016\n\nSERVER_ERR\020\003\022\026\n\022NAME" +
+      "_NOT_FOUND_ERR\020\004\022\023\n\017COMMITMENT_RESP\020\005\022\r\n" +
+      "\tAUTH_PATH\020\006\022\024\n\020VERIFICATION_ERR\020\007\"o\n\020Co" +
+      "mpleteRootNode\022,\n\004left\030\001 \001(\0132\036.org.conik" +
+      "s.coniks_common.Hash\022-\n\005right\030\002 \001(\0132\036.or" +
+      "g.coniks.coniks_common.Hash\"\225\001\n\023Witnesse" +
+      "dCommitment\022\020\n\010provider\030\001 \001(\t\0222\n\004comm\030\002 " +
+      "\001(\0132$.org.coniks.coniks_common.Commitmen",
+      "t\0228\n\004root\030\003 \001(\0132*.org.coniks.coniks_comm" +
+      "on.CompleteRootNodeB&\n\030org.coniks.coniks" +
+      "_commonB\nUtilProtos"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -3496,7 +4416,7 @@ public final class UtilProtos {
     internal_static_org_coniks_coniks_common_Commitment_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_coniks_coniks_common_Commitment_descriptor,
-        new java.lang.String[] { "Epoch", "RootHash", "Signature", });
+        new java.lang.String[] { "Epoch", "RootHash", "Signature", "HashAlgorithm", "PrevEpoch", "PrevStrHash", "RootNode", "LeafFormat", "TreeRadix", "SparseTree", });
     internal_static_org_coniks_coniks_common_ServerResp_descriptor =
       getDescriptor().getMessageTypes().get(2);
     internal_static_org_coniks_coniks_common_ServerResp_fieldAccessorTable = new
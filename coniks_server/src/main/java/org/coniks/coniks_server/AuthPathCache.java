@@ -0,0 +1,300 @@
+/*
+  Copyright (c) 2015-16, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.coniks_server;
+
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+// coniks-java imports
+import org.coniks.util.Logging;
+
+/** Caches the serialized authentication paths returned for key lookups.
+ * The authentication path for a given lookup index never changes within
+ * an epoch, so cached paths are keyed by lookup index and epoch.
+ * The cache is bounded by the total size of the cached paths.
+ * It approximates LRU eviction with the CLOCK algorithm: a hit only
+ * marks the path as recently used, so concurrent lookups never wait
+ * for each other, and eviction skips paths that were marked since
+ * it last passed them.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class AuthPathCache {
+
+    private static final ConcurrentHashMap<Key, Entry> cache =
+        new ConcurrentHashMap<Key, Entry>(1024);
+
+    private static final AtomicLong cachedBytes = new AtomicLong();
+
+    // only one thread at a time moves the clock hand
+    private static final Object evictLock = new Object();
+    private static Iterator<Map.Entry<Key, Entry>> hand = null;
+
+    // the latest epoch scheduled for warming; older epochs that haven't
+    // been warmed yet by the time it's scheduled are skipped
+    private static volatile long latestWarmed = -1;
+
+    private static final ExecutorService warmer =
+        Executors.newSingleThreadExecutor(new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "AuthPathCache-warm");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong evictions = new AtomicLong();
+
+    /** Retrieves the serialized authentication path for the lookup
+     * index {@code index} at the epoch {@code ep}.
+     * The epoch must be the epoch of an actual STR in the history.
+     *
+     *@return the serialized {@link org.coniks.coniks_common.C2SProtos.AuthPath},
+     * or {@code null} if it isn't cached.
+     */
+    public static byte[] get(byte[] index, long ep) {
+        if (ServerConfig.getAuthPathCacheBytes() <= 0) {
+            return null;
+        }
+
+        Entry e = cache.get(new Key(index, ep));
+
+        if (e == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        hits.incrementAndGet();
+        // avoid writing to the entry if it's already marked
+        if (!e.referenced) {
+            e.referenced = true;
+        }
+        return e.authPath;
+    }
+
+    /** Caches the serialized authentication path {@code authPath} for the lookup
+     * index {@code index} at the epoch {@code ep}, evicting paths that
+     * weren't used recently if the cache becomes too big.
+     */
+    public static void put(byte[] index, long ep, byte[] authPath) {
+        long maxBytes = ServerConfig.getAuthPathCacheBytes();
+
+        if (authPath == null || authPath.length > maxBytes) {
+            return;
+        }
+
+        Entry prev = cache.put(new Key(index, ep), new Entry(authPath));
+        long bytes = cachedBytes.addAndGet(prev == null ? authPath.length :
+                                           authPath.length-prev.authPath.length);
+
+        if (bytes > maxBytes) {
+            evict(maxBytes);
+        }
+    }
+
+    // moves the clock hand over the cached paths until they fit
+    // into maxBytes, giving every recently used path a second chance
+    private static void evict(long maxBytes) {
+        synchronized (evictLock) {
+            while (cachedBytes.get() > maxBytes && !cache.isEmpty()) {
+                if (hand == null || !hand.hasNext()) {
+                    hand = cache.entrySet().iterator();
+                    continue;
+                }
+
+                Map.Entry<Key, Entry> next = hand.next();
+                Entry e = next.getValue();
+
+                if (e.referenced) {
+                    e.referenced = false;
+                }
+                else if (cache.remove(next.getKey(), e)) {
+                    cachedBytes.addAndGet(-e.authPath.length);
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /** Schedules caching the authentication paths of all users in {@code unames}
+     * in the directory committed to by the signed tree root {@code str}
+     * in the background, so publishing {@code str} doesn't wait for it.
+     */
+    public static void scheduleWarm(final ArrayList<String> unames,
+                                    final SignedTreeRoot str) {
+        if (ServerConfig.getAuthPathCacheBytes() <= 0) {
+            return;
+        }
+
+        latestWarmed = str.getEpoch();
+        warmer.execute(new Runnable() {
+                public void run() {
+                    if (str.getEpoch() < latestWarmed) {
+                        Logging.log("AuthPathCache: skipped warming epoch "+str.getEpoch());
+                        return;
+                    }
+                    try {
+                        warm(unames, str);
+                    }
+                    catch (RuntimeException e) {
+                        Logging.error("[AuthPathCache] "+e.getMessage());
+                    }
+                }
+            });
+    }
+
+    /** Caches the authentication paths of all users in {@code unames}
+     * in the directory committed to by the signed tree root {@code str}.
+     * This is meant to be called right after {@code str} is published,
+     * since the users that were just changed are the most likely to be looked up.
+     */
+    public static void warm(ArrayList<String> unames, SignedTreeRoot str) {
+        if (ServerConfig.getAuthPathCacheBytes() <= 0) {
+            return;
+        }
+
+        int warmed = 0;
+        HashSet<String> seen = new HashSet<String>();
+        for (String uname : unames) {
+            if (!seen.add(uname)) {
+                continue;
+            }
+
+            UserLeafNode uln = DirectoryOps.findUserInSTR(uname, str);
+
+            if (uln == null) {
+                continue;
+            }
+
+            byte[] authPath = TransparencyOps.generateAuthPathBytes(uln, str);
+            if (authPath != null) {
+                put(uln.getIndex(), str.getEpoch(), authPath);
+                warmed++;
+            }
+        }
+
+        Logging.log("AuthPathCache: warmed "+warmed+" paths for epoch "+str.getEpoch());
+    }
+
+    /** Gets the number of lookups served from the cache.
+     */
+    public static long getHits() {
+        return hits.get();
+    }
+
+    /** Gets the number of lookups that weren't served from the cache.
+     */
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    /** Gets the number of paths evicted from the cache to keep its size
+     * under the configured limit.
+     */
+    public static long getEvictions() {
+        return evictions.get();
+    }
+
+    /** Gets the total size in bytes of all cached paths.
+     */
+    public static long getCachedBytes() {
+        return cachedBytes.get();
+    }
+
+    /** Gets a summary of the cache's metrics for logging.
+     */
+    public static String getStats() {
+        long h = getHits();
+        long m = getMisses();
+        long pct = (h+m) == 0 ? 0 : (100*h)/(h+m);
+
+        int entries = cache.size();
+        long bytes = getCachedBytes();
+
+        return "AuthPathCache: hits="+h+" misses="+m+" hit rate="+pct+"% evictions="+
+            getEvictions()+" entries="+entries+" bytes="+bytes;
+    }
+
+    // a cached path and whether it was used since the clock hand last passed it
+    private static final class Entry {
+        private final byte[] authPath;
+        private volatile boolean referenced = false;
+
+        private Entry(byte[] authPath) {
+            this.authPath = authPath;
+        }
+    }
+
+    /** Identifies a key lookup by its lookup index and epoch.
+     */
+    public static final class Key {
+        private final byte[] index;
+        private final long epoch;
+        private final int hash;
+
+        /** Constructs the key for a lookup of the lookup index {@code index}
+         * at the epoch {@code ep}.
+         */
+        public Key(byte[] index, long ep) {
+            this.index = index;
+            this.epoch = ep;
+            this.hash = 31*Arrays.hashCode(index)+(int)(ep ^ (ep >>> 32));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key k = (Key)o;
+            return epoch == k.epoch && Arrays.equals(index, k.index);
+        }
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+  Copyright (c) 2015-16, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.coniks_server;
+
+import java.nio.ByteBuffer;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.interfaces.DSAPublicKey;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.protobuf.ByteString;
+
+// coniks-java imports
+import org.coniks.crypto.Digest;
+import org.coniks.crypto.Keys;
+import org.coniks.util.Logging;
+import org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto;
+
+/** Caches the users' parsed change keys, along with the encoded
+ * protobuf form of DSA change keys.
+ * Registrations and key changes only need to parse and validate
+ * a change key the first time the server sees it, and key lookups
+ * reuse the already encoded protobuf instead of re-encoding the key
+ * for every response.
+ * Parsed keys are keyed by their fingerprint, i.e. the hash of the
+ * {@link DSAPublicKeyProto} or raw Ed25519 key they were received in.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class ChangeKeyCache {
+
+    // access-ordered, so iteration starts at the least recently used key
+    private static LinkedHashMap<ByteBuffer, PublicKey> parsed =
+        new LinkedHashMap<ByteBuffer, PublicKey>(1024, 0.75f, true);
+
+    // the encoded form of every DSA key currently in use
+    private static WeakHashMap<DSAPublicKey, DSAPublicKeyProto> encoded =
+        new WeakHashMap<DSAPublicKey, DSAPublicKeyProto>();
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    /** Gets the parsed DSA public key for the change key protobuf
+     * {@code pkProto}, parsing it only if it isn't cached.
+     *
+     *@return the DSAPublicKey, or {@code null} if {@code pkProto}
+     * is malformed.
+     */
+    public static DSAPublicKey getChangeKey(DSAPublicKeyProto pkProto) {
+        ByteBuffer fingerprint = getFingerprint(pkProto.toByteArray());
+
+        PublicKey cached = getParsed(fingerprint);
+        if (cached instanceof DSAPublicKey) {
+            return (DSAPublicKey)cached;
+        }
+
+        DSAPublicKey pk = KeyOps.makeDSAPublicKeyFromProto(pkProto);
+        if (pk == null) {
+            return null;
+        }
+
+        // encode the key right away since it's likely to be looked up soon
+        getChangeKeyProto(pk);
+
+        putParsed(fingerprint, pk);
+        return pk;
+    }
+
+    /** Gets the parsed Ed25519 public key for the raw change key
+     * {@code raw}, parsing it only if it isn't cached.
+     *
+     *@return the Ed25519 public key, or {@code null} if {@code raw}
+     * is malformed or the Java runtime doesn't support Ed25519.
+     */
+    public static PublicKey getEd25519ChangeKey(ByteString raw) {
+        byte[] rawBytes = raw.toByteArray();
+        ByteBuffer fingerprint = getFingerprint(rawBytes);
+
+        PublicKey cached = getParsed(fingerprint);
+        if (cached != null && Keys.isEd25519Key(cached)) {
+            return cached;
+        }
+
+        PublicKey pk = Keys.getEd25519PublicFromRaw(rawBytes);
+        if (pk == null) {
+            Logging.error("[ChangeKeyCache] Malformed or unsupported Ed25519 key");
+            return null;
+        }
+
+        putParsed(fingerprint, pk);
+        return pk;
+    }
+
+    /** Gets the binary-encoded protobuf of the DSA public key {@code pk},
+     * encoding it only if it isn't cached.
+     *
+     *@return the DSAPublicKeyProto.
+     */
+    public static DSAPublicKeyProto getChangeKeyProto(DSAPublicKey pk) {
+        synchronized (encoded) {
+            DSAPublicKeyProto pkProto = encoded.get(pk);
+            if (pkProto != null) {
+                return pkProto;
+            }
+        }
+
+        DSAPublicKeyProto pkProto = KeyOps.makeDSAPublicKeyProto(pk);
+        synchronized (encoded) {
+            encoded.put(pk, pkProto);
+        }
+        return pkProto;
+    }
+
+    /** Gets a summary of the cache's metrics for logging.
+     */
+    public static String getStats() {
+        int entries = 0;
+        synchronized (parsed) {
+            entries = parsed.size();
+        }
+        return "ChangeKeyCache: hits="+hits.get()+" misses="+misses.get()+
+            " entries="+entries;
+    }
+
+    // returns the fingerprint of the encoded key, or null in case of an error
+    private static ByteBuffer getFingerprint(byte[] encodedKey) {
+        try {
+            return ByteBuffer.wrap(Digest.digest(encodedKey));
+        }
+        catch (NoSuchAlgorithmException e) {
+            Logging.error("[ChangeKeyCache] "+e.getMessage());
+            return null;
+        }
+    }
+
+    // returns the cached key for the fingerprint, or null if it isn't cached
+    private static PublicKey getParsed(ByteBuffer fingerprint) {
+        PublicKey pk = null;
+        if (fingerprint != null) {
+            synchronized (parsed) {
+                pk = parsed.get(fingerprint);
+            }
+        }
+
+        if (pk == null) {
+            misses.incrementAndGet();
+        }
+        else {
+            hits.incrementAndGet();
+        }
+        return pk;
+    }
+
+    // caches the key, evicting the least recently used keys if there are too many
+    private static void putParsed(ByteBuffer fingerprint, PublicKey pk) {
+        if (fingerprint == null) {
+            return;
+        }
+
+        long maxEntries = ServerConfig.getChangeKeyCacheEntries();
+        synchronized (parsed) {
+            parsed.put(fingerprint, pk);
+
+            Iterator<Map.Entry<ByteBuffer, PublicKey>> it = parsed.entrySet().iterator();
+            while (parsed.size() > maxEntries && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,255 @@
+/*
+  Copyright (c) 2015-16, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.coniks.coniks_server;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+
+// coniks-java imports
+import org.coniks.coniks_common.MsgType;
+import org.coniks.coniks_common.C2SProtos.EpochChanges;
+import org.coniks.util.Logging;
+
+/** Implements an append-only log of the lookup indices that were
+ * registered or changed in each epoch, so that monitors can find out
+ * whether any of their users changed without fetching an authentication
+ * path for each user in every epoch.
+ * Each epoch's changes are found by diffing its tree against the previous
+ * epoch's tree with {@link TreeDiff}, and are logged as a framed
+ * {@code EpochChanges} message, exactly as it is sent to clients. The
+ * changes in a range of epochs are then served straight from the log file.
+ * If an epoch's changes can't be logged, the changelog is disabled rather
+ * than served with the epoch missing.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class ChangeLog {
+
+    private static FileChannel log = null;
+
+    // maps each logged epoch to the offset and length of its frame
+    private static TreeMap<Long, long[]> frameIndex = new TreeMap<Long, long[]>();
+
+    private static long logSize = 0;
+
+    /** Opens the changelog file at {@code path}, discarding any entries
+     * left over from a previous run of the server, since the history is
+     * rebuilt at startup.
+     *
+     *@return whether the changelog could be opened.
+     */
+    public static synchronized boolean init(String path) {
+        try {
+            RandomAccessFile f = new RandomAccessFile(new File(path), "rw");
+            f.setLength(0);
+            log = f.getChannel();
+            logSize = 0;
+            frameIndex.clear();
+            return true;
+        }
+        catch (IOException e) {
+            Logging.error("[ChangeLog] "+e.getMessage());
+        }
+        return false;
+    }
+
+    /** Indicates whether the server keeps a changelog.
+     */
+    public static synchronized boolean isEnabled() {
+        return log != null;
+    }
+
+    /** Appends the lookup indices registered or changed from the previous
+     * signed tree root to {@code str} to the changelog. The first signed
+     * tree root in the history is logged without any changes.
+     * If the changes can't be logged, the changelog is disabled, since
+     * it would no longer have an entry for every epoch.
+     *
+     *@return whether the changes were logged.
+     */
+    public static boolean append(SignedTreeRoot str) {
+        if (!isEnabled()) {
+            return false;
+        }
+
+        if (!appendChanges(str)) {
+            disable();
+            Logging.error("[ChangeLog] Couldn't log the changes of epoch "+
+                          str.getEpoch()+", disabling the changelog");
+            return false;
+        }
+        return true;
+    }
+
+    // diffs str against the previous signed tree root and logs the changes
+    private static boolean appendChanges(SignedTreeRoot str) {
+
+        // the diff only reads the two trees, so it runs outside of the lock
+        final EpochChanges.Builder changes = EpochChanges.newBuilder();
+        changes.setEpoch(str.getEpoch());
+
+        SignedTreeRoot prev = str.getPrev();
+        if (prev != null) {
+            boolean ok = TreeDiff.diff(prev, str, new TreeDiff.Listener() {
+                    public void leafChanged(UserLeafNode oldLeaf, UserLeafNode newLeaf) {
+                        changes.addLookupIndex(ByteString.copyFrom(newLeaf.getIndex()));
+                        changes.addType(oldLeaf == null ?
+                                        EpochChanges.ChangeType.REGISTRATION :
+                                        EpochChanges.ChangeType.KEY_CHANGE);
+                    }
+                });
+            if (!ok) {
+                return false;
+            }
+        }
+
+        byte[] frame = buildFrame(changes.build());
+        if (frame == null) {
+            return false;
+        }
+
+        synchronized (ChangeLog.class) {
+            if (log == null) {
+                return false;
+            }
+
+            long offset = logSize;
+            ByteBuffer buf = ByteBuffer.wrap(frame);
+            try {
+                while (buf.hasRemaining()) {
+                    log.write(buf, offset+buf.position());
+                }
+            }
+            catch (IOException e) {
+                Logging.error("[ChangeLog] "+e.getMessage());
+                return false;
+            }
+
+            logSize += frame.length;
+            frameIndex.put(str.getEpoch(), new long[]{offset, frame.length});
+        }
+        return true;
+    }
+
+    // stops logging and serving changes, and closes the log
+    private static synchronized void disable() {
+        if (log == null) {
+            return;
+        }
+
+        try {
+            log.close();
+        }
+        catch (IOException e) {
+            Logging.error("[ChangeLog] "+e.getMessage());
+        }
+        log = null;
+        frameIndex.clear();
+    }
+
+    // frames the changes as they are sent to clients: the message type,
+    // the length of the message and the message itself
+    private static byte[] buildFrame(EpochChanges changes) {
+        int len = changes.getSerializedSize();
+        byte[] frame = new byte[1+CodedOutputStream.computeRawVarint32Size(len)+len];
+
+        try {
+            CodedOutputStream cout = CodedOutputStream.newInstance(frame);
+            cout.writeRawByte(MsgType.EPOCH_CHANGES);
+            cout.writeRawVarint32(len);
+            changes.writeTo(cout);
+            cout.checkNoSpaceLeft();
+        }
+        catch (IOException e) {
+            Logging.error("[ChangeLog] "+e.getMessage());
+            return null;
+        }
+
+        return frame;
+    }
+
+    /** Transfers the logged changes of all epochs from {@code startEp}
+     * to {@code endEp} to {@code target}, oldest first. Since the epochs
+     * are logged in order, their frames are transferred as a single
+     * region of the changelog file.
+     *
+     *@return the number of epochs whose changes were transferred.
+     */
+    public static int transferTo(long startEp, long endEp, WritableByteChannel target)
+        throws IOException {
+        FileChannel ch = null;
+        long pos = 0;
+        long remaining = 0;
+        int epochs = 0;
+
+        synchronized (ChangeLog.class) {
+            ch = log;
+            if (ch == null || startEp > endEp) {
+                return 0;
+            }
+
+            Map.Entry<Long, long[]> first = frameIndex.ceilingEntry(startEp);
+            Map.Entry<Long, long[]> last = frameIndex.floorEntry(endEp);
+            if (first == null || last == null || first.getKey() > last.getKey()) {
+                return 0;
+            }
+
+            pos = first.getValue()[0];
+            remaining = last.getValue()[0]+last.getValue()[1]-pos;
+            epochs = frameIndex.subMap(first.getKey(), true, last.getKey(), true).size();
+        }
+
+        // positional transfers don't affect concurrent appends
+        while (remaining > 0) {
+            long n = ch.transferTo(pos, remaining, target);
+            if (n <= 0) {
+                throw new IOException("Truncated changelog from epoch "+startEp);
+            }
+            pos += n;
+            remaining -= n;
+        }
+        return epochs;
+    }
+
+}
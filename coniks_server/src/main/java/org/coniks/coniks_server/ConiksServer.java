@@ -62,10 +62,6 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.lang.NumberFormatException;
 
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.Executors;
-
 import com.google.protobuf.*;
 import org.javatuples.*;
 import java.util.Arrays;
@@ -127,6 +123,24 @@ public class ConiksServer{
         System.out.println(status);
     }
 
+    /** Reports a status or error message about the directory updates:
+     * logs it in full operation mode, or prints it in test mode.
+     *
+     *@param isErr indicates whether this is an error message
+     *@param msg the status message to report
+     */
+    static void reportStatus(boolean isErr, String msg) {
+        if (!isFullOp) {
+            printStatusMsg(isErr, msg);
+        }
+        else if (isErr) {
+            Logging.error(msg);
+        }
+        else {
+            Logging.log(msg);
+        }
+    }
+
     /** Configures the server and begins listening for
      * incoming connections from CONIKS clients.
      *<p>
@@ -206,6 +220,31 @@ public class ConiksServer{
             System.exit(-1);
         }
 
+        // the signing key needs to be loaded before the first STR is generated
+        if (!STRSigner.init()) {
+            printStatusMsg(true, "Error loading the server's signing key");
+            System.exit(-1);
+        }
+
+        // the archive needs to be ready before the first STR is generated
+        if (!ServerConfig.getSTRArchivePath().isEmpty() &&
+            !STRArchive.init(ServerConfig.getSTRArchivePath())) {
+            printStatusMsg(true, "Error opening the STR archive");
+            System.exit(-1);
+        }
+
+        if (!ServerConfig.getChangelogPath().isEmpty() &&
+            !ChangeLog.init(ServerConfig.getChangelogPath())) {
+            printStatusMsg(true, "Error opening the changelog");
+            System.exit(-1);
+        }
+
+        if (!ServerConfig.getProofExportDir().isEmpty() &&
+            !ProofExport.init(ServerConfig.getProofExportDir())) {
+            printStatusMsg(true, "Error opening the proof export directory");
+            System.exit(-1);
+        }
+
         // init the history
          if (!ServerHistory.initHistory(initRoot, initEpoch, 0,
                                        new byte[Digest.HASH_SIZE_BYTES])) {
@@ -213,61 +252,31 @@ public class ConiksServer{
             System.exit(-1);
          }
 
+        // the first epoch's changes are staged on top of the initial tree
+        if (ServerConfig.isStagingTree()) {
+            StagingTree.start(initRoot);
+        }
+
+        EpochPipeline.start();
+
         EpochTimerTask epochSnapshotTaker = new EpochTimerTask();
 
-        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-        scheduler.scheduleWithFixedDelay(epochSnapshotTaker,
-                                         ServerConfig.getEpochInterval(),
-                                         ServerConfig.getEpochInterval(),
-                                         TimeUnit.MILLISECONDS);
+        EpochScheduler.start(initEpoch, epochSnapshotTaker);
 
         ServerMessaging.listenForRequests(isFullOp);
 
     }
 
-    /** Implements a TimerTask that updates the STR history every epoch.
+    /** Implements a TimerTask that updates the STR history every epoch,
+     * which is run by the {@link EpochScheduler}. The update runs in
+     * the stages of the {@link EpochPipeline}; this task only builds the
+     * next epoch's tree, and the pipeline signs and publishes it.
      */
     private static class EpochTimerTask implements Runnable {
 
         public void run() {
             Logging.log("Timer task started.");
-            RootNode nextRoot = DirectoryOps.updateDirectory();
-
-            // check that we got a good first tree
-            if(nextRoot == null) {
-                if (isFullOp) {
-                    Logging.error("An error occured while trying to update the tree");
-                }
-                else {
-                    printStatusMsg(true, "An error occured while trying to update the tree");
-                }
-                // let's not quite bail here
-                throw new UnsupportedOperationException("Next root was null");
-            }
-
-            // this should approximately be EPOCH_INTERVAL millis since the last call
-            long nextEpoch = System.currentTimeMillis();
-
-            SignedTreeRoot nextSTR = TransparencyOps.generateNextSTR(nextRoot, nextEpoch);
-
-            if (!ServerHistory.updateHistory(nextSTR)) {
-                if (isFullOp) {
-                    Logging.error("An error occured while trying to update the tree");
-                }
-                else {
-                    printStatusMsg(true, "An error occured while trying to update the tree");
-                }
-                // let's not quite bail here
-                throw new UnsupportedOperationException("Next STR was null or malformed");
-            }
-
-            // we're here so the update went well
-            if (isFullOp) {
-                Logging.log("Directory update successful. Next epoch: "+nextEpoch);
-            }
-            else {
-                printStatusMsg(false, "Directory update successful. Next epoch: "+nextEpoch);
-            }
+            EpochPipeline.runEpoch();
         }
 
     }
@@ -33,12 +33,17 @@
 
 package org.coniks.coniks_server;
 
-import java.security.interfaces.DSAPublicKey;
+import java.security.PublicKey;
 import java.security.interfaces.RSAPublicKey;
 import java.security.interfaces.DSAParams;
 import java.util.PriorityQueue;
+import java.util.ArrayList;
+import java.util.TreeMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 // coniks-java imports
+import org.coniks.coniks_common.LeafFormat;
 import org.coniks.util.Convert;
 import org.coniks.util.Logging;
 
@@ -59,21 +64,66 @@ public class DirectoryOps {
     // this is a counter to be used to sort the uln changes so they happen in-order for the same person
     private static long ulnCounter = 0;
 
+    // the operations assigned to epochs after the next one, by epoch
+    private static TreeMap<Long, ArrayList<Triplet<byte[], UserLeafNode, Operation>>> carriedOver =
+        new TreeMap<Long, ArrayList<Triplet<byte[], UserLeafNode, Operation>>>();
+
+    // the names registered or changed in the latest directory update
+    private static ArrayList<String> lastUpdatedNames = new ArrayList<String>();
+
+    // the epoch of the latest directory update
+    private static long lastUpdatedEpoch;
+
+    // the names submitted to the staging tree since the latest directory update
+    private static ArrayList<String> stagedNames = new ArrayList<String>();
+
+    // the names of all registered users, whether their registration has
+    // been published or is still pending, which can be checked without the lock
+    private static final Set<String> registeredNames =
+        ConcurrentHashMap.newKeySet(16384);
+
+    /** Reserves the name {@code uname} for a new registration. This is
+     * checked in constant time without taking the directory lock, and
+     * only one of several concurrent registrations of the same name,
+     * in the same epoch or not, can reserve it. The registration must be
+     * passed to {@link #register(String, String, PublicKey, boolean, boolean)}
+     * once the name has been reserved.
+     *
+     *@return whether the name was reserved, i.e. it hadn't been registered yet.
+     */
+    public static boolean reserveName(String uname) {
+        return registeredNames.add(uname);
+    }
+
+    /** Checks whether the name {@code uname} has been registered, including
+     * registrations still pending publication. This doesn't take the
+     * directory lock.
+     */
+    public static boolean nameExists(String uname) {
+        return registeredNames.contains(uname);
+    }
+
     /** Registers a new name-to-key mapping in the key directory. Adds this registration
      * operation to the queue of pending operations, which are handled once per epoch.
+     * The registration is assigned to an epoch by the {@link EpochScheduler}.
+     * The name must have been reserved with {@link #reserveName(String)}.
      *
      *@param uname the username to register
      *@param pk the public key data to map to the registered name
-     *@param ck the DSA public key used for key changes
+     *@param ck the DSA or Ed25519 public key used for key changes
      *@param allowsUnsignedChanges flag indicating the user's key change policy
      *@param allowsPublicVisibility flag indicating the user's key visibility policy
+     *
+     *@return the epoch in which the registration will be published.
      */
-    public static synchronized void register(String uname, String pk, DSAPublicKey ck,
+    public static synchronized long register(String uname, String pk, PublicKey ck,
                                              boolean allowsUnsignedChanges, boolean allowsPublicVisibility){
+        long epoch = EpochScheduler.assignEpoch();
         byte[] index = ServerUtils.unameToIndex(uname);
-        UserLeafNode uln = new UserLeafNode(uname, pk, ServerHistory.nextEpoch(), 0,
+        UserLeafNode uln = new UserLeafNode(uname, pk, epoch, 0,
                                             allowsUnsignedChanges, allowsPublicVisibility, ck, index);
-        pendingQueue.add(Triplet.with(index, uln, (Operation)new Register()));
+        addPending(Triplet.with(index, uln, (Operation)new Register()), epoch);
+        return epoch;
     }
 
     /** Changes an existing name-to-key mapping in the key directory. Adds this mapping change
@@ -81,21 +131,48 @@ public class DirectoryOps {
      *
      *@param uname the username
      *@param newKey the new public key data to be mapped to the registered name
-     *@param ck the DSA public key used for key changes
+     *@param ck the DSA or Ed25519 public key used for key changes
      *@param allowsUnsignedChanges flag indicating the user's key change policy
      *@param allowsPublicVisibility flag indicating the user's key visibility policy
      *@param msg the mapping change message required for signed changes
      *@param sig the signature on {@code msg} required for signed changes
+     *@param verifiedKey the change key with which {@code sig} was already
+     * verified, or {@code null} if it hasn't been verified
+     *
+     *@return the epoch in which the mapping change will be published.
      */
-    public static synchronized void mappingChange(String uname, String newKey, DSAPublicKey ck,
+    public static synchronized long mappingChange(String uname, String newKey, PublicKey ck,
                                                   boolean allowsUnsignedChanges, boolean allowsPublicVisibility,
-                                                  byte[] msg, byte[] sig) {
+                                                  byte[] msg, byte[] sig, PublicKey verifiedKey) {
+        long epoch = EpochScheduler.assignEpoch();
         byte[] index = ServerUtils.unameToIndex(uname);
-        UserLeafNode uln = new UserLeafNode(uname, newKey, ServerHistory.nextEpoch(), 0,
+        UserLeafNode uln = new UserLeafNode(uname, newKey, epoch, 0,
                                             allowsUnsignedChanges, allowsPublicVisibility, ck, index);
         KeyChange change = new KeyChange(newKey, ck, allowsUnsignedChanges, allowsPublicVisibility,
-                                         msg, sig, ServerHistory.nextEpoch(), 0);
-        pendingQueue.add(Triplet.with(index, uln, (Operation)change));
+                                         msg, sig, verifiedKey, epoch, 0);
+        addPending(Triplet.with(index, uln, (Operation)change), epoch);
+        return epoch;
+    }
+
+    // queues the operation p for the next epoch, or hands it to the
+    // staging tree right away if the server stages its trees.
+    // operations for later epochs are set aside until their epoch is next.
+    private static void addPending(Triplet<byte[], UserLeafNode, Operation> p, long epoch) {
+        if (epoch > EpochScheduler.getOpenEpoch()) {
+            ArrayList<Triplet<byte[], UserLeafNode, Operation>> ops = carriedOver.get(epoch);
+            if (ops == null) {
+                ops = new ArrayList<Triplet<byte[], UserLeafNode, Operation>>();
+                carriedOver.put(epoch, ops);
+            }
+            ops.add(p);
+        }
+        else if (ServerConfig.isStagingTree()) {
+            stagedNames.add(p.getValue1().getUsername());
+            StagingTree.submit(p);
+        }
+        else {
+            pendingQueue.add(p);
+        }
     }
 
     /** Searches for the username {@code uname} in the current version of the
@@ -103,30 +180,88 @@ public class DirectoryOps {
      *
      *@return the user's entry in the directory or null if the name can't be found.
      */
-    public static synchronized UserLeafNode findUser(String uname) {
-        RootNode root = ServerHistory.getCurTree();
+    public static UserLeafNode findUser(String uname) {
+        // names that were never registered aren't worth a tree traversal
+        if (!nameExists(uname)) {
+            return null;
+        }
 
-        return getUlnFromTree(uname, root);
+        synchronized (DirectoryOps.class) {
+            return getUlnFromTree(uname, ServerHistory.getCurTree());
+        }
     }
 
      /** Searches for the username {@code uname} in the key directory at epoch {@code ep}.
      *
      *@return the user's entry in the directory or null if the name can't be found.
      */
-    public static synchronized UserLeafNode findUserInEpoch(String uname, long ep) {
-        SignedTreeRoot str = ServerHistory.getSTR(ep);
-        RootNode root = str.getRoot();
+    public static UserLeafNode findUserInEpoch(String uname, long ep) {
+        return findUserInSTR(uname, ServerHistory.getSTR(ep));
+    }
+
+    /** Searches for the username {@code uname} in the key directory
+     * committed to by the signed tree root {@code str}. Names that had
+     * no version yet in the STR's epoch are answered from the
+     * {@link VersionIndex} without a tree traversal.
+     *
+     *@return the user's entry in the directory or null if the name can't be found.
+     */
+    public static UserLeafNode findUserInSTR(String uname, SignedTreeRoot str) {
+        if (VersionIndex.getVersion(uname, str.getEpoch()) < 0) {
+            return null;
+        }
+        return getUlnFromSTR(uname, str);
+    }
 
-        return getUlnFromTree(uname, root);
+    // searches the tree committed to by str, whether or not the
+    // name's versions have been recorded yet
+    static UserLeafNode getUlnFromSTR(String uname, SignedTreeRoot str) {
+        FlatTree flat = str.getFlatTree();
+        if (flat != null) {
+            return flat.findLeaf(uname, ServerUtils.unameToIndex(uname));
+        }
+
+        synchronized (DirectoryOps.class) {
+            return getUlnFromTree(uname, str.getRoot());
+        }
     }
 
-    /** Updates the key directory by handling all current pending registration and
-     * mapping change operations.
-     * This function is called at the beginning of the new epoch.
+    /** Reports the users that were registered or changed from epoch
+     * {@code oldEp} to epoch {@code newEp} to {@code listener} in lookup
+     * index order. Only the subtrees that differ between the two epochs'
+     * trees are visited; see {@link TreeDiff}.
      *
-     *@return the tree root for the updated directory, or null in case of an error.
+     *@return whether the epochs could be compared.
      */
-    public static synchronized RootNode updateDirectory() {
+    public static boolean diffEpochs(long oldEp, long newEp, TreeDiff.Listener listener) {
+        if (oldEp > newEp) {
+            Logging.error("Can't diff epoch "+oldEp+" against the earlier epoch "+newEp);
+            return false;
+        }
+
+        SignedTreeRoot oldSTR = null;
+        SignedTreeRoot newSTR = null;
+        try {
+            oldSTR = ServerHistory.getSTR(oldEp);
+            newSTR = ServerHistory.getSTR(newEp);
+        }
+        catch (UnsupportedOperationException e) {
+            Logging.error("Can't diff epochs "+oldEp+" and "+newEp+": "+e.getMessage());
+            return false;
+        }
+
+        return TreeDiff.diff(oldSTR, newSTR, listener);
+    }
+
+    /** Seals the next epoch of the key directory: no more registration
+     * and mapping change operations are assigned to it from here on, and
+     * its pending operations are handed over for insertion into the
+     * previous epoch's tree. This is the first stage of publishing
+     * an epoch in the {@link EpochPipeline}.
+     *
+     *@return the sealed operations in prefix order, or null in case of an error.
+     */
+    public static synchronized PriorityQueue<Triplet<byte[], UserLeafNode, Operation>> sealEpoch() {
 
         // this should never be the case
         if(ServerHistory.getCurSTR() == null){
@@ -134,17 +269,96 @@ public class DirectoryOps {
             return null;
         }
 
-        RootNode curRoot = ServerHistory.getCurTree();
-        long curEpoch = ServerHistory.getCurEpoch();
+        // no more operations are assigned to this epoch from here on
+        lastUpdatedEpoch = EpochScheduler.takeOpenEpoch();
+
+        ArrayList<String> updatedNames = new ArrayList<String>(pendingQueue.size());
+        for (Triplet<byte[], UserLeafNode, Operation> p : pendingQueue) {
+            updatedNames.add(p.getValue1().getUsername());
+        }
+        lastUpdatedNames = updatedNames;
+
+        // the tree is built outside of the lock, so new operations
+        // go into a fresh queue
+        PriorityQueue<Triplet<byte[], UserLeafNode, Operation>> sealed = pendingQueue;
+        pendingQueue = new PriorityQueue<Triplet<byte[], UserLeafNode, Operation>>(
+                                                                                   16384, new ServerUtils.PrefixComparator());
+
+        addCarriedOver();
+
+        return sealed;
+    }
+
+    /** Seals the next epoch of the key directory if the server stages
+     * its trees, like {@link #sealEpoch()}. The epoch's operations have
+     * already been applied to the staged tree, which is handed over
+     * with all of its hashes computed. Only the hand-off of the epoch
+     * happens under the directory lock; registrations and mapping changes
+     * for the next epoch go ahead while the staged tree is finished.
+     *
+     *@return the tree root for the sealed epoch, or null in case of an error.
+     */
+    public static RootNode sealStagedEpoch() {
+
+        synchronized (DirectoryOps.class) {
+            // this should never be the case
+            if(ServerHistory.getCurSTR() == null){
+                Logging.error("Trying to update a server without a history.");
+                return null;
+            }
+
+            // no more operations are assigned to this epoch from here on,
+            // and the staging tree holds back the ones for the next epoch
+            lastUpdatedEpoch = EpochScheduler.takeOpenEpoch();
+            StagingTree.seal();
+
+            lastUpdatedNames = stagedNames;
+            stagedNames = new ArrayList<String>();
+
+            addCarriedOver();
+        }
+
+        RootNode newRoot = StagingTree.finish();
 
-        RootNode newRoot = TreeBuilder.copyExtendTree(curRoot, pendingQueue);
+        if (newRoot == null) {
+            Logging.error("Couldn't get the staged tree");
+            return null;
+        }
 
-        // it's safe to clear the pending queue.
-        pendingQueue.clear();
+        // starts staging the successor, which applies the held back operations
+        StagingTree.start(newRoot);
 
         return newRoot;
     }
 
+    // queues the operations that were carried over to the new next epoch
+    private static void addCarriedOver() {
+        long epoch = EpochScheduler.getOpenEpoch();
+        ArrayList<Triplet<byte[], UserLeafNode, Operation>> ops = carriedOver.remove(epoch);
+        if (ops == null) {
+            return;
+        }
+        for (Triplet<byte[], UserLeafNode, Operation> p : ops) {
+            addPending(p, epoch);
+        }
+    }
+
+    /** Gets the epoch of the latest sealed update of the key directory,
+     * which is the epoch its tree is to be published in.
+     */
+    public static synchronized long getLastUpdatedEpoch() {
+        return lastUpdatedEpoch;
+    }
+
+    /** Gets the names of all users that were registered or changed in the latest
+     * sealed update of the key directory.
+     *
+     *@return the list of updated names, which may contain duplicates.
+     */
+    public static synchronized ArrayList<String> getLastUpdatedNames() {
+        return lastUpdatedNames;
+    }
+
     // traverses down the tree until we reach the requested user leaf node
     // msm: this pretty much repeats the traversal in ServerOps.generateAuthPathProto
     // so we should really find a way to remove this redundancy
@@ -154,6 +368,10 @@ public class DirectoryOps {
         // traverse based on lookup index for this name
         byte[] lookupIndex = ServerUtils.unameToIndex(username);
 
+        if (root.digitSize == LeafFormat.RADIX16_FANOUT) {
+            return getUlnFromRadix16Tree(username, lookupIndex, root);
+        }
+
         // not worth doing this recursively
         int curOffset = 0;
         TreeNode runner = root;
@@ -215,4 +433,27 @@ public class DirectoryOps {
 
         }
 
+    // traverses down a radix-16 tree one 4-bit digit of the lookup index
+    // at a time until we reach the requested user leaf node
+    private static synchronized UserLeafNode getUlnFromRadix16Tree(String username,
+                                                                   byte[] lookupIndex,
+                                                                   RootNode root) {
+        TreeNode runner = root.getChild(Convert.getNthNibble(lookupIndex, 0));
+
+        int depth = 1;
+        while (runner instanceof RadixInteriorNode) {
+            runner = ((RadixInteriorNode)runner).getChild(Convert.getNthNibble(lookupIndex, depth));
+            depth++;
+        }
+
+        // if we have found a uln, make sure it doesn't just have a common prefix
+        // with the requested node
+        if (runner == null ||
+            !username.equals(((UserLeafNode)runner).getUsername())) {
+            return null;
+        }
+
+        return (UserLeafNode) runner;
+    }
+
 }
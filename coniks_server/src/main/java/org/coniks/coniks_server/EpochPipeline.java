@@ -0,0 +1,337 @@
+/*
+  Copyright (c) 2015-16, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.coniks_server;
+
+import java.util.ArrayList;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+// coniks-java imports
+import org.coniks.util.Logging;
+
+import org.javatuples.*;
+
+/** Publishes the server's epochs in a pipeline of stages: sealing the
+ * epoch's pending operations, inserting them into a copy of the previous
+ * epoch's tree, hashing the tree, signing the STR, appending it to the
+ * STR archive and publishing it in the server's history.
+ * The first three stages run on the {@link EpochScheduler}'s thread, and
+ * the others each on their own thread, so an epoch can be signed, archived
+ * and published while the next epoch is already being built. Each stage
+ * handles the epochs one at a time and in order, and at most
+ * {@code MAX_IN_FLIGHT} epochs are in the pipeline at once.
+ * The time each epoch spent in each stage is logged once it is published.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class EpochPipeline {
+
+    private static final String[] STAGES = {"seal", "insert", "hash",
+                                            "sign", "persist", "publish"};
+    private static final int SEAL = 0;
+    private static final int INSERT = 1;
+    private static final int HASH = 2;
+    private static final int SIGN = 3;
+    private static final int PERSIST = 4;
+    private static final int PUBLISH = 5;
+
+    /** The maximum number of epochs that have been sealed but not
+     * published yet. Sealing waits until an earlier epoch has been published.
+     */
+    public static final int MAX_IN_FLIGHT = 2;
+
+    private static final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+
+    private static final ExecutorService signer = newStage("sign");
+    private static final ExecutorService persister = newStage("persist");
+    private static final ExecutorService publisher = newStage("publish");
+
+    // the tree of the latest built epoch, only accessed on the build thread
+    private static RootNode lastRoot = null;
+
+    // the STR of the latest signed epoch, only accessed on the signing thread
+    private static SignedTreeRoot lastSigned = null;
+
+    // set once an epoch has failed, after which no more epochs are built
+    private static volatile boolean failed = false;
+
+    // statistics, in microseconds
+    private static long published = 0;
+    private static final long[] totalMicros = new long[STAGES.length];
+    private static final long[] maxMicros = new long[STAGES.length];
+
+    // an epoch on its way through the pipeline
+    private static class Epoch {
+        long epoch;
+        ArrayList<String> names;
+        RootNode root;
+        SignedTreeRoot str;
+        boolean archived;
+        long sealed;
+        final long[] micros = new long[STAGES.length];
+    }
+
+    private static ExecutorService newStage(final String name) {
+        return Executors.newSingleThreadExecutor(new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "EpochPipeline-"+name);
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+    }
+
+    /** Starts the pipeline on top of the head of the server's history,
+     * which must have been initialized.
+     */
+    public static void start() {
+        final SignedTreeRoot curSTR = ServerHistory.getCurSTR();
+        lastRoot = curSTR.getRoot();
+        signer.execute(new Runnable() {
+                public void run() {
+                    lastSigned = curSTR;
+                }
+            });
+    }
+
+    /** Seals the next epoch and builds its tree on the calling thread,
+     * and hands the tree over to the signing stage. This is run once per
+     * epoch by the {@link EpochScheduler}. If the server stages its trees,
+     * the tree is built in the background and handed over when the epoch
+     * is sealed, so there is nothing left to insert or hash.
+     *
+     *@throws IllegalStateException if this or an earlier epoch
+     * failed, which stops the scheduler.
+     */
+    public static void runEpoch() {
+        if (failed) {
+            throw new IllegalStateException("An earlier epoch failed");
+        }
+
+        // don't let the build run away from publication
+        inFlight.acquireUninterruptibly();
+
+        Epoch e = new Epoch();
+        long start = System.nanoTime();
+        e.sealed = start;
+
+        PriorityQueue<Triplet<byte[], UserLeafNode, Operation>> ops = null;
+        if (ServerConfig.isStagingTree()) {
+            e.root = DirectoryOps.sealStagedEpoch();
+        }
+        else {
+            ops = DirectoryOps.sealEpoch();
+        }
+        e.epoch = DirectoryOps.getLastUpdatedEpoch();
+        e.names = DirectoryOps.getLastUpdatedNames();
+        start = endStage(e, SEAL, start);
+
+        if (ops != null) {
+            // the builders skip the operations they can't apply, so
+            // anything thrown here leaves the tree in an unknown state
+            try {
+                e.root = TreeBuilder.copyInsertTree(lastRoot, ops);
+                start = endStage(e, INSERT, start);
+
+                if (e.root != null) {
+                    e.root = TreeBuilder.computeTreeHashes(e.root);
+                }
+                start = endStage(e, HASH, start);
+            }
+            catch (RuntimeException ex) {
+                fail("Building epoch "+e.epoch+" failed: "+ex.getMessage());
+                inFlight.release();
+                throw ex;
+            }
+        }
+
+        if (e.root == null) {
+            fail("Next root was null");
+            inFlight.release();
+            throw new IllegalStateException("Next root was null");
+        }
+        lastRoot = e.root;
+
+        signer.execute(new Stage(e, SIGN));
+    }
+
+    // records the time epoch e spent in the stage since start,
+    // and returns the stage's end time
+    private static long endStage(Epoch e, int stage, long start) {
+        long end = System.nanoTime();
+        e.micros[stage] = (end-start)/1000;
+        return end;
+    }
+
+    private static void fail(String msg) {
+        failed = true;
+        Logging.error("[EpochPipeline] "+msg);
+        ConiksServer.reportStatus(true, "An error occured while trying to update the tree");
+    }
+
+    // runs one of the stages after the build for an epoch, and hands
+    // the epoch over to the next stage
+    private static class Stage implements Runnable {
+        private final Epoch e;
+        private final int stage;
+
+        Stage(Epoch e, int stage) {
+            this.e = e;
+            this.stage = stage;
+        }
+
+        public void run() {
+            if (failed) {
+                inFlight.release();
+                return;
+            }
+
+            long start = System.nanoTime();
+            boolean ok = false;
+            try {
+                ok = runStage();
+            }
+            catch (RuntimeException ex) {
+                Logging.error("[EpochPipeline] "+ex.getMessage());
+            }
+            endStage(e, stage, start);
+
+            if (!ok) {
+                fail("Stage "+STAGES[stage]+" failed for epoch "+e.epoch);
+                inFlight.release();
+                return;
+            }
+
+            if (stage == SIGN) {
+                persister.execute(new Stage(e, PERSIST));
+            }
+            else if (stage == PERSIST) {
+                publisher.execute(new Stage(e, PUBLISH));
+            }
+            else {
+                inFlight.release();
+                published(e);
+            }
+        }
+
+        private boolean runStage() {
+            switch (stage) {
+            case SIGN:
+                e.str = TransparencyOps.generateNextSTR(e.root, e.epoch, lastSigned);
+                if (e.str == null) {
+                    return false;
+                }
+                lastSigned = e.str;
+                return true;
+
+            case PERSIST:
+                // failing to archive isn't fatal, the STR stays in memory
+                e.archived = STRArchive.append(e.str);
+                return true;
+
+            default:
+                // lookups may see the epoch as soon as it's published
+                VersionIndex.record(e.str, e.names);
+
+                if (!ServerHistory.updateHistory(e.str, e.archived)) {
+                    return false;
+                }
+                // failing to log the changes isn't fatal either, monitors
+                // can still look up each of their users; the changelog
+                // disables itself so it's never served with a gap
+                if (ChangeLog.isEnabled()) {
+                    ChangeLog.append(e.str);
+                }
+                // the proof file is written in the background, lookups
+                // are served from the tree until it's ready
+                if (ProofExport.isEnabled()) {
+                    ProofExport.schedule(e.str);
+                }
+                // the users that just changed are likely to be looked up soon,
+                // their paths are cached in the background as well
+                if (ServerConfig.isAuthPathCacheWarm()) {
+                    AuthPathCache.scheduleWarm(e.names, e.str);
+                }
+                return true;
+            }
+        }
+    }
+
+    // records the timings of the published epoch e and reports it
+    private static void published(Epoch e) {
+        EpochScheduler.reportPublished(e.epoch, (System.nanoTime()-e.sealed)/1000000);
+
+        StringBuilder timings = new StringBuilder("EpochPipeline: epoch="+e.epoch);
+        synchronized (EpochPipeline.class) {
+            published++;
+            for (int s = 0; s < STAGES.length; s++) {
+                totalMicros[s] += e.micros[s];
+                if (e.micros[s] > maxMicros[s]) {
+                    maxMicros[s] = e.micros[s];
+                }
+                timings.append(" "+STAGES[s]+"="+toMillis(e.micros[s])+"ms");
+            }
+        }
+
+        Logging.log(timings.toString());
+        Logging.log(AuthPathCache.getStats());
+        Logging.log(LookupCoalescer.getStats());
+        Logging.log(ChangeKeyCache.getStats());
+        Logging.log(EpochScheduler.getStats());
+        Logging.log(getStats());
+
+        ConiksServer.reportStatus(false, "Directory update successful. Next epoch: "+e.epoch);
+    }
+
+    private static String toMillis(long micros) {
+        return String.format("%.1f", micros/1000.0);
+    }
+
+    /** Gets the average and maximum time spent in each stage
+     * of the pipeline as a log line.
+     */
+    public static synchronized String getStats() {
+        StringBuilder stats = new StringBuilder("EpochPipeline: published="+published);
+        for (int s = 0; s < STAGES.length; s++) {
+            long avg = published == 0 ? 0 : totalMicros[s]/published;
+            stats.append(" "+STAGES[s]+" avg="+toMillis(avg)+"ms max="+
+                         toMillis(maxMicros[s])+"ms");
+        }
+        return stats.toString();
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+  Copyright (c) 2015-16, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.coniks_server;
+
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// coniks-java imports
+import org.coniks.util.Logging;
+
+/** Schedules the server's epochs.
+ * Epochs are always {@code EPOCH_INTERVAL} apart, starting at the
+ * initial epoch, and every registration or key change is assigned to an
+ * epoch as soon as it arrives, so clients can be told exactly when their
+ * change will be published. An epoch is published once its time has come,
+ * or right away once it has been assigned {@code epoch.trigger.ops}
+ * operations; in the latter case, the server's epochs run ahead of the
+ * clock until the load goes back down. At most {@code epoch.max.ops}
+ * operations are assigned to each epoch, and any further operations
+ * are carried over to the following epochs.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class EpochScheduler {
+
+    private static ScheduledExecutorService scheduler;
+
+    // seals and builds an epoch, the EpochTimerTask
+    private static Runnable epochTask;
+
+    // the next epoch whose operations haven't been taken for publication
+    private static long openEpoch;
+
+    // the number of operations assigned to each epoch from openEpoch on
+    private static final TreeMap<Long, Long> assigned = new TreeMap<Long, Long>();
+
+    // the epoch to which new operations are currently being assigned
+    private static long fillEpoch;
+
+    private static ScheduledFuture<?> nextRun = null;
+    private static boolean running = false;
+
+    // statistics
+    private static long published = 0;
+    private static long triggered = 0;
+    private static long carriedOver = 0;
+    private static long overruns = 0;
+    private static long maxPublishMillis = 0;
+
+    /** Starts publishing epochs on the schedule's own thread, running
+     * {@code task} once per epoch. The epoch following {@code curEpoch}
+     * is the first to be published.
+     */
+    public static synchronized void start(long curEpoch, Runnable task) {
+        epochTask = task;
+        openEpoch = curEpoch+ServerConfig.getEpochInterval();
+        fillEpoch = openEpoch;
+        scheduler = Executors.newScheduledThreadPool(1);
+        scheduleNext();
+    }
+
+    /** Assigns a new registration or key change to an epoch.
+     *
+     *@return the epoch in which the operation will be published.
+     */
+    public static synchronized long assignEpoch() {
+        long maxOps = ServerConfig.getEpochMaxOps();
+
+        if (fillEpoch < openEpoch) {
+            fillEpoch = openEpoch;
+        }
+        while (maxOps > 0 && getAssigned(fillEpoch) >= maxOps) {
+            fillEpoch += ServerConfig.getEpochInterval();
+        }
+
+        long ops = getAssigned(fillEpoch)+1;
+        assigned.put(fillEpoch, ops);
+
+        if (fillEpoch > openEpoch) {
+            carriedOver++;
+        }
+
+        // no need to wait for the epoch's time once it's big enough
+        if (fillEpoch == openEpoch && ops == ServerConfig.getEpochTriggerOps()) {
+            triggered++;
+            publishNow();
+        }
+
+        return fillEpoch;
+    }
+
+    /** Takes the next epoch for publication, after which no more
+     * operations are assigned to it.
+     *
+     *@return the epoch to be published.
+     */
+    public static synchronized long takeOpenEpoch() {
+        long epoch = openEpoch;
+        assigned.remove(epoch);
+        openEpoch += ServerConfig.getEpochInterval();
+        return epoch;
+    }
+
+    /** Gets the epoch in which operations arriving now would be published
+     * if they weren't carried over.
+     */
+    public static synchronized long getOpenEpoch() {
+        return openEpoch;
+    }
+
+    private static long getAssigned(long epoch) {
+        Long ops = assigned.get(epoch);
+        return ops == null ? 0 : ops;
+    }
+
+    // publishes the open epoch as soon as possible, unless it is already
+    // being published, in which case the next epoch is checked afterwards
+    private static void publishNow() {
+        if (running || scheduler == null) {
+            return;
+        }
+        if (nextRun != null) {
+            nextRun.cancel(false);
+        }
+        nextRun = scheduler.schedule(epochRunner, 0, TimeUnit.MILLISECONDS);
+    }
+
+    // schedules the publication of the open epoch at its time, or right away
+    // if enough operations have been assigned to it
+    private static void scheduleNext() {
+        long trigger = ServerConfig.getEpochTriggerOps();
+        long delay = openEpoch-System.currentTimeMillis();
+
+        if (delay < 0 || (trigger > 0 && getAssigned(openEpoch) >= trigger)) {
+            delay = 0;
+        }
+        nextRun = scheduler.schedule(epochRunner, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private static final Runnable epochRunner = new Runnable() {
+            public void run() {
+                synchronized (EpochScheduler.class) {
+                    running = true;
+                    nextRun = null;
+                }
+
+                try {
+                    epochTask.run();
+                }
+                catch (RuntimeException e) {
+                    // like a periodic task, stop publishing after a failed epoch
+                    Logging.error("[EpochScheduler] Epoch failed: "+e.getMessage());
+                    throw e;
+                }
+                finally {
+                    synchronized (EpochScheduler.class) {
+                        running = false;
+                    }
+                }
+
+                synchronized (EpochScheduler.class) {
+                    scheduleNext();
+                }
+            }
+        };
+
+    /** Reports that the epoch {@code epoch} has been published
+     * {@code publishMillis} ms after it was sealed. Since the epoch is
+     * signed, archived and published after the scheduler has moved on,
+     * this is what tells whether publishing keeps up with the epoch interval.
+     */
+    public static synchronized void reportPublished(long epoch, long publishMillis) {
+        published++;
+        if (publishMillis > maxPublishMillis) {
+            maxPublishMillis = publishMillis;
+        }
+        if (publishMillis > ServerConfig.getEpochInterval()) {
+            overruns++;
+            Logging.error("[EpochScheduler] Publishing epoch "+epoch+" took "+publishMillis+
+                          " ms after sealing it, longer than the epoch interval of "+
+                          ServerConfig.getEpochInterval()+" ms");
+        }
+    }
+
+    /** Gets the scheduler's statistics as a log line.
+     */
+    public static synchronized String getStats() {
+        return "EpochScheduler: published="+published+" triggered early="+triggered+
+            " carried over ops="+carriedOver+" overruns="+overruns+
+            " max seal-to-publish="+maxPublishMillis+"ms open epoch="+openEpoch+
+            " lag="+Math.max(0, System.currentTimeMillis()-openEpoch)+"ms";
+    }
+
+}
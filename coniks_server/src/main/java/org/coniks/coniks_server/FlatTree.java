@@ -0,0 +1,266 @@
+/*
+  Copyright (c) 2015-16, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.coniks_server;
+
+import java.nio.ByteBuffer;
+
+// coniks-java imports
+import org.coniks.coniks_common.LeafFormat;
+import org.coniks.crypto.Digest;
+import org.coniks.util.Convert;
+import org.coniks.util.Logging;
+
+/** Represents a read-only snapshot of a binary Merkle prefix
+ * tree in a flat layout.
+ *<p>
+ * The interior nodes are numbered in depth-first order, starting
+ * with the root as node 0, and their children are kept in two
+ * parallel {@code int} arrays. A child reference is the number of
+ * an interior node, {@code -(i+1)} for the i-th user leaf node, or
+ * {@link #EMPTY} for an empty subtree. The levels of the nodes are
+ * implied by the walk from the root. The hashes of all nodes but
+ * the root are kept in a single off-heap slab, which the garbage
+ * collector doesn't scan: the interior nodes' hashes come first,
+ * followed by the user leaf nodes' hashes.
+ *<p>
+ * A flat tree needs about a third of the memory of the
+ * {@link InteriorNode}s it replaces, and a walk down the tree
+ * mostly moves forward through the arrays.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class FlatTree {
+
+    /** The child reference of an empty subtree.
+     */
+    public static final int EMPTY = Integer.MIN_VALUE;
+
+    private final int[] left;
+    private final int[] right;
+    private final UserLeafNode[] leaves;
+    private final ByteBuffer hashes;
+    private final int numInteriors;
+    private final byte[] emptyHash;
+
+    // fill state, only used while flattening
+    private int nextInterior = 0;
+    private int nextLeaf = 0;
+
+    private FlatTree(int numInteriors, int numLeaves, byte[] emptyHash) {
+        this.left = new int[numInteriors];
+        this.right = new int[numInteriors];
+        this.leaves = new UserLeafNode[numLeaves];
+        this.hashes = ByteBuffer.allocateDirect((numInteriors+numLeaves)*Digest.HASH_SIZE_BYTES);
+        this.numInteriors = numInteriors;
+        this.emptyHash = emptyHash;
+    }
+
+    /** Flattens the binary Merkle prefix tree rooted at {@code root},
+     * whose hashes must all be computed. The user leaf nodes
+     * are shared with the original tree.
+     *
+     *@return The flat tree, or {@code null} if the tree isn't a binary
+     * prefix tree or is too large for a single hash slab.
+     */
+    public static FlatTree fromRoot(RootNode root) {
+        if (root.digitSize != 2 || root instanceof SparseRootNode) {
+            Logging.error("[FlatTree] Only binary prefix trees can be flattened");
+            return null;
+        }
+
+        long[] counts = new long[2];
+        countNodes(root, counts);
+
+        if ((counts[0]+counts[1])*Digest.HASH_SIZE_BYTES > Integer.MAX_VALUE) {
+            Logging.error("[FlatTree] Tree too large to flatten: "+counts[0]+" interior nodes");
+            return null;
+        }
+
+        byte[] emptyHash = ServerConfig.getHashFunction().digest(new byte[Digest.HASH_SIZE_BYTES]);
+        FlatTree tree = new FlatTree((int)counts[0], (int)counts[1], emptyHash);
+        tree.addNode(root, null);
+        return tree;
+    }
+
+    // counts the interior nodes (counts[0]) and the
+    // user leaf nodes (counts[1]) in the subtree node
+    private static void countNodes(TreeNode node, long[] counts) {
+        if (node instanceof UserLeafNode) {
+            counts[1]++;
+        }
+        else if (node != null) {
+            counts[0]++;
+            countNodes(node.left, counts);
+            countNodes(node.right, counts);
+        }
+    }
+
+    // adds the subtree node with the given hash in depth-first order
+    // and returns its child reference
+    private int addNode(TreeNode node, byte[] hash) {
+        if (node == null) {
+            return EMPTY;
+        }
+
+        if (node instanceof UserLeafNode) {
+            int leaf = nextLeaf++;
+            leaves[leaf] = (UserLeafNode)node;
+            putHash(numInteriors+leaf, hash);
+            return -(leaf+1);
+        }
+
+        InteriorNode in = (InteriorNode)node;
+        int i = nextInterior++;
+        if (hash != null) {
+            putHash(i, hash);
+        }
+        left[i] = addNode(in.left, in.leftHash);
+        right[i] = addNode(in.right, in.rightHash);
+        return i;
+    }
+
+    private void putHash(int slot, byte[] hash) {
+        ByteBuffer slab = hashes.duplicate();
+        slab.position(slot*Digest.HASH_SIZE_BYTES);
+        slab.put(hash);
+    }
+
+    /** Gets the child reference of the root node.
+     */
+    public int getRoot() {
+        return 0;
+    }
+
+    /** Indicates whether the child reference {@code ref} is a user leaf node.
+     */
+    public static boolean isLeaf(int ref) {
+        return ref < 0 && ref != EMPTY;
+    }
+
+    /** Gets the left ({@code direction == false}) or right child reference
+     * of the interior node {@code node}.
+     */
+    public int getChild(int node, boolean direction) {
+        return direction ? right[node] : left[node];
+    }
+
+    /** Gets the user leaf node with child reference {@code ref}.
+     */
+    public UserLeafNode getLeaf(int ref) {
+        return leaves[-(ref+1)];
+    }
+
+    /** Copies the hash of the subtree with child reference {@code ref}
+     * into {@code out} using the slab view {@code slab}, which may
+     * be any duplicate of this tree's slab.
+     */
+    public void getHash(ByteBuffer slab, int ref, byte[] out) {
+        if (ref == EMPTY) {
+            System.arraycopy(emptyHash, 0, out, 0, emptyHash.length);
+            return;
+        }
+        int slot = ref < 0 ? numInteriors-(ref+1) : ref;
+        slab.position(slot*Digest.HASH_SIZE_BYTES);
+        slab.get(out);
+    }
+
+    /** Gets a view of this tree's hash slab for use with
+     * {@link #getHash(ByteBuffer, int, byte[])}. Each thread
+     * reading hashes needs its own view.
+     */
+    public ByteBuffer getSlab() {
+        return hashes.duplicate();
+    }
+
+    /** Gets the hash of the subtree with child reference {@code ref}.
+     *
+     *@return The hash as a {@code byte[]}.
+     */
+    public byte[] getHash(int ref) {
+        byte[] hash = new byte[Digest.HASH_SIZE_BYTES];
+        getHash(getSlab(), ref, hash);
+        return hash;
+    }
+
+    /** Serializes the root node in the server's configured {@link LeafFormat}.
+     *
+     *@return The {@code byte[]} containing the serialized root node.
+     */
+    public byte[] getRootNodeBytes() {
+        return LeafFormat.getInteriorBytes(ServerConfig.getLeafFormat(),
+                                           getHash(left[0]), getHash(right[0]));
+    }
+
+    /** Searches for the user leaf node for the username {@code uname}
+     * with lookup index {@code lookupIndex}.
+     *
+     *@return the user leaf node or {@code null} if the name can't be found.
+     */
+    public UserLeafNode findLeaf(String uname, byte[] lookupIndex) {
+        int ref = getRoot();
+        int depth = 0;
+        while (ref >= 0) {
+            ref = Convert.getNthBit(lookupIndex, depth) ? right[ref] : left[ref];
+            depth++;
+        }
+
+        if (ref == EMPTY) {
+            return null;
+        }
+
+        // make sure the leaf doesn't just have a common prefix
+        // with the requested name
+        UserLeafNode uln = getLeaf(ref);
+        return uname.equals(uln.getUsername()) ? uln : null;
+    }
+
+    /** Unlinks the user leaf nodes from the parents they had in the
+     * linked tree, so that the linked tree can be garbage collected
+     * once it has been released. The linked tree mustn't be
+     * extended any longer after this.
+     */
+    void detachLeaves() {
+        for (UserLeafNode uln : leaves) {
+            uln.setParent(null);
+        }
+    }
+
+    /** Gets the approximate number of bytes taken up by this
+     * tree's arrays and hash slab, excluding the user leaf nodes.
+     */
+    public long getSizeBytes() {
+        return 8L*numInteriors + 4L*leaves.length + hashes.capacity();
+    }
+
+} // ends FlatTree
@@ -33,7 +33,7 @@
 
 package org.coniks.coniks_server;
 
-import java.security.interfaces.DSAPublicKey;
+import java.security.PublicKey;
 import java.util.Arrays;
 
 // coniks-java imports
@@ -47,11 +47,12 @@ import org.coniks.util.Logging;
  */
 public class KeyChange extends Operation {
     private String newKeyData;
-    private DSAPublicKey newChangeKey;
+    private PublicKey newChangeKey;
     private boolean allowsUnsignedChanges;
     private boolean allowsPublicVisibility;
     private byte[] sig;
     private byte[] msg;
+    private PublicKey verifiedKey;
     private long counter;
 
     /** A KeyChange object does the actual work of changing the
@@ -63,18 +64,21 @@ public class KeyChange extends Operation {
      *@param allowsPublicVisibility whether the user allows her maping to be publicly visible
      *@param msg the mapping change message
      *@param sig the digital signature on the mapping change message
+     *@param verifiedKey the change key with which {@code sig} was already verified
+     * when the change was requested, or {@code null} if it hasn't been verified
      *@param epoch the epoch during which the mapping was last changed
      *@param counter the change count for the given epoch (used to order the changes)
      */
-    public KeyChange(String newKeyData, DSAPublicKey changeKey,
+    public KeyChange(String newKeyData, PublicKey changeKey,
         boolean allowsUnsignedChanges, boolean allowsPublicVisibility,
-        byte[] msg, byte[] sig, long epoch, long counter) {
+        byte[] msg, byte[] sig, PublicKey verifiedKey, long epoch, long counter) {
         this.newKeyData = newKeyData;
         this.newChangeKey = changeKey;
         this.allowsUnsignedChanges = allowsUnsignedChanges;
         this.allowsPublicVisibility = allowsPublicVisibility;
         this.msg = msg == null ? null : Arrays.copyOf(msg, msg.length);
         this.sig = sig == null ? null : Arrays.copyOf(sig, sig.length);
+        this.verifiedKey = verifiedKey;
         this.epoch = epoch;
         this.counter = counter;
         Logging.log("Made a KC object with sig = " + Arrays.toString(this.sig));
@@ -106,8 +110,15 @@ public class KeyChange extends Operation {
 
             boolean res = false;
 
+            // the signature only needs to be checked again if the user's
+            // change key changed since it was verified
+            PublicKey ck = uln.getChangeKey();
+            if (verifiedKey != null && (verifiedKey == ck || verifiedKey.equals(ck))) {
+                return true;
+            }
+
             try {
-                res = Signing.dsaVerify(uln.getChangeKey(), msg, sig);
+                res = Signing.verify(ck, msg, sig);
             }
             catch (Exception e) {
                 Logging.error("[KeyChange] "+e.getMessage());
@@ -43,6 +43,8 @@ import java.util.Scanner;
 import java.io.PrintWriter;
 import java.io.*;
 
+import com.google.protobuf.ByteString;
+
 // coniks-java imports
 import org.coniks.coniks_common.C2SProtos.DSAPublicKeyProto;
 import org.coniks.util.Logging;
@@ -196,17 +198,63 @@ public class KeyOps{
     }
 
      /** Converts a {@link DSAPublicKeyProto} to a {@link DSAPublicKey}.
+     * Uses the binary encoding of the key parameters if the protobuf
+     * has it, and falls back to the decimal string encoding otherwise.
      *
      *@param pkProto the DSA public key protobuf to convert into a
      * DSAPublicKey.
      *@return the DSAPublicKey, or {@code null} in case of an error.
      */
     public static DSAPublicKey makeDSAPublicKeyFromProto(DSAPublicKeyProto pkProto) {
-        BigInteger p = new BigInteger(pkProto.getP());
-        BigInteger q = new BigInteger(pkProto.getQ());
-        BigInteger g = new BigInteger(pkProto.getG());
-        BigInteger y = new BigInteger(pkProto.getY());
+        BigInteger p, q, g, y;
+
+        if (pkProto.hasRawP() && pkProto.hasRawQ() &&
+            pkProto.hasRawG() && pkProto.hasRawY()) {
+            p = new BigInteger(1, pkProto.getRawP().toByteArray());
+            q = new BigInteger(1, pkProto.getRawQ().toByteArray());
+            g = new BigInteger(1, pkProto.getRawG().toByteArray());
+            y = new BigInteger(1, pkProto.getRawY().toByteArray());
+        }
+        else {
+            try {
+                p = new BigInteger(pkProto.getP());
+                q = new BigInteger(pkProto.getQ());
+                g = new BigInteger(pkProto.getG());
+                y = new BigInteger(pkProto.getY());
+            }
+            catch (NumberFormatException e) {
+                Logging.error("The given DSA key params are malformed.");
+                return null;
+            }
+        }
         return makeDSAPublicKeyFromParams(p,q,g,y);
     }
 
+    /** Converts a {@link DSAPublicKey} {@code pk} to a {@link DSAPublicKeyProto}
+     * containing both the decimal and the binary encodings of the key parameters.
+     *
+     *@return the DSAPublicKeyProto.
+     */
+    public static DSAPublicKeyProto makeDSAPublicKeyProto(DSAPublicKey pk) {
+        DSAPublicKeyProto.Builder dsaBuilder = DSAPublicKeyProto.newBuilder();
+        dsaBuilder.setP(pk.getParams().getP().toString());
+        dsaBuilder.setQ(pk.getParams().getQ().toString());
+        dsaBuilder.setG(pk.getParams().getG().toString());
+        dsaBuilder.setY(pk.getY().toString());
+        dsaBuilder.setRawP(unsignedBytes(pk.getParams().getP()));
+        dsaBuilder.setRawQ(unsignedBytes(pk.getParams().getQ()));
+        dsaBuilder.setRawG(unsignedBytes(pk.getParams().getG()));
+        dsaBuilder.setRawY(unsignedBytes(pk.getY()));
+        return dsaBuilder.build();
+    }
+
+    // the big-endian magnitude of the non-negative BigInteger n, without the sign byte
+    private static ByteString unsignedBytes(BigInteger n) {
+        byte[] b = n.toByteArray();
+        if (b.length > 1 && b[0] == 0) {
+            return ByteString.copyFrom(b, 1, b.length-1);
+        }
+        return ByteString.copyFrom(b);
+    }
+
 } // ends KeyOps class
@@ -0,0 +1,115 @@
+/*
+  Copyright (c) 2015-16, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.coniks_server;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Coalesces concurrent key lookups for the same lookup index
+ * in the same epoch.
+ * The first lookup to miss the {@link AuthPathCache} computes the
+ * serialized authentication path, and any identical lookups that
+ * arrive while it is still in flight wait for and share its result
+ * instead of traversing the tree and serializing the path themselves.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class LookupCoalescer {
+
+    private static final ConcurrentHashMap<AuthPathCache.Key, FutureTask<byte[]>> inFlight =
+        new ConcurrentHashMap<AuthPathCache.Key, FutureTask<byte[]>>();
+
+    private static final AtomicLong computed = new AtomicLong();
+    private static final AtomicLong joined = new AtomicLong();
+
+    /** Gets the result of the lookup {@code lookup} identified by {@code key}.
+     * If an identical lookup is already in flight, waits for its result
+     * instead of running {@code lookup}.
+     *
+     *@return the serialized {@link org.coniks.coniks_common.C2SProtos.AuthPath},
+     * or whatever else {@code lookup} returns.
+     *@throws ExecutionException if the shared lookup threw an exception.
+     *@throws InterruptedException if interrupted while waiting for an in-flight lookup.
+     */
+    public static byte[] getAuthPath(AuthPathCache.Key key, Callable<byte[]> lookup)
+        throws ExecutionException, InterruptedException {
+
+        FutureTask<byte[]> task = new FutureTask<byte[]>(lookup);
+        FutureTask<byte[]> running = inFlight.putIfAbsent(key, task);
+
+        if (running != null) {
+            joined.incrementAndGet();
+            return running.get();
+        }
+
+        computed.incrementAndGet();
+        try {
+            task.run();
+        }
+        finally {
+            // any later lookups should be served from the cache
+            inFlight.remove(key, task);
+        }
+        return task.get();
+    }
+
+    /** Gets the number of lookups that were actually computed.
+     */
+    public static long getComputed() {
+        return computed.get();
+    }
+
+    /** Gets the number of lookups that shared the result of an
+     * identical in-flight lookup.
+     */
+    public static long getJoined() {
+        return joined.get();
+    }
+
+    /** Gets a summary of the coalescing metrics for logging.
+     * The fan-in is the average number of requests served per computed lookup.
+     */
+    public static String getStats() {
+        long c = getComputed();
+        long j = getJoined();
+        String fanIn = c == 0 ? "0" : String.format("%.2f", (double)(c+j)/c);
+
+        return "LookupCoalescer: computed="+c+" joined="+j+" fan-in="+fanIn+
+            " in flight="+inFlight.size();
+    }
+
+}
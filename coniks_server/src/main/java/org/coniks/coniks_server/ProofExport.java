@@ -0,0 +1,503 @@
+/*
+  Copyright (c) 2015-16, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package org.coniks.coniks_server;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadFactory;
+
+import com.google.protobuf.CodedOutputStream;
+
+// coniks-java imports
+import org.coniks.coniks_common.CommonMessaging;
+import org.coniks.coniks_common.LeafFormat;
+import org.coniks.coniks_common.MsgType;
+import org.coniks.crypto.Digest;
+import org.coniks.util.Logging;
+
+/** Exports the authentication paths of all users in an epoch's tree
+ * into a single proof file once the epoch has been published, so that
+ * key lookups for that epoch can be served straight from the file, and
+ * so that the file can be distributed as is.
+ *<p>
+ * A proof file starts with its epoch and the number of users, followed
+ * by an index of (lookup index, offset, length) entries sorted by lookup
+ * index, which is memory-mapped to find a user's path, and then by the
+ * paths themselves, each framed as an {@code AuthPath} message exactly as
+ * it is sent to clients. The paths are generated in parallel, since each
+ * of them is an independent walk down the epoch's tree.
+ * Only the proof files of the latest few epochs are kept.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class ProofExport {
+
+    private static final int HEADER_BYTES = 8+4;
+    private static final int ENTRY_BYTES = Digest.HASH_SIZE_BYTES+8+4;
+
+    // paths are generated and written this many users at a time
+    private static final int CHUNK_LEAVES = 4096;
+
+    // users whose paths are generated by a single task
+    private static final int TASK_LEAVES = 256;
+
+    private static File exportDir = null;
+
+    // maps each exported epoch to its proof file
+    private static TreeMap<Long, ProofFile> exports = new TreeMap<Long, ProofFile>();
+
+    // the latest epoch scheduled for export; older epochs that haven't
+    // been exported yet by the time it's scheduled are skipped
+    private static volatile long latestScheduled = -1;
+
+    private static final ExecutorService exporter =
+        Executors.newSingleThreadExecutor(new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "ProofExport");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+
+    private static final ForkJoinPool exportPool =
+        new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors()));
+
+    // an exported proof file with its memory-mapped index; an evicted file
+    // is only closed once the lookups still reading from it are done,
+    // both counted under the ProofExport lock
+    private static class ProofFile {
+        final File file;
+        final FileChannel ch;
+        final MappedByteBuffer index;
+        final int count;
+
+        int readers = 0;
+        boolean evicted = false;
+
+        ProofFile(File file, FileChannel ch, MappedByteBuffer index, int count) {
+            this.file = file;
+            this.ch = ch;
+            this.index = index;
+            this.count = count;
+        }
+    }
+
+    /** Uses {@code path} as the directory to which proof files are
+     * exported, creating it if necessary and deleting any proof files
+     * left over from a previous run of the server, since the history is
+     * rebuilt at startup.
+     *
+     *@return whether the directory can be used.
+     */
+    public static synchronized boolean init(String path) {
+        File dir = new File(path);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            Logging.error("[ProofExport] Couldn't create directory "+path);
+            return false;
+        }
+
+        File[] stale = dir.listFiles();
+        if (stale == null) {
+            Logging.error("[ProofExport] Couldn't list directory "+path);
+            return false;
+        }
+        for (File f : stale) {
+            if (f.getName().startsWith("proofs-") && !f.delete()) {
+                Logging.error("[ProofExport] Couldn't delete "+f.getPath());
+                return false;
+            }
+        }
+
+        exportDir = dir;
+        return true;
+    }
+
+    /** Indicates whether the server exports proof files.
+     */
+    public static synchronized boolean isEnabled() {
+        return exportDir != null;
+    }
+
+    /** Schedules the export of the authentication paths of all users
+     * in the tree of {@code str} in the background. The tree is captured
+     * right away, since the STR's own root node may be released once the
+     * next epoch is published.
+     */
+    public static void schedule(final SignedTreeRoot str) {
+        final RootNode root = str.getRoot();
+        if (!isEnabled() || root == null) {
+            return;
+        }
+
+        latestScheduled = str.getEpoch();
+        exporter.execute(new Runnable() {
+                public void run() {
+                    if (str.getEpoch() < latestScheduled) {
+                        Logging.log("ProofExport: skipped epoch "+str.getEpoch());
+                        return;
+                    }
+                    try {
+                        export(str.getEpoch(), root);
+                    }
+                    catch (RuntimeException e) {
+                        Logging.error("[ProofExport] "+e.getMessage());
+                    }
+                }
+            });
+    }
+
+    // writes the proof file of epoch ep for the tree root
+    // and makes it available to lookups
+    private static void export(long ep, RootNode root) {
+        long start = System.nanoTime();
+
+        ArrayList<UserLeafNode> leaves = new ArrayList<UserLeafNode>();
+        collectLeaves(root, leaves);
+
+        int count = leaves.size();
+        if ((long)count*ENTRY_BYTES+HEADER_BYTES > Integer.MAX_VALUE) {
+            Logging.error("[ProofExport] Too many users to export: "+count);
+            return;
+        }
+        int dataStart = HEADER_BYTES+count*ENTRY_BYTES;
+
+        File tmp = new File(exportDir, "proofs-"+ep+".tmp");
+        File file = new File(exportDir, "proofs-"+ep+".bin");
+
+        ByteBuffer index = ByteBuffer.allocate(dataStart);
+        index.putLong(ep);
+        index.putInt(count);
+
+        RandomAccessFile raf = null;
+        try {
+            raf = new RandomAccessFile(tmp, "rw");
+            raf.setLength(0);
+            FileChannel ch = raf.getChannel();
+
+            long offset = dataStart;
+            byte[][] frames = new byte[Math.min(count, CHUNK_LEAVES)][];
+            for (int lo = 0; lo < count; lo += CHUNK_LEAVES) {
+                int n = Math.min(CHUNK_LEAVES, count-lo);
+
+                PathFramer framer = new PathFramer(leaves, lo, frames, 0, n, root);
+                exportPool.invoke(framer);
+                if (framer.failed()) {
+                    Logging.error("[ProofExport] Couldn't generate the paths of epoch "+ep);
+                    raf.close();
+                    tmp.delete();
+                    return;
+                }
+
+                int chunkBytes = 0;
+                for (int i = 0; i < n; i++) {
+                    chunkBytes += frames[i].length;
+                }
+
+                ByteBuffer chunk = ByteBuffer.allocate(chunkBytes);
+                for (int i = 0; i < n; i++) {
+                    index.put(leaves.get(lo+i).getIndex());
+                    index.putLong(offset+chunk.position());
+                    index.putInt(frames[i].length);
+                    chunk.put(frames[i]);
+                    frames[i] = null;
+                }
+                chunk.flip();
+                writeFully(ch, chunk, offset);
+                offset += chunkBytes;
+            }
+
+            index.flip();
+            writeFully(ch, index, 0);
+            ch.force(false);
+            raf.close();
+        }
+        catch (IOException e) {
+            Logging.error("[ProofExport] "+e.getMessage());
+            CommonMessaging.close(raf);
+            tmp.delete();
+            return;
+        }
+
+        // only complete proof files are ever visible under their final name
+        if (!tmp.renameTo(file)) {
+            Logging.error("[ProofExport] Couldn't rename "+tmp.getPath());
+            tmp.delete();
+            return;
+        }
+
+        ProofFile proofs = null;
+        try {
+            FileChannel ch = new RandomAccessFile(file, "r").getChannel();
+            proofs = new ProofFile(file, ch, ch.map(FileChannel.MapMode.READ_ONLY, 0, dataStart),
+                                   count);
+        }
+        catch (IOException e) {
+            Logging.error("[ProofExport] "+e.getMessage());
+            return;
+        }
+
+        publish(ep, proofs);
+
+        Logging.log("ProofExport: exported "+count+" paths for epoch "+ep+" in "+
+                    String.format("%.1f", (System.nanoTime()-start)/1000000.0)+"ms");
+    }
+
+    // makes the proof file of epoch ep available, and evicts the
+    // proof files of the epochs that are no longer kept
+    private static synchronized void publish(long ep, ProofFile proofs) {
+        exports.put(ep, proofs);
+
+        while (exports.size() > ServerConfig.getProofExportEpochs()) {
+            ProofFile old = exports.pollFirstEntry().getValue();
+            // lookups that are still reading from the file keep it open
+            if (!old.file.delete()) {
+                Logging.error("[ProofExport] Couldn't delete "+old.file.getPath());
+            }
+            old.evicted = true;
+            if (old.readers == 0) {
+                CommonMessaging.close(old.ch);
+            }
+        }
+    }
+
+    // gets the proof file of epoch ep for reading, or null if it hasn't
+    // been exported; the file stays open until it is released
+    private static synchronized ProofFile acquire(long ep) {
+        ProofFile proofs = exports.get(ep);
+        if (proofs != null) {
+            proofs.readers++;
+        }
+        return proofs;
+    }
+
+    // releases a proof file acquired for reading, and closes it if
+    // it has been evicted and this was its last reader
+    private static synchronized void release(ProofFile proofs) {
+        proofs.readers--;
+        if (proofs.evicted && proofs.readers == 0) {
+            CommonMessaging.close(proofs.ch);
+        }
+    }
+
+    // writes all of buf to ch at the given position
+    private static void writeFully(FileChannel ch, ByteBuffer buf, long position)
+        throws IOException {
+        long pos = position;
+        while (buf.hasRemaining()) {
+            pos += ch.write(buf, pos);
+        }
+    }
+
+    // adds the user leaf nodes in the subtree node to leaves in lookup index order
+    private static void collectLeaves(TreeNode node, ArrayList<UserLeafNode> leaves) {
+        if (node instanceof UserLeafNode) {
+            leaves.add((UserLeafNode)node);
+        }
+        else if (node instanceof RootNode &&
+                 ((RootNode)node).digitSize == LeafFormat.RADIX16_FANOUT) {
+            for (TreeNode child : ((RootNode)node).children) {
+                collectLeaves(child, leaves);
+            }
+        }
+        else if (node instanceof RadixInteriorNode) {
+            for (TreeNode child : ((RadixInteriorNode)node).children) {
+                collectLeaves(child, leaves);
+            }
+        }
+        else if (node instanceof InteriorNode) {
+            collectLeaves(node.left, leaves);
+            collectLeaves(node.right, leaves);
+        }
+    }
+
+    // generates the framed authentication paths of a range of users,
+    // splitting the range until each task only has a few users
+    private static class PathFramer extends RecursiveAction {
+        private final ArrayList<UserLeafNode> leaves;
+        private final int leafStart;
+        private final byte[][] frames;
+        private final int lo;
+        private final int hi;
+        private final RootNode root;
+
+        PathFramer(ArrayList<UserLeafNode> leaves, int leafStart,
+                   byte[][] frames, int lo, int hi, RootNode root) {
+            this.leaves = leaves;
+            this.leafStart = leafStart;
+            this.frames = frames;
+            this.lo = lo;
+            this.hi = hi;
+            this.root = root;
+        }
+
+        protected void compute() {
+            if (hi-lo > TASK_LEAVES) {
+                int mid = (lo+hi) >>> 1;
+                invokeAll(new PathFramer(leaves, leafStart, frames, lo, mid, root),
+                          new PathFramer(leaves, leafStart, frames, mid, hi, root));
+                return;
+            }
+
+            for (int i = lo; i < hi; i++) {
+                byte[] path = TransparencyOps.generateAuthPathBytes(leaves.get(leafStart+i), root);
+                frames[i] = path == null ? null : buildFrame(path);
+            }
+        }
+
+        // whether any of the paths in the range couldn't be generated
+        boolean failed() {
+            for (int i = lo; i < hi; i++) {
+                if (frames[i] == null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // frames the serialized path as it is sent to clients: the message
+    // type, the length of the message and the message itself
+    private static byte[] buildFrame(byte[] authPath) {
+        int len = authPath.length;
+        byte[] frame = new byte[1+CodedOutputStream.computeRawVarint32Size(len)+len];
+        frame[0] = (byte)MsgType.AUTH_PATH;
+
+        int pos = 1;
+        while ((len & ~0x7F) != 0) {
+            frame[pos++] = (byte)((len & 0x7F) | 0x80);
+            len >>>= 7;
+        }
+        frame[pos++] = (byte)len;
+        System.arraycopy(authPath, 0, frame, pos, authPath.length);
+        return frame;
+    }
+
+    /** Transfers the framed authentication path for the lookup index
+     * {@code lookupIndex} from the proof file of epoch {@code ep} to
+     * {@code target}.
+     *
+     *@return {@code false} if the epoch hasn't been exported or the lookup
+     * index isn't in its proof file, in which case nothing was transferred.
+     *@throws IOException if the transfer failed, in which case part of
+     * the path may have been transferred.
+     */
+    public static boolean transferTo(byte[] lookupIndex, long ep, WritableByteChannel target)
+        throws IOException {
+        ProofFile proofs = acquire(ep);
+        if (proofs == null) {
+            return false;
+        }
+
+        try {
+            int entry = find(proofs, lookupIndex);
+            if (entry < 0) {
+                return false;
+            }
+
+            int at = HEADER_BYTES+entry*ENTRY_BYTES+Digest.HASH_SIZE_BYTES;
+            long pos = proofs.index.getLong(at);
+            long remaining = proofs.index.getInt(at+8);
+
+            // check the whole path is there before sending any of it
+            if (pos+remaining > proofs.ch.size()) {
+                Logging.error("[ProofExport] Truncated proof file for epoch "+ep);
+                return false;
+            }
+
+            while (remaining > 0) {
+                long n = proofs.ch.transferTo(pos, remaining, target);
+                if (n <= 0) {
+                    throw new IOException("Truncated proof file for epoch "+ep);
+                }
+                pos += n;
+                remaining -= n;
+            }
+            return true;
+        }
+        finally {
+            release(proofs);
+        }
+    }
+
+    // binary searches the index of proofs for lookupIndex,
+    // returns the entry's position or -1 if it isn't there
+    private static int find(ProofFile proofs, byte[] lookupIndex) {
+        if (lookupIndex.length != Digest.HASH_SIZE_BYTES) {
+            return -1;
+        }
+
+        int lo = 0;
+        int hi = proofs.count-1;
+        while (lo <= hi) {
+            int mid = (lo+hi) >>> 1;
+            int cmp = compareIndex(proofs.index, HEADER_BYTES+mid*ENTRY_BYTES, lookupIndex);
+            if (cmp < 0) {
+                lo = mid+1;
+            }
+            else if (cmp > 0) {
+                hi = mid-1;
+            }
+            else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // compares the lookup index at pos in the mapped index
+    // to lookupIndex as unsigned bytes
+    private static int compareIndex(ByteBuffer index, int pos, byte[] lookupIndex) {
+        for (int i = 0; i < lookupIndex.length; i++) {
+            int a = index.get(pos+i) & 0xFF;
+            int b = lookupIndex[i] & 0xFF;
+            if (a != b) {
+                return a-b;
+            }
+        }
+        return 0;
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+  Copyright (c) 2015-16, Princeton University.
+  All rights reserved.
+  
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are 
+  met:
+  * Redistributions of source code must retain the above copyright 
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above 
+  copyright notice, this list of conditions and the following disclaimer 
+  in the documentation and/or other materials provided with the 
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND 
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, 
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF 
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, 
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS 
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY 
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.coniks_server;
+
+import java.io.Serializable;
+
+// coniks-java imports
+import org.coniks.coniks_common.LeafFormat;
+
+/** Represents an interior node in a radix-16 CONIKS Merkle
+ * prefix tree, which branches on the 4-bit digits of the
+ * lookup index rather than on its bits.
+ *<p>
+ * The {@code left} and {@code right} subtrees inherited from
+ * {@link TreeNode} are unused.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class RadixInteriorNode extends TreeNode implements Serializable {
+
+    TreeNode[] children;
+    byte[][] childHashes;
+
+    /** Constructs a radix-16 interior node with the given
+     * parent tree node {@code p} and its level {@code lvl}
+     * within the tree.
+     */
+    public RadixInteriorNode(TreeNode p, int lvl){
+        this.children = new TreeNode[LeafFormat.RADIX16_FANOUT];
+        this.childHashes = new byte[LeafFormat.RADIX16_FANOUT][];
+        this.parent = p;
+        this.level = lvl;
+        this.name = ""; // for debugging
+    }
+
+    /** Gets the subtree under the 4-bit digit {@code digit}.
+     *
+     *@return The subtree as a {@link TreeNode} (it may be {@code null}).
+     */
+    public TreeNode getChild(int digit){
+        return this.children[digit];
+    }
+
+    /** Gets the hash of the subtree under the 4-bit digit {@code digit}.
+     *
+     *@return The hash of the subtree as a {@code byte[]}, which is
+     * {@code null} if the subtree is empty.
+     */
+    public byte[] getChildHash(int digit){
+        return this.childHashes[digit];
+    }
+
+    /** Clones (i.e. duplicates) this interior node with the
+     * given {@code parent} tree node. It then recursively
+     * calls this function on the original interior node's subtrees.
+     *<p>
+     * This function is called as part of the CONIKS Merkle tree
+     * rebuilding process at the beginning of every epoch.
+     *@return The cloned interior node.
+     */
+    public TreeNode clone(TreeNode parent){
+        RadixInteriorNode cloneN = new RadixInteriorNode(parent, this.level);
+        for (int i = 0; i < LeafFormat.RADIX16_FANOUT; i++) {
+            cloneN.childHashes[i] = this.childHashes[i];
+            if (this.children[i] != null)
+                cloneN.children[i] = this.children[i].clone(cloneN);
+        }
+
+        return cloneN;
+    }
+
+} // ends RadixInteriorNode
@@ -37,7 +37,11 @@ import java.net.*;
 import java.io.*;
 import java.util.Arrays;
 import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
 
+import java.security.PublicKey;
 import java.security.interfaces.DSAPublicKey;
 import java.security.interfaces.RSAPublicKey;
 import java.security.interfaces.DSAParams;
@@ -78,6 +82,9 @@ public class RequestHandler extends Thread{
     private Socket clientSocket;
     private long regEpoch;
 
+    // marks a coalesced key lookup for a name that isn't in the directory
+    private static final byte[] NOT_FOUND = new byte[0];
+
     /** Constructor of a RequestHandler
      *
      * @param c the client socket
@@ -106,9 +113,21 @@ public class RequestHandler extends Thread{
             else if (clientMsg instanceof CommitmentReq) {
                 handleCommitmentReqProto((CommitmentReq) clientMsg);
             }
+            else if (clientMsg instanceof CommitmentRangeReq) {
+                handleCommitmentRangeReqProto((CommitmentRangeReq) clientMsg);
+            }
             else if (clientMsg instanceof KeyLookup) {
                 handleKeyLookupProto((KeyLookup) clientMsg);
             }
+            else if (clientMsg instanceof MultiKeyLookup) {
+                handleMultiKeyLookupProto((MultiKeyLookup) clientMsg);
+            }
+            else if (clientMsg instanceof KeyHistoryReq) {
+                handleKeyHistoryReqProto((KeyHistoryReq) clientMsg);
+            }
+            else if (clientMsg instanceof ChangelogReq) {
+                handleChangelogReqProto((ChangelogReq) clientMsg);
+            }
             else if (clientMsg instanceof ULNChangeReq) {
                 // TODO
                 handleULNChangeProto((ULNChangeReq) clientMsg);
@@ -137,7 +156,8 @@ public class RequestHandler extends Thread{
         Logging.log("Handling registration message... ");
 
         // I suppose we want to check the input again just in case
-        if(!reg.hasBlob() || !reg.hasChangeKey() || !reg.hasAllowsUnsignedKeychange()
+        if(!reg.hasBlob() || !(reg.hasChangeKey() || reg.hasEd25519ChangeKey()) ||
+           !reg.hasAllowsUnsignedKeychange()
            || !reg.hasAllowsPublicLookup()){
             Logging.log("req handler: Malformed registration message");
             ServerMessaging.sendSimpleResponseProto(ServerErr.MALFORMED_CLIENT_MSG_ERR,
@@ -145,30 +165,32 @@ public class RequestHandler extends Thread{
             return;
         }
 
-        // want to check first whether the name already
-        // exists in the database before we register, if it does, reply with error
         String name =reg.getName();
-        UserLeafNode uln = DirectoryOps.findUser(name);
 
-        if (uln != null) {
-            Logging.error("Found: "+
-                         Convert.bytesToHex(ServerUtils.unameToIndex(uln.getUsername()))+
-                         "\n"+uln.getUsername()+" found when trying to insert "+name);
-            ServerMessaging.sendSimpleResponseProto(ServerErr.NAME_EXISTS_ERR, clientSocket);
+        // convert the change key back to a Java DSA or Ed25519 public key
+        PublicKey ck = reg.hasEd25519ChangeKey() ?
+            ChangeKeyCache.getEd25519ChangeKey(reg.getEd25519ChangeKey()) :
+            ChangeKeyCache.getChangeKey(reg.getChangeKey());
+
+        if (ck == null) {
+            Logging.log("req handler: Malformed change key in registration message");
+            ServerMessaging.sendSimpleResponseProto(ServerErr.MALFORMED_CLIENT_MSG_ERR,
+                                               clientSocket);
             return;
         }
 
-        this.regEpoch = ServerHistory.nextEpoch();
+        // want to check first whether the name already exists in the
+        // directory or is pending registration, if it does, reply with error
+        if (!DirectoryOps.reserveName(name)) {
+            Logging.error(name+" is already registered or pending registration");
+            ServerMessaging.sendSimpleResponseProto(ServerErr.NAME_EXISTS_ERR, clientSocket);
+            return;
+        }
 
         // If using a DB, insert the new user
 
-        // convert the DSA Key proto back to a Java DSA public key
-        DSAPublicKeyProto ckProto = reg.getChangeKey();
-
-        DSAPublicKey ck = KeyOps.makeDSAPublicKeyFromProto(ckProto);
-
         // we register the user in the pendingQueue
-        DirectoryOps.register(name, reg.getBlob(), ck, reg.getAllowsUnsignedKeychange(),
+        this.regEpoch = DirectoryOps.register(name, reg.getBlob(), ck, reg.getAllowsUnsignedKeychange(),
                               reg.getAllowsPublicLookup());
 
         ServerMessaging.sendRegistrationRespProto(regEpoch,
@@ -195,11 +217,25 @@ public class RequestHandler extends Thread{
         if(commType == CommitmentReq.CommitmentType.SELF){
             SignedTreeRoot str = ServerHistory.getSTR(epoch);
 
-            ServerMessaging.sendCommitmentProto(str, clientSocket);
+            ServerMessaging.sendCommitmentFrame(str, clientSocket);
         }
 
     }
 
+    // streams all commitments in a range of epochs
+    private void handleCommitmentRangeReqProto(CommitmentRangeReq req)
+        throws IOException{
+
+        long curEpoch = ServerHistory.getCurEpoch();
+        long end = req.hasEndEpoch() ? Math.min(req.getEndEpoch(), curEpoch) : curEpoch;
+
+        Logging.log("Getting commitments from epoch "+req.getStartEpoch()+" to "+end+"...");
+
+        ArrayList<SignedTreeRoot> strs = ServerHistory.getSTRRange(req.getStartEpoch(), end);
+
+        ServerMessaging.sendCommitmentRange(strs, clientSocket);
+    }
+
     // retrieves the user leaf node given a specific key lookup
     private void handleKeyLookupProto(KeyLookup lookup)
         throws IOException{
@@ -216,16 +252,180 @@ public class RequestHandler extends Thread{
 
         Logging.log("SHA256 of name: " + Convert.bytesToHex(ServerUtils.unameToIndex(username)));
 
-        RootNode root = ServerHistory.getSTR(epoch).getRoot();
-        UserLeafNode uln = DirectoryOps.findUserInEpoch(username, epoch);
+        SignedTreeRoot str = ServerHistory.getSTR(epoch);
 
-        if(uln == null){
+        // the client already has the mapping if it hasn't changed since,
+        // so it only needs the STR
+        if (lookup.hasSinceEpoch()) {
+            long version = VersionIndex.getVersion(username, str.getEpoch());
+
+            if (version >= 0 && version <= lookup.getSinceEpoch()) {
+                ServerMessaging.sendKeyNotModifiedProto(username, version, str, clientSocket);
+                return;
+            }
+        }
+
+        byte[] index = ServerUtils.unameToIndex(username);
+
+        // the epoch's proof file has every user's path ready to send
+        if (ProofExport.isEnabled() &&
+            ServerMessaging.sendExportedAuthPath(index, str.getEpoch(), clientSocket)) {
+            return;
+        }
+
+        // the auth path only changes when a new STR is published
+        byte[] authPath = AuthPathCache.get(index, str.getEpoch());
+
+        if (authPath == null) {
+            final String uname = username;
+            final byte[] lookupIndex = index;
+            final SignedTreeRoot lookupSTR = str;
+
+            // identical lookups arriving concurrently share a single traversal
+            try {
+                authPath = LookupCoalescer.getAuthPath(new AuthPathCache.Key(index, str.getEpoch()),
+                                                       new Callable<byte[]>() {
+                        public byte[] call() {
+                            // the leaf must come from the same STR as the path
+                            UserLeafNode uln = DirectoryOps.findUserInSTR(uname, lookupSTR);
+
+                            if (uln == null) {
+                                return NOT_FOUND;
+                            }
+
+                            byte[] path = TransparencyOps.generateAuthPathBytes(uln, lookupSTR);
+
+                            if (path != null) {
+                                AuthPathCache.put(lookupIndex, lookupSTR.getEpoch(), path);
+                            }
+                            return path;
+                        }
+                    });
+            }
+            catch (ExecutionException e) {
+                Logging.error("[RequestHandler] "+e.getMessage());
+                authPath = null;
+            }
+            catch (InterruptedException e) {
+                Logging.error("[RequestHandler] "+e.getMessage());
+                authPath = null;
+            }
+
+            if (authPath == NOT_FOUND) {
+                Logging.error(username + " not found...");
+                ServerMessaging.sendSimpleResponseProto(ServerErr.NAME_NOT_FOUND_ERR, clientSocket);
+                return;
+            }
+
+            if (authPath == null) {
+                ServerMessaging.sendSimpleResponseProto(ServerErr.INTERNAL_SERVER_ERR, clientSocket);
+                return;
+            }
+        }
+
+        ServerMessaging.sendAuthPathBytes(authPath, clientSocket);
+    }
+
+    // retrieves the user leaf nodes for all names in a batched key lookup
+    private void handleMultiKeyLookupProto(MultiKeyLookup lookup)
+        throws IOException{
+
+        long epoch = lookup.getEpoch();
+        long curEpoch = ServerHistory.getCurEpoch();
+        if(epoch > curEpoch){
+            epoch = curEpoch;
+        }
+
+        Logging.log("Getting keys for "+lookup.getNameCount()+" names... ");
+
+        // the proof grows with the number of names, so cap it
+        if (lookup.getNameCount() > ServerConfig.getBatchLookupMaxNames()) {
+            Logging.error("Too many names in batched lookup: "+lookup.getNameCount());
+            ServerMessaging.sendSimpleResponseProto(ServerErr.MALFORMED_CLIENT_MSG_ERR, clientSocket);
+            return;
+        }
+
+        SignedTreeRoot str = ServerHistory.getSTR(epoch);
+
+        ArrayList<UserLeafNode> ulns = new ArrayList<UserLeafNode>();
+        ArrayList<String> notFound = new ArrayList<String>();
+
+        for (String username : lookup.getNameList()) {
+            UserLeafNode uln = DirectoryOps.findUserInSTR(username, str);
+
+            if(uln == null){
+                Logging.error(username + " not found...");
+                notFound.add(username);
+            }
+            else {
+                ulns.add(uln);
+            }
+        }
+
+        ServerMessaging.sendMultiAuthPathProto(ulns, notFound, str, clientSocket);
+    }
+
+    // retrieves every version of a user's entry in an epoch range,
+    // each proven in the tree of the epoch in which it was published
+    private void handleKeyHistoryReqProto(KeyHistoryReq req)
+        throws IOException{
+
+        String username = req.getName();
+        long curEpoch = ServerHistory.getCurEpoch();
+        long end = req.hasEndEpoch() ? Math.min(req.getEndEpoch(), curEpoch) : curEpoch;
+
+        long[] epochs = VersionIndex.getVersions(username, req.getStartEpoch(), end);
+
+        Logging.log("Getting key history for "+username+": "+epochs.length+" versions");
+
+        if (epochs.length == 0) {
             Logging.error(username + " not found...");
             ServerMessaging.sendSimpleResponseProto(ServerErr.NAME_NOT_FOUND_ERR, clientSocket);
             return;
         }
 
-        ServerMessaging.sendAuthPathProto(uln, root, clientSocket);
+        byte[] index = ServerUtils.unameToIndex(username);
+        ArrayList<byte[]> authPaths = new ArrayList<byte[]>(epochs.length);
+
+        for (long ep : epochs) {
+            // a version's auth path is the same as a lookup's in its epoch
+            byte[] authPath = AuthPathCache.get(index, ep);
+
+            if (authPath == null) {
+                SignedTreeRoot str = ServerHistory.getSTRForEpoch(ep);
+                UserLeafNode uln = str == null ? null : DirectoryOps.findUserInSTR(username, str);
+
+                if (uln != null) {
+                    authPath = TransparencyOps.generateAuthPathBytes(uln, str);
+                }
+                if (authPath == null) {
+                    ServerMessaging.sendSimpleResponseProto(ServerErr.INTERNAL_SERVER_ERR, clientSocket);
+                    return;
+                }
+                AuthPathCache.put(index, ep, authPath);
+            }
+            authPaths.add(authPath);
+        }
+
+        ServerMessaging.sendKeyHistoryBytes(epochs, authPaths, clientSocket);
+    }
+
+    // streams the lookup indices changed in each epoch of a range
+    // from the changelog
+    private void handleChangelogReqProto(ChangelogReq req)
+        throws IOException{
+
+        if (!ChangeLog.isEnabled()) {
+            Logging.error("Got a changelog request, but the server doesn't keep a changelog "+
+                          "or it has been disabled");
+            ServerMessaging.sendSimpleResponseProto(ServerErr.SERVER_ERR, clientSocket);
+            return;
+        }
+
+        long curEpoch = ServerHistory.getCurEpoch();
+        long end = req.hasEndEpoch() ? Math.min(req.getEndEpoch(), curEpoch) : curEpoch;
+
+        ServerMessaging.sendChangelog(req.getStartEpoch(), end, clientSocket);
     }
 
     /* Helper functions for ULN changes (without sig) */
@@ -233,14 +433,16 @@ public class RequestHandler extends Thread{
     // retrieves the user leaf node given a specific key lookup
     private synchronized void handleULNChangeProto(ULNChangeReq changeReq)
         throws IOException{
-        handleULNChangeProto(changeReq, null);
+        handleULNChangeProto(changeReq, null, null);
     }
 
-    // Handles a proto that might have a sig
-    private synchronized void handleULNChangeProto(ULNChangeReq changeReq, byte[] sig)
+    // Handles a proto that might have a sig, which was already
+    // verified with the change key verifiedKey
+    private synchronized void handleULNChangeProto(ULNChangeReq changeReq, byte[] sig,
+                                                   PublicKey verifiedKey)
         throws IOException{
 
-        if (!changeReq.hasName() || !changeReq.hasNewBlob() || !changeReq.hasNewChangeKey() ||
+        if (!changeReq.hasName() || !changeReq.hasNewBlob() || !(changeReq.hasNewChangeKey() || changeReq.hasNewEd25519ChangeKey()) ||
             !changeReq.hasAllowsUnsignedKeychange() || !changeReq.hasAllowsPublicLookup()) {
             Logging.log("Malformed uln change req");
         }
@@ -266,16 +468,31 @@ public class RequestHandler extends Thread{
         boolean allowsUnsignedKC = changeReq.hasAllowsUnsignedKeychange() ? changeReq.getAllowsUnsignedKeychange() : uln.allowsUnsignedKeychange();
         boolean allowsPublicLookup = changeReq.hasAllowsPublicLookup() ? changeReq.getAllowsPublicLookup() : uln.allowsPublicLookups();
         String newBlob = changeReq.hasNewBlob() ? changeReq.getNewBlob() : uln.getPublicKey();
-        DSAPublicKey newChangeKey = changeReq.hasNewChangeKey() ? KeyOps.makeDSAPublicKeyFromProto(changeReq.getNewChangeKey()) : uln.getChangeKey();
+        PublicKey newChangeKey = uln.getChangeKey();
+        if (changeReq.hasNewEd25519ChangeKey()) {
+            newChangeKey = ChangeKeyCache.getEd25519ChangeKey(changeReq.getNewEd25519ChangeKey());
+        }
+        else if (changeReq.hasNewChangeKey()) {
+            newChangeKey = ChangeKeyCache.getChangeKey(changeReq.getNewChangeKey());
+        }
+
+        if (newChangeKey == null) {
+            Logging.error("Malformed new change key for "+username);
+            ServerMessaging.sendSimpleResponseProto(ServerErr.MALFORMED_CLIENT_MSG_ERR, clientSocket);
+            return;
+        }
 
-        DirectoryOps.mappingChange(username, newBlob, newChangeKey, allowsUnsignedKC, allowsPublicLookup, newBlob.getBytes(), sig);
+        // a signed change keeps the message the signature is on
+        byte[] msg = sig == null ? newBlob.getBytes() : changeReq.toByteArray();
+
+        long changeEpoch = DirectoryOps.mappingChange(username, newBlob, newChangeKey, allowsUnsignedKC, allowsPublicLookup, msg, sig, verifiedKey);
         Logging.log("ulnChange: " + Arrays.toString(changeReq.toByteArray()));
 
         // If using a DB, insert the new user
 
         // Send a registration response so that the client knows when to check
         // that the changes were actually comitted
-        this.regEpoch = ServerHistory.nextEpoch();
+        this.regEpoch = changeEpoch;
 
         ServerMessaging.sendRegistrationRespProto(regEpoch, ServerConfig.getEpochInterval(), clientSocket);
     }
@@ -286,7 +503,7 @@ public class RequestHandler extends Thread{
 
         ULNChangeReq changeReq = signedReq.getReq();
 
-        if (!changeReq.hasName() || !changeReq.hasNewBlob() || !changeReq.hasNewChangeKey() ||
+        if (!changeReq.hasName() || !changeReq.hasNewBlob() || !(changeReq.hasNewChangeKey() || changeReq.hasNewEd25519ChangeKey()) ||
             !changeReq.hasAllowsUnsignedKeychange() || !changeReq.hasAllowsPublicLookup()) {
             Logging.log("Malformed uln change req");
         }
@@ -303,30 +520,40 @@ public class RequestHandler extends Thread{
         }
 
         // verify signature
-        DSAPublicKey publicChangeKey = uln.getChangeKey();
+        final PublicKey publicChangeKey = uln.getChangeKey();
 
         byte[] reqMsg = changeReq.toByteArray();
-        byte[] sig = signedReq.getSig().toByteArray();
-
-        boolean res = false;
-
-        try {
-            res = Signing.dsaVerify(publicChangeKey, reqMsg, sig);
-        }
-        // let's catch the panic here and log it
-        catch (Exception e) {
-            Logging.error("[RequestHandler] "+e.getMessage());
-        }
-
-        if (!res) {
-            Logging.log("Failed to verify message");
-            Logging.log("Failed sig said\n" + Arrays.toString(sig));
-            ServerMessaging.sendSimpleResponseProto(ServerErr.SIGNED_CHANGE_VERIF_ERR, clientSocket);
-            return;
-        }
-
-        // now pass to the unsigned version of the handler
-        handleULNChangeProto(changeReq, sig);
+        final byte[] sig = signedReq.getSig().toByteArray();
+        final ULNChangeReq req = changeReq;
+
+        // hand the verification to the verifier pool so that concurrent
+        // change requests don't all compete for the cores, and finish
+        // the request once it's verified instead of waiting for it here
+        VerificationPool.verifyAsync(publicChangeKey, reqMsg, sig)
+            .whenComplete(new BiConsumer<Boolean, Throwable>() {
+                    public void accept(Boolean res, Throwable ex) {
+                        // let's catch the panic here and log it
+                        if (ex != null) {
+                            Logging.error("[RequestHandler] "+ex.getMessage());
+                        }
+
+                        try {
+                            if (ex != null || !res) {
+                                Logging.log("Failed to verify message");
+                                Logging.log("Failed sig said\n" + Arrays.toString(sig));
+                                ServerMessaging.sendSimpleResponseProto(ServerErr.SIGNED_CHANGE_VERIF_ERR,
+                                                                        clientSocket);
+                                return;
+                            }
+
+                            // now pass to the unsigned version of the handler
+                            handleULNChangeProto(req, sig, publicChangeKey);
+                        }
+                        catch (IOException e) {
+                            Logging.error("Error connecting to client: "+e.getMessage());
+                        }
+                    }
+                });
     }
 
 }
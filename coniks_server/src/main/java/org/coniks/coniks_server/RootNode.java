@@ -33,19 +33,29 @@
 
 package org.coniks.coniks_server;
 
-/** Represents a root node in the binary Merkle
+// coniks-java imports
+import org.coniks.coniks_common.LeafFormat;
+
+/** Represents a root node in the Merkle
  * prefix tree underlying the CONIKS key directory.
+ *<p>
+ * The root of a binary tree keeps its two subtrees in {@code left}
+ * and {@code right}; the root of a radix-16 tree instead keeps
+ * one subtree per 4-bit digit, like a {@link RadixInteriorNode}.
  *
  *@author Marcela S. Melara (melara@cs.princeton.edu)
  *@author Aaron Blankstein
  */
 public class RootNode extends InteriorNode{
 
-    // blanks: at the moment we are going to hard code this as a "binary" trie.
-    /** Specifies the branching factor of the CONIKS Merkle prefix tree.
-     * CONIKS is currently uses a binary tree.
+    /** Specifies the branching factor of the CONIKS Merkle prefix tree,
+     * either 2 or {@link LeafFormat#RADIX16_FANOUT}.
      */
-    public final int digitSize = 2;
+    public final int digitSize;
+
+    // the subtrees and their hashes in radix-16 trees, null otherwise
+    TreeNode[] children;
+    byte[][] childHashes;
 
     /** Constructs a root node specified
      * with left and right subtrees {@code l} and {@code r},
@@ -53,6 +63,7 @@ public class RootNode extends InteriorNode{
      */
     public RootNode(TreeNode l, TreeNode r, int lvl){
         super(l, r, null, lvl, null, null, false);
+        this.digitSize = 2;
     }
 
     /** Constructs a root node specified
@@ -62,6 +73,38 @@ public class RootNode extends InteriorNode{
      */
     public RootNode(TreeNode l, TreeNode r, int lvl, byte[] lh, byte[] rh){
 	super(l, r, null, lvl, lh, rh, false);	
+        this.digitSize = 2;
+    }
+
+    /** Constructs an empty root node of a tree with the
+     * branching factor {@code digitSize}.
+     */
+    public RootNode(int digitSize){
+        super(null, null, null, 0, null, null, false);
+        this.digitSize = digitSize;
+        if (digitSize == LeafFormat.RADIX16_FANOUT) {
+            this.children = new TreeNode[LeafFormat.RADIX16_FANOUT];
+            this.childHashes = new byte[LeafFormat.RADIX16_FANOUT][];
+        }
+    }
+
+    /** Gets the subtree under the 4-bit digit {@code digit}
+     * of a radix-16 tree.
+     *
+     *@return The subtree as a {@link TreeNode} (it may be {@code null}).
+     */
+    public TreeNode getChild(int digit){
+        return this.children[digit];
+    }
+
+    /** Gets the hash of the subtree under the 4-bit digit {@code digit}
+     * of a radix-16 tree.
+     *
+     *@return The hash of the subtree as a {@code byte[]}, which is
+     * {@code null} if the subtree is empty.
+     */
+    public byte[] getChildHash(int digit){
+        return this.childHashes[digit];
     }
 
     /** Sets this root node's left and right subtrees to
@@ -90,6 +133,16 @@ public class RootNode extends InteriorNode{
      *@return The cloned root node.
      */
     public RootNode clone(){
+        if (this.digitSize == LeafFormat.RADIX16_FANOUT) {
+            RootNode cloneN = new RootNode(this.digitSize);
+            for (int i = 0; i < LeafFormat.RADIX16_FANOUT; i++) {
+                cloneN.childHashes[i] = this.childHashes[i];
+                if (this.children[i] != null)
+                    cloneN.children[i] = this.children[i].clone(cloneN);
+            }
+            return cloneN;
+        }
+
         // the epoch will be reset in UserTreeBuilder.
 	RootNode cloneN = new RootNode(null, null, this.level, 
                                        leftHash, rightHash);
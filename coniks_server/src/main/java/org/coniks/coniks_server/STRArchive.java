@@ -0,0 +1,199 @@
+/*
+  Copyright (c) 2015-16, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.coniks_server;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Map;
+import java.util.TreeMap;
+
+// coniks-java imports
+import org.coniks.util.Logging;
+
+/** Implements an append-only archive of the serialized commitments
+ * of all signed tree roots in the server's history.
+ * Once a signed tree root is archived, its in-memory commitment frame
+ * is released and requests for it are served straight from the archive file.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class STRArchive {
+
+    private static FileChannel archive = null;
+
+    // maps each archived epoch to the offset and length of its frame
+    private static TreeMap<Long, long[]> frameIndex = new TreeMap<Long, long[]>();
+
+    private static long archiveSize = 0;
+
+    /** Opens the archive file at {@code path}, discarding any frames left
+     * over from a previous run of the server, since the history is rebuilt
+     * at startup.
+     *
+     *@return whether the archive could be opened.
+     */
+    public static synchronized boolean init(String path) {
+        try {
+            RandomAccessFile f = new RandomAccessFile(new File(path), "rw");
+            f.setLength(0);
+            archive = f.getChannel();
+            archiveSize = 0;
+            frameIndex.clear();
+            return true;
+        }
+        catch (IOException e) {
+            Logging.error("[STRArchive] "+e.getMessage());
+        }
+        return false;
+    }
+
+    /** Indicates whether the server archives its signed tree roots.
+     */
+    public static synchronized boolean isEnabled() {
+        return archive != null;
+    }
+
+    /** Appends the commitment frame of the signed tree root {@code str}
+     * to the archive.
+     *
+     *@return whether the frame was archived.
+     */
+    public static synchronized boolean append(SignedTreeRoot str) {
+        if (archive == null) {
+            return false;
+        }
+
+        ByteBuffer frame = str.getCommitmentFrame();
+        if (frame == null) {
+            return false;
+        }
+
+        long offset = archiveSize;
+        int len = frame.remaining();
+
+        try {
+            while (frame.hasRemaining()) {
+                archive.write(frame, offset+(len-frame.remaining()));
+            }
+        }
+        catch (IOException e) {
+            Logging.error("[STRArchive] "+e.getMessage());
+            return false;
+        }
+
+        archiveSize += len;
+        frameIndex.put(str.getEpoch(), new long[]{offset, len});
+        return true;
+    }
+
+    /** Transfers the archived commitment frame for the epoch {@code ep}
+     * to {@code target}.
+     *
+     *@return {@code false} if no frame was archived for {@code ep}.
+     */
+    public static boolean transferTo(long ep, WritableByteChannel target)
+        throws IOException {
+        FileChannel ch = null;
+        long[] entry = null;
+
+        synchronized (STRArchive.class) {
+            ch = archive;
+            entry = frameIndex.get(ep);
+        }
+
+        if (ch == null || entry == null) {
+            return false;
+        }
+
+        // positional transfers don't affect concurrent appends
+        long pos = entry[0];
+        long remaining = entry[1];
+        while (remaining > 0) {
+            long n = ch.transferTo(pos, remaining, target);
+            if (n <= 0) {
+                throw new IOException("Truncated archive frame for epoch "+ep);
+            }
+            pos += n;
+            remaining -= n;
+        }
+        return true;
+    }
+
+    /** Transfers the archived commitment frames of all epochs from
+     * {@code startEp} to {@code endEp} to {@code target}, oldest first.
+     * Since the frames are archived in order, they are transferred as a
+     * single region of the archive file.
+     *
+     *@return the number of frames that were transferred.
+     */
+    public static int transferTo(long startEp, long endEp, WritableByteChannel target)
+        throws IOException {
+        FileChannel ch = null;
+        long pos = 0;
+        long remaining = 0;
+        int frames = 0;
+
+        synchronized (STRArchive.class) {
+            ch = archive;
+            if (ch == null || startEp > endEp) {
+                return 0;
+            }
+
+            Map.Entry<Long, long[]> first = frameIndex.ceilingEntry(startEp);
+            Map.Entry<Long, long[]> last = frameIndex.floorEntry(endEp);
+            if (first == null || last == null || first.getKey() > last.getKey()) {
+                return 0;
+            }
+
+            pos = first.getValue()[0];
+            remaining = last.getValue()[0]+last.getValue()[1]-pos;
+            frames = frameIndex.subMap(first.getKey(), true, last.getKey(), true).size();
+        }
+
+        while (remaining > 0) {
+            long n = ch.transferTo(pos, remaining, target);
+            if (n <= 0) {
+                throw new IOException("Truncated archive from epoch "+startEp);
+            }
+            pos += n;
+            remaining -= n;
+        }
+        return frames;
+    }
+
+}
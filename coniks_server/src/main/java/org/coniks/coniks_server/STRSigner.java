@@ -0,0 +1,131 @@
+/*
+  Copyright (c) 2015-16, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.coniks_server;
+
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.interfaces.RSAPrivateKey;
+
+// coniks-java imports
+import org.coniks.util.Logging;
+
+/** Signs the STRs of a CONIKS server.
+ * The server's private key is loaded from the keystore only once,
+ * and all signatures are computed with a single, already initialized
+ * {@link Signature} instance, so that publishing a new epoch only waits
+ * for the RSA operation itself. The STRs are signed on the caller's thread,
+ * which is the {@link EpochPipeline}'s sign stage once the server is running.
+ * Current signing algorithm used: RSA with SHA-256.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class STRSigner {
+
+    private static Signature signer = null;
+
+    private static volatile long lastSignNanos = 0;
+
+    /** Loads the server's private key from the keystore.
+     * Must be called before the first STR is generated.
+     *
+     *@return {@code true} if the signer is ready, {@code false} otherwise.
+     */
+    public static synchronized boolean init() {
+        if (signer != null) {
+            return true;
+        }
+
+        RSAPrivateKey key = KeyOps.loadSigningKey();
+
+        if (key == null) {
+            return false;
+        }
+
+        try {
+            // PKCS#1 v1.5 signatures don't need a source of randomness
+            Signature sig = Signature.getInstance("SHA256withRSA");
+            sig.initSign(key);
+            signer = sig;
+        }
+        catch (NoSuchAlgorithmException e) {
+            Logging.error("[STRSigner] "+e.getMessage());
+            return false;
+        }
+        catch (InvalidKeyException e) {
+            Logging.error("[STRSigner] "+e.getMessage());
+            return false;
+        }
+
+        return true;
+    }
+
+    /** Signs the serialized STR {@code strBytesPreSig} for the epoch
+     * {@code ep}.
+     *
+     *@return The {@code byte[]} containing the signature, or {@code null}
+     * in case of an error.
+     */
+    public static synchronized byte[] sign(long ep, byte[] strBytesPreSig) {
+        if (signer == null) {
+            Logging.error("[STRSigner] The signer hasn't been initialized");
+            return null;
+        }
+
+        try {
+            long start = System.nanoTime();
+
+            signer.update(strBytesPreSig);
+            byte[] sig = signer.sign();
+
+            lastSignNanos = System.nanoTime()-start;
+            Logging.log("STRSigner: signed the STR for epoch "+ep+" in "+
+                        (lastSignNanos/1000)+" us");
+            return sig;
+        }
+        catch (SignatureException e) {
+            Logging.error("[STRSigner] "+e.getMessage());
+        }
+        return null;
+    }
+
+    /** Gets the time in nanoseconds it took to compute the latest
+     * STR signature.
+     */
+    public static long getLastSignNanos() {
+        return lastSignNanos;
+    }
+
+}
@@ -35,11 +35,15 @@ package org.coniks.coniks_server;
 
 import java.util.Scanner;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.lang.NumberFormatException;
 import java.io.File;
 import java.io.FileInputStream;
 
 // coniks-java imports
+import org.coniks.coniks_common.LeafFormat;
+import org.coniks.crypto.Digest;
+import org.coniks.crypto.HashFunction;
 import org.coniks.util.Logging;
 
 /** Sets various configuration parameters
@@ -58,6 +62,10 @@ public class ServerConfig{
     private static final int TRUSTSTORE_PATH_IDX = 6;
     private static final int TRUSTSTORE_PWD_IDX = 7;
 
+    /** Optional configs follow the required ones as {@code key=value} lines
+     */
+    private static final String OPTION_PATTERN = "[a-z][a-z0-9_.]*=.*";
+
     /** The port number on which the CONIKS server is listening
      */
     private static int PORT = -1;
@@ -96,6 +104,95 @@ public class ServerConfig{
      */
     private static long STARTUP_TIME = -1;
 
+    /** The optional configs read from the config file, keyed by name.
+     */
+    private static HashMap<String,String> OPTIONS = new HashMap<String,String>();
+
+    /** The maximum total size in bytes of the serialized authentication
+     * paths kept in the {@link AuthPathCache}. 0 disables the cache.
+     */
+    private static long AUTHPATH_CACHE_BYTES = 16 << 20;
+
+    /** Indicates whether the authentication paths of all users changed in an
+     * epoch are cached as soon as the epoch is published.
+     */
+    private static boolean AUTHPATH_CACHE_WARM = false;
+
+    /** The path to the file in which the server archives its STRs.
+     * The server doesn't archive its STRs if this is empty.
+     */
+    private static String STR_ARCHIVE_PATH = "";
+
+    /** The path to the file in which the server logs the lookup indices
+     * changed in each epoch. The server doesn't keep a changelog if this is empty.
+     */
+    private static String CHANGELOG_PATH = "";
+
+    /** The directory to which the server exports the authentication paths
+     * of all users after each epoch. The server doesn't export them if this is empty.
+     */
+    private static String PROOF_EXPORT_DIR = "";
+
+    /** The number of latest epochs whose proof files are kept.
+     */
+    private static long PROOF_EXPORT_EPOCHS = 2;
+
+    /** The maximum number of parsed change keys kept in the {@link ChangeKeyCache}.
+     */
+    private static long CHANGEKEY_CACHE_ENTRIES = 1 << 16;
+
+    /** The {@link LeafFormat} in which tree nodes are serialized for hashing.
+     */
+    private static int LEAF_FORMAT = LeafFormat.V1;
+
+    /** The hash function used to build the directory's Merkle tree
+     * and to chain its STRs.
+     */
+    private static HashFunction HASH_FUNCTION = Digest.getDefaultHashFunction();
+
+    /** The branching factor of the directory's Merkle prefix tree,
+     * either 2 or 16.
+     */
+    private static int TREE_RADIX = 2;
+
+    /** Indicates whether the directory uses a fixed-depth sparse
+     * Merkle tree instead of a Merkle prefix tree.
+     */
+    private static boolean SPARSE_TREE = false;
+
+    /** Indicates whether the trees of past epochs are kept
+     * as {@link FlatTree}s instead of linked nodes.
+     */
+    private static boolean FLAT_TREE = false;
+
+    /** The number of index bits by which each epoch's tree build
+     * is split into concurrently built shards; 0 builds serially.
+     */
+    private static int TREE_SHARD_BITS = 0;
+
+    /** Indicates whether the next epoch's tree is built in the
+     * background as operations arrive, instead of at the end of the epoch.
+     */
+    private static boolean STAGING_TREE = false;
+
+    /** The number of operations assigned to the next epoch after which
+     * it is published right away; 0 always waits for the epoch interval.
+     */
+    private static long EPOCH_TRIGGER_OPS = 0;
+
+    /** The maximum number of operations per epoch; any further operations
+     * are carried over to later epochs. 0 means no limit.
+     */
+    private static long EPOCH_MAX_OPS = 0;
+
+    /** The maximum number of names in a batched key lookup.
+     */
+    private static long BATCH_LOOKUP_MAX_NAMES = 1024;
+
+    /** The largest supported number of shard bits.
+     */
+    private static final int MAX_TREE_SHARD_BITS = 16;
+
     /** Returns the {@code PORT} number at which the server is listening.
      */
     public static int getPort() {
@@ -151,6 +248,123 @@ public class ServerConfig{
         return STARTUP_TIME;
     }
 
+    /** Returns the maximum size {@code AUTHPATH_CACHE_BYTES} of the
+     * authentication path cache in bytes.
+     */
+    public static long getAuthPathCacheBytes() {
+        return AUTHPATH_CACHE_BYTES;
+    }
+
+    /** Returns whether the authentication path cache is warmed
+     * with all changed users when a new epoch is published ({@code AUTHPATH_CACHE_WARM}).
+     */
+    public static boolean isAuthPathCacheWarm() {
+        return AUTHPATH_CACHE_WARM;
+    }
+
+    /** Returns the path to the server's STR archive {@code STR_ARCHIVE_PATH}.
+     */
+    public static String getSTRArchivePath() {
+        return STR_ARCHIVE_PATH;
+    }
+
+    /** Returns the path to the server's changelog {@code CHANGELOG_PATH}.
+     */
+    public static String getChangelogPath() {
+        return CHANGELOG_PATH;
+    }
+
+    /** Returns the directory {@code PROOF_EXPORT_DIR} to which
+     * the server exports its proof files.
+     */
+    public static String getProofExportDir() {
+        return PROOF_EXPORT_DIR;
+    }
+
+    /** Returns the number of latest epochs {@code PROOF_EXPORT_EPOCHS}
+     * whose proof files are kept.
+     */
+    public static long getProofExportEpochs() {
+        return PROOF_EXPORT_EPOCHS;
+    }
+
+    /** Returns the maximum number {@code CHANGEKEY_CACHE_ENTRIES} of
+     * parsed change keys in the change key cache.
+     */
+    public static long getChangeKeyCacheEntries() {
+        return CHANGEKEY_CACHE_ENTRIES;
+    }
+
+    /** Returns the {@link LeafFormat} {@code LEAF_FORMAT} in which
+     * tree nodes are serialized for hashing.
+     */
+    public static int getLeafFormat() {
+        return LEAF_FORMAT;
+    }
+
+    /** Returns the {@link HashFunction} {@code HASH_FUNCTION} used to
+     * build the directory's Merkle tree and to chain its STRs.
+     */
+    public static HashFunction getHashFunction() {
+        return HASH_FUNCTION;
+    }
+
+    /** Returns the branching factor {@code TREE_RADIX} of the
+     * directory's Merkle prefix tree.
+     */
+    public static int getTreeRadix() {
+        return TREE_RADIX;
+    }
+
+    /** Returns whether the directory uses a fixed-depth sparse
+     * Merkle tree {@code SPARSE_TREE}.
+     */
+    public static boolean isSparseTree() {
+        return SPARSE_TREE;
+    }
+
+    /** Returns whether the trees of past epochs are kept as
+     * flat trees {@code FLAT_TREE}.
+     */
+    public static boolean isFlatTree() {
+        return FLAT_TREE;
+    }
+
+    /** Returns the number of index bits {@code TREE_SHARD_BITS}
+     * by which each epoch's tree build is sharded.
+     */
+    public static int getTreeShardBits() {
+        return TREE_SHARD_BITS;
+    }
+
+    /** Returns the number of operations {@code EPOCH_TRIGGER_OPS}
+     * after which an epoch is published before its time.
+     */
+    public static long getEpochTriggerOps() {
+        return EPOCH_TRIGGER_OPS;
+    }
+
+    /** Returns the maximum number of operations {@code EPOCH_MAX_OPS}
+     * per epoch.
+     */
+    public static long getEpochMaxOps() {
+        return EPOCH_MAX_OPS;
+    }
+
+    /** Returns the maximum number of names {@code BATCH_LOOKUP_MAX_NAMES}
+     * in a batched key lookup.
+     */
+    public static long getBatchLookupMaxNames() {
+        return BATCH_LOOKUP_MAX_NAMES;
+    }
+
+    /** Returns whether the next epoch's tree is built in the
+     * background {@code STAGING_TREE}.
+     */
+    public static boolean isStagingTree() {
+        return STAGING_TREE;
+    }
+
     // no public setters since we don't want to change the config once its set
 
     /** Set a {@link ConiksServer}'s configuration according to the parameters in
@@ -192,6 +406,84 @@ public class ServerConfig{
                 TRUSTSTORE_PWD = configs.get(TRUSTSTORE_PWD_IDX);
             }
 
+            // the optional configs may come in any order after the required ones
+            int firstOptionIdx = isFullOp ? TRUSTSTORE_PWD_IDX+1 : KEYSTORE_PWD_IDX+1;
+            for (int i = firstOptionIdx; i < configs.size(); i++) {
+                String line = configs.get(i).trim();
+
+                // skips the unused truststore configs in testing mode
+                if (!line.matches(OPTION_PATTERN)) {
+                    continue;
+                }
+
+                int sep = line.indexOf('=');
+                OPTIONS.put(line.substring(0, sep), line.substring(sep+1).trim());
+            }
+
+            AUTHPATH_CACHE_BYTES = getLongOption("authpath.cache.bytes", AUTHPATH_CACHE_BYTES);
+            AUTHPATH_CACHE_WARM = getBooleanOption("authpath.cache.warm", AUTHPATH_CACHE_WARM);
+            STR_ARCHIVE_PATH = getStringOption("str.archive", STR_ARCHIVE_PATH);
+            CHANGELOG_PATH = getStringOption("changelog", CHANGELOG_PATH);
+            PROOF_EXPORT_DIR = getStringOption("proof.export.dir", PROOF_EXPORT_DIR);
+            PROOF_EXPORT_EPOCHS = getLongOption("proof.export.epochs", PROOF_EXPORT_EPOCHS);
+            CHANGEKEY_CACHE_ENTRIES = getLongOption("changekey.cache.entries", CHANGEKEY_CACHE_ENTRIES);
+            LEAF_FORMAT = (int)getLongOption("leaf.format", LEAF_FORMAT);
+            HASH_FUNCTION = Digest.getHashFunction(getStringOption("hash.algorithm",
+                                                                   HASH_FUNCTION.getName()));
+            TREE_RADIX = (int)getLongOption("tree.radix", TREE_RADIX);
+            SPARSE_TREE = getBooleanOption("tree.sparse", SPARSE_TREE);
+            FLAT_TREE = getBooleanOption("tree.flat", FLAT_TREE);
+            TREE_SHARD_BITS = (int)getLongOption("tree.shard.bits", TREE_SHARD_BITS);
+            STAGING_TREE = getBooleanOption("tree.staging", STAGING_TREE);
+            EPOCH_TRIGGER_OPS = getLongOption("epoch.trigger.ops", EPOCH_TRIGGER_OPS);
+            EPOCH_MAX_OPS = getLongOption("epoch.max.ops", EPOCH_MAX_OPS);
+            BATCH_LOOKUP_MAX_NAMES = getLongOption("lookup.batch.max", BATCH_LOOKUP_MAX_NAMES);
+
+            if (!LeafFormat.isSupported(LEAF_FORMAT)) {
+                Logging.error("ServerConfig: Unsupported leaf format "+LEAF_FORMAT);
+                return false;
+            }
+
+            if (TREE_RADIX != 2 && TREE_RADIX != LeafFormat.RADIX16_FANOUT) {
+                Logging.error("ServerConfig: Unsupported tree radix "+TREE_RADIX);
+                return false;
+            }
+
+            if (SPARSE_TREE && TREE_RADIX != 2) {
+                Logging.error("ServerConfig: Sparse trees are always binary");
+                return false;
+            }
+
+            if (FLAT_TREE && (SPARSE_TREE || TREE_RADIX != 2)) {
+                Logging.error("ServerConfig: Only binary prefix trees can be flat");
+                return false;
+            }
+
+            if (EPOCH_TRIGGER_OPS < 0 || EPOCH_MAX_OPS < 0) {
+                Logging.error("ServerConfig: Epoch operation limits can't be negative");
+                return false;
+            }
+
+            if (BATCH_LOOKUP_MAX_NAMES < 1) {
+                Logging.error("ServerConfig: Batched lookups must allow at least one name");
+                return false;
+            }
+
+            if (PROOF_EXPORT_EPOCHS < 1) {
+                Logging.error("ServerConfig: At least one epoch's proof file must be kept");
+                return false;
+            }
+
+            if (TREE_SHARD_BITS < 0 || TREE_SHARD_BITS > MAX_TREE_SHARD_BITS) {
+                Logging.error("ServerConfig: Unsupported number of shard bits "+TREE_SHARD_BITS);
+                return false;
+            }
+
+            if (TREE_SHARD_BITS > 0 && (SPARSE_TREE || TREE_RADIX != 2)) {
+                Logging.error("ServerConfig: Only binary prefix trees can be built in shards");
+                return false;
+            }
+
             // this is always going to be set to the current time
             STARTUP_TIME = System.currentTimeMillis();
 
@@ -204,4 +496,22 @@ public class ServerConfig{
         return false;
     }
 
+    // returns the optional config name, or defaultVal if it isn't set
+    private static String getStringOption(String name, String defaultVal) {
+        String val = OPTIONS.get(name);
+        return val == null ? defaultVal : val;
+    }
+
+    // returns the optional config name as a long, or defaultVal if it isn't set
+    private static long getLongOption(String name, long defaultVal) {
+        String val = OPTIONS.get(name);
+        return val == null ? defaultVal : Long.parseLong(val);
+    }
+
+    // returns the optional config name as a boolean, or defaultVal if it isn't set
+    private static boolean getBooleanOption(String name, boolean defaultVal) {
+        String val = OPTIONS.get(name);
+        return val == null ? defaultVal : Boolean.parseBoolean(val);
+    }
+
 }
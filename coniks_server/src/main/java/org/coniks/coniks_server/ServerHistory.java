@@ -33,6 +33,9 @@
 
 package org.coniks.coniks_server;
 
+import java.util.ArrayList;
+import java.util.Collections;
+
 // coniks-java imports
 import org.coniks.util.Logging;
 
@@ -76,11 +79,18 @@ public class ServerHistory {
             return false;
         }
 
+        if (ServerConfig.isFlatTree()) {
+            curSTR.flatten();
+        }
+
+        STRArchive.append(curSTR);
+        ChangeLog.append(curSTR);
+
         return true;
     }
 
     /** Inserts the signed tree root for the next epoch at the head
-    * of the history hash chain.
+    * of the history hash chain, after appending it to the STR archive.
     * Ensures that the epochs are monotonically increasing and at least
     * EPOCH_INTERVAL apart.
     *
@@ -88,20 +98,40 @@ public class ServerHistory {
     *@return true if the STR is valid, false otherwise
     */
     public static synchronized boolean updateHistory(SignedTreeRoot newSTR) {
-
-        // sanity check the input
-        if (newSTR == null) {
-            Logging.error("Got null STR");
+        if (!checkNextSTR(newSTR)) {
             return false;
         }
+        return updateHistory(newSTR, STRArchive.append(newSTR));
+    }
 
-        if (newSTR.getEpoch() < nextEpoch()) {
-            Logging.error("Next epoch's STR has bad epoch");
+    /** Inserts the signed tree root for the next epoch at the head
+    * of the history hash chain. Ensures that the epochs are monotonically
+    * increasing and at least EPOCH_INTERVAL apart.
+    *
+    *@param newSTR the signed tree root for the next epoch.
+    *@param archived whether {@code newSTR} has already been appended
+    * to the STR archive.
+    *@return true if the STR is valid, false otherwise
+    */
+    public static synchronized boolean updateHistory(SignedTreeRoot newSTR,
+                                                     boolean archived) {
+        if (!checkNextSTR(newSTR)) {
             return false;
         }
 
         // Do we want to do some signature verification here?
 
+        // the next tree has already been copied from the current one,
+        // so only the new STR needs its full tree from here on
+        if (ServerConfig.isFlatTree() && newSTR.flatten() && curSTR != null) {
+            curSTR.releaseRoot();
+        }
+
+        // once archived, the previous STR's commitment is served from the archive
+        if (archived && curSTR != null) {
+            curSTR.releaseCommitmentFrame();
+        }
+
         // reassign pointers
         curSTR = newSTR;
 
@@ -113,17 +143,50 @@ public class ServerHistory {
         return true;
     }
 
+    // sanity checks the STR for the next epoch
+    private static boolean checkNextSTR(SignedTreeRoot newSTR) {
+        if (newSTR == null) {
+            Logging.error("Got null STR");
+            return false;
+        }
+
+        if (newSTR.getEpoch() < nextEpoch()) {
+            Logging.error("Next epoch's STR has bad epoch");
+            return false;
+        }
+        return true;
+    }
+
     /** Retrieves the signed tree root for epoch {@code ep} from the linked
-     * list representing the history.
+     * list representing the history. If no signed tree root has exactly
+     * this epoch, {@code ep} is taken as a point in time, and the latest
+     * signed tree root visible at that time is returned instead; see
+     * {@link #getSTRAtTime(long)}.
      *
      *@return The signed tree root for epoch {@code ep}.
      *@throws An {@code UnsupportedOperationException} in case the
      * head of the list is reached before the requested signed tree root is found.
      */
     public static synchronized SignedTreeRoot getSTR(long ep){
+        SignedTreeRoot str = getSTRForEpoch(ep);
+        if (str != null) {
+            return str;
+        }
+        return getSTRAtTime(ep);
+    }
+
+    /** Retrieves the latest signed tree root that was visible at time
+     * {@code t}. Epochs that were published before their time are already
+     * returned for any {@code t} after they were published.
+     *
+     *@return The latest signed tree root published by time {@code t}.
+     *@throws An {@code UnsupportedOperationException} in case the
+     * head of the list is reached before the requested signed tree root is found.
+     */
+    public static synchronized SignedTreeRoot getSTRAtTime(long t){
         SignedTreeRoot runner = curSTR;
 
-        while(runner.getEpoch() > ep && runner != null){
+        while(runner.getPublishedTime() > t){
                 // need to check if we reached the head of the list
                 if (runner.getPrev() == null) {
                     throw new UnsupportedOperationException("reached the head of the list!");
@@ -136,6 +199,46 @@ public class ServerHistory {
         return runner;
     }
 
+    /** Retrieves the signed tree root whose epoch is exactly {@code ep},
+     * regardless of when it was published.
+     *
+     *@return The signed tree root for epoch {@code ep}, or {@code null}
+     * if there is none.
+     */
+    public static synchronized SignedTreeRoot getSTRForEpoch(long ep){
+        SignedTreeRoot runner = curSTR;
+
+        while (runner != null && runner.getEpoch() > ep) {
+            runner = runner.getPrev();
+        }
+
+        if (runner == null || runner.getEpoch() != ep) {
+            return null;
+        }
+        return runner;
+    }
+
+    /** Retrieves all signed tree roots whose epochs are from {@code start}
+     * to {@code end}.
+     *
+     *@return The signed tree roots in increasing epoch order, which is
+     * empty if there are none in the range.
+     */
+    public static synchronized ArrayList<SignedTreeRoot> getSTRRange(long start, long end){
+        ArrayList<SignedTreeRoot> strs = new ArrayList<SignedTreeRoot>();
+        SignedTreeRoot runner = curSTR;
+
+        while (runner != null && runner.getEpoch() >= start) {
+            if (runner.getEpoch() <= end) {
+                strs.add(runner);
+            }
+            runner = runner.getPrev();
+        }
+
+        Collections.reverse(strs);
+        return strs;
+    }
+
     /** Gets the current signed tree root in the server's history. This is
      * used to synchronize between threads.
      *
@@ -36,11 +36,14 @@ package org.coniks.coniks_server;
 import javax.net.ssl.*;
 import java.net.*;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
-import java.security.NoSuchAlgorithmException;
 
 import com.google.protobuf.AbstractMessage;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
 import org.javatuples.*;
 
@@ -86,6 +89,128 @@ public class ServerMessaging {
         sendMsgProto(MsgType.COMMITMENT, comm, socket);
     }
 
+    /** Sends the pre-serialized commitment for the signed tree root {@code str}
+     * returned for a client's signed tree root request. The commitment is read
+     * from the {@link STRArchive} if it is no longer kept in memory.
+     *
+     *@param str the signed tree root to send
+     *@param socket the client socket to which to send the message
+     */
+    public static void sendCommitmentFrame(SignedTreeRoot str, Socket socket){
+        Logging.log("Sending serialized commitment response... ");
+
+        ByteBuffer frame = str.getCommitmentFrame();
+
+        OutputStream out = null;
+        try {
+            out = socket.getOutputStream();
+
+            // sockets accepted by a plain ServerSocket don't have a channel
+            WritableByteChannel ch = socket.getChannel() != null ?
+                socket.getChannel() : Channels.newChannel(out);
+
+            if (frame != null) {
+                while (frame.hasRemaining()) {
+                    ch.write(frame);
+                }
+            }
+            else if (!STRArchive.transferTo(str.getEpoch(), ch)) {
+                Logging.error("No commitment frame for epoch "+str.getEpoch());
+            }
+            out.flush();
+        }
+        catch (IOException e) {
+            Logging.error("Sending commitment for epoch "+str.getEpoch());
+            Logging.error("Error: "+e.getMessage());
+        }
+        finally {
+            CommonMessaging.close(out);
+        }
+    }
+
+    /** Streams the logged changes of every epoch from {@code startEp}
+     * to {@code endEp} to the given socket as one EpochChanges message per
+     * epoch, oldest first, straight from the {@link ChangeLog}.
+     * The end of the stream is marked by closing the connection.
+     *
+     *@param socket the client socket to which to send the messages
+     */
+    public static void sendChangelog(long startEp, long endEp, Socket socket){
+        OutputStream out = null;
+        try {
+            out = socket.getOutputStream();
+
+            // sockets accepted by a plain ServerSocket don't have a channel
+            WritableByteChannel ch = socket.getChannel() != null ?
+                socket.getChannel() : Channels.newChannel(out);
+
+            int epochs = ChangeLog.transferTo(startEp, endEp, ch);
+            Logging.log("Sent the changes of "+epochs+" epochs from "+startEp+" to "+endEp);
+            out.flush();
+        }
+        catch (IOException e) {
+            Logging.error("Sending changelog from epoch "+startEp);
+            Logging.error("Error: "+e.getMessage());
+        }
+        finally {
+            CommonMessaging.close(out);
+        }
+    }
+
+    /** Streams the commitments for the signed tree roots {@code strs}
+     * to the given socket, in order. Commitments that are only kept in the
+     * {@link STRArchive} are transferred straight from the archive file,
+     * each run of consecutive archived commitments at once.
+     * The end of the stream is marked by closing the connection.
+     *
+     *@param strs the signed tree roots to send, oldest first
+     *@param socket the client socket to which to send the messages
+     */
+    public static void sendCommitmentRange(ArrayList<SignedTreeRoot> strs, Socket socket){
+        OutputStream out = null;
+        try {
+            // many small frames are written back to back, so buffer them
+            out = new BufferedOutputStream(socket.getOutputStream(), 1 << 16);
+
+            // sockets accepted by a plain ServerSocket don't have a channel
+            WritableByteChannel ch = socket.getChannel() != null ?
+                socket.getChannel() : Channels.newChannel(out);
+
+            int i = 0;
+            while (i < strs.size()) {
+                ByteBuffer frame = strs.get(i).getCommitmentFrame();
+
+                if (frame != null) {
+                    while (frame.hasRemaining()) {
+                        ch.write(frame);
+                    }
+                    i++;
+                    continue;
+                }
+
+                int last = i;
+                while (last+1 < strs.size() && strs.get(last+1).getCommitmentFrame() == null) {
+                    last++;
+                }
+
+                long first = strs.get(i).getEpoch();
+                if (STRArchive.transferTo(first, strs.get(last).getEpoch(), ch) != last-i+1) {
+                    Logging.error("Missing archived commitments from epoch "+first);
+                }
+                i = last+1;
+            }
+            out.flush();
+            Logging.log("Sent "+strs.size()+" commitments");
+        }
+        catch (IOException e) {
+            Logging.error("Sending commitment range");
+            Logging.error("Error: "+e.getMessage());
+        }
+        finally {
+            CommonMessaging.close(out);
+        }
+    }
+
     /** Sends a basic registration response protobuf for a new name-to-key mapping
      * registration.
      *@param regEpoch the epoch at which the mapping will be registered in the directory
@@ -100,17 +225,194 @@ public class ServerMessaging {
         sendMsgProto(MsgType.REGISTRATION_RESP, regResp, socket);
     }
 
-    /** Sends the authentication path protobuf returned for a client's key lookup.
+    /** Sends the already serialized authentication path protobuf {@code authPath}
+     * returned for a client's key lookup.
+     *
+     *@param authPath the serialized authentication path
+     *@param socket the client socket to which to send the message
+     */
+    public static void sendAuthPathBytes(byte[] authPath, Socket socket){
+        Logging.log("Sending serialized authentication path response... ");
+
+        sendMsgBytes(MsgType.AUTH_PATH, authPath, socket);
+    }
+
+    /** Sends the authentication path for the lookup index {@code index}
+     * in epoch {@code ep} straight from the epoch's exported proof file.
+     *
+     *@param socket the client socket to which to send the message
+     *@return {@code false} if the path isn't in an exported proof file,
+     * in which case nothing was sent.
+     *@throws IOException if sending the path failed part of the way,
+     * in which case the connection is closed so the client doesn't
+     * mistake what it got for the whole path.
+     */
+    public static boolean sendExportedAuthPath(byte[] index, long ep, Socket socket)
+        throws IOException {
+        OutputStream out = socket.getOutputStream();
+
+        // sockets accepted by a plain ServerSocket don't have a channel
+        WritableByteChannel ch = socket.getChannel() != null ?
+            socket.getChannel() : Channels.newChannel(out);
+
+        boolean sent = false;
+        try {
+            sent = ProofExport.transferTo(index, ep, ch);
+            if (sent) {
+                out.flush();
+                Logging.log("Sent exported authentication path for epoch "+ep);
+            }
+        }
+        catch (IOException e) {
+            Logging.error("Sending exported authentication path for epoch "+ep);
+            CommonMessaging.close(out);
+            throw e;
+        }
+
+        // the lookup is answered from the tree otherwise
+        if (sent) {
+            CommonMessaging.close(out);
+        }
+        return sent;
+    }
+
+    /** Sends the KeyNotModified protobuf returned for a client's conditional
+     * key lookup if {@code username}'s mapping hasn't changed since the
+     * epoch given in the lookup. The commitment is copied from the signed
+     * tree root's pre-serialized commitment instead of being rebuilt.
+     *
+     *@param epochChanged the epoch in which the mapping was last changed
+     *@param str the signed tree root of the looked up epoch
+     *@param socket the client socket to which to send the message
+     */
+    public static void sendKeyNotModifiedProto(String username, long epochChanged,
+                                               SignedTreeRoot str, Socket socket){
+        Logging.log("Sending not modified response... ");
+
+        byte[] comm = getCommitmentBytes(str);
+        if (comm == null) {
+            sendSimpleResponseProto(ServerErr.INTERNAL_SERVER_ERR, socket);
+            return;
+        }
+
+        // the embedded commitment is encoded just like a bytes field
+        int len = CodedOutputStream.computeStringSize(KeyNotModified.NAME_FIELD_NUMBER, username)+
+            CodedOutputStream.computeUInt64Size(KeyNotModified.EPOCH_CHANGED_FIELD_NUMBER, epochChanged)+
+            CodedOutputStream.computeByteArraySize(KeyNotModified.COMMITMENT_FIELD_NUMBER, comm);
+
+        byte[] msg = new byte[len];
+        try {
+            CodedOutputStream cout = CodedOutputStream.newInstance(msg);
+            cout.writeString(KeyNotModified.NAME_FIELD_NUMBER, username);
+            cout.writeUInt64(KeyNotModified.EPOCH_CHANGED_FIELD_NUMBER, epochChanged);
+            cout.writeByteArray(KeyNotModified.COMMITMENT_FIELD_NUMBER, comm);
+            cout.checkNoSpaceLeft();
+        }
+        catch (IOException e) {
+            Logging.error("[ServerMessaging] "+e.getMessage());
+            sendSimpleResponseProto(ServerErr.INTERNAL_SERVER_ERR, socket);
+            return;
+        }
+
+        sendMsgBytes(MsgType.NOT_MODIFIED, msg, socket);
+    }
+
+    // returns the serialized commitment for the signed tree root str, taken
+    // from its pre-serialized commitment frame (in memory or in the STRArchive),
+    // or null in case of an error
+    private static byte[] getCommitmentBytes(SignedTreeRoot str) {
+        ByteBuffer frame = str.getCommitmentFrame();
+
+        if (frame == null) {
+            ByteArrayOutputStream archived = new ByteArrayOutputStream();
+            try {
+                if (STRArchive.transferTo(str.getEpoch(), Channels.newChannel(archived))) {
+                    frame = ByteBuffer.wrap(archived.toByteArray());
+                }
+            }
+            catch (IOException e) {
+                Logging.error("[ServerMessaging] "+e.getMessage());
+            }
+        }
+
+        if (frame == null) {
+            Commitment comm = buildCommitmentMsg(str);
+            return comm == null ? null : comm.toByteArray();
+        }
+
+        // skip the message type and the varint length preceding the commitment
+        frame.get();
+        while ((frame.get() & 0x80) != 0);
+
+        byte[] comm = new byte[frame.remaining()];
+        frame.get(comm);
+        return comm;
+    }
+
+    /** Sends the compressed authentication path protobuf returned for a client's
+     * batched key lookup.
      *
-     *@param uln the key directory entry for which to send the authentication path
-     *@param root the key directory root for the authentication path
+     *@param ulns the key directory entries for which to send the authentication path
+     *@param notFound the requested names that aren't in the key directory
+     *@param str the signed tree root committing to the key directory
      *@param socket the client socket to which to send the message
      */
-    public static synchronized void sendAuthPathProto(UserLeafNode uln, RootNode root, Socket socket){
-        Logging.log("Sending authentication path response... ");
+    public static void sendMultiAuthPathProto(ArrayList<UserLeafNode> ulns,
+                                              ArrayList<String> notFound,
+                                              SignedTreeRoot str, Socket socket){
+        Logging.log("Sending multi authentication path response... ");
+
+        MultiAuthPath multiPath = TransparencyOps.generateMultiAuthPathProto(ulns, notFound,
+                                                                             str);
 
-        AuthPath authPath = buildAuthPathMsg(uln, root);
-        sendMsgProto(MsgType.AUTH_PATH, authPath, socket);
+        if (multiPath == null) {
+            sendSimpleResponseProto(ServerErr.INTERNAL_SERVER_ERR, socket);
+            return;
+        }
+
+        sendMsgProto(MsgType.MULTI_AUTH_PATH, multiPath, socket);
+    }
+
+    /** Sends the key history returned for a client's key history request.
+     * The serialized authentication paths are copied into the message
+     * as they are, since an embedded message is encoded just like a
+     * bytes field.
+     *
+     *@param epochs the epochs of the versions in the key history
+     *@param authPaths the serialized authentication path of each version
+     * in the tree of its epoch
+     *@param socket the client socket to which to send the message
+     */
+    public static void sendKeyHistoryBytes(long[] epochs, ArrayList<byte[]> authPaths,
+                                           Socket socket){
+        Logging.log("Sending key history response... ");
+
+        int len = 0;
+        for (byte[] path : authPaths) {
+            len += CodedOutputStream.computeByteArraySize(KeyHistory.VERSION_FIELD_NUMBER, path);
+        }
+        for (long ep : epochs) {
+            len += CodedOutputStream.computeUInt64Size(KeyHistory.EPOCH_FIELD_NUMBER, ep);
+        }
+
+        byte[] msg = new byte[len];
+        try {
+            CodedOutputStream cout = CodedOutputStream.newInstance(msg);
+            for (byte[] path : authPaths) {
+                cout.writeByteArray(KeyHistory.VERSION_FIELD_NUMBER, path);
+            }
+            for (long ep : epochs) {
+                cout.writeUInt64(KeyHistory.EPOCH_FIELD_NUMBER, ep);
+            }
+            cout.checkNoSpaceLeft();
+        }
+        catch (IOException e) {
+            Logging.error("[ServerMessaging] "+e.getMessage());
+            sendSimpleResponseProto(ServerErr.INTERNAL_SERVER_ERR, socket);
+            return;
+        }
+
+        sendMsgBytes(MsgType.KEY_HISTORY, msg, socket);
     }
 
     /** Sends any protobuf message {@code msg} of type {@code msgType}
@@ -138,6 +440,37 @@ public class ServerMessaging {
 
     }
 
+    /** Sends the serialized protobuf message {@code msg} of type {@code msgType}
+     * to the given socket, using the same framing as
+     * {@link ServerMessaging#sendMsgProto}.
+     */
+    private static void sendMsgBytes (int msgType, byte[] msg, Socket socket) {
+
+        DataOutputStream dout = null;
+        try {
+            dout = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+            // the message is preceded by its type and its varint-encoded length
+            dout.writeByte(msgType);
+            int len = msg.length;
+            while ((len & ~0x7F) != 0) {
+                dout.writeByte((len & 0x7F) | 0x80);
+                len >>>= 7;
+            }
+            dout.writeByte(len);
+            dout.write(msg);
+            dout.flush();
+        }
+        catch (IOException e) {
+            Logging.error("Sending msg bytes of type "+msgType);
+            Logging.error("Error: "+e.getMessage());
+        }
+        finally {
+            CommonMessaging.close(dout);
+        }
+
+    }
+
     /* Message building functions */
 
     // create the simple server response message
@@ -170,16 +503,8 @@ public class ServerMessaging {
     private static synchronized Commitment buildCommitmentMsg(SignedTreeRoot str){
 
         Commitment.Builder commMsg = Commitment.newBuilder();
-        byte[] rootBytes = ServerUtils.getRootNodeBytes(str.getRoot());
-        byte[] rootHashBytes = null;
-
-        try {
-            rootHashBytes = Digest.digest(rootBytes);
-        }
-        catch(NoSuchAlgorithmException e) {
-            Logging.error("[ServerMessagging] "+e.getMessage());
-            return null;
-        }
+        byte[] rootBytes = str.getRootNodeBytes();
+        byte[] rootHashBytes = str.getHashFunction().digest(rootBytes);
 
         Hash.Builder rootHash = Hash.newBuilder();
         if(rootHashBytes.length != Digest.HASH_SIZE_BYTES){
@@ -191,9 +516,63 @@ public class ServerMessaging {
         commMsg.setEpoch(str.getEpoch());
         commMsg.setRootHash(rootHash.build());
         commMsg.setSignature(ByteString.copyFrom(str.getSignature()));
+        if (!Digest.HASH_ID.equals(str.getHashFunction().getName())) {
+            commMsg.setHashAlgorithm(str.getHashFunction().getName());
+        }
+
+        // clients take the shape of the tree from the STR, not from the leaves
+        if (ServerConfig.getLeafFormat() != LeafFormat.V1) {
+            commMsg.setLeafFormat(ServerConfig.getLeafFormat());
+        }
+        if (ServerConfig.getTreeRadix() != 2) {
+            commMsg.setTreeRadix(ServerConfig.getTreeRadix());
+        }
+        if (ServerConfig.isSparseTree()) {
+            commMsg.setSparseTree(true);
+        }
+
+        // auditors need all the hashed parts of the STR to follow the chain
+        byte[] prevStrHash = str.getPrevSTRHash();
+        Hash.Builder prevHash = Hash.newBuilder();
+        prevHash.setLen(prevStrHash.length);
+        prevHash.setHash(ByteString.copyFrom(prevStrHash));
+        commMsg.setPrevEpoch(str.getPrevEpoch());
+        commMsg.setPrevStrHash(prevHash.build());
+        commMsg.setRootNode(ByteString.copyFrom(rootBytes));
         return commMsg.build();
     }
 
+    /** Serializes the commitment for the signed tree root {@code str}
+     * into a frame ready to be sent to clients: the message type,
+     * the varint-encoded length of the message and the message itself.
+     *
+     *@return The framed commitment message, or {@code null} in case of an error.
+     */
+    public static byte[] buildCommitmentFrame(SignedTreeRoot str){
+        Commitment comm = buildCommitmentMsg(str);
+
+        if (comm == null) {
+            return null;
+        }
+
+        int len = comm.getSerializedSize();
+        byte[] frame = new byte[1+CodedOutputStream.computeRawVarint32Size(len)+len];
+
+        try {
+            CodedOutputStream cout = CodedOutputStream.newInstance(frame);
+            cout.writeRawByte(MsgType.COMMITMENT);
+            cout.writeRawVarint32(len);
+            comm.writeTo(cout);
+            cout.checkNoSpaceLeft();
+        }
+        catch (IOException e) {
+            Logging.error("[ServerMessaging] "+e.getMessage());
+            return null;
+        }
+
+        return frame;
+    }
+
     // create the registration response message
     private static synchronized RegistrationResp buildRegistrationRespMsg(long initEpoch, int epochInterval){
 
@@ -203,11 +582,6 @@ public class ServerMessaging {
         return regRespMsg.build();
     }
 
-    // create the commitment response message
-    private static synchronized AuthPath buildAuthPathMsg(UserLeafNode uln, RootNode root){
-        return TransparencyOps.generateAuthPathProto(uln, root);
-    }
-
     /** Receives a protobuf message from the client and checks that
      * the message is correctly formatted for the expected message type.
      * The caller is responsible for handling the exact message type(s).
@@ -228,7 +602,7 @@ public class ServerMessaging {
             if (msgType == MsgType.REGISTRATION){
                 Registration reg = Registration.parseDelimitedFrom(din);
 
-                if(!reg.hasBlob() || !reg.hasChangeKey() || !reg.hasAllowsUnsignedKeychange()
+                if(!reg.hasBlob() || !(reg.hasChangeKey() || reg.hasEd25519ChangeKey()) || !reg.hasAllowsUnsignedKeychange()
                    || !reg.hasAllowsPublicLookup()) {
                     Logging.log("Malformed registration message");
                 }
@@ -247,6 +621,47 @@ public class ServerMessaging {
                     return lookup;
                 }
             }
+            else if (msgType == MsgType.MULTI_KEY_LOOKUP) {
+                MultiKeyLookup lookup = MultiKeyLookup.parseDelimitedFrom(din);
+
+                if(lookup.getNameCount() == 0 || !lookup.hasEpoch() ||
+                   lookup.getEpoch() <= 0){
+                    Logging.log("Malformed multi key lookup");
+                }
+                else {
+                    return lookup;
+                }
+            }
+            else if (msgType == MsgType.KEY_HISTORY_REQ) {
+                KeyHistoryReq req = KeyHistoryReq.parseDelimitedFrom(din);
+
+                if(!req.hasName() || !req.hasStartEpoch() || req.getStartEpoch() <= 0){
+                    Logging.log("Malformed key history request");
+                }
+                else {
+                    return req;
+                }
+            }
+            else if (msgType == MsgType.CHANGELOG_REQ) {
+                ChangelogReq req = ChangelogReq.parseDelimitedFrom(din);
+
+                if(!req.hasStartEpoch() || req.getStartEpoch() <= 0){
+                    Logging.log("Malformed changelog request");
+                }
+                else {
+                    return req;
+                }
+            }
+            else if (msgType == MsgType.COMMITMENT_RANGE_REQ) {
+                CommitmentRangeReq req = CommitmentRangeReq.parseDelimitedFrom(din);
+
+                if (!req.hasStartEpoch() || req.getStartEpoch() <= 0) {
+                    Logging.log("Malformed commitment range request");
+                }
+                else {
+                    return req;
+                }
+            }
             else if (msgType == MsgType.COMMITMENT_REQ) {
                 CommitmentReq commReq = CommitmentReq.parseDelimitedFrom(din);
 
@@ -259,7 +674,7 @@ public class ServerMessaging {
             }
             else if (msgType == MsgType.ULNCHANGE_REQ) {
                 ULNChangeReq ulnChange = ULNChangeReq.parseDelimitedFrom(din);
-                if (!ulnChange.hasName() || !ulnChange.hasNewBlob() || !ulnChange.hasNewChangeKey() ||
+                if (!ulnChange.hasName() || !ulnChange.hasNewBlob() || !(ulnChange.hasNewChangeKey() || ulnChange.hasNewEd25519ChangeKey()) ||
                     !ulnChange.hasAllowsUnsignedKeychange() || !ulnChange.hasAllowsPublicLookup()) {
                     Logging.log("Malformed uln change req");
                 }
@@ -34,10 +34,15 @@
 package org.coniks.coniks_server;
 
 import org.coniks.coniks_common.UtilProtos.Commitment;
+import org.coniks.coniks_common.LeafFormat;
+import org.coniks.crypto.Digest;
+import org.coniks.crypto.HashFunction;
+import org.coniks.crypto.Keys;
 import org.coniks.util.Logging;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
 import java.security.interfaces.DSAPublicKey;
 import java.security.interfaces.RSAPublicKey;
 import java.security.interfaces.DSAParams;
@@ -327,15 +332,34 @@ public class ServerUtils{
         return arr.array();
     }
 
+    /** Converts the change key {@code ck} to a hashable array of bytes:
+     * the raw 32-byte key for Ed25519 keys, and the DSA params otherwise.
+     *
+     *@return The {@code byte[]} containing the serialized change key.
+     */
+    public static byte[] convertChangeKey(PublicKey ck){
+        byte[] raw = Keys.getEd25519Raw(ck);
+        if (raw != null) {
+            return raw;
+        }
+        return convertDSAPubKey((DSAPublicKey)ck);
+    }
+
     // TODO: use real dsa keys
-    /** Converts a {@link UserLeafNode} {@code uln} to a hashable array of bytes.
+    /** Converts a {@link UserLeafNode} {@code uln} to a hashable array of bytes
+     * in the server's configured {@link LeafFormat}.
      *
      *@return The {@code byte[]} containing the serialized UserLeafNode.
      */
-    public static byte[] getUserLeafNodeBytes(UserLeafNode uln){
+    public static byte[] getUserLeafNodeBytes(UserLeafNode uln)
+        throws NoSuchAlgorithmException {
+        if (ServerConfig.getLeafFormat() == LeafFormat.V2) {
+            return getUserLeafNodeBytesV2(uln);
+        }
+
         byte[] pubKey = strToBytes(uln.getPublicKey());
         byte[] usr = strToBytes(uln.getUsername());
-        byte[] ck = convertDSAPubKey(uln.getChangeKey());
+        byte[] ck = convertChangeKey(uln.getChangeKey());
         byte[] ep_add = longToBytes(uln.getEpochAdded());
         byte[] auk = new byte[]{(byte)(uln.allowsUnsignedKeychange() ? 0x01 : 0x00)};
         byte[] apl = new byte[]{(byte)(uln.allowsPublicLookups() ? 0x01 : 0x00)};
@@ -354,38 +378,45 @@ public class ServerUtils{
         return arr.array();
     }
 
-     /** Converts a {@link InteriorNode} {@code in} to a hashable array of bytes.
+    // serializes the leaf in the fixed-size format, only hashing the
+    // key data and change key if they changed since the last time
+    private static byte[] getUserLeafNodeBytesV2(UserLeafNode uln)
+        throws NoSuchAlgorithmException {
+        HashFunction hf = ServerConfig.getHashFunction();
+        if (uln.keyDataDigest == null) {
+            uln.keyDataDigest = hf.digest(strToBytes(uln.getPublicKey()));
+        }
+        if (uln.changeKeyDigest == null) {
+            uln.changeKeyDigest = hf.digest(convertChangeKey(uln.getChangeKey()));
+        }
+
+        return LeafFormat.getLeafBytesV2(uln.getIndex(), uln.keyDataDigest,
+                                         uln.changeKeyDigest, uln.getEpochAdded(),
+                                         uln.getEpochChanged(), uln.allowsUnsignedKeychange(),
+                                         uln.allowsPublicLookups());
+    }
+
+     /** Converts a {@link InteriorNode} {@code in} to a hashable array of bytes
+     * in the server's configured {@link LeafFormat}.
      *
      *@return The {@code byte[]} containing the serialized InteriorNode.
      */
     public static byte[] getInteriorNodeBytes(InteriorNode in){
-        byte[] left = in.getLeftHash();
-        byte[] right = in.getRightHash();
-
-        byte[] nodeBytes = new byte[left.length+right.length];
-
-        ByteBuffer arr = ByteBuffer.wrap(nodeBytes);
-        arr.put(left);
-        arr.put(right);
-
-        return arr.array();
+        return LeafFormat.getInteriorBytes(ServerConfig.getLeafFormat(),
+                                           in.getLeftHash(), in.getRightHash());
     }
 
-     /** Converts a {@link RootNode} {@code rn} to a hashable array of bytes.
+     /** Converts a {@link RootNode} {@code rn} to a hashable array of bytes
+     * in the server's configured {@link LeafFormat}.
      *
      *@return The {@code byte[]} containing the serialized RootNode.
      */
     public static byte[] getRootNodeBytes(RootNode rn){
-        byte[] left = rn.getLeftHash();
-        byte[] right = rn.getRightHash();
-
-        byte[] rootBytes = new byte[left.length+right.length];
-
-        ByteBuffer arr = ByteBuffer.wrap(rootBytes);
-        arr.put(left);
-        arr.put(right);
-
-        return arr.array();
+        if (rn.digitSize == LeafFormat.RADIX16_FANOUT) {
+            return LeafFormat.getRadix16InteriorBytes(rn.childHashes);
+        }
+        return LeafFormat.getInteriorBytes(ServerConfig.getLeafFormat(),
+                                           rn.getLeftHash(), rn.getRightHash());
     }
 
     /** Takes the components of a signed tree root: root node, current epoch,
@@ -396,6 +427,20 @@ public class ServerUtils{
      */
     public static byte[] getSTRBytesForSig(RootNode rn, long ep, long prevEp,
                                                 byte[] prevStrHash) {
+        return getSTRBytesForSig(rn, ep, prevEp, prevStrHash,
+                                 Digest.getDefaultHashFunction());
+    }
+
+    /** Takes the components of a signed tree root: root node, current epoch,
+     * previous epoch, hash of previous STR and the directory's hash
+     * function {@code hf}, and serializes them into a byte[] that can be used
+     * to generate the STR's digital signature. The hash function is only
+     * included if it isn't the default SHA-256.
+     *
+     *@return The {@code byte[]} containing the serialized STR components.
+     */
+    public static byte[] getSTRBytesForSig(RootNode rn, long ep, long prevEp,
+                                           byte[] prevStrHash, HashFunction hf) {
 
         byte[] rootBytes = getRootNodeBytes(rn);
 
@@ -406,27 +451,37 @@ public class ServerUtils{
 
         byte[] epBytes = longToBytes(ep);
         byte[] prevEpBytes = longToBytes(prevEp);
+        byte[] hashAlg = getHashAlgorithmBytes(hf);
 
         byte[] strBytes = new byte[rootBytes.length+epBytes.length+prevEpBytes.length+
-                                   prevStrHash.length];
+                                   prevStrHash.length+hashAlg.length];
 
         ByteBuffer arr = ByteBuffer.wrap(strBytes);
         arr.put(rootBytes);
         arr.put(epBytes);
         arr.put(prevEpBytes);
         arr.put(prevStrHash);
+        arr.put(hashAlg);
 
         return arr.array();
 
     }
 
+    // the default hash function isn't serialized, so default STRs stay unchanged
+    private static byte[] getHashAlgorithmBytes(HashFunction hf) {
+        if (Digest.HASH_ID.equals(hf.getName())) {
+            return new byte[0];
+        }
+        return strToBytes(hf.getName());
+    }
+
     /** Converts a {@link SignedTreeRoot} {@code str} to a hashable array of bytes
      *
      *@return The {@code byte[]} containing the serialized STR components.
      */
     public static byte[] getSTRBytes(SignedTreeRoot str) {
 
-        byte[] rootBytes = getRootNodeBytes(str.getRoot());
+        byte[] rootBytes = str.getRootNodeBytes();
 
         if (rootBytes == null) {
             Logging.error("getSTRBytes: Oops, couldn't get the root node bytes");
@@ -436,16 +491,18 @@ public class ServerUtils{
         byte[] epBytes = longToBytes(str.getEpoch());
         byte[] prevEpBytes = longToBytes(str.getPrevEpoch());
         byte[] prevStrHash = str.getPrevSTRHash();
+        byte[] hashAlg = getHashAlgorithmBytes(str.getHashFunction());
         byte[] sig = str.getSignature();
 
         byte[] strBytes = new byte[rootBytes.length+epBytes.length+prevEpBytes.length+
-                                   prevStrHash.length+sig.length];
+                                   prevStrHash.length+hashAlg.length+sig.length];
 
         ByteBuffer arr = ByteBuffer.wrap(strBytes);
         arr.put(rootBytes);
         arr.put(epBytes);
         arr.put(prevEpBytes);
         arr.put(prevStrHash);
+        arr.put(hashAlg);
         arr.put(sig);
 
         return arr.array();
@@ -33,6 +33,12 @@
 
 package org.coniks.coniks_server;
 
+import java.nio.ByteBuffer;
+
+// coniks-java imports
+import org.coniks.crypto.Digest;
+import org.coniks.crypto.HashFunction;
+
 /** Represents a signed tree root, which is generated
  * at the beginning of every epoch.
  * Signed tree roots contain the current root node,
@@ -43,12 +49,24 @@ package org.coniks.coniks_server;
  *@author Marcela S. Melara (melara@cs.princeton.edu)
  */
 public class SignedTreeRoot {
-    RootNode root;
+    volatile RootNode root;
     long epoch;
     long prevEpoch;
     byte[] prevStrHash;
     byte[] sig;
     SignedTreeRoot prev;
+    HashFunction hashFunction;
+
+    // the server's time when this STR was generated, which may be
+    // earlier than its epoch if the epoch was published early
+    private final long publishedAt;
+
+    // the serialized commitment message sent for this STR,
+    // released once the STR has been archived
+    private volatile ByteBuffer commitmentFrame;
+
+    // the flat copy of the tree, if the server keeps flat trees
+    private volatile FlatTree flatTree;
 
     /** Constructs a signed tree root containing the RootNode
      * {@code r}, the signature {@code sig}, the previous epoch
@@ -58,17 +76,35 @@ public class SignedTreeRoot {
     */
     public SignedTreeRoot(RootNode r, long ep, long prevEp, 
                           byte[] prevHash, byte[] sig, SignedTreeRoot p){
+        this(r, ep, prevEp, prevHash, sig, p, Digest.getDefaultHashFunction());
+    }
+
+    /** Constructs a signed tree root as above, recording that the
+     * tree and the STR chain are hashed with {@code hf}.
+    */
+    public SignedTreeRoot(RootNode r, long ep, long prevEp,
+                          byte[] prevHash, byte[] sig, SignedTreeRoot p,
+                          HashFunction hf){
 	    this.root = r;
 	    this.epoch = ep;
             this.prevEpoch = prevEp;
 	    this.prevStrHash = prevHash;
             this.sig = sig;
             this.prev = p;
+            this.hashFunction = hf;
+            this.publishedAt = System.currentTimeMillis();
+
+            // the commitment never changes, so serialize it only once
+            byte[] frame = ServerMessaging.buildCommitmentFrame(this);
+            if (frame != null) {
+                this.commitmentFrame = ByteBuffer.wrap(frame).asReadOnlyBuffer();
+            }
 	}
 
     /** Gets this signed tree root's root node.
      *
-     *@return This signed tree root's {@link RootNode}.
+     *@return This signed tree root's {@link RootNode}, or {@code null}
+     * if only the flat tree is kept for this STR.
      */
     public RootNode getRoot(){
         return this.root;
@@ -106,6 +142,26 @@ public class SignedTreeRoot {
         return this.sig;
     }
     
+    /** Gets the time from which this signed tree root is the
+     * directory's latest, which is its epoch unless the epoch
+     * was published before its time.
+     *
+     *@return The earlier of this signed tree root's epoch and
+     * the time it was generated.
+     */
+    public long getPublishedTime(){
+        return Math.min(this.epoch, this.publishedAt);
+    }
+
+    /** Gets the hash function with which this signed tree root's
+     * tree and STR chain are hashed.
+     *
+     *@return This signed tree root's {@link HashFunction}.
+     */
+    public HashFunction getHashFunction(){
+        return this.hashFunction;
+    }
+
     /** Gets the signed tree root preceding this signed tree root.
      *
      *@return This signed tree root's preceding.
@@ -114,6 +170,71 @@ public class SignedTreeRoot {
         return this.prev;
     }
 
+    /** Gets the serialized commitment message for this signed tree root,
+     * framed as it is sent to clients: the message type, the length
+     * of the message and the message itself.
+     *
+     *@return A read-only buffer containing the frame, or {@code null}
+     * if the frame has been released after archiving this STR.
+     */
+    public ByteBuffer getCommitmentFrame() {
+        ByteBuffer frame = this.commitmentFrame;
+        return frame == null ? null : frame.duplicate();
+    }
+
+    /** Releases the in-memory commitment frame once this signed tree root
+     * is available from the {@link STRArchive}.
+     */
+    void releaseCommitmentFrame() {
+        this.commitmentFrame = null;
+    }
+
+    /** Gets the flat copy of this signed tree root's tree.
+     *
+     *@return This signed tree root's {@link FlatTree}, or {@code null}
+     * if the tree hasn't been flattened.
+     */
+    public FlatTree getFlatTree() {
+        return this.flatTree;
+    }
+
+    /** Gets the serialized root node of this signed tree root's tree.
+     *
+     *@return The {@code byte[]} containing the serialized root node.
+     */
+    public byte[] getRootNodeBytes() {
+        RootNode r = this.root;
+        if (r != null) {
+            return ServerUtils.getRootNodeBytes(r);
+        }
+        return this.flatTree.getRootNodeBytes();
+    }
+
+    /** Flattens this signed tree root's tree so it can be served
+     * from a {@link FlatTree}.
+     *
+     *@return whether the tree could be flattened.
+     */
+    boolean flatten() {
+        FlatTree flat = FlatTree.fromRoot(this.root);
+        if (flat == null) {
+            return false;
+        }
+        this.flatTree = flat;
+        return true;
+    }
+
+    /** Releases the root node of this signed tree root's tree
+     * once the next epoch's tree has been copied from it, if the
+     * tree can be served from its flat copy instead.
+     */
+    void releaseRoot() {
+        if (this.flatTree != null) {
+            this.root = null;
+            this.flatTree.detachLeaves();
+        }
+    }
+
     // don't want setters because each STR should be final
 
 }
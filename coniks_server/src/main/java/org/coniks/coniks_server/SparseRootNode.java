@@ -0,0 +1,65 @@
+/*
+  Copyright (c) 2015-16, Princeton University.
+  All rights reserved.
+  
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are 
+  met:
+  * Redistributions of source code must retain the above copyright 
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above 
+  copyright notice, this list of conditions and the following disclaimer 
+  in the documentation and/or other materials provided with the 
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND 
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, 
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF 
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR 
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, 
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS 
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT 
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY 
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE 
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.coniks_server;
+
+/** Represents the root node of a fixed-depth sparse Merkle
+ * tree built by {@link SparseTreeBuilder}.
+ *<p>
+ * The hashes of both subtrees are always set; an empty subtree
+ * has the default hash for its depth.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class SparseRootNode extends RootNode{
+
+    /** Constructs a sparse tree root node specified
+     * with left and right subtrees {@code l} and {@code r}
+     * and their corresponding hashes {@code lh} and {@code rh}.
+     */
+    public SparseRootNode(TreeNode l, TreeNode r, byte[] lh, byte[] rh){
+        super(l, r, 0, lh, rh);
+    }
+
+    /** Duplicates this root node. Since sparse trees are never
+     * modified in place, the subtrees are shared with the original
+     * root node rather than cloned.
+     *
+     *@return The duplicated root node.
+     */
+    public RootNode clone(){
+        return new SparseRootNode(this.left, this.right,
+                                  this.leftHash, this.rightHash);
+    }
+
+} // ends SparseRootNode
@@ -0,0 +1,323 @@
+/*
+  Copyright (c) 2015-16, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.coniks_server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.security.NoSuchAlgorithmException;
+
+// coniks-java imports
+import org.coniks.coniks_common.LeafFormat;
+import org.coniks.crypto.Digest;
+import org.coniks.crypto.HashFunction;
+import org.coniks.util.Convert;
+import org.coniks.util.Logging;
+
+import org.javatuples.*;
+
+/** Implements all operations necessary for building a fixed-depth
+ * sparse Merkle tree on the server, as an alternative to the
+ * compressed Merkle prefix tree built by {@link TreeBuilder}.
+ *<p>
+ * Every user leaf node lies at depth {@link #TREE_DEPTH}, at the
+ * position given by all bits of its lookup index, and every empty
+ * subtree hashes to the precomputed default hash for its depth.
+ * Only non-empty subtrees are stored: a subtree with a single leaf
+ * is represented by the leaf itself, whose empty siblings further
+ * down are covered by the default hashes.
+ *<p>
+ * Sparse trees are never modified in place. Each epoch's tree
+ * shares all unchanged subtrees with the previous epoch's tree, and
+ * a batch of pending operations copies each affected node once.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class SparseTreeBuilder{
+
+    /** The depth of the leaves in a sparse Merkle tree,
+     * i.e. the number of bits of a lookup index.
+     */
+    public static final int TREE_DEPTH = Digest.HASH_SIZE_BYTES*8;
+
+    // the default hashes for the current leaf format and hash function
+    private static byte[][] defaultHashes = null;
+    private static String defaultHashesId = null;
+
+    /** Computes the hashes of the empty subtrees at each depth of a
+     * sparse Merkle tree with nodes serialized in the given {@code format}
+     * and hashed with {@code hf}. An empty leaf hashes to the hash of
+     * {@link Digest#HASH_SIZE_BYTES} zero bytes, like an empty subtree of
+     * a prefix tree.
+     *
+     *@return The {@link #TREE_DEPTH}+1 default hashes indexed by depth.
+     */
+    public static byte[][] computeDefaultHashes(int format, HashFunction hf) {
+        byte[][] hashes = new byte[TREE_DEPTH+1][];
+        hashes[TREE_DEPTH] = hf.digest(new byte[Digest.HASH_SIZE_BYTES]);
+        for (int d = TREE_DEPTH-1; d >= 0; d--) {
+            hashes[d] = hf.digest(LeafFormat.getInteriorBytes(format, hashes[d+1], hashes[d+1]));
+        }
+        return hashes;
+    }
+
+    /** Gets the default hashes for the server's configured
+     * {@link LeafFormat} and hash function.
+     *
+     *@return The {@link #TREE_DEPTH}+1 default hashes indexed by depth.
+     */
+    public static synchronized byte[][] getDefaultHashes() {
+        HashFunction hf = ServerConfig.getHashFunction();
+        String id = ServerConfig.getLeafFormat()+"/"+hf.getName();
+        if (!id.equals(defaultHashesId)) {
+            defaultHashes = computeDefaultHashes(ServerConfig.getLeafFormat(), hf);
+            defaultHashesId = id;
+        }
+        return defaultHashes;
+    }
+
+    /** Creates the root node of an empty sparse Merkle tree.
+     *
+     *@return The empty tree's {@link SparseRootNode}.
+     */
+    public static SparseRootNode emptyTree() {
+        byte[][] defaults = getDefaultHashes();
+        return new SparseRootNode(null, null, defaults[1], defaults[1]);
+    }
+
+    /** Builds the next epoch's sparse Merkle tree from the tree {@code prevRoot}
+     * and any new operations in {@code pendingQ}. {@code prevRoot} is left
+     * unchanged.
+     *
+     *@return The {@link SparseRootNode} for the next epoch's tree, or {@code null}
+     * upon failure.
+     */
+    public static SparseRootNode copyExtendTree(SparseRootNode prevRoot,
+                                                PriorityQueue<Triplet<byte[], UserLeafNode, Operation>> pendingQ){
+        if(pendingQ == null) {
+            Logging.error("Trying to extend using null pending queue");
+            return null;
+        }
+
+        SparseRootNode root = prevRoot != null ? prevRoot : emptyTree();
+
+        // the queue only orders the operations by prefix, but the operations
+        // on the same name must still be applied in the order they are polled
+        ArrayList<Triplet<byte[], UserLeafNode, Operation>> ops =
+            new ArrayList<Triplet<byte[], UserLeafNode, Operation>>(pendingQ.size());
+        Triplet<byte[], UserLeafNode, Operation> p = pendingQ.poll();
+        while (p != null) {
+            ops.add(p);
+            p = pendingQ.poll();
+        }
+        Collections.sort(ops, new IndexComparator());
+
+        if (ops.size() == 0) {
+            return root;
+        }
+
+        try {
+            return (SparseRootNode)updateSubtree(root, 0, ops, 0, ops.size());
+        }
+        catch(NoSuchAlgorithmException e) {
+            Logging.error("[SparseTreeBuilder] "+e.getMessage());
+        }
+        return null;
+    }
+
+    // returns a copy of the subtree node at the given depth with the operations
+    // in ops[from, to) applied, which all lie under this subtree.
+    // node may be null for an empty subtree.
+    private static TreeNode updateSubtree(TreeNode node, int depth,
+                                          ArrayList<Triplet<byte[], UserLeafNode, Operation>> ops,
+                                          int from, int to)
+        throws NoSuchAlgorithmException {
+
+        if (from == to) {
+            return node;
+        }
+
+        boolean singleIndex = Arrays.equals(ops.get(from).getValue0(),
+                                            ops.get(to-1).getValue0());
+
+        if (node instanceof UserLeafNode) {
+            UserLeafNode uln = (UserLeafNode)node;
+
+            if (singleIndex && uln.getUsername().equals(ops.get(from).getValue1().getUsername())) {
+                return applyOps(uln.clone(null), ops, from, to);
+            }
+
+            // another leaf shares this subtree now, so push this one down
+            InteriorNode newInt = new InteriorNode(null, depth);
+            if (Convert.getNthBit(uln.getIndex(), depth)) {
+                newInt.right = uln;
+            }
+            else {
+                newInt.left = uln;
+            }
+            node = newInt;
+        }
+
+        if (node == null) {
+            if (singleIndex) {
+                return applyOps(null, ops, from, to);
+            }
+            node = new InteriorNode(null, depth);
+        }
+
+        InteriorNode curNode = (InteriorNode)node;
+
+        // the operations are sorted by index, so find the first one going right
+        int mid = from;
+        while (mid < to && !Convert.getNthBit(ops.get(mid).getValue0(), depth)) {
+            mid++;
+        }
+
+        TreeNode left = updateSubtree(curNode.left, depth+1, ops, from, mid);
+        TreeNode right = updateSubtree(curNode.right, depth+1, ops, mid, to);
+
+        // only rehash the subtrees that changed
+        byte[] leftHash = (left == curNode.left && curNode.leftHash != null) ?
+            curNode.leftHash : computeSubtreeHash(left, depth+1);
+        byte[] rightHash = (right == curNode.right && curNode.rightHash != null) ?
+            curNode.rightHash : computeSubtreeHash(right, depth+1);
+
+        if (depth == 0) {
+            return new SparseRootNode(left, right, leftHash, rightHash);
+        }
+
+        InteriorNode newNode = new InteriorNode(null, depth);
+        newNode.setChildren(left, right);
+        newNode.setHashes(leftHash, rightHash);
+        return newNode;
+    }
+
+    // applies the operations in ops[from, to), which are all for the same name,
+    // to the leaf uln, or creates the leaf if uln is null. Operations that
+    // can't be applied are skipped so they don't hold up the rest of the epoch.
+    private static UserLeafNode applyOps(UserLeafNode uln,
+                                         ArrayList<Triplet<byte[], UserLeafNode, Operation>> ops,
+                                         int from, int to) {
+        for (int i = from; i < to; i++) {
+            Operation op = ops.get(i).getValue2();
+
+            if (uln == null) {
+                if (!(op instanceof Register)) {
+                    skipOperation(ops.get(i), "Failed to make key-change!");
+                    continue;
+                }
+                uln = ops.get(i).getValue1();
+                uln.setIndex(ops.get(i).getValue0());
+                uln.level = TREE_DEPTH;
+            }
+            else if (op instanceof Register) {
+                // registration cant re-register the same name
+                skipOperation(ops.get(i), "Username of added node already exists!");
+            }
+            else if (op instanceof KeyChange) {
+                if (((KeyChange)op).changeInfo(uln)) {
+                    uln.setEpochChanged(op.epoch);
+                }
+                else {
+                    skipOperation(ops.get(i), "Failed to validate key change");
+                }
+            }
+            else {
+                skipOperation(ops.get(i), "Weird operation happened. Make sure you've added this functionality");
+            }
+        }
+        return uln;
+    }
+
+    // logs an operation that couldn't be applied to the tree
+    private static void skipOperation(Triplet<byte[], UserLeafNode, Operation> op, String reason) {
+        Logging.error("[SparseTreeBuilder] Skipping operation for "+
+                      op.getValue1().getUsername()+": "+reason);
+    }
+
+    /** Computes the hash of the subtree {@code node} at the given {@code depth}
+     * of a sparse Merkle tree, where a {@code null} node is an empty subtree.
+     * The hashes of the children of interior nodes must already be set.
+     *
+     *@return The subtree hash as a {@code byte[]}.
+     */
+    static byte[] computeSubtreeHash(TreeNode node, int depth)
+        throws NoSuchAlgorithmException {
+        HashFunction hf = ServerConfig.getHashFunction();
+
+        if (node == null) {
+            return getDefaultHashes()[depth];
+        }
+
+        if (node instanceof InteriorNode) {
+            InteriorNode in = (InteriorNode)node;
+            return hf.digest(ServerUtils.getInteriorNodeBytes(in));
+        }
+
+        // assertion: must be user leaf node.
+        // hash it up to this depth with the empty subtrees as its siblings
+        UserLeafNode uln = (UserLeafNode)node;
+        byte[][] defaults = getDefaultHashes();
+        byte[] hash = hf.digest(ServerUtils.getUserLeafNodeBytes(uln));
+        for (int d = TREE_DEPTH-1; d >= depth; d--) {
+            byte[] nodeBytes = Convert.getNthBit(uln.getIndex(), d) ?
+                LeafFormat.getInteriorBytes(ServerConfig.getLeafFormat(), defaults[d+1], hash) :
+                LeafFormat.getInteriorBytes(ServerConfig.getLeafFormat(), hash, defaults[d+1]);
+            hash = hf.digest(nodeBytes);
+        }
+        return hash;
+    }
+
+    // orders operations by their full lookup index; the sort is stable,
+    // so operations on the same name stay in the order they were polled
+    private static class IndexComparator implements Comparator<Triplet<byte[], UserLeafNode, Operation>> {
+        @Override
+        public int compare(Triplet<byte[], UserLeafNode, Operation> p1,
+                           Triplet<byte[], UserLeafNode, Operation> p2) {
+            byte[] buf1 = p1.getValue0();
+            byte[] buf2 = p2.getValue0();
+            for (int i = 0; i < buf1.length; i++) {
+                int b1 = buf1[i] & 0xff;
+                int b2 = buf2[i] & 0xff;
+                if (b1 != b2) {
+                    return b1 < b2 ? -1 : 1;
+                }
+            }
+            return 0;
+        }
+    }
+
+}
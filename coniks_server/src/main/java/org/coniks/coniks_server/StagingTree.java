@@ -0,0 +1,192 @@
+/*
+  Copyright (c) 2015-16, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.coniks_server;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+// coniks-java imports
+import org.coniks.util.Logging;
+
+import org.javatuples.*;
+
+/** Builds the next epoch's Merkle tree in the background
+ * while the current epoch is running.
+ * A single staging thread applies the registrations and key changes to
+ * a private successor of the current tree as they arrive, and recomputes
+ * the hashes on the changed paths after each batch. At the end of an epoch,
+ * only the operations that arrived since the last batch are left to apply
+ * before the staged tree can be published.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class StagingTree {
+
+    private static final ExecutorService stager =
+        Executors.newSingleThreadExecutor(new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "StagingTree");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+
+    // the successor tree, only accessed on the staging thread
+    private static RootNode stagedRoot = null;
+
+    // the operations that haven't been applied yet, in arrival order
+    private static final ArrayList<Triplet<byte[], UserLeafNode, Operation>> incoming =
+        new ArrayList<Triplet<byte[], UserLeafNode, Operation>>();
+
+    // whether a batch is already scheduled on the staging thread
+    private static boolean batchScheduled = false;
+
+    // set from sealing the staged tree until its successor is started;
+    // the operations submitted in the meantime are for the successor
+    // and are held back until then
+    private static boolean sealed = false;
+    private static final ArrayList<Triplet<byte[], UserLeafNode, Operation>> held =
+        new ArrayList<Triplet<byte[], UserLeafNode, Operation>>();
+
+    private static final Runnable applyBatch = new Runnable() {
+            public void run() {
+                applyIncoming();
+            }
+        };
+
+    /** Starts staging the successor of the published tree {@code root}.
+     * Copying the tree happens on the staging thread, so this returns
+     * right away; operations submitted in the meantime, including those
+     * held back since the staged tree was sealed, are applied once the
+     * copy is done.
+     */
+    public static void start(final RootNode root) {
+        stager.execute(new Runnable() {
+                public void run() {
+                    stagedRoot = TreeBuilder.newSuccessorTree(root);
+
+                    synchronized (incoming) {
+                        sealed = false;
+                        incoming.addAll(held);
+                        held.clear();
+                        if (incoming.size() > 0 && !batchScheduled) {
+                            batchScheduled = true;
+                            stager.execute(applyBatch);
+                        }
+                    }
+                }
+            });
+    }
+
+    /** Seals the staged tree at the end of an epoch: the operations
+     * submitted from here on are for the successor tree, and are held
+     * back until it is started with {@link #start(RootNode)}.
+     * {@link #finish()} then only has to wait for the operations
+     * submitted before.
+     */
+    public static void seal() {
+        synchronized (incoming) {
+            sealed = true;
+        }
+    }
+
+    /** Submits the operation {@code op} for the next epoch, which is
+     * applied to the staged tree in the background.
+     */
+    public static void submit(Triplet<byte[], UserLeafNode, Operation> op) {
+        synchronized (incoming) {
+            if (sealed) {
+                held.add(op);
+                return;
+            }
+
+            incoming.add(op);
+            if (!batchScheduled) {
+                batchScheduled = true;
+                stager.execute(applyBatch);
+            }
+        }
+    }
+
+    /** Waits for all operations submitted before the staged tree was
+     * sealed to be applied to it, and hands it over for publication.
+     * {@link #seal()} must have been called, and {@link #start(RootNode)}
+     * must be called afterwards to apply the operations held back since.
+     *
+     *@return the {@link RootNode} of the staged tree with all of its
+     * hashes computed, or {@code null} in case of an error.
+     */
+    public static RootNode finish() {
+        Future<RootNode> staged = stager.submit(new Callable<RootNode>() {
+                public RootNode call() {
+                    applyIncoming();
+                    RootNode root = stagedRoot;
+                    stagedRoot = null;
+                    return root;
+                }
+            });
+
+        try {
+            return staged.get();
+        }
+        catch (ExecutionException e) {
+            Logging.error("[StagingTree] "+e.getMessage());
+        }
+        catch (InterruptedException e) {
+            Logging.error("[StagingTree] "+e.getMessage());
+        }
+        return null;
+    }
+
+    // applies all operations that have arrived so far as one batch,
+    // called on the staging thread only
+    private static void applyIncoming() {
+        ArrayList<Triplet<byte[], UserLeafNode, Operation>> batch;
+        synchronized (incoming) {
+            batch = new ArrayList<Triplet<byte[], UserLeafNode, Operation>>(incoming);
+            incoming.clear();
+            batchScheduled = false;
+        }
+
+        if (batch.size() > 0) {
+            stagedRoot = TreeBuilder.stageOperations(stagedRoot, batch);
+        }
+    }
+
+}
@@ -34,17 +34,23 @@
 package org.coniks.coniks_server;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
 
 // coniks-java imports
-import org.coniks.crypto.Signing;
 import org.coniks.crypto.Digest;
+import org.coniks.crypto.HashFunction;
+import org.coniks.crypto.Keys;
 import org.coniks.util.Convert;
 import org.coniks.util.Logging;
 import org.coniks.coniks_common.C2SProtos.AuthPath;
 import org.coniks.coniks_common.C2SProtos.*;
 import org.coniks.coniks_common.UtilProtos.Hash;
+import org.coniks.coniks_common.LeafFormat;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.TreeMap;
 import java.util.PriorityQueue;
@@ -73,21 +79,17 @@ public class TransparencyOps{
     public static SignedTreeRoot generateSTR(RootNode root, long ep,
                                              long prevEp, byte[] prevStrHash) {
 
+        HashFunction hf = ServerConfig.getHashFunction();
         byte[] strBytesPreSig = ServerUtils.getSTRBytesForSig(root, ep, prevEp,
-                                                              prevStrHash);
+                                                              prevStrHash, hf);
 
-        RSAPrivateKey key = KeyOps.loadSigningKey();
+        byte[] sig = STRSigner.sign(ep, strBytesPreSig);
 
-        byte[] sig = null;
-        try {
-            sig = Signing.rsaSign(key, strBytesPreSig);
-        }
-        catch (Exception e) {
-            Logging.error("[RequestHandler] "+e.getMessage());
+        if (sig == null) {
             return null;
         }
 
-        return new SignedTreeRoot(root, ep, prevEp, prevStrHash, sig, null);
+        return new SignedTreeRoot(root, ep, prevEp, prevStrHash, sig, null, hf);
     }
 
     /** Generates the STR from the root node {@code root} for the epoch
@@ -97,49 +99,44 @@ public class TransparencyOps{
      *@return The signed tree root, or {@code null} in case of an error.
      */
     public static synchronized SignedTreeRoot generateNextSTR(RootNode root, long ep){
+        return generateNextSTR(root, ep, ServerHistory.getCurSTR());
+    }
 
-        long prevEpoch = ServerHistory.getCurEpoch();
+    /** Generates the STR from the root node {@code root} for the epoch
+     * {@code ep}, which follows the STR {@code prevSTR}. {@code prevSTR}
+     * may not have been published yet.
+     * Hashes {@code prevSTR}, and computes the signature for the next STR.
+     *
+     *@return The signed tree root, or {@code null} in case of an error.
+     */
+    public static SignedTreeRoot generateNextSTR(RootNode root, long ep,
+                                                 SignedTreeRoot prevSTR){
 
-        // generate the hash of the current STR to include is in the next
-        // STR as the previous STR hash
-        byte[] prevStrHash = null;
+        long prevEpoch = prevSTR.getEpoch();
 
-        try {
-            prevStrHash = Digest.digest(ServerUtils.getSTRBytes(ServerHistory.getCurSTR()));
-        }
-        catch(NoSuchAlgorithmException e) {
-            Logging.error("[TransparencyOps] "+e.getMessage());
-            return null;
-        }
+        // generate the hash of the previous STR to include is in the next
+        // STR as the previous STR hash
+        HashFunction hf = ServerConfig.getHashFunction();
+        byte[] prevStrHash = hf.digest(ServerUtils.getSTRBytes(prevSTR));
 
         byte[] strBytesPreSig = ServerUtils.getSTRBytesForSig(root, ep, prevEpoch,
-                                                              prevStrHash);
+                                                              prevStrHash, hf);
 
-        RSAPrivateKey key = KeyOps.loadSigningKey();
+        byte[] sig = STRSigner.sign(ep, strBytesPreSig);
 
-        byte[] sig = null;
-        try {
-            sig = Signing.rsaSign(key, strBytesPreSig);
-        }
-        catch (Exception e) {
-            Logging.error("[TransparencyOps] "+e.getMessage());
+        if (sig == null) {
             return null;
         }
 
-        return new SignedTreeRoot(root, ep, prevEpoch, prevStrHash, sig, ServerHistory.getCurSTR());
+        return new SignedTreeRoot(root, ep, prevEpoch, prevStrHash, sig,
+                                  prevSTR, hf);
     }
 
-    /** Generates the authentication path protobuf message from the
-     * root node {@code root} to the user leaf node {@code uln}.
-     *
-     *@return The {@link org.coniks.coniks_common.C2SProtos.AuthPath}
-     * protobuf message or {@code null} upon failure.
+    /** Builds the AuthPath.UserLeafNode protobuf for the user leaf node
+     * {@code uln}. The caller is responsible for setting the number of
+     * interior levels on the returned builder.
      */
-    public static AuthPath generateAuthPathProto(UserLeafNode uln, RootNode root){
-
-        AuthPath.Builder authPath = AuthPath.newBuilder();
-
-        //first take care of setting the UserLeafNode
+    private static AuthPath.UserLeafNode.Builder buildUlnProto(UserLeafNode uln) {
         AuthPath.UserLeafNode.Builder ulnBuilder = AuthPath.UserLeafNode.newBuilder();
         ulnBuilder.setName(uln.getUsername());
         ulnBuilder.setPublickey(uln.getPublicKey());
@@ -152,19 +149,58 @@ public class TransparencyOps{
             ulnBuilder.setSignature(ByteString.copyFrom(uln.getSignature()));
 
 
-        DSAPublicKeyProto.Builder dsaBuilder = DSAPublicKeyProto.newBuilder();
-        DSAPublicKey dsa = uln.getChangeKey();
-        if (dsa != null) {
-            dsaBuilder.setP(dsa.getParams().getP().toString());
-            dsaBuilder.setQ(dsa.getParams().getQ().toString());
-            dsaBuilder.setG(dsa.getParams().getG().toString());
-            dsaBuilder.setY(dsa.getY().toString()); // don't ask me why java is so inconsistent (mrochlin)
-
-            ulnBuilder.setChangeKey(dsaBuilder.build());
+        // DSA change keys are only encoded once, not for every lookup
+        PublicKey ck = uln.getChangeKey();
+        if (ck instanceof DSAPublicKey) {
+            ulnBuilder.setChangeKey(ChangeKeyCache.getChangeKeyProto((DSAPublicKey)ck));
+        }
+        else if (ck != null) {
+            ulnBuilder.setEd25519ChangeKey(ByteString.copyFrom(Keys.getEd25519Raw(ck)));
         }
         if (uln.getLastMsg() != null)
             ulnBuilder.setLastMsg(ByteString.copyFrom(uln.getLastMsg()));
 
+        // format 1 leaves leave the field unset, as older clients expect
+        if (ServerConfig.getLeafFormat() != LeafFormat.V1) {
+            ulnBuilder.setLeafFormat(ServerConfig.getLeafFormat());
+        }
+        // so does the default hash function
+        String hashAlg = ServerConfig.getHashFunction().getName();
+        if (!Digest.HASH_ID.equals(hashAlg)) {
+            ulnBuilder.setHashAlgorithm(hashAlg);
+        }
+        // and the binary tree
+        if (ServerConfig.getTreeRadix() != 2) {
+            ulnBuilder.setTreeRadix(ServerConfig.getTreeRadix());
+        }
+        if (ServerConfig.isSparseTree()) {
+            ulnBuilder.setSparseTree(true);
+        }
+
+        return ulnBuilder;
+    }
+
+    /** Generates the authentication path protobuf message from the
+     * root node {@code root} to the user leaf node {@code uln}.
+     *
+     *@return The {@link org.coniks.coniks_common.C2SProtos.AuthPath}
+     * protobuf message or {@code null} upon failure.
+     */
+    public static AuthPath generateAuthPathProto(UserLeafNode uln, RootNode root){
+
+        if (root.digitSize == LeafFormat.RADIX16_FANOUT) {
+            return generateRadix16AuthPathProto(uln, root);
+        }
+
+        if (root instanceof SparseRootNode) {
+            return generateSparseAuthPathProto(uln, root);
+        }
+
+        AuthPath.Builder authPath = AuthPath.newBuilder();
+
+        //first take care of setting the UserLeafNode
+        AuthPath.UserLeafNode.Builder ulnBuilder = buildUlnProto(uln);
+
         // book-keeping for interior nodes
         int numInteriors = 0;
         ArrayList<AuthPath.InteriorNode> interiorList = new ArrayList<AuthPath.InteriorNode>();
@@ -265,4 +301,865 @@ public class TransparencyOps{
         return authPath.build();
     }
 
+    // the path from the root of a radix-16 tree to a leaf: the child mask
+    // and the sibling hashes of each radix node on it, from the root down
+    private static class Radix16Path {
+        int depth = 0;
+        final int[] childMasks;
+        final byte[][][] siblings;
+
+        Radix16Path(int maxDepth) {
+            childMasks = new int[maxDepth];
+            siblings = new byte[maxDepth][][];
+        }
+    }
+
+    // walks down a radix-16 tree from the root node to the user leaf node
+    // uln, returns null if the path is broken
+    private static Radix16Path getRadix16Path(UserLeafNode uln, RootNode root){
+
+        byte[] lookupIndex = ServerUtils.unameToIndex(uln.getUsername());
+        Radix16Path path = new Radix16Path(lookupIndex.length*2);
+
+        TreeNode runner = root;
+        TreeNode[] children = root.children;
+        byte[][] childHashes = root.childHashes;
+
+        while (!(runner instanceof UserLeafNode)) {
+            int depth = path.depth;
+            if (runner == null || depth >= path.childMasks.length) {
+                Logging.error("[TransparencyOps] Broken path at level "+depth);
+                return null;
+            }
+
+            if (runner instanceof RadixInteriorNode) {
+                children = ((RadixInteriorNode)runner).children;
+                childHashes = ((RadixInteriorNode)runner).childHashes;
+            }
+
+            int digit = Convert.getNthNibble(lookupIndex, depth);
+
+            int childMask = 0;
+            for (int i = 0; i < LeafFormat.RADIX16_FANOUT; i++) {
+                if (children[i] != null) {
+                    childMask |= 1 << i;
+                }
+            }
+
+            // the path's own child is never a sibling
+            byte[][] siblings = new byte[Integer.bitCount(childMask & ~(1 << digit))][];
+            int n = 0;
+            for (int i = 0; i < LeafFormat.RADIX16_FANOUT; i++) {
+                if (children[i] == null || i == digit) {
+                    continue;
+                }
+                if (childHashes[i] == null ||
+                    childHashes[i].length != Digest.HASH_SIZE_BYTES) {
+                    Logging.error("Bad pruned child hash at level "+depth);
+                    return null;
+                }
+                siblings[n++] = childHashes[i];
+            }
+
+            path.childMasks[depth] = childMask;
+            path.siblings[depth] = siblings;
+
+            runner = children[digit];
+            path.depth++;
+        }
+
+        if (runner != uln) {
+            Logging.error("[TransparencyOps] Leaf mismatch at level "+path.depth);
+            return null;
+        }
+
+        return path;
+    }
+
+    // generates the authentication path protobuf message from the root node
+    // of a radix-16 tree to the user leaf node uln
+    private static AuthPath generateRadix16AuthPathProto(UserLeafNode uln, RootNode root){
+
+        Radix16Path path = getRadix16Path(uln, root);
+        if (path == null) {
+            return null;
+        }
+
+        AuthPath.Builder authPath = AuthPath.newBuilder();
+        authPath.setLeaf(buildUlnProto(uln).setIntlevels(path.depth-1));
+
+        // the radix nodes are sent from the leaf upwards
+        for (int d = path.depth-1; d >= 0; d--) {
+            AuthPath.RadixNode.Builder rnBuilder = authPath.addRadixNodeBuilder();
+            rnBuilder.setChildMask(path.childMasks[d]);
+            for (byte[] sibling : path.siblings[d]) {
+                rnBuilder.addSibling(ByteString.copyFrom(sibling));
+            }
+        }
+
+        return authPath.build();
+    }
+
+    // serializes the authentication path to uln in a radix-16 tree,
+    // with the same bytes as generateRadix16AuthPathProto
+    private static byte[] encodeRadix16AuthPath(UserLeafNode uln, Radix16Path path) {
+
+        AuthPath.UserLeafNode leaf = buildUlnProto(uln).setIntlevels(path.depth-1).build();
+
+        int len = CodedOutputStream.computeMessageSize(1, leaf);
+        int[] nodeSizes = new int[path.depth];
+        for (int d = 0; d < path.depth; d++) {
+            nodeSizes[d] = CodedOutputStream.computeUInt32Size(1, path.childMasks[d]);
+            for (byte[] sibling : path.siblings[d]) {
+                nodeSizes[d] += CodedOutputStream.computeByteArraySize(2, sibling);
+            }
+            len += CodedOutputStream.computeTagSize(4) +
+                CodedOutputStream.computeRawVarint32Size(nodeSizes[d]) + nodeSizes[d];
+        }
+
+        byte[] authPath = new byte[len];
+        try {
+            CodedOutputStream out = CodedOutputStream.newInstance(authPath);
+
+            out.writeMessage(1, leaf);
+
+            for (int d = path.depth-1; d >= 0; d--) {
+                out.writeTag(4, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                out.writeRawVarint32(nodeSizes[d]);
+                out.writeUInt32(1, path.childMasks[d]);
+                for (byte[] sibling : path.siblings[d]) {
+                    out.writeByteArray(2, sibling);
+                }
+            }
+
+            out.checkNoSpaceLeft();
+        }
+        catch (IOException e) {
+            Logging.error("[TransparencyOps] "+e.getMessage());
+            return null;
+        }
+
+        return authPath;
+    }
+
+    // the path from the root of a sparse tree to a leaf: the mask of the
+    // levels with a non-empty sibling, and those siblings' hashes from the root down
+    private static class SparsePath {
+        final byte[] sparseMask = new byte[SparseTreeBuilder.TREE_DEPTH/Byte.SIZE];
+        final byte[][] siblings = new byte[SparseTreeBuilder.TREE_DEPTH][];
+        int numSiblings = 0;
+    }
+
+    // walks down a sparse tree from the root node to the user leaf node uln,
+    // returns null if the path is broken
+    private static SparsePath getSparsePath(UserLeafNode uln, RootNode root){
+
+        byte[] lookupIndex = ServerUtils.unameToIndex(uln.getUsername());
+
+        // the empty siblings are left out, and so are all siblings
+        // below the leaf since its subtree has no other leaves
+        SparsePath path = new SparsePath();
+
+        int depth = 0;
+        TreeNode runner = root;
+
+        while (!(runner instanceof UserLeafNode)) {
+            if (runner == null || depth >= SparseTreeBuilder.TREE_DEPTH) {
+                Logging.error("[TransparencyOps] Broken path at level "+depth);
+                return null;
+            }
+
+            InteriorNode curNode = (InteriorNode) runner;
+            boolean direction = Convert.getNthBit(lookupIndex, depth);
+
+            TreeNode sibling = direction ? curNode.getLeft() : curNode.getRight();
+            byte[] siblingHash = direction ? curNode.getLeftHash() : curNode.getRightHash();
+            runner = direction ? curNode.getRight() : curNode.getLeft();
+
+            if (sibling != null) {
+                if (siblingHash == null || siblingHash.length != Digest.HASH_SIZE_BYTES) {
+                    Logging.error("Bad pruned child hash at level "+depth);
+                    return null;
+                }
+                path.sparseMask[depth/Byte.SIZE] |= (1 << 7) >> (depth%Byte.SIZE);
+                path.siblings[path.numSiblings++] = siblingHash;
+            }
+
+            depth++;
+        }
+
+        if (runner != uln) {
+            Logging.error("[TransparencyOps] Leaf mismatch at level "+depth);
+            return null;
+        }
+
+        return path;
+    }
+
+    // generates the authentication path protobuf message from the root node
+    // of a sparse tree to the user leaf node uln
+    private static AuthPath generateSparseAuthPathProto(UserLeafNode uln, RootNode root){
+
+        SparsePath path = getSparsePath(uln, root);
+        if (path == null) {
+            return null;
+        }
+
+        AuthPath.Builder authPath = AuthPath.newBuilder();
+        authPath.setLeaf(buildUlnProto(uln).setIntlevels(SparseTreeBuilder.TREE_DEPTH-1));
+        authPath.setSparseMask(ByteString.copyFrom(path.sparseMask));
+
+        // the siblings are sent from the leaf upwards
+        for (int i = path.numSiblings-1; i >= 0; i--) {
+            authPath.addSparseSibling(ByteString.copyFrom(path.siblings[i]));
+        }
+
+        return authPath.build();
+    }
+
+    // serializes the authentication path to uln in a sparse tree,
+    // with the same bytes as generateSparseAuthPathProto
+    private static byte[] encodeSparseAuthPath(UserLeafNode uln, SparsePath path) {
+
+        AuthPath.UserLeafNode leaf =
+            buildUlnProto(uln).setIntlevels(SparseTreeBuilder.TREE_DEPTH-1).build();
+
+        int len = CodedOutputStream.computeMessageSize(1, leaf) +
+            CodedOutputStream.computeByteArraySize(5, path.sparseMask);
+        for (int i = 0; i < path.numSiblings; i++) {
+            len += CodedOutputStream.computeByteArraySize(6, path.siblings[i]);
+        }
+
+        byte[] authPath = new byte[len];
+        try {
+            CodedOutputStream out = CodedOutputStream.newInstance(authPath);
+
+            out.writeMessage(1, leaf);
+            out.writeByteArray(5, path.sparseMask);
+            for (int i = path.numSiblings-1; i >= 0; i--) {
+                out.writeByteArray(6, path.siblings[i]);
+            }
+
+            out.checkNoSpaceLeft();
+        }
+        catch (IOException e) {
+            Logging.error("[TransparencyOps] "+e.getMessage());
+            return null;
+        }
+
+        return authPath;
+    }
+
+    /** Generates the serialized authentication path protobuf message
+     * from the root node {@code root} to the user leaf node {@code uln}.
+     * The message is encoded directly into a single exactly-sized buffer
+     * during one walk down the tree, without building the intermediate
+     * protobuf objects; the bytes are identical to those of
+     * {@link #generateAuthPathProto(UserLeafNode, RootNode)}.
+     *
+     *@return The serialized {@link org.coniks.coniks_common.C2SProtos.AuthPath}
+     * or {@code null} upon failure.
+     */
+    public static byte[] generateAuthPathBytes(UserLeafNode uln, RootNode root){
+
+        if (root.digitSize == LeafFormat.RADIX16_FANOUT) {
+            Radix16Path path = getRadix16Path(uln, root);
+            return path == null ? null : encodeRadix16AuthPath(uln, path);
+        }
+
+        if (root instanceof SparseRootNode) {
+            SparsePath path = getSparsePath(uln, root);
+            return path == null ? null : encodeSparseAuthPath(uln, path);
+        }
+
+        byte[] lookupIndex = ServerUtils.unameToIndex(uln.getUsername());
+
+        // remember the pruned child at each level on the way down,
+        // since the interior nodes are sent from the leaf upwards
+        int maxDepth = lookupIndex.length*Byte.SIZE;
+        byte[][] prunedHashes = new byte[maxDepth][];
+        boolean[] directions = new boolean[maxDepth];
+
+        int depth = 0;
+        TreeNode runner = root;
+
+        while (!(runner instanceof UserLeafNode)) {
+            if (runner == null || depth >= maxDepth) {
+                Logging.error("[TransparencyOps] Broken path at level "+depth);
+                return null;
+            }
+
+            // the root node is an interior node as well
+            InteriorNode curNode = (InteriorNode) runner;
+            boolean direction = Convert.getNthBit(lookupIndex, depth);
+
+            if(!direction){
+                prunedHashes[depth] = curNode.getRightHash();
+                runner = curNode.getLeft();
+            }
+            else {
+                prunedHashes[depth] = curNode.getLeftHash();
+                runner = curNode.getRight();
+            }
+
+            if(prunedHashes[depth].length != Digest.HASH_SIZE_BYTES){
+                Logging.error("Bad length of pruned child hash: "+prunedHashes[depth].length);
+                return null;
+            }
+
+            directions[depth] = direction;
+            depth++;
+        }
+
+        if (runner != uln) {
+            Logging.error("[TransparencyOps] Leaf mismatch at level "+depth);
+            return null;
+        }
+
+        return encodeAuthPath(uln, depth, directions, prunedHashes);
+    }
+
+    /** Generates the serialized authentication path from the root of the
+     * flat tree {@code tree} to the user leaf node {@code uln}; the bytes are
+     * identical to those generated from the linked tree it was flattened from.
+     *
+     *@return The serialized {@link org.coniks.coniks_common.C2SProtos.AuthPath}
+     * or {@code null} upon failure.
+     */
+    public static byte[] generateAuthPathBytes(UserLeafNode uln, FlatTree tree){
+
+        byte[] lookupIndex = ServerUtils.unameToIndex(uln.getUsername());
+
+        int maxDepth = lookupIndex.length*Byte.SIZE;
+        byte[][] prunedHashes = new byte[maxDepth][];
+        boolean[] directions = new boolean[maxDepth];
+        ByteBuffer slab = tree.getSlab();
+
+        int depth = 0;
+        int ref = tree.getRoot();
+
+        while (!FlatTree.isLeaf(ref)) {
+            if (ref == FlatTree.EMPTY || depth >= maxDepth) {
+                Logging.error("[TransparencyOps] Broken path at level "+depth);
+                return null;
+            }
+
+            boolean direction = Convert.getNthBit(lookupIndex, depth);
+
+            prunedHashes[depth] = new byte[Digest.HASH_SIZE_BYTES];
+            tree.getHash(slab, tree.getChild(ref, !direction), prunedHashes[depth]);
+            ref = tree.getChild(ref, direction);
+
+            directions[depth] = direction;
+            depth++;
+        }
+
+        if (tree.getLeaf(ref) != uln) {
+            Logging.error("[TransparencyOps] Leaf mismatch at level "+depth);
+            return null;
+        }
+
+        return encodeAuthPath(uln, depth, directions, prunedHashes);
+    }
+
+    /** Generates the serialized authentication path to the user leaf node
+     * {@code uln} in the tree committed to by the signed tree root {@code str},
+     * using its flat tree if it has one.
+     *
+     *@return The serialized {@link org.coniks.coniks_common.C2SProtos.AuthPath}
+     * or {@code null} upon failure.
+     */
+    public static byte[] generateAuthPathBytes(UserLeafNode uln, SignedTreeRoot str){
+        FlatTree flat = str.getFlatTree();
+        if (flat != null) {
+            return generateAuthPathBytes(uln, flat);
+        }
+        return generateAuthPathBytes(uln, str.getRoot());
+    }
+
+    // serializes the authentication path to uln given the pruned child hashes
+    // and the path's directions at each of the depth levels from the root down
+    private static byte[] encodeAuthPath(UserLeafNode uln, int depth,
+                                         boolean[] directions, byte[][] prunedHashes) {
+
+        if (depth == 0) {
+            Logging.error("[TransparencyOps] Root node is missing");
+            return null;
+        }
+
+        AuthPath.UserLeafNode leaf = buildUlnProto(uln).setIntlevels(depth-1).build();
+        int leafSize = leaf.getSerializedSize();
+
+        byte[] authPath = new byte[CodedOutputStream.computeTagSize(1) +
+                                   CodedOutputStream.computeRawVarint32Size(leafSize) +
+                                   leafSize + depth*PRUNED_NODE_FIELD_SIZE];
+
+        try {
+            CodedOutputStream out = CodedOutputStream.newInstance(authPath);
+
+            out.writeMessage(1, leaf);
+
+            for (int i = depth-1; i > 0; i--) {
+                writePrunedNode(out, 2, directions[i], prunedHashes[i]);
+            }
+            writePrunedNode(out, 3, directions[0], prunedHashes[0]);
+
+            out.checkNoSpaceLeft();
+        }
+        catch (IOException e) {
+            Logging.error("[TransparencyOps] "+e.getMessage());
+            return null;
+        }
+
+        return authPath;
+    }
+
+    /** Serialized size of an AuthPath.InteriorNode's or AuthPath.RootNode's
+     * Hash submessage.
+     */
+    private static final int HASH_MSG_SIZE =
+        CodedOutputStream.computeInt32Size(1, Digest.HASH_SIZE_BYTES) +
+        CodedOutputStream.computeTagSize(2) +
+        CodedOutputStream.computeRawVarint32Size(Digest.HASH_SIZE_BYTES) +
+        Digest.HASH_SIZE_BYTES;
+
+    /** Serialized size of an AuthPath.InteriorNode or AuthPath.RootNode.
+     */
+    private static final int PRUNED_NODE_SIZE =
+        CodedOutputStream.computeEnumSize(1, AuthPath.PrunedChild.RIGHT_VALUE) +
+        CodedOutputStream.computeTagSize(2) +
+        CodedOutputStream.computeRawVarint32Size(HASH_MSG_SIZE) +
+        HASH_MSG_SIZE;
+
+    /** Serialized size of an AuthPath.InteriorNode or AuthPath.RootNode
+     * including its field tag and length prefix in the AuthPath.
+     */
+    private static final int PRUNED_NODE_FIELD_SIZE =
+        CodedOutputStream.computeTagSize(2) +
+        CodedOutputStream.computeRawVarint32Size(PRUNED_NODE_SIZE) +
+        PRUNED_NODE_SIZE;
+
+    /** Writes an AuthPath.InteriorNode or AuthPath.RootNode, which have
+     * the same layout, as field {@code field} to {@code out}. The pruned
+     * child is the one opposite to the path's {@code direction}.
+     */
+    private static void writePrunedNode(CodedOutputStream out, int field,
+                                        boolean direction, byte[] prunedChildHash)
+        throws IOException {
+        out.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeRawVarint32(PRUNED_NODE_SIZE);
+        out.writeEnum(1, direction ? AuthPath.PrunedChild.LEFT_VALUE :
+                      AuthPath.PrunedChild.RIGHT_VALUE);
+
+        out.writeTag(2, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeRawVarint32(HASH_MSG_SIZE);
+        out.writeInt32(1, prunedChildHash.length);
+        out.writeTag(2, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeRawVarint32(prunedChildHash.length);
+        out.writeRawBytes(prunedChildHash);
+    }
+
+    /** Generates the compressed authentication path protobuf message
+     * from the root node {@code root} to all user leaf nodes in {@code ulns}.
+     * Every pruned subtree hash shared by the leaves' individual
+     * authentication paths is included only once. The names in
+     * {@code notFound} are reported back to the client as missing.
+     *
+     *@return The {@link org.coniks.coniks_common.C2SProtos.MultiAuthPath}
+     * protobuf message or {@code null} upon failure.
+     */
+    public static MultiAuthPath generateMultiAuthPathProto(ArrayList<UserLeafNode> ulns,
+                                                           ArrayList<String> notFound,
+                                                           RootNode root) {
+
+        MultiAuthPath.Builder multiPath = MultiAuthPath.newBuilder();
+        ArrayList<UserLeafNode> leaves = getUniqueLeaves(ulns);
+
+        if (leaves.size() > 0) {
+            boolean built;
+            if (root.digitSize == LeafFormat.RADIX16_FANOUT) {
+                built = buildRadix16MultiAuthPath(root, 0, leaves, multiPath);
+            }
+            else if (root instanceof SparseRootNode) {
+                SparseMask sparseMask = new SparseMask();
+                built = buildSparseMultiAuthPath(root, 0, leaves, multiPath, sparseMask);
+                multiPath.setSparseMask(ByteString.copyFrom(sparseMask.toByteArray()));
+            }
+            else {
+                built = buildMultiAuthPath(root, 0, leaves, multiPath);
+            }
+            if (!built) {
+                return null;
+            }
+        }
+
+        multiPath.addAllNotFound(notFound);
+
+        return multiPath.build();
+    }
+
+    /** Generates the compressed authentication path protobuf message
+     * to all user leaf nodes in {@code ulns} in the tree committed to by
+     * the signed tree root {@code str}, using its flat tree if it has one.
+     *
+     *@return The {@link org.coniks.coniks_common.C2SProtos.MultiAuthPath}
+     * protobuf message or {@code null} upon failure.
+     */
+    public static MultiAuthPath generateMultiAuthPathProto(ArrayList<UserLeafNode> ulns,
+                                                           ArrayList<String> notFound,
+                                                           SignedTreeRoot str) {
+        FlatTree flat = str.getFlatTree();
+        if (flat == null) {
+            return generateMultiAuthPathProto(ulns, notFound, str.getRoot());
+        }
+
+        MultiAuthPath.Builder multiPath = MultiAuthPath.newBuilder();
+        ArrayList<UserLeafNode> leaves = getUniqueLeaves(ulns);
+
+        if (leaves.size() > 0 &&
+            !buildFlatMultiAuthPath(flat, flat.getSlab(), flat.getRoot(), 0, leaves, multiPath)) {
+            return null;
+        }
+
+        multiPath.addAllNotFound(notFound);
+
+        return multiPath.build();
+    }
+
+    // the same name may have been requested several times
+    private static ArrayList<UserLeafNode> getUniqueLeaves(ArrayList<UserLeafNode> ulns) {
+        ArrayList<UserLeafNode> leaves = new ArrayList<UserLeafNode>();
+        HashMap<String,UserLeafNode> seen = new HashMap<String,UserLeafNode>();
+        for (UserLeafNode uln : ulns) {
+            if (seen.put(uln.getUsername(), uln) == null) {
+                leaves.add(uln);
+            }
+        }
+        return leaves;
+    }
+
+    // same as buildMultiAuthPath for the subtree with child reference ref
+    // in the flat tree, reading the pruned subtree hashes from slab
+    private static boolean buildFlatMultiAuthPath(FlatTree tree, ByteBuffer slab,
+                                                  int ref, int depth,
+                                                  ArrayList<UserLeafNode> ulns,
+                                                  MultiAuthPath.Builder multiPath) {
+
+        if (FlatTree.isLeaf(ref)) {
+            UserLeafNode uln = tree.getLeaf(ref);
+
+            if (ulns.size() != 1 || ulns.get(0) != uln) {
+                Logging.error("[TransparencyOps] Leaf mismatch at level "+depth);
+                return false;
+            }
+
+            AuthPath.UserLeafNode.Builder ulnBuilder = buildUlnProto(uln);
+            ulnBuilder.setIntlevels(depth-1);
+            multiPath.addLeaf(ulnBuilder.build());
+            return true;
+        }
+
+        if (ref == FlatTree.EMPTY) {
+            Logging.error("[TransparencyOps] No path to leaf at level "+depth);
+            return false;
+        }
+
+        ArrayList<UserLeafNode> leftUlns = new ArrayList<UserLeafNode>();
+        ArrayList<UserLeafNode> rightUlns = new ArrayList<UserLeafNode>();
+        for (UserLeafNode uln : ulns) {
+            if (!Convert.getNthBit(uln.getIndex(), depth)) {
+                leftUlns.add(uln);
+            }
+            else {
+                rightUlns.add(uln);
+            }
+        }
+
+        byte[] prunedChildHash = new byte[Digest.HASH_SIZE_BYTES];
+
+        if (leftUlns.size() > 0) {
+            if (!buildFlatMultiAuthPath(tree, slab, tree.getChild(ref, false),
+                                        depth+1, leftUlns, multiPath)) {
+                return false;
+            }
+        }
+        else {
+            tree.getHash(slab, tree.getChild(ref, false), prunedChildHash);
+            addSubtreeHash(prunedChildHash, multiPath);
+        }
+
+        if (rightUlns.size() > 0) {
+            if (!buildFlatMultiAuthPath(tree, slab, tree.getChild(ref, true),
+                                        depth+1, rightUlns, multiPath)) {
+                return false;
+            }
+        }
+        else {
+            tree.getHash(slab, tree.getChild(ref, true), prunedChildHash);
+            addSubtreeHash(prunedChildHash, multiPath);
+        }
+
+        return true;
+    }
+
+    // walks down the union of the paths to all leaves in ulns,
+    // which all lie in the subtree rooted at node, and adds the leaves
+    // and the pruned subtree hashes to multiPath in depth-first, left-to-right order
+    private static boolean buildMultiAuthPath(TreeNode node, int depth,
+                                              ArrayList<UserLeafNode> ulns,
+                                              MultiAuthPath.Builder multiPath) {
+
+        if (node instanceof UserLeafNode) {
+            UserLeafNode uln = (UserLeafNode)node;
+
+            // only the leaf itself can be below this point
+            if (ulns.size() != 1 || ulns.get(0) != uln) {
+                Logging.error("[TransparencyOps] Leaf mismatch at level "+depth);
+                return false;
+            }
+
+            AuthPath.UserLeafNode.Builder ulnBuilder = buildUlnProto(uln);
+            ulnBuilder.setIntlevels(depth-1);
+            multiPath.addLeaf(ulnBuilder.build());
+            return true;
+        }
+
+        if (!(node instanceof InteriorNode)) {
+            Logging.error("[TransparencyOps] No path to leaf at level "+depth);
+            return false;
+        }
+
+        InteriorNode curNode = (InteriorNode)node;
+
+        // split the leaves according to the direction they take at this node
+        // direction here is going to be false = left,
+        //                               true = right
+        ArrayList<UserLeafNode> leftUlns = new ArrayList<UserLeafNode>();
+        ArrayList<UserLeafNode> rightUlns = new ArrayList<UserLeafNode>();
+        for (UserLeafNode uln : ulns) {
+            if (!Convert.getNthBit(uln.getIndex(), depth)) {
+                leftUlns.add(uln);
+            }
+            else {
+                rightUlns.add(uln);
+            }
+        }
+
+        if (leftUlns.size() > 0) {
+            if (!buildMultiAuthPath(curNode.getLeft(), depth+1, leftUlns, multiPath)) {
+                return false;
+            }
+        }
+        else if (!addSubtreeHash(curNode.getLeftHash(), multiPath)) {
+            return false;
+        }
+
+        if (rightUlns.size() > 0) {
+            if (!buildMultiAuthPath(curNode.getRight(), depth+1, rightUlns, multiPath)) {
+                return false;
+            }
+        }
+        else if (!addSubtreeHash(curNode.getRightHash(), multiPath)) {
+            return false;
+        }
+
+        return true;
+    }
+
+    // walks down the union of the paths to all leaves in ulns in a radix-16 tree,
+    // and adds the leaves, the child masks of the nodes on the paths and
+    // the pruned subtree hashes to multiPath in depth-first, left-to-right order
+    private static boolean buildRadix16MultiAuthPath(TreeNode node, int depth,
+                                                     ArrayList<UserLeafNode> ulns,
+                                                     MultiAuthPath.Builder multiPath) {
+
+        if (node instanceof UserLeafNode) {
+            UserLeafNode uln = (UserLeafNode)node;
+
+            // only the leaf itself can be below this point
+            if (ulns.size() != 1 || ulns.get(0) != uln) {
+                Logging.error("[TransparencyOps] Leaf mismatch at level "+depth);
+                return false;
+            }
+
+            AuthPath.UserLeafNode.Builder ulnBuilder = buildUlnProto(uln);
+            ulnBuilder.setIntlevels(depth-1);
+            multiPath.addLeaf(ulnBuilder.build());
+            return true;
+        }
+
+        TreeNode[] children;
+        byte[][] childHashes;
+        if (node instanceof RootNode) {
+            children = ((RootNode)node).children;
+            childHashes = ((RootNode)node).childHashes;
+        }
+        else if (node instanceof RadixInteriorNode) {
+            children = ((RadixInteriorNode)node).children;
+            childHashes = ((RadixInteriorNode)node).childHashes;
+        }
+        else {
+            Logging.error("[TransparencyOps] No path to leaf at level "+depth);
+            return false;
+        }
+
+        // split the leaves according to the digit they take at this node
+        ArrayList<ArrayList<UserLeafNode>> digitUlns =
+            new ArrayList<ArrayList<UserLeafNode>>(LeafFormat.RADIX16_FANOUT);
+        for (int i = 0; i < LeafFormat.RADIX16_FANOUT; i++) {
+            digitUlns.add(new ArrayList<UserLeafNode>());
+        }
+        for (UserLeafNode uln : ulns) {
+            digitUlns.get(Convert.getNthNibble(uln.getIndex(), depth)).add(uln);
+        }
+
+        int childMask = 0;
+        for (int i = 0; i < LeafFormat.RADIX16_FANOUT; i++) {
+            if (children[i] != null) {
+                childMask |= 1 << i;
+            }
+        }
+        multiPath.addChildMask(childMask);
+
+        for (int i = 0; i < LeafFormat.RADIX16_FANOUT; i++) {
+            if (digitUlns.get(i).size() > 0) {
+                if (!buildRadix16MultiAuthPath(children[i], depth+1, digitUlns.get(i), multiPath)) {
+                    return false;
+                }
+            }
+            else if (children[i] != null &&
+                     !addSubtreeHash(childHashes[i], multiPath)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // walks down the union of the paths to all leaves in ulns in a sparse tree,
+    // and adds the leaves and the non-empty pruned subtree hashes to multiPath
+    // in depth-first, left-to-right order. sparseMask records for every
+    // pruned subtree whether it is non-empty.
+    private static boolean buildSparseMultiAuthPath(TreeNode node, int depth,
+                                                    ArrayList<UserLeafNode> ulns,
+                                                    MultiAuthPath.Builder multiPath,
+                                                    SparseMask sparseMask) {
+
+        if (depth == SparseTreeBuilder.TREE_DEPTH) {
+            // only the leaf itself can be at this point
+            if (ulns.size() != 1 || ulns.get(0) != node) {
+                Logging.error("[TransparencyOps] Leaf mismatch at level "+depth);
+                return false;
+            }
+
+            AuthPath.UserLeafNode.Builder ulnBuilder = buildUlnProto(ulns.get(0));
+            ulnBuilder.setIntlevels(depth-1);
+            multiPath.addLeaf(ulnBuilder.build());
+            return true;
+        }
+
+        TreeNode left;
+        TreeNode right;
+        byte[] leftHash = null;
+        byte[] rightHash = null;
+        if (node instanceof InteriorNode) {
+            InteriorNode curNode = (InteriorNode)node;
+            left = curNode.getLeft();
+            right = curNode.getRight();
+            leftHash = curNode.getLeftHash();
+            rightHash = curNode.getRightHash();
+        }
+        else if (node instanceof UserLeafNode) {
+            // the leaf's subtree has no other leaves down to the bottom
+            boolean direction = Convert.getNthBit(((UserLeafNode)node).getIndex(), depth);
+            left = direction ? null : node;
+            right = direction ? node : null;
+        }
+        else {
+            Logging.error("[TransparencyOps] No path to leaf at level "+depth);
+            return false;
+        }
+
+        // direction here is going to be false = left,
+        //                               true = right
+        ArrayList<UserLeafNode> leftUlns = new ArrayList<UserLeafNode>();
+        ArrayList<UserLeafNode> rightUlns = new ArrayList<UserLeafNode>();
+        for (UserLeafNode uln : ulns) {
+            if (!Convert.getNthBit(uln.getIndex(), depth)) {
+                leftUlns.add(uln);
+            }
+            else {
+                rightUlns.add(uln);
+            }
+        }
+
+        if (leftUlns.size() > 0) {
+            if (!buildSparseMultiAuthPath(left, depth+1, leftUlns, multiPath, sparseMask)) {
+                return false;
+            }
+        }
+        else if (!addSparseSubtreeHash(left, leftHash, multiPath, sparseMask)) {
+            return false;
+        }
+
+        if (rightUlns.size() > 0) {
+            if (!buildSparseMultiAuthPath(right, depth+1, rightUlns, multiPath, sparseMask)) {
+                return false;
+            }
+        }
+        else if (!addSparseSubtreeHash(right, rightHash, multiPath, sparseMask)) {
+            return false;
+        }
+
+        return true;
+    }
+
+    // records whether the pruned sparse subtree is empty in sparseMask,
+    // and adds its hash prunedChildHash to multiPath if it isn't
+    private static boolean addSparseSubtreeHash(TreeNode prunedChild, byte[] prunedChildHash,
+                                                MultiAuthPath.Builder multiPath,
+                                                SparseMask sparseMask) {
+        sparseMask.add(prunedChild != null);
+        if (prunedChild == null) {
+            return true;
+        }
+        return addSubtreeHash(prunedChildHash, multiPath);
+    }
+
+    // a growing bit mask, most significant bit first
+    private static class SparseMask {
+        private byte[] bits = new byte[32];
+        private int length = 0;
+
+        void add(boolean bit) {
+            if (length == bits.length*Byte.SIZE) {
+                bits = Arrays.copyOf(bits, bits.length*2);
+            }
+            if (bit) {
+                bits[length/Byte.SIZE] |= (1 << 7) >> (length%Byte.SIZE);
+            }
+            length++;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bits, (length+Byte.SIZE-1)/Byte.SIZE);
+        }
+    }
+
+    // adds the pruned subtree hash prunedChildHash to multiPath
+    private static boolean addSubtreeHash(byte[] prunedChildHash,
+                                          MultiAuthPath.Builder multiPath) {
+        if (prunedChildHash == null ||
+            prunedChildHash.length != Digest.HASH_SIZE_BYTES) {
+            Logging.error("Bad pruned child hash in multi auth path");
+            return false;
+        }
+
+        Hash.Builder subtree = Hash.newBuilder();
+        subtree.setLen(prunedChildHash.length);
+        subtree.setHash(ByteString.copyFrom(prunedChildHash));
+        multiPath.addSubtree(subtree.build());
+        return true;
+    }
+
 }
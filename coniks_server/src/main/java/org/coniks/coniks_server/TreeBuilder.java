@@ -33,14 +33,20 @@
 
 package org.coniks.coniks_server;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.security.KeyPair;
 import java.security.NoSuchAlgorithmException;
 import java.security.interfaces.DSAPublicKey;
 import java.security.interfaces.RSAPublicKey;
 
 // coniks-java imports
+import org.coniks.coniks_common.LeafFormat;
 import org.coniks.crypto.Digest;
+import org.coniks.crypto.HashFunction;
 import org.coniks.util.Convert;
 import org.coniks.util.Logging;
 
@@ -58,17 +64,30 @@ public class TreeBuilder{
 
     private static int lastLevel;
 
+    /** The fork/join pool on which the shards of an epoch's
+     * tree are built, with one worker per available core.
+     */
+    private static final ForkJoinPool buildPool =
+        new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors()));
+
     // inserts a new user leaf node into the tree
     private static void insertNode(byte[] key, UserLeafNode toAdd, RootNode root, Operation op){
-        int curOffset = 0;
+        root.setName("root");
+        insertNode(key, toAdd, root, 0, op);
+    }
+
+    // inserts a new user leaf node into the subtree rooted at
+    // the interior node start at depth startOffset
+    private static void insertNode(byte[] key, UserLeafNode toAdd, InteriorNode start,
+                                   int startOffset, Operation op){
+        int curOffset = startOffset;
         // This code would be a lot more natural
         //   if our tries were byte-branching rather than bit-branching, but whatevs.
 
-        toAdd.level = 0;
-        TreeNode curNode = root;
+        toAdd.level = startOffset;
+        TreeNode curNode = start;
 
-        curNode.setName("root");
-        int counter = 1;
+        int counter = startOffset+1;
 
         insertLoop:
         while(true){
@@ -92,25 +111,8 @@ public class TreeBuilder{
 
                 UserLeafNode curNodeUL = (UserLeafNode) curNode;
                 if (curNodeUL.username.equals( toAdd.username )) {
-                    if (op instanceof Register) {
-                        // registration cant re-register the same name
-                        throw new UnsupportedOperationException("Username of added node already exists!");
-                    }
-                    // must be some kind of key-change or flag change
-                    else if (op instanceof KeyChange) {
-                        if (((KeyChange)op).changeInfo(curNodeUL)) {
-                            curNodeUL.setEpochChanged(op.epoch);
-                            return;
-                        }
-                        else {
-                            throw new UnsupportedOperationException("Failed to validate key change");
-                        }
-                    }
-                    else {
-                        // TODO
-                        // Something got messed up or we added some functionality without implementing the change
-                        throw new UnsupportedOperationException("Weird operation happened. Make sure you've added this functionality");
-                    }
+                    changeLeaf(curNodeUL, op);
+                    return;
                 }
 
                 if (!(op instanceof Register)) {
@@ -177,8 +179,126 @@ public class TreeBuilder{
             curNode.setName("n"+counter);
             counter++;
         }
-        if (toAdd.level > lastLevel){
-            lastLevel = toAdd.level;
+        updateLastLevel(toAdd.level);
+    }
+
+    // shards may be inserting concurrently
+    private static synchronized void updateLastLevel(int level){
+        if (level > lastLevel){
+            lastLevel = level;
+        }
+    }
+
+    // applies the key change op to the existing user leaf node curNodeUL
+    private static void changeLeaf(UserLeafNode curNodeUL, Operation op){
+        if (op instanceof Register) {
+            // registration cant re-register the same name
+            throw new UnsupportedOperationException("Username of added node already exists!");
+        }
+        // must be some kind of key-change or flag change
+        else if (op instanceof KeyChange) {
+            if (((KeyChange)op).changeInfo(curNodeUL)) {
+                curNodeUL.setEpochChanged(op.epoch);
+            }
+            else {
+                throw new UnsupportedOperationException("Failed to validate key change");
+            }
+        }
+        else {
+            // TODO
+            // Something got messed up or we added some functionality without implementing the change
+            throw new UnsupportedOperationException("Weird operation happened. Make sure you've added this functionality");
+        }
+    }
+
+    // inserts a new user leaf node into a radix-16 tree,
+    // branching on the 4-bit digits of the lookup index
+    private static void insertNodeRadix16(byte[] key, UserLeafNode toAdd, RootNode root, Operation op){
+        int maxDepth = key.length*2;
+
+        TreeNode curNode = root;
+        TreeNode[] children = root.children;
+        byte[][] childHashes = root.childHashes;
+
+        for (int depth = 0; depth < maxDepth; depth++) {
+            int digit = Convert.getNthNibble(key, depth);
+
+            // mark the subtree as needing hash recompute
+            childHashes[digit] = null;
+
+            TreeNode child = children[digit];
+
+            if (child == null) {
+                toAdd.level = depth+1;
+                toAdd.parent = curNode;
+                children[digit] = toAdd;
+                break;
+            }
+
+            if (child instanceof UserLeafNode) {
+                UserLeafNode childUL = (UserLeafNode) child;
+                if (childUL.username.equals(toAdd.username)) {
+                    changeLeaf(childUL, op);
+                    return;
+                }
+
+                if (!(op instanceof Register)) {
+                    throw new UnsupportedOperationException("Failed to make key-change!");
+                }
+
+                // reached a "bottom" of the tree.
+                // add a new interior node and push the previous leaf down
+                // then continue insertion
+                RadixInteriorNode newInt = new RadixInteriorNode(curNode, depth+1);
+                byte[] childKey = ServerUtils.unameToIndex(childUL.username);
+                childUL.setIndex(childKey);
+                childUL.level = depth+2;
+                childUL.parent = newInt;
+                newInt.children[Convert.getNthNibble(childKey, depth+1)] = childUL;
+                children[digit] = newInt;
+                child = newInt;
+            }
+
+            RadixInteriorNode childI = (RadixInteriorNode) child;
+            curNode = childI;
+            children = childI.children;
+            childHashes = childI.childHashes;
+        }
+
+        updateLastLevel(toAdd.level);
+    }
+
+    // Compute the hashes of the subtrees of a radix-16 tree's root
+    private static void computeHashesRadix16(RootNode root)
+        throws NoSuchAlgorithmException {
+        computeChildHashesRadix16(root.children, root.childHashes);
+    }
+
+    // computes the missing hashes of all non-empty subtrees in children
+    private static void computeChildHashesRadix16(TreeNode[] children, byte[][] childHashes)
+        throws NoSuchAlgorithmException {
+        for (int i = 0; i < LeafFormat.RADIX16_FANOUT; i++) {
+            if (children[i] != null && childHashes[i] == null) {
+                childHashes[i] = innerComputeHashRadix16(children[i]);
+            }
+        }
+    }
+
+    // this recursively computes the hash of the radix-16 subtree specified
+    // by curNode
+    private static byte[] innerComputeHashRadix16(TreeNode curNode)
+        throws NoSuchAlgorithmException {
+        HashFunction hf = ServerConfig.getHashFunction();
+
+        if(curNode instanceof RadixInteriorNode){
+            RadixInteriorNode curNodeI = (RadixInteriorNode) curNode;
+            computeChildHashesRadix16(curNodeI.children, curNodeI.childHashes);
+            return hf.digest(LeafFormat.getRadix16InteriorBytes(curNodeI.childHashes));
+        }
+        else{
+            // assertion: must be user leaf node.
+            UserLeafNode curNodeU = (UserLeafNode) curNode;
+            return hf.digest(ServerUtils.getUserLeafNodeBytes(curNodeU));
         }
     }
 
@@ -199,8 +319,10 @@ public class TreeBuilder{
     // by curNode
     private static byte[] innerComputeHash(TreeNode curNode)
         throws NoSuchAlgorithmException {
+        HashFunction hf = ServerConfig.getHashFunction();
+
         if(curNode == null) {
-            return Digest.digest(new byte[Digest.HASH_SIZE_BYTES]);
+            return hf.digest(new byte[Digest.HASH_SIZE_BYTES]);
         }
 
         if(curNode instanceof InteriorNode){
@@ -214,28 +336,45 @@ public class TreeBuilder{
                 curNodeI.rightHash = innerComputeHash(curNode.right);
             }
 
-            return Digest.digest(ServerUtils.getInteriorNodeBytes(curNodeI));
+            return hf.digest(ServerUtils.getInteriorNodeBytes(curNodeI));
         }
         else{
             // assertion: must be user leaf node.
             UserLeafNode curNodeU = (UserLeafNode) curNode;
-            return Digest.digest(ServerUtils.getUserLeafNodeBytes(curNodeU));
+            return hf.digest(ServerUtils.getUserLeafNodeBytes(curNodeU));
         }
     }
 
     /** Clones a Merkle prefix tree {@code prevRoot} and
      * extends it with any new nodes in {@code pendingQ}.
+     * Sparse Merkle trees are handed off to {@link SparseTreeBuilder}.
      *
      *@return The {@link RootNode} for the next epoch's Merkle tree.
      */
     public static RootNode copyExtendTree(RootNode prevRoot,
                                           PriorityQueue<Triplet<byte[], UserLeafNode, Operation>> pendingQ){
-        // clone old tree
-        RootNode newRoot;
-        if (prevRoot != null){
-            newRoot = prevRoot.clone();
-        }else{
-            newRoot = new RootNode(null, null, 0);
+        RootNode newRoot = copyInsertTree(prevRoot, pendingQ);
+        if (newRoot == null) {
+            return null;
+        }
+        return computeTreeHashes(newRoot);
+    }
+
+    /** Clones a Merkle prefix tree {@code prevRoot} and inserts any new
+     * nodes in {@code pendingQ}, without recomputing the hashes;
+     * {@link #computeTreeHashes(RootNode)} finishes the tree.
+     * Sparse Merkle trees are handed off to {@link SparseTreeBuilder},
+     * which hashes them as it goes.
+     *
+     *@return The {@link RootNode} for the next epoch's Merkle tree,
+     * or {@code null} in case of an error.
+     */
+    static RootNode copyInsertTree(RootNode prevRoot,
+                                   PriorityQueue<Triplet<byte[], UserLeafNode, Operation>> pendingQ){
+        // sparse trees are built without cloning the old tree
+        if (prevRoot instanceof SparseRootNode ||
+            (prevRoot == null && ServerConfig.isSparseTree())) {
+            return SparseTreeBuilder.copyExtendTree((SparseRootNode)prevRoot, pendingQ);
         }
 
         if(pendingQ == null) {
@@ -243,56 +382,422 @@ public class TreeBuilder{
             return null;
         }
 
-        RootNode r = null;
+        int shardBits = ServerConfig.getTreeShardBits();
+        if (shardBits > 0 && (prevRoot == null ? ServerConfig.getTreeRadix() == 2 :
+                              prevRoot.digitSize == 2)) {
+            // the shards clone their own subtrees of the old tree
+            InteriorNode[] shared = new InteriorNode[1 << shardBits];
+            InteriorNode[] sharedParents = new InteriorNode[1 << shardBits];
+            RootNode newRoot = prevRoot == null ? newSuccessorTree(null) :
+                cloneTop(prevRoot, shardBits, shared, sharedParents);
+
+            insertSharded(pendingQ, newRoot, shardBits, shared, sharedParents);
+            return newRoot;
+        }
+
+        // clone old tree
+        RootNode newRoot = newSuccessorTree(prevRoot);
+        insertAll(pendingQ, newRoot);
+        return newRoot;
+    }
 
+    /** Recomputes the hashes on all changed paths of the Merkle tree
+     * {@code root} once its new nodes have been inserted. The subtrees
+     * at depth {@code tree.shard.bits} of a sharded binary tree are
+     * hashed concurrently on the build pool.
+     *
+     *@return The {@link RootNode} of the hashed tree, or {@code null}
+     * in case of an error.
+     */
+    static RootNode computeTreeHashes(RootNode root) {
         try {
-            r = extendTree(pendingQ, newRoot);
+            if (root.digitSize == LeafFormat.RADIX16_FANOUT) {
+                computeHashesRadix16(root);
+            }
+            else if (!(root instanceof SparseRootNode)) {
+                if (ServerConfig.getTreeShardBits() > 0) {
+                    computeHashesSharded(root, ServerConfig.getTreeShardBits());
+                }
+                computeHashes(root);
+            }
         }
-        catch(NoSuchAlgorithmException e) {
-            Logging.error("Trying to extend using null pending queue");
+        catch (NoSuchAlgorithmException e) {
+            Logging.error("[TreeBuilder] "+e.getMessage());
+            return null;
         }
-        return r;
+        return root;
     }
 
-    /** Inserts any new nodes in {@code pendingQ} ordered by the 24-bit
-     * prefix of their lookup index into the Merkle tree, and recomputes
-     * all necessary hashes.
+    /** Starts the successor of the Merkle tree {@code prevRoot}, which
+     * may be {@code null} if there is no tree yet. Prefix trees are cloned;
+     * sparse trees are never changed in place, so they are their own successor.
      *
-     *@return The {@link RootNode} of the extended Merkle tree.
+     *@return The {@link RootNode} of the successor tree.
      */
-    private static RootNode extendTree(PriorityQueue<Triplet<byte[],
-                                       UserLeafNode, Operation>> pendingQ,
-                                       RootNode root)
-        throws NoSuchAlgorithmException {
+    static RootNode newSuccessorTree(RootNode prevRoot) {
+        if (prevRoot instanceof SparseRootNode) {
+            return prevRoot;
+        }
+        if (prevRoot == null && ServerConfig.isSparseTree()) {
+            return SparseTreeBuilder.emptyTree();
+        }
+
+        if (prevRoot != null){
+            return prevRoot.clone();
+        }
+        return ServerConfig.getTreeRadix() == 2 ?
+            new RootNode(null, null, 0) :
+            new RootNode(ServerConfig.getTreeRadix());
+    }
+
+    /** Clones the top {@code shardBits} levels of the binary Merkle tree
+     * {@code prevRoot}. The interior nodes at depth {@code shardBits} are
+     * left to be cloned by the shards: the new tree still points to the
+     * previous tree's node of shard {@code s}, which is recorded in
+     * {@code shared[s]} along with its new parent in {@code sharedParents[s]}.
+     *
+     *@return The {@link RootNode} of the partially cloned tree.
+     */
+    private static RootNode cloneTop(RootNode prevRoot, int shardBits,
+                                     InteriorNode[] shared, InteriorNode[] sharedParents) {
+        RootNode cloneN = new RootNode(null, null, prevRoot.level,
+                                       prevRoot.leftHash, prevRoot.rightHash);
+        cloneN.left = cloneTopNode(prevRoot.left, cloneN, 1, 0, shardBits,
+                                   shared, sharedParents);
+        cloneN.right = cloneTopNode(prevRoot.right, cloneN, 1, 1, shardBits,
+                                    shared, sharedParents);
+        return cloneN;
+    }
+
+    // clones the node prev at the given depth, whose path from the root
+    // is given by the bits of prefix, and its descendants above depth shardBits
+    private static TreeNode cloneTopNode(TreeNode prev, InteriorNode parent, int depth,
+                                         int prefix, int shardBits, InteriorNode[] shared,
+                                         InteriorNode[] sharedParents) {
+        if (prev == null) {
+            return null;
+        }
+        if (!(prev instanceof InteriorNode)) {
+            return prev.clone(parent);
+        }
+        if (depth == shardBits) {
+            shared[prefix] = (InteriorNode)prev;
+            sharedParents[prefix] = parent;
+            return prev;
+        }
 
-        RootNode newRoot = root;
+        InteriorNode prevI = (InteriorNode)prev;
+        InteriorNode cloneN = new InteriorNode(null, null, parent, prevI.level,
+                                               prevI.leftHash, prevI.rightHash, false);
+        cloneN.left = cloneTopNode(prevI.left, cloneN, depth+1, prefix << 1, shardBits,
+                                   shared, sharedParents);
+        cloneN.right = cloneTopNode(prevI.right, cloneN, depth+1, (prefix << 1) | 1, shardBits,
+                                    shared, sharedParents);
+        return cloneN;
+    }
 
-        byte[] prefix = null;
+    /** Applies the operations in {@code ops} in order to the successor
+     * tree {@code root} started by {@link #newSuccessorTree(RootNode)},
+     * and recomputes the hashes on all changed paths. Operations that
+     * can't be applied are logged and skipped.
+     *
+     *@return The {@link RootNode} of the successor tree, which is a new
+     * root for sparse trees.
+     */
+    static RootNode stageOperations(RootNode root,
+                                    ArrayList<Triplet<byte[], UserLeafNode, Operation>> ops) {
+        for (Triplet<byte[], UserLeafNode, Operation> op : ops) {
+            try {
+                if (root instanceof SparseRootNode) {
+                    // one operation at a time so a failed one doesn't take
+                    // the others down with it; the old root stays intact
+                    PriorityQueue<Triplet<byte[], UserLeafNode, Operation>> q =
+                        new PriorityQueue<Triplet<byte[], UserLeafNode, Operation>>(1, new ServerUtils.PrefixComparator());
+                    q.add(op);
+                    RootNode next = SparseTreeBuilder.copyExtendTree((SparseRootNode)root, q);
+                    if (next != null) {
+                        root = next;
+                    }
+                }
+                else if (root.digitSize == LeafFormat.RADIX16_FANOUT) {
+                    insertNodeRadix16(op.getValue0(), op.getValue1(), root, op.getValue2());
+                }
+                else {
+                    insertNode(op.getValue0(), op.getValue1(), root, op.getValue2());
+                }
+            }
+            catch (UnsupportedOperationException e) {
+                skipOperation(op, e);
+            }
+        }
 
-        int toInsert = pendingQ.size();
+        return computeTreeHashes(root);
+    }
+
+    // logs an operation that couldn't be applied to the tree, which is
+    // skipped so it doesn't hold up the rest of the epoch; a failed insert
+    // only marks the hashes on its path as needing recompute
+    private static void skipOperation(Triplet<byte[], UserLeafNode, Operation> op,
+                                      UnsupportedOperationException e) {
+        Logging.error("[TreeBuilder] Skipping operation for "+
+                      op.getValue1().getUsername()+": "+e.getMessage());
+    }
+
+    /** Inserts any new nodes in {@code pendingQ} ordered by the 24-bit
+     * prefix of their lookup index into the Merkle tree. The hashes on
+     * the changed paths are left to be recomputed.
+     */
+    private static void insertAll(PriorityQueue<Triplet<byte[],
+                                  UserLeafNode, Operation>> pendingQ,
+                                  RootNode root) {
 
         Triplet<byte[], UserLeafNode, Operation> p = pendingQ.poll();
         while(p != null){
-            // while we're handing the same prefix,
-            // insert as normal
             byte[] index = p.getValue0();
-            prefix = Convert.getPrefixBytes(index);
-
             UserLeafNode toAdd = p.getValue1();
             Operation op = p.getValue2();
 
-            insertNode(index, toAdd, newRoot, op);
+            try {
+                if (root.digitSize == LeafFormat.RADIX16_FANOUT) {
+                    insertNodeRadix16(index, toAdd, root, op);
+                }
+                else {
+                    insertNode(index, toAdd, root, op);
+                }
+            }
+            catch (UnsupportedOperationException e) {
+                skipOperation(p, e);
+            }
 
             p = pendingQ.poll();
+        }
+    }
 
-            toInsert--;
+    /** Inserts any new nodes in {@code pendingQ} into the Merkle tree
+     * in {@code 2^shardBits} shards, one for each {@code shardBits}-bit
+     * prefix of the lookup index. The subtrees at depth {@code shardBits}
+     * are independent, so each shard's inserts run concurrently on the
+     * build pool. A shard's first names are inserted beforehand, as usual,
+     * until its subtree reaches depth {@code shardBits}. The resulting tree
+     * is the same as the one built by inserting all nodes one by one.
+     * The subtrees in {@code shared} that still belong to the previous tree,
+     * as left by {@link #cloneTop(RootNode, int, InteriorNode[], InteriorNode[])},
+     * are cloned concurrently as well, before their shard's inserts.
+     */
+    private static void insertSharded(PriorityQueue<Triplet<byte[],
+                                      UserLeafNode, Operation>> pendingQ,
+                                      RootNode root, int shardBits,
+                                      InteriorNode[] shared, InteriorNode[] sharedParents) {
+
+        // the queue is drained in order, so the operations on
+        // the same name stay in order within their shard
+        ArrayList<ArrayList<Triplet<byte[], UserLeafNode, Operation>>> shards =
+            new ArrayList<ArrayList<Triplet<byte[], UserLeafNode, Operation>>>(1 << shardBits);
+        for (int s = 0; s < (1 << shardBits); s++) {
+            shards.add(null);
+        }
 
+        Triplet<byte[], UserLeafNode, Operation> p = pendingQ.poll();
+        while(p != null){
+            int s = getShard(p.getValue0(), shardBits);
+            if (shards.get(s) == null) {
+                shards.set(s, new ArrayList<Triplet<byte[], UserLeafNode, Operation>>());
+            }
+            shards.get(s).add(p);
+            p = pendingQ.poll();
         }
 
-        // recompute hashes
-        computeHashes(newRoot);
+        final ArrayList<ShardBuilder> builders = new ArrayList<ShardBuilder>();
+        for (int s = 0; s < shards.size(); s++) {
+            ArrayList<Triplet<byte[], UserLeafNode, Operation>> ops = shards.get(s);
+            if (ops == null) {
+                // unchanged subtrees still need to be cloned
+                if (shared[s] != null) {
+                    builders.add(new ShardBuilder(shared[s], sharedParents[s], shardBits,
+                                                  new ArrayList<Triplet<byte[], UserLeafNode, Operation>>()));
+                }
+                continue;
+            }
 
-        return newRoot;
+            // insert as usual until the shard's subtree reaches depth
+            // shardBits, which takes two names in the shard at most
+            int next = 0;
+            InteriorNode shardRoot = getShardRoot(root, s, shardBits);
+            while (shardRoot == null && next < ops.size()) {
+                Triplet<byte[], UserLeafNode, Operation> op = ops.get(next);
+                try {
+                    insertNode(op.getValue0(), op.getValue1(), root, op.getValue2());
+                }
+                catch (UnsupportedOperationException e) {
+                    skipOperation(op, e);
+                }
+                next++;
+                shardRoot = getShardRoot(root, s, shardBits);
+            }
+
+            if (shardRoot != null && shardRoot == shared[s]) {
+                builders.add(new ShardBuilder(shardRoot, sharedParents[s], shardBits, ops));
+            }
+            else if (next < ops.size()) {
+                builders.add(new ShardBuilder(shardRoot, null, shardBits,
+                                              ops.subList(next, ops.size())));
+            }
+        }
+
+        buildPool.invoke(new RecursiveAction() {
+                protected void compute() {
+                    invokeAll(builders);
+                }
+            });
+    }
+
+    /** Computes the hashes of the changed subtrees at depth
+     * {@code shardBits} of the binary Merkle tree {@code root}
+     * concurrently on the build pool. Only the hashes of the top
+     * {@code shardBits} levels are left to compute.
+     */
+    private static void computeHashesSharded(RootNode root, int shardBits)
+        throws NoSuchAlgorithmException {
+        final ArrayList<ShardHasher> hashers = new ArrayList<ShardHasher>();
+        findChangedShards(root, 0, shardBits, hashers);
+
+        buildPool.invoke(new RecursiveAction() {
+                protected void compute() {
+                    invokeAll(hashers);
+                }
+            });
+
+        for (ShardHasher hasher : hashers) {
+            if (hasher.error != null) {
+                throw hasher.error;
+            }
+        }
+    }
+
+    // collects the interior nodes at depth shardBits with missing hashes,
+    // only following the paths whose hashes are missing
+    private static void findChangedShards(InteriorNode curNode, int depth, int shardBits,
+                                          ArrayList<ShardHasher> hashers) {
+        if (depth == shardBits) {
+            if (curNode.leftHash == null || curNode.rightHash == null) {
+                hashers.add(new ShardHasher(curNode));
+            }
+            return;
+        }
+        if (curNode.leftHash == null && curNode.left instanceof InteriorNode) {
+            findChangedShards((InteriorNode)curNode.left, depth+1, shardBits, hashers);
+        }
+        if (curNode.rightHash == null && curNode.right instanceof InteriorNode) {
+            findChangedShards((InteriorNode)curNode.right, depth+1, shardBits, hashers);
+        }
+    }
+
+    // gets the shard of the lookup index, i.e. its first shardBits bits
+    private static int getShard(byte[] index, int shardBits) {
+        int shard = 0;
+        for (int i = 0; i < shardBits; i++) {
+            shard = (shard << 1) | (Convert.getNthBit(index, i) ? 1 : 0);
+        }
+        return shard;
+    }
+
+    // gets the interior node at depth shardBits whose subtree contains
+    // the given shard, and marks the hashes on the path to it as needing
+    // recompute. Returns null and leaves the hashes alone if the path ends
+    // at a leaf or an empty subtree before that depth.
+    private static InteriorNode getShardRoot(RootNode root, int shard, int shardBits) {
+        TreeNode runner = root;
+        for (int i = 0; i < shardBits; i++) {
+            if (!(runner instanceof InteriorNode)) {
+                return null;
+            }
+            boolean direction = ((shard >> (shardBits-1-i)) & 1) != 0;
+            runner = direction ? runner.right : runner.left;
+        }
+
+        if (!(runner instanceof InteriorNode)) {
+            return null;
+        }
+
+        InteriorNode curNode = root;
+        for (int i = 0; i < shardBits; i++) {
+            boolean direction = ((shard >> (shardBits-1-i)) & 1) != 0;
+            if (direction) {
+                curNode.rightHash = null;
+                curNode = (InteriorNode)curNode.right;
+            }
+            else {
+                curNode.leftHash = null;
+                curNode = (InteriorNode)curNode.left;
+            }
+        }
+        return curNode;
+    }
+
+    // inserts one shard's operations into the subtree rooted at the
+    // interior node shardRoot. If shardRoot still belongs to the previous
+    // tree, it is cloned under its new parent first.
+    private static class ShardBuilder extends RecursiveAction {
+        private final InteriorNode shardRoot;
+        private final InteriorNode newParent;
+        private final int shardBits;
+        private final List<Triplet<byte[], UserLeafNode, Operation>> ops;
+
+        ShardBuilder(InteriorNode shardRoot, InteriorNode newParent, int shardBits,
+                     List<Triplet<byte[], UserLeafNode, Operation>> ops) {
+            this.shardRoot = shardRoot;
+            this.newParent = newParent;
+            this.shardBits = shardBits;
+            this.ops = ops;
+        }
+
+        protected void compute() {
+            InteriorNode subtree = shardRoot;
+            if (newParent != null) {
+                subtree = (InteriorNode)shardRoot.clone(newParent);
+                // the sibling shard only ever writes the other child
+                if (newParent.left == shardRoot) {
+                    newParent.left = subtree;
+                }
+                else {
+                    newParent.right = subtree;
+                }
+            }
+
+            for (Triplet<byte[], UserLeafNode, Operation> op : ops) {
+                try {
+                    insertNode(op.getValue0(), op.getValue1(), subtree, shardBits, op.getValue2());
+                }
+                catch (UnsupportedOperationException e) {
+                    skipOperation(op, e);
+                }
+            }
+        }
+    }
+
+    // computes the hashes of the children of the interior node shardRoot
+    private static class ShardHasher extends RecursiveAction {
+        private final InteriorNode shardRoot;
+
+        NoSuchAlgorithmException error;
+
+        ShardHasher(InteriorNode shardRoot) {
+            this.shardRoot = shardRoot;
+        }
+
+        protected void compute() {
+            try {
+                if (shardRoot.leftHash == null) {
+                    shardRoot.leftHash = innerComputeHash(shardRoot.left);
+                }
+                if (shardRoot.rightHash == null) {
+                    shardRoot.rightHash = innerComputeHash(shardRoot.right);
+                }
+            }
+            catch (NoSuchAlgorithmException e) {
+                error = e;
+            }
+        }
     }
 
 }
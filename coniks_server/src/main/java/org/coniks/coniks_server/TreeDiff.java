@@ -0,0 +1,255 @@
+/*
+  Copyright (c) 2015-16, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.coniks_server;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// coniks-java imports
+import org.coniks.coniks_common.LeafFormat;
+import org.coniks.crypto.Digest;
+import org.coniks.util.Logging;
+
+/** Computes the differences between the Merkle trees of two epochs.
+ * Both trees are walked together from the root, and every pair of subtrees
+ * with equal hashes is skipped, so the cost of a diff is proportional to
+ * the number of changed leaves and the depth of the tree, not to the size
+ * of the directory. The changed leaves are reported in lookup index order
+ * as the walk reaches them.
+ * In prefix trees, a leaf is pushed down whenever a new leaf shares its
+ * prefix, so leaves whose version is the same in both trees
+ * aren't reported even if their position changed.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class TreeDiff {
+
+    /** Receives the user leaf nodes that were added or changed
+     * between two trees.
+     */
+    public interface Listener {
+
+        /** Called for each leaf that was added or changed, in lookup
+         * index order.
+         *
+         *@param oldLeaf the leaf in the older tree, or {@code null} if it was added
+         *@param newLeaf the leaf in the newer tree
+         */
+        void leafChanged(UserLeafNode oldLeaf, UserLeafNode newLeaf);
+    }
+
+    /** Reports all leaves that were added or changed from the tree of
+     * {@code oldSTR} to the tree of {@code newSTR} to {@code listener}.
+     * Both trees must use the same tree format; flat trees are used if
+     * both STRs have one.
+     *
+     *@return whether the trees could be compared.
+     */
+    public static boolean diff(SignedTreeRoot oldSTR, SignedTreeRoot newSTR,
+                               Listener listener) {
+        FlatTree oldFlat = oldSTR.getFlatTree();
+        FlatTree newFlat = newSTR.getFlatTree();
+        if (oldFlat != null && newFlat != null) {
+            // the root's own hash isn't kept in the slab, so start at its children
+            FlatDiff fd = new FlatDiff(oldFlat, newFlat, listener);
+            fd.diff(oldFlat.getChild(oldFlat.getRoot(), false),
+                    newFlat.getChild(newFlat.getRoot(), false));
+            fd.diff(oldFlat.getChild(oldFlat.getRoot(), true),
+                    newFlat.getChild(newFlat.getRoot(), true));
+            return true;
+        }
+
+        RootNode oldRoot = oldSTR.getRoot();
+        RootNode newRoot = newSTR.getRoot();
+        if (oldRoot == null || newRoot == null ||
+            oldRoot.digitSize != newRoot.digitSize ||
+            (oldRoot instanceof SparseRootNode) != (newRoot instanceof SparseRootNode)) {
+            Logging.error("[TreeDiff] Can't compare the trees of epochs "+
+                          oldSTR.getEpoch()+" and "+newSTR.getEpoch());
+            return false;
+        }
+
+        if (oldRoot.digitSize == LeafFormat.RADIX16_FANOUT) {
+            diffRadix16(oldRoot, newRoot, listener);
+        }
+        else {
+            diffBinary(oldRoot.left, oldRoot.leftHash, newRoot.left, newRoot.leftHash, listener);
+            diffBinary(oldRoot.right, oldRoot.rightHash, newRoot.right, newRoot.rightHash, listener);
+        }
+        return true;
+    }
+
+    // compares the new leaf to the old leaf, if any, at its position
+    // or at the position it was pushed down from
+    private static void diffLeaf(UserLeafNode oldLeaf, UserLeafNode newLeaf,
+                                 Listener listener) {
+        if (oldLeaf == null || !oldLeaf.getUsername().equals(newLeaf.getUsername())) {
+            listener.leafChanged(null, newLeaf);
+        }
+        // a leaf's version only changes with its epochChanged
+        else if (oldLeaf.getEpochChanged() != newLeaf.getEpochChanged()) {
+            listener.leafChanged(oldLeaf, newLeaf);
+        }
+    }
+
+    // compares the old subtree a with hash ha to the new subtree b with
+    // hash hb in a binary prefix tree or sparse tree
+    private static void diffBinary(TreeNode a, byte[] ha, TreeNode b, byte[] hb,
+                                   Listener listener) {
+        if (!(b instanceof UserLeafNode || b instanceof InteriorNode)) {
+            // names are never removed, so there's nothing new here
+            return;
+        }
+        if (ha != null && hb != null && Arrays.equals(ha, hb)) {
+            return;
+        }
+
+        if (!(a instanceof InteriorNode) || !(b instanceof InteriorNode)) {
+            // a leaf was pushed down or new leaves were added
+            // where there were none before
+            diffLeaves(a instanceof UserLeafNode ? (UserLeafNode)a : null, b, listener);
+            return;
+        }
+
+        InteriorNode ai = (InteriorNode)a;
+        InteriorNode bi = (InteriorNode)b;
+        diffBinary(ai.left, ai.leftHash, bi.left, bi.leftHash, listener);
+        diffBinary(ai.right, ai.rightHash, bi.right, bi.rightHash, listener);
+    }
+
+    // compares the old leaf oldLeaf, if any, to all leaves
+    // of the new subtree b, where it must have been pushed to
+    private static void diffLeaves(UserLeafNode oldLeaf, TreeNode b, Listener listener) {
+        if (b instanceof UserLeafNode) {
+            diffLeaf(oldLeaf, (UserLeafNode)b, listener);
+        }
+        else if (b instanceof InteriorNode) {
+            diffLeaves(oldLeaf, b.left, listener);
+            diffLeaves(oldLeaf, b.right, listener);
+        }
+        else if (b instanceof RadixInteriorNode) {
+            TreeNode[] children = ((RadixInteriorNode)b).children;
+            for (int i = 0; i < children.length; i++) {
+                diffLeaves(oldLeaf, children[i], listener);
+            }
+        }
+    }
+
+    // compares two radix-16 trees starting at their roots
+    private static void diffRadix16(RootNode a, RootNode b, Listener listener) {
+        for (int i = 0; i < LeafFormat.RADIX16_FANOUT; i++) {
+            diffRadix16(a.children[i], a.childHashes[i], b.children[i],
+                        b.childHashes[i], listener);
+        }
+    }
+
+    // compares the old subtree a with hash ha to the new subtree b
+    // with hash hb in a radix-16 tree
+    private static void diffRadix16(TreeNode a, byte[] ha, TreeNode b, byte[] hb,
+                                    Listener listener) {
+        if (b == null) {
+            return;
+        }
+        if (ha != null && hb != null && Arrays.equals(ha, hb)) {
+            return;
+        }
+
+        if (!(a instanceof RadixInteriorNode) || !(b instanceof RadixInteriorNode)) {
+            diffLeaves(a instanceof UserLeafNode ? (UserLeafNode)a : null, b, listener);
+            return;
+        }
+
+        RadixInteriorNode ai = (RadixInteriorNode)a;
+        RadixInteriorNode bi = (RadixInteriorNode)b;
+        for (int i = 0; i < LeafFormat.RADIX16_FANOUT; i++) {
+            diffRadix16(ai.children[i], ai.childHashes[i], bi.children[i],
+                        bi.childHashes[i], listener);
+        }
+    }
+
+    // compares two flat trees, reading the hashes straight from their slabs
+    private static class FlatDiff {
+        private final FlatTree a;
+        private final FlatTree b;
+        private final ByteBuffer slabA;
+        private final ByteBuffer slabB;
+        private final byte[] hashA = new byte[Digest.HASH_SIZE_BYTES];
+        private final byte[] hashB = new byte[Digest.HASH_SIZE_BYTES];
+        private final Listener listener;
+
+        FlatDiff(FlatTree a, FlatTree b, Listener listener) {
+            this.a = a;
+            this.b = b;
+            this.slabA = a.getSlab();
+            this.slabB = b.getSlab();
+            this.listener = listener;
+        }
+
+        // compares the old subtree ra to the new subtree rb
+        void diff(int ra, int rb) {
+            if (rb == FlatTree.EMPTY) {
+                return;
+            }
+            if (ra != FlatTree.EMPTY) {
+                a.getHash(slabA, ra, hashA);
+                b.getHash(slabB, rb, hashB);
+                if (Arrays.equals(hashA, hashB)) {
+                    return;
+                }
+            }
+
+            if (ra == FlatTree.EMPTY || FlatTree.isLeaf(ra) || FlatTree.isLeaf(rb)) {
+                diffLeaves(FlatTree.isLeaf(ra) ? a.getLeaf(ra) : null, rb);
+                return;
+            }
+
+            diff(a.getChild(ra, false), b.getChild(rb, false));
+            diff(a.getChild(ra, true), b.getChild(rb, true));
+        }
+
+        // compares the old leaf oldLeaf, if any, to all leaves of the new subtree rb
+        void diffLeaves(UserLeafNode oldLeaf, int rb) {
+            if (rb == FlatTree.EMPTY) {
+                return;
+            }
+            if (FlatTree.isLeaf(rb)) {
+                diffLeaf(oldLeaf, b.getLeaf(rb), listener);
+                return;
+            }
+            diffLeaves(oldLeaf, b.getChild(rb, false));
+            diffLeaves(oldLeaf, b.getChild(rb, true));
+        }
+    }
+
+}
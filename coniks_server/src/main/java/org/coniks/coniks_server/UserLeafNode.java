@@ -34,7 +34,7 @@
 package org.coniks.coniks_server;
 
 import java.io.Serializable;
-import java.security.interfaces.DSAPublicKey;
+import java.security.PublicKey;
 import java.security.interfaces.RSAPublicKey;
 import java.util.HashMap;
 
@@ -57,9 +57,14 @@ public class UserLeafNode extends LeafNode implements Serializable {
     boolean allowPublicLookup;
     byte[] index;
     byte[] signature; // The signature of the last msg
-    DSAPublicKey changeKey; // The public DSA key for changing
+    PublicKey changeKey; // The public DSA or Ed25519 key for changing
     byte[] lastMsg; // The last msg
 
+    // digests committed to by the fixed-size leaf format, cleared whenever
+    // the key data or the change key changes
+    transient byte[] keyDataDigest;
+    transient byte[] changeKeyDigest;
+
     public UserLeafNode(String u, String blob, long e, int lvl){
         this(u,blob,e,lvl,true,true);
     }
@@ -70,7 +75,7 @@ public class UserLeafNode extends LeafNode implements Serializable {
     public UserLeafNode(String u, String blob, long e, int lvl, byte[] index) {
         this(u,blob,e,lvl,true,true,null,index);
     }
-    public UserLeafNode(String u, String blob, long e, int lvl, boolean allowUnsignedKeychange, boolean allowPublicLookup, DSAPublicKey changeKey) {
+    public UserLeafNode(String u, String blob, long e, int lvl, boolean allowUnsignedKeychange, boolean allowPublicLookup, PublicKey changeKey) {
         this.username = u;
         this.pubKey = blob;
         this.epochAdded = e;
@@ -86,7 +91,7 @@ public class UserLeafNode extends LeafNode implements Serializable {
         this.changeKey = changeKey;
     }
 
-    public UserLeafNode(String u, String blob, long e, int lvl, boolean allowUnsignedKeychange, boolean allowPublicLookup, DSAPublicKey changeKey, byte[] index){
+    public UserLeafNode(String u, String blob, long e, int lvl, boolean allowUnsignedKeychange, boolean allowPublicLookup, PublicKey changeKey, byte[] index){
         this.username = u;
         this.pubKey = blob;
         this.epochAdded = e;
@@ -116,6 +121,8 @@ public class UserLeafNode extends LeafNode implements Serializable {
         this.signature = uln.signature;
         this.changeKey = uln.changeKey;
         this.lastMsg = uln.lastMsg;
+        this.keyDataDigest = uln.keyDataDigest;
+        this.changeKeyDigest = uln.changeKeyDigest;
     }
 
      /** Gets the username contained in this UserLeafNode.
@@ -179,11 +186,11 @@ public class UserLeafNode extends LeafNode implements Serializable {
         return this.epochChanged;
     }
 
-    /** Gets the DSA public key used to sign key data changes.
+    /** Gets the DSA or Ed25519 public key used to sign key data changes.
      *
-     *@return the DSA public change key.
+     *@return the public change key.
      */
-    public DSAPublicKey getChangeKey() {
+    public PublicKey getChangeKey() {
         return this.changeKey;
     }
 
@@ -216,6 +223,7 @@ public class UserLeafNode extends LeafNode implements Serializable {
      */
     public void setPublicKey(String newKey) {
         this.pubKey = newKey;
+        this.keyDataDigest = null;
     }
 
     /** Sets the key data in this leaf to {@code keyData}.
@@ -225,6 +233,7 @@ public class UserLeafNode extends LeafNode implements Serializable {
      */
     public void setKeyData(String keyData) {
         this.pubKey = keyData;
+        this.keyDataDigest = null;
     }
 
     /** Sets the epoch at which the key data in this leaf was changed to {@code ep0}.
@@ -245,10 +254,11 @@ public class UserLeafNode extends LeafNode implements Serializable {
         this.allowPublicLookup = b;
     }
 
-    /** Sets the DSA public change key to {@code newKey}.
+    /** Sets the DSA or Ed25519 public change key to {@code newKey}.
      */
-    public void setChangeKey(DSAPublicKey newKey) {
+    public void setChangeKey(PublicKey newKey) {
         this.changeKey = newKey;
+        this.changeKeyDigest = null;
     }
 
     /** Sets the last key data change message to {@code msg}.
@@ -284,6 +294,9 @@ public class UserLeafNode extends LeafNode implements Serializable {
                                                this.allowPublicLookup, this.changeKey, this.index);
         cloneN.setSignature(this.signature);
         cloneN.setLastMsg(this.lastMsg);        
+        cloneN.epochChanged = this.epochChanged;
+        cloneN.keyDataDigest = this.keyDataDigest;
+        cloneN.changeKeyDigest = this.changeKeyDigest;
 	cloneN.parent = parent;
 	
 	return cloneN;
@@ -0,0 +1,136 @@
+/*
+  Copyright (c) 2015-16, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.coniks_server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Indexes the versions of every user's entry in the key directory,
+ * i.e. the epochs in which the entry was registered or changed.
+ * The entry of a user at any epoch is the version of the latest of these
+ * epochs, so historical lookups know right away whether the user existed
+ * at that epoch, and the key history of a user is found without looking
+ * at the trees of the epochs in between.
+ * The versions are recorded once per epoch, right before the epoch is
+ * published, and can be read without locking.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class VersionIndex {
+
+    // the epochs in which each user's entry changed, in increasing order;
+    // the arrays are replaced, never changed, so readers don't need a lock
+    private static final ConcurrentHashMap<String, long[]> versions =
+        new ConcurrentHashMap<String, long[]>(16384);
+
+    private static final long[] NO_VERSIONS = new long[0];
+
+    /** Records the new versions in the signed tree root {@code str} of the
+     * users in {@code names}, whose registrations or key changes were sealed
+     * for its epoch. Operations that weren't applied to the tree don't create
+     * a version. This must be called for every epoch in order before the
+     * epoch is published, and only from one thread.
+     */
+    public static void record(SignedTreeRoot str, ArrayList<String> names) {
+        long ep = str.getEpoch();
+
+        for (String name : names) {
+            long[] eps = versions.get(name);
+
+            // names may appear several times in an epoch
+            if (eps != null && eps[eps.length-1] == ep) {
+                continue;
+            }
+
+            UserLeafNode uln = DirectoryOps.getUlnFromSTR(name, str);
+            if (uln == null || uln.getEpochChanged() != ep) {
+                continue;
+            }
+
+            if (eps == null) {
+                versions.put(name, new long[]{ep});
+            }
+            else {
+                long[] newEps = Arrays.copyOf(eps, eps.length+1);
+                newEps[eps.length] = ep;
+                versions.put(name, newEps);
+            }
+        }
+    }
+
+    /** Gets the version of the user {@code name}'s entry at epoch {@code ep}.
+     *
+     *@return the epoch in which the entry was last registered or changed
+     * up to {@code ep}, or -1 if the user wasn't registered yet.
+     */
+    public static long getVersion(String name, long ep) {
+        long[] eps = versions.get(name);
+        if (eps == null) {
+            return -1;
+        }
+        int i = latestAt(eps, ep);
+        return i < 0 ? -1 : eps[i];
+    }
+
+    /** Gets all versions of the user {@code name}'s entry that were
+     * current at some point from epoch {@code start} to epoch {@code end},
+     * i.e. the version at {@code start} and any versions after it up to
+     * {@code end}.
+     *
+     *@return the epochs of the versions in increasing order, which is
+     * empty if the user wasn't registered by {@code end}.
+     */
+    public static long[] getVersions(String name, long start, long end) {
+        long[] eps = versions.get(name);
+        if (eps == null || end < start) {
+            return NO_VERSIONS;
+        }
+
+        int from = Math.max(latestAt(eps, start), 0);
+        int to = latestAt(eps, end);
+        if (to < from) {
+            return NO_VERSIONS;
+        }
+        return Arrays.copyOfRange(eps, from, to+1);
+    }
+
+    // finds the position of the latest epoch in eps that is at most ep,
+    // or -1 if there is none
+    private static int latestAt(long[] eps, long ep) {
+        int i = Arrays.binarySearch(eps, ep);
+        return i >= 0 ? i : -i-2;
+    }
+
+}
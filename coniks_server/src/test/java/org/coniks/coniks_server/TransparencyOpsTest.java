@@ -0,0 +1,126 @@
+/*
+  Copyright (c) 2016, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.coniks_server;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.PriorityQueue;
+
+import org.javatuples.*;
+
+// coniks-java imports
+import org.coniks.crypto.Keys;
+
+/**
+ * Unit tests for TransparencyOps.
+ */
+public class TransparencyOpsTest
+{
+
+    private static PublicKey changeKey;
+
+    @BeforeClass
+    public static void setUp()
+        throws Exception {
+        changeKey = Keys.generateDSAKeyPair().getPublic();
+    }
+
+    // builds a binary tree with the users user0 thru user(n-1),
+    // adding their leaves to leaves
+    private static RootNode buildTree(int n, ArrayList<UserLeafNode> leaves) {
+        PriorityQueue<Triplet<byte[], UserLeafNode, Operation>> pendingQ =
+            new PriorityQueue<Triplet<byte[], UserLeafNode, Operation>>(16, new ServerUtils.PrefixComparator());
+
+        for (int i = 0; i < n; i++) {
+            String uname = "user"+i;
+            byte[] index = ServerUtils.unameToIndex(uname);
+            UserLeafNode uln = new UserLeafNode(uname, "blob"+i, 1, 0, false, true,
+                                                changeKey, index);
+            leaves.add(uln);
+            pendingQ.add(Triplet.with(index, uln, (Operation)new Register()));
+        }
+
+        RootNode root = TreeBuilder.copyExtendTree(null, pendingQ);
+        assertNotNull("Building the tree failed", root);
+        return root;
+    }
+
+    @Test
+    public void testAuthPathBytesBinary() {
+
+        for (int n : new int[]{1, 2, 64}) {
+            ArrayList<UserLeafNode> leaves = new ArrayList<UserLeafNode>();
+            RootNode root = buildTree(n, leaves);
+
+            for (UserLeafNode uln : leaves) {
+                byte[] authPath = TransparencyOps.generateAuthPathBytes(uln, root);
+
+                assertNotNull("Encoding the auth path failed", authPath);
+                assertArrayEquals("Encoded auth path differs from the protobuf for "+
+                                  uln.getUsername(),
+                                  TransparencyOps.generateAuthPathProto(uln, root).toByteArray(),
+                                  authPath);
+            }
+        }
+    }
+
+    @Test
+    public void testAuthPathBytesFlat() {
+
+        for (int n : new int[]{1, 2, 64}) {
+            ArrayList<UserLeafNode> leaves = new ArrayList<UserLeafNode>();
+            RootNode root = buildTree(n, leaves);
+            FlatTree flat = FlatTree.fromRoot(root);
+
+            for (UserLeafNode uln : leaves) {
+                UserLeafNode flatLeaf = flat.findLeaf(uln.getUsername(), uln.getIndex());
+                assertNotNull("Leaf missing from the flat tree", flatLeaf);
+
+                byte[] authPath = TransparencyOps.generateAuthPathBytes(flatLeaf, flat);
+
+                assertNotNull("Encoding the flat auth path failed", authPath);
+                assertArrayEquals("Flat auth path differs from the protobuf for "+
+                                  uln.getUsername(),
+                                  TransparencyOps.generateAuthPathProto(uln, root).toByteArray(),
+                                  authPath);
+            }
+        }
+    }
+
+}
@@ -37,6 +37,7 @@ import java.util.Scanner;
 import java.util.ArrayList;
 import java.io.File;
 import java.io.FileInputStream;
+import java.util.HashMap;
 
 /** Sets various configuration parameters 
  * for a CONIKS client.
@@ -74,6 +75,16 @@ public class ClientConfig{
      */
     private static String TRUSTSTORE_PWD = "";
 
+    /** Optional configs follow the required ones as {@code key=value} lines
+     */
+    private static final String OPTION_PATTERN = "^[a-z0-9.]+=.*$";
+    private static final HashMap<String,String> OPTIONS = new HashMap<String,String>();
+
+    /** The algorithm used for newly generated change keys,
+     * either {@code DSA} or {@code Ed25519} (Java 15+ only).
+     */
+    private static String CHANGEKEY_ALGORITHM = "DSA";
+
     /** Returns the {@code PORT} number at which the CONIKS server is listening.
      */
     public static int getPort() {
@@ -112,6 +123,13 @@ public class ClientConfig{
         return TRUSTSTORE_PWD;
     }
 
+    /** Returns the algorithm used for newly generated change keys
+     * {@code CHANGEKEY_ALGORITHM}.
+     */
+    public static String getChangeKeyAlgorithm() {
+        return CHANGEKEY_ALGORITHM;
+    }
+
      /** Set a {@link TestClient}'s configuration according to the parameters in
      * {@code configFile}.
      *
@@ -148,7 +166,29 @@ public class ClientConfig{
                 TRUSTSTORE_PATH = configs.get(TRUSTSTORE_PATH_IDX);
                 TRUSTSTORE_PWD = configs.get(TRUSTSTORE_PWD_IDX);
             }
-            
+
+            // the optional configs may come in any order after the required ones
+            int firstOptionIdx = isFullOp ? TRUSTSTORE_PWD_IDX+1 : USERKEYS_PATH_IDX+1;
+            for (int i = firstOptionIdx; i < configs.size(); i++) {
+                String line = configs.get(i).trim();
+
+                if (!line.matches(OPTION_PATTERN)) {
+                    continue;
+                }
+
+                int sep = line.indexOf('=');
+                OPTIONS.put(line.substring(0, sep), line.substring(sep+1).trim());
+            }
+
+            String ckAlg = OPTIONS.get("changekey.algorithm");
+            if (ckAlg != null) {
+                if (!ckAlg.equals("DSA") && !ckAlg.equals("Ed25519")) {
+                    System.out.println("Error in ClientConfig: unknown change key algorithm "+ckAlg);
+                    return false;
+                }
+                CHANGEKEY_ALGORITHM = ckAlg;
+            }
+
             return true;
         }
         catch (Exception e) {
@@ -36,6 +36,7 @@ package org.coniks.coniks_test_client;
 import javax.net.ssl.*;
 import java.net.*;
 import java.io.*;
+import java.util.ArrayList;
 
 import com.google.protobuf.AbstractMessage;
 import com.google.protobuf.ByteString;
@@ -45,6 +46,7 @@ import com.google.protobuf.InvalidProtocolBufferException;
 import org.coniks.util.Logging;
 import org.coniks.coniks_common.MsgType;
 import org.coniks.coniks_common.CommonMessaging;
+import org.coniks.crypto.Keys;
 
 import org.coniks.coniks_common.C2SProtos.Registration;
 import org.coniks.coniks_common.C2SProtos.CommitmentReq;
@@ -58,6 +60,7 @@ import org.coniks.coniks_common.UtilProtos.Commitment;
 import org.coniks.coniks_common.UtilProtos.ServerResp;
 import org.coniks.coniks_common.UtilProtos.*;
 
+import java.security.PublicKey;
 import java.security.spec.*;
 import java.security.interfaces.*;
 
@@ -106,16 +109,76 @@ public class ClientMessaging {
     public static void sendKeyLookupProto (String username, long epoch,
                                               String server) {
 
-        KeyLookup lookup = buildKeyLookupMsgProto(username, epoch);
+        sendKeyLookupProto(username, epoch, 0, server);
+
+    }
+
+    /** Sends a KeyLookup protobuf message with the given
+     *   {@code username} and {@code epoch} to
+     *  to the {@code server}, asking for the auth path only if the mapping
+     *  changed after {@code sinceEpoch}. A {@code sinceEpoch} of 0
+     *  always asks for the auth path.
+     */
+    public static void sendKeyLookupProto (String username, long epoch,
+                                           long sinceEpoch, String server) {
+
+        KeyLookup lookup = buildKeyLookupMsgProto(username, epoch, sinceEpoch);
         sendMsgProto(MsgType.KEY_LOOKUP, lookup, server);
 
     }
 
+    /** Sends a KeyHistoryReq protobuf message for all versions of
+     *  {@code username}'s key from {@code startEpoch} to {@code endEpoch}
+     *  to the {@code server}.
+     */
+    public static void sendKeyHistoryReqProto (String username, long startEpoch,
+                                               long endEpoch, String server) {
+
+        KeyHistoryReq req = buildKeyHistoryReqMsgProto(username, startEpoch, endEpoch);
+        sendMsgProto(MsgType.KEY_HISTORY_REQ, req, server);
+
+    }
+
+    /** Sends a CommitmentRangeReq protobuf message for the server's
+     *  commitments from {@code startEpoch} to {@code endEpoch} to the {@code server}.
+     */
+    public static void sendCommitmentRangeReqProto (long startEpoch, long endEpoch,
+                                                    String server) {
+
+        CommitmentRangeReq.Builder reqBuild = CommitmentRangeReq.newBuilder();
+        reqBuild.setStartEpoch(startEpoch);
+        reqBuild.setEndEpoch(endEpoch);
+        sendMsgProto(MsgType.COMMITMENT_RANGE_REQ, reqBuild.build(), server);
+
+    }
+
+    /** Sends a ChangelogReq protobuf message for the changes
+     *  from {@code startEpoch} to {@code endEpoch} to the {@code server}.
+     */
+    public static void sendChangelogReqProto (long startEpoch, long endEpoch,
+                                              String server) {
+
+        ChangelogReq req = buildChangelogReqMsgProto(startEpoch, endEpoch);
+        sendMsgProto(MsgType.CHANGELOG_REQ, req, server);
+
+    }
+
+    /** Sends a MultiKeyLookup protobuf message with the given
+     *   {@code usernames} and {@code epoch} to
+     *  to the {@code server}.
+     */
+    public static void sendMultiKeyLookupProto (ArrayList<String> usernames, long epoch,
+                                                String server) {
+
+        MultiKeyLookup lookup = buildMultiKeyLookupMsgProto(usernames, epoch);
+        sendMsgProto(MsgType.MULTI_KEY_LOOKUP, lookup, server);
+
+    }
+
     /** Sends a CommitmentReq protobuf message requesting {@code provider}'s
      *  signed tree root for {@code epoch} from {@code server}.
      *  If the server and provider are the same, {@code commitmentType}
      *  is {@code SELF}, otherwise it is {@code WITNESSED}.
-     * (Unused)
     */
     public static void sendCommitmentReqProto (
                                                CommitmentReq.CommitmentType commitmentType,
@@ -145,7 +208,7 @@ public class ClientMessaging {
     public static void sendSignedULNChangeReqProto(ClientUser user,
                                                    byte[] sig,
                                                    String server) {
-        DSAPublicKey changePk = user.getChangePubKey();
+        PublicKey changePk = user.getChangePubKey();
 
         // let's not assume the key is in memory
         if (changePk == null) {
@@ -192,25 +255,73 @@ public class ClientMessaging {
         changes flag.
     */
     private static Registration buildRegistrationMsgProto(String username, String keyData,
-                                                          DSAPublicKey changeKey, boolean allowsUnsignedKeyChange,
+                                                          PublicKey changeKey, boolean allowsUnsignedKeyChange,
                                                           boolean allowsPublicVisibility) {
         Registration.Builder regBuild = Registration.newBuilder();
         regBuild.setName(username);
         regBuild.setBlob(keyData);
-        DSAPublicKeyProto ckProto = ClientUtils.buildDSAPublicKeyProto(changeKey);
-        regBuild.setChangeKey(ckProto);
+        byte[] edKey = Keys.getEd25519Raw(changeKey);
+        if (edKey != null) {
+            regBuild.setEd25519ChangeKey(ByteString.copyFrom(edKey));
+        }
+        else {
+            DSAPublicKeyProto ckProto = ClientUtils.buildDSAPublicKeyProto((DSAPublicKey)changeKey);
+            regBuild.setChangeKey(ckProto);
+        }
         regBuild.setAllowsUnsignedKeychange(allowsUnsignedKeyChange);
         regBuild.setAllowsPublicLookup(allowsPublicVisibility);
         return regBuild.build();
     }
 
     /** Builds the KeyLookup protobuf message with a given
-        {@code username} and {@code epoch}.
+        {@code username}, {@code epoch} and {@code sinceEpoch}, if any.
     */
-    private static KeyLookup buildKeyLookupMsgProto(String username, long epoch) {
+    private static KeyLookup buildKeyLookupMsgProto(String username, long epoch,
+                                                    long sinceEpoch) {
         KeyLookup.Builder keyLookupBuild = KeyLookup.newBuilder();
         keyLookupBuild.setName(username);
         keyLookupBuild.setEpoch(epoch);
+        if (sinceEpoch > 0) {
+            keyLookupBuild.setSinceEpoch(sinceEpoch);
+        }
+
+        return keyLookupBuild.build();
+    }
+
+    /** Builds the KeyHistoryReq protobuf message with the given
+        {@code username}, {@code startEpoch} and {@code endEpoch}.
+    */
+    private static KeyHistoryReq buildKeyHistoryReqMsgProto(String username,
+                                                            long startEpoch,
+                                                            long endEpoch) {
+        KeyHistoryReq.Builder reqBuild = KeyHistoryReq.newBuilder();
+        reqBuild.setName(username);
+        reqBuild.setStartEpoch(startEpoch);
+        reqBuild.setEndEpoch(endEpoch);
+
+        return reqBuild.build();
+    }
+
+    /** Builds the ChangelogReq protobuf message with the given
+        {@code startEpoch} and {@code endEpoch}.
+    */
+    private static ChangelogReq buildChangelogReqMsgProto(long startEpoch,
+                                                          long endEpoch) {
+        ChangelogReq.Builder reqBuild = ChangelogReq.newBuilder();
+        reqBuild.setStartEpoch(startEpoch);
+        reqBuild.setEndEpoch(endEpoch);
+
+        return reqBuild.build();
+    }
+
+    /** Builds the MultiKeyLookup protobuf message with the given
+        {@code usernames} and {@code epoch}.
+    */
+    private static MultiKeyLookup buildMultiKeyLookupMsgProto(ArrayList<String> usernames,
+                                                              long epoch) {
+        MultiKeyLookup.Builder keyLookupBuild = MultiKeyLookup.newBuilder();
+        keyLookupBuild.addAllName(usernames);
+        keyLookupBuild.setEpoch(epoch);
 
         return keyLookupBuild.build();
     }
@@ -236,7 +347,7 @@ public class ClientMessaging {
     */
     public static ULNChangeReq buildULNChangeReqMsgProto(String username,
                                                           String blob,
-                                                          DSAPublicKey dsa,
+                                                          PublicKey changeKey,
                                                           boolean allowsUnsignedKeychange,
                                                           boolean allowsPublicLookup) {
         ULNChangeReq.Builder ulnChangeBuilder = ULNChangeReq.newBuilder();
@@ -244,8 +355,14 @@ public class ClientMessaging {
         if (blob != null) {
             ulnChangeBuilder.setNewBlob(blob);
         }
-        if (dsa != null) {
-            ulnChangeBuilder.setNewChangeKey(ClientUtils.buildDSAPublicKeyProto(dsa));
+        if (changeKey != null) {
+            byte[] edKey = Keys.getEd25519Raw(changeKey);
+            if (edKey != null) {
+                ulnChangeBuilder.setNewEd25519ChangeKey(ByteString.copyFrom(edKey));
+            }
+            else {
+                ulnChangeBuilder.setNewChangeKey(ClientUtils.buildDSAPublicKeyProto((DSAPublicKey)changeKey));
+            }
         }
         ulnChangeBuilder.setAllowsUnsignedKeychange(allowsUnsignedKeychange);
         ulnChangeBuilder.setAllowsPublicLookup(allowsPublicLookup);
@@ -295,7 +412,8 @@ public class ClientMessaging {
      /** Receives and parses an AuthPath protobuf message
      * from the server.
      *
-     *@return The AbstractMessage (either of type ServerResp or AuthPath)
+     *@return The AbstractMessage (either of type ServerResp, AuthPath,
+     * or KeyNotModified for a lookup since a given epoch)
      *upon success. {@code null} otherwise.
      */
     public static AbstractMessage receiveAuthPathProto() {
@@ -311,13 +429,88 @@ public class ClientMessaging {
         else if (serverMsg != null && serverMsg instanceof AuthPath) {
             authPath = (AuthPath)serverMsg;
         }
+        else if (serverMsg != null && serverMsg instanceof KeyNotModified) {
+            authPath = (KeyNotModified)serverMsg;
+        }
 
         return authPath;
 
+    }
+
+     /** Receives and parses a MultiAuthPath protobuf message
+     * from the server.
+     *
+     *@return The AbstractMessage (either of type ServerResp or MultiAuthPath)
+     *upon success. {@code null} otherwise.
+     */
+    public static AbstractMessage receiveMultiAuthPathProto() {
+
+        // first receive the generic message from the server
+        AbstractMessage serverMsg = receiveMsgProto();
+
+        AbstractMessage multiPath = null;
+
+        if (serverMsg != null && serverMsg instanceof ServerResp) {
+            multiPath = (ServerResp)serverMsg;
+        }
+        else if (serverMsg != null && serverMsg instanceof MultiAuthPath) {
+            multiPath = (MultiAuthPath)serverMsg;
+        }
+
+        return multiPath;
+
+    }
+
+     /** Receives and parses a KeyHistory protobuf message
+     * from the server.
+     *
+     *@return The AbstractMessage (either of type ServerResp or KeyHistory)
+     *upon success. {@code null} otherwise.
+     */
+    public static AbstractMessage receiveKeyHistoryProto() {
+
+        // first receive the generic message from the server
+        AbstractMessage serverMsg = receiveMsgProto();
+
+        AbstractMessage history = null;
+
+        if (serverMsg != null && serverMsg instanceof ServerResp) {
+            history = (ServerResp)serverMsg;
+        }
+        else if (serverMsg != null && serverMsg instanceof KeyHistory) {
+            history = (KeyHistory)serverMsg;
+        }
+
+        return history;
+
+    }
+
+     /** Receives and parses the stream of EpochChanges protobuf messages
+     * sent in response to a changelog request, until the server closes
+     * the connection.
+     *
+     *@return A list containing either a single ServerResp or an
+     * EpochChanges message for each epoch in the requested range,
+     * oldest first. {@code null} if any of the messages is malformed.
+     */
+    public static ArrayList<AbstractMessage> receiveChangelogProto() {
+        return receiveMsgStreamProto(MsgType.EPOCH_CHANGES);
+    }
+
+     /** Receives and parses the stream of Commitment protobuf messages
+     * sent in response to a commitment range request, until the server
+     * closes the connection.
+     *
+     *@return A list containing either a single ServerResp or a
+     * Commitment message for each epoch in the requested range,
+     * oldest first. {@code null} if any of the messages is malformed.
+     */
+    public static ArrayList<AbstractMessage> receiveCommitmentRangeProto() {
+        return receiveMsgStreamProto(MsgType.COMMITMENT);
     }
 
      /** Receives and parses a Commitment protobuf message
-     * from the server. (Unused)
+     * from the server.
      *
      *@return The AbstractMessage (either of type ServerResp or Commitment)
      *upon success. {@code null} otherwise.
@@ -354,8 +547,81 @@ public class ClientMessaging {
 
         try {
             // get the message type of the message and read in the stream
-            int msgType = din.readUnsignedByte();
+            return readMsgProto(din.readUnsignedByte());
+        }
+        catch (IOException e) {
+            Logging.error("receiving data from the server: "+e.getMessage());
+        }
+        finally {
+            CommonMessaging.close(din);
+        }
+
+        // unexpected message type from the server
+        return null;
+
+    }
+
+    /** Receives a stream of protobuf messages of type {@code msgType} from the
+     * server the client is currently connected to, until the server closes
+     * the connection, and checks that each message is correctly formatted.
+     * The stream may instead consist of a single simple server response.
+     *
+     *@return The list of received messages, or {@code null} if any of them
+     * is malformed or of an unexpected type.
+     */
+    private static ArrayList<AbstractMessage> receiveMsgStreamProto (int msgType) {
+
+        ArrayList<AbstractMessage> msgs = new ArrayList<AbstractMessage>();
+
+        try {
+            while (true) {
+                int nextType = din.read();
+
+                // the server marks the end of the stream by closing the connection
+                if (nextType < 0) {
+                    break;
+                }
+
+                if (nextType != msgType &&
+                    (nextType != MsgType.SERVER_RESP || !msgs.isEmpty())) {
+                    Logging.error("Unexpected message type in stream: "+nextType);
+                    return null;
+                }
+
+                AbstractMessage msg = readMsgProto(nextType);
+                if (msg == null) {
+                    return null;
+                }
+                msgs.add(msg);
+
+                if (msg instanceof ServerResp) {
+                    break;
+                }
+            }
+        }
+        catch (IOException e) {
+            Logging.error("receiving data from the server: "+e.getMessage());
+            return null;
+        }
+        finally {
+            CommonMessaging.close(din);
+        }
+
+        return msgs;
+
+    }
+
+    /** Reads a protobuf message of type {@code msgType} from the server
+     * the client is currently connected to, and checks that the message
+     * is correctly formatted for its type.
+     *
+     *@return The specific protobuf message according to the message type,
+     * or {@code null} if it's malformed.
+     */
+    private static AbstractMessage readMsgProto (int msgType)
+        throws IOException {
 
+        try {
             // TODO: this should be a signed promise/temporary binding
             if (msgType == MsgType.REGISTRATION_RESP){
                 RegistrationResp regResp = RegistrationResp.parseDelimitedFrom(din);
@@ -370,13 +636,60 @@ public class ClientMessaging {
             else if (msgType == MsgType.AUTH_PATH) {
                 AuthPath authPath = AuthPath.parseDelimitedFrom(din);
 
-                if (!authPath.hasLeaf() || !authPath.hasRoot()) {
+                // radix-16 trees send their root as the last radix node,
+                // and sparse trees only send the root's non-empty children
+                if (!authPath.hasLeaf() ||
+                    (!authPath.hasRoot() && authPath.getRadixNodeCount() == 0 &&
+                     !authPath.hasSparseMask())) {
                     Logging.error("Malformed auth path");
                 }
                 else {
                     return authPath;
                 }
             }
+            else if (msgType == MsgType.NOT_MODIFIED) {
+                KeyNotModified notModified = KeyNotModified.parseDelimitedFrom(din);
+
+                if (!notModified.hasName() || !notModified.hasEpochChanged() ||
+                    !notModified.hasCommitment()) {
+                    Logging.error("Malformed not modified response");
+                }
+                else {
+                    return notModified;
+                }
+            }
+            else if (msgType == MsgType.MULTI_AUTH_PATH) {
+                MultiAuthPath multiPath = MultiAuthPath.parseDelimitedFrom(din);
+
+                if (multiPath.getLeafCount() == 0 && multiPath.getNotFoundCount() == 0) {
+                    Logging.error("Malformed multi auth path");
+                }
+                else {
+                    return multiPath;
+                }
+            }
+            else if (msgType == MsgType.KEY_HISTORY) {
+                KeyHistory history = KeyHistory.parseDelimitedFrom(din);
+
+                if (history.getVersionCount() == 0 ||
+                    history.getVersionCount() != history.getEpochCount()) {
+                    Logging.error("Malformed key history");
+                }
+                else {
+                    return history;
+                }
+            }
+            else if (msgType == MsgType.EPOCH_CHANGES) {
+                EpochChanges changes = EpochChanges.parseDelimitedFrom(din);
+
+                if (!changes.hasEpoch() ||
+                    changes.getLookupIndexCount() != changes.getTypeCount()) {
+                    Logging.error("Malformed epoch changes");
+                }
+                else {
+                    return changes;
+                }
+            }
             else if (msgType == MsgType.COMMITMENT) {
                 Commitment comm = Commitment.parseDelimitedFrom(din);
 
@@ -403,12 +716,6 @@ public class ClientMessaging {
         catch (InvalidProtocolBufferException e) {
             Logging.error("parsing proto msg: "+e.getMessage());
         }
-        catch (IOException e) {
-            Logging.error("receiving data from the server: "+e.getMessage());
-        }
-        finally {
-            CommonMessaging.close(din);
-        }
 
         // unexpected message type from the server
         return null;
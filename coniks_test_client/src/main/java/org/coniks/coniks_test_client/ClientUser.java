@@ -48,7 +48,7 @@ import javax.crypto.*;
  */
 public class ClientUser extends ConiksUser {
 
-    private DSAPrivateKey changePrivKey;
+    private PrivateKey changePrivKey;
     
     /** Initializes the client's user with the username and 
      * ConiksUser defaults.
@@ -56,17 +56,17 @@ public class ClientUser extends ConiksUser {
      *@param uname this user's username
      */
     public ClientUser (String uname, String data, KeyPair kp) {
-        super(uname, data, (DSAPublicKey)kp.getPublic());
-        KeyOps.saveDSAPrivateKeyFile(uname, (DSAPrivateKey)kp.getPrivate());
+        super(uname, data, kp.getPublic());
+        KeyOps.savePrivateKeyFile(uname, kp.getPrivate());
     }
 
     /** Loads the user's key change private key from disk. The caller should free
      * the key's memory after use.
      *
-     *@return the user's DSA private change key or {@code null} in case of an error.
+     *@return the user's DSA or Ed25519 private change key or {@code null} in case of an error.
      */
-    public DSAPrivateKey loadChangePrivKey() {
-        changePrivKey = KeyOps.loadDSAPrivateKeyFile(username);
+    public PrivateKey loadChangePrivKey() {
+        changePrivKey = KeyOps.loadPrivateKeyFile(username);
         return changePrivKey;
     }
 
@@ -82,8 +82,8 @@ public class ClientUser extends ConiksUser {
      *@param kp the new change key pair to save.
      */
     public void saveChangeKeyPair (KeyPair kp) {
-        KeyOps.saveDSAPrivateKeyFile(username, (DSAPrivateKey)kp.getPrivate());
-        super.setChangePubKey((DSAPublicKey)kp.getPublic());
+        KeyOps.savePrivateKeyFile(username, kp.getPrivate());
+        super.setChangePubKey(kp.getPublic());
     }
 
 }
@@ -34,7 +34,10 @@
 package org.coniks.coniks_test_client;
 
 // coniks-java imports
+import org.coniks.crypto.Digest;
+import org.coniks.crypto.HashFunction;
 import org.coniks.util.Logging;
+import org.coniks.coniks_common.LeafFormat;
 import org.coniks.coniks_common.C2SProtos.AuthPath;
 import org.coniks.coniks_common.C2SProtos.*;
 
@@ -45,6 +48,7 @@ import com.google.protobuf.ByteString;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.Charset;
@@ -142,29 +146,18 @@ public class ClientUtils{
      *@return The hash as a {@code byte[]} or null in case of an error.
      */
     public static byte[] hashChildren(byte[] left, byte[] right){
+        return hashChildren(LeafFormat.V1, Digest.getDefaultHashFunction(), left, right);
+    }
 
-        byte[] childrenBytes = new byte[left.length+right.length];
-
-        ByteBuffer arr = ByteBuffer.wrap(childrenBytes);
-        arr.put(left);
-        arr.put(right);
-
-        byte[] children = arr.array();
-
-        try{
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-
-            byte[] digest = md.digest(children);
-
-            return digest;
-
-        }
-        catch(NoSuchAlgorithmException e){
-            Logging.error("SHA-256 is not a valid algorithm for some reason");
-        }
-
-        return null; // should never get here
-
+    /** Generates the cryptographic hash with {@code hf} of the {@code left}
+     * and {@code right} subtree hashes of a Merkle tree node
+     * serialized in the given {@link LeafFormat} {@code format}.
+     *
+     *@return The hash as a {@code byte[]}.
+     */
+    public static byte[] hashChildren(int format, HashFunction hf,
+                                      byte[] left, byte[] right){
+        return hf.digest(LeafFormat.getInteriorBytes(format, left, right));
     }
 
     // from Stackoverflow 9655181
@@ -287,10 +280,17 @@ public class ClientUtils{
      *@return the DSA public key as a {@code byte[]}  in g-p-q-y order
      */
     public static byte[] convertDSAPubKey(DSAPublicKey pub){
-        byte[] g = strToBytes(pub.getParams().getG().toString());
-        byte[] p = strToBytes(pub.getParams().getP().toString());
-        byte[] q = strToBytes(pub.getParams().getQ().toString());
-        byte[] y = strToBytes(pub.getY().toString());
+        return convertDSAPubKey(pub.getParams().getG(), pub.getParams().getP(),
+                                pub.getParams().getQ(), pub.getY());
+    }
+
+    // converts the DSA public key params to a byte array in g-p-q-y order
+    private static byte[] convertDSAPubKey(BigInteger gInt, BigInteger pInt,
+                                           BigInteger qInt, BigInteger yInt){
+        byte[] g = strToBytes(gInt.toString());
+        byte[] p = strToBytes(pInt.toString());
+        byte[] q = strToBytes(qInt.toString());
+        byte[] y = strToBytes(yInt.toString());
 
         byte[] pubKey = new byte[g.length+p.length+q.length+y.length];
 
@@ -351,38 +351,167 @@ public class ClientUtils{
         dsaBuilder.setQ(q.toString());
         dsaBuilder.setG(g.toString());
         dsaBuilder.setY(y.toString());
+        dsaBuilder.setRawP(unsignedBytes(p));
+        dsaBuilder.setRawQ(unsignedBytes(q));
+        dsaBuilder.setRawG(unsignedBytes(g));
+        dsaBuilder.setRawY(unsignedBytes(y));
         return dsaBuilder.build();
     }
 
+    // the big-endian magnitude of the non-negative BigInteger n, without the sign byte
+    private static ByteString unsignedBytes(BigInteger n) {
+        byte[] b = n.toByteArray();
+        if (b.length > 1 && b[0] == 0) {
+            return ByteString.copyFrom(b, 1, b.length-1);
+        }
+        return ByteString.copyFrom(b);
+    }
+
+
+    // converts the DSA change key to the g-p-q-y two's complement encoding
+    // the server commits to in its leaves
+    private static byte[] convertDSAPubKeyForLeaf(DSAPublicKeyProto pub){
+        BigInteger[] params = new BigInteger[4];
+        if (pub.hasRawG()) {
+            params[0] = new BigInteger(1, pub.getRawG().toByteArray());
+            params[1] = new BigInteger(1, pub.getRawP().toByteArray());
+            params[2] = new BigInteger(1, pub.getRawQ().toByteArray());
+            params[3] = new BigInteger(1, pub.getRawY().toByteArray());
+        }
+        else {
+            params[0] = new BigInteger(pub.getG());
+            params[1] = new BigInteger(pub.getP());
+            params[2] = new BigInteger(pub.getQ());
+            params[3] = new BigInteger(pub.getY());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (BigInteger param : params) {
+            byte[] b = param.toByteArray();
+            out.write(b, 0, b.length);
+        }
+        return out.toByteArray();
+    }
+
+    /** Returns the {@link LeafFormat} in which the server serialized
+     * the nodes of the tree committed to in the STR {@code comm}.
+     */
+    public static int getLeafFormat(Commitment comm){
+        return comm.hasLeafFormat() ? comm.getLeafFormat() : LeafFormat.V1;
+    }
+
+    /** Returns the {@link HashFunction} with which the server hashed
+     * the STR {@code comm} and the nodes of its tree.
+     *
+     *@throws
+     *{@link java.security.NoSuchAlgorithmException NoSuchAlgorithmException}
+     * if the client doesn't support the server's hash function.
+     */
+    public static HashFunction getHashFunction(Commitment comm)
+        throws NoSuchAlgorithmException{
+        if (!comm.hasHashAlgorithm()) {
+            return Digest.getDefaultHashFunction();
+        }
+        return Digest.getHashFunction(comm.getHashAlgorithm());
+    }
+
+    /** Returns the branching factor of the tree committed to
+     * in the STR {@code comm}.
+     */
+    public static int getTreeRadix(Commitment comm){
+        return comm.hasTreeRadix() ? comm.getTreeRadix() : 2;
+    }
+
+    /** Checks that the tree parameters the server included in the
+     * AuthPath.UserLeafNode protobuf {@code uln} for older clients are
+     * the ones of the tree committed to in the STR {@code comm}.
+     *
+     *@return {@code true} if none of the leaf's parameters differ
+     * from the STR's, {@code false} otherwise.
+     */
+    public static boolean leafMatchesCommitment(AuthPath.UserLeafNode uln,
+                                                Commitment comm){
+        if (uln.hasLeafFormat() && uln.getLeafFormat() != getLeafFormat(comm)) {
+            return false;
+        }
+        if (uln.hasHashAlgorithm() &&
+            !uln.getHashAlgorithm().equals(comm.hasHashAlgorithm() ?
+                                           comm.getHashAlgorithm() : Digest.HASH_ID)) {
+            return false;
+        }
+        if (uln.hasTreeRadix() && uln.getTreeRadix() != getTreeRadix(comm)) {
+            return false;
+        }
+        return uln.getSparseTree() == comm.getSparseTree();
+    }
+
+    /** The depth of the leaves in a fixed-depth sparse Merkle tree,
+     * i.e. the number of bits of a lookup index.
+     */
+    public static final int SPARSE_TREE_DEPTH = Digest.HASH_SIZE_BYTES*8;
+
+    // the last computed sparse tree default hashes and their format and hash function
+    private static byte[][] sparseDefaultHashes = null;
+    private static String sparseDefaultHashesId = null;
+
+    /** Gets the hashes of the empty subtrees at each depth of a sparse
+     * Merkle tree with nodes serialized in the given {@code format} and
+     * hashed with {@code hf}. An empty leaf hashes to the hash of
+     * {@link Digest#HASH_SIZE_BYTES} zero bytes.
+     *
+     *@return The {@link #SPARSE_TREE_DEPTH}+1 default hashes indexed by depth.
+     */
+    public static synchronized byte[][] getSparseDefaultHashes(int format, HashFunction hf){
+        String id = format+"/"+hf.getName();
+        if (!id.equals(sparseDefaultHashesId)) {
+            byte[][] hashes = new byte[SPARSE_TREE_DEPTH+1][];
+            hashes[SPARSE_TREE_DEPTH] = hf.digest(new byte[Digest.HASH_SIZE_BYTES]);
+            for (int d = SPARSE_TREE_DEPTH-1; d >= 0; d--) {
+                hashes[d] = hf.digest(LeafFormat.getInteriorBytes(format, hashes[d+1], hashes[d+1]));
+            }
+            sparseDefaultHashes = hashes;
+            sparseDefaultHashesId = id;
+        }
+        return sparseDefaultHashes;
+    }
 
     /** Converts an AuthPath.UserLeafNode protobuf {@code uln}
-     * to a {@code byte[]}.
+     * to a {@code byte[]} in the {@link LeafFormat} {@code format},
+     * hashing its keys with {@code hf} if the format requires it.
+     *
+     *@return The serialized leaf, or {@code null} if it is malformed.
      */
-    public static byte[] ulnProtoToBytes(AuthPath.UserLeafNode uln){
-        // TODO: add the generic blob of data and the change key fields
+    public static byte[] ulnProtoToBytes(AuthPath.UserLeafNode uln, int format,
+                                         HashFunction hf){
+        if (format == LeafFormat.V2) {
+            byte[] ck = uln.hasEd25519ChangeKey() ? uln.getEd25519ChangeKey().toByteArray()
+                : convertDSAPubKeyForLeaf(uln.getChangeKey());
+            return LeafFormat.getLeafBytesV2(uln.getLookupIndex().toByteArray(),
+                                             hf.digest(strToBytes(uln.getPublickey())),
+                                             hf.digest(ck), uln.getEpochAdded(),
+                                             uln.getEpochChanged(), uln.getAllowsUnsignedKeychange(),
+                                             uln.getAllowsPublicLookup());
+        }
+
+        // the fields the server hashes, in the server's order
         byte[] pubKey = strToBytes(uln.getPublickey());
         byte[] usr = strToBytes(uln.getName());
+        byte[] ck = uln.hasEd25519ChangeKey() ? uln.getEd25519ChangeKey().toByteArray()
+            : convertDSAPubKeyForLeaf(uln.getChangeKey());
         byte[] ep_add = longToBytes(uln.getEpochAdded());
-        byte[] ep_changed = longToBytes(uln.getEpochChanged());
         byte[] auk = new byte[]{(byte)(uln.getAllowsUnsignedKeychange() ? 0x01 : 0x00)};
         byte[] apl = new byte[]{(byte)(uln.getAllowsPublicLookup() ? 0x01 : 0x00)};
-        byte[] ck = convertDSAPubKey(uln.getChangeKey());
-        byte[] sig = uln.getSignature().toByteArray();
-        byte[] lastMsg = uln.getLastMsg().toByteArray();
 
-        byte[] leafBytes = new byte[pubKey.length+usr.length+ep_add.length+auk.length+
-                                    apl.length+ep_changed.length+ck.length+sig.length+lastMsg.length];
+        byte[] leafBytes = new byte[pubKey.length+usr.length+ck.length+ep_add.length+auk.length+
+                                    apl.length];
 
         ByteBuffer arr = ByteBuffer.wrap(leafBytes);
         arr.put(usr);
         arr.put(pubKey);
+        arr.put(ck);
         arr.put(ep_add);
-        arr.put(ep_changed);
         arr.put(auk);
         arr.put(apl);
-        arr.put(ck);
-        arr.put(sig);
-        arr.put(lastMsg);
 
         return arr.array();
 
@@ -394,6 +523,19 @@ public class ClientUtils{
      */
     public static byte[] computeInteriorNodeProtoHashes(byte[] ulnHash,
                                                         ArrayList<AuthPath.InteriorNode> inList) {
+        return computeInteriorNodeProtoHashes(ulnHash, inList, LeafFormat.V1,
+                                              Digest.getDefaultHashFunction());
+    }
+
+    /** Takes the hash of a user leaf node {@code ulnHash} and recomputes
+     * the hashes of each given interior node on the authentication path
+     * {@code inList} in the given {@link LeafFormat} {@code format}
+     * with the hash function {@code hf} up to the root's left or right
+     * child and returns this hash
+     */
+    public static byte[] computeInteriorNodeProtoHashes(byte[] ulnHash,
+                                                        ArrayList<AuthPath.InteriorNode> inList,
+                                                        int format, HashFunction hf) {
 
         byte[] curHash = ulnHash;
 
@@ -418,10 +560,10 @@ public class ClientUtils{
             byte[] prunedChild = subtreeHash.toByteArray();
 
             if(pcSide == AuthPath.PrunedChild.LEFT){
-                curHash = ClientUtils.hashChildren(prunedChild, curHash);
+                curHash = ClientUtils.hashChildren(format, hf, prunedChild, curHash);
             }
             else if(pcSide == AuthPath.PrunedChild.RIGHT){
-                curHash = ClientUtils.hashChildren(curHash, prunedChild);
+                curHash = ClientUtils.hashChildren(format, hf, curHash, prunedChild);
             }
 
         }
@@ -436,6 +578,16 @@ public class ClientUtils{
      * AuthPath.RootNode protobuf. Returns this root node as a byte[].
      */
     public static byte[] rootProtoToBytes(byte[] authPathHash, AuthPath.RootNode root){
+        return rootProtoToBytes(authPathHash, root, LeafFormat.V1);
+    }
+
+    /** Takes the hash  {@code authPathHash} computed from an authentication path
+     * and incorporates it into the root node {@code root} of an
+     * AuthPath.RootNode protobuf. Returns this root node as a byte[]
+     * in the given {@link LeafFormat} {@code format}.
+     */
+    public static byte[] rootProtoToBytes(byte[] authPathHash, AuthPath.RootNode root,
+                                          int format){
 
         Hash pcHash = root.getSubtree();
         AuthPath.PrunedChild pcSide = root.getPrunedchild();
@@ -449,20 +601,12 @@ public class ClientUtils{
 
         byte[] prunedChild = subtreeHash.toByteArray();
 
-        byte[] rootBytes = new byte[authPathHash.length+prunedChild.length];
-
-        ByteBuffer arr = ByteBuffer.wrap(rootBytes);
-
         if(pcSide == AuthPath.PrunedChild.LEFT){
-            arr.put(prunedChild);
-            arr.put(authPathHash);
+            return LeafFormat.getInteriorBytes(format, prunedChild, authPathHash);
         }
         else{
-            arr.put(authPathHash);
-            arr.put(prunedChild);
+            return LeafFormat.getInteriorBytes(format, authPathHash, prunedChild);
         }
-
-        return arr.array();
     }
 
 }
@@ -47,10 +47,14 @@ public class ConiksUser {
 
     protected String username;
     private String keyData; // TODO change this to be bytes
-    private DSAPublicKey changePubKey;
+    private PublicKey changePubKey;
     private boolean allowsUnsignedChanges;
     private boolean allowsPublicVisibility;
 
+    // the epoch in which the key data verified by the latest lookup
+    // was changed, 0 if the current key data hasn't been verified
+    private long verifiedEpoch = 0;
+
     /** Initializes the user with the username, public key data, public change key,
      * and sets the default change and visibility policies (i.e. {@code allowsUnsignedChanges} 
      * and {@code allowsPublicVisibility} are both {@code true}.
@@ -59,11 +63,11 @@ public class ConiksUser {
      *@param data this user's key data
      *@param changePk this user's change public key
      */
-    public ConiksUser (String uname, String data, DSAPublicKey changePk) {
+    public ConiksUser (String uname, String data, PublicKey changePk) {
         username = uname;
         keyData = data;
         changePubKey = changePk;
-        KeyOps.saveDSAPublicKeyFile(username, changePk);
+        KeyOps.savePublicKeyFile(username, changePk);
         allowsUnsignedChanges = true;
         allowsPublicVisibility = true;
     }
@@ -88,7 +92,7 @@ public class ConiksUser {
      *
      *@return the CONIKS user's data public key
      */
-    public DSAPublicKey getChangePubKey() {
+    public PublicKey getChangePubKey() {
         return changePubKey;
     }
 
@@ -112,7 +116,7 @@ public class ConiksUser {
      * This can be used after the user's key has been evicted from memory.
      */
     public void loadChangePubKey() {
-        changePubKey = KeyOps.loadDSAPublicKeyFile(username);
+        changePubKey = KeyOps.loadPublicKeyFile(username);
     }
 
     /** Unloads the user's key change public key from memory.
@@ -129,15 +133,32 @@ public class ConiksUser {
      */
     public void setKeyData(String newData) {
         keyData = newData;
+        verifiedEpoch = 0;
+    }
+
+    /** Returns the epoch in which the key data verified by this CONIKS
+     * user's latest lookup was changed.
+     *
+     *@return the epoch, or 0 if the current key data hasn't been verified yet.
+     */
+    public long getVerifiedEpoch() {
+        return verifiedEpoch;
+    }
+
+    /** Records that a lookup verified this CONIKS user's current key data,
+     * which was changed in the epoch {@code epochChanged}.
+     */
+    public void setVerifiedEpoch(long epochChanged) {
+        verifiedEpoch = epochChanged;
     }
     
     /** Sets the user's change public key and saves the key to disk.
      *
-     *@param changePk the DSA public key to set as the user's change key.
+     *@param changePk the DSA or Ed25519 public key to set as the user's change key.
      */
-    public void setChangePubKey(DSAPublicKey changePk) {
+    public void setChangePubKey(PublicKey changePk) {
         changePubKey = changePk;
-        KeyOps.saveDSAPublicKeyFile(username, changePk);
+        KeyOps.savePublicKeyFile(username, changePk);
     }
 
     /** Sets the unsigned key change flag to true
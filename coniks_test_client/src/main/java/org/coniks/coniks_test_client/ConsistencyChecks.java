@@ -40,16 +40,27 @@ import java.security.*;
 import java.security.spec.*;
 import java.security.interfaces.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import com.google.protobuf.ByteString;
 import org.javatuples.*;
 
 // coniks-java imports
 import org.coniks.crypto.Digest;
+import org.coniks.crypto.HashFunction;
+import org.coniks.util.Convert;
 import org.coniks.util.Logging;
 import org.coniks.coniks_common.ServerErr;
+import org.coniks.coniks_common.LeafFormat;
 import org.coniks.coniks_common.C2SProtos.RegistrationResp;
 import org.coniks.coniks_common.C2SProtos.AuthPath;
+import org.coniks.coniks_common.C2SProtos.MultiAuthPath;
+import org.coniks.coniks_common.C2SProtos.KeyHistory;
+import org.coniks.coniks_common.C2SProtos.KeyNotModified;
+import org.coniks.coniks_common.UtilProtos.Hash;
 import org.coniks.coniks_common.UtilProtos.Commitment;
 import org.coniks.coniks_common.UtilProtos.ServerResp;
 
@@ -72,12 +83,22 @@ public class ConsistencyChecks {
      *@return whether the check succeeded
      */
     public static int verifyPubKeyProto (ConiksUser user, AuthPath authPath) {
+        return verifyPubKeyProto(user, authPath.getLeaf());
+    }
+
+    /** Tries to retrieve the public key for the given user from
+     * disk and checks if the retrieved key is consistent with the public key
+     * received in the user leaf node {@code apUln}.
+     *
+     *@param user the user whose public key to verify
+     *@param apUln the user leaf node containing the received public key
+     *@return whether the check succeeded
+     */
+    public static int verifyPubKeyProto (ConiksUser user, AuthPath.UserLeafNode apUln) {
 
         // TODO: this should read in the file
         String keyData = user.getKeyData();
 
-        AuthPath.UserLeafNode apUln = authPath.getLeaf();
-
         String pk = apUln.getPublickey();
 
         // TODO: compare the keys directly
@@ -92,12 +113,13 @@ public class ConsistencyChecks {
     }
 
     /** Recomputes the root node from an AuthPath protobuf message
-     * {@code authPath}.
+     * {@code authPath} in the tree committed to in the STR {@code comm}.
      *
      *@return The recomputed root node as a {@code byte[]} or {@code null}
      * upon failure.
      */
-    private static byte[] recomputeAuthPathRootProto(AuthPath authPath)
+    private static byte[] recomputeAuthPathRootProto(AuthPath authPath,
+                                                     Commitment comm)
         throws NoSuchAlgorithmException{
 
         AuthPath.UserLeafNode apUln = authPath.getLeaf();
@@ -112,7 +134,42 @@ public class ConsistencyChecks {
         byte[] lookupIndex = index.toByteArray();
         int numInteriors = apUln.getIntlevels();
 
-        byte[] ulnHash = Digest.digest(ClientUtils.ulnProtoToBytes(apUln));
+        // the shape of the tree is the one the STR commits to
+        if (!ClientUtils.leafMatchesCommitment(apUln, comm)) {
+            Logging.error("Leaf parameters don't match the commitment");
+            return null;
+        }
+
+        int leafFormat = ClientUtils.getLeafFormat(comm);
+        if (!LeafFormat.isSupported(leafFormat)) {
+            Logging.error("Unsupported leaf format: "+leafFormat);
+            return null;
+        }
+
+        HashFunction hf = ClientUtils.getHashFunction(comm);
+
+        byte[] ulnBytes = ClientUtils.ulnProtoToBytes(apUln, leafFormat, hf);
+        if (ulnBytes == null) {
+            Logging.error("Malformed leaf node");
+            return null;
+        }
+
+        byte[] ulnHash = hf.digest(ulnBytes);
+
+        if (comm.getSparseTree()) {
+            return recomputeSparseAuthPathRootProto(authPath, lookupIndex, ulnHash,
+                                                    leafFormat, hf);
+        }
+
+        int treeRadix = ClientUtils.getTreeRadix(comm);
+        if (treeRadix == LeafFormat.RADIX16_FANOUT) {
+            return recomputeRadix16AuthPathRootProto(authPath, lookupIndex, ulnHash, hf);
+        }
+        else if (treeRadix != 2 || authPath.getRadixNodeCount() > 0 ||
+                 authPath.hasSparseMask()) {
+            Logging.error("Unsupported tree radix: "+treeRadix);
+            return null;
+        }
 
         ArrayList<AuthPath.InteriorNode> inList =
             new ArrayList<AuthPath.InteriorNode>(authPath.getInteriorList());
@@ -122,7 +179,8 @@ public class ConsistencyChecks {
             return null;
         }
 
-        byte[] interiorsHash = ClientUtils.computeInteriorNodeProtoHashes(ulnHash, inList);
+        byte[] interiorsHash = ClientUtils.computeInteriorNodeProtoHashes(ulnHash, inList,
+                                                                             leafFormat, hf);
 
         if (interiorsHash == null) {
             return null;
@@ -135,8 +193,116 @@ public class ConsistencyChecks {
             return null;
         }
 
-        return ClientUtils.rootProtoToBytes(interiorsHash, root);
+        return ClientUtils.rootProtoToBytes(interiorsHash, root, leafFormat);
+
+    }
+
+    // recomputes the root node of a radix-16 tree from the radix nodes
+    // in authPath, starting with the hash ulnHash of the leaf
+    private static byte[] recomputeRadix16AuthPathRootProto(AuthPath authPath,
+                                                            byte[] lookupIndex,
+                                                            byte[] ulnHash,
+                                                            HashFunction hf) {
+        int numRadixNodes = authPath.getLeaf().getIntlevels()+1;
+
+        if (authPath.getRadixNodeCount() != numRadixNodes ||
+            numRadixNodes > lookupIndex.length*2 ||
+            authPath.getInteriorCount() > 0 || authPath.hasRoot()) {
+            Logging.error("Bad length of auth path");
+            return null;
+        }
+
+        byte[] childHash = ulnHash;
+        byte[] nodeBytes = null;
+
+        // the radix nodes go from the leaf upwards
+        for (int i = 0; i < numRadixNodes; i++) {
+            AuthPath.RadixNode rn = authPath.getRadixNode(i);
+            int depth = numRadixNodes-1-i;
+            int digit = Convert.getNthNibble(lookupIndex, depth);
+            int childMask = rn.getChildMask();
+
+            if ((childMask & (1 << digit)) == 0 || (childMask >>> LeafFormat.RADIX16_FANOUT) != 0 ||
+                rn.getSiblingCount() != Integer.bitCount(childMask)-1) {
+                Logging.error("Radix node malformed at level: "+depth);
+                return null;
+            }
+
+            byte[][] children = new byte[LeafFormat.RADIX16_FANOUT][];
+            Iterator<ByteString> siblings = rn.getSiblingList().iterator();
+            for (int j = 0; j < LeafFormat.RADIX16_FANOUT; j++) {
+                if (j == digit) {
+                    children[j] = childHash;
+                }
+                else if ((childMask & (1 << j)) != 0) {
+                    children[j] = siblings.next().toByteArray();
+                    if (children[j].length != Digest.HASH_SIZE_BYTES) {
+                        Logging.error("Bad hash length");
+                        return null;
+                    }
+                }
+            }
+
+            nodeBytes = LeafFormat.getRadix16InteriorBytes(children);
+            childHash = hf.digest(nodeBytes);
+        }
 
+        // the root node isn't hashed
+        return nodeBytes;
+    }
+
+    // recomputes the root node of a sparse tree from the non-empty siblings
+    // in authPath, starting with the hash ulnHash of the leaf
+    private static byte[] recomputeSparseAuthPathRootProto(AuthPath authPath,
+                                                           byte[] lookupIndex,
+                                                           byte[] ulnHash,
+                                                           int leafFormat,
+                                                           HashFunction hf) {
+        byte[] sparseMask = authPath.getSparseMask().toByteArray();
+
+        if (sparseMask.length*8 != ClientUtils.SPARSE_TREE_DEPTH ||
+            authPath.getInteriorCount() > 0 || authPath.hasRoot() ||
+            authPath.getRadixNodeCount() > 0) {
+            Logging.error("Bad length of auth path");
+            return null;
+        }
+
+        byte[][] defaults = ClientUtils.getSparseDefaultHashes(leafFormat, hf);
+        Iterator<ByteString> siblings = authPath.getSparseSiblingList().iterator();
+
+        byte[] childHash = ulnHash;
+        byte[] nodeBytes = null;
+
+        // the siblings go from the leaf upwards
+        for (int depth = ClientUtils.SPARSE_TREE_DEPTH-1; depth >= 0; depth--) {
+            byte[] sibling = defaults[depth+1];
+            if (Convert.getNthBit(sparseMask, depth)) {
+                if (!siblings.hasNext()) {
+                    Logging.error("Missing sibling at level: "+depth);
+                    return null;
+                }
+                sibling = siblings.next().toByteArray();
+                if (sibling.length != Digest.HASH_SIZE_BYTES) {
+                    Logging.error("Bad hash length");
+                    return null;
+                }
+            }
+
+            nodeBytes = Convert.getNthBit(lookupIndex, depth) ?
+                LeafFormat.getInteriorBytes(leafFormat, sibling, childHash) :
+                LeafFormat.getInteriorBytes(leafFormat, childHash, sibling);
+            if (depth > 0) {
+                childHash = hf.digest(nodeBytes);
+            }
+        }
+
+        if (siblings.hasNext()) {
+            Logging.error("Bad number of siblings in auth path");
+            return null;
+        }
+
+        // the root node isn't hashed
+        return nodeBytes;
     }
 
     /** Verifies that a given mapping is consistent with the server's STR
@@ -149,7 +315,7 @@ public class ConsistencyChecks {
                                           Commitment comm){
 
         // this really shouldn't be null at this point, but we'll check jic
-        if (authPath == null /*|| comm == null*/) {
+        if (authPath == null || comm == null) {
             return ServerErr.MALFORMED_SERVER_MSG_ERR;
         }
 
@@ -157,7 +323,7 @@ public class ConsistencyChecks {
         byte[] recomputedRoot = null;
 
         try {
-            recomputedRoot = recomputeAuthPathRootProto(authPath);
+            recomputedRoot = recomputeAuthPathRootProto(authPath, comm);
         }
         catch(NoSuchAlgorithmException e) {
             return ClientUtils.INTERNAL_CLIENT_ERR;
@@ -173,7 +339,7 @@ public class ConsistencyChecks {
         // compute the hash of the recomputed root
         byte[] recomputedRootHash = null;
         try {
-            recomputedRootHash = Digest.digest(recomputedRoot);
+            recomputedRootHash = ClientUtils.getHashFunction(comm).digest(recomputedRoot);
         }
         catch(NoSuchAlgorithmException e) {
             return ClientUtils.INTERNAL_CLIENT_ERR;
@@ -186,10 +352,542 @@ public class ConsistencyChecks {
 
         // get the received root hash from the commitment and compare
         // the two byte buffers
-        // TODO: implement this
+        if (!Arrays.equals(recomputedRootHash, comm.getRootHash().getHash().toByteArray())) {
+            return ConsistencyErr.BAD_MAPPING_ERR;
+        }
 
         return ConsistencyErr.CHECK_PASSED;
 
     }
 
+    /** Recomputes the root node from a MultiAuthPath protobuf message
+     * {@code multiPath} in a single pass over all of its leaves
+     * in the tree committed to in the STR {@code comm}.
+     *
+     *@return The recomputed root node as a {@code byte[]} or {@code null}
+     * upon failure.
+     */
+    private static byte[] recomputeMultiAuthPathRootProto(MultiAuthPath multiPath,
+                                                          Commitment comm)
+        throws NoSuchAlgorithmException{
+
+        ArrayList<AuthPath.UserLeafNode> leaves =
+            new ArrayList<AuthPath.UserLeafNode>(multiPath.getLeafList());
+
+        // all leaves are in the tree the STR commits to
+        int leafFormat = ClientUtils.getLeafFormat(comm);
+        if (!LeafFormat.isSupported(leafFormat)) {
+            Logging.error("Unsupported leaf format: "+leafFormat);
+            return null;
+        }
+        HashFunction hf = ClientUtils.getHashFunction(comm);
+        int treeRadix = ClientUtils.getTreeRadix(comm);
+        boolean sparseTree = comm.getSparseTree();
+        if ((treeRadix != 2 && treeRadix != LeafFormat.RADIX16_FANOUT) ||
+            (sparseTree && treeRadix != 2)) {
+            Logging.error("Unsupported tree radix: "+treeRadix);
+            return null;
+        }
+
+        for (AuthPath.UserLeafNode apUln : leaves) {
+            // verify the input: expect the index to be the size of the hash
+            if(apUln.getLookupIndex().size() != Digest.HASH_SIZE_BYTES){
+                Logging.error("Bad index length");
+                return null;
+            }
+
+            if (!ClientUtils.leafMatchesCommitment(apUln, comm)) {
+                Logging.error("Leaf parameters don't match the commitment");
+                return null;
+            }
+        }
+
+        Iterator<Hash> subtrees = multiPath.getSubtreeList().iterator();
+        Iterator<Integer> childMasks = multiPath.getChildMaskList().iterator();
+
+        byte[] sparseMask = multiPath.getSparseMask().toByteArray();
+        int[] sparseMaskPos = new int[1];
+
+        byte[] rootBytes;
+        if (sparseTree) {
+            rootBytes = recomputeSparseMultiAuthPathNode(leaves, 0, leafFormat, hf,
+                                                         ClientUtils.getSparseDefaultHashes(leafFormat, hf),
+                                                         sparseMask, sparseMaskPos, subtrees);
+        }
+        else if (treeRadix == LeafFormat.RADIX16_FANOUT) {
+            rootBytes = recomputeRadix16MultiAuthPathNode(leaves, 0, leafFormat, hf,
+                                                          childMasks, subtrees);
+        }
+        else {
+            rootBytes = recomputeMultiAuthPathNode(leaves, 0, leafFormat, hf, subtrees);
+        }
+
+        // every pruned subtree hash, child mask and sparse mask bit must
+        // have been used exactly once
+        if (rootBytes == null || subtrees.hasNext() || childMasks.hasNext() ||
+            (sparseMaskPos[0]+7)/8 != sparseMask.length) {
+            Logging.error("Bad number of pruned subtrees in multi auth path");
+            return null;
+        }
+
+        return rootBytes;
+    }
+
+    // recomputes the hash of the node at the given depth whose subtree
+    // contains all leaves in leaves; for the root node, returns the
+    // serialized root node instead of its hash.
+    private static byte[] recomputeMultiAuthPathNode(ArrayList<AuthPath.UserLeafNode> leaves,
+                                                     int depth, int leafFormat,
+                                                     HashFunction hf, Iterator<Hash> subtrees)
+        throws NoSuchAlgorithmException{
+
+        // a leaf lies intlevels interior nodes below the root's child
+        if (leaves.size() == 1 && depth > 0 &&
+            depth == leaves.get(0).getIntlevels()+1) {
+            byte[] ulnBytes = ClientUtils.ulnProtoToBytes(leaves.get(0), leafFormat, hf);
+            if (ulnBytes == null) {
+                Logging.error("Malformed leaf node");
+                return null;
+            }
+            return hf.digest(ulnBytes);
+        }
+
+        if (depth >= Digest.HASH_SIZE_BYTES*8 ||
+            (leaves.size() == 1 && depth > leaves.get(0).getIntlevels())) {
+            Logging.error("Bad number of interior levels at level: "+depth);
+            return null;
+        }
+
+        ArrayList<AuthPath.UserLeafNode> leftLeaves = new ArrayList<AuthPath.UserLeafNode>();
+        ArrayList<AuthPath.UserLeafNode> rightLeaves = new ArrayList<AuthPath.UserLeafNode>();
+        for (AuthPath.UserLeafNode apUln : leaves) {
+            if (!Convert.getNthBit(apUln.getLookupIndex().toByteArray(), depth)) {
+                leftLeaves.add(apUln);
+            }
+            else {
+                rightLeaves.add(apUln);
+            }
+        }
+
+        byte[] left = leftLeaves.size() > 0 ?
+            recomputeMultiAuthPathNode(leftLeaves, depth+1, leafFormat, hf, subtrees) :
+            nextSubtreeHash(subtrees);
+        if (left == null) {
+            return null;
+        }
+
+        byte[] right = rightLeaves.size() > 0 ?
+            recomputeMultiAuthPathNode(rightLeaves, depth+1, leafFormat, hf, subtrees) :
+            nextSubtreeHash(subtrees);
+        if (right == null) {
+            return null;
+        }
+
+        byte[] nodeBytes = LeafFormat.getInteriorBytes(leafFormat, left, right);
+
+        if (depth == 0) {
+            return nodeBytes;
+        }
+
+        return hf.digest(nodeBytes);
+    }
+
+    // recomputes the hash of the radix-16 node at the given depth whose subtree
+    // contains all leaves in leaves; for the root node, returns the
+    // serialized root node instead of its hash.
+    private static byte[] recomputeRadix16MultiAuthPathNode(ArrayList<AuthPath.UserLeafNode> leaves,
+                                                            int depth, int leafFormat,
+                                                            HashFunction hf,
+                                                            Iterator<Integer> childMasks,
+                                                            Iterator<Hash> subtrees)
+        throws NoSuchAlgorithmException{
+
+        // a leaf lies intlevels interior nodes below the root's child
+        if (leaves.size() == 1 && depth > 0 &&
+            depth == leaves.get(0).getIntlevels()+1) {
+            byte[] ulnBytes = ClientUtils.ulnProtoToBytes(leaves.get(0), leafFormat, hf);
+            if (ulnBytes == null) {
+                Logging.error("Malformed leaf node");
+                return null;
+            }
+            return hf.digest(ulnBytes);
+        }
+
+        if (depth >= Digest.HASH_SIZE_BYTES*2 || !childMasks.hasNext() ||
+            (leaves.size() == 1 && depth > leaves.get(0).getIntlevels())) {
+            Logging.error("Bad number of interior levels at level: "+depth);
+            return null;
+        }
+
+        int childMask = childMasks.next();
+        if ((childMask >>> LeafFormat.RADIX16_FANOUT) != 0) {
+            Logging.error("Radix node malformed at level: "+depth);
+            return null;
+        }
+
+        ArrayList<ArrayList<AuthPath.UserLeafNode>> digitLeaves =
+            new ArrayList<ArrayList<AuthPath.UserLeafNode>>(LeafFormat.RADIX16_FANOUT);
+        for (int i = 0; i < LeafFormat.RADIX16_FANOUT; i++) {
+            digitLeaves.add(new ArrayList<AuthPath.UserLeafNode>());
+        }
+        for (AuthPath.UserLeafNode apUln : leaves) {
+            digitLeaves.get(Convert.getNthNibble(apUln.getLookupIndex().toByteArray(), depth)).add(apUln);
+        }
+
+        byte[][] children = new byte[LeafFormat.RADIX16_FANOUT][];
+        for (int i = 0; i < LeafFormat.RADIX16_FANOUT; i++) {
+            boolean nonEmpty = (childMask & (1 << i)) != 0;
+
+            if (digitLeaves.get(i).size() > 0) {
+                if (!nonEmpty) {
+                    Logging.error("Radix node malformed at level: "+depth);
+                    return null;
+                }
+                children[i] = recomputeRadix16MultiAuthPathNode(digitLeaves.get(i), depth+1,
+                                                                leafFormat, hf, childMasks,
+                                                                subtrees);
+            }
+            else if (nonEmpty) {
+                children[i] = nextSubtreeHash(subtrees);
+            }
+            else {
+                continue;
+            }
+
+            if (children[i] == null) {
+                return null;
+            }
+        }
+
+        byte[] nodeBytes = LeafFormat.getRadix16InteriorBytes(children);
+
+        if (depth == 0) {
+            return nodeBytes;
+        }
+
+        return hf.digest(nodeBytes);
+    }
+
+    // recomputes the hash of the sparse tree node at the given depth whose subtree
+    // contains all leaves in leaves; for the root node, returns the
+    // serialized root node instead of its hash. sparseMaskPos holds the
+    // position of the next unread bit in sparseMask.
+    private static byte[] recomputeSparseMultiAuthPathNode(ArrayList<AuthPath.UserLeafNode> leaves,
+                                                           int depth, int leafFormat, HashFunction hf,
+                                                           byte[][] defaults, byte[] sparseMask,
+                                                           int[] sparseMaskPos, Iterator<Hash> subtrees)
+        throws NoSuchAlgorithmException{
+
+        // all leaves are at the bottom of the tree
+        if (depth == ClientUtils.SPARSE_TREE_DEPTH) {
+            if (leaves.size() != 1) {
+                Logging.error("Duplicate leaves in multi auth path");
+                return null;
+            }
+            byte[] ulnBytes = ClientUtils.ulnProtoToBytes(leaves.get(0), leafFormat, hf);
+            if (ulnBytes == null) {
+                Logging.error("Malformed leaf node");
+                return null;
+            }
+            return hf.digest(ulnBytes);
+        }
+
+        ArrayList<AuthPath.UserLeafNode> leftLeaves = new ArrayList<AuthPath.UserLeafNode>();
+        ArrayList<AuthPath.UserLeafNode> rightLeaves = new ArrayList<AuthPath.UserLeafNode>();
+        for (AuthPath.UserLeafNode apUln : leaves) {
+            if (!Convert.getNthBit(apUln.getLookupIndex().toByteArray(), depth)) {
+                leftLeaves.add(apUln);
+            }
+            else {
+                rightLeaves.add(apUln);
+            }
+        }
+
+        byte[] left = leftLeaves.size() > 0 ?
+            recomputeSparseMultiAuthPathNode(leftLeaves, depth+1, leafFormat, hf, defaults,
+                                             sparseMask, sparseMaskPos, subtrees) :
+            nextSparseSubtreeHash(defaults[depth+1], sparseMask, sparseMaskPos, subtrees);
+        if (left == null) {
+            return null;
+        }
+
+        byte[] right = rightLeaves.size() > 0 ?
+            recomputeSparseMultiAuthPathNode(rightLeaves, depth+1, leafFormat, hf, defaults,
+                                             sparseMask, sparseMaskPos, subtrees) :
+            nextSparseSubtreeHash(defaults[depth+1], sparseMask, sparseMaskPos, subtrees);
+        if (right == null) {
+            return null;
+        }
+
+        byte[] nodeBytes = LeafFormat.getInteriorBytes(leafFormat, left, right);
+
+        if (depth == 0) {
+            return nodeBytes;
+        }
+
+        return hf.digest(nodeBytes);
+    }
+
+    // returns the next pruned sparse subtree hash, which is defaultHash if
+    // the next bit in sparseMask says it's empty, or null if it's malformed
+    private static byte[] nextSparseSubtreeHash(byte[] defaultHash, byte[] sparseMask,
+                                                int[] sparseMaskPos, Iterator<Hash> subtrees) {
+        if (sparseMaskPos[0] >= sparseMask.length*8) {
+            Logging.error("Sparse mask too short in multi auth path");
+            return null;
+        }
+
+        boolean nonEmpty = Convert.getNthBit(sparseMask, sparseMaskPos[0]);
+        sparseMaskPos[0]++;
+
+        return nonEmpty ? nextSubtreeHash(subtrees) : defaultHash;
+    }
+
+    // returns the next pruned subtree hash or null if it's missing or malformed
+    private static byte[] nextSubtreeHash(Iterator<Hash> subtrees) {
+        if (!subtrees.hasNext()) {
+            Logging.error("Missing pruned subtree in multi auth path");
+            return null;
+        }
+
+        ByteString subtreeHash = subtrees.next().getHash();
+        if(subtreeHash.size() != Digest.HASH_SIZE_BYTES){
+            Logging.error("Bad hash length");
+            return null;
+        }
+
+        return subtreeHash.toByteArray();
+    }
+
+    /** Verifies that all mappings in a batched lookup response are
+     * consistent with the server's STR using the compressed proof
+     * {@code multiPath} and the STR {@code comm}.
+     *
+     *@return A {@link ConsistencyErr} error code. {@code NO_ERR} indicates
+     * that the verification passed.
+     */
+    public static int verifyMultiMappingProto (MultiAuthPath multiPath,
+                                               Commitment comm){
+
+        // this really shouldn't be null at this point, but we'll check jic
+        if (multiPath == null || comm == null) {
+            return ServerErr.MALFORMED_SERVER_MSG_ERR;
+        }
+
+        // none of the requested names exist, so there's nothing to verify
+        if (multiPath.getLeafCount() == 0) {
+            return ConsistencyErr.CHECK_PASSED;
+        }
+
+        // first recompute the root node from the compressed authentication path
+        byte[] recomputedRoot = null;
+
+        try {
+            recomputedRoot = recomputeMultiAuthPathRootProto(multiPath, comm);
+        }
+        catch(NoSuchAlgorithmException e) {
+            return ClientUtils.INTERNAL_CLIENT_ERR;
+        }
+
+        if (recomputedRoot == null) {
+            return ServerErr.MALFORMED_SERVER_MSG_ERR;
+        }
+
+        // compute the hash of the recomputed root
+        byte[] recomputedRootHash = null;
+        try {
+            recomputedRootHash = ClientUtils.getHashFunction(comm).digest(recomputedRoot);
+        }
+        catch(NoSuchAlgorithmException e) {
+            return ClientUtils.INTERNAL_CLIENT_ERR;
+        }
+
+        // all the mappings must be in the tree whose root the STR commits to
+        if (!Arrays.equals(recomputedRootHash, comm.getRootHash().getHash().toByteArray())) {
+            return ConsistencyErr.BAD_MAPPING_ERR;
+        }
+
+        return ConsistencyErr.CHECK_PASSED;
+
+    }
+
+    /** Verifies that the response {@code notModified} to a lookup of
+     * {@code user}'s key since the epoch {@code sinceEpoch} confirms the
+     * version the client verified last, which was changed in {@code sinceEpoch},
+     * in the STR {@code comm} the client got for the lookup's epoch.
+     *
+     *@return A {@link ConsistencyErr} error code. {@code NO_ERR} indicates
+     * that the verification passed.
+     */
+    public static int verifyNotModifiedProto (ConiksUser user, KeyNotModified notModified,
+                                              long sinceEpoch, Commitment comm) {
+
+        if (notModified == null || comm == null ||
+            !notModified.getCommitment().hasRootHash()) {
+            return ServerErr.MALFORMED_SERVER_MSG_ERR;
+        }
+
+        // the server must be talking about the version we already have
+        if (!notModified.getName().equals(user.getUsername()) ||
+            notModified.getEpochChanged() != sinceEpoch) {
+            return ConsistencyErr.BAD_MAPPING_ERR;
+        }
+
+        // the STR can't be older than the version it confirms
+        if (notModified.getCommitment().getEpoch() < notModified.getEpochChanged()) {
+            return ConsistencyErr.BAD_STR_ERR;
+        }
+
+        // the STR must commit to its root node
+        int result = verifySTRRootProto(notModified.getCommitment());
+        if (result != ConsistencyErr.CHECK_PASSED) {
+            return result;
+        }
+
+        // and the server must not show us a different STR for the same epoch
+        if (!notModified.getCommitment().equals(comm)) {
+            return ConsistencyErr.EQUIVOCATION_ERR;
+        }
+
+        return ConsistencyErr.CHECK_PASSED;
+
+    }
+
+    /** Verifies that every version in the key history {@code history}
+     * is consistent with the server's STR for its epoch, given in the same
+     * order in {@code comms}, and that the versions belong to the same user
+     * and are listed in the order in which they were published.
+     *
+     *@return A {@link ConsistencyErr} error code. {@code NO_ERR} indicates
+     * that the verification passed.
+     */
+    public static int verifyKeyHistoryProto (KeyHistory history,
+                                             ArrayList<Commitment> comms) {
+
+        if (history == null || history.getVersionCount() != history.getEpochCount() ||
+            comms == null || comms.size() != history.getVersionCount()) {
+            return ServerErr.MALFORMED_SERVER_MSG_ERR;
+        }
+
+        String name = history.getVersion(0).getLeaf().getName();
+        long prevEpoch = 0;
+
+        for (int i = 0; i < history.getVersionCount(); i++) {
+            AuthPath authPath = history.getVersion(i);
+            long epoch = history.getEpoch(i);
+
+            // each version must be the user's entry as changed in its epoch
+            if (!authPath.getLeaf().getName().equals(name) ||
+                authPath.getLeaf().getEpochChanged() != epoch ||
+                epoch <= prevEpoch) {
+                return ConsistencyErr.BAD_MAPPING_ERR;
+            }
+            prevEpoch = epoch;
+
+            if (comms.get(i).getEpoch() != epoch) {
+                return ConsistencyErr.BAD_STR_ERR;
+            }
+
+            int result = verifyMappingProto(authPath, comms.get(i));
+
+            if (result != ConsistencyErr.CHECK_PASSED) {
+                return result;
+            }
+        }
+
+        return ConsistencyErr.CHECK_PASSED;
+
+    }
+
+    /** Verifies that the commitment {@code next} directly follows the
+     * commitment {@code prev} in the server's STR hash chain: its previous
+     * epoch must be {@code prev}'s epoch, and its previous STR hash must
+     * be the hash of {@code prev}. Also checks that the root hash of
+     * {@code prev} matches its root node.
+     *
+     *@return A {@link ConsistencyErr} error code. {@code NO_ERR} indicates
+     * that the verification passed.
+     */
+    public static int verifySTRChainProto (Commitment prev, Commitment next) {
+
+        if (!prev.hasRootNode() || !prev.hasPrevStrHash() ||
+            !next.hasPrevEpoch() || !next.hasPrevStrHash()) {
+            return ServerErr.MALFORMED_SERVER_MSG_ERR;
+        }
+
+        if (next.getPrevEpoch() != prev.getEpoch() || next.getEpoch() <= prev.getEpoch()) {
+            return ConsistencyErr.BAD_STR_ERR;
+        }
+
+        int result = verifySTRRootProto(prev);
+        if (result != ConsistencyErr.CHECK_PASSED) {
+            return result;
+        }
+
+        try {
+            // the server hashes the previous STR with the next STR's hash function
+            byte[] prevStrHash = ClientUtils.getHashFunction(next).digest(getSTRBytes(prev));
+
+            if (!Arrays.equals(prevStrHash, next.getPrevStrHash().getHash().toByteArray())) {
+                return ConsistencyErr.BAD_STR_ERR;
+            }
+        }
+        catch (NoSuchAlgorithmException e) {
+            return ClientUtils.INTERNAL_CLIENT_ERR;
+        }
+
+        return ConsistencyErr.CHECK_PASSED;
+
+    }
+
+    /** Verifies that the root hash in the commitment {@code comm}
+     * is the hash of the root node it carries.
+     *
+     *@return A {@link ConsistencyErr} error code. {@code NO_ERR} indicates
+     * that the verification passed.
+     */
+    public static int verifySTRRootProto (Commitment comm) {
+
+        if (!comm.hasRootNode() || !comm.hasRootHash()) {
+            return ServerErr.MALFORMED_SERVER_MSG_ERR;
+        }
+
+        try {
+            byte[] rootHash = ClientUtils.getHashFunction(comm).digest(comm.getRootNode().toByteArray());
+
+            if (!Arrays.equals(rootHash, comm.getRootHash().getHash().toByteArray())) {
+                return ConsistencyErr.BAD_STR_ERR;
+            }
+        }
+        catch (NoSuchAlgorithmException e) {
+            return ClientUtils.INTERNAL_CLIENT_ERR;
+        }
+
+        return ConsistencyErr.CHECK_PASSED;
+
+    }
+
+    // serializes the STR of {@code comm} the way the server hashes it:
+    // the root node, the epoch and the previous epoch (little-endian), the previous
+    // STR hash, the hash function if it isn't SHA-256, and the signature
+    private static byte[] getSTRBytes (Commitment comm) {
+        byte[] rootNode = comm.getRootNode().toByteArray();
+        byte[] prevStrHash = comm.getPrevStrHash().getHash().toByteArray();
+        byte[] hashAlg = comm.hasHashAlgorithm() ?
+            Convert.strToBytes(comm.getHashAlgorithm()) : new byte[0];
+        byte[] sig = comm.getSignature().toByteArray();
+
+        ByteBuffer arr = ByteBuffer.allocate(rootNode.length+16+prevStrHash.length+
+                                             hashAlg.length+sig.length);
+        arr.put(rootNode);
+        arr.order(ByteOrder.LITTLE_ENDIAN);
+        arr.putLong(comm.getEpoch());
+        arr.putLong(comm.getPrevEpoch());
+        arr.put(prevStrHash);
+        arr.put(hashAlg);
+        arr.put(sig);
+
+        return arr.array();
+    }
+
 }
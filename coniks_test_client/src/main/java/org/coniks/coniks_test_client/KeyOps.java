@@ -60,6 +60,12 @@ import org.coniks.coniks_common.CommonMessaging;
  */
 public class KeyOps{
 
+    /** The DER encoding of the Ed25519 algorithm identifier (OID 1.3.101.112),
+     * which appears near the start of both X.509 and PKCS#8 encoded
+     * Ed25519 keys.
+     */
+    private static final byte[] ED25519_OID = {0x06, 0x03, 0x2b, 0x65, 0x70};
+
     /** Loads a public key from a stored file.
      *
      *@param uname the username for which to load the public key
@@ -146,6 +152,58 @@ public class KeyOps{
 
     }
 
+    /** Loads a change public key of either supported algorithm
+     * (DSA or Ed25519) from a stored file.
+     *
+     *@param uname the username for which to load the public key
+     *@return the public key or null upon an error.
+     */
+    public static PublicKey loadPublicKeyFile (String uname) {
+        byte[] keyBytes = readKeyFile(ClientConfig.getUserKeysPath()+"/"+uname+".pub");
+
+        if (keyBytes == null) {
+            return null;
+        }
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(getKeyAlgorithm(keyBytes));
+            return keyFactory.generatePublic(new X509EncodedKeySpec(keyBytes));
+        }
+        catch (NoSuchAlgorithmException e){
+            Logging.error(e.getMessage());
+        }
+        catch(InvalidKeySpecException e){
+            Logging.error(e.getMessage());
+        }
+        return null;
+    }
+
+    /** Loads a change private key of either supported algorithm
+     * (DSA or Ed25519) from a stored file.
+     *
+     *@param uname the username associated with the key to load
+     *@return the private key, or {@code null} in the case of an Exception.
+     */
+    public static PrivateKey loadPrivateKeyFile (String uname) {
+        byte[] keyBytes = readKeyFile(ClientConfig.getUserKeysPath()+"/"+uname+".pr");
+
+        if (keyBytes == null) {
+            return null;
+        }
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(getKeyAlgorithm(keyBytes));
+            return keyFactory.generatePrivate(new PKCS8EncodedKeySpec(keyBytes));
+        }
+        catch (NoSuchAlgorithmException e){
+            Logging.error(e.getMessage());
+        }
+        catch(InvalidKeySpecException e){
+            Logging.error(e.getMessage());
+        }
+        return null;
+    }
+
     /** Saves the given user's public key as encoded bytes.
      * It's the caller's responsibility to ensure that the
      * an existing saved public key can be overridden.
@@ -154,45 +212,57 @@ public class KeyOps{
      *@param pubKey the public key to store for this user
      *@return whether the save succeeded
      */
-    public static boolean saveDSAPublicKeyFile (String uname,
-                                                DSAPublicKey pubKey) {
-        byte[] keyBytes = pubKey.getEncoded();
-        String filename = ClientConfig.getUserKeysPath()+"/"+uname+".pub";
+    public static boolean savePublicKeyFile (String uname, PublicKey pubKey) {
+        return writeKeyFile(ClientConfig.getUserKeysPath()+"/"+uname+".pub",
+                            pubKey.getEncoded());
+    }
 
-        // make the parent dir structure if it doesn't exist
-        File f = new File(filename);
-        f.getParentFile().mkdirs();
+    /** Saves the given user's private key to a file.
+     *
+     *@param uname the username for which the key is to be saved
+     *@param pr the private key to be saved
+     *@return whether the private key was successfully saved or not
+     */
+    public static boolean savePrivateKeyFile (String uname, PrivateKey pr) {
+        return writeKeyFile(ClientConfig.getUserKeysPath()+"/"+uname+".pr",
+                            pr.getEncoded());
+    }
 
-        FileOutputStream fos = null;
-        boolean success = false;
+    // returns "Ed25519" if the encoded key carries the Ed25519 OID, "DSA" otherwise
+    private static String getKeyAlgorithm(byte[] encoded) {
+        int end = Math.min(encoded.length, 16) - ED25519_OID.length;
+        for (int i = 0; i <= end; i++) {
+            boolean match = true;
+            for (int j = 0; j < ED25519_OID.length && match; j++) {
+                match = encoded[i+j] == ED25519_OID[j];
+            }
+            if (match) {
+                return "Ed25519";
+            }
+        }
+        return "DSA";
+    }
+
+    // reads the whole key file, or returns null on an error
+    private static byte[] readKeyFile(String filename) {
+        FileInputStream fis = null;
         try {
-            fos = new FileOutputStream(filename);
-            fos.write(keyBytes);
-            success = true;
+            fis = new FileInputStream(filename);
+            byte[] keyBytes = new byte[fis.available()];
+            fis.read(keyBytes);
+            return keyBytes;
         }
         catch (IOException e) {
             Logging.error(e.getMessage());
         }
         finally {
-            CommonMessaging.close(fos);
+            CommonMessaging.close(fis);
         }
-        return success;
+        return null;
     }
 
-    /** Saves the given user's private key to a file.
-     * Generates an empty keystore if one doesn't exist.
-     *
-     *@param uname the username for which the key pair is to be saved
-     *@param pr the private key to be saved
-     *@return whether the private key was successfully saved or not
-     */
-    public static boolean saveDSAPrivateKeyFile(String uname,
-                                                DSAPrivateKey pr) {
-
-        byte[] keyBytes = pr.getEncoded();
-        String filename = ClientConfig.getUserKeysPath()+"/"+uname+".pr";
-
-        // make the parent dir structure if it doesn't exist
+    // writes the encoded key, making the parent dir structure if it doesn't exist
+    private static boolean writeKeyFile(String filename, byte[] keyBytes) {
         File f = new File(filename);
         f.getParentFile().mkdirs();
 
@@ -210,7 +280,31 @@ public class KeyOps{
             CommonMessaging.close(fos);
         }
         return success;
+    }
+
+    /** Saves the given user's public key as encoded bytes.
+     * It's the caller's responsibility to ensure that the
+     * an existing saved public key can be overridden.
+     *
+     *@param uname the username whose public key is to be stored.
+     *@param pubKey the public key to store for this user
+     *@return whether the save succeeded
+     */
+    public static boolean saveDSAPublicKeyFile (String uname,
+                                                DSAPublicKey pubKey) {
+        return savePublicKeyFile(uname, pubKey);
+    }
 
+    /** Saves the given user's private key to a file.
+     * Generates an empty keystore if one doesn't exist.
+     *
+     *@param uname the username for which the key pair is to be saved
+     *@param pr the private key to be saved
+     *@return whether the private key was successfully saved or not
+     */
+    public static boolean saveDSAPrivateKeyFile(String uname,
+                                                DSAPrivateKey pr) {
+        return savePrivateKeyFile(uname, pr);
     }
 
     /** Saves the given key pair to disk. Generates an empty
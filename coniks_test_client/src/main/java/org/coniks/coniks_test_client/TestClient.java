@@ -39,6 +39,8 @@ import java.security.interfaces.*;
 import javax.crypto.*;
 import java.util.Scanner;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.ArrayList;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.lang.NumberFormatException;
@@ -50,6 +52,7 @@ import org.coniks.crypto.Signing;
 import org.coniks.crypto.Keys;
 import org.coniks.util.Logging;
 import org.coniks.coniks_common.C2SProtos.*;
+import org.coniks.coniks_common.UtilProtos.Commitment;
 import org.coniks.coniks_common.UtilProtos.ServerResp;
 import org.coniks.coniks_common.ServerErr;
 
@@ -81,6 +84,12 @@ public class TestClient {
 
     private static int changeCtr = 0; // this is just used to change the key data
 
+    // the first epoch whose changes haven't been monitored yet
+    private static long nextMonitoredEpoch = 1;
+
+    // the latest commitment whose hash chain has been audited
+    private static Commitment lastAudited = null;
+
     /** Sets the default truststore according to the {@link ClientConfig}.
      * This is needed to set up SSL connections with a CONIKS server.
      */
@@ -130,6 +139,19 @@ public class TestClient {
 
     }
 
+    /** Generates a new change key pair using the algorithm set
+     * in the client config.
+     *
+     *@return the DSA or Ed25519 key pair
+     */
+    private static KeyPair generateChangeKeyPair()
+        throws NoSuchAlgorithmException {
+        if (ClientConfig.getChangeKeyAlgorithm().equals("Ed25519")) {
+            return Keys.generateEd25519KeyPair();
+        }
+        return Keys.generateDSAKeyPair();
+    }
+
     /** Perfoms the CONIKS registration protocol with {@code server}
      * for the user {@code uname}.
      *
@@ -141,7 +163,7 @@ public class TestClient {
         KeyPair kp = null;
 
         try {
-            kp = Keys.generateDSAKeyPair();
+            kp = generateChangeKeyPair();
         }
         catch(NoSuchAlgorithmException e) {
             Logging.error("[TestClient] "+e.getMessage());
@@ -171,9 +193,28 @@ public class TestClient {
 
     }
 
+    /** Fetches {@code server}'s own commitment for the epoch {@code epoch},
+     * or its latest commitment if it hasn't reached {@code epoch} yet.
+     *
+     *@return The commitment, or {@code null} if the server didn't send one.
+     */
+    private static Commitment getCommitment (long epoch, String server) {
+        ClientMessaging.sendCommitmentReqProto(CommitmentReq.CommitmentType.SELF,
+                                               epoch, server, server);
+
+        AbstractMessage serverMsg = ClientMessaging.receiveCommitmentProto();
+
+        if (!(serverMsg instanceof Commitment)) {
+            Logging.error("Got no commitment for epoch "+epoch);
+            return null;
+        }
+        return (Commitment)serverMsg;
+    }
+
     /** Looks up the public key for the given {@code uname}
      * at {@code server}, and verifies the returned proof of inclusion
-     * (authentication path)  if the name exists.
+     * (authentication path)  if the name exists. Once a key has been
+     * verified, the server only sends a new proof if the key changed.
      *
      *@param uname the username of the client user whose key to look up
      *@param server the CONIKS key server at which to lookup the key
@@ -182,7 +223,19 @@ public class TestClient {
     private static int lookup (String uname, String server) {
         long epoch = System.currentTimeMillis();
 
-        ClientMessaging.sendKeyLookupProto(uname, epoch, server);
+        // TODO: temp
+        ConiksUser user = users.get(uname);
+
+        // only ask for a new proof if the key changed since we last verified it
+        long sinceEpoch = user == null ? 0 : user.getVerifiedEpoch();
+
+        // look up the key in the tree of the STR we verify it against
+        Commitment comm = getCommitment(epoch, server);
+        if (comm == null) {
+            return ServerErr.MALFORMED_SERVER_MSG_ERR;
+        }
+
+        ClientMessaging.sendKeyLookupProto(uname, comm.getEpoch(), sinceEpoch, server);
 
         AbstractMessage serverMsg = ClientMessaging.receiveAuthPathProto();
 
@@ -192,26 +245,29 @@ public class TestClient {
         else if (serverMsg instanceof ServerResp) {
             return getServerErr((ServerResp)serverMsg);
         }
+        else if (serverMsg instanceof KeyNotModified) {
+            return ConsistencyChecks.verifyNotModifiedProto(user, (KeyNotModified)serverMsg,
+                                                            sinceEpoch, comm);
+        }
         else if (serverMsg instanceof AuthPath) {
             AuthPath authPath = (AuthPath)serverMsg;
 
-            // TODO: temp
-            ConiksUser user = users.get(uname);
-
             // check if the key we got is the same as the stored key
             int result = ConsistencyChecks.verifyPubKeyProto(user, authPath);
 
             if (result == ConsistencyErr.CHECK_PASSED) {
 
-                // TODO: we'll want to get the latest STR here
-
                 // verify the auth path is consistent with the root
-                result = ConsistencyChecks.verifyMappingProto(authPath, null);
+                result = ConsistencyChecks.verifyMappingProto(authPath, comm);
 
                 // TODO: store the looked up key if it checks out and we don't have it yet
 
             }
 
+            if (result == ConsistencyErr.CHECK_PASSED) {
+                user.setVerifiedEpoch(authPath.getLeaf().getEpochChanged());
+            }
+
             return result;
         }
         else {
@@ -223,6 +279,235 @@ public class TestClient {
 
     }
 
+    /** Looks up the public keys for all given {@code unames}
+     * at {@code server} in a single batched request, and verifies the returned
+     * compressed proof of inclusion for all names that exist.
+     *
+     *@param unames the usernames of the client users whose keys to look up
+     *@param server the CONIKS key server at which to lookup the keys
+     *@return whether the lookup succeeded or an error code
+     */
+    private static int batchLookup (ArrayList<String> unames, String server) {
+        long epoch = System.currentTimeMillis();
+
+        // look up the keys in the tree of the STR we verify them against
+        Commitment comm = getCommitment(epoch, server);
+        if (comm == null) {
+            return ServerErr.MALFORMED_SERVER_MSG_ERR;
+        }
+
+        ClientMessaging.sendMultiKeyLookupProto(unames, comm.getEpoch(), server);
+
+        AbstractMessage serverMsg = ClientMessaging.receiveMultiAuthPathProto();
+
+        if (serverMsg == null) {
+            return ServerErr.MALFORMED_SERVER_MSG_ERR;
+        }
+        else if (serverMsg instanceof ServerResp) {
+            return getServerErr((ServerResp)serverMsg);
+        }
+        else if (serverMsg instanceof MultiAuthPath) {
+            MultiAuthPath multiPath = (MultiAuthPath)serverMsg;
+
+            if (multiPath.getNotFoundCount() > 0) {
+                return ServerErr.NAME_NOT_FOUND_ERR;
+            }
+
+            // check if the keys we got are the same as the stored keys
+            for (AuthPath.UserLeafNode apUln : multiPath.getLeafList()) {
+                // TODO: temp
+                ConiksUser user = users.get(apUln.getName());
+
+                if (user == null) {
+                    return ConsistencyErr.UNEXPECTED_KEY_ERR;
+                }
+
+                int result = ConsistencyChecks.verifyPubKeyProto(user, apUln);
+
+                if (result != ConsistencyErr.CHECK_PASSED) {
+                    return result;
+                }
+            }
+
+            // verify all the mappings are consistent with the root
+            return ConsistencyChecks.verifyMultiMappingProto(multiPath, comm);
+        }
+        else {
+            // we received some unexpected server message
+            Logging.error("Got bad protobuf type from receiveMultiAuthPath()");
+            return ClientUtils.INTERNAL_CLIENT_ERR;
+        }
+
+    }
+
+    /** Looks up every version of the public key for {@code uname}
+     * at {@code server} since the user was registered, and verifies the
+     * proof of inclusion of each version in the epoch in which it was
+     * published. The latest version must match the stored key.
+     *
+     *@param uname the username of the client user whose key history to look up
+     *@param server the CONIKS key server at which to lookup the key history
+     *@return whether the lookup succeeded or an error code
+     */
+    private static int keyHistory (String uname, String server) {
+        long epoch = System.currentTimeMillis();
+
+        // the first epoch covers the whole history
+        ClientMessaging.sendKeyHistoryReqProto(uname, 1, epoch, server);
+
+        AbstractMessage serverMsg = ClientMessaging.receiveKeyHistoryProto();
+
+        if (serverMsg == null) {
+            return ServerErr.MALFORMED_SERVER_MSG_ERR;
+        }
+        else if (serverMsg instanceof ServerResp) {
+            return getServerErr((ServerResp)serverMsg);
+        }
+        else if (serverMsg instanceof KeyHistory) {
+            KeyHistory history = (KeyHistory)serverMsg;
+
+            // TODO: temp
+            ConiksUser user = users.get(uname);
+
+            // check if the latest key we got is the same as the stored key
+            AuthPath latest = history.getVersion(history.getVersionCount()-1);
+            int result = ConsistencyChecks.verifyPubKeyProto(user, latest);
+
+            if (result == ConsistencyErr.CHECK_PASSED) {
+                // get the STR of the epoch in which each version was published
+                ArrayList<Commitment> comms = new ArrayList<Commitment>();
+                for (int i = 0; i < history.getEpochCount(); i++) {
+                    Commitment comm = getCommitment(history.getEpoch(i), server);
+                    if (comm == null) {
+                        return ServerErr.MALFORMED_SERVER_MSG_ERR;
+                    }
+                    comms.add(comm);
+                }
+
+                // verify each version is consistent with its root
+                result = ConsistencyChecks.verifyKeyHistoryProto(history, comms);
+            }
+
+            return result;
+        }
+        else {
+            // we received some unexpected server message
+            Logging.error("Got bad protobuf type from receiveKeyHistory()");
+            return ClientUtils.INTERNAL_CLIENT_ERR;
+        }
+
+    }
+
+    /** Monitors the keys for {@code unames} at {@code server}: fetches the
+     * lookup indices changed in all epochs since the last time the keys were
+     * monitored, and only looks up and verifies the keys of the users
+     * whose indices changed.
+     *
+     *@param unames the usernames of the client users whose keys to monitor
+     *@param server the CONIKS key server at which to monitor the keys
+     *@return whether monitoring succeeded or an error code
+     */
+    private static int monitor (ArrayList<String> unames, String server) {
+        long epoch = System.currentTimeMillis();
+
+        ClientMessaging.sendChangelogReqProto(nextMonitoredEpoch, epoch, server);
+
+        ArrayList<AbstractMessage> changelog = ClientMessaging.receiveChangelogProto();
+
+        if (changelog == null) {
+            return ServerErr.MALFORMED_SERVER_MSG_ERR;
+        }
+        else if (changelog.size() == 1 && changelog.get(0) instanceof ServerResp) {
+            return getServerErr((ServerResp)changelog.get(0));
+        }
+
+        HashSet<ByteString> changed = new HashSet<ByteString>();
+        for (AbstractMessage msg : changelog) {
+            EpochChanges changes = (EpochChanges)msg;
+
+            // the changes must come in order, and only once per epoch
+            if (changes.getEpoch() < nextMonitoredEpoch) {
+                return ServerErr.MALFORMED_SERVER_MSG_ERR;
+            }
+            nextMonitoredEpoch = changes.getEpoch()+1;
+
+            changed.addAll(changes.getLookupIndexList());
+        }
+
+        int numChanged = 0;
+        for (String uname : unames) {
+            // TODO: temp, we can only verify keys we know
+            if (!users.containsKey(uname) ||
+                !changed.contains(ByteString.copyFrom(ClientUtils.unameToIndex(uname)))) {
+                continue;
+            }
+            numChanged++;
+
+            int result = lookup(uname, server);
+            if (result != ConsistencyErr.CHECK_PASSED) {
+                return result;
+            }
+        }
+
+        Logging.log("Monitored "+unames.size()+" users over "+changelog.size()+
+                    " epochs: "+numChanged+" changed");
+
+        return ConsistencyErr.CHECK_PASSED;
+    }
+
+    /** Audits the STR hash chain of {@code server}: fetches all commitments
+     * published since the last audit in a single request, and checks that
+     * each one follows the previous one in the chain.
+     *
+     *@param server the CONIKS key server whose commitments to audit
+     *@return whether the audit succeeded or an error code
+     */
+    private static int audit (String server) {
+        long epoch = System.currentTimeMillis();
+
+        // start from the last audited commitment, so the chain continues from it
+        long startEpoch = lastAudited == null ? 1 : lastAudited.getEpoch();
+        ClientMessaging.sendCommitmentRangeReqProto(startEpoch, epoch, server);
+
+        ArrayList<AbstractMessage> comms = ClientMessaging.receiveCommitmentRangeProto();
+
+        if (comms == null || comms.isEmpty()) {
+            return ServerErr.MALFORMED_SERVER_MSG_ERR;
+        }
+        else if (comms.get(0) instanceof ServerResp) {
+            return getServerErr((ServerResp)comms.get(0));
+        }
+
+        Commitment prev = lastAudited;
+        for (AbstractMessage msg : comms) {
+            Commitment comm = (Commitment)msg;
+
+            if (prev == null) {
+                prev = comm;
+                continue;
+            }
+
+            // the server must not have changed the commitment we already audited
+            if (comm.getEpoch() == prev.getEpoch()) {
+                if (!comm.equals(prev)) {
+                    return ConsistencyErr.BAD_STR_ERR;
+                }
+                continue;
+            }
+
+            int result = ConsistencyChecks.verifySTRChainProto(prev, comm);
+            if (result != ConsistencyErr.CHECK_PASSED) {
+                return result;
+            }
+            prev = comm;
+        }
+
+        Logging.log("Audited "+comms.size()+" commitments up to epoch "+prev.getEpoch());
+        lastAudited = prev;
+
+        return ConsistencyErr.CHECK_PASSED;
+    }
+
     /** Performs a key change by generating a new key pair for the user
      * and signing and sending the new key.
      *
@@ -241,7 +526,7 @@ public class TestClient {
         // we're testing the signing, mostly, so the key data doesn't really matter right now
         String newKeyData = user.getKeyData()+changeCtr;
 
-        DSAPrivateKey prKey = user.loadChangePrivKey();
+        PrivateKey prKey = user.loadChangePrivKey();
 
         if (prKey == null) {
             System.out.println("no private key for "+uname);
@@ -252,7 +537,7 @@ public class TestClient {
         KeyPair newCk = null;
 
         try {
-            newCk = Keys.generateDSAKeyPair();
+            newCk = generateChangeKeyPair();
         }
         catch(NoSuchAlgorithmException e) {
             Logging.error("[TestClient] "+e.getMessage());
@@ -266,12 +551,12 @@ public class TestClient {
             ULNChangeReq changeReq =
                 ClientMessaging.buildULNChangeReqMsgProto(user.getUsername(),
                                                           newKeyData,
-                                                          (DSAPublicKey)newCk.getPublic(),
+                                                          newCk.getPublic(),
                                                           user.isAllowsUnsignedChanges(),
                                                           user.isAllowsPublicVisibility());
 
 
-            sig = Signing.dsaSign(prKey, changeReq.toByteArray());
+            sig = Signing.sign(prKey, changeReq.toByteArray());
         }
         catch (NoSuchAlgorithmException e) {
             Logging.error("[TestClient] "+e.getMessage());
@@ -373,7 +658,7 @@ public class TestClient {
         }
 
         // default is to always sign the changes no matter what
-        DSAPrivateKey prKey = user.loadChangePrivKey();
+        PrivateKey prKey = user.loadChangePrivKey();
 
         if (prKey == null) {
             System.out.println("no private key for "+uname);
@@ -384,7 +669,7 @@ public class TestClient {
         KeyPair newCk = null;
 
         try {
-            newCk = Keys.generateDSAKeyPair();
+            newCk = generateChangeKeyPair();
         }
         catch(NoSuchAlgorithmException e) {
             Logging.error("[TestClient] "+e.getMessage());
@@ -396,12 +681,12 @@ public class TestClient {
         byte[] sig = null;
         try {
             ULNChangeReq changeReq = ClientMessaging.buildULNChangeReqMsgProto(user.getUsername(), user.getKeyData(),
-                                                                               (DSAPublicKey)newCk.getPublic(),
+                                                                               newCk.getPublic(),
                                                                                user.isAllowsUnsignedChanges(),
                                                                                user.isAllowsPublicVisibility());
 
 
-            sig = Signing.dsaSign(prKey, changeReq.toByteArray());
+            sig = Signing.sign(prKey, changeReq.toByteArray());
         }
         catch (NoSuchAlgorithmException e) {
             Logging.error("[TestClient] "+e.getMessage());
@@ -444,7 +729,7 @@ public class TestClient {
     /** Prints the usage of the TestClient.
      */
     private static void usage() {
-        System.out.println("valid operations: REGISTER, LOOKUP, SIGNED, UNSIGNED, POLICY");
+        System.out.println("valid operations: REGISTER, LOOKUP, BATCH, HISTORY, MONITOR, AUDIT, SIGNED, UNSIGNED, POLICY");
     }
 
     /** Template for an error message.
@@ -525,6 +810,10 @@ public class TestClient {
      */
     private static boolean isValidOperation (String op) {
          if (op.equalsIgnoreCase("LOOKUP") ||
+            op.equalsIgnoreCase("BATCH") ||
+            op.equalsIgnoreCase("HISTORY") ||
+            op.equalsIgnoreCase("MONITOR") ||
+            op.equalsIgnoreCase("AUDIT") ||
             op.equalsIgnoreCase("REGISTER") ||
             op.equalsIgnoreCase("SIGNED") ||
             op.equalsIgnoreCase("UNSIGNED") ||
@@ -552,6 +841,35 @@ public class TestClient {
             System.out.print("Performing "+op+" for users test-"+offset+" thru test-"+(offset+numUsers-1));
         }
 
+        // a batched lookup sends a single request for all users,
+        // and so do monitoring and auditing, which doesn't involve any users
+        if (op.equalsIgnoreCase("BATCH") || op.equalsIgnoreCase("MONITOR") ||
+            op.equalsIgnoreCase("AUDIT")) {
+            ArrayList<String> unames = new ArrayList<String>();
+            for (int i = 0; i < numUsers; i++){
+                unames.add("test-"+(offset+i));
+            }
+
+            int error = 0;
+            if (op.equalsIgnoreCase("BATCH")) {
+                error = batchLookup(unames, server);
+            }
+            else if (op.equalsIgnoreCase("MONITOR")) {
+                error = monitor(unames, server);
+            }
+            else {
+                error = audit(server);
+            }
+
+            if (error != ServerErr.SUCCESS && error != ConsistencyErr.CHECK_PASSED) {
+                System.out.println();
+            }
+
+            printErrMsg(error, "test-"+offset+" thru test-"+(offset+numUsers-1));
+            System.out.println(" done!");
+            return;
+        }
+
         for (int i = 0; i < numUsers; i++){
             // this is just a nicety to give the user some sense of progress
             if (numUsers <= 5 && i == 0) {
@@ -574,6 +892,9 @@ public class TestClient {
             if(op.equalsIgnoreCase("LOOKUP")){
                 error = lookup(uname, server);
             }
+            else if (op.equalsIgnoreCase("HISTORY")) {
+                error = keyHistory(uname, server);
+            }
             else if (op.equalsIgnoreCase("REGISTER")){
                 error = register(uname, server);
             }
@@ -0,0 +1,189 @@
+/*
+  Copyright (c) 2016, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.crypto;
+
+/** Implements the BLAKE2b hash function as specified in RFC 7693,
+ * without a key.
+ *<p>
+ * BLAKE2b is only built from 64-bit additions, rotations and XORs,
+ * so this pure-Java implementation is faster than SHA-256 on 64-bit
+ * cores.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class Blake2b implements HashFunction {
+
+    /** The size of a BLAKE2b input block in bytes.
+     */
+    public static final int BLOCK_SIZE_BYTES = 128;
+
+    /** The maximum size of a BLAKE2b hash in bytes.
+     */
+    public static final int MAX_HASH_SIZE_BYTES = 64;
+
+    private static final long[] IV = {
+        0x6a09e667f3bcc908L, 0xbb67ae8584caa73bL,
+        0x3c6ef372fe94f82bL, 0xa54ff53a5f1d36f1L,
+        0x510e527fade682d1L, 0x9b05688c2b3e6c1fL,
+        0x1f83d9abfb41bd6bL, 0x5be0cd19137e2179L
+    };
+
+    private static final byte[][] SIGMA = {
+        { 0,  1,  2,  3,  4,  5,  6,  7,  8,  9, 10, 11, 12, 13, 14, 15},
+        {14, 10,  4,  8,  9, 15, 13,  6,  1, 12,  0,  2, 11,  7,  5,  3},
+        {11,  8, 12,  0,  5,  2, 15, 13, 10, 14,  3,  6,  7,  1,  9,  4},
+        { 7,  9,  3,  1, 13, 12, 11, 14,  2,  6,  5, 10,  4,  0, 15,  8},
+        { 9,  0,  5,  7,  2,  4, 10, 15, 14,  1, 11, 12,  6,  8,  3, 13},
+        { 2, 12,  6, 10,  0, 11,  8,  3,  4, 13,  7,  5, 15, 14,  1,  9},
+        {12,  5,  1, 15, 14, 13,  4, 10,  0,  7,  6,  3,  9,  2,  8, 11},
+        {13, 11,  7, 14, 12,  1,  3,  9,  5,  0, 15,  4,  8,  6,  2, 10},
+        { 6, 15, 14,  9, 11,  3,  0,  8, 12,  2, 13,  7,  1,  4, 10,  5},
+        {10,  2,  8,  4,  7,  6,  1,  5, 15, 11,  9, 14,  3, 12, 13,  0}
+    };
+
+    private static final int ROUNDS = 12;
+
+    private final int sizeBytes;
+
+    /** Constructs a BLAKE2b hash function computing
+     * {@code sizeBytes}-byte hashes.
+     *
+     *@throws IllegalArgumentException if {@code sizeBytes} isn't
+     * between 1 and {@link Blake2b#MAX_HASH_SIZE_BYTES}.
+     */
+    public Blake2b(int sizeBytes) {
+        if (sizeBytes < 1 || sizeBytes > MAX_HASH_SIZE_BYTES) {
+            throw new IllegalArgumentException("Bad BLAKE2b hash size: "+sizeBytes);
+        }
+        this.sizeBytes = sizeBytes;
+    }
+
+    /** Gets the name of this hash function's algorithm,
+     * e.g. {@code BLAKE2b-256}.
+     *
+     *@return the algorithm name
+     */
+    public String getName() {
+        return "BLAKE2b-"+(sizeBytes*8);
+    }
+
+    /** Gets the size of the hashes computed by this function.
+     *
+     *@return the hash size in bytes
+     */
+    public int getSizeBytes() {
+        return sizeBytes;
+    }
+
+    /** Generates the BLAKE2b hash of {@code input}.
+     *
+     *@return The hash as a {@code byte[]}.
+     */
+    public byte[] digest(byte[] input) {
+        long[] h = IV.clone();
+        h[0] ^= 0x01010000L ^ sizeBytes;
+
+        long[] v = new long[16];
+        long[] m = new long[16];
+
+        // all blocks but the last one, which may be partial or empty
+        int off = 0;
+        while (input.length-off > BLOCK_SIZE_BYTES) {
+            off += BLOCK_SIZE_BYTES;
+            compress(h, v, m, input, off-BLOCK_SIZE_BYTES, off, false);
+        }
+
+        byte[] last = new byte[BLOCK_SIZE_BYTES];
+        System.arraycopy(input, off, last, 0, input.length-off);
+        compress(h, v, m, last, 0, input.length, true);
+
+        byte[] out = new byte[sizeBytes];
+        for (int i = 0; i < sizeBytes; i++) {
+            out[i] = (byte)(h[i >>> 3] >>> (8*(i & 7)));
+        }
+        return out;
+    }
+
+    // compresses the block at off into the state h; the counter is the
+    // number of input bytes hashed so far, including this block
+    private static void compress(long[] h, long[] v, long[] m, byte[] block,
+                                 int off, long counter, boolean isLast) {
+        for (int i = 0; i < 16; i++) {
+            m[i] = readLongLE(block, off+8*i);
+        }
+
+        System.arraycopy(h, 0, v, 0, 8);
+        System.arraycopy(IV, 0, v, 8, 8);
+        v[12] ^= counter;
+        if (isLast) {
+            v[14] = ~v[14];
+        }
+
+        for (int r = 0; r < ROUNDS; r++) {
+            byte[] s = SIGMA[r % 10];
+            mix(v, 0, 4,  8, 12, m[s[0]],  m[s[1]]);
+            mix(v, 1, 5,  9, 13, m[s[2]],  m[s[3]]);
+            mix(v, 2, 6, 10, 14, m[s[4]],  m[s[5]]);
+            mix(v, 3, 7, 11, 15, m[s[6]],  m[s[7]]);
+            mix(v, 0, 5, 10, 15, m[s[8]],  m[s[9]]);
+            mix(v, 1, 6, 11, 12, m[s[10]], m[s[11]]);
+            mix(v, 2, 7,  8, 13, m[s[12]], m[s[13]]);
+            mix(v, 3, 4,  9, 14, m[s[14]], m[s[15]]);
+        }
+
+        for (int i = 0; i < 8; i++) {
+            h[i] ^= v[i] ^ v[i+8];
+        }
+    }
+
+    // the G mixing function of RFC 7693, section 3.1
+    private static void mix(long[] v, int a, int b, int c, int d, long x, long y) {
+        v[a] = v[a]+v[b]+x;
+        v[d] = Long.rotateRight(v[d]^v[a], 32);
+        v[c] = v[c]+v[d];
+        v[b] = Long.rotateRight(v[b]^v[c], 24);
+        v[a] = v[a]+v[b]+y;
+        v[d] = Long.rotateRight(v[d]^v[a], 16);
+        v[c] = v[c]+v[d];
+        v[b] = Long.rotateRight(v[b]^v[c], 63);
+    }
+
+    private static long readLongLE(byte[] b, int off) {
+        return (b[off] & 0xffL) | (b[off+1] & 0xffL) << 8 |
+            (b[off+2] & 0xffL) << 16 | (b[off+3] & 0xffL) << 24 |
+            (b[off+4] & 0xffL) << 32 | (b[off+5] & 0xffL) << 40 |
+            (b[off+6] & 0xffL) << 48 | (b[off+7] & 0xffL) << 56;
+    }
+
+}
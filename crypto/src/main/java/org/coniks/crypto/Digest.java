@@ -39,7 +39,8 @@ import java.security.NoSuchAlgorithmException;
 
 /** Implements cryptographic hashing and hashed random number
  * generation for CONIKS.
- * Currently supported hash algorithms: SHA-256.
+ * Currently supported hash algorithms: SHA-256 (the default),
+ * SHA-512/256 and BLAKE2b-256.
  *
  *@author Marcela S. Melara (melara@cs.princeton.edu)
  *@author Michael Rochlin
@@ -54,10 +55,24 @@ public class Digest {
      */
     public static final int HASH_SIZE_BYTES = HASH_SIZE_BITS/8;
 
-    /** The supported hashing scheme.
+    /** The default hashing scheme.
      */
     public static final String HASH_ID = "SHA-256";
 
+    /** SHA-512 truncated to 256 bits, which is faster than
+     * SHA-256 on 64-bit cores.
+     */
+    public static final String SHA512_256_ID = "SHA-512/256";
+
+    /** BLAKE2b with a 256-bit output.
+     */
+    public static final String BLAKE2B_256_ID = "BLAKE2b-256";
+
+    /** The default hash function, computing SHA-256.
+     */
+    private static final HashFunction DEFAULT_HASH_FUNCTION =
+        new JcaHashFunction(HASH_ID);
+
     /** RNG used for {@link makeRand}.
      */
     private static Random random = new Random();
@@ -69,16 +84,40 @@ public class Digest {
      */
     public static byte[] digest(byte[] input)
         throws NoSuchAlgorithmException {
+        return DEFAULT_HASH_FUNCTION.digest(input);
+    }
 
-        byte [] digest = null;
-        try{
-            MessageDigest md = MessageDigest.getInstance(HASH_ID);
-            digest = md.digest(input);
+    /** Gets the default hash function, which computes SHA-256.
+     *
+     *@return the default {@link HashFunction}
+     */
+    public static HashFunction getDefaultHashFunction() {
+        return DEFAULT_HASH_FUNCTION;
+    }
+
+    /** Gets the hash function for the algorithm {@code name}.
+     * All supported hash functions compute
+     * {@link Digest#HASH_SIZE_BYTES}-byte hashes.
+     *
+     *@return the {@link HashFunction}
+     *@throws
+     *{@link java.security.NoSuchAlgorithmException NoSuchAlgorithmException}
+     * if the algorithm isn't supported.
+     */
+    public static HashFunction getHashFunction(String name)
+        throws NoSuchAlgorithmException {
+        if (HASH_ID.equals(name)) {
+            return DEFAULT_HASH_FUNCTION;
         }
-        // let's panic if an exception occurs
-        finally {
-            return digest;
+        else if (SHA512_256_ID.equals(name)) {
+            // not every Java runtime provides SHA-512/256
+            MessageDigest.getInstance(SHA512_256_ID);
+            return new JcaHashFunction(SHA512_256_ID);
+        }
+        else if (BLAKE2B_256_ID.equals(name)) {
+            return new Blake2b(HASH_SIZE_BYTES);
         }
+        throw new NoSuchAlgorithmException("Unsupported hash function "+name);
     }
 
     /** Generate a random byte array and hash it.
@@ -101,4 +140,42 @@ public class Digest {
             return digest(r);
         }
     }
+
+    /** A {@link HashFunction} backed by the Java runtime's
+     * {@link MessageDigest} implementation of an algorithm.
+     * Each thread reuses its own MessageDigest instance.
+     */
+    private static class JcaHashFunction implements HashFunction {
+
+        private final String name;
+        private final ThreadLocal<MessageDigest> md;
+
+        JcaHashFunction(final String name) {
+            this.name = name;
+            this.md = new ThreadLocal<MessageDigest>() {
+                    @Override
+                    protected MessageDigest initialValue() {
+                        try {
+                            return MessageDigest.getInstance(name);
+                        }
+                        catch (NoSuchAlgorithmException e) {
+                            // SHA-256 is always available, others are checked first
+                            throw new IllegalStateException(e);
+                        }
+                    }
+                };
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getSizeBytes() {
+            return HASH_SIZE_BYTES;
+        }
+
+        public byte[] digest(byte[] input) {
+            return md.get().digest(input);
+        }
+    }
 }
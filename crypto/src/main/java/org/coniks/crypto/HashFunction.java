@@ -0,0 +1,66 @@
+/*
+  Copyright (c) 2016, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.crypto;
+
+/** A cryptographic hash function used to build and verify
+ * the CONIKS Merkle prefix tree.
+ *<p>
+ * Implementations must be thread-safe. Use
+ * {@link Digest#getHashFunction(String)} to get the
+ * implementation of a supported algorithm by name.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public interface HashFunction {
+
+    /** Gets the name of this hash function's algorithm,
+     * e.g. {@code SHA-256}.
+     *
+     *@return the algorithm name
+     */
+    String getName();
+
+    /** Gets the size of the hashes computed by this function.
+     *
+     *@return the hash size in bytes
+     */
+    int getSizeBytes();
+
+    /** Generates the cryptographic hash of {@code input}.
+     *
+     *@return The hash as a {@code byte[]}.
+     */
+    byte[] digest(byte[] input);
+
+}
@@ -37,9 +37,11 @@ import java.security.*;
 import java.security.interfaces.*;
 import java.security.spec.*;
 import java.math.BigInteger;
+import java.util.Arrays;
 
 /** Implements all encryption-key related operations for CONIKS.
- * Currently supported algorithms: RSA with SHA-256 and DSA.
+ * Currently supported algorithms: RSA with SHA-256, DSA and Ed25519.
+ * Ed25519 requires a Java runtime with the EdDSA provider (Java 15 or later).
  *
  *@author Marcela S. Melara (melara@cs.princeton.edu)
  *@author Michael Rochlin
@@ -134,4 +136,90 @@ public class Keys {
         return (RSAPublicKey)kp.getPublic();
     }
 
+    /** The size of a raw Ed25519 public key in bytes.
+     */
+    public static final int ED25519_KEY_SIZE_BYTES = 32;
+
+    // the X.509 SubjectPublicKeyInfo encoding of an Ed25519 public key
+    // is this fixed header followed by the raw key (RFC 8410)
+    private static final byte[] ED25519_X509_PREFIX = new byte[]{
+        0x30, 0x2a, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x03, 0x21, 0x00};
+
+    /** Generates an Ed25519 key pair.
+     *
+     *@return the Ed25519 key pair.
+     *@throws java.security.NoSuchAlgorithmException if the Java runtime
+     * doesn't support Ed25519.
+     */
+    public static KeyPair generateEd25519KeyPair()
+        throws NoSuchAlgorithmException {
+        KeyPairGenerator gen = KeyPairGenerator.getInstance("Ed25519");
+
+        KeyPair pair = gen.generateKeyPair();
+
+        return pair;
+    }
+
+    /** Indicates whether the Java runtime supports Ed25519.
+     *
+     *@return {@code true} if Ed25519 keys can be generated and used,
+     * {@code false} otherwise.
+     */
+    public static boolean isEd25519Supported() {
+        try {
+            KeyFactory.getInstance("Ed25519");
+            return true;
+        }
+        catch (NoSuchAlgorithmException e) {
+            return false;
+        }
+    }
+
+    /** Indicates whether {@code pk} is an Ed25519 public key.
+     */
+    public static boolean isEd25519Key(PublicKey pk) {
+        return getEd25519Raw(pk) != null;
+    }
+
+    /** Gets the raw 32-byte encoding of the Ed25519 public key {@code pk}.
+     *
+     *@return the raw public key, or {@code null} if {@code pk} isn't
+     * an Ed25519 key.
+     */
+    public static byte[] getEd25519Raw(PublicKey pk) {
+        byte[] enc = pk.getEncoded();
+        int prefixLen = ED25519_X509_PREFIX.length;
+
+        if (enc == null || enc.length != prefixLen+ED25519_KEY_SIZE_BYTES ||
+            !Arrays.equals(Arrays.copyOf(enc, prefixLen), ED25519_X509_PREFIX)) {
+            return null;
+        }
+        return Arrays.copyOfRange(enc, prefixLen, enc.length);
+    }
+
+    /** Makes an Ed25519 public key from its raw 32-byte encoding {@code raw}.
+     *
+     *@return the Ed25519 public key, or {@code null} in case of an error.
+     */
+    public static PublicKey getEd25519PublicFromRaw(byte[] raw) {
+        if (raw == null || raw.length != ED25519_KEY_SIZE_BYTES) {
+            return null;
+        }
+
+        byte[] enc = Arrays.copyOf(ED25519_X509_PREFIX,
+                                   ED25519_X509_PREFIX.length+ED25519_KEY_SIZE_BYTES);
+        System.arraycopy(raw, 0, enc, ED25519_X509_PREFIX.length, raw.length);
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("Ed25519");
+            return keyFactory.generatePublic(new X509EncodedKeySpec(enc));
+        }
+        catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+        catch (InvalidKeySpecException e) {
+            return null;
+        }
+    }
+
 }
@@ -35,7 +35,10 @@ package org.coniks.crypto;
 
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
+import java.security.Key;
 import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
 import java.security.SecureRandom;
 import java.security.Signature;
 import java.security.interfaces.DSAPrivateKey;
@@ -44,7 +47,7 @@ import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 
 /** Implements all digital signature operations for CONIKS.
- * Currently supported algorithms: RSA with SHA-256 and DSA.
+ * Currently supported algorithms: RSA with SHA-256, DSA and Ed25519.
  *
  *@author Marcela S. Melara (melara@cs.princeton.edu)
  *@author Michael Rochlin
@@ -155,4 +158,126 @@ public class Signing {
         }
     }
 
+    /** Generate the Ed25519 digital signature of {@code msg} using {@code key}.
+     *
+     *@param msg The message to be signed.
+     *@param key The Ed25519 {@link java.security.PrivateKey} to use
+     * for signing.
+     *@return The {@code byte[]} containing the digital signature
+     * of the {@code msg}, or null in case of an error.
+     *@throws
+     *{@link java.security.NoSuchAlgorithmException NoSuchAlgorithmException}
+     */
+    public static byte[] ed25519Sign(PrivateKey key, byte[] msg)
+        throws NoSuchAlgorithmException {
+
+        byte[] sig = null;
+        try {
+            Signature signer = Signature.getInstance("Ed25519");
+            signer.initSign(key);
+            signer.update(msg);
+            sig = signer.sign();
+        }
+        // let's panic if an exception occurs
+        finally {
+            return sig;
+        }
+    }
+
+    /** Verify the Ed25519 signature {@code sig} of {@code msg} using {@code pk}.
+     *
+     *@return {@code true} if the signature on the message is valid,
+     * {@code false}
+     * otherwise.
+     *@throws
+     *{@link java.security.NoSuchAlgorithmException NoSuchAlgorithmException}
+     */
+    public static boolean ed25519Verify(PublicKey pk, byte[] msg, byte[] sig)
+        throws NoSuchAlgorithmException {
+
+        boolean res = false;
+        try {
+            Signature verifier = Signature.getInstance("Ed25519");
+            verifier.initVerify(pk);
+            verifier.update(msg);
+
+            res = verifier.verify(sig);
+        }
+        // let's panic if an exception occurs
+        finally {
+            return res;
+        }
+    }
+
+    /** Gets the name of the signature algorithm used with {@code key}.
+     *
+     *@return the {@link java.security.Signature} algorithm name,
+     * or {@code null} if the key type isn't supported.
+     */
+    public static String getAlgorithm(Key key) {
+        String alg = key.getAlgorithm();
+
+        if ("DSA".equals(alg)) {
+            return "DSA";
+        }
+        else if ("RSA".equals(alg)) {
+            return "SHA256withRSA";
+        }
+        else if ("EdDSA".equals(alg) || "Ed25519".equals(alg)) {
+            return "Ed25519";
+        }
+        return null;
+    }
+
+    /** Generate the digital signature of {@code msg} using {@code key}
+     * with the signature algorithm matching the key type.
+     *
+     *@return The {@code byte[]} containing the digital signature
+     * of the {@code msg}, or null in case of an error.
+     *@throws
+     *{@link java.security.NoSuchAlgorithmException NoSuchAlgorithmException}
+     */
+    public static byte[] sign(PrivateKey key, byte[] msg)
+        throws NoSuchAlgorithmException {
+
+        String alg = getAlgorithm(key);
+
+        if ("DSA".equals(alg)) {
+            return dsaSign((DSAPrivateKey)key, msg);
+        }
+        else if ("SHA256withRSA".equals(alg)) {
+            return rsaSign((RSAPrivateKey)key, msg);
+        }
+        else if ("Ed25519".equals(alg)) {
+            return ed25519Sign(key, msg);
+        }
+        throw new NoSuchAlgorithmException("Unsupported key type "+key.getAlgorithm());
+    }
+
+    /** Verify the digital signature {@code sig} of {@code msg} using {@code pk}
+     * with the signature algorithm matching the key type.
+     *
+     *@return {@code true} if the signature on the message is valid,
+     * {@code false}
+     * otherwise.
+     *@throws
+     *{@link java.security.NoSuchAlgorithmException NoSuchAlgorithmException}
+     */
+    public static boolean verify(PublicKey pk, byte[] msg, byte[] sig)
+        throws NoSuchAlgorithmException {
+
+        String alg = getAlgorithm(pk);
+
+        if ("DSA".equals(alg)) {
+            return dsaVerify((DSAPublicKey)pk, msg, sig);
+        }
+        else if ("SHA256withRSA".equals(alg)) {
+            return rsaVerify((RSAPublicKey)pk, msg, sig);
+        }
+        else if ("Ed25519".equals(alg)) {
+            return ed25519Verify(pk, msg, sig);
+        }
+        throw new NoSuchAlgorithmException("Unsupported key type "+pk.getAlgorithm());
+    }
+
 }
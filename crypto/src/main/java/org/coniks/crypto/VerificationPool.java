@@ -0,0 +1,180 @@
+/*
+  Copyright (c) 2016, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.crypto;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.DSAPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/** Verifies digital signatures for CONIKS on a fixed pool of
+ * verifier threads, one per available core.
+ * Each verifier thread keeps its own {@link java.security.Signature}
+ * instance per algorithm, so verifications don't have to look up
+ * and instantiate a new one every time.
+ * Currently supported algorithms: RSA with SHA-256, DSA and Ed25519.
+ *
+ *@author Marcela S. Melara (melara@cs.princeton.edu)
+ */
+public class VerificationPool {
+
+    /** The number of verifier threads in the pool.
+     */
+    public static final int POOL_SIZE =
+        Math.max(1, Runtime.getRuntime().availableProcessors());
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    private static final ExecutorService verifiers =
+        Executors.newFixedThreadPool(POOL_SIZE, new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "VerificationPool-"+
+                                          threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+
+    // each verifier thread's Signature instances, by algorithm
+    private static final ThreadLocal<HashMap<String, Signature>> signatures =
+        new ThreadLocal<HashMap<String, Signature>>() {
+            @Override
+            protected HashMap<String, Signature> initialValue() {
+                return new HashMap<String, Signature>();
+            }
+        };
+
+    /** Asynchronously verifies the DSA signature {@code sig} of
+     * {@code msg} using {@code pk}.
+     *
+     *@return A future completed with {@code true} if the signature on the
+     * message is valid, {@code false} otherwise.
+     */
+    public static CompletableFuture<Boolean> dsaVerifyAsync(DSAPublicKey pk,
+                                                            byte[] msg, byte[] sig) {
+        return verifyAsync("DSA", pk, msg, sig);
+    }
+
+    /** Asynchronously verifies the RSA signature {@code sig} of
+     * {@code msg} using {@code pk}.
+     *
+     *@return A future completed with {@code true} if the signature on the
+     * message is valid, {@code false} otherwise.
+     */
+    public static CompletableFuture<Boolean> rsaVerifyAsync(RSAPublicKey pk,
+                                                            byte[] msg, byte[] sig) {
+        return verifyAsync("SHA256withRSA", pk, msg, sig);
+    }
+
+    /** Asynchronously verifies the Ed25519 signature {@code sig} of
+     * {@code msg} using {@code pk}.
+     *
+     *@return A future completed with {@code true} if the signature on the
+     * message is valid, {@code false} otherwise.
+     */
+    public static CompletableFuture<Boolean> ed25519VerifyAsync(PublicKey pk,
+                                                                byte[] msg, byte[] sig) {
+        return verifyAsync("Ed25519", pk, msg, sig);
+    }
+
+    /** Asynchronously verifies the signature {@code sig} of {@code msg}
+     * using {@code pk} and the signature algorithm matching the key type.
+     *
+     *@return A future completed with {@code true} if the signature on the
+     * message is valid, {@code false} otherwise or in case of an error.
+     */
+    public static CompletableFuture<Boolean> verifyAsync(PublicKey pk,
+                                                         byte[] msg, byte[] sig) {
+        String algorithm = Signing.getAlgorithm(pk);
+
+        if (algorithm == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return verifyAsync(algorithm, pk, msg, sig);
+    }
+
+    /** Asynchronously verifies the signature {@code sig} of {@code msg}
+     * using {@code pk} and the signature algorithm {@code algorithm}.
+     *
+     *@return A future completed with {@code true} if the signature on the
+     * message is valid, {@code false} otherwise or in case of an error.
+     */
+    public static CompletableFuture<Boolean> verifyAsync(final String algorithm,
+                                                         final PublicKey pk,
+                                                         final byte[] msg,
+                                                         final byte[] sig) {
+        return CompletableFuture.supplyAsync(new Supplier<Boolean>() {
+                public Boolean get() {
+                    return verify(algorithm, pk, msg, sig);
+                }
+            }, verifiers);
+    }
+
+    // runs on a verifier thread
+    private static boolean verify(String algorithm, PublicKey pk,
+                                  byte[] msg, byte[] sig) {
+        HashMap<String, Signature> mySignatures = signatures.get();
+
+        try {
+            Signature verifier = mySignatures.get(algorithm);
+            if (verifier == null) {
+                verifier = Signature.getInstance(algorithm);
+                mySignatures.put(algorithm, verifier);
+            }
+
+            verifier.initVerify(pk);
+            verifier.update(msg);
+
+            return verifier.verify(sig);
+        }
+        catch (NoSuchAlgorithmException e) {
+            return false;
+        }
+        // malformed keys and signatures just fail to verify, but
+        // let's not reuse a Signature that may be in a bad state
+        catch (Exception e) {
+            mySignatures.remove(algorithm);
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+  Copyright (c) 2016, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.crypto;
+
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests for Blake2b, using the test vectors of RFC 7693
+ * and of the BLAKE2 reference implementation.
+ */
+public class Blake2bTest
+{
+
+    @Test
+    public void testBlake2b512Abc() {
+        byte[] hash = new Blake2b(64).digest("abc".getBytes());
+
+        assertArrayEquals("BLAKE2b-512(abc) doesn't match RFC 7693",
+                          fromHex("ba80a53f981c4d0d6a2797b69f12f6e94c212f14685ac4b74b12bb6fdbffa2d1"+
+                                  "7d87c5392aab792dc252d5de4533cc9518d38aa8dbf1925ab92386edd4009923"),
+                          hash);
+    }
+
+    @Test
+    public void testBlake2b256() {
+        Blake2b b = new Blake2b(32);
+
+        assertEquals("Wrong algorithm name", "BLAKE2b-256", b.getName());
+
+        assertArrayEquals("BLAKE2b-256 of empty input is wrong",
+                          fromHex("0e5751c026e543b2e8ab2eb06099daa1d1e5df47778f7787faab45cdf12fe3a8"),
+                          b.digest(new byte[0]));
+
+        assertArrayEquals("BLAKE2b-256(abc) is wrong",
+                          fromHex("bddd813c634239723171ef3fee98579b94964e3bb1cb3e427262c8c068d52319"),
+                          b.digest("abc".getBytes()));
+    }
+
+    @Test
+    public void testBlake2b256MultiBlock() {
+        Blake2b b = new Blake2b(32);
+
+        // one full block and a partial block
+        byte[] msg = new byte[200];
+        for (int i = 0; i < msg.length; i++) {
+            msg[i] = (byte)i;
+        }
+        assertArrayEquals("BLAKE2b-256 of a 200-byte input is wrong",
+                          fromHex("63c3d97a9f8894d5e043a707b0fee7f7ec4c049a23bbf1079df20b4165f9e22d"),
+                          b.digest(msg));
+
+        // exactly two full blocks
+        assertArrayEquals("BLAKE2b-256 of a 256-byte input is wrong",
+                          fromHex("2b69702a889248a4d6620475a105dccd5e0d4230aca8a492aaf6510e55d55b02"),
+                          b.digest(new byte[256]));
+    }
+
+    @Test
+    public void testBadHashSize() {
+        try {
+            new Blake2b(65);
+            fail("Expected IllegalArgumentException");
+        }
+        catch (IllegalArgumentException e) {
+        }
+    }
+
+    private static byte[] fromHex(String hex) {
+        byte[] b = new byte[hex.length()/2];
+        for (int i = 0; i < b.length; i++) {
+            b[i] = (byte)Integer.parseInt(hex.substring(2*i, 2*i+2), 16);
+        }
+        return b;
+    }
+}
@@ -34,9 +34,12 @@
 package org.coniks.crypto;
 
 import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.fail;
+import static org.junit.Assert.assertThat;
 
 import static org.hamcrest.core.StringContains.containsString;
 
@@ -82,4 +85,50 @@ public class DigestTest
             fail("Digest of random number failed - wrong length.");
         }
     }
+
+    @Test
+    public void testGetHashFunction()
+        throws NoSuchAlgorithmException {
+
+        byte[] msg = "message".getBytes();
+
+        HashFunction sha256 = Digest.getHashFunction(Digest.HASH_ID);
+        assertArrayEquals("SHA-256 hash function doesn't match digest",
+                          Digest.digest(msg), sha256.digest(msg));
+
+        for (String name : new String[]{Digest.HASH_ID, Digest.SHA512_256_ID,
+                                        Digest.BLAKE2B_256_ID}) {
+            HashFunction hf = Digest.getHashFunction(name);
+            assertEquals("Wrong hash function name", name, hf.getName());
+            assertEquals("Wrong hash size for "+name, Digest.HASH_SIZE_BYTES,
+                         hf.digest(msg).length);
+        }
+    }
+
+    @Test
+    public void testSHA512_256()
+        throws NoSuchAlgorithmException {
+
+        // FIPS 180-4 example for SHA-512/256("abc")
+        byte[] hash = Digest.getHashFunction(Digest.SHA512_256_ID).digest("abc".getBytes());
+
+        byte[] expected = new byte[]{
+            (byte)0x53, (byte)0x04, (byte)0x8e, (byte)0x26, (byte)0x81, (byte)0x94, (byte)0x1e, (byte)0xf9,
+            (byte)0x9b, (byte)0x2e, (byte)0x29, (byte)0xb7, (byte)0x6b, (byte)0x4c, (byte)0x7d, (byte)0xab,
+            (byte)0xe4, (byte)0xc2, (byte)0xd0, (byte)0xc6, (byte)0x34, (byte)0xfc, (byte)0x6d, (byte)0x46,
+            (byte)0xe0, (byte)0xe2, (byte)0xf1, (byte)0x31, (byte)0x07, (byte)0xe7, (byte)0xaf, (byte)0x23};
+
+        assertArrayEquals("SHA-512/256(abc) is wrong", expected, hash);
+    }
+
+    @Test
+    public void testGetHashFunctionFail() {
+        try {
+            Digest.getHashFunction("MD5");
+            fail("Expected NoSuchAlgorithmException");
+        }
+        catch (NoSuchAlgorithmException e) {
+            assertThat(e.getMessage(), containsString("Unsupported hash function"));
+        }
+    }
 }
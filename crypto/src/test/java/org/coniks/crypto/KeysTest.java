@@ -37,11 +37,15 @@ import org.junit.Test;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assume.assumeTrue;
 
 import static org.hamcrest.core.StringContains.containsString;
 
 import java.security.KeyPair;
 import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
 import java.security.interfaces.DSAPrivateKey;
 import java.security.interfaces.DSAPublicKey;
 import java.security.interfaces.RSAPrivateKey;
@@ -117,4 +121,32 @@ public class KeysTest
         }
     }
 
+    @Test
+    public void testEd25519RawEncoding()
+        throws NoSuchAlgorithmException {
+
+        assumeTrue(Keys.isEd25519Supported());
+
+        KeyPair pair = Keys.generateEd25519KeyPair();
+
+        byte[] raw = Keys.getEd25519Raw(pair.getPublic());
+
+        assertTrue("Wrong raw Ed25519 key size",
+                   raw.length == Keys.ED25519_KEY_SIZE_BYTES);
+
+        PublicKey pk = Keys.getEd25519PublicFromRaw(raw);
+
+        assertArrayEquals("Ed25519 key changed in raw encoding round trip",
+                          pair.getPublic().getEncoded(), pk.getEncoded());
+    }
+
+    @Test
+    public void testIsEd25519KeyFail()
+        throws NoSuchAlgorithmException {
+
+        KeyPair pair = Keys.generateDSAKeyPair();
+
+        assertFalse("DSA key recognized as Ed25519 key",
+                    Keys.isEd25519Key(pair.getPublic()));
+    }
 }
@@ -35,6 +35,8 @@ package org.coniks.crypto;
 
 import org.junit.Test;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assume.assumeTrue;
 
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
@@ -77,4 +79,26 @@ public class SigningTest
         assertTrue("Verification of DSA signature failed",
                    Signing.dsaVerify(Keys.getDSAPublic(pair), msg, sig));
     }
+
+    @Test
+    public void testEd25519SignVerify()
+        throws NoSuchAlgorithmException {
+
+        assumeTrue(Keys.isEd25519Supported());
+
+        KeyPair pair = Keys.generateEd25519KeyPair();
+
+        byte[] msg = "message".getBytes();
+
+        byte[] sig = Signing.ed25519Sign(pair.getPrivate(), msg);
+
+        assertTrue("Verification of Ed25519 signature failed",
+                   Signing.ed25519Verify(pair.getPublic(), msg, sig));
+
+        assertTrue("Generic verification of Ed25519 signature failed",
+                   Signing.verify(pair.getPublic(), msg, Signing.sign(pair.getPrivate(), msg)));
+
+        assertFalse("Verification of Ed25519 signature on wrong message succeeded",
+                    Signing.ed25519Verify(pair.getPublic(), "massage".getBytes(), sig));
+    }
 }
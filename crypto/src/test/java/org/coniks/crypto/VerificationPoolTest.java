@@ -0,0 +1,135 @@
+/*
+  Copyright (c) 2016, Princeton University.
+  All rights reserved.
+
+  Redistribution and use in source and binary forms, with or without
+  modification, are permitted provided that the following conditions are
+  met:
+  * Redistributions of source code must retain the above copyright
+  notice, this list of conditions and the following disclaimer.
+  * Redistributions in binary form must reproduce the above
+  copyright notice, this list of conditions and the following disclaimer
+  in the documentation and/or other materials provided with the
+  distribution.
+  * Neither the name of Princeton University nor the names of its
+  contributors may be used to endorse or promote products derived from
+  this software without specific prior written permission.
+
+  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND
+  CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+  INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+  MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR
+  CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+  SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING,
+  BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+  SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+  INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+  LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY
+  OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+  POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.coniks.crypto;
+
+import org.junit.Test;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assume.assumeTrue;
+
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Unit tests for VerificationPool.
+ */
+public class VerificationPoolTest
+{
+
+    @Test
+    public void testDsaVerifyAsync()
+        throws Exception {
+
+        KeyPair pair = Keys.generateDSAKeyPair();
+
+        byte[] msg = "message".getBytes();
+
+        byte[] sig = Signing.dsaSign(Keys.getDSAPrivate(pair), msg);
+
+        assertTrue("Verification of DSA signature failed",
+                   VerificationPool.dsaVerifyAsync(Keys.getDSAPublic(pair),
+                                                   msg, sig).get());
+
+        assertFalse("Verification of DSA signature on wrong message succeeded",
+                    VerificationPool.dsaVerifyAsync(Keys.getDSAPublic(pair),
+                                                    "massage".getBytes(), sig).get());
+
+        assertFalse("Verification of malformed DSA signature succeeded",
+                    VerificationPool.dsaVerifyAsync(Keys.getDSAPublic(pair),
+                                                    msg, new byte[8]).get());
+    }
+
+    @Test
+    public void testRsaVerifyAsync()
+        throws Exception {
+
+        KeyPair pair = Keys.generateRSAKeyPair();
+
+        byte[] msg = "message".getBytes();
+
+        byte[] sig = Signing.rsaSign(Keys.getRSAPrivate(pair), msg);
+
+        assertTrue("Verification of RSA signature failed",
+                   VerificationPool.rsaVerifyAsync(Keys.getRSAPublic(pair),
+                                                   msg, sig).get());
+    }
+
+    @Test
+    public void testConcurrentVerifications()
+        throws Exception {
+
+        KeyPair pair = Keys.generateDSAKeyPair();
+
+        ArrayList<CompletableFuture<Boolean>> results =
+            new ArrayList<CompletableFuture<Boolean>>();
+
+        for (int i = 0; i < 64; i++) {
+            byte[] msg = ("message"+i).getBytes();
+            byte[] sig = Signing.dsaSign(Keys.getDSAPrivate(pair), msg);
+
+            // every other signature is for the wrong message
+            if (i % 2 == 1) {
+                msg = ("message"+(i-1)).getBytes();
+            }
+            results.add(VerificationPool.dsaVerifyAsync(Keys.getDSAPublic(pair),
+                                                        msg, sig));
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            assertTrue("Wrong result for verification "+i,
+                       results.get(i).get() == (i % 2 == 0));
+        }
+    }
+
+    @Test
+    public void testEd25519VerifyAsync()
+        throws Exception {
+
+        assumeTrue(Keys.isEd25519Supported());
+
+        KeyPair pair = Keys.generateEd25519KeyPair();
+
+        byte[] msg = "message".getBytes();
+
+        byte[] sig = Signing.ed25519Sign(pair.getPrivate(), msg);
+
+        assertTrue("Verification of Ed25519 signature failed",
+                   VerificationPool.verifyAsync(pair.getPublic(), msg, sig).get());
+
+        assertFalse("Verification of Ed25519 signature on wrong message succeeded",
+                    VerificationPool.ed25519VerifyAsync(pair.getPublic(),
+                                                        "massage".getBytes(), sig).get());
+    }
+}
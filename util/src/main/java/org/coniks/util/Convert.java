@@ -95,6 +95,16 @@ public class Convert {
         return (maskedBit != 0);
     }
 
+    /** Gets the {@code n}-th 4-bit digit of a byte array {@code arr},
+     * where digit 0 is the high nibble of the first byte.
+     *
+     *@return the digit as an {@code int} between 0 and 15.
+     */
+    public static int getNthNibble(byte[] arr, int n){
+        int b = arr[n / 2] & 0xff;
+        return (n % 2 == 0) ? (b >>> 4) : (b & 0x0f);
+    }
+
     /** Gets the 16-bit prefix of a byte array {@code arr}.
      *
      *@return the first 16 bits of {@code arr} or all zeros if the length
@@ -98,6 +98,24 @@ public class ConvertTest {
 
     }
 
+    @Test
+    public void testNibbles() {
+
+        byte[] bytes = new byte[16];
+        new Random().nextBytes(bytes);
+
+        for (int i = 0; i < bytes.length*2; i++) {
+            int nibble = 0;
+            for (int j = 0; j < 4; j++) {
+                nibble = (nibble << 1) | (Convert.getNthBit(bytes, i*4+j) ? 1 : 0);
+            }
+            if (Convert.getNthNibble(bytes, i) != nibble) {
+                fail("Conversion of bytes to nibbles failed at nibble "+i);
+            }
+        }
+
+    }
+
     @Test
     public void testLongToBytes() {
 